@@ -17,6 +17,7 @@ val jetBrainsAnnotations: String by project
 val junitJupiter: String by project
 val junitPlatformLauncher: String by project
 val testcontainers: String by project
+val openjdkJmh: String by project
 
 val mavenUserName: String? = System.getenv("MAVEN_USERNAME")
 val mavenPassword: String? = System.getenv("MAVEN_PASSWORD")
@@ -26,6 +27,7 @@ plugins {
 	id("java")
 	id("maven-publish")
 	id("net.luis.lm") version "1.1.0"
+	id("me.champeau.jmh") version "0.7.3"
 }
 
 repositories {
@@ -75,7 +77,7 @@ licenseManager {
 	variable("author", "Luis Staudt")
 	variable("project", rootProject.name)
 	
-	sourceSets = listOf("main", "test")
+	sourceSets = listOf("main", "test", "jmh")
 	
 	include("**/*.java")
 	exclude("**/Main.java")
@@ -124,6 +126,12 @@ tasks.register<JavaExec>("runDatabase") {
 	)
 }
 
+jmh {
+	jmhVersion.set(openjdkJmh)
+	profilers.add("gc") // Reports the allocated bytes per operation (gc.alloc.rate.norm)
+	resultFormat.set("JSON")
+}
+
 tasks.named<Test>("test") {
 	useJUnitPlatform()
 	environment("env.default", "3")
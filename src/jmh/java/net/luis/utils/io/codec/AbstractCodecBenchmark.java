@@ -0,0 +1,94 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.codec;
+
+import net.luis.utils.io.codec.decoder.DecoderException;
+import net.luis.utils.io.codec.encoder.EncoderException;
+import org.jspecify.annotations.NonNull;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base class for the codec benchmarks which measures the encoding and decoding of a fixture for each {@link BenchmarkProvider}.<br>
+ * <p>
+ *     The benchmarks report the throughput in operations per second.<br>
+ *     The allocated bytes per operation are reported as {@code gc.alloc.rate.norm} by the gc profiler, which is enabled by the build.
+ * </p>
+ *
+ * @author Luis-St
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public abstract class AbstractCodecBenchmark {
+	
+	/**
+	 * The type provider to benchmark against.<br>
+	 */
+	@Param
+	public BenchmarkProvider provider;
+	
+	/**
+	 * The fixture of the current trial.<br>
+	 */
+	private CodecBenchmarkFixture<?, ?> fixture;
+	
+	/**
+	 * Creates the fixture for the current trial.<br>
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		this.fixture = this.createFixture(this.provider);
+	}
+	
+	/**
+	 * Creates the fixture which is benchmarked for the given provider.<br>
+	 * The parameters of the subclass are initialized when this method is called.<br>
+	 *
+	 * @param provider The type provider to create the fixture for
+	 * @return The created fixture
+	 */
+	protected abstract @NonNull CodecBenchmarkFixture<?, ?> createFixture(@NonNull BenchmarkProvider provider);
+	
+	/**
+	 * Benchmarks the encoding of the value of the fixture.<br>
+	 *
+	 * @return The encoded value, returned to prevent dead code elimination
+	 * @throws EncoderException If the value can not be encoded
+	 */
+	@Benchmark
+	public Object encode() throws EncoderException {
+		return this.fixture.encode();
+	}
+	
+	/**
+	 * Benchmarks the decoding of the encoded value of the fixture.<br>
+	 *
+	 * @return The decoded value, returned to prevent dead code elimination
+	 * @throws DecoderException If the value can not be decoded
+	 */
+	@Benchmark
+	public Object decode() throws DecoderException {
+		return this.fixture.decode();
+	}
+}
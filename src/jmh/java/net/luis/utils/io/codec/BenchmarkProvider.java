@@ -0,0 +1,80 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.codec;
+
+import net.luis.utils.io.codec.provider.*;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * The type providers the codec benchmarks are executed against.<br>
+ * <p>
+ *     The ini and xml providers are not included, since they are not able to represent every structure used by the benchmarks,
+ *     for example nested lists (ini) or unnamed values (xml).
+ * </p>
+ *
+ * @author Luis-St
+ */
+public enum BenchmarkProvider {
+	
+	/**
+	 * The {@link JsonTypeProvider}.<br>
+	 */
+	JSON(JsonTypeProvider.INSTANCE),
+	/**
+	 * The {@link JavaTypeProvider}.<br>
+	 */
+	JAVA(JavaTypeProvider.INSTANCE),
+	/**
+	 * The {@link BinaryTypeProvider}.<br>
+	 */
+	BINARY(BinaryTypeProvider.INSTANCE),
+	/**
+	 * The {@link TomlTypeProvider}.<br>
+	 */
+	TOML(TomlTypeProvider.INSTANCE),
+	/**
+	 * The {@link ToonTypeProvider}.<br>
+	 */
+	TOON(ToonTypeProvider.INSTANCE),
+	/**
+	 * The {@link YamlTypeProvider}.<br>
+	 */
+	YAML(YamlTypeProvider.INSTANCE);
+	
+	/**
+	 * The type provider of this constant.<br>
+	 */
+	private final TypeProvider<?> provider;
+	
+	/**
+	 * Constructs a new benchmark provider constant for the given type provider.<br>
+	 * @param provider The type provider
+	 */
+	BenchmarkProvider(@NonNull TypeProvider<?> provider) {
+		this.provider = provider;
+	}
+	
+	/**
+	 * Returns the type provider of this constant.<br>
+	 * @return The type provider
+	 */
+	public @NonNull TypeProvider<?> getProvider() {
+		return this.provider;
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.codec;
+
+import net.luis.utils.io.codec.decoder.DecoderException;
+import net.luis.utils.io.codec.encoder.EncoderException;
+import net.luis.utils.io.codec.provider.TypeProvider;
+import org.jspecify.annotations.NonNull;
+
+import java.util.Objects;
+
+/**
+ * A codec, a value and its encoded form for a specific type provider.<br>
+ * The fixture is created once per benchmark trial, so the measured operations only contain the encoding or decoding of the value.<br>
+ *
+ * @author Luis-St
+ *
+ * @param <R> The type the value is encoded to
+ * @param <C> The type of the value
+ */
+public final class CodecBenchmarkFixture<R, C> {
+	
+	/**
+	 * The type provider used to encode and decode the value.<br>
+	 */
+	private final TypeProvider<R> provider;
+	/**
+	 * The codec of the value.<br>
+	 */
+	private final Codec<C> codec;
+	/**
+	 * The value to encode.<br>
+	 */
+	private final C value;
+	/**
+	 * The encoded value to decode.<br>
+	 */
+	private final R encoded;
+	
+	/**
+	 * Constructs a new codec benchmark fixture.<br>
+	 *
+	 * @param provider The type provider
+	 * @param codec The codec of the value
+	 * @param value The value to encode
+	 * @param encoded The encoded value to decode
+	 */
+	private CodecBenchmarkFixture(@NonNull TypeProvider<R> provider, @NonNull Codec<C> codec, @NonNull C value, @NonNull R encoded) {
+		this.provider = provider;
+		this.codec = codec;
+		this.value = value;
+		this.encoded = encoded;
+	}
+	
+	/**
+	 * Creates a new fixture by encoding the given value once with the given codec.<br>
+	 * The encoded value is decoded once to ensure that the codec round trips on the type provider.<br>
+	 *
+	 * @param provider The type provider
+	 * @param codec The codec of the value
+	 * @param value The value
+	 * @return The created fixture
+	 * @param <R> The type the value is encoded to
+	 * @param <C> The type of the value
+	 * @throws NullPointerException If any parameter is null
+	 * @throws IllegalStateException If the value can not be encoded or decoded using the type provider
+	 */
+	public static <R, C> @NonNull CodecBenchmarkFixture<R, C> create(@NonNull TypeProvider<R> provider, @NonNull Codec<C> codec, @NonNull C value) {
+		Objects.requireNonNull(provider, "Type provider must not be null");
+		Objects.requireNonNull(codec, "Codec must not be null");
+		Objects.requireNonNull(value, "Value must not be null");
+		
+		try {
+			R encoded = codec.encode(provider, provider.empty(), value);
+			codec.decode(provider, provider.empty(), encoded);
+			return new CodecBenchmarkFixture<>(provider, codec, value, encoded);
+		} catch (EncoderException | DecoderException e) {
+			throw new IllegalStateException("Unable to create benchmark fixture for codec " + codec + " and provider " + provider.getClass().getSimpleName(), e);
+		}
+	}
+	
+	/**
+	 * Encodes the value of this fixture.<br>
+	 *
+	 * @return The encoded value
+	 * @throws EncoderException If the value can not be encoded
+	 */
+	public @NonNull R encode() throws EncoderException {
+		return this.codec.encode(this.provider, this.provider.empty(), this.value);
+	}
+	
+	/**
+	 * Decodes the encoded value of this fixture.<br>
+	 *
+	 * @return The decoded value
+	 * @throws DecoderException If the value can not be decoded
+	 */
+	public @NonNull C decode() throws DecoderException {
+		return this.codec.decode(this.provider, this.provider.empty(), this.encoded);
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.codec;
+
+import org.jspecify.annotations.NonNull;
+import org.openjdk.jmh.annotations.Param;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static net.luis.utils.io.codec.Codecs.*;
+
+/**
+ * Benchmarks the collection codecs for different collection sizes.<br>
+ * The parallel list codec uses the {@link ParallelCodec#DEFAULT_PARALLEL_THRESHOLD default threshold}, therefore only large lists are decoded in parallel.<br>
+ * The speedup of the parallel list codec for expensive elements is measured by the {@link ParallelListCodecBenchmark}.<br>
+ *
+ * @author Luis-St
+ */
+public class CollectionCodecBenchmark extends AbstractCodecBenchmark {
+	
+	/**
+	 * The collection type to benchmark.<br>
+	 */
+	@Param({ "list", "parallelList", "set", "map" })
+	public String type;
+	/**
+	 * The number of elements of the collection.<br>
+	 */
+	@Param({ "16", "4096" })
+	public int size;
+	
+	@Override
+	protected @NonNull CodecBenchmarkFixture<?, ?> createFixture(@NonNull BenchmarkProvider provider) {
+		List<Integer> values = IntStream.range(0, this.size).boxed().toList();
+		return switch (this.type) {
+			case "list" -> CodecBenchmarkFixture.create(provider.getProvider(), INTEGER.list(), values);
+			case "parallelList" -> CodecBenchmarkFixture.create(provider.getProvider(), INTEGER.list().parallel(), values);
+			case "set" -> CodecBenchmarkFixture.create(provider.getProvider(), INTEGER.set(), new HashSet<>(values));
+			case "map" -> CodecBenchmarkFixture.create(provider.getProvider(), map(INTEGER), values.stream().collect(Collectors.toMap(value -> "key" + value, value -> value)));
+			default -> throw new IllegalArgumentException("Unknown collection type: " + this.type);
+		};
+	}
+}
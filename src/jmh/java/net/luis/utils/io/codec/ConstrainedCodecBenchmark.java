@@ -0,0 +1,74 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.codec;
+
+import org.jspecify.annotations.NonNull;
+import org.openjdk.jmh.annotations.Param;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static net.luis.utils.io.codec.Codecs.*;
+
+/**
+ * Benchmarks the cost of constraints by comparing a record codec with and without constrained fields.<br>
+ *
+ * @author Luis-St
+ */
+public class ConstrainedCodecBenchmark extends AbstractCodecBenchmark {
+	
+	/**
+	 * The codec of the account record without constraints.<br>
+	 */
+	private static final Codec<Account> PLAIN_CODEC = CodecBuilder.of(
+		STRING.fieldOf("id", Account::id),
+		INTEGER.fieldOf("balance", Account::balance)
+	).create(Account::new);
+	/**
+	 * The codec of the account record with constrained fields.<br>
+	 */
+	private static final Codec<Account> CONSTRAINED_CODEC = CodecBuilder.of(
+		STRING.startsWith("account-").fieldOf("id", Account::id),
+		INTEGER.betweenOrEqual(0, 1_000_000).fieldOf("balance", Account::balance)
+	).create(Account::new);
+	/**
+	 * The accounts which are encoded and decoded.<br>
+	 */
+	private static final List<Account> ACCOUNTS = IntStream.range(0, 64).mapToObj(i -> new Account("account-" + i, i * 100)).toList();
+	
+	/**
+	 * Whether the constrained codec is benchmarked.<br>
+	 */
+	@Param({ "false", "true" })
+	public boolean constrained;
+	
+	@Override
+	protected @NonNull CodecBenchmarkFixture<?, ?> createFixture(@NonNull BenchmarkProvider provider) {
+		Codec<Account> codec = this.constrained ? CONSTRAINED_CODEC : PLAIN_CODEC;
+		return CodecBenchmarkFixture.create(provider.getProvider(), codec.list(), ACCOUNTS);
+	}
+	
+	/**
+	 * The record used by the benchmark.<br>
+	 *
+	 * @param id The id of the account
+	 * @param balance The balance of the account
+	 */
+	public record Account(@NonNull String id, int balance) {}
+}
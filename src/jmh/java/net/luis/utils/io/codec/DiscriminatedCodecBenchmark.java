@@ -0,0 +1,111 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.codec;
+
+import net.luis.utils.io.codec.types.struct.DiscriminatedCodecProvider;
+import org.jspecify.annotations.NonNull;
+import org.openjdk.jmh.annotations.Param;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static net.luis.utils.io.codec.Codecs.*;
+
+/**
+ * Benchmarks polymorphic codecs which select the codec of a value from multiple alternatives.<br>
+ * A list of alternating shapes is encoded and decoded, so each element requires the selection of its codec.<br>
+ *
+ * @author Luis-St
+ */
+public class DiscriminatedCodecBenchmark extends AbstractCodecBenchmark {
+	
+	/**
+	 * The codec of the circle shape.<br>
+	 */
+	private static final Codec<Circle> CIRCLE_CODEC = CodecBuilder.of(
+		STRING.fieldOf("type", Circle::type),
+		DOUBLE.fieldOf("radius", Circle::radius)
+	).create(Circle::new);
+	/**
+	 * The codec of the rectangle shape.<br>
+	 */
+	private static final Codec<Rectangle> RECTANGLE_CODEC = CodecBuilder.of(
+		STRING.fieldOf("type", Rectangle::type),
+		DOUBLE.fieldOf("width", Rectangle::width),
+		DOUBLE.fieldOf("height", Rectangle::height)
+	).create(Rectangle::new);
+	/**
+	 * The provider which resolves the codec of a shape by its type.<br>
+	 */
+	private static final DiscriminatedCodecProvider<Shape, String> SHAPE_PROVIDER = DiscriminatedCodecProvider.create(Shape.class, type -> switch (type) {
+		case "circle" -> CIRCLE_CODEC;
+		case "rectangle" -> RECTANGLE_CODEC;
+		default -> null;
+	});
+	/**
+	 * The shapes which are encoded and decoded.<br>
+	 */
+	private static final List<Shape> SHAPES = IntStream.range(0, 64).<Shape>mapToObj(i -> i % 2 == 0 ? new Circle("circle", i) : new Rectangle("rectangle", i, i * 2)).toList();
+	
+	/**
+	 * The polymorphic codec to benchmark.<br>
+	 */
+	@Param({ "flat", "flatCached", "any" })
+	public String type;
+	
+	@Override
+	protected @NonNull CodecBenchmarkFixture<?, ?> createFixture(@NonNull BenchmarkProvider provider) {
+		Codec<Shape> codec = switch (this.type) {
+			case "flat" -> flatDiscriminatedBy("type", STRING, Shape::type, SHAPE_PROVIDER);
+			case "flatCached" -> flatDiscriminatedBy("type", STRING, Shape::type, SHAPE_PROVIDER.cached());
+			case "any" -> any(CIRCLE_CODEC, RECTANGLE_CODEC);
+			default -> throw new IllegalArgumentException("Unknown polymorphic codec: " + this.type);
+		};
+		return CodecBenchmarkFixture.create(provider.getProvider(), codec.list(), SHAPES);
+	}
+	
+	/**
+	 * The base type of the shapes.<br>
+	 */
+	public sealed interface Shape permits Circle, Rectangle {
+		
+		/**
+		 * Returns the type of the shape which is used as discriminator.<br>
+		 * @return The type of the shape
+		 */
+		@NonNull String type();
+	}
+	
+	/**
+	 * A circle shape.<br>
+	 *
+	 * @param type The type of the shape
+	 * @param radius The radius of the circle
+	 */
+	public record Circle(@NonNull String type, double radius) implements Shape {}
+	
+	/**
+	 * A rectangle shape.<br>
+	 *
+	 * @param type The type of the shape
+	 * @param width The width of the rectangle
+	 * @param height The height of the rectangle
+	 */
+	public record Rectangle(@NonNull String type, double width, double height) implements Shape {}
+}
@@ -0,0 +1,137 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.luis.utils.io.codec;
+
+import org.jspecify.annotations.NonNull;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static net.luis.utils.io.codec.Codecs.*;
+
+/**
+ * Benchmarks the decoding of large lists with expensive elements by the parallel and the sequential list codec.<br>
+ * <p>
+ *     Each element is a record with multiple strings and a nested list,
+ *     so that decoding a single element outweighs the overhead of splitting the list into tasks.<br>
+ *     The lists are split into chunks of the {@link ParallelCodec#DEFAULT_PARALLEL_THRESHOLD default threshold}.
+ * </p>
+ * <p>
+ *     The decoding runs on a dedicated fork join pool with the given parallelism,
+ *     the tasks of the parallel list codec are forked into this pool instead of the common pool.<br>
+ *     The sequential list codec is decoded on the same pool, therefore both codecs are measured with the same overhead
+ *     and the sequential results are the baseline for the speedup of each parallelism.
+ * </p>
+ *
+ * @author Luis-St
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelListCodecBenchmark {
+	
+	/**
+	 * The codec of the list elements.<br>
+	 */
+	private static final Codec<Item> ITEM_CODEC = CodecBuilder.of(
+		STRING.fieldOf("id", Item::id),
+		STRING.fieldOf("description", Item::description),
+		INTEGER.fieldOf("priority", Item::priority),
+		STRING.list().fieldOf("tags", Item::tags)
+	).create(Item::new);
+	
+	/**
+	 * The type provider to benchmark against.<br>
+	 */
+	@Param({ "JSON", "JAVA" })
+	public BenchmarkProvider provider;
+	/**
+	 * The list codec to benchmark, either the sequential or the parallel list codec.<br>
+	 */
+	@Param({ "list", "parallelList" })
+	public String type;
+	/**
+	 * The parallelism of the fork join pool the decoding runs on.<br>
+	 */
+	@Param({ "1", "2", "4", "8" })
+	public int parallelism;
+	/**
+	 * The number of elements of the list.<br>
+	 */
+	@Param({ "16384", "65536" })
+	public int size;
+	
+	/**
+	 * The fixture of the current trial.<br>
+	 */
+	private CodecBenchmarkFixture<?, ?> fixture;
+	/**
+	 * The fork join pool of the current trial.<br>
+	 */
+	private ForkJoinPool pool;
+	
+	/**
+	 * Creates the fixture and the fork join pool for the current trial.<br>
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		List<Item> items = IntStream.range(0, this.size).mapToObj(i -> new Item(
+			"item-" + i, "Description of the item at index " + i, i % 10, List.of("tag-" + i % 7, "tag-" + i % 13, "group-" + i % 5)
+		)).toList();
+		this.fixture = switch (this.type) {
+			case "list" -> CodecBenchmarkFixture.create(this.provider.getProvider(), ITEM_CODEC.list(), items);
+			case "parallelList" -> CodecBenchmarkFixture.create(this.provider.getProvider(), ITEM_CODEC.list().parallel(), items);
+			default -> throw new IllegalArgumentException("Unknown list type: " + this.type);
+		};
+		this.pool = new ForkJoinPool(this.parallelism);
+	}
+	
+	/**
+	 * Shuts down the fork join pool of the current trial.<br>
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.pool.close();
+	}
+	
+	/**
+	 * Benchmarks the decoding of the encoded list on the fork join pool.<br>
+	 *
+	 * @return The decoded list, returned to prevent dead code elimination
+	 */
+	@Benchmark
+	public Object decode() {
+		return this.pool.submit(this.fixture::decode).join();
+	}
+	
+	/**
+	 * The record used as list element by the benchmark.<br>
+	 *
+	 * @param id The id of the item
+	 * @param description The description of the item
+	 * @param priority The priority of the item
+	 * @param tags The tags of the item
+	 */
+	public record Item(@NonNull String id, @NonNull String description, int priority, @NonNull List<String> tags) {}
+}
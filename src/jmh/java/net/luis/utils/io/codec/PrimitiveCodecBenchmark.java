@@ -0,0 +1,49 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.codec;
+
+import org.jspecify.annotations.NonNull;
+import org.openjdk.jmh.annotations.Param;
+
+import static net.luis.utils.io.codec.Codecs.*;
+
+/**
+ * Benchmarks the primitive codecs.<br>
+ *
+ * @author Luis-St
+ */
+public class PrimitiveCodecBenchmark extends AbstractCodecBenchmark {
+	
+	/**
+	 * The primitive type to benchmark.<br>
+	 */
+	@Param({ "boolean", "integer", "double", "string" })
+	public String type;
+	
+	@Override
+	protected @NonNull CodecBenchmarkFixture<?, ?> createFixture(@NonNull BenchmarkProvider provider) {
+		return switch (this.type) {
+			case "boolean" -> CodecBenchmarkFixture.create(provider.getProvider(), BOOLEAN, true);
+			case "integer" -> CodecBenchmarkFixture.create(provider.getProvider(), INTEGER, 123456);
+			case "double" -> CodecBenchmarkFixture.create(provider.getProvider(), DOUBLE, 1234.5678);
+			case "string" -> CodecBenchmarkFixture.create(provider.getProvider(), STRING, "The quick brown fox jumps over the lazy dog");
+			default -> throw new IllegalArgumentException("Unknown primitive type: " + this.type);
+		};
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.codec;
+
+import net.luis.utils.util.unsafe.reflection.ReflectionHelper;
+import org.jspecify.annotations.NonNull;
+import org.openjdk.jmh.annotations.Param;
+
+import java.lang.reflect.Constructor;
+import java.util.List;
+
+import static net.luis.utils.io.codec.Codecs.*;
+
+/**
+ * Benchmarks record codecs created by the {@link CodecBuilder} and by the {@link net.luis.utils.io.codec.mapping.CodecAutoMapping auto mapping}.<br>
+ * The reflective codec measures reflective constructor invocation as a baseline for the method handle based instantiation of the auto mapping.<br>
+ *
+ * @author Luis-St
+ */
+public class RecordCodecBenchmark extends AbstractCodecBenchmark {
+	
+	/**
+	 * The codec of the person record created by the codec builder.<br>
+	 */
+	private static final Codec<Person> BUILDER_CODEC = CodecBuilder.of(
+		STRING.fieldOf("name", Person::name),
+		INTEGER.fieldOf("age", Person::age),
+		DOUBLE.fieldOf("score", Person::score),
+		BOOLEAN.fieldOf("active", Person::active),
+		STRING.list().fieldOf("tags", Person::tags)
+	).create(Person::new);
+	/**
+	 * The canonical constructor of the person record.<br>
+	 */
+	private static final Constructor<Person> PERSON_CONSTRUCTOR = ReflectionHelper.getConstructor(
+		Person.class, String.class, int.class, double.class, boolean.class, List.class
+	).orElseThrow();
+	/**
+	 * The codec of the person record which creates instances through reflective constructor invocation.<br>
+	 * This is the way the auto mapping created instances before the constructor was resolved to a method handle.<br>
+	 */
+	private static final Codec<Person> REFLECTIVE_CODEC = CodecBuilder.of(
+		STRING.fieldOf("name", Person::name),
+		INTEGER.fieldOf("age", Person::age),
+		DOUBLE.fieldOf("score", Person::score),
+		BOOLEAN.fieldOf("active", Person::active),
+		STRING.list().fieldOf("tags", Person::tags)
+	).create((name, age, score, active, tags) -> ReflectionHelper.newInstance(PERSON_CONSTRUCTOR, name, age, score, active, tags).orElseThrow());
+	/**
+	 * The person which is encoded and decoded.<br>
+	 */
+	private static final Person PERSON = new Person("Jane Doe", 42, 97.5, true, List.of("admin", "developer", "reviewer"));
+	
+	/**
+	 * The way the record codec is created.<br>
+	 */
+	@Param({ "builder", "reflective", "auto" })
+	public String mapping;
+	
+	@Override
+	protected @NonNull CodecBenchmarkFixture<?, ?> createFixture(@NonNull BenchmarkProvider provider) {
+		return switch (this.mapping) {
+			case "builder" -> CodecBenchmarkFixture.create(provider.getProvider(), BUILDER_CODEC, PERSON);
+			case "reflective" -> CodecBenchmarkFixture.create(provider.getProvider(), REFLECTIVE_CODEC, PERSON);
+			case "auto" -> CodecBenchmarkFixture.create(provider.getProvider(), CodecBuilder.of(Person.class), PERSON);
+			default -> throw new IllegalArgumentException("Unknown mapping: " + this.mapping);
+		};
+	}
+	
+	/**
+	 * The record used by the benchmark.<br>
+	 *
+	 * @param name The name of the person
+	 * @param age The age of the person
+	 * @param score The score of the person
+	 * @param active Whether the person is active
+	 * @param tags The tags of the person
+	 */
+	public record Person(@NonNull String name, int age, double score, boolean active, @NonNull List<String> tags) {}
+}
@@ -0,0 +1,78 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.codec;
+
+import org.jspecify.annotations.NonNull;
+import org.openjdk.jmh.annotations.Param;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static net.luis.utils.io.codec.Codecs.*;
+
+/**
+ * Benchmarks the recursive codec using a complete binary tree of the given depth.<br>
+ *
+ * @author Luis-St
+ */
+public class RecursiveCodecBenchmark extends AbstractCodecBenchmark {
+	
+	/**
+	 * The recursive codec of the tree nodes.<br>
+	 */
+	private static final Codec<Node> NODE_CODEC = recursive(self -> CodecBuilder.of(
+		INTEGER.fieldOf("value", Node::value),
+		self.list().fieldOf("children", Node::children)
+	).create(Node::new));
+	
+	/**
+	 * The depth of the tree.<br>
+	 */
+	@Param({ "4", "8" })
+	public int depth;
+	
+	@Override
+	protected @NonNull CodecBenchmarkFixture<?, ?> createFixture(@NonNull BenchmarkProvider provider) {
+		return CodecBenchmarkFixture.create(provider.getProvider(), NODE_CODEC, createTree(this.depth, 0));
+	}
+	
+	/**
+	 * Creates a complete binary tree of the given depth.<br>
+	 *
+	 * @param depth The remaining depth of the tree
+	 * @param value The value of the root node
+	 * @return The root node of the tree
+	 */
+	private static @NonNull Node createTree(int depth, int value) {
+		List<Node> children = new ArrayList<>();
+		if (depth > 0) {
+			children.add(createTree(depth - 1, value * 2 + 1));
+			children.add(createTree(depth - 1, value * 2 + 2));
+		}
+		return new Node(value, children);
+	}
+	
+	/**
+	 * A node of the tree used by the benchmark.<br>
+	 *
+	 * @param value The value of the node
+	 * @param children The child nodes
+	 */
+	public record Node(int value, @NonNull List<Node> children) {}
+}
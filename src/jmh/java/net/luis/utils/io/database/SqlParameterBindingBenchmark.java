@@ -0,0 +1,171 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.database;
+
+import net.luis.utils.io.database.dialect.SqlDialect;
+import net.luis.utils.io.database.dialect.SqlDialects;
+import net.luis.utils.io.database.exception.SqlException;
+import net.luis.utils.io.database.type.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the binding of the parameters of a wide row insert to a prepared statement.<br>
+ * <p>
+ *     The statement is a no-op fake, so the benchmarks measure the overhead of resolving the binding of each parameter.<br>
+ *     The parameters are bound in three ways:
+ * </p>
+ * <ul>
+ *     <li>By resolving the binding override of each parameter through the type registry of the dialect on every call, as before value accessors were cached</li>
+ *     <li>Through {@link SqlType#setValue(SqlType, SqlDialect, PreparedStatement, int, Object)}, which looks up the cached accessor of the dialect per parameter</li>
+ *     <li>Through value accessors resolved per column in advance</li>
+ * </ul>
+ *
+ * @author Luis-St
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SqlParameterBindingBenchmark {
+	
+	/**
+	 * The column types of the row, repeated to fill the number of columns.<br>
+	 */
+	private static final SqlType<?>[] COLUMN_TYPES = { SqlTypes.INTEGER, SqlTypes.LONG, SqlTypes.TEXT, SqlTypes.LOCAL_DATE, SqlTypes.UUID, SqlTypes.BOOLEAN, SqlTypes.DOUBLE };
+	/**
+	 * The column values of the row, matching the column types by index.<br>
+	 */
+	private static final Object[] COLUMN_VALUES = { 42, 42L, "The quick brown fox", LocalDate.of(2026, 1, 1), UUID.fromString("123e4567-e89b-12d3-a456-426614174000"), true, 42.5 };
+	
+	/**
+	 * The number of columns of the inserted row.<br>
+	 */
+	@Param({ "8", "32" })
+	public int columns;
+	/**
+	 * The name of the dialect to bind the parameters with.<br>
+	 */
+	@Param({ "postgresql", "mysql" })
+	public String dialectName;
+	
+	/**
+	 * The dialect of the current trial.<br>
+	 */
+	private SqlDialect dialect;
+	/**
+	 * The no-op prepared statement to bind the parameters to.<br>
+	 */
+	private PreparedStatement statement;
+	/**
+	 * The sql types of the parameters.<br>
+	 */
+	private SqlType<?>[] types;
+	/**
+	 * The values of the parameters.<br>
+	 */
+	private Object[] values;
+	/**
+	 * The value accessors of the parameters, resolved once per column.<br>
+	 */
+	private SqlValueAccessor<?>[] accessors;
+	
+	/**
+	 * Creates the row and the statement of the current trial.<br>
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		this.dialect = switch (this.dialectName) {
+			case "postgresql" -> SqlDialects.POSTGRESQL;
+			case "mysql" -> SqlDialects.MYSQL;
+			default -> throw new IllegalArgumentException("Unknown dialect: " + this.dialectName);
+		};
+		this.statement = (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(), new Class<?>[] { PreparedStatement.class }, (proxy, method, args) -> null);
+		
+		this.types = new SqlType<?>[this.columns];
+		this.values = new Object[this.columns];
+		this.accessors = new SqlValueAccessor<?>[this.columns];
+		for (int i = 0; i < this.columns; i++) {
+			this.types[i] = COLUMN_TYPES[i % COLUMN_TYPES.length];
+			this.values[i] = COLUMN_VALUES[i % COLUMN_VALUES.length];
+			this.accessors[i] = this.dialect.valueAccessor(this.types[i]);
+		}
+	}
+	
+	/**
+	 * Benchmarks binding the row by resolving the binding override of each parameter through the type registry of the dialect.<br>
+	 * <p>
+	 *     This is the binding path before value accessors were cached, the override is looked up and wrapped in an optional on every call.<br>
+	 *     Parameters without an override are bound by their type through the accessor resolved in advance, which delegates to the type directly.
+	 * </p>
+	 *
+	 * @return The statement, returned to prevent dead code elimination
+	 * @throws SqlException If a parameter can not be bound
+	 * @throws SQLException If a parameter can not be bound by its binding override
+	 */
+	@Benchmark
+	public Object bindThroughRegistry() throws SqlException, SQLException {
+		for (int i = 0; i < this.types.length; i++) {
+			Optional<SqlValueBinder> override = this.dialect.bindingOverride(this.types[i]);
+			if (override.isPresent()) {
+				override.get().bind(this.statement, i + 1, this.values[i]);
+			} else {
+				this.accessors[i].bind(this.statement, i + 1, this.values[i]);
+			}
+		}
+		return this.statement;
+	}
+	
+	/**
+	 * Benchmarks binding the row by looking up the cached accessor of each parameter through the dialect.<br>
+	 *
+	 * @return The statement, returned to prevent dead code elimination
+	 * @throws SqlException If a parameter can not be bound
+	 */
+	@Benchmark
+	public Object bindThroughDialect() throws SqlException {
+		for (int i = 0; i < this.types.length; i++) {
+			SqlType.setValue(this.types[i], this.dialect, this.statement, i + 1, this.values[i]);
+		}
+		return this.statement;
+	}
+	
+	/**
+	 * Benchmarks binding the row through the value accessors resolved per column in advance.<br>
+	 *
+	 * @return The statement, returned to prevent dead code elimination
+	 * @throws SqlException If a parameter can not be bound
+	 */
+	@Benchmark
+	public Object bindThroughAccessors() throws SqlException {
+		for (int i = 0; i < this.accessors.length; i++) {
+			this.accessors[i].bind(this.statement, i + 1, this.values[i]);
+		}
+		return this.statement;
+	}
+}
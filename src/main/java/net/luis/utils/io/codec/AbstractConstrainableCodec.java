@@ -21,6 +21,7 @@ package net.luis.utils.io.codec;
 import net.luis.utils.io.codec.constraint.config.ConstraintConfig;
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintViolateException;
 import net.luis.utils.io.codec.constraint.core.ApplicableConstraint;
+import net.luis.utils.io.codec.constraint.core.Constraint;
 import net.luis.utils.io.codec.decoder.DecoderException;
 import net.luis.utils.io.codec.encoder.EncoderException;
 import org.jspecify.annotations.NonNull;
@@ -57,6 +58,11 @@ public abstract non-sealed class AbstractConstrainableCodec<C, T extends Constra
 	 * The constraint configuration for this codec.<br>
 	 */
 	protected final T config;
+	/**
+	 * The compiled constraint of the constraint configuration.<br>
+	 * Compiled once per codec instance and only contains the configured checks.<br>
+	 */
+	private final Constraint<C> constraint;
 	
 	/**
 	 * Constructs a new abstract constrainable codec with the given constructor function and constraint configuration.<br>
@@ -68,6 +74,7 @@ public abstract non-sealed class AbstractConstrainableCodec<C, T extends Constra
 	protected AbstractConstrainableCodec(@NonNull Function<T, V> constructorFunction, @NonNull T config) {
 		this.constructorFunction = Objects.requireNonNull(constructorFunction, "Constructor function must not be null");
 		this.config = Objects.requireNonNull(config, "Constraint configuration must not be null");
+		this.constraint = config.compile();
 	}
 	
 	@Override
@@ -96,9 +103,7 @@ public abstract non-sealed class AbstractConstrainableCodec<C, T extends Constra
 	private @NonNull C validateConstraints(@NonNull C value) {
 		Objects.requireNonNull(value, "Value must not be null");
 		
-		if (!this.config.isUnconstrained()) {
-			this.config.validate(value);
-		}
+		this.constraint.validate(value);
 		return value;
 	}
 	
@@ -18,15 +18,19 @@
 
 package net.luis.utils.io.codec;
 
+import net.luis.utils.io.codec.decoder.DecodeCursor;
 import net.luis.utils.io.codec.decoder.Decoder;
 import net.luis.utils.io.codec.decoder.DecoderException;
+import net.luis.utils.io.codec.encoder.EncodeWriter;
 import net.luis.utils.io.codec.encoder.Encoder;
 import net.luis.utils.io.codec.encoder.EncoderException;
 import net.luis.utils.io.codec.provider.TypeProvider;
+import net.luis.utils.io.codec.provider.ValueKind;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Supplier;
 
 /**
@@ -88,16 +92,31 @@ record AnonymousCodec<C>(
 		return this.encoder.encode(provider, current, value);
 	}
 	
+	@Override
+	public <R> void encodeTo(@NonNull EncodeWriter<R> writer, @Nullable C value) throws EncoderException {
+		this.encoder.encodeTo(writer, value);
+	}
+	
 	@Override
 	public @NonNull String encodeKey(@NonNull C key) throws EncoderException {
 		return this.encoder.encodeKey(key);
 	}
 	
+	@Override
+	public @NonNull Set<ValueKind> getDecodableKinds() {
+		return this.decoder.getDecodableKinds();
+	}
+	
 	@Override
 	public <R> @NonNull C decode(@NonNull TypeProvider<R> provider, @NonNull R current, @Nullable R value) throws DecoderException {
 		return this.decoder.decode(provider, current, value);
 	}
 	
+	@Override
+	public <R> @NonNull C decodeFrom(@NonNull DecodeCursor<R> cursor) throws DecoderException {
+		return this.decoder.decodeFrom(cursor);
+	}
+	
 	@Override
 	public @NonNull C decodeKey(@NonNull String key) throws DecoderException {
 		return this.decoder.decodeKey(key);
@@ -19,11 +19,14 @@
 package net.luis.utils.io.codec;
 
 import net.luis.utils.function.throwable.ThrowableFunction;
+import net.luis.utils.io.codec.decoder.DecodeCursor;
 import net.luis.utils.io.codec.decoder.Decoder;
 import net.luis.utils.io.codec.decoder.DecoderException;
+import net.luis.utils.io.codec.encoder.EncodeWriter;
 import net.luis.utils.io.codec.encoder.Encoder;
 import net.luis.utils.io.codec.encoder.EncoderException;
 import net.luis.utils.io.codec.provider.TypeProvider;
+import net.luis.utils.io.codec.provider.ValueKind;
 import net.luis.utils.io.codec.types.struct.*;
 import net.luis.utils.io.codec.types.struct.collection.*;
 import net.luis.utils.util.Either;
@@ -246,6 +249,11 @@ public sealed interface Codec<C> extends Encoder<C>, Decoder<C> permits Abstract
 				return Codec.this.encode(provider, current, value);
 			}
 			
+			@Override
+			public <R> void encodeTo(@NonNull EncodeWriter<R> writer, @Nullable C value) throws EncoderException {
+				Codec.this.encodeTo(writer, value);
+			}
+			
 			@Override
 			public @NonNull String encodeKey(@NonNull C key) throws EncoderException {
 				Objects.requireNonNull(key, "Key to encode must not be null");
@@ -258,6 +266,16 @@ public sealed interface Codec<C> extends Encoder<C>, Decoder<C> permits Abstract
 				return Codec.this.decode(provider, current, value);
 			}
 			
+			@Override
+			public <R> @NonNull C decodeFrom(@NonNull DecodeCursor<R> cursor) throws DecoderException {
+				return Codec.this.decodeFrom(cursor);
+			}
+			
+			@Override
+			public @NonNull Set<ValueKind> getDecodableKinds() {
+				return Codec.this.getDecodableKinds();
+			}
+			
 			@Override
 			public @NonNull C decodeKey(@NonNull String key) throws DecoderException {
 				Objects.requireNonNull(key, "Key to decode must not be null");
@@ -19,9 +19,13 @@
 package net.luis.utils.io.codec;
 
 import net.luis.utils.function.throwable.ThrowableFunction;
+import net.luis.utils.io.codec.decoder.DecodeCursor;
 import net.luis.utils.io.codec.decoder.DecoderException;
+import net.luis.utils.io.codec.encoder.EncodeWriter;
 import net.luis.utils.io.codec.encoder.EncoderException;
 import net.luis.utils.io.codec.provider.TypeProvider;
+import net.luis.utils.io.codec.provider.ValueKind;
+import net.luis.utils.io.codec.types.struct.NestedDiscriminatedCodec;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
@@ -52,6 +56,21 @@ public final class CodecGroup<O> implements Codec<O> {
 	 * This function takes a list of decoded components and returns the final object.<br>
 	 */
 	private final ThrowableFunction<List<Object>, O, DecoderException> factory;
+	/**
+	 * The lookup of the component indices by name used when decoding from a cursor.<br>
+	 * Components with aliases are not included, since they are decoded from the enclosing map.<br>
+	 */
+	private final Map<String, Integer> cursorSlots;
+	/**
+	 * The names of the components in the order of the codecs.<br>
+	 * Used to decode maps whose entries are in the expected order without looking up each component by name.<br>
+	 */
+	private final String[] names;
+	/**
+	 * Whether the components can be decoded directly from a cursor and encoded directly to a writer.<br>
+	 * This is not possible if a component requires the enclosing map, like the {@link NestedDiscriminatedCodec}.<br>
+	 */
+	private final boolean streamable;
 	
 	/**
 	 * Constructs a new codec group using the given list of codecs and factory function.<br>
@@ -68,6 +87,16 @@ public final class CodecGroup<O> implements Codec<O> {
 		for (int i = 0; i < this.codecs.size(); i++) {
 			Objects.requireNonNull(this.codecs.get(i), "Codec of component " + i + " must not be null");
 		}
+		
+		Map<String, Integer> cursorSlots = new HashMap<>();
+		for (int i = 0; i < this.codecs.size(); i++) {
+			if (this.codecs.get(i).getAliases().isEmpty()) {
+				cursorSlots.putIfAbsent(this.codecs.get(i).getName(), i);
+			}
+		}
+		this.cursorSlots = Map.copyOf(cursorSlots);
+		this.names = this.codecs.stream().map(FieldCodec::getName).toArray(String[]::new);
+		this.streamable = this.codecs.stream().noneMatch(codec -> codec.getCodec() instanceof NestedDiscriminatedCodec<?, ?>);
 	}
 	
 	@Override
@@ -83,12 +112,51 @@ public final class CodecGroup<O> implements Codec<O> {
 			try {
 				codec.encode(provider, map, value);
 			} catch (EncoderException e) {
-				throw new EncoderException("Unable to encode component of '" + value + "': " + e.getMessage(), this, e);
+				throw new EncoderException(() -> "Unable to encode component of '" + value + "': " + e.getMessage(), this, e);
 			}
 		}
 		return map;
 	}
 	
+	/**
+	 * Encodes the object directly to the given writer without building the intermediate map.<br>
+	 * <p>
+	 *     If a component requires the enclosing map, the object is encoded using the tree based encoding.
+	 * </p>
+	 *
+	 * @param writer The writer to encode to
+	 * @param value The object to encode
+	 * @param <R> The type to encode to
+	 * @throws NullPointerException If the writer is null
+	 * @throws EncoderException If an error occurs during encoding
+	 */
+	@Override
+	public <R> void encodeTo(@NonNull EncodeWriter<R> writer, @Nullable O value) throws EncoderException {
+		Objects.requireNonNull(writer, "Encode writer must not be null");
+		if (!this.streamable) {
+			Codec.super.encodeTo(writer, value);
+			return;
+		}
+		if (value == null) {
+			throw new EncoderException("Unable to encode null value", this);
+		}
+		
+		writer.beginMap();
+		for (FieldCodec<?, O> codec : this.codecs) {
+			try {
+				codec.encodeTo(writer, value);
+			} catch (EncoderException e) {
+				throw new EncoderException(() -> "Unable to encode component of '" + value + "': " + e.getMessage(), this, e);
+			}
+		}
+		writer.endMap();
+	}
+	
+	@Override
+	public @NonNull Set<ValueKind> getDecodableKinds() {
+		return EnumSet.of(ValueKind.MAP);
+	}
+	
 	@Override
 	public <R> @NonNull O decode(@NonNull TypeProvider<R> provider, @NonNull R current, @Nullable R value) throws DecoderException {
 		Objects.requireNonNull(provider, "Type provider must not be null");
@@ -97,18 +165,139 @@ public final class CodecGroup<O> implements Codec<O> {
 			throw new DecoderException("Unable to decode null value", this);
 		}
 		
-		provider.getMap(value, DecoderException::new); // Validate that value is a map
+		Map<String, R> map = provider.getMapView(value, DecoderException::new);
+		Object[] components = new Object[this.names.length];
+		try {
+			int index = this.decodeOrdered(provider, value, map, components);
+			for (; index < components.length; index++) {
+				components[index] = this.codecs.get(index).decode(provider, value, value);
+			}
+		} catch (DecoderException e) {
+			throw new DecoderException(() -> "Unable to decode component of '" + value + "': " + e.getMessage(), this, e);
+		}
+		return this.factory.apply(Arrays.asList(components));
+	}
+	
+	/**
+	 * Decodes the leading components whose names match the entries of the given map in order.<br>
+	 * <p>
+	 *     Machine-written maps usually contain the components in the order of the codecs,
+	 *     in this case each component is decoded from the value of its entry without looking it up by name.<br>
+	 *     The decoding stops at the first entry which does not match the name of the next component,
+	 *     the remaining components must be decoded by name.
+	 * </p>
+	 *
+	 * @param provider The type provider
+	 * @param value The value to decode from
+	 * @param map The read-only map view of the value
+	 * @param components The array to store the decoded components in
+	 * @return The number of decoded components
+	 * @param <R> The type to decode from
+	 * @throws DecoderException If an error occurs during decoding
+	 */
+	private <R> int decodeOrdered(@NonNull TypeProvider<R> provider, @NonNull R value, @NonNull Map<String, R> map, @Nullable Object @NonNull [] components) throws DecoderException {
+		int index = 0;
+		for (Map.Entry<String, R> entry : map.entrySet()) {
+			if (index == this.names.length || !this.names[index].equals(entry.getKey())) {
+				break;
+			}
+			components[index] = this.codecs.get(index).decodeValue(provider, value, entry.getValue());
+			index++;
+		}
+		return index;
+	}
+	
+	/**
+	 * Decodes the object directly from the given cursor without building the intermediate map for all components.<br>
+	 * <p>
+	 *     The entries whose names match a component without aliases are decoded directly from the cursor,
+	 *     all other entries are read as values and collected in the enclosing map.<br>
+	 *     Components which have aliases or are not present are decoded from the enclosing map like in the tree based decoding,
+	 *     for this the components already decoded from the cursor are encoded into the map again.<br>
+	 *     This ensures that the result matches the tree based decoding, even for default values which depend on other entries.
+	 * </p>
+	 * <p>
+	 *     If a component requires the enclosing map or the next value is not a map, the value is decoded using the tree based decoding.
+	 * </p>
+	 *
+	 * @param cursor The cursor to decode from
+	 * @return The decoded object
+	 * @param <R> The type to decode from
+	 * @throws NullPointerException If the cursor is null
+	 * @throws DecoderException If an error occurs during decoding
+	 */
+	@Override
+	public <R> @NonNull O decodeFrom(@NonNull DecodeCursor<R> cursor) throws DecoderException {
+		Objects.requireNonNull(cursor, "Decode cursor must not be null");
+		if (!this.streamable || cursor.peek() != ValueKind.MAP) {
+			return Codec.super.decodeFrom(cursor);
+		}
 		
-		List<Object> components = new ArrayList<>(this.codecs.size());
-		for (FieldCodec<?, O> codec : this.codecs) {
+		TypeProvider<R> provider = cursor.getProvider();
+		R map = provider.createMap(DecoderException::new);
+		Object[] components = new Object[this.codecs.size()];
+		boolean[] decoded = new boolean[this.codecs.size()];
+		
+		cursor.beginMap();
+		while (cursor.hasNext()) {
+			String key = cursor.nextKey();
+			Integer index = this.cursorSlots.get(key);
+			if (index == null || decoded[index]) {
+				provider.set(map, key, cursor.readValue(), DecoderException::new);
+				continue;
+			}
+			
+			try {
+				components[index] = this.codecs.get(index).decodeFrom(cursor);
+				decoded[index] = true;
+			} catch (DecoderException e) {
+				throw new DecoderException(() -> "Unable to decode component: " + e.getMessage(), this, e);
+			}
+		}
+		cursor.endMap();
+		
+		boolean completed = false;
+		for (int i = 0; i < components.length; i++) {
+			if (decoded[i]) {
+				continue;
+			}
+			if (!completed) {
+				this.encodeDecoded(provider, map, components, decoded);
+				completed = true;
+			}
+			
 			try {
-				Object decoded = codec.decode(provider, value, value);
-				components.add(decoded);
+				components[i] = this.codecs.get(i).decode(provider, map, map);
 			} catch (DecoderException e) {
-				throw new DecoderException("Unable to decode component of '" + value + "': " + e.getMessage(), this, e);
+				throw new DecoderException(() -> "Unable to decode component of '" + map + "': " + e.getMessage(), this, e);
+			}
+		}
+		return this.factory.apply(Arrays.asList(components));
+	}
+	
+	/**
+	 * Encodes the components which were decoded from the cursor into the given map.<br>
+	 * This completes the enclosing map, so that the remaining components can be decoded from it.<br>
+	 *
+	 * @param provider The type provider
+	 * @param map The map of the entries which were not decoded from the cursor
+	 * @param components The decoded components
+	 * @param decoded Whether the component at the same index was decoded from the cursor
+	 * @param <R> The type to decode from
+	 * @throws DecoderException If a decoded component can not be encoded again
+	 */
+	private <R> void encodeDecoded(@NonNull TypeProvider<R> provider, @NonNull R map, @Nullable Object @NonNull [] components, boolean @NonNull [] decoded) throws DecoderException {
+		for (int i = 0; i < components.length; i++) {
+			if (!decoded[i]) {
+				continue;
+			}
+			
+			try {
+				this.codecs.get(i).encodeDecoded(provider, map, components[i]);
+			} catch (EncoderException e) {
+				throw new DecoderException("Unable to complete enclosing map with component '" + components[i] + "': " + e.getMessage(), this, e);
 			}
 		}
-		return this.factory.apply(components);
 	}
 	
 	//region Object overrides
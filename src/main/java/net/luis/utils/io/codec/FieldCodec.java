@@ -18,7 +18,9 @@
 
 package net.luis.utils.io.codec;
 
+import net.luis.utils.io.codec.decoder.DecodeCursor;
 import net.luis.utils.io.codec.decoder.DecoderException;
+import net.luis.utils.io.codec.encoder.EncodeWriter;
 import net.luis.utils.io.codec.encoder.EncoderException;
 import net.luis.utils.io.codec.provider.TypeProvider;
 import org.jspecify.annotations.NonNull;
@@ -133,7 +135,72 @@ public class FieldCodec<C, O> {
 			provider.set(map, this.name, encodedValue, EncoderException::new);
 			return map;
 		} catch (EncoderException e) {
-			throw new EncoderException("Unable to encode named '" + this.name + "' '" + value, this.codec, e);
+			throw new EncoderException(() -> "Unable to encode named '" + this.name + "' '" + value, this.codec, e);
+		}
+	}
+	
+	/**
+	 * Encodes the given already decoded value into the given map using the name of this codec.<br>
+	 * Used to restore the enclosing map of a value which was decoded from a cursor.<br>
+	 *
+	 * @param provider The type provider
+	 * @param map The map to encode the value into
+	 * @param value The decoded value
+	 * @param <R> The type to encode into
+	 * @throws NullPointerException If the provider or map is null
+	 * @throws EncoderException If an error occurs during encoding
+	 */
+	@SuppressWarnings("unchecked")
+	<R> void encodeDecoded(@NonNull TypeProvider<R> provider, @NonNull R map, @Nullable Object value) throws EncoderException {
+		this.encodeInternal(provider, map, (C) value);
+	}
+	
+	/**
+	 * Returns the codec used to encode and decode the value.<br>
+	 * @return The codec
+	 */
+	@NonNull Codec<C> getCodec() {
+		return this.codec;
+	}
+	
+	/**
+	 * Returns the name of the value.<br>
+	 * @return The name
+	 */
+	@NonNull String getName() {
+		return this.name;
+	}
+	
+	/**
+	 * Returns the aliases of the value.<br>
+	 * @return The aliases
+	 */
+	@NonNull Set<String> getAliases() {
+		return this.aliases;
+	}
+	
+	/**
+	 * Encodes the component of the given object as entry of the current map of the given writer.<br>
+	 * If the internal codec writes no value, no entry is written.<br>
+	 *
+	 * @param writer The writer to encode to
+	 * @param object The object
+	 * @param <R> The type to encode to
+	 * @throws NullPointerException If the writer is null
+	 * @throws EncoderException If an error occurs during encoding
+	 */
+	<R> void encodeTo(@NonNull EncodeWriter<R> writer, @Nullable O object) throws EncoderException {
+		Objects.requireNonNull(writer, "Encode writer must not be null");
+		if (object == null) {
+			throw new EncoderException("Unable to encode component because the component can not be retrieved from a null object", this.codec);
+		}
+		
+		C value = this.getter.apply(object);
+		try {
+			writer.key(this.name);
+			this.codec.encodeTo(writer, value);
+		} catch (EncoderException e) {
+			throw new EncoderException(() -> "Unable to encode named '" + this.name + "' '" + value, this.codec, e);
 		}
 	}
 	
@@ -156,18 +223,56 @@ public class FieldCodec<C, O> {
 			throw new DecoderException("Unable to decode named '" + this.name + "' null value", this.codec);
 		}
 		
+		return this.decodeValue(provider, map, provider.get(map, this.name, DecoderException::new));
+	}
+	
+	/**
+	 * Decodes the given value which was already retrieved from the map by the name of this codec.<br>
+	 * If the value can not be decoded, the value is decoded by the first alias which is present in the map.<br>
+	 *
+	 * @param provider The type provider
+	 * @param map The map the value was retrieved from
+	 * @param value The value of the name in the map, null if the name is not present
+	 * @return The decoded value
+	 * @param <R> The type to decode from
+	 * @throws NullPointerException If the provider or map is null
+	 * @throws DecoderException If an error occurs during decoding
+	 */
+	<R> @NonNull C decodeValue(@NonNull TypeProvider<R> provider, @NonNull R map, @Nullable R value) throws DecoderException {
+		Objects.requireNonNull(provider, "Type provider must not be null");
+		Objects.requireNonNull(map, "Map must not be null");
+		
 		try {
-			R value = provider.get(map, this.name, DecoderException::new);
 			return this.codec.decode(provider, map, value);
 		} catch (DecoderException rootException) {
 			try {
 				return this.decodeWithAlias(provider, map);
 			} catch (DecoderException aliasException) {
-				throw new DecoderException("Unable to decode named '" + this.name + "' from '" + map + "': " + aliasException.getMessage(), this.codec, aliasException);
+				throw new DecoderException(() -> "Unable to decode named '" + this.name + "' from '" + map + "': " + aliasException.getMessage(), this.codec, aliasException);
 			}
 		}
 	}
 	
+	/**
+	 * Decodes the value of the current map entry from the given cursor using the internal codec.<br>
+	 * The key of the entry must already be consumed by the caller.<br>
+	 *
+	 * @param cursor The cursor to decode from
+	 * @return The decoded value
+	 * @param <R> The type to decode from
+	 * @throws NullPointerException If the cursor is null
+	 * @throws DecoderException If an error occurs during decoding
+	 */
+	<R> @NonNull C decodeFrom(@NonNull DecodeCursor<R> cursor) throws DecoderException {
+		Objects.requireNonNull(cursor, "Decode cursor must not be null");
+		
+		try {
+			return this.codec.decodeFrom(cursor);
+		} catch (DecoderException e) {
+			throw new DecoderException(() -> "Unable to decode named '" + this.name + "': " + e.getMessage(), this.codec, e);
+		}
+	}
+	
 	/**
 	 * Decodes the value using the given provider and map.<br>
 	 * This method will try to decode the value by the first alias which is present in the map.<br>
@@ -203,7 +308,7 @@ public class FieldCodec<C, O> {
 		Objects.requireNonNull(provider, "Type provider must not be null");
 		Objects.requireNonNull(map, "Map must not be null");
 		if (this.aliases.isEmpty()) {
-			throw new DecoderException("Name '" + this.name + "' not found in '" + map + "', no aliases configured", this.codec);
+			throw new DecoderException(() -> "Name '" + this.name + "' not found in '" + map + "', no aliases configured", this.codec, null);
 		}
 		
 		return this.aliases.stream().filter(alias -> {
@@ -212,7 +317,7 @@ public class FieldCodec<C, O> {
 			} catch (DecoderException e) {
 				return false;
 			}
-		}).findFirst().orElseThrow(() -> new DecoderException("Name and aliases '" + this.name + "' and '" + this.aliases + "' not found in '" + map + "'", this.codec));
+		}).findFirst().orElseThrow(() -> new DecoderException(() -> "Name and aliases '" + this.name + "' and '" + this.aliases + "' not found in '" + map + "'", this.codec, null));
 	}
 	
 	//region Object overrides
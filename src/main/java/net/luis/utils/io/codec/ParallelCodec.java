@@ -0,0 +1,120 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.codec;
+
+import net.luis.utils.function.throwable.ThrowableFunction;
+import net.luis.utils.io.codec.decoder.DecoderException;
+import net.luis.utils.util.Either;
+import org.jspecify.annotations.NonNull;
+
+import java.util.*;
+
+/**
+ * Interface for collection codecs that support decoding their elements in parallel.<br>
+ * A parallel codec splits the elements of large collections into chunks which are decoded on the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.<br>
+ * <p>
+ *     Parallel decoding is opt-in and only used for collections with more elements than the configured threshold.<br>
+ *     The decoded elements keep the order of the input and the partial decoding semantics of {@link PartialCodec} are not affected,
+ *     the first error in input order is thrown if the codec is strict.
+ * </p>
+ * <p>
+ *     The element codec must be safe to use from multiple threads, which is the case for all codecs which do not hold mutable state.<br>
+ *     Decoding from a {@link net.luis.utils.io.codec.decoder.DecodeCursor cursor} is always sequential.
+ * </p>
+ *
+ * @author Luis-St
+ *
+ * @param <V> The type of the codec that implements this interface
+ */
+public interface ParallelCodec<V> {
+	
+	/**
+	 * The default number of elements above which a collection is decoded in parallel.<br>
+	 * The value is also used as the size of the chunks which are decoded sequentially.<br>
+	 */
+	int DEFAULT_PARALLEL_THRESHOLD = 1024;
+	
+	/**
+	 * Returns a codec that decodes collections with more than {@link #DEFAULT_PARALLEL_THRESHOLD} elements in parallel.<br>
+	 *
+	 * @return A codec that decodes large collections in parallel
+	 * @see #parallel(int)
+	 */
+	default @NonNull V parallel() {
+		return this.parallel(DEFAULT_PARALLEL_THRESHOLD);
+	}
+	
+	/**
+	 * Returns a codec that decodes collections with more than the given number of elements in parallel.<br>
+	 *
+	 * @param threshold The number of elements above which a collection is decoded in parallel
+	 * @return A codec that decodes large collections in parallel
+	 * @throws IllegalArgumentException If the threshold is less than 1
+	 */
+	@NonNull V parallel(int threshold);
+	
+	/**
+	 * Returns a codec that decodes all collections sequentially.<br>
+	 * @return A codec that decodes sequentially
+	 */
+	@NonNull V sequential();
+	
+	/**
+	 * Returns the number of elements above which a collection is decoded in parallel.<br>
+	 * @return The parallel threshold or 0 if this codec decodes sequentially
+	 */
+	int getParallelThreshold();
+	
+	/**
+	 * Returns whether this codec decodes large collections in parallel.<br>
+	 * @return True if this codec decodes large collections in parallel, false otherwise
+	 */
+	default boolean isParallel() {
+		return this.getParallelThreshold() > 0;
+	}
+	
+	/**
+	 * Decodes each of the given elements using the given decoder function.<br>
+	 * The result of each element is either the decoded value or the decoding error, in the order of the given elements.<br>
+	 * <p>
+	 *     If this codec is parallel and the number of elements exceeds the threshold, the elements are decoded in parallel.<br>
+	 *     Otherwise, the elements are decoded sequentially in the calling thread.
+	 * </p>
+	 *
+	 * @param elements The elements to decode
+	 * @param decoder The function used to decode a single element
+	 * @return The results of the elements in input order
+	 * @param <E> The type of the elements to decode
+	 * @param <C> The type of the decoded values
+	 * @throws NullPointerException If the elements or the decoder is null
+	 */
+	default <E, C> @NonNull List<Either<C, DecoderException>> decodeAll(@NonNull Collection<? extends E> elements, @NonNull ThrowableFunction<? super E, ? extends C, DecoderException> decoder) {
+		Objects.requireNonNull(elements, "Elements must not be null");
+		Objects.requireNonNull(decoder, "Decoder must not be null");
+		
+		int threshold = this.getParallelThreshold();
+		if (threshold <= 0 || threshold >= elements.size()) {
+			return ParallelDecodeTask.decodeSequential(elements, decoder);
+		}
+		if (elements instanceof List<? extends E> list && elements instanceof RandomAccess) {
+			return ParallelDecodeTask.decodeParallel(list, decoder, threshold);
+		}
+		return ParallelDecodeTask.decodeParallel(new ArrayList<>(elements), decoder, threshold);
+	}
+}
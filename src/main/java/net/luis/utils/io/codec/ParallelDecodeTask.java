@@ -0,0 +1,152 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.codec;
+
+import net.luis.utils.function.throwable.ThrowableFunction;
+import net.luis.utils.io.codec.decoder.DecoderException;
+import net.luis.utils.util.Either;
+import org.jspecify.annotations.NonNull;
+
+import java.util.*;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Internal fork-join task used by {@link ParallelCodec} to decode the elements of a collection in parallel.<br>
+ * The task splits its range in halves until the range is not larger than the threshold and decodes the chunks sequentially.<br>
+ * Each result is stored at the index of its element, so the order of the input is kept.<br>
+ *
+ * @author Luis-St
+ *
+ * @param <E> The type of the elements to decode
+ * @param <C> The type of the decoded values
+ */
+final class ParallelDecodeTask<E, C> extends RecursiveAction {
+	
+	/**
+	 * The elements to decode.<br>
+	 */
+	private final List<? extends E> elements;
+	/**
+	 * The function used to decode a single element.<br>
+	 */
+	private final ThrowableFunction<? super E, ? extends C, DecoderException> decoder;
+	/**
+	 * The array to store the results in.<br>
+	 */
+	private final Either<C, DecoderException>[] results;
+	/**
+	 * The maximum number of elements decoded sequentially by a single task.<br>
+	 */
+	private final int threshold;
+	/**
+	 * The start index of the range of this task (inclusive).<br>
+	 */
+	private final int start;
+	/**
+	 * The end index of the range of this task (exclusive).<br>
+	 */
+	private final int end;
+	
+	/**
+	 * Constructs a new parallel decode task for the given range.<br>
+	 *
+	 * @param elements The elements to decode
+	 * @param decoder The function used to decode a single element
+	 * @param results The array to store the results in
+	 * @param threshold The maximum number of elements decoded sequentially by a single task
+	 * @param start The start index of the range (inclusive)
+	 * @param end The end index of the range (exclusive)
+	 */
+	private ParallelDecodeTask(@NonNull List<? extends E> elements, @NonNull ThrowableFunction<? super E, ? extends C, DecoderException> decoder, Either<C, DecoderException> @NonNull [] results, int threshold, int start, int end) {
+		this.elements = elements;
+		this.decoder = decoder;
+		this.results = results;
+		this.threshold = threshold;
+		this.start = start;
+		this.end = end;
+	}
+	
+	/**
+	 * Decodes the given elements sequentially in the calling thread.<br>
+	 *
+	 * @param elements The elements to decode
+	 * @param decoder The function used to decode a single element
+	 * @return The results of the elements in input order
+	 * @param <E> The type of the elements to decode
+	 * @param <C> The type of the decoded values
+	 */
+	static <E, C> @NonNull List<Either<C, DecoderException>> decodeSequential(@NonNull Collection<? extends E> elements, @NonNull ThrowableFunction<? super E, ? extends C, DecoderException> decoder) {
+		List<Either<C, DecoderException>> results = new ArrayList<>(elements.size());
+		for (E element : elements) {
+			results.add(decodeElement(element, decoder));
+		}
+		return results;
+	}
+	
+	/**
+	 * Decodes the given elements in parallel on the common fork-join pool.<br>
+	 * If the calling thread is a worker of a fork-join pool, the elements are decoded in that pool.<br>
+	 *
+	 * @param elements The elements to decode, must support random access
+	 * @param decoder The function used to decode a single element
+	 * @param threshold The maximum number of elements decoded sequentially by a single task
+	 * @return The results of the elements in input order
+	 * @param <E> The type of the elements to decode
+	 * @param <C> The type of the decoded values
+	 */
+	@SuppressWarnings("unchecked")
+	static <E, C> @NonNull List<Either<C, DecoderException>> decodeParallel(@NonNull List<? extends E> elements, @NonNull ThrowableFunction<? super E, ? extends C, DecoderException> decoder, int threshold) {
+		Either<C, DecoderException>[] results = new Either[elements.size()];
+		new ParallelDecodeTask<>(elements, decoder, results, threshold, 0, elements.size()).invoke();
+		return Arrays.asList(results);
+	}
+	
+	/**
+	 * Decodes a single element and wraps the result or the error.<br>
+	 *
+	 * @param element The element to decode
+	 * @param decoder The function used to decode the element
+	 * @return The decoded value or the decoding error
+	 * @param <E> The type of the element to decode
+	 * @param <C> The type of the decoded value
+	 */
+	private static <E, C> @NonNull Either<C, DecoderException> decodeElement(E element, @NonNull ThrowableFunction<? super E, ? extends C, DecoderException> decoder) {
+		try {
+			return Either.left(decoder.apply(element));
+		} catch (DecoderException e) {
+			return Either.right(e);
+		}
+	}
+	
+	@Override
+	protected void compute() {
+		if (this.end - this.start <= this.threshold) {
+			for (int i = this.start; i < this.end; i++) {
+				this.results[i] = decodeElement(this.elements.get(i), this.decoder);
+			}
+			return;
+		}
+		
+		int middle = (this.start + this.end) >>> 1;
+		invokeAll(
+			new ParallelDecodeTask<>(this.elements, this.decoder, this.results, this.threshold, this.start, middle),
+			new ParallelDecodeTask<>(this.elements, this.decoder, this.results, this.threshold, middle, this.end)
+		);
+	}
+}
@@ -18,8 +18,9 @@
 
 package net.luis.utils.io.codec;
 
-import net.luis.utils.io.codec.decoder.DecoderException;
-import net.luis.utils.io.codec.encoder.EncoderException;
+import net.luis.utils.io.codec.decoder.*;
+import net.luis.utils.io.codec.encoder.*;
+import net.luis.utils.io.codec.provider.TypeProvider;
 import net.luis.utils.util.Either;
 import org.jspecify.annotations.NonNull;
 
@@ -90,6 +91,46 @@ public interface PartialCodec<V> {
 		return result;
 	}
 	
+	/**
+	 * Encodes the given elements as list to the given writer using the given encoder.<br>
+	 * <p>
+	 *     If this codec does not allow partial encoding, the elements are encoded directly to the writer and the first encoding error is thrown.<br>
+	 *     If this codec allows partial encoding, each element is encoded as a whole before it is written,
+	 *     so that elements which fail to encode are not written at all.
+	 * </p>
+	 *
+	 * @param writer The writer to encode the list to
+	 * @param encoder The encoder used to encode the elements
+	 * @param elements The elements to encode
+	 * @param <R> The type to encode to
+	 * @param <C> The type of the elements
+	 * @throws NullPointerException If the writer, encoder or elements are null
+	 * @throws EncoderException If this codec does not allow partial encoding and an encoding error is encountered
+	 */
+	default <R, C> void encodeElements(@NonNull EncodeWriter<R> writer, @NonNull Encoder<C> encoder, @NonNull Iterable<? extends C> elements) throws EncoderException {
+		Objects.requireNonNull(writer, "Encode writer must not be null");
+		Objects.requireNonNull(encoder, "Encoder must not be null");
+		Objects.requireNonNull(elements, "Elements must not be null");
+		
+		TypeProvider<R> provider = writer.getProvider();
+		writer.beginList();
+		for (C element : elements) {
+			if (!this.isPartial()) {
+				encoder.encodeTo(writer, element);
+				continue;
+			}
+			
+			R encodedElement;
+			try {
+				encodedElement = encoder.encode(provider, provider.empty(), element);
+			} catch (EncoderException e) {
+				continue;
+			}
+			writer.writeValue(encodedElement);
+		}
+		writer.endList();
+	}
+	
 	/**
 	 * Decodes a list of elements, where each element is either a successfully decoded value or a decoding error.<br>
 	 * <p>
@@ -117,4 +158,49 @@ public interface PartialCodec<V> {
 		
 		return result;
 	}
+	
+	/**
+	 * Decodes the elements of the next list of the given cursor using the given decoder.<br>
+	 * <p>
+	 *     If this codec does not allow partial decoding, the elements are decoded directly from the cursor and the first decoding error is thrown.<br>
+	 *     If this codec allows partial decoding, each element is read as a whole before it is decoded,
+	 *     so that the cursor can continue with the next element if an element fails to decode.
+	 * </p>
+	 *
+	 * @param cursor The cursor to decode the list from
+	 * @param decoder The decoder used to decode the elements
+	 * @param <R> The type to decode from
+	 * @param <C> The type of the decoded elements
+	 * @return A list of successfully decoded values, with any decoding errors discarded if this codec allows partial decoding
+	 * @throws NullPointerException If the cursor or decoder is null
+	 * @throws DecoderException If the next value is not a list or this codec does not allow partial decoding and a decoding error is encountered
+	 */
+	default <R, C> @NonNull List<C> decodeElements(@NonNull DecodeCursor<R> cursor, @NonNull Decoder<C> decoder) throws DecoderException {
+		Objects.requireNonNull(cursor, "Decode cursor must not be null");
+		Objects.requireNonNull(decoder, "Decoder must not be null");
+		
+		if (!this.isPartial()) {
+			List<C> result = new ArrayList<>();
+			cursor.beginList();
+			while (cursor.hasNext()) {
+				result.add(decoder.decodeFrom(cursor));
+			}
+			cursor.endList();
+			return result;
+		}
+		
+		TypeProvider<R> provider = cursor.getProvider();
+		List<Either<C, DecoderException>> elements = new ArrayList<>();
+		cursor.beginList();
+		while (cursor.hasNext()) {
+			R element = cursor.readValue();
+			try {
+				elements.add(Either.left(decoder.decode(provider, provider.empty(), element)));
+			} catch (DecoderException e) {
+				elements.add(Either.right(e));
+			}
+		}
+		cursor.endList();
+		return this.decode(elements);
+	}
 }
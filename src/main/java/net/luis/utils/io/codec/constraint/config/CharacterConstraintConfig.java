@@ -18,6 +18,7 @@
 
 package net.luis.utils.io.codec.constraint.config;
 
+import net.luis.utils.io.codec.constraint.config.validator.ConstraintChain;
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintValidators;
 import net.luis.utils.io.codec.constraint.core.Constraint;
 import net.luis.utils.io.codec.constraint.merged.CharacterConstraint;
@@ -396,25 +397,23 @@ public record CharacterConstraintConfig(
 	//endregion
 	
 	@Override
-	public void validate(@NonNull Character value) {
-		Objects.requireNonNull(value, "Value must not be null");
-		
-		ConstraintValidators.validateAll(
-			() -> ConstraintValidators.validateEqualTo(value, this.equalTo),
-			() -> ConstraintValidators.validateIn(value, this.in),
-			() -> ConstraintValidators.validateRange(value, this.min, this.max),
-			() -> ConstraintValidators.validateFlag(value, this.letter, Character::isLetter, "Character '" + value + "' must be a letter"),
-			() -> ConstraintValidators.validateFlag(value, this.digit, Character::isDigit, "Character" + value + "' must be a digit"),
-			() -> ConstraintValidators.validateFlag(value, this.alphanumeric, Character::isLetterOrDigit, "Character '" + value + "' must be alphanumeric"),
-			() -> ConstraintValidators.validateFlag(value, this.whitespace, Character::isWhitespace, "Character '" + value + "' must be whitespace"),
-			() -> ConstraintValidators.validateFlag(value, this.punctuation, c -> PUNCTUATION_TYPES.contains((byte) Character.getType(c)), "Character '" + value + "' must be punctuation"),
-			() -> ConstraintValidators.validateFlag(value, this.symbol, c -> SYMBOL_TYPES.contains((byte) Character.getType(c)), "Character '" + value + "' must be a symbol"),
-			() -> ConstraintValidators.validateFlag(value, this.control, Character::isISOControl, "Character '" + value + "' must be a control character"),
-			() -> ConstraintValidators.validateFlag(value, this.upperCase, Character::isUpperCase, "Character '" + value + "' must be upper case"),
-			() -> ConstraintValidators.validateFlag(value, this.lowerCase, Character::isLowerCase, "Character '" + value + "' must be lower case"),
-			() -> ConstraintValidators.validateFlag(value, this.ascii, c -> c <= 127, "Character '" + value + "' must be an ASCII character (0-127)"),
-			() -> ConstraintValidators.validateFlag(value, this.latin1, c -> c <= 255, "Character '" + value + "' must be a Latin-1 character (0-255)"),
-			() -> ConstraintValidators.validateCustom(value, this.custom)
-		);
+	public @NonNull Constraint<Character> compile() {
+		return ConstraintChain.<Character>builder()
+			.addEqualTo(this.equalTo)
+			.addIn(this.in)
+			.addRange(this.min, this.max, Comparator.naturalOrder())
+			.addFlag(this.letter, Character::isLetter, value -> "Character '" + value + "' must be a letter")
+			.addFlag(this.digit, Character::isDigit, value -> "Character" + value + "' must be a digit")
+			.addFlag(this.alphanumeric, Character::isLetterOrDigit, value -> "Character '" + value + "' must be alphanumeric")
+			.addFlag(this.whitespace, Character::isWhitespace, value -> "Character '" + value + "' must be whitespace")
+			.addFlag(this.punctuation, c -> PUNCTUATION_TYPES.contains((byte) Character.getType(c)), value -> "Character '" + value + "' must be punctuation")
+			.addFlag(this.symbol, c -> SYMBOL_TYPES.contains((byte) Character.getType(c)), value -> "Character '" + value + "' must be a symbol")
+			.addFlag(this.control, Character::isISOControl, value -> "Character '" + value + "' must be a control character")
+			.addFlag(this.upperCase, Character::isUpperCase, value -> "Character '" + value + "' must be upper case")
+			.addFlag(this.lowerCase, Character::isLowerCase, value -> "Character '" + value + "' must be lower case")
+			.addFlag(this.ascii, c -> c <= 127, value -> "Character '" + value + "' must be an ASCII character (0-127)")
+			.addFlag(this.latin1, c -> c <= 255, value -> "Character '" + value + "' must be a Latin-1 character (0-255)")
+			.add(this.custom, value -> ConstraintValidators.validateCustom(value, this.custom))
+			.build();
 	}
 }
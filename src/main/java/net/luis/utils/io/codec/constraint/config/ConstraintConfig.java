@@ -18,10 +18,13 @@
 
 package net.luis.utils.io.codec.constraint.config;
 
+import net.luis.utils.io.codec.constraint.config.validator.ConstraintChain;
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintViolateException;
 import net.luis.utils.io.codec.constraint.core.Constraint;
 import org.jspecify.annotations.NonNull;
 
+import java.util.Objects;
+
 /**
  * Configuration interface that defines a validation method for a given value of type {@code T}.<br>
  * <p>
@@ -48,10 +51,30 @@ public interface ConstraintConfig<T> {
 	 *     If the value does not satisfy any constraint, a {@link ConstraintViolateException} with an appropriate error message is thrown.<br>
 	 *     The validation uses early-exit behavior, stopping at the first failed constraint.
 	 * </p>
+	 * <p>
+	 *     The value is validated by the compiled constraint of this configuration, which is cached by {@link ConstraintChain#compiled(ConstraintConfig)}.<br>
+	 *     Therefore, the checks of a configuration are only defined once in {@link #compile()}.
+	 * </p>
 	 *
 	 * @param value The value to be validated
 	 * @throws NullPointerException If the value is null
 	 * @throws ConstraintViolateException If the value does not satisfy the configured constraints
 	 */
-	void validate(@NonNull T value);
+	default void validate(@NonNull T value) {
+		Objects.requireNonNull(value, "Value must not be null");
+		ConstraintChain.compiled(this).validate(value);
+	}
+	
+	/**
+	 * Compiles the configured constraints into a single constraint.<br>
+	 * <p>
+	 *     The compiled constraint only contains the checks which are actually configured,
+	 *     therefore the validation cost is proportional to the number of configured constraints.<br>
+	 *     The constraint should be compiled once and reused for all values validated against this configuration.
+	 * </p>
+	 *
+	 * @return The compiled constraint
+	 * @see ConstraintChain
+	 */
+	@NonNull Constraint<T> compile();
 }
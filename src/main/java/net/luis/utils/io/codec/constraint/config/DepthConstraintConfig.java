@@ -18,6 +18,7 @@
 
 package net.luis.utils.io.codec.constraint.config;
 
+import net.luis.utils.io.codec.constraint.config.validator.ConstraintChain;
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintValidators;
 import net.luis.utils.io.codec.constraint.core.Constraint;
 import net.luis.utils.io.codec.constraint.core.DepthConstraint;
@@ -213,14 +214,12 @@ public record DepthConstraintConfig(
 	//endregion
 	
 	@Override
-	public void validate(@NonNull Integer value) {
-		Objects.requireNonNull(value, "Value must not be null");
-		
-		ConstraintValidators.validateAll(
-			() -> ConstraintValidators.validateEqualTo(value, this.equalTo),
-			() -> ConstraintValidators.validateIn(value, this.in),
-			() -> ConstraintValidators.validateRange(value, this.min, this.max),
-			() -> ConstraintValidators.validateCustom(value, this.custom)
-		);
+	public @NonNull Constraint<Integer> compile() {
+		return ConstraintChain.<Integer>builder()
+			.addEqualTo(this.equalTo)
+			.addIn(this.in)
+			.add(this.min.isPresent() || this.max.isPresent(), ConstraintChain.intRange(this.min, this.max))
+			.add(this.custom, value -> ConstraintValidators.validateCustom(value, this.custom))
+			.build();
 	}
 }
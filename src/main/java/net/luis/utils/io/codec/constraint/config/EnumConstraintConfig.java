@@ -18,6 +18,7 @@
 
 package net.luis.utils.io.codec.constraint.config;
 
+import net.luis.utils.io.codec.constraint.config.validator.ConstraintChain;
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintValidators;
 import net.luis.utils.io.codec.constraint.core.Constraint;
 import net.luis.utils.util.Pair;
@@ -143,13 +144,11 @@ public record EnumConstraintConfig<T extends Enum<T>>(
 	//endregion
 	
 	@Override
-	public void validate(@NonNull T value) {
-		Objects.requireNonNull(value, "Value must not be null");
-		
-		ConstraintValidators.validateAll(
-			() -> ConstraintValidators.validateEqualTo(value, this.equalTo),
-			() -> ConstraintValidators.validateIn(value, this.in),
-			() -> ConstraintValidators.validateCustom(value, this.custom)
-		);
+	public @NonNull Constraint<T> compile() {
+		return ConstraintChain.<T>builder()
+			.addEqualTo(this.equalTo)
+			.addIn(this.in)
+			.add(this.custom, value -> ConstraintValidators.validateCustom(value, this.custom))
+			.build();
 	}
 }
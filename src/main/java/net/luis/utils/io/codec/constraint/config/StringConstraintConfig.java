@@ -18,6 +18,7 @@
 
 package net.luis.utils.io.codec.constraint.config;
 
+import net.luis.utils.io.codec.constraint.config.validator.ConstraintChain;
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintValidators;
 import net.luis.utils.io.codec.constraint.core.Constraint;
 import net.luis.utils.io.codec.constraint.merged.StringConstraint;
@@ -657,35 +658,33 @@ public record StringConstraintConfig(
 	//endregion
 	
 	@Override
-	public void validate(@NonNull String value) {
-		Objects.requireNonNull(value, "Value must not be null");
-		
-		ConstraintValidators.validateAll(
-			() -> ConstraintValidators.validateEqualTo(value, this.equalTo),
-			() -> ConstraintValidators.validateIn(value, this.in),
-			() -> ConstraintValidators.validateEqualTo(value, this.equalToIgnoreCase, String::equalsIgnoreCase),
-			() -> ConstraintValidators.validateIn(value, this.inIgnoreCase, String::equalsIgnoreCase),
-			() -> ConstraintValidators.validateExtractedValue(value, this.length, String::length, "Length"),
-			() -> ConstraintValidators.validateStartsWith(value, this.startsWith),
-			() -> ConstraintValidators.validateStartsWithAny(value, this.startsWithAny),
-			() -> ConstraintValidators.validateContains(value, this.contains),
-			() -> ConstraintValidators.validateContainsAny(value, this.containsAny),
-			() -> ConstraintValidators.validateContainsAll(value, this.containsAll),
-			() -> ConstraintValidators.validateContainsOnly(value, this.containsOnly),
-			() -> ConstraintValidators.validateEndsWith(value, this.endsWith),
-			() -> ConstraintValidators.validateEndsWithAny(value, this.endsWithAny),
-			() -> ConstraintValidators.validatePattern(value, this.matches),
-			() -> ConstraintValidators.validateFlag(value, this.trimmed, s -> s.equals(s.trim()), "String '" + value + "' must be trimmed (no leading/trailing whitespace)"),
-			() -> ConstraintValidators.validateFlag(value, this.blank, String::isBlank, "String '" + value + "' must be blank"),
-			() -> ConstraintValidators.validateFlag(value, this.notBlank, s -> !s.isBlank(), "String '" + value + "' must not be blank"),
-			() -> ConstraintValidators.validateFlag(value, this.upperCase, s -> s.equals(s.toUpperCase()), "String '" + value + "' must be upper case"),
-			() -> ConstraintValidators.validateFlag(value, this.lowerCase, s -> s.equals(s.toLowerCase()), "String '" + value + "' must be lower case"),
-			() -> ConstraintValidators.validateCharacterClass(value, this.numeric, Character::isDigit, "numeric"),
-			() -> ConstraintValidators.validateCharacterClass(value, this.alphabetic, Character::isLetter, "alphabetic"),
-			() -> ConstraintValidators.validateCharacterClass(value, this.alphanumeric, Character::isLetterOrDigit, "alphanumeric"),
-			() -> ConstraintValidators.validateCharacterClass(value, this.ascii, c -> c < 128, "ASCII"),
-			() -> ConstraintValidators.validateCharacterClass(value, this.latin1, c -> c < 256, "Latin-1"),
-			() -> ConstraintValidators.validateCustom(value, this.custom)
-		);
+	public @NonNull Constraint<String> compile() {
+		return ConstraintChain.<String>builder()
+			.addEqualTo(this.equalTo)
+			.addIn(this.in)
+			.add(this.equalToIgnoreCase, ConstraintChain.equalToIgnoreCase(this.equalToIgnoreCase))
+			.add(this.inIgnoreCase, ConstraintChain.inIgnoreCase(this.inIgnoreCase))
+			.addNested(this.length, String::length, "Length")
+			.add(this.startsWith, value -> ConstraintValidators.validateStartsWith(value, this.startsWith))
+			.add(this.startsWithAny, value -> ConstraintValidators.validateStartsWithAny(value, this.startsWithAny))
+			.add(this.contains, value -> ConstraintValidators.validateContains(value, this.contains))
+			.add(this.containsAny, value -> ConstraintValidators.validateContainsAny(value, this.containsAny))
+			.add(this.containsAll, value -> ConstraintValidators.validateContainsAll(value, this.containsAll))
+			.add(this.containsOnly, value -> ConstraintValidators.validateContainsOnly(value, this.containsOnly))
+			.add(this.endsWith, value -> ConstraintValidators.validateEndsWith(value, this.endsWith))
+			.add(this.endsWithAny, value -> ConstraintValidators.validateEndsWithAny(value, this.endsWithAny))
+			.add(this.matches, value -> ConstraintValidators.validatePattern(value, this.matches))
+			.addFlag(this.trimmed, s -> s.equals(s.trim()), value -> "String '" + value + "' must be trimmed (no leading/trailing whitespace)")
+			.addFlag(this.blank, String::isBlank, value -> "String '" + value + "' must be blank")
+			.addFlag(this.notBlank, s -> !s.isBlank(), value -> "String '" + value + "' must not be blank")
+			.addFlag(this.upperCase, s -> s.equals(s.toUpperCase()), value -> "String '" + value + "' must be upper case")
+			.addFlag(this.lowerCase, s -> s.equals(s.toLowerCase()), value -> "String '" + value + "' must be lower case")
+			.add(this.numeric, value -> ConstraintValidators.validateCharacterClass(value, this.numeric, Character::isDigit, "numeric"))
+			.add(this.alphabetic, value -> ConstraintValidators.validateCharacterClass(value, this.alphabetic, Character::isLetter, "alphabetic"))
+			.add(this.alphanumeric, value -> ConstraintValidators.validateCharacterClass(value, this.alphanumeric, Character::isLetterOrDigit, "alphanumeric"))
+			.add(this.ascii, value -> ConstraintValidators.validateCharacterClass(value, this.ascii, c -> c < 128, "ASCII"))
+			.add(this.latin1, value -> ConstraintValidators.validateCharacterClass(value, this.latin1, c -> c < 256, "Latin-1"))
+			.add(this.custom, value -> ConstraintValidators.validateCustom(value, this.custom))
+			.build();
 	}
 }
@@ -19,6 +19,7 @@
 package net.luis.utils.io.codec.constraint.config;
 
 import net.luis.utils.io.codec.constraint.config.numeric.NumericConstraintConfig;
+import net.luis.utils.io.codec.constraint.config.validator.ConstraintChain;
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintValidators;
 import net.luis.utils.io.codec.constraint.core.Constraint;
 import net.luis.utils.io.codec.constraint.merged.UUIDConstraint;
@@ -242,18 +243,16 @@ public record UUIDConstraintConfig(
 	//endregion
 	
 	@Override
-	public void validate(@NonNull UUID value) {
-		Objects.requireNonNull(value, "Value must not be null");
-		
-		ConstraintValidators.validateAll(
-			() -> ConstraintValidators.validateEqualTo(value, this.equalTo),
-			() -> ConstraintValidators.validateIn(value, this.in),
-			() -> ConstraintValidators.validateNestedConfig(value.version(), this.version, "Version"),
-			() -> ConstraintValidators.validateNestedConfig(UUIDVariant.from(value), this.variant, "Variant"),
-			() -> ConstraintValidators.validateFlag(value, this.nil, u -> u.equals(NIL_UUID), "UUID '" + value + "' must be the nil UUID"),
-			() -> ConstraintValidators.validateFlag(value, this.notNil, u -> !u.equals(NIL_UUID), "UUID '" + value + "' must not be the nil UUID"),
-			() -> ConstraintValidators.validateFlag(value, this.max, u -> u.equals(MAX_UUID), "UUID '" + value + "' must be the max UUID"),
-			() -> ConstraintValidators.validateCustom(value, this.custom)
-		);
+	public @NonNull Constraint<UUID> compile() {
+		return ConstraintChain.<UUID>builder()
+			.addEqualTo(this.equalTo)
+			.addIn(this.in)
+			.addNested(this.version, UUID::version, "Version")
+			.addNested(this.variant, UUIDVariant::from, "Variant")
+			.addFlag(this.nil, u -> u.equals(NIL_UUID), value -> "UUID '" + value + "' must be the nil UUID")
+			.addFlag(this.notNil, u -> !u.equals(NIL_UUID), value -> "UUID '" + value + "' must not be the nil UUID")
+			.addFlag(this.max, u -> u.equals(MAX_UUID), value -> "UUID '" + value + "' must be the max UUID")
+			.add(this.custom, value -> ConstraintValidators.validateCustom(value, this.custom))
+			.build();
 	}
 }
@@ -20,6 +20,7 @@ package net.luis.utils.io.codec.constraint.config.collection;
 
 import net.luis.utils.io.codec.constraint.config.ConstraintConfig;
 import net.luis.utils.io.codec.constraint.config.LengthConstraintConfig;
+import net.luis.utils.io.codec.constraint.config.validator.ConstraintChain;
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintValidators;
 import net.luis.utils.io.codec.constraint.core.Constraint;
 import net.luis.utils.io.codec.constraint.merged.collection.ArrayConstraint;
@@ -232,14 +233,12 @@ public record ArrayConstraintConfig<T>(
 	//endregion
 	
 	@Override
-	public void validate(T @NonNull [] value) {
-		Objects.requireNonNull(value, "Value must not be null");
-		
-		ConstraintValidators.validateAll(
-			() -> ConstraintValidators.validateEqualTo(value, this.equalTo, Arrays::equals),
-			() -> ConstraintValidators.validateIn(value, this.in, Arrays::equals),
-			() -> ConstraintValidators.validateExtractedValue(value, this.length, arr -> arr.length, "Length"),
-			() -> ConstraintValidators.validateCustom(value, this.custom)
-		);
+	public @NonNull Constraint<T []> compile() {
+		return ConstraintChain.<T []>builder()
+			.addEqualTo(this.equalTo, Arrays::equals)
+			.addIn(this.in, Arrays::equals)
+			.addNested(this.length, arr -> arr.length, "Length")
+			.add(this.custom, value -> ConstraintValidators.validateCustom(value, this.custom))
+			.build();
 	}
 }
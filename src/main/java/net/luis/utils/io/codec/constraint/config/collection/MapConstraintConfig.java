@@ -20,6 +20,7 @@ package net.luis.utils.io.codec.constraint.config.collection;
 
 import net.luis.utils.io.codec.constraint.config.ConstraintConfig;
 import net.luis.utils.io.codec.constraint.config.SizeConstraintConfig;
+import net.luis.utils.io.codec.constraint.config.validator.ConstraintChain;
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintValidators;
 import net.luis.utils.io.codec.constraint.core.Constraint;
 import net.luis.utils.io.codec.constraint.merged.collection.MapConstraint;
@@ -418,20 +419,18 @@ public record MapConstraintConfig<K, V>(
 	//endregion
 	
 	@Override
-	public void validate(@NonNull Map<K, V> value) {
-		Objects.requireNonNull(value, "Value must not be null");
-		
-		ConstraintValidators.validateAll(
-			() -> ConstraintValidators.validateEqualTo(value, this.equalTo),
-			() -> ConstraintValidators.validateIn(value, this.in),
-			() -> ConstraintValidators.validateExtractedValue(value, this.size, Map::size, "Size"),
-			() -> ConstraintValidators.validateRequiredKeys(value.keySet(), this.requiredKeys, "Map"),
-			() -> ConstraintValidators.validateForbiddenKeys(value.keySet(), this.forbiddenKeys, "Map"),
-			() -> ConstraintValidators.validateAllowedKeys(value.keySet(), this.allowedKeys, "Map"),
-			() -> ConstraintValidators.validateFlag(value, this.nonNullKeys, m -> m.keySet().stream().noneMatch(Objects::isNull), "Map keys must not contain null"),
-			() -> ConstraintValidators.validateFlag(value, this.uniqueValues, m -> m.values().stream().distinct().count() == m.size(), "Map values must be unique"),
-			() -> ConstraintValidators.validateFlag(value, this.nonNullValues, m -> m.values().stream().noneMatch(Objects::isNull), "Map values must not contain null"),
-			() -> ConstraintValidators.validateCustom(value, this.custom)
-		);
+	public @NonNull Constraint<Map<K, V>> compile() {
+		return ConstraintChain.<Map<K, V>>builder()
+			.addEqualTo(this.equalTo)
+			.addIn(this.in)
+			.addNested(this.size, Map::size, "Size")
+			.add(this.requiredKeys, value -> ConstraintValidators.validateRequiredKeys(value.keySet(), this.requiredKeys, "Map"))
+			.add(this.forbiddenKeys, value -> ConstraintValidators.validateForbiddenKeys(value.keySet(), this.forbiddenKeys, "Map"))
+			.add(this.allowedKeys, value -> ConstraintValidators.validateAllowedKeys(value.keySet(), this.allowedKeys, "Map"))
+			.addFlag(this.nonNullKeys, m -> m.keySet().stream().noneMatch(Objects::isNull), _ -> "Map keys must not contain null")
+			.addFlag(this.uniqueValues, m -> m.values().stream().distinct().count() == m.size(), _ -> "Map values must be unique")
+			.addFlag(this.nonNullValues, m -> m.values().stream().noneMatch(Objects::isNull), _ -> "Map values must not contain null")
+			.add(this.custom, value -> ConstraintValidators.validateCustom(value, this.custom))
+			.build();
 	}
 }
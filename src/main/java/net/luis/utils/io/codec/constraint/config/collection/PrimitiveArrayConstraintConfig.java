@@ -20,6 +20,7 @@ package net.luis.utils.io.codec.constraint.config.collection;
 
 import net.luis.utils.io.codec.constraint.config.ConstraintConfig;
 import net.luis.utils.io.codec.constraint.config.LengthConstraintConfig;
+import net.luis.utils.io.codec.constraint.config.validator.ConstraintChain;
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintValidators;
 import net.luis.utils.io.codec.constraint.core.Constraint;
 import net.luis.utils.util.Pair;
@@ -314,14 +315,12 @@ public record PrimitiveArrayConstraintConfig<A>(
 	//endregion
 	
 	@Override
-	public void validate(@NonNull A value) {
-		Objects.requireNonNull(value, "Value must not be null");
-		
-		ConstraintValidators.validateAll(
-			() -> ConstraintValidators.validateEqualTo(value, this.equalTo, this.equalityFunction),
-			() -> ConstraintValidators.validateIn(value, this.in, this.equalityFunction),
-			() -> ConstraintValidators.validateExtractedValue(value, this.length, this.lengthExtractor::applyAsInt, "Length"),
-			() -> ConstraintValidators.validateCustom(value, this.custom)
-		);
+	public @NonNull Constraint<A> compile() {
+		return ConstraintChain.<A>builder()
+			.addEqualTo(this.equalTo, this.equalityFunction)
+			.addIn(this.in, this.equalityFunction)
+			.addNested(this.length, this.lengthExtractor::applyAsInt, "Length")
+			.add(this.custom, value -> ConstraintValidators.validateCustom(value, this.custom))
+			.build();
 	}
 }
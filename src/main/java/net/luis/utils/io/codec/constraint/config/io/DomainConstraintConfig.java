@@ -20,6 +20,7 @@ package net.luis.utils.io.codec.constraint.config.io;
 
 import net.luis.utils.io.codec.constraint.config.ConstraintConfig;
 import net.luis.utils.io.codec.constraint.config.LengthConstraintConfig;
+import net.luis.utils.io.codec.constraint.config.validator.ConstraintChain;
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintValidators;
 import net.luis.utils.io.codec.constraint.config.validator.IOValidators;
 import net.luis.utils.io.codec.constraint.core.Constraint;
@@ -520,25 +521,23 @@ public record DomainConstraintConfig(
 	//endregion
 	
 	@Override
-	public void validate(@NonNull String value) {
-		Objects.requireNonNull(value, "Value must not be null");
-		
-		ConstraintValidators.validateAll(
-			() -> ConstraintValidators.validateEqualTo(value, this.equalTo),
-			() -> ConstraintValidators.validateIn(value, this.in),
-			() -> ConstraintValidators.validateExtractedValue(value, this.length, String::length, "Length"),
-			() -> ConstraintValidators.validateStartsWith(value, this.startsWith),
-			() -> ConstraintValidators.validateStartsWithAny(value, this.startsWithAny),
-			() -> ConstraintValidators.validateContains(value, this.contains),
-			() -> ConstraintValidators.validateContainsAny(value, this.containsAny),
-			() -> ConstraintValidators.validateContainsAll(value, this.containsAll),
-			() -> ConstraintValidators.validateContainsOnly(value, this.containsOnly),
-			() -> ConstraintValidators.validateEndsWith(value, this.endsWith),
-			() -> ConstraintValidators.validateEndsWithAny(value, this.endsWithAny),
-			() -> ConstraintValidators.validatePattern(value, this.matches),
-			() -> IOValidators.validateRootDomain(value, this.rootDomain),
-			() -> IOValidators.validateSubDomain(value, this.subDomain),
-			() -> ConstraintValidators.validateCustom(value, this.custom)
-		);
+	public @NonNull Constraint<String> compile() {
+		return ConstraintChain.<String>builder()
+			.addEqualTo(this.equalTo)
+			.addIn(this.in)
+			.addNested(this.length, String::length, "Length")
+			.add(this.startsWith, value -> ConstraintValidators.validateStartsWith(value, this.startsWith))
+			.add(this.startsWithAny, value -> ConstraintValidators.validateStartsWithAny(value, this.startsWithAny))
+			.add(this.contains, value -> ConstraintValidators.validateContains(value, this.contains))
+			.add(this.containsAny, value -> ConstraintValidators.validateContainsAny(value, this.containsAny))
+			.add(this.containsAll, value -> ConstraintValidators.validateContainsAll(value, this.containsAll))
+			.add(this.containsOnly, value -> ConstraintValidators.validateContainsOnly(value, this.containsOnly))
+			.add(this.endsWith, value -> ConstraintValidators.validateEndsWith(value, this.endsWith))
+			.add(this.endsWithAny, value -> ConstraintValidators.validateEndsWithAny(value, this.endsWithAny))
+			.add(this.matches, value -> ConstraintValidators.validatePattern(value, this.matches))
+			.add(this.rootDomain, value -> IOValidators.validateRootDomain(value, this.rootDomain))
+			.add(this.subDomain, value -> IOValidators.validateSubDomain(value, this.subDomain))
+			.add(this.custom, value -> ConstraintValidators.validateCustom(value, this.custom))
+			.build();
 	}
 }
@@ -19,6 +19,7 @@
 package net.luis.utils.io.codec.constraint.config.io;
 
 import net.luis.utils.io.codec.constraint.config.*;
+import net.luis.utils.io.codec.constraint.config.validator.ConstraintChain;
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintValidators;
 import net.luis.utils.io.codec.constraint.config.validator.IOValidators;
 import net.luis.utils.io.codec.constraint.core.Constraint;
@@ -438,28 +439,26 @@ public record FilePathConstraintConfig(
 	//endregion
 	
 	@Override
-	public void validate(@NonNull Path value) {
-		Objects.requireNonNull(value, "Value must not be null");
-		
-		ConstraintValidators.validateAll(
-			() -> ConstraintValidators.validateEqualTo(value, this.equalTo),
-			() -> ConstraintValidators.validateIn(value, this.in),
-			() -> ConstraintValidators.validateExtractedValue(value, this.length, p -> p.toString().length(), "Length"),
-			() -> ConstraintValidators.validateExtractedValue(value, this.depth, Path::getNameCount, "Depth"),
-			() -> ConstraintValidators.validateFlag(value, this.absolute, Path::isAbsolute, "Path '" + value + "' must be absolute"),
-			() -> ConstraintValidators.validateFlag(value, this.relative, p -> !p.isAbsolute(), "Path '" + value + "' must be relative"),
-			() -> ConstraintValidators.validateFlag(value, this.normalized, p -> p.equals(p.normalize()), "Path '" + value + "' must be normalized"),
-			() -> IOValidators.validatePathCanonical(value, this.canonical),
-			() -> IOValidators.validatePathStringConfig(value, this.path),
-			() -> IOValidators.validatePathRootConfig(value, this.root),
-			() -> IOValidators.validatePathParentConfig(value, this.parent),
-			() -> IOValidators.validatePathSegmentConfig(value, this.segment),
-			() -> IOValidators.validatePathFileNameConfig(value, this.file),
-			() -> IOValidators.validatePathWithoutExtension(value, this.withoutExtension),
-			() -> IOValidators.validatePathExtensionConfig(value, this.extension),
-			() -> IOValidators.validatePathAncestorOf(value, this.ancestorOf),
-			() -> IOValidators.validatePathDescendantOf(value, this.descendantOf),
-			() -> ConstraintValidators.validateCustom(value, this.custom)
-		);
+	public @NonNull Constraint<Path> compile() {
+		return ConstraintChain.<Path>builder()
+			.addEqualTo(this.equalTo)
+			.addIn(this.in)
+			.addNested(this.length, p -> p.toString().length(), "Length")
+			.addNested(this.depth, Path::getNameCount, "Depth")
+			.addFlag(this.absolute, Path::isAbsolute, value -> "Path '" + value + "' must be absolute")
+			.addFlag(this.relative, p -> !p.isAbsolute(), value -> "Path '" + value + "' must be relative")
+			.addFlag(this.normalized, p -> p.equals(p.normalize()), value -> "Path '" + value + "' must be normalized")
+			.add(this.canonical, value -> IOValidators.validatePathCanonical(value, this.canonical))
+			.add(this.path, value -> IOValidators.validatePathStringConfig(value, this.path))
+			.add(this.root, value -> IOValidators.validatePathRootConfig(value, this.root))
+			.add(this.parent, value -> IOValidators.validatePathParentConfig(value, this.parent))
+			.add(this.segment, value -> IOValidators.validatePathSegmentConfig(value, this.segment))
+			.add(this.file, value -> IOValidators.validatePathFileNameConfig(value, this.file))
+			.add(this.withoutExtension, value -> IOValidators.validatePathWithoutExtension(value, this.withoutExtension))
+			.add(this.extension, value -> IOValidators.validatePathExtensionConfig(value, this.extension))
+			.add(this.ancestorOf, value -> IOValidators.validatePathAncestorOf(value, this.ancestorOf))
+			.add(this.descendantOf, value -> IOValidators.validatePathDescendantOf(value, this.descendantOf))
+			.add(this.custom, value -> ConstraintValidators.validateCustom(value, this.custom))
+			.build();
 	}
 }
@@ -19,12 +19,14 @@
 package net.luis.utils.io.codec.constraint.config.io;
 
 import net.luis.utils.io.codec.constraint.config.ConstraintConfig;
+import net.luis.utils.io.codec.constraint.config.validator.ConstraintChain;
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintValidators;
 import net.luis.utils.io.codec.constraint.core.Constraint;
 import net.luis.utils.util.Pair;
 import org.jspecify.annotations.NonNull;
 
 import java.util.*;
+import java.util.function.Function;
 
 /**
  * Configuration record for host type constraints.<br>
@@ -184,15 +186,13 @@ public record HostConstraintConfig(
 	//endregion
 	
 	@Override
-	public void validate(@NonNull String value) {
-		Objects.requireNonNull(value, "Value must not be null");
-		
-		ConstraintValidators.validateAll(
-			() -> ConstraintValidators.validateEqualTo(value, this.equalTo),
-			() -> ConstraintValidators.validateIn(value, this.in),
-			() -> ConstraintValidators.validateNestedConfig(value, this.ip, "Ip address"),
-			() -> ConstraintValidators.validateNestedConfig(value, this.domain, "Domain"),
-			() -> ConstraintValidators.validateCustom(value, this.custom)
-		);
+	public @NonNull Constraint<String> compile() {
+		return ConstraintChain.<String>builder()
+			.addEqualTo(this.equalTo)
+			.addIn(this.in)
+			.addNested(this.ip, Function.identity(), "Ip address")
+			.addNested(this.domain, Function.identity(), "Domain")
+			.add(this.custom, value -> ConstraintValidators.validateCustom(value, this.custom))
+			.build();
 	}
 }
@@ -20,6 +20,7 @@ package net.luis.utils.io.codec.constraint.config.io;
 
 import net.luis.utils.io.codec.constraint.config.ConstraintConfig;
 import net.luis.utils.io.codec.constraint.config.EnumConstraintConfig;
+import net.luis.utils.io.codec.constraint.config.validator.ConstraintChain;
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintValidators;
 import net.luis.utils.io.codec.constraint.config.validator.IOValidators;
 import net.luis.utils.io.codec.constraint.core.Constraint;
@@ -211,16 +212,15 @@ public record InetAddressConstraintConfig(
 	//endregion
 	
 	@Override
-	public void validate(@NonNull InetAddress value) {
-		Objects.requireNonNull(value, "Value must not be null");
-		
-		ConstraintValidators.validateAll(
-			() -> ConstraintValidators.validateEqualTo(value, this.equalTo),
-			() -> ConstraintValidators.validateIn(value, this.in),
-			() -> IOValidators.validateInetAddressIpVersion(value, this.ipVersion),
-			() -> IOValidators.validateInetAddressIpType(value, this.ipType),
-			() -> IOValidators.validateInetAddressInAnySubnet(value, this.inAnySubnet),
-			() -> ConstraintValidators.validateCustom(value, this.custom)
-		);
+	public @NonNull Constraint<InetAddress> compile() {
+		Constraint<String> subnets = this.inAnySubnet.map(IOValidators::compileInAnySubnet).orElseGet(ConstraintChain::unconstrained);
+		return ConstraintChain.<InetAddress>builder()
+			.addEqualTo(this.equalTo)
+			.addIn(this.in)
+			.add(this.ipVersion, value -> IOValidators.validateInetAddressIpVersion(value, this.ipVersion))
+			.add(this.ipType, value -> IOValidators.validateInetAddressIpType(value, this.ipType))
+			.add(this.inAnySubnet, value -> subnets.validate(value.getHostAddress()))
+			.add(this.custom, value -> ConstraintValidators.validateCustom(value, this.custom))
+			.build();
 	}
 }
@@ -19,6 +19,7 @@
 package net.luis.utils.io.codec.constraint.config.io;
 
 import net.luis.utils.io.codec.constraint.config.ConstraintConfig;
+import net.luis.utils.io.codec.constraint.config.validator.ConstraintChain;
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintValidators;
 import net.luis.utils.io.codec.constraint.config.validator.IOValidators;
 import net.luis.utils.io.codec.constraint.core.Constraint;
@@ -207,17 +208,15 @@ public record InetSocketAddressConstraintConfig(
 	//endregion
 	
 	@Override
-	public void validate(@NonNull InetSocketAddress value) {
-		Objects.requireNonNull(value, "Value must not be null");
-		
-		ConstraintValidators.validateAll(
-			() -> ConstraintValidators.validateEqualTo(value, this.equalTo),
-			() -> ConstraintValidators.validateIn(value, this.in),
-			() -> IOValidators.validateInetSocketAddressAddress(value, this.address),
-			() -> IOValidators.validateInetSocketAddressPort(value, this.port),
-			() -> ConstraintValidators.validateFlag(value, this.resolved, v -> !v.isUnresolved(), "InetSocketAddress '" + value + "' must be resolved"),
-			() -> ConstraintValidators.validateFlag(value, this.unresolved, InetSocketAddress::isUnresolved, "InetSocketAddress '" + value + "' must be unresolved"),
-			() -> ConstraintValidators.validateCustom(value, this.custom)
-		);
+	public @NonNull Constraint<InetSocketAddress> compile() {
+		return ConstraintChain.<InetSocketAddress>builder()
+			.addEqualTo(this.equalTo)
+			.addIn(this.in)
+			.add(this.address, value -> IOValidators.validateInetSocketAddressAddress(value, this.address))
+			.add(this.port, value -> IOValidators.validateInetSocketAddressPort(value, this.port))
+			.addFlag(this.resolved, v -> !v.isUnresolved(), value -> "InetSocketAddress '" + value + "' must be resolved")
+			.addFlag(this.unresolved, InetSocketAddress::isUnresolved, value -> "InetSocketAddress '" + value + "' must be unresolved")
+			.add(this.custom, value -> ConstraintValidators.validateCustom(value, this.custom))
+			.build();
 	}
 }
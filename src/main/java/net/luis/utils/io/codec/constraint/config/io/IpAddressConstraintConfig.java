@@ -19,6 +19,7 @@
 package net.luis.utils.io.codec.constraint.config.io;
 
 import net.luis.utils.io.codec.constraint.config.*;
+import net.luis.utils.io.codec.constraint.config.validator.ConstraintChain;
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintValidators;
 import net.luis.utils.io.codec.constraint.config.validator.IOValidators;
 import net.luis.utils.io.codec.constraint.core.Constraint;
@@ -229,17 +230,16 @@ public record IpAddressConstraintConfig(
 	//endregion
 	
 	@Override
-	public void validate(@NonNull IpAddress<?> value) {
-		Objects.requireNonNull(value, "Value must not be null");
-		
-		ConstraintValidators.validateAll(
-			() -> ConstraintValidators.validateEqualTo(value, this.equalTo),
-			() -> ConstraintValidators.validateIn(value, this.in),
-			() -> IOValidators.validateIpVersion(value.toString(), this.ipVersion),
-			() -> IOValidators.validateIpType(value.toString(), this.ipType),
-			() -> IOValidators.validateInAnySubnet(value.toString(), this.inAnySubnet),
-			() -> ConstraintValidators.validateNestedConfig(value.toString(), this.stringConstraint, "String representation"),
-			() -> ConstraintValidators.validateCustom(value, this.custom)
-		);
+	public @NonNull Constraint<IpAddress<?>> compile() {
+		Constraint<String> subnets = this.inAnySubnet.map(IOValidators::compileInAnySubnet).orElseGet(ConstraintChain::unconstrained);
+		return ConstraintChain.<IpAddress<?>>builder()
+			.addEqualTo(this.equalTo)
+			.addIn(this.in)
+			.add(this.ipVersion, value -> IOValidators.validateIpVersion(value.toString(), this.ipVersion))
+			.add(this.ipType, value -> IOValidators.validateIpType(value.toString(), this.ipType))
+			.add(this.inAnySubnet, value -> subnets.validate(value.toString()))
+			.addNested(this.stringConstraint, Object::toString, "String representation")
+			.add(this.custom, value -> ConstraintValidators.validateCustom(value, this.custom))
+			.build();
 	}
 }
@@ -19,6 +19,7 @@
 package net.luis.utils.io.codec.constraint.config.io;
 
 import net.luis.utils.io.codec.constraint.config.*;
+import net.luis.utils.io.codec.constraint.config.validator.ConstraintChain;
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintValidators;
 import net.luis.utils.io.codec.constraint.config.validator.IOValidators;
 import net.luis.utils.io.codec.constraint.core.Constraint;
@@ -553,26 +554,25 @@ public record IpConstraintConfig(
 	//endregion
 	
 	@Override
-	public void validate(@NonNull String value) {
-		Objects.requireNonNull(value, "Value must not be null");
-		
-		ConstraintValidators.validateAll(
-			() -> ConstraintValidators.validateEqualTo(value, this.equalTo),
-			() -> ConstraintValidators.validateIn(value, this.in),
-			() -> ConstraintValidators.validateExtractedValue(value, this.length, String::length, "Length"),
-			() -> ConstraintValidators.validateStartsWith(value, this.startsWith),
-			() -> ConstraintValidators.validateStartsWithAny(value, this.startsWithAny),
-			() -> ConstraintValidators.validateContains(value, this.contains),
-			() -> ConstraintValidators.validateContainsAny(value, this.containsAny),
-			() -> ConstraintValidators.validateContainsAll(value, this.containsAll),
-			() -> ConstraintValidators.validateContainsOnly(value, this.containsOnly),
-			() -> ConstraintValidators.validateEndsWith(value, this.endsWith),
-			() -> ConstraintValidators.validateEndsWithAny(value, this.endsWithAny),
-			() -> ConstraintValidators.validatePattern(value, this.matches),
-			() -> IOValidators.validateIpVersion(value, this.ipVersion),
-			() -> IOValidators.validateIpType(value, this.ipType),
-			() -> IOValidators.validateInAnySubnet(value, this.inAnySubnet),
-			() -> ConstraintValidators.validateCustom(value, this.custom)
-		);
+	public @NonNull Constraint<String> compile() {
+		Constraint<String> subnets = this.inAnySubnet.map(IOValidators::compileInAnySubnet).orElseGet(ConstraintChain::unconstrained);
+		return ConstraintChain.<String>builder()
+			.addEqualTo(this.equalTo)
+			.addIn(this.in)
+			.addNested(this.length, String::length, "Length")
+			.add(this.startsWith, value -> ConstraintValidators.validateStartsWith(value, this.startsWith))
+			.add(this.startsWithAny, value -> ConstraintValidators.validateStartsWithAny(value, this.startsWithAny))
+			.add(this.contains, value -> ConstraintValidators.validateContains(value, this.contains))
+			.add(this.containsAny, value -> ConstraintValidators.validateContainsAny(value, this.containsAny))
+			.add(this.containsAll, value -> ConstraintValidators.validateContainsAll(value, this.containsAll))
+			.add(this.containsOnly, value -> ConstraintValidators.validateContainsOnly(value, this.containsOnly))
+			.add(this.endsWith, value -> ConstraintValidators.validateEndsWith(value, this.endsWith))
+			.add(this.endsWithAny, value -> ConstraintValidators.validateEndsWithAny(value, this.endsWithAny))
+			.add(this.matches, value -> ConstraintValidators.validatePattern(value, this.matches))
+			.add(this.ipVersion, value -> IOValidators.validateIpVersion(value, this.ipVersion))
+			.add(this.ipType, value -> IOValidators.validateIpType(value, this.ipType))
+			.add(this.inAnySubnet, subnets)
+			.add(this.custom, value -> ConstraintValidators.validateCustom(value, this.custom))
+			.build();
 	}
 }
@@ -19,6 +19,7 @@
 package net.luis.utils.io.codec.constraint.config.io;
 
 import net.luis.utils.io.codec.constraint.config.*;
+import net.luis.utils.io.codec.constraint.config.validator.ConstraintChain;
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintValidators;
 import net.luis.utils.io.codec.constraint.config.validator.IOValidators;
 import net.luis.utils.io.codec.constraint.core.Constraint;
@@ -212,17 +213,15 @@ public record IpNetworkConstraintConfig(
 	//endregion
 	
 	@Override
-	public void validate(@NonNull IpNetwork<?, ?> value) {
-		Objects.requireNonNull(value, "Value must not be null");
-		
-		ConstraintValidators.validateAll(
-			() -> ConstraintValidators.validateEqualTo(value, this.equalTo),
-			() -> ConstraintValidators.validateIn(value, this.in),
-			() -> IOValidators.validateIpNetworkIpVersion(value, this.ipVersion),
-			() -> ConstraintValidators.validateExtractedValue(value, this.prefixLength, IpNetwork::prefixLength, "Prefix length"),
-			() -> ConstraintValidators.validateFlag(value, this.canonical, IpNetwork::isCanonical, "Network must be in canonical form, but was: " + value.toCidrNotation()),
-			() -> ConstraintValidators.validateNestedConfig(value.toString(), this.stringConstraint, "String representation"),
-			() -> ConstraintValidators.validateCustom(value, this.custom)
-		);
+	public @NonNull Constraint<IpNetwork<?, ?>> compile() {
+		return ConstraintChain.<IpNetwork<?, ?>>builder()
+			.addEqualTo(this.equalTo)
+			.addIn(this.in)
+			.add(this.ipVersion, value -> IOValidators.validateIpNetworkIpVersion(value, this.ipVersion))
+			.addNested(this.prefixLength, IpNetwork::prefixLength, "Prefix length")
+			.addFlag(this.canonical, IpNetwork::isCanonical, value -> "Network must be in canonical form, but was: " + value.toCidrNotation())
+			.addNested(this.stringConstraint, Object::toString, "String representation")
+			.add(this.custom, value -> ConstraintValidators.validateCustom(value, this.custom))
+			.build();
 	}
 }
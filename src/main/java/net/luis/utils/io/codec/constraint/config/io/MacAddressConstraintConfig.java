@@ -20,6 +20,7 @@ package net.luis.utils.io.codec.constraint.config.io;
 
 import net.luis.utils.io.codec.constraint.config.ConstraintConfig;
 import net.luis.utils.io.codec.constraint.config.StringConstraintConfig;
+import net.luis.utils.io.codec.constraint.config.validator.ConstraintChain;
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintValidators;
 import net.luis.utils.io.codec.constraint.config.validator.IOValidators;
 import net.luis.utils.io.codec.constraint.core.Constraint;
@@ -266,19 +267,17 @@ public record MacAddressConstraintConfig(
 	//endregion
 	
 	@Override
-	public void validate(@NonNull MacAddress value) {
-		Objects.requireNonNull(value, "Value must not be null");
-		
-		ConstraintValidators.validateAll(
-			() -> ConstraintValidators.validateEqualTo(value, this.equalTo),
-			() -> ConstraintValidators.validateIn(value, this.in),
-			() -> ConstraintValidators.validateFlag(value, this.unicast, MacAddress::isUnicast, "MAC address must be unicast, but was multicast: " + value),
-			() -> ConstraintValidators.validateFlag(value, this.multicast, MacAddress::isMulticast, "MAC address must be multicast, but was unicast: " + value),
-			() -> ConstraintValidators.validateFlag(value, this.universal, MacAddress::isUniversal, "MAC address must be universally administered, but was locally administered: " + value),
-			() -> ConstraintValidators.validateFlag(value, this.local, MacAddress::isLocal, "MAC address must be locally administered, but was universally administered: " + value),
-			() -> IOValidators.validateMacAddressBroadcast(value, this.broadcast),
-			() -> ConstraintValidators.validateNestedConfig(value.toString(), this.stringConstraint, "String representation"),
-			() -> ConstraintValidators.validateCustom(value, this.custom)
-		);
+	public @NonNull Constraint<MacAddress> compile() {
+		return ConstraintChain.<MacAddress>builder()
+			.addEqualTo(this.equalTo)
+			.addIn(this.in)
+			.addFlag(this.unicast, MacAddress::isUnicast, value -> "MAC address must be unicast, but was multicast: " + value)
+			.addFlag(this.multicast, MacAddress::isMulticast, value -> "MAC address must be multicast, but was unicast: " + value)
+			.addFlag(this.universal, MacAddress::isUniversal, value -> "MAC address must be universally administered, but was locally administered: " + value)
+			.addFlag(this.local, MacAddress::isLocal, value -> "MAC address must be locally administered, but was universally administered: " + value)
+			.add(this.broadcast, value -> IOValidators.validateMacAddressBroadcast(value, this.broadcast))
+			.addNested(this.stringConstraint, MacAddress::toString, "String representation")
+			.add(this.custom, value -> ConstraintValidators.validateCustom(value, this.custom))
+			.build();
 	}
 }
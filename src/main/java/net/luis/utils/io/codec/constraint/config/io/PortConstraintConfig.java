@@ -20,6 +20,7 @@ package net.luis.utils.io.codec.constraint.config.io;
 
 import net.luis.utils.io.codec.constraint.config.ConstraintConfig;
 import net.luis.utils.io.codec.constraint.config.EnumConstraintConfig;
+import net.luis.utils.io.codec.constraint.config.validator.ConstraintChain;
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintValidators;
 import net.luis.utils.io.codec.constraint.config.validator.IOValidators;
 import net.luis.utils.io.codec.constraint.core.Constraint;
@@ -209,15 +210,13 @@ public record PortConstraintConfig(
 	//endregion
 	
 	@Override
-	public void validate(@NonNull Integer value) {
-		Objects.requireNonNull(value, "Value must not be null");
-		
-		ConstraintValidators.validateAll(
-			() -> ConstraintValidators.validateEqualTo(value, this.equalTo),
-			() -> ConstraintValidators.validateIn(value, this.in),
-			() -> IOValidators.validatePortRange(value, this.inRange),
-			() -> IOValidators.validatePortType(value, this.type),
-			() -> ConstraintValidators.validateCustom(value, this.custom)
-		);
+	public @NonNull Constraint<Integer> compile() {
+		return ConstraintChain.<Integer>builder()
+			.addEqualTo(this.equalTo)
+			.addIn(this.in)
+			.add(this.inRange, value -> IOValidators.validatePortRange(value, this.inRange))
+			.add(this.type, value -> IOValidators.validatePortType(value, this.type))
+			.add(this.custom, value -> ConstraintValidators.validateCustom(value, this.custom))
+			.build();
 	}
 }
@@ -19,6 +19,7 @@
 package net.luis.utils.io.codec.constraint.config.io;
 
 import net.luis.utils.io.codec.constraint.config.*;
+import net.luis.utils.io.codec.constraint.config.validator.ConstraintChain;
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintValidators;
 import net.luis.utils.io.codec.constraint.config.validator.IOValidators;
 import net.luis.utils.io.codec.constraint.core.Constraint;
@@ -353,24 +354,22 @@ public record QueryConstraintConfig(
 	//endregion
 	
 	@Override
-	public void validate(@NonNull Map<String, List<String>> value) {
-		Objects.requireNonNull(value, "Value must not be null");
-		
-		ConstraintValidators.validateAll(
-			() -> ConstraintValidators.validateEqualTo(value, this.equalTo),
-			() -> ConstraintValidators.validateIn(value, this.in),
-			() -> ConstraintValidators.validateExtractedValue(value, this.size, Map::size, "Size"),
-			() -> ConstraintValidators.validateRequiredKeys(value.keySet(), this.requiredKeys, "Query"),
-			() -> ConstraintValidators.validateForbiddenKeys(value.keySet(), this.forbiddenKeys, "Query"),
-			() -> ConstraintValidators.validateAllowedKeys(value.keySet(), this.allowedKeys, "Query"),
-			() -> ConstraintValidators.validateFlag(value, this.nonNullKeys, v -> v.keySet().stream().noneMatch(Objects::isNull), "Query keys must not be null"),
-			() -> IOValidators.validateQueryUniqueValues(value, this.uniqueValues),
-			() -> ConstraintValidators.validateFlag(value, this.nonNullValues, v -> v.values().stream().flatMap(List::stream).noneMatch(Objects::isNull), "Query values must not be null"),
-			() -> IOValidators.validateQueryValueConstraints(value, this.valueConstraints),
-			() -> IOValidators.validateQueryPatternValueConstraints(value, this.patternValueConstraints),
-			() -> IOValidators.validateQuerySingleValued(value, this.singleValued),
-			() -> IOValidators.validateQueryMultiValuedConstraints(value, this.multiValuedConstraints),
-			() -> ConstraintValidators.validateCustom(value, this.custom)
-		);
+	public @NonNull Constraint<Map<String, List<String>>> compile() {
+		return ConstraintChain.<Map<String, List<String>>>builder()
+			.addEqualTo(this.equalTo)
+			.addIn(this.in)
+			.addNested(this.size, Map::size, "Size")
+			.add(this.requiredKeys, value -> ConstraintValidators.validateRequiredKeys(value.keySet(), this.requiredKeys, "Query"))
+			.add(this.forbiddenKeys, value -> ConstraintValidators.validateForbiddenKeys(value.keySet(), this.forbiddenKeys, "Query"))
+			.add(this.allowedKeys, value -> ConstraintValidators.validateAllowedKeys(value.keySet(), this.allowedKeys, "Query"))
+			.addFlag(this.nonNullKeys, v -> v.keySet().stream().noneMatch(Objects::isNull), _ -> "Query keys must not be null")
+			.add(this.uniqueValues, value -> IOValidators.validateQueryUniqueValues(value, this.uniqueValues))
+			.addFlag(this.nonNullValues, v -> v.values().stream().flatMap(List::stream).noneMatch(Objects::isNull), _ -> "Query values must not be null")
+			.add(this.valueConstraints, value -> IOValidators.validateQueryValueConstraints(value, this.valueConstraints))
+			.add(this.patternValueConstraints, value -> IOValidators.validateQueryPatternValueConstraints(value, this.patternValueConstraints))
+			.add(this.singleValued, value -> IOValidators.validateQuerySingleValued(value, this.singleValued))
+			.add(this.multiValuedConstraints, value -> IOValidators.validateQueryMultiValuedConstraints(value, this.multiValuedConstraints))
+			.add(this.custom, value -> ConstraintValidators.validateCustom(value, this.custom))
+			.build();
 	}
 }
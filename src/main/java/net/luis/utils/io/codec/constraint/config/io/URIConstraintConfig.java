@@ -20,6 +20,7 @@ package net.luis.utils.io.codec.constraint.config.io;
 
 import net.luis.utils.io.codec.constraint.config.ConstraintConfig;
 import net.luis.utils.io.codec.constraint.config.StringConstraintConfig;
+import net.luis.utils.io.codec.constraint.config.validator.ConstraintChain;
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintValidators;
 import net.luis.utils.io.codec.constraint.config.validator.IOValidators;
 import net.luis.utils.io.codec.constraint.core.Constraint;
@@ -410,29 +411,27 @@ public record URIConstraintConfig(
 	//endregion
 	
 	@Override
-	public void validate(@NonNull URI value) {
-		Objects.requireNonNull(value, "Value must not be null");
-		
-		ConstraintValidators.validateAll(
-			() -> ConstraintValidators.validateEqualTo(value, this.equalTo),
-			() -> ConstraintValidators.validateIn(value, this.in),
-			() -> IOValidators.validateUriSchemeConfig(value, this.scheme),
-			() -> IOValidators.validateUriHostConfig(value, this.host),
-			() -> ConstraintValidators.validateFlag(value, this.withoutUserInfo, uri -> uri.getUserInfo() == null, "URI '" + value + "' must not have user info"),
-			() -> IOValidators.validateUriUserInfoConfig(value, this.userInfo),
-			() -> ConstraintValidators.validateFlag(value, this.withoutPort, uri -> uri.getPort() == -1, "URI '" + value + "' must not have a port"),
-			() -> IOValidators.validateUriPortConfig(value, this.port),
-			() -> ConstraintValidators.validateFlag(value, this.withoutPath, uri -> uri.getPath() == null || uri.getPath().isEmpty(), "URI '" + value + "' must not have a path"),
-			() -> IOValidators.validateUriPathConfig(value, this.path),
-			() -> ConstraintValidators.validateFlag(value, this.withoutQuery, uri -> uri.getQuery() == null, "URI '" + value + "' must not have a query"),
-			() -> IOValidators.validateUriQueryConfig(value, this.query),
-			() -> ConstraintValidators.validateFlag(value, this.withoutFragment, uri -> uri.getFragment() == null, "URI '" + value + "' must not have a fragment"),
-			() -> IOValidators.validateUriFragmentConfig(value, this.fragment),
-			() -> ConstraintValidators.validateFlag(value, this.absolute, URI::isAbsolute, "URI '" + value + "' must be absolute"),
-			() -> ConstraintValidators.validateFlag(value, this.relative, uri -> !uri.isAbsolute(), "URI '" + value + "' must be relative"),
-			() -> ConstraintValidators.validateFlag(value, this.opaque, URI::isOpaque, "URI '" + value + "' must be opaque"),
-			() -> ConstraintValidators.validateFlag(value, this.hierarchical, uri -> !uri.isOpaque(), "URI '" + value + "' must be hierarchical"),
-			() -> ConstraintValidators.validateCustom(value, this.custom)
-		);
+	public @NonNull Constraint<URI> compile() {
+		return ConstraintChain.<URI>builder()
+			.addEqualTo(this.equalTo)
+			.addIn(this.in)
+			.add(this.scheme, value -> IOValidators.validateUriSchemeConfig(value, this.scheme))
+			.add(this.host, value -> IOValidators.validateUriHostConfig(value, this.host))
+			.addFlag(this.withoutUserInfo, uri -> uri.getUserInfo() == null, value -> "URI '" + value + "' must not have user info")
+			.add(this.userInfo, value -> IOValidators.validateUriUserInfoConfig(value, this.userInfo))
+			.addFlag(this.withoutPort, uri -> uri.getPort() == -1, value -> "URI '" + value + "' must not have a port")
+			.add(this.port, value -> IOValidators.validateUriPortConfig(value, this.port))
+			.addFlag(this.withoutPath, uri -> uri.getPath() == null || uri.getPath().isEmpty(), value -> "URI '" + value + "' must not have a path")
+			.add(this.path, value -> IOValidators.validateUriPathConfig(value, this.path))
+			.addFlag(this.withoutQuery, uri -> uri.getQuery() == null, value -> "URI '" + value + "' must not have a query")
+			.add(this.query, value -> IOValidators.validateUriQueryConfig(value, this.query))
+			.addFlag(this.withoutFragment, uri -> uri.getFragment() == null, value -> "URI '" + value + "' must not have a fragment")
+			.add(this.fragment, value -> IOValidators.validateUriFragmentConfig(value, this.fragment))
+			.addFlag(this.absolute, URI::isAbsolute, value -> "URI '" + value + "' must be absolute")
+			.addFlag(this.relative, uri -> !uri.isAbsolute(), value -> "URI '" + value + "' must be relative")
+			.addFlag(this.opaque, URI::isOpaque, value -> "URI '" + value + "' must be opaque")
+			.addFlag(this.hierarchical, uri -> !uri.isOpaque(), value -> "URI '" + value + "' must be hierarchical")
+			.add(this.custom, value -> ConstraintValidators.validateCustom(value, this.custom))
+			.build();
 	}
 }
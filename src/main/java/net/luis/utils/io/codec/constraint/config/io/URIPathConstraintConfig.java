@@ -19,6 +19,7 @@
 package net.luis.utils.io.codec.constraint.config.io;
 
 import net.luis.utils.io.codec.constraint.config.*;
+import net.luis.utils.io.codec.constraint.config.validator.ConstraintChain;
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintValidators;
 import net.luis.utils.io.codec.constraint.config.validator.IOValidators;
 import net.luis.utils.io.codec.constraint.core.Constraint;
@@ -344,25 +345,23 @@ public record URIPathConstraintConfig(
 	//endregion
 	
 	@Override
-	public void validate(@NonNull String value) {
-		Objects.requireNonNull(value, "Value must not be null");
-		
-		ConstraintValidators.validateAll(
-			() -> ConstraintValidators.validateEqualTo(value, this.equalTo),
-			() -> ConstraintValidators.validateIn(value, this.in),
-			() -> ConstraintValidators.validateExtractedValue(value, this.length, String::length, "Length"),
-			() -> ConstraintValidators.validateExtractedValue(value, this.depth, IOValidators::calculateUriPathDepth, "Depth"),
-			() -> ConstraintValidators.validateFlag(value, this.absolute, p -> p.startsWith("/"), "URI path '" + value + "' must be absolute"),
-			() -> ConstraintValidators.validateFlag(value, this.relative, p -> !p.startsWith("/"), "URI path '" + value + "' must be relative"),
-			() -> ConstraintValidators.validateFlag(value, this.normalized, IOValidators::isUriPathNormalized, "URI path '" + value + "' must be normalized"),
-			() -> IOValidators.validateUriPathStringConfig(value, this.path),
-			() -> IOValidators.validateUriPathSegmentConfig(value, this.segment),
-			() -> IOValidators.validateUriPathFileNameConfig(value, this.file),
-			() -> IOValidators.validateUriPathWithoutExtension(value, this.withoutExtension),
-			() -> IOValidators.validateUriPathExtensionConfig(value, this.extension),
-			() -> IOValidators.validateUriPathAncestorOf(value, this.ancestorOf),
-			() -> IOValidators.validateUriPathDescendantOf(value, this.descendantOf),
-			() -> ConstraintValidators.validateCustom(value, this.custom)
-		);
+	public @NonNull Constraint<String> compile() {
+		return ConstraintChain.<String>builder()
+			.addEqualTo(this.equalTo)
+			.addIn(this.in)
+			.addNested(this.length, String::length, "Length")
+			.addNested(this.depth, IOValidators::calculateUriPathDepth, "Depth")
+			.addFlag(this.absolute, p -> p.startsWith("/"), value -> "URI path '" + value + "' must be absolute")
+			.addFlag(this.relative, p -> !p.startsWith("/"), value -> "URI path '" + value + "' must be relative")
+			.addFlag(this.normalized, IOValidators::isUriPathNormalized, value -> "URI path '" + value + "' must be normalized")
+			.add(this.path, value -> IOValidators.validateUriPathStringConfig(value, this.path))
+			.add(this.segment, value -> IOValidators.validateUriPathSegmentConfig(value, this.segment))
+			.add(this.file, value -> IOValidators.validateUriPathFileNameConfig(value, this.file))
+			.add(this.withoutExtension, value -> IOValidators.validateUriPathWithoutExtension(value, this.withoutExtension))
+			.add(this.extension, value -> IOValidators.validateUriPathExtensionConfig(value, this.extension))
+			.add(this.ancestorOf, value -> IOValidators.validateUriPathAncestorOf(value, this.ancestorOf))
+			.add(this.descendantOf, value -> IOValidators.validateUriPathDescendantOf(value, this.descendantOf))
+			.add(this.custom, value -> ConstraintValidators.validateCustom(value, this.custom))
+			.build();
 	}
 }
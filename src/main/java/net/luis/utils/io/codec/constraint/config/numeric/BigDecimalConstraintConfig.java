@@ -19,6 +19,7 @@
 package net.luis.utils.io.codec.constraint.config.numeric;
 
 import net.luis.utils.io.codec.constraint.config.ConstraintConfig;
+import net.luis.utils.io.codec.constraint.config.validator.ConstraintChain;
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintValidators;
 import net.luis.utils.io.codec.constraint.core.Constraint;
 import net.luis.utils.io.codec.constraint.util.Unit;
@@ -475,20 +476,20 @@ public record BigDecimalConstraintConfig(
 	//endregion
 	
 	@Override
-	public void validate(@NonNull BigDecimal value) {
-		Objects.requireNonNull(value, "Value must not be null");
-		
-		ConstraintValidators.validateAll(
-			() -> ConstraintValidators.validateEqualTo(value, this.equalTo),
-			() -> ConstraintValidators.validateIn(value, this.in),
-			() -> ConstraintValidators.validateRange(value, this.min, this.max),
-			() -> ConstraintValidators.validateSign(value, this.positive, this.negative, this.zero),
-			() -> ConstraintValidators.validatePercentage(value, this.percentage),
-			() -> ConstraintValidators.validateFlag(value, this.integral, v -> v.stripTrailingZeros().scale() <= 0, "Value '" + value + "' must be integral (no fractional part)"),
-			() -> ConstraintValidators.validateFlag(value, this.normalized, v -> v.compareTo(BigDecimal.ZERO) >= 0 && v.compareTo(BigDecimal.ONE) <= 0, "Value '" + value + "' must be normalized (between 0.0 and 1.0)"),
-			() -> ConstraintValidators.validateRange(value.scale(), this.scaleMin, this.scaleMax),
-			() -> ConstraintValidators.validateRange(value.precision(), this.precisionMin, this.precisionMax),
-			() -> ConstraintValidators.validateCustom(value, this.custom)
-		);
+	public @NonNull Constraint<BigDecimal> compile() {
+		Constraint<Integer> scale = ConstraintChain.intRange(this.scaleMin, this.scaleMax);
+		Constraint<Integer> precision = ConstraintChain.intRange(this.precisionMin, this.precisionMax);
+		return ConstraintChain.<BigDecimal>builder()
+			.addEqualTo(this.equalTo)
+			.addIn(this.in)
+			.addRange(this.min, this.max, Comparator.naturalOrder())
+			.add(this.positive.isPresent() || this.negative.isPresent() || this.zero.isPresent(), value -> ConstraintValidators.validateSign(value, this.positive, this.negative, this.zero))
+			.add(this.percentage, value -> ConstraintValidators.validatePercentage(value, this.percentage))
+			.addFlag(this.integral, v -> v.stripTrailingZeros().scale() <= 0, value -> "Value '" + value + "' must be integral (no fractional part)")
+			.addFlag(this.normalized, v -> v.compareTo(BigDecimal.ZERO) >= 0 && v.compareTo(BigDecimal.ONE) <= 0, value -> "Value '" + value + "' must be normalized (between 0.0 and 1.0)")
+			.add(this.scaleMin.isPresent() || this.scaleMax.isPresent(), value -> scale.validate(value.scale()))
+			.add(this.precisionMin.isPresent() || this.precisionMax.isPresent(), value -> precision.validate(value.precision()))
+			.add(this.custom, value -> ConstraintValidators.validateCustom(value, this.custom))
+			.build();
 	}
 }
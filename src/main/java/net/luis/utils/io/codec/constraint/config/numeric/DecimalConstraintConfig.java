@@ -19,6 +19,7 @@
 package net.luis.utils.io.codec.constraint.config.numeric;
 
 import net.luis.utils.io.codec.constraint.config.ConstraintConfig;
+import net.luis.utils.io.codec.constraint.config.validator.ConstraintChain;
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintValidators;
 import net.luis.utils.io.codec.constraint.core.Constraint;
 import net.luis.utils.io.codec.constraint.util.Unit;
@@ -378,20 +379,18 @@ public record DecimalConstraintConfig<T extends Number & Comparable<T>>(
 	//endregion
 	
 	@Override
-	public void validate(@NonNull T value) {
-		Objects.requireNonNull(value, "Value must not be null");
-		
-		ConstraintValidators.validateAll(
-			() -> ConstraintValidators.validateEqualTo(value, this.equalTo),
-			() -> ConstraintValidators.validateIn(value, this.in),
-			() -> ConstraintValidators.validateRange(value, this.min, this.max),
-			() -> ConstraintValidators.validateSign(value, this.positive, this.negative, this.zero),
-			() -> ConstraintValidators.validatePercentage(value, this.percentage),
-			() -> ConstraintValidators.validateFlag(value, this.finite, v -> Double.isFinite(v.doubleValue()), "Value '" + value + "' must be finite"),
-			() -> ConstraintValidators.validateFlag(value, this.notNaN, v -> !Double.isNaN(v.doubleValue()), "Value '" + value + "' must not be NaN"),
-			() -> ConstraintValidators.validateFlag(value, this.integral, v -> v.doubleValue() == Math.floor(v.doubleValue()), "Value '" + value + "' must be integral (no fractional part)"),
-			() -> ConstraintValidators.validateFlag(value, this.normalized, v -> v.doubleValue() >= 0.0 && v.doubleValue() <= 1.0, "Value '" + value + "' must be normalized (between 0.0 and 1.0)"),
-			() -> ConstraintValidators.validateCustom(value, this.custom)
-		);
+	public @NonNull Constraint<T> compile() {
+		return ConstraintChain.<T>builder()
+			.addEqualTo(this.equalTo)
+			.addIn(this.in)
+			.addRange(this.min, this.max, Comparator.naturalOrder())
+			.add(this.positive.isPresent() || this.negative.isPresent() || this.zero.isPresent(), value -> ConstraintValidators.validateSign(value, this.positive, this.negative, this.zero))
+			.add(this.percentage, value -> ConstraintValidators.validatePercentage(value, this.percentage))
+			.addFlag(this.finite, v -> Double.isFinite(v.doubleValue()), value -> "Value '" + value + "' must be finite")
+			.addFlag(this.notNaN, v -> !Double.isNaN(v.doubleValue()), value -> "Value '" + value + "' must not be NaN")
+			.addFlag(this.integral, v -> v.doubleValue() == Math.floor(v.doubleValue()), value -> "Value '" + value + "' must be integral (no fractional part)")
+			.addFlag(this.normalized, v -> v.doubleValue() >= 0.0 && v.doubleValue() <= 1.0, value -> "Value '" + value + "' must be normalized (between 0.0 and 1.0)")
+			.add(this.custom, value -> ConstraintValidators.validateCustom(value, this.custom))
+			.build();
 	}
 }
@@ -19,6 +19,7 @@
 package net.luis.utils.io.codec.constraint.config.numeric;
 
 import net.luis.utils.io.codec.constraint.config.ConstraintConfig;
+import net.luis.utils.io.codec.constraint.config.validator.ConstraintChain;
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintValidators;
 import net.luis.utils.io.codec.constraint.core.Constraint;
 import net.luis.utils.io.codec.constraint.util.Unit;
@@ -404,19 +405,17 @@ public record IntegerConstraintConfig<T extends Number & Comparable<T>>(
 	//endregion
 	
 	@Override
-	public void validate(@NonNull T value) {
-		Objects.requireNonNull(value, "Value must not be null");
-		
-		ConstraintValidators.validateAll(
-			() -> ConstraintValidators.validateEqualTo(value, this.equalTo),
-			() -> ConstraintValidators.validateIn(value, this.in),
-			() -> ConstraintValidators.validateRange(value, this.min, this.max),
-			() -> ConstraintValidators.validateSign(value, this.positive, this.negative, this.zero),
-			() -> ConstraintValidators.validatePercentage(value, this.percentage),
-			() -> ConstraintValidators.validateParity(value.longValue(), this.even, this.odd),
-			() -> ConstraintValidators.validateDivisibleBy(value.longValue(), this.divisibleBy),
-			() -> ConstraintValidators.validatePowerOf(value.longValue(), this.powerOf),
-			() -> ConstraintValidators.validateCustom(value, this.custom)
-		);
+	public @NonNull Constraint<T> compile() {
+		return ConstraintChain.<T>builder()
+			.addEqualTo(this.equalTo)
+			.addIn(this.in)
+			.addRange(this.min, this.max, Comparator.naturalOrder())
+			.add(this.positive.isPresent() || this.negative.isPresent() || this.zero.isPresent(), value -> ConstraintValidators.validateSign(value, this.positive, this.negative, this.zero))
+			.add(this.percentage, value -> ConstraintValidators.validatePercentage(value, this.percentage))
+			.add(this.even.isPresent() || this.odd.isPresent(), value -> ConstraintValidators.validateParity(value.longValue(), this.even, this.odd))
+			.add(this.divisibleBy, value -> ConstraintValidators.validateDivisibleBy(value.longValue(), this.divisibleBy))
+			.add(this.powerOf, value -> ConstraintValidators.validatePowerOf(value.longValue(), this.powerOf))
+			.add(this.custom, value -> ConstraintValidators.validateCustom(value, this.custom))
+			.build();
 	}
 }
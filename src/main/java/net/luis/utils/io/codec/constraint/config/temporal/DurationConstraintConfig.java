@@ -20,6 +20,7 @@ package net.luis.utils.io.codec.constraint.config.temporal;
 
 import net.luis.utils.io.codec.constraint.config.ConstraintConfig;
 import net.luis.utils.io.codec.constraint.config.numeric.NumericConstraintConfig;
+import net.luis.utils.io.codec.constraint.config.validator.ConstraintChain;
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintValidators;
 import net.luis.utils.io.codec.constraint.config.validator.TemporalValidators;
 import net.luis.utils.io.codec.constraint.core.Constraint;
@@ -434,22 +435,20 @@ public record DurationConstraintConfig(
 	//endregion
 	
 	@Override
-	public void validate(@NonNull Duration value) {
-		Objects.requireNonNull(value, "Value must not be null");
-		
-		ConstraintValidators.validateAll(
-			() -> ConstraintValidators.validateEqualTo(value, this.equalTo),
-			() -> ConstraintValidators.validateIn(value, this.in),
-			() -> ConstraintValidators.validateRange(value, this.min, this.max),
-			() -> TemporalValidators.validateDurationSign(value, this.positive, this.negative, this.zero),
-			() -> TemporalValidators.validateDurationWithinLast(value, this.withinLast),
-			() -> TemporalValidators.validateDurationWithinNext(value, this.withinNext),
-			() -> ConstraintValidators.validateNumericField((int) value.toHours(), this.hour, "hour"),
-			() -> ConstraintValidators.validateNumericField((int) (value.toMinutes() % 60), this.minute, "minute"),
-			() -> ConstraintValidators.validateNumericField((int) (value.getSeconds() % 60), this.second, "second"),
-			() -> ConstraintValidators.validateNumericField((int) (value.toMillis() % 1000), this.millisecond, "millisecond"),
-			() -> ConstraintValidators.validateNumericField(value.getNano(), this.nanosecond, "nanosecond"),
-			() -> ConstraintValidators.validateCustom(value, this.custom)
-		);
+	public @NonNull Constraint<Duration> compile() {
+		return ConstraintChain.<Duration>builder()
+			.addEqualTo(this.equalTo)
+			.addIn(this.in)
+			.addRange(this.min, this.max, Comparator.naturalOrder())
+			.add(this.positive.isPresent() || this.negative.isPresent() || this.zero.isPresent(), value -> TemporalValidators.validateDurationSign(value, this.positive, this.negative, this.zero))
+			.add(this.withinLast, value -> TemporalValidators.validateDurationWithinLast(value, this.withinLast))
+			.add(this.withinNext, value -> TemporalValidators.validateDurationWithinNext(value, this.withinNext))
+			.add(this.hour, value -> ConstraintValidators.validateNumericField((int) value.toHours(), this.hour, "hour"))
+			.add(this.minute, value -> ConstraintValidators.validateNumericField((int) (value.toMinutes() % 60), this.minute, "minute"))
+			.add(this.second, value -> ConstraintValidators.validateNumericField((int) (value.getSeconds() % 60), this.second, "second"))
+			.add(this.millisecond, value -> ConstraintValidators.validateNumericField((int) (value.toMillis() % 1000), this.millisecond, "millisecond"))
+			.add(this.nanosecond, value -> ConstraintValidators.validateNumericField(value.getNano(), this.nanosecond, "nanosecond"))
+			.add(this.custom, value -> ConstraintValidators.validateCustom(value, this.custom))
+			.build();
 	}
 }
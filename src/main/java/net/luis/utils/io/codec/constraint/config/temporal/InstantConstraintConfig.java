@@ -19,6 +19,7 @@
 package net.luis.utils.io.codec.constraint.config.temporal;
 
 import net.luis.utils.io.codec.constraint.config.ConstraintConfig;
+import net.luis.utils.io.codec.constraint.config.validator.ConstraintChain;
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintValidators;
 import net.luis.utils.io.codec.constraint.core.Constraint;
 import net.luis.utils.util.Pair;
@@ -280,16 +281,14 @@ public record InstantConstraintConfig(
 	//endregion
 	
 	@Override
-	public void validate(@NonNull Instant value) {
-		Objects.requireNonNull(value, "Value must not be null");
-		
-		ConstraintValidators.validateAll(
-			() -> ConstraintValidators.validateEqualTo(value, this.equalTo),
-			() -> ConstraintValidators.validateIn(value, this.in),
-			() -> ConstraintValidators.validateRange(value, this.after, this.before),
-			() -> ConstraintValidators.validateWithinLast(value, this.withinLast, Instant::now, Instant::minus, "Instant"),
-			() -> ConstraintValidators.validateWithinNext(value, this.withinNext, Instant::now, Instant::plus, "Instant"),
-			() -> ConstraintValidators.validateCustom(value, this.custom)
-		);
+	public @NonNull Constraint<Instant> compile() {
+		return ConstraintChain.<Instant>builder()
+			.addEqualTo(this.equalTo)
+			.addIn(this.in)
+			.addRange(this.after, this.before, Comparator.naturalOrder())
+			.add(this.withinLast, value -> ConstraintValidators.validateWithinLast(value, this.withinLast, Instant::now, Instant::minus, "Instant"))
+			.add(this.withinNext, value -> ConstraintValidators.validateWithinNext(value, this.withinNext, Instant::now, Instant::plus, "Instant"))
+			.add(this.custom, value -> ConstraintValidators.validateCustom(value, this.custom))
+			.build();
 	}
 }
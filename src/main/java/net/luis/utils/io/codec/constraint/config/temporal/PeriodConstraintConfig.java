@@ -20,6 +20,7 @@ package net.luis.utils.io.codec.constraint.config.temporal;
 
 import net.luis.utils.io.codec.constraint.config.ConstraintConfig;
 import net.luis.utils.io.codec.constraint.config.numeric.NumericConstraintConfig;
+import net.luis.utils.io.codec.constraint.config.validator.ConstraintChain;
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintValidators;
 import net.luis.utils.io.codec.constraint.config.validator.TemporalValidators;
 import net.luis.utils.io.codec.constraint.core.Constraint;
@@ -360,18 +361,16 @@ public record PeriodConstraintConfig(
 	//endregion
 	
 	@Override
-	public void validate(@NonNull Period value) {
-		Objects.requireNonNull(value, "Value must not be null");
-		
-		ConstraintValidators.validateAll(
-			() -> ConstraintValidators.validateEqualTo(value, this.equalTo),
-			() -> ConstraintValidators.validateIn(value, this.in),
-			() -> TemporalValidators.validatePeriodRange(value, this.min, this.max),
-			() -> TemporalValidators.validatePeriodSign(value, this.positive, this.negative, this.zero),
-			() -> ConstraintValidators.validateNestedConfig(value.getDays(), this.day, "Day"),
-			() -> ConstraintValidators.validateNestedConfig(value.getMonths(), this.month, "Month"),
-			() -> ConstraintValidators.validateNestedConfig(value.getYears(), this.year, "Year"),
-			() -> ConstraintValidators.validateCustom(value, this.custom)
-		);
+	public @NonNull Constraint<Period> compile() {
+		return ConstraintChain.<Period>builder()
+			.addEqualTo(this.equalTo)
+			.addIn(this.in)
+			.add(this.min.isPresent() || this.max.isPresent(), value -> TemporalValidators.validatePeriodRange(value, this.min, this.max))
+			.add(this.positive.isPresent() || this.negative.isPresent() || this.zero.isPresent(), value -> TemporalValidators.validatePeriodSign(value, this.positive, this.negative, this.zero))
+			.addNested(this.day, Period::getDays, "Day")
+			.addNested(this.month, Period::getMonths, "Month")
+			.addNested(this.year, Period::getYears, "Year")
+			.add(this.custom, value -> ConstraintValidators.validateCustom(value, this.custom))
+			.build();
 	}
 }
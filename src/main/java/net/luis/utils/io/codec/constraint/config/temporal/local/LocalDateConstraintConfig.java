@@ -21,6 +21,7 @@ package net.luis.utils.io.codec.constraint.config.temporal.local;
 import net.luis.utils.io.codec.constraint.config.ConstraintConfig;
 import net.luis.utils.io.codec.constraint.config.EnumConstraintConfig;
 import net.luis.utils.io.codec.constraint.config.numeric.NumericConstraintConfig;
+import net.luis.utils.io.codec.constraint.config.validator.ConstraintChain;
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintValidators;
 import net.luis.utils.io.codec.constraint.core.Constraint;
 import net.luis.utils.util.Pair;
@@ -397,23 +398,21 @@ public record LocalDateConstraintConfig(
 	//endregion
 	
 	@Override
-	public void validate(@NonNull LocalDate value) {
-		Objects.requireNonNull(value, "Value must not be null");
-		
-		ConstraintValidators.validateAll(
-			() -> ConstraintValidators.validateEqualTo(value, this.equalTo),
-			() -> ConstraintValidators.validateIn(value, this.in),
-			() -> ConstraintValidators.validateRange(value, this.after, this.before, ChronoLocalDate::compareTo),
-			() -> ConstraintValidators.validateWithinLast(value, this.withinLast, LocalDate::now, (t, d) -> t.minusDays(d.toDays()), "Local date"),
-			() -> ConstraintValidators.validateWithinNext(value, this.withinNext, LocalDate::now, (t, d) -> t.plusDays(d.toDays()), "Local date"),
-			() -> ConstraintValidators.validateNestedConfig(value.getDayOfWeek(), this.dayOfWeek, "Day of week"),
-			() -> ConstraintValidators.validateNumericField(value.getDayOfMonth(), this.dayOfMonth, "day of week"),
-			() -> ConstraintValidators.validateNumericField(value.getDayOfYear(), this.dayOfYear, "dayOfYear"),
-			() -> ConstraintValidators.validateNumericField(value.get(WeekFields.ISO.weekOfMonth()), this.weekOfMonth, "week of month"),
-			() -> ConstraintValidators.validateNumericField(value.get(WeekFields.ISO.weekOfWeekBasedYear()), this.weekOfYear, "week of year"),
-			() -> ConstraintValidators.validateNestedConfig(value.getMonth(), this.month, "Month"),
-			() -> ConstraintValidators.validateNumericField(value.getYear(), this.year, "year"),
-			() -> ConstraintValidators.validateCustom(value, this.custom)
-		);
+	public @NonNull Constraint<LocalDate> compile() {
+		return ConstraintChain.<LocalDate>builder()
+			.addEqualTo(this.equalTo)
+			.addIn(this.in)
+			.addRange(this.after, this.before, ChronoLocalDate::compareTo)
+			.add(this.withinLast, value -> ConstraintValidators.validateWithinLast(value, this.withinLast, LocalDate::now, (t, d) -> t.minusDays(d.toDays()), "Local date"))
+			.add(this.withinNext, value -> ConstraintValidators.validateWithinNext(value, this.withinNext, LocalDate::now, (t, d) -> t.plusDays(d.toDays()), "Local date"))
+			.addNested(this.dayOfWeek, LocalDate::getDayOfWeek, "Day of week")
+			.add(this.dayOfMonth, value -> ConstraintValidators.validateNumericField(value.getDayOfMonth(), this.dayOfMonth, "day of week"))
+			.add(this.dayOfYear, value -> ConstraintValidators.validateNumericField(value.getDayOfYear(), this.dayOfYear, "dayOfYear"))
+			.add(this.weekOfMonth, value -> ConstraintValidators.validateNumericField(value.get(WeekFields.ISO.weekOfMonth()), this.weekOfMonth, "week of month"))
+			.add(this.weekOfYear, value -> ConstraintValidators.validateNumericField(value.get(WeekFields.ISO.weekOfWeekBasedYear()), this.weekOfYear, "week of year"))
+			.addNested(this.month, LocalDate::getMonth, "Month")
+			.add(this.year, value -> ConstraintValidators.validateNumericField(value.getYear(), this.year, "year"))
+			.add(this.custom, value -> ConstraintValidators.validateCustom(value, this.custom))
+			.build();
 	}
 }
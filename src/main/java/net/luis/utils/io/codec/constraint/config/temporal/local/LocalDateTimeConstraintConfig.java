@@ -21,6 +21,7 @@ package net.luis.utils.io.codec.constraint.config.temporal.local;
 import net.luis.utils.io.codec.constraint.config.ConstraintConfig;
 import net.luis.utils.io.codec.constraint.config.EnumConstraintConfig;
 import net.luis.utils.io.codec.constraint.config.numeric.NumericConstraintConfig;
+import net.luis.utils.io.codec.constraint.config.validator.ConstraintChain;
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintValidators;
 import net.luis.utils.io.codec.constraint.core.Constraint;
 import net.luis.utils.util.Pair;
@@ -465,28 +466,26 @@ public record LocalDateTimeConstraintConfig(
 	//endregion
 	
 	@Override
-	public void validate(@NonNull LocalDateTime value) {
-		Objects.requireNonNull(value, "Value must not be null");
-		
-		ConstraintValidators.validateAll(
-			() -> ConstraintValidators.validateEqualTo(value, this.equalTo),
-			() -> ConstraintValidators.validateIn(value, this.in),
-			() -> ConstraintValidators.validateRange(value, this.after, this.before, ChronoLocalDateTime::compareTo),
-			() -> ConstraintValidators.validateWithinLast(value, this.withinLast, LocalDateTime::now, LocalDateTime::minus, "Local date time"),
-			() -> ConstraintValidators.validateWithinNext(value, this.withinNext, LocalDateTime::now, LocalDateTime::plus, "Local date time"),
-			() -> ConstraintValidators.validateNestedConfig(value.getDayOfWeek(), this.dayOfWeek, "Day of week"),
-			() -> ConstraintValidators.validateNumericField(value.getDayOfMonth(), this.dayOfMonth, "day of month"),
-			() -> ConstraintValidators.validateNumericField(value.getDayOfYear(), this.dayOfYear, "day of year"),
-			() -> ConstraintValidators.validateNumericField(value.get(WeekFields.ISO.weekOfMonth()), this.weekOfMonth, "week of month"),
-			() -> ConstraintValidators.validateNumericField(value.get(WeekFields.ISO.weekOfWeekBasedYear()), this.weekOfYear, "week of year"),
-			() -> ConstraintValidators.validateNestedConfig(value.getMonth(), this.month, "Month"),
-			() -> ConstraintValidators.validateNumericField(value.getYear(), this.year, "year"),
-			() -> ConstraintValidators.validateNumericField(value.getHour(), this.hour, "hour"),
-			() -> ConstraintValidators.validateNumericField(value.getMinute(), this.minute, "minute"),
-			() -> ConstraintValidators.validateNumericField(value.getSecond(), this.second, "second"),
-			() -> ConstraintValidators.validateNumericField(value.getNano() / 1_000_000, this.millisecond, "millisecond"),
-			() -> ConstraintValidators.validateNumericField(value.getNano(), this.nanosecond, "nanosecond"),
-			() -> ConstraintValidators.validateCustom(value, this.custom)
-		);
+	public @NonNull Constraint<LocalDateTime> compile() {
+		return ConstraintChain.<LocalDateTime>builder()
+			.addEqualTo(this.equalTo)
+			.addIn(this.in)
+			.addRange(this.after, this.before, ChronoLocalDateTime::compareTo)
+			.add(this.withinLast, value -> ConstraintValidators.validateWithinLast(value, this.withinLast, LocalDateTime::now, LocalDateTime::minus, "Local date time"))
+			.add(this.withinNext, value -> ConstraintValidators.validateWithinNext(value, this.withinNext, LocalDateTime::now, LocalDateTime::plus, "Local date time"))
+			.addNested(this.dayOfWeek, LocalDateTime::getDayOfWeek, "Day of week")
+			.add(this.dayOfMonth, value -> ConstraintValidators.validateNumericField(value.getDayOfMonth(), this.dayOfMonth, "day of month"))
+			.add(this.dayOfYear, value -> ConstraintValidators.validateNumericField(value.getDayOfYear(), this.dayOfYear, "day of year"))
+			.add(this.weekOfMonth, value -> ConstraintValidators.validateNumericField(value.get(WeekFields.ISO.weekOfMonth()), this.weekOfMonth, "week of month"))
+			.add(this.weekOfYear, value -> ConstraintValidators.validateNumericField(value.get(WeekFields.ISO.weekOfWeekBasedYear()), this.weekOfYear, "week of year"))
+			.addNested(this.month, LocalDateTime::getMonth, "Month")
+			.add(this.year, value -> ConstraintValidators.validateNumericField(value.getYear(), this.year, "year"))
+			.add(this.hour, value -> ConstraintValidators.validateNumericField(value.getHour(), this.hour, "hour"))
+			.add(this.minute, value -> ConstraintValidators.validateNumericField(value.getMinute(), this.minute, "minute"))
+			.add(this.second, value -> ConstraintValidators.validateNumericField(value.getSecond(), this.second, "second"))
+			.add(this.millisecond, value -> ConstraintValidators.validateNumericField(value.getNano() / 1_000_000, this.millisecond, "millisecond"))
+			.add(this.nanosecond, value -> ConstraintValidators.validateNumericField(value.getNano(), this.nanosecond, "nanosecond"))
+			.add(this.custom, value -> ConstraintValidators.validateCustom(value, this.custom))
+			.build();
 	}
 }
@@ -20,6 +20,7 @@ package net.luis.utils.io.codec.constraint.config.temporal.local;
 
 import net.luis.utils.io.codec.constraint.config.ConstraintConfig;
 import net.luis.utils.io.codec.constraint.config.numeric.NumericConstraintConfig;
+import net.luis.utils.io.codec.constraint.config.validator.ConstraintChain;
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintValidators;
 import net.luis.utils.io.codec.constraint.core.Constraint;
 import net.luis.utils.util.Pair;
@@ -363,21 +364,19 @@ public record LocalTimeConstraintConfig(
 	//endregion
 	
 	@Override
-	public void validate(@NonNull LocalTime value) {
-		Objects.requireNonNull(value, "Value must not be null");
-		
-		ConstraintValidators.validateAll(
-			() -> ConstraintValidators.validateEqualTo(value, this.equalTo),
-			() -> ConstraintValidators.validateIn(value, this.in),
-			() -> ConstraintValidators.validateRange(value, this.after, this.before),
-			() -> ConstraintValidators.validateWithinLast(value, this.withinLast, LocalTime::now, LocalTime::minus, "Local time"),
-			() -> ConstraintValidators.validateWithinNext(value, this.withinNext, LocalTime::now, LocalTime::plus, "Local time"),
-			() -> ConstraintValidators.validateNumericField(value.getHour(), this.hour, "hour"),
-			() -> ConstraintValidators.validateNumericField(value.getMinute(), this.minute, "minute"),
-			() -> ConstraintValidators.validateNumericField(value.getSecond(), this.second, "second"),
-			() -> ConstraintValidators.validateNumericField(value.getNano() / 1_000_000, this.millisecond, "millisecond"),
-			() -> ConstraintValidators.validateNumericField(value.getNano(), this.nanosecond, "nanosecond"),
-			() -> ConstraintValidators.validateCustom(value, this.custom)
-		);
+	public @NonNull Constraint<LocalTime> compile() {
+		return ConstraintChain.<LocalTime>builder()
+			.addEqualTo(this.equalTo)
+			.addIn(this.in)
+			.addRange(this.after, this.before, Comparator.naturalOrder())
+			.add(this.withinLast, value -> ConstraintValidators.validateWithinLast(value, this.withinLast, LocalTime::now, LocalTime::minus, "Local time"))
+			.add(this.withinNext, value -> ConstraintValidators.validateWithinNext(value, this.withinNext, LocalTime::now, LocalTime::plus, "Local time"))
+			.add(this.hour, value -> ConstraintValidators.validateNumericField(value.getHour(), this.hour, "hour"))
+			.add(this.minute, value -> ConstraintValidators.validateNumericField(value.getMinute(), this.minute, "minute"))
+			.add(this.second, value -> ConstraintValidators.validateNumericField(value.getSecond(), this.second, "second"))
+			.add(this.millisecond, value -> ConstraintValidators.validateNumericField(value.getNano() / 1_000_000, this.millisecond, "millisecond"))
+			.add(this.nanosecond, value -> ConstraintValidators.validateNumericField(value.getNano(), this.nanosecond, "nanosecond"))
+			.add(this.custom, value -> ConstraintValidators.validateCustom(value, this.custom))
+			.build();
 	}
 }
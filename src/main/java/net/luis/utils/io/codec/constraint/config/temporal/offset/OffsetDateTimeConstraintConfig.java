@@ -22,6 +22,7 @@ import net.luis.utils.io.codec.constraint.config.ConstraintConfig;
 import net.luis.utils.io.codec.constraint.config.EnumConstraintConfig;
 import net.luis.utils.io.codec.constraint.config.numeric.NumericConstraintConfig;
 import net.luis.utils.io.codec.constraint.config.temporal.zoned.ZoneOffsetConstraintConfig;
+import net.luis.utils.io.codec.constraint.config.validator.ConstraintChain;
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintValidators;
 import net.luis.utils.io.codec.constraint.core.Constraint;
 import net.luis.utils.util.Pair;
@@ -481,29 +482,27 @@ public record OffsetDateTimeConstraintConfig(
 	//endregion
 	
 	@Override
-	public void validate(@NonNull OffsetDateTime value) {
-		Objects.requireNonNull(value, "Value must not be null");
-		
-		ConstraintValidators.validateAll(
-			() -> ConstraintValidators.validateEqualTo(value, this.equalTo),
-			() -> ConstraintValidators.validateIn(value, this.in),
-			() -> ConstraintValidators.validateRange(value, this.after, this.before),
-			() -> ConstraintValidators.validateWithinLast(value, this.withinLast, OffsetDateTime::now, OffsetDateTime::minus, "Offset date time"),
-			() -> ConstraintValidators.validateWithinNext(value, this.withinNext, OffsetDateTime::now, OffsetDateTime::plus, "Offset date time"),
-			() -> ConstraintValidators.validateNestedConfig(value.getDayOfWeek(), this.dayOfWeek, "Day of week"),
-			() -> ConstraintValidators.validateNumericField(value.getDayOfMonth(), this.dayOfMonth, "day of month"),
-			() -> ConstraintValidators.validateNumericField(value.getDayOfYear(), this.dayOfYear, "day of year"),
-			() -> ConstraintValidators.validateNumericField(value.get(WeekFields.ISO.weekOfMonth()), this.weekOfMonth, "week of month"),
-			() -> ConstraintValidators.validateNumericField(value.get(WeekFields.ISO.weekOfWeekBasedYear()), this.weekOfYear, "week of year"),
-			() -> ConstraintValidators.validateNestedConfig(value.getMonth(), this.month, "Month"),
-			() -> ConstraintValidators.validateNumericField(value.getYear(), this.year, "year"),
-			() -> ConstraintValidators.validateNumericField(value.getHour(), this.hour, "hour"),
-			() -> ConstraintValidators.validateNumericField(value.getMinute(), this.minute, "minute"),
-			() -> ConstraintValidators.validateNumericField(value.getSecond(), this.second, "second"),
-			() -> ConstraintValidators.validateNumericField(value.getNano() / 1_000_000, this.millisecond, "millisecond"),
-			() -> ConstraintValidators.validateNumericField(value.getNano(), this.nanosecond, "nanosecond"),
-			() -> ConstraintValidators.validateNestedConfig(value.getOffset(), this.offset, "Offset"),
-			() -> ConstraintValidators.validateCustom(value, this.custom)
-		);
+	public @NonNull Constraint<OffsetDateTime> compile() {
+		return ConstraintChain.<OffsetDateTime>builder()
+			.addEqualTo(this.equalTo)
+			.addIn(this.in)
+			.addRange(this.after, this.before, Comparator.naturalOrder())
+			.add(this.withinLast, value -> ConstraintValidators.validateWithinLast(value, this.withinLast, OffsetDateTime::now, OffsetDateTime::minus, "Offset date time"))
+			.add(this.withinNext, value -> ConstraintValidators.validateWithinNext(value, this.withinNext, OffsetDateTime::now, OffsetDateTime::plus, "Offset date time"))
+			.addNested(this.dayOfWeek, OffsetDateTime::getDayOfWeek, "Day of week")
+			.add(this.dayOfMonth, value -> ConstraintValidators.validateNumericField(value.getDayOfMonth(), this.dayOfMonth, "day of month"))
+			.add(this.dayOfYear, value -> ConstraintValidators.validateNumericField(value.getDayOfYear(), this.dayOfYear, "day of year"))
+			.add(this.weekOfMonth, value -> ConstraintValidators.validateNumericField(value.get(WeekFields.ISO.weekOfMonth()), this.weekOfMonth, "week of month"))
+			.add(this.weekOfYear, value -> ConstraintValidators.validateNumericField(value.get(WeekFields.ISO.weekOfWeekBasedYear()), this.weekOfYear, "week of year"))
+			.addNested(this.month, OffsetDateTime::getMonth, "Month")
+			.add(this.year, value -> ConstraintValidators.validateNumericField(value.getYear(), this.year, "year"))
+			.add(this.hour, value -> ConstraintValidators.validateNumericField(value.getHour(), this.hour, "hour"))
+			.add(this.minute, value -> ConstraintValidators.validateNumericField(value.getMinute(), this.minute, "minute"))
+			.add(this.second, value -> ConstraintValidators.validateNumericField(value.getSecond(), this.second, "second"))
+			.add(this.millisecond, value -> ConstraintValidators.validateNumericField(value.getNano() / 1_000_000, this.millisecond, "millisecond"))
+			.add(this.nanosecond, value -> ConstraintValidators.validateNumericField(value.getNano(), this.nanosecond, "nanosecond"))
+			.addNested(this.offset, OffsetDateTime::getOffset, "Offset")
+			.add(this.custom, value -> ConstraintValidators.validateCustom(value, this.custom))
+			.build();
 	}
 }
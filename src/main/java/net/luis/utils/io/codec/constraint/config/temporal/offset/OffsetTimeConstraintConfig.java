@@ -21,6 +21,7 @@ package net.luis.utils.io.codec.constraint.config.temporal.offset;
 import net.luis.utils.io.codec.constraint.config.ConstraintConfig;
 import net.luis.utils.io.codec.constraint.config.numeric.NumericConstraintConfig;
 import net.luis.utils.io.codec.constraint.config.temporal.zoned.ZoneOffsetConstraintConfig;
+import net.luis.utils.io.codec.constraint.config.validator.ConstraintChain;
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintValidators;
 import net.luis.utils.io.codec.constraint.core.Constraint;
 import net.luis.utils.util.Pair;
@@ -368,21 +369,20 @@ public record OffsetTimeConstraintConfig(
 	//endregion
 	
 	@Override
-	public void validate(@NonNull OffsetTime value) {
-		Objects.requireNonNull(value, "Value must not be null");
-		ConstraintValidators.validateAll(
-			() -> ConstraintValidators.validateEqualTo(value, this.equalTo),
-			() -> ConstraintValidators.validateIn(value, this.in),
-			() -> ConstraintValidators.validateRange(value, this.after, this.before),
-			() -> ConstraintValidators.validateWithinLast(value, this.withinLast, OffsetTime::now, OffsetTime::minus, "Offset time"),
-			() -> ConstraintValidators.validateWithinNext(value, this.withinNext, OffsetTime::now, OffsetTime::plus, "Offset time"),
-			() -> ConstraintValidators.validateNumericField(value.getHour(), this.hour, "hour"),
-			() -> ConstraintValidators.validateNumericField(value.getMinute(), this.minute, "minute"),
-			() -> ConstraintValidators.validateNumericField(value.getSecond(), this.second, "second"),
-			() -> ConstraintValidators.validateNumericField(value.getNano() / 1_000_000, this.millisecond, "millisecond"),
-			() -> ConstraintValidators.validateNumericField(value.getNano(), this.nanosecond, "nanosecond"),
-			() -> ConstraintValidators.validateNestedConfig(value.getOffset(), this.offset, "Offset"),
-			() -> ConstraintValidators.validateCustom(value, this.custom)
-		);
+	public @NonNull Constraint<OffsetTime> compile() {
+		return ConstraintChain.<OffsetTime>builder()
+			.addEqualTo(this.equalTo)
+			.addIn(this.in)
+			.addRange(this.after, this.before, Comparator.naturalOrder())
+			.add(this.withinLast, value -> ConstraintValidators.validateWithinLast(value, this.withinLast, OffsetTime::now, OffsetTime::minus, "Offset time"))
+			.add(this.withinNext, value -> ConstraintValidators.validateWithinNext(value, this.withinNext, OffsetTime::now, OffsetTime::plus, "Offset time"))
+			.add(this.hour, value -> ConstraintValidators.validateNumericField(value.getHour(), this.hour, "hour"))
+			.add(this.minute, value -> ConstraintValidators.validateNumericField(value.getMinute(), this.minute, "minute"))
+			.add(this.second, value -> ConstraintValidators.validateNumericField(value.getSecond(), this.second, "second"))
+			.add(this.millisecond, value -> ConstraintValidators.validateNumericField(value.getNano() / 1_000_000, this.millisecond, "millisecond"))
+			.add(this.nanosecond, value -> ConstraintValidators.validateNumericField(value.getNano(), this.nanosecond, "nanosecond"))
+			.addNested(this.offset, OffsetTime::getOffset, "Offset")
+			.add(this.custom, value -> ConstraintValidators.validateCustom(value, this.custom))
+			.build();
 	}
 }
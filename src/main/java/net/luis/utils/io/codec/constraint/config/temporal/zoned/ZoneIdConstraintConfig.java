@@ -20,6 +20,7 @@ package net.luis.utils.io.codec.constraint.config.temporal.zoned;
 
 import net.luis.utils.io.codec.constraint.config.ConstraintConfig;
 import net.luis.utils.io.codec.constraint.config.StringConstraintConfig;
+import net.luis.utils.io.codec.constraint.config.validator.ConstraintChain;
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintValidators;
 import net.luis.utils.io.codec.constraint.core.Constraint;
 import net.luis.utils.io.codec.constraint.util.Unit;
@@ -264,20 +265,19 @@ public record ZoneIdConstraintConfig(
 	//endregion
 	
 	@Override
-	public void validate(@NonNull ZoneId value) {
-		Objects.requireNonNull(value, "Value must not be null");
-		ConstraintValidators.validateAll(
-			() -> ConstraintValidators.validateEqualTo(value, this.equalTo),
-			() -> ConstraintValidators.validateIn(value, this.in),
-			() -> ConstraintValidators.validateFlag(value, this.normalized, v -> v.equals(v.normalized()), "Zone id '" + value + "' must be in normalized form"),
-			() -> ConstraintValidators.validateFlag(value, this.regionBased, v -> !(v instanceof ZoneOffset), "Zone id '" + value + "' must be region-based"),
-			() -> ConstraintValidators.validateFlag(value, this.offsetBased, ZoneOffset.class::isInstance, "Zone id '" + value + "' must be offset-based"),
-			() -> ConstraintValidators.validateFlag(value, this.fixedOffset, ZoneOffset.class::isInstance, "Zone id '" + value + "' must be a fixed offset"),
-			() -> ConstraintValidators.validateFlag(value, this.utc, v -> v.normalized().equals(ZoneOffset.UTC), "Zone id '" + value + "' must be UTC"),
-			() -> ConstraintValidators.validateFlag(value, this.systemDefault, v -> v.equals(ZoneId.systemDefault()), "Zone id '" + value + "' must be the system default"),
-			() -> ConstraintValidators.validateFlag(value, this.available, v -> ZoneId.getAvailableZoneIds().contains(v.getId()), "Zone id '" + value + "' must be in the available zone list"),
-			() -> ConstraintValidators.validateNestedConfig(value.getId(), this.region, "Region"),
-			() -> ConstraintValidators.validateCustom(value, this.custom)
-		);
+	public @NonNull Constraint<ZoneId> compile() {
+		return ConstraintChain.<ZoneId>builder()
+			.addEqualTo(this.equalTo)
+			.addIn(this.in)
+			.addFlag(this.normalized, v -> v.equals(v.normalized()), value -> "Zone id '" + value + "' must be in normalized form")
+			.addFlag(this.regionBased, v -> !(v instanceof ZoneOffset), value -> "Zone id '" + value + "' must be region-based")
+			.addFlag(this.offsetBased, ZoneOffset.class::isInstance, value -> "Zone id '" + value + "' must be offset-based")
+			.addFlag(this.fixedOffset, ZoneOffset.class::isInstance, value -> "Zone id '" + value + "' must be a fixed offset")
+			.addFlag(this.utc, v -> v.normalized().equals(ZoneOffset.UTC), value -> "Zone id '" + value + "' must be UTC")
+			.addFlag(this.systemDefault, v -> v.equals(ZoneId.systemDefault()), value -> "Zone id '" + value + "' must be the system default")
+			.addFlag(this.available, v -> ZoneId.getAvailableZoneIds().contains(v.getId()), value -> "Zone id '" + value + "' must be in the available zone list")
+			.addNested(this.region, ZoneId::getId, "Region")
+			.add(this.custom, value -> ConstraintValidators.validateCustom(value, this.custom))
+			.build();
 	}
 }
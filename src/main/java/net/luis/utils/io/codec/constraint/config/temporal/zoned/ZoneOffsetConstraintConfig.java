@@ -20,6 +20,7 @@ package net.luis.utils.io.codec.constraint.config.temporal.zoned;
 
 import net.luis.utils.io.codec.constraint.config.ConstraintConfig;
 import net.luis.utils.io.codec.constraint.config.numeric.NumericConstraintConfig;
+import net.luis.utils.io.codec.constraint.config.validator.ConstraintChain;
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintValidators;
 import net.luis.utils.io.codec.constraint.config.validator.TemporalValidators;
 import net.luis.utils.io.codec.constraint.core.Constraint;
@@ -338,16 +339,14 @@ public record ZoneOffsetConstraintConfig(
 	//endregion
 	
 	@Override
-	public void validate(@NonNull ZoneOffset value) {
-		Objects.requireNonNull(value, "Value must not be null");
-		
-		ConstraintValidators.validateAll(
-			() -> ConstraintValidators.validateEqualTo(value, this.equalTo),
-			() -> ConstraintValidators.validateIn(value, this.in),
-			() -> ConstraintValidators.validateRange(value, this.min, this.max, Comparator.comparingInt(ZoneOffset::getTotalSeconds)),
-			() -> TemporalValidators.validateZoneOffsetSign(value, this.positive, this.negative, this.zero),
-			() -> ConstraintValidators.validateNestedConfig(value.getTotalSeconds() / 3600, this.hour, "Hours"),
-			() -> ConstraintValidators.validateCustom(value, this.custom)
-		);
+	public @NonNull Constraint<ZoneOffset> compile() {
+		return ConstraintChain.<ZoneOffset>builder()
+			.addEqualTo(this.equalTo)
+			.addIn(this.in)
+			.addRange(this.min, this.max, Comparator.comparingInt(ZoneOffset::getTotalSeconds))
+			.add(this.positive.isPresent() || this.negative.isPresent() || this.zero.isPresent(), value -> TemporalValidators.validateZoneOffsetSign(value, this.positive, this.negative, this.zero))
+			.addNested(this.hour, value -> value.getTotalSeconds() / 3600, "Hours")
+			.add(this.custom, value -> ConstraintValidators.validateCustom(value, this.custom))
+			.build();
 	}
 }
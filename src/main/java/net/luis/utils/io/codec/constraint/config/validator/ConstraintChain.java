@@ -0,0 +1,640 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.codec.constraint.config.validator;
+
+import net.luis.utils.io.codec.constraint.config.ConstraintConfig;
+import net.luis.utils.io.codec.constraint.core.Constraint;
+import net.luis.utils.io.codec.constraint.util.Unit;
+import net.luis.utils.util.Pair;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * A compiled chain of constraints which only contains the checks that are actually configured.<br>
+ * <p>
+ *     The chain is created by {@link ConstraintConfig#compile()} once per configuration.<br>
+ *     The validation cost of a compiled chain is proportional to the number of configured constraints,
+ *     instead of evaluating every possible check and skipping the ones which are not configured.<br>
+ *     {@link ConstraintConfig#validate(Object)} validates through the chain cached by {@link #compiled(ConstraintConfig)}.
+ * </p>
+ * <p>
+ *     The constraints are evaluated in the order they were added with early-exit behavior,
+ *     stopping at the first failed constraint.
+ * </p>
+ *
+ * @author Luis-St
+ *
+ * @param <T> The type of the value to validate
+ */
+public final class ConstraintChain<T> implements Constraint<T> {
+	
+	/**
+	 * The shared constraint which accepts every value.<br>
+	 */
+	private static final Constraint<?> UNCONSTRAINED = value -> {};
+	/**
+	 * The maximum number of compiled constraints which are cached.<br>
+	 */
+	private static final int MAXIMUM_COMPILED = 256;
+	/**
+	 * The cached compiled constraints by their configuration in access order.<br>
+	 * Access is synchronized on the map itself.<br>
+	 */
+	private static final Map<CompiledKey, Constraint<?>> COMPILED = new LinkedHashMap<>(16, 0.75F, true);
+	
+	/**
+	 * The constraints of this chain.<br>
+	 */
+	private final Constraint<T>[] constraints;
+	
+	/**
+	 * Constructs a new constraint chain with the given constraints.<br>
+	 * @param constraints The constraints of the chain
+	 */
+	private ConstraintChain(Constraint<T> @NonNull [] constraints) {
+		this.constraints = constraints;
+	}
+	
+	/**
+	 * Returns a constraint which accepts every value.<br>
+	 *
+	 * @return The unconstrained constraint
+	 * @param <T> The type of the value to validate
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> @NonNull Constraint<T> unconstrained() {
+		return (Constraint<T>) UNCONSTRAINED;
+	}
+	
+	/**
+	 * Creates a new builder for a constraint chain.<br>
+	 *
+	 * @return The created builder
+	 * @param <T> The type of the value to validate
+	 */
+	public static <T> @NonNull Builder<T> builder() {
+		return new Builder<>();
+	}
+	
+	/**
+	 * Returns the compiled constraint of the given configuration.<br>
+	 * <p>
+	 *     The constraint is compiled once per configuration instance and cached,
+	 *     the least recently used constraint is evicted once {@value #MAXIMUM_COMPILED} constraints are cached.
+	 * </p>
+	 *
+	 * @param config The configuration to get the compiled constraint of
+	 * @return The compiled constraint
+	 * @param <T> The type of the value to validate
+	 * @throws NullPointerException If the configuration is null
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> @NonNull Constraint<T> compiled(@NonNull ConstraintConfig<T> config) {
+		Objects.requireNonNull(config, "Constraint config must not be null");
+		CompiledKey key = new CompiledKey(config);
+		synchronized (COMPILED) {
+			Constraint<?> constraint = COMPILED.get(key);
+			if (constraint != null) {
+				return (Constraint<T>) constraint;
+			}
+		}
+		
+		Constraint<T> constraint = config.compile();
+		synchronized (COMPILED) {
+			if (COMPILED.size() >= MAXIMUM_COMPILED && !COMPILED.containsKey(key)) {
+				Iterator<CompiledKey> iterator = COMPILED.keySet().iterator();
+				iterator.next();
+				iterator.remove();
+			}
+			COMPILED.put(key, constraint);
+		}
+		return constraint;
+	}
+	
+	/**
+	 * Creates a precomputed equality constraint using {@link Objects#equals(Object, Object)}.<br>
+	 *
+	 * @param equalTo The equality constraint as a pair of (expected value, negated)
+	 * @return The equality constraint, or an unconstrained constraint if the equality constraint is not configured
+	 * @param <T> The type of the value to validate
+	 * @throws NullPointerException If the equality constraint is null
+	 * @see ConstraintValidators#validateEqualTo(Object, Optional)
+	 */
+	public static <T> @NonNull Constraint<T> equalTo(@NonNull Optional<Pair<T, Boolean>> equalTo) {
+		return equalTo(equalTo, Objects::equals);
+	}
+	
+	/**
+	 * Creates a precomputed equality constraint using a custom equality predicate.<br>
+	 * The expected value and the negation are unwrapped once when the constraint is created.<br>
+	 *
+	 * @param equalTo The equality constraint as a pair of (expected value, negated)
+	 * @param equalityTest The predicate to test equality between two values
+	 * @return The equality constraint, or an unconstrained constraint if the equality constraint is not configured
+	 * @param <T> The type of the value to validate
+	 * @throws NullPointerException If any parameter is null
+	 * @see ConstraintValidators#validateEqualTo(Object, Optional, BiPredicate)
+	 */
+	public static <T> @NonNull Constraint<T> equalTo(@NonNull Optional<Pair<T, Boolean>> equalTo, @NonNull BiPredicate<T, T> equalityTest) {
+		Objects.requireNonNull(equalTo, "Equal to constraint must not be null");
+		Objects.requireNonNull(equalityTest, "Equality test must not be null");
+		if (equalTo.isEmpty()) {
+			return unconstrained();
+		}
+		
+		T expected = equalTo.get().getFirst();
+		if (equalTo.get().getSecond()) {
+			return value -> {
+				if (equalityTest.test(value, expected)) {
+					throw new ConstraintViolateException("Value '" + value + "' must not be equal to '" + expected + "'");
+				}
+			};
+		}
+		return value -> {
+			if (!equalityTest.test(value, expected)) {
+				throw new ConstraintViolateException("Value '" + value + "' must be equal to '" + expected + "'");
+			}
+		};
+	}
+	
+	/**
+	 * Creates a precomputed case-insensitive equality constraint for strings.<br>
+	 * The expected string is case folded once, so a value is folded and compared with a single {@link String#equals(Object)} call.<br>
+	 *
+	 * @param equalTo The equality constraint as a pair of (expected value, negated)
+	 * @return The equality constraint, or an unconstrained constraint if the equality constraint is not configured
+	 * @throws NullPointerException If the equality constraint is null
+	 * @see #foldCase(String)
+	 */
+	public static @NonNull Constraint<String> equalToIgnoreCase(@NonNull Optional<Pair<String, Boolean>> equalTo) {
+		Objects.requireNonNull(equalTo, "Equal to constraint must not be null");
+		if (equalTo.isEmpty()) {
+			return unconstrained();
+		}
+		
+		String expected = equalTo.get().getFirst();
+		String folded = foldCase(expected);
+		if (equalTo.get().getSecond()) {
+			return value -> {
+				if (foldCase(value).equals(folded)) {
+					throw new ConstraintViolateException("Value '" + value + "' must not be equal to '" + expected + "'");
+				}
+			};
+		}
+		return value -> {
+			if (!foldCase(value).equals(folded)) {
+				throw new ConstraintViolateException("Value '" + value + "' must be equal to '" + expected + "'");
+			}
+		};
+	}
+	
+	/**
+	 * Creates a precomputed membership constraint using {@link Set#contains(Object)}.<br>
+	 *
+	 * @param in The membership constraint as a pair of (set of values, negated)
+	 * @return The membership constraint, or an unconstrained constraint if the membership constraint is not configured
+	 * @param <T> The type of the value to validate
+	 * @throws NullPointerException If the membership constraint is null
+	 * @see ConstraintValidators#validateIn(Object, Optional)
+	 */
+	public static <T> @NonNull Constraint<T> in(@NonNull Optional<Pair<Set<T>, Boolean>> in) {
+		Objects.requireNonNull(in, "In constraint must not be null");
+		if (in.isEmpty()) {
+			return unconstrained();
+		}
+		
+		Set<T> set = in.get().getFirst();
+		return membership(set, in.get().getSecond(), set::contains);
+	}
+	
+	/**
+	 * Creates a precomputed membership constraint using a custom containment predicate.<br>
+	 *
+	 * @param in The membership constraint as a pair of (set of values, negated)
+	 * @param containsTest The predicate to test if a set element matches the value
+	 * @return The membership constraint, or an unconstrained constraint if the membership constraint is not configured
+	 * @param <T> The type of the value to validate
+	 * @throws NullPointerException If any parameter is null
+	 * @see ConstraintValidators#validateIn(Object, Optional, BiPredicate)
+	 */
+	public static <T> @NonNull Constraint<T> in(@NonNull Optional<Pair<Set<T>, Boolean>> in, @NonNull BiPredicate<T, T> containsTest) {
+		Objects.requireNonNull(in, "In constraint must not be null");
+		Objects.requireNonNull(containsTest, "Contains test must not be null");
+		if (in.isEmpty()) {
+			return unconstrained();
+		}
+		
+		Set<T> set = in.get().getFirst();
+		return membership(set, in.get().getSecond(), value -> {
+			for (T element : set) {
+				if (containsTest.test(value, element)) {
+					return true;
+				}
+			}
+			return false;
+		});
+	}
+	
+	/**
+	 * Creates a precomputed case-insensitive membership constraint for strings.<br>
+	 * The strings of the set are case folded once into a hash set, so a value is checked with a single lookup instead of a scan of the set.<br>
+	 *
+	 * @param in The membership constraint as a pair of (set of values, negated)
+	 * @return The membership constraint, or an unconstrained constraint if the membership constraint is not configured
+	 * @throws NullPointerException If the membership constraint is null
+	 * @see #foldCase(String)
+	 */
+	public static @NonNull Constraint<String> inIgnoreCase(@NonNull Optional<Pair<Set<String>, Boolean>> in) {
+		Objects.requireNonNull(in, "In constraint must not be null");
+		if (in.isEmpty()) {
+			return unconstrained();
+		}
+		
+		Set<String> folded = new HashSet<>();
+		for (String element : in.get().getFirst()) {
+			folded.add(foldCase(element));
+		}
+		return membership(in.get().getFirst(), in.get().getSecond(), value -> folded.contains(foldCase(value)));
+	}
+	
+	/**
+	 * Creates a membership constraint for the given containment check.<br>
+	 *
+	 * @param set The set of values used in error messages
+	 * @param negated Whether the value must not be contained
+	 * @param contains The predicate which checks if the value is contained
+	 * @return The membership constraint
+	 * @param <T> The type of the value to validate
+	 */
+	private static <T> @NonNull Constraint<T> membership(@NonNull Set<T> set, boolean negated, @NonNull Predicate<T> contains) {
+		if (negated) {
+			return value -> {
+				if (contains.test(value)) {
+					throw new ConstraintViolateException("Value '" + value + "' must not be in " + ConstraintValidators.formatSet(set));
+				}
+			};
+		}
+		return value -> {
+			if (!contains.test(value)) {
+				throw new ConstraintViolateException("Value '" + value + "' must be in " + ConstraintValidators.formatSet(set));
+			}
+		};
+	}
+	
+	/**
+	 * Creates a precomputed range constraint using the given comparator.<br>
+	 * <p>
+	 *     The inclusiveness of each bound is folded into the comparison limit once when the constraint is created,
+	 *     so validating a value only performs the comparisons against the configured bounds.
+	 * </p>
+	 *
+	 * @param min The minimum bound constraint as a pair of (bound value, inclusive)
+	 * @param max The maximum bound constraint as a pair of (bound value, inclusive)
+	 * @param comparator The comparator to use for comparisons
+	 * @return The range constraint, or an unconstrained constraint if no bound is configured
+	 * @param <T> The type of the value to validate
+	 * @throws NullPointerException If any parameter is null
+	 * @see ConstraintValidators#validateRange(Object, Optional, Optional, Comparator)
+	 */
+	public static <T> @NonNull Constraint<T> range(@NonNull Optional<Pair<T, Boolean>> min, @NonNull Optional<Pair<T, Boolean>> max, @NonNull Comparator<? super T> comparator) {
+		Objects.requireNonNull(min, "Min constraint must not be null");
+		Objects.requireNonNull(max, "Max constraint must not be null");
+		Objects.requireNonNull(comparator, "Comparator must not be null");
+		
+		Constraint<T> minConstraint = min.map(bound -> {
+			T minValue = bound.getFirst();
+			boolean inclusive = bound.getSecond();
+			int limit = inclusive ? 0 : 1;
+			return (Constraint<T>) value -> {
+				if (comparator.compare(value, minValue) < limit) {
+					throw new ConstraintViolateException("Value '" + value + "' must be greater than " + (inclusive ? "or equal to " : "") + minValue);
+				}
+			};
+		}).orElse(null);
+		Constraint<T> maxConstraint = max.map(bound -> {
+			T maxValue = bound.getFirst();
+			boolean inclusive = bound.getSecond();
+			int limit = inclusive ? 0 : -1;
+			return (Constraint<T>) value -> {
+				if (comparator.compare(value, maxValue) > limit) {
+					throw new ConstraintViolateException("Value '" + value + "' must be less than " + (inclusive ? "or equal to " : "") + maxValue);
+				}
+			};
+		}).orElse(null);
+		return combine(minConstraint, maxConstraint);
+	}
+	
+	/**
+	 * Creates a precomputed range constraint for integer values.<br>
+	 * <p>
+	 *     Both bounds are folded into inclusive primitive bounds once when the constraint is created,
+	 *     so validating a value only performs two primitive comparisons.
+	 * </p>
+	 *
+	 * @param min The minimum bound constraint as a pair of (bound value, inclusive)
+	 * @param max The maximum bound constraint as a pair of (bound value, inclusive)
+	 * @return The range constraint, or an unconstrained constraint if no bound is configured
+	 * @throws NullPointerException If any parameter is null
+	 * @see ConstraintValidators#validateRange(Comparable, Optional, Optional)
+	 */
+	public static @NonNull Constraint<Integer> intRange(@NonNull Optional<Pair<Integer, Boolean>> min, @NonNull Optional<Pair<Integer, Boolean>> max) {
+		Objects.requireNonNull(min, "Min constraint must not be null");
+		Objects.requireNonNull(max, "Max constraint must not be null");
+		if (min.isEmpty() && max.isEmpty()) {
+			return unconstrained();
+		}
+		
+		long lower = min.map(bound -> bound.getSecond() ? (long) bound.getFirst() : bound.getFirst() + 1L).orElse(Long.MIN_VALUE);
+		long upper = max.map(bound -> bound.getSecond() ? (long) bound.getFirst() : bound.getFirst() - 1L).orElse(Long.MAX_VALUE);
+		return value -> {
+			int intValue = value;
+			if (intValue < lower || intValue > upper) {
+				ConstraintValidators.validateRange(value, min, max);
+			}
+		};
+	}
+	
+	/**
+	 * Combines the given optional constraints into a single constraint.<br>
+	 *
+	 * @param first The first constraint or null
+	 * @param second The second constraint or null
+	 * @return The combined constraint, or an unconstrained constraint if both constraints are null
+	 * @param <T> The type of the value to validate
+	 */
+	private static <T> @NonNull Constraint<T> combine(@Nullable Constraint<T> first, @Nullable Constraint<T> second) {
+		if (first == null) {
+			return second == null ? unconstrained() : second;
+		}
+		if (second == null) {
+			return first;
+		}
+		return value -> {
+			first.validate(value);
+			second.validate(value);
+		};
+	}
+	
+	/**
+	 * Folds the case of the given string for case-insensitive comparisons.<br>
+	 * <p>
+	 *     Each code point is converted to upper case and then to lower case,
+	 *     which matches the per-character comparison of {@link String#equalsIgnoreCase(String)}.<br>
+	 *     Two strings are therefore equal ignoring case if their folded forms are equal.
+	 * </p>
+	 *
+	 * @param value The string to fold
+	 * @return The folded string
+	 */
+	private static @NonNull String foldCase(@NonNull String value) {
+		StringBuilder builder = new StringBuilder(value.length());
+		value.codePoints().forEach(codePoint -> builder.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint))));
+		return builder.toString();
+	}
+	
+	@Override
+	public void validate(@NonNull T value) {
+		Objects.requireNonNull(value, "Value must not be null");
+		
+		for (Constraint<T> constraint : this.constraints) {
+			constraint.validate(value);
+		}
+	}
+	
+	//region Object overrides
+	@Override
+	public String toString() {
+		return "ConstraintChain[" + this.constraints.length + " constraints]";
+	}
+	//endregion
+	
+	/**
+	 * Builder for a constraint chain.<br>
+	 * Constraints which are not active are dropped when they are added.<br>
+	 *
+	 * @author Luis-St
+	 *
+	 * @param <T> The type of the value to validate
+	 */
+	public static final class Builder<T> {
+		
+		/**
+		 * The active constraints added to this builder.<br>
+		 */
+		private final List<Constraint<T>> constraints = new ArrayList<>();
+		
+		/**
+		 * Constructs a new empty builder.<br>
+		 */
+		private Builder() {}
+		
+		/**
+		 * Adds the given constraint if the given optional configuration value is present.<br>
+		 *
+		 * @param configured The optional configuration value the constraint depends on
+		 * @param constraint The constraint to add
+		 * @return This builder
+		 * @throws NullPointerException If the configuration value or the constraint is null
+		 */
+		public @NonNull Builder<T> add(@NonNull Optional<?> configured, @NonNull Constraint<T> constraint) {
+			Objects.requireNonNull(configured, "Configured value must not be null");
+			return this.add(configured.isPresent(), constraint);
+		}
+		
+		/**
+		 * Adds the given constraint if it is active.<br>
+		 *
+		 * @param active Whether the constraint is active
+		 * @param constraint The constraint to add
+		 * @return This builder
+		 * @throws NullPointerException If the constraint is null
+		 */
+		public @NonNull Builder<T> add(boolean active, @NonNull Constraint<T> constraint) {
+			Objects.requireNonNull(constraint, "Constraint must not be null");
+			if (active) {
+				this.constraints.add(constraint);
+			}
+			return this;
+		}
+		
+		/**
+		 * Adds a precomputed equality constraint if the equality constraint is present.<br>
+		 *
+		 * @param equalTo The equality constraint as a pair of (expected value, negated)
+		 * @return This builder
+		 * @throws NullPointerException If the equality constraint is null
+		 * @see ConstraintChain#equalTo(Optional)
+		 */
+		public @NonNull Builder<T> addEqualTo(@NonNull Optional<Pair<T, Boolean>> equalTo) {
+			return this.add(equalTo, ConstraintChain.equalTo(equalTo));
+		}
+		
+		/**
+		 * Adds a precomputed equality constraint using a custom equality predicate if the equality constraint is present.<br>
+		 *
+		 * @param equalTo The equality constraint as a pair of (expected value, negated)
+		 * @param equalityTest The predicate to test equality between two values
+		 * @return This builder
+		 * @throws NullPointerException If any parameter is null
+		 * @see ConstraintChain#equalTo(Optional, BiPredicate)
+		 */
+		public @NonNull Builder<T> addEqualTo(@NonNull Optional<Pair<T, Boolean>> equalTo, @NonNull BiPredicate<T, T> equalityTest) {
+			return this.add(equalTo, ConstraintChain.equalTo(equalTo, equalityTest));
+		}
+		
+		/**
+		 * Adds a precomputed membership constraint if the membership constraint is present.<br>
+		 *
+		 * @param in The membership constraint as a pair of (set of values, negated)
+		 * @return This builder
+		 * @throws NullPointerException If the membership constraint is null
+		 * @see ConstraintChain#in(Optional)
+		 */
+		public @NonNull Builder<T> addIn(@NonNull Optional<Pair<Set<T>, Boolean>> in) {
+			return this.add(in, ConstraintChain.in(in));
+		}
+		
+		/**
+		 * Adds a precomputed membership constraint using a custom containment predicate if the membership constraint is present.<br>
+		 *
+		 * @param in The membership constraint as a pair of (set of values, negated)
+		 * @param containsTest The predicate to test if a set element matches the value
+		 * @return This builder
+		 * @throws NullPointerException If any parameter is null
+		 * @see ConstraintChain#in(Optional, BiPredicate)
+		 */
+		public @NonNull Builder<T> addIn(@NonNull Optional<Pair<Set<T>, Boolean>> in, @NonNull BiPredicate<T, T> containsTest) {
+			return this.add(in, ConstraintChain.in(in, containsTest));
+		}
+		
+		/**
+		 * Adds a precomputed range constraint if at least one bound is present.<br>
+		 *
+		 * @param min The minimum bound constraint as a pair of (bound value, inclusive)
+		 * @param max The maximum bound constraint as a pair of (bound value, inclusive)
+		 * @param comparator The comparator to use for comparisons
+		 * @return This builder
+		 * @throws NullPointerException If any parameter is null
+		 * @see ConstraintChain#range(Optional, Optional, Comparator)
+		 */
+		public @NonNull Builder<T> addRange(@NonNull Optional<Pair<T, Boolean>> min, @NonNull Optional<Pair<T, Boolean>> max, @NonNull Comparator<? super T> comparator) {
+			return this.add(min.isPresent() || max.isPresent(), ConstraintChain.range(min, max, comparator));
+		}
+		
+		/**
+		 * Adds a flag constraint if the given flag is present.<br>
+		 * The error message is only created if the constraint is violated.<br>
+		 *
+		 * @param flag The optional flag (present means the constraint is active)
+		 * @param condition The predicate that must be true for the constraint to pass
+		 * @param errorMessage The function creating the error message for the violating value
+		 * @return This builder
+		 * @throws NullPointerException If any parameter is null
+		 * @see ConstraintValidators#validateFlag(Object, Optional, Predicate, String)
+		 */
+		public @NonNull Builder<T> addFlag(@NonNull Optional<Unit> flag, @NonNull Predicate<T> condition, @NonNull Function<T, String> errorMessage) {
+			Objects.requireNonNull(condition, "Condition must not be null");
+			Objects.requireNonNull(errorMessage, "Error message function must not be null");
+			
+			return this.add(flag, value -> {
+				if (!condition.test(value)) {
+					throw new ConstraintViolateException(errorMessage.apply(value));
+				}
+			});
+		}
+		
+		/**
+		 * Adds the compiled constraint of the given nested configuration if it is present.<br>
+		 * The nested configuration is applied to the value extracted from the validated value.<br>
+		 *
+		 * @param config The optional nested configuration
+		 * @param extractor The function to extract the nested value
+		 * @param fieldName The name of the nested value used in error messages
+		 * @return This builder
+		 * @param <V> The type of the nested value
+		 * @throws NullPointerException If any parameter is null
+		 * @see ConstraintValidators#validateExtractedValue(Object, Optional, Function, String)
+		 */
+		public <V> @NonNull Builder<T> addNested(@NonNull Optional<? extends ConstraintConfig<V>> config, @NonNull Function<T, V> extractor, @NonNull String fieldName) {
+			Objects.requireNonNull(config, "Config must not be null");
+			Objects.requireNonNull(extractor, "Extractor must not be null");
+			Objects.requireNonNull(fieldName, "Field name must not be null");
+			if (config.isEmpty()) {
+				return this;
+			}
+			
+			Constraint<V> nested = config.get().compile();
+			return this.add(true, value -> {
+				try {
+					nested.validate(extractor.apply(value));
+				} catch (ConstraintViolateException e) {
+					throw new ConstraintViolateException(fieldName + " constraint failed: " + e.getMessage());
+				}
+			});
+		}
+		
+		/**
+		 * Builds the constraint for the added active constraints.<br>
+		 * If no constraint is active, a constraint which accepts every value is returned.<br>
+		 * If a single constraint is active, the constraint is returned directly.<br>
+		 *
+		 * @return The built constraint
+		 */
+		@SuppressWarnings("unchecked")
+		public @NonNull Constraint<T> build() {
+			if (this.constraints.isEmpty()) {
+				return unconstrained();
+			}
+			if (this.constraints.size() == 1) {
+				return this.constraints.getFirst();
+			}
+			return new ConstraintChain<>(this.constraints.toArray(Constraint[]::new));
+		}
+	}
+	
+	/**
+	 * Key of a cached compiled constraint, which compares the configuration by identity.<br>
+	 * <p>
+	 *     The configurations are records, comparing them by value would hash all configured values on every validation.
+	 * </p>
+	 *
+	 * @author Luis-St
+	 *
+	 * @param config The configuration of the compiled constraint
+	 */
+	private record CompiledKey(@NonNull ConstraintConfig<?> config) {
+		
+		//region Object overrides
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof CompiledKey that)) return false;
+			
+			return this.config == that.config;
+		}
+		
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(this.config);
+		}
+		//endregion
+	}
+}
@@ -60,7 +60,7 @@ public final class ConstraintValidators {
 	 * @return A formatted string representation of the set
 	 * @throws NullPointerException If any parameter is null
 	 */
-	private static <T> @NonNull String formatSet(@NonNull Set<T> set) {
+	static <T> @NonNull String formatSet(@NonNull Set<T> set) {
 		Objects.requireNonNull(set, "Set must not be null");
 		return "[" + set.stream().map(Object::toString).collect(Collectors.joining(", ")) + "]";
 	}
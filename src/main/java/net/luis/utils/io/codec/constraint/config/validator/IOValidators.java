@@ -20,13 +20,12 @@ package net.luis.utils.io.codec.constraint.config.validator;
 
 import net.luis.utils.io.codec.constraint.config.*;
 import net.luis.utils.io.codec.constraint.config.io.*;
+import net.luis.utils.io.codec.constraint.core.Constraint;
 import net.luis.utils.io.codec.constraint.util.*;
 import net.luis.utils.io.network.address.*;
 import net.luis.utils.io.network.address.exception.IpParseException;
 import net.luis.utils.io.network.address.ipv4.Ipv4Address;
-import net.luis.utils.io.network.address.ipv4.Ipv4Network;
 import net.luis.utils.io.network.address.ipv6.Ipv6Address;
-import net.luis.utils.io.network.address.ipv6.Ipv6Network;
 import net.luis.utils.io.network.address.mac.MacAddress;
 import net.luis.utils.util.Pair;
 import org.apache.commons.lang3.ArrayUtils;
@@ -231,6 +230,9 @@ public final class IOValidators {
 	
 	/**
 	 * Validates a host value against a subnet membership constraint.<br>
+	 * <p>
+	 *     The subnets are compiled for every call, use {@link #compileInAnySubnet(Pair)} to validate many values against the same subnets.
+	 * </p>
 	 *
 	 * @param value The host value to validate
 	 * @param inAnySubnet The subnet constraint as a pair of (CIDRs, negated)
@@ -244,109 +246,82 @@ public final class IOValidators {
 			return;
 		}
 		
-		Set<IpNetwork<?, ?>> subnets = new HashSet<>();
-		for (String cidr : inAnySubnet.get().getFirst()) {
-			try {
-				subnets.add(IpAddresses.parseNetwork(cidr));
-			} catch (IpParseException e) {
-				throw new ConstraintViolateException("Invalid CIDR '" + cidr + "' in subnet constraint: " + e.getMessage());
-			}
-		}
+		validateInAnySubnet(value, SubnetIndex.compile(inAnySubnet.get().getFirst()), inAnySubnet.get().getSecond());
+	}
+	
+	/**
+	 * Compiles the given subnet membership constraint into a constraint for host values.<br>
+	 * <p>
+	 *     The subnets are parsed once into a {@link SubnetIndex}, the returned constraint only parses the validated value.<br>
+	 *     If any of the subnets is not a valid CIDR notation, the returned constraint rejects every value.
+	 * </p>
+	 *
+	 * @param inAnySubnet The subnet constraint as a pair of (CIDRs, negated)
+	 * @return The compiled constraint
+	 * @throws NullPointerException If the subnet constraint is null
+	 */
+	public static @NonNull Constraint<String> compileInAnySubnet(@NonNull Pair<Set<String>, Boolean> inAnySubnet) {
+		Objects.requireNonNull(inAnySubnet, "In any subnet constraint must not be null");
 		
+		SubnetIndex subnets;
 		try {
-			IpAddress<?> address = IpAddresses.parse(value);
-			
-			switch (address) {
-				case Ipv4Address ipv4 -> validateIpv4SubnetMembership(ipv4, subnets, inAnySubnet.get().getSecond());
-				case Ipv6Address ipv6 -> validateIpv6SubnetMembership(ipv6, subnets, inAnySubnet.get().getSecond());
-			}
-		} catch (IpParseException e) {
-			throw new ConstraintViolateException("Host '" + value + "' is not a valid ip address: " + e.getMessage());
+			subnets = SubnetIndex.compile(inAnySubnet.getFirst());
+		} catch (ConstraintViolateException e) {
+			String message = e.getMessage();
+			return _ -> {
+				throw new ConstraintViolateException(message);
+			};
 		}
+		boolean negated = inAnySubnet.getSecond();
+		return value -> validateInAnySubnet(value, subnets, negated);
 	}
 	
 	/**
-	 * Checks IPv4 subnet membership.<br>
+	 * Validates a host value against the subnets of the given subnet index.<br>
 	 * <p>
-	 *     This method checks if the given IPv4 address is a member of any or none of the specified subnets, based on the negation flag.<br>
-	 *     All subnets that are not IPv4 networks are ignored in the check:
+	 *     Only the subnets matching the version of the address are considered.<br>
+	 *     If the negation flag is {@code false}, the address must be a member of at least one subnet.<br>
+	 *     If the negation flag is {@code true}, the address must not be a member of any subnet.
 	 * </p>
-	 * <p>
-	 *     If the negation flag is {@code false}, the method ensures that the address is a member of at least one subnet.<br>
-	 *     If the negation flag is {@code true}, the method ensures that the address is not a member of any subnet.
-	 * </p>
-	 * @param ipv4 The IPv4 address to check
-	 * @param subnets The set of subnets to check against
+	 *
+	 * @param value The host value to validate
+	 * @param subnets The compiled subnets to check against
 	 * @param negated The negation flag indicating the membership condition
-	 * @throws NullPointerException If any parameter is null
-	 * @throws ConstraintViolateException If the membership condition is not satisfied
+	 * @throws NullPointerException If the value or the subnet index is null
+	 * @throws ConstraintViolateException If the constraint is not satisfied
 	 */
-	private static void validateIpv4SubnetMembership(@NonNull Ipv4Address ipv4, @NonNull Set<IpNetwork<?, ?>> subnets, boolean negated) {
-		Objects.requireNonNull(ipv4, "Ipv4 address must not be null");
-		Objects.requireNonNull(subnets, "Subnet set must not be null");
-		
-		boolean memberOfAny = false;
-		boolean memberOfNone = true;
-		List<Ipv4Network> validSubnets = new ArrayList<>();
-		for (IpNetwork<?, ?> subnet : subnets) {
-			if (!(subnet instanceof Ipv4Network ipv4Network)) {
-				continue;
-			}
-			validSubnets.add(ipv4Network);
-			
-			if (ipv4Network.contains(ipv4)) {
-				memberOfAny = true;
-				memberOfNone = false;
-			}
+	public static void validateInAnySubnet(@NonNull String value, @NonNull SubnetIndex subnets, boolean negated) {
+		Objects.requireNonNull(value, "Ip address must not be null");
+		Objects.requireNonNull(subnets, "Subnet index must not be null");
+		
+		IpAddress<?> address;
+		try {
+			address = IpAddresses.parse(value);
+		} catch (IpParseException e) {
+			throw new ConstraintViolateException("Host '" + value + "' is not a valid ip address: " + e.getMessage());
 		}
 		
-		if (!negated && !memberOfAny) {
-			throw new ConstraintViolateException("IPv4 address '" + ipv4 + "' must be member of at least one specified subnet: " + validSubnets);
-		} else if (negated && !memberOfNone) {
-			throw new ConstraintViolateException("IPv4 address '" + ipv4 + "' must not be member of any specified subnet: " + validSubnets);
+		switch (address) {
+			case Ipv4Address ipv4 -> validateSubnetMembership("IPv4", ipv4, subnets.contains(ipv4), subnets.getIpv4Networks(), negated);
+			case Ipv6Address ipv6 -> validateSubnetMembership("IPv6", ipv6, subnets.contains(ipv6), subnets.getIpv6Networks(), negated);
 		}
 	}
 	
 	/**
-	 * Checks IPv6 subnet membership.<br>
-	 * <p>
-	 *     This method checks if the given IPv6 address is a member of any or none of the specified subnets, based on the negation flag.<br>
-	 *     All subnets that are not IPv6 networks are ignored in the check:
-	 * </p>
-	 * <p>
-	 *     If the negation flag is {@code false}, the method ensures that the address is a member of at least one subnet.<br>
-	 *     If the negation flag is {@code true}, the method ensures that the address is not a member of any subnet.
-	 * </p>
+	 * Checks the subnet membership result of an address against the negation flag.<br>
 	 *
-	 * @param ipv6 The IPv6 address to check
-	 * @param subnets The set of subnets to check against
+	 * @param version The ip version of the address used in error messages
+	 * @param address The checked address
+	 * @param member Whether the address is a member of any subnet
+	 * @param subnets The subnets of the same version used in error messages
 	 * @param negated The negation flag indicating the membership condition
-	 * @throws NullPointerException If any parameter is null
 	 * @throws ConstraintViolateException If the membership condition is not satisfied
 	 */
-	private static void validateIpv6SubnetMembership(@NonNull Ipv6Address ipv6, @NonNull Set<IpNetwork<?, ?>> subnets, boolean negated) {
-		Objects.requireNonNull(ipv6, "Ipv6 address must not be null");
-		Objects.requireNonNull(subnets, "Subnet set must not be null");
-		
-		boolean memberOfAny = false;
-		boolean memberOfNone = true;
-		List<Ipv6Network> validSubnets = new ArrayList<>();
-		for (IpNetwork<?, ?> subnet : subnets) {
-			if (!(subnet instanceof Ipv6Network ipv6Network)) {
-				continue;
-			}
-			validSubnets.add(ipv6Network);
-			
-			if (ipv6Network.contains(ipv6)) {
-				memberOfAny = true;
-				memberOfNone = false;
-			}
-		}
-		
-		if (!negated && !memberOfAny) {
-			throw new ConstraintViolateException("IPv6 address '" + ipv6 + "' must be member of at least one specified subnet: " + validSubnets);
-		} else if (negated && !memberOfNone) {
-			throw new ConstraintViolateException("IPv6 address '" + ipv6 + "' must not be member of any specified subnet: " + validSubnets);
+	private static void validateSubnetMembership(@NonNull String version, @NonNull IpAddress<?> address, boolean member, @NonNull List<? extends IpNetwork<?, ?>> subnets, boolean negated) {
+		if (!negated && !member) {
+			throw new ConstraintViolateException(version + " address '" + address + "' must be member of at least one specified subnet: " + subnets);
+		} else if (negated && member) {
+			throw new ConstraintViolateException(version + " address '" + address + "' must not be member of any specified subnet: " + subnets);
 		}
 	}
 	
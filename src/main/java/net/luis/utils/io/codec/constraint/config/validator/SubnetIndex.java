@@ -0,0 +1,144 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.codec.constraint.config.validator;
+
+import net.luis.utils.io.network.address.*;
+import net.luis.utils.io.network.address.exception.IpParseException;
+import net.luis.utils.io.network.address.ipv4.*;
+import net.luis.utils.io.network.address.ipv6.*;
+import org.jspecify.annotations.NonNull;
+
+import java.util.*;
+
+/**
+ * A precompiled index of subnets used for subnet membership constraints.<br>
+ * <p>
+ *     The subnets are parsed once from their CIDR notation and merged into an {@link Ipv4Set} and an {@link Ipv6Set}.<br>
+ *     Membership checks are a binary search over the sorted ranges of the set matching the address version,
+ *     no CIDR is parsed during the check.
+ * </p>
+ * <p>
+ *     The parsed networks are kept in their original form for error messages.
+ * </p>
+ *
+ * @author Luis-St
+ */
+public final class SubnetIndex {
+	
+	/**
+	 * The set of all IPv4 addresses covered by the subnets.<br>
+	 */
+	private final Ipv4Set ipv4Set;
+	/**
+	 * The parsed IPv4 subnets.<br>
+	 */
+	private final List<Ipv4Network> ipv4Networks;
+	/**
+	 * The set of all IPv6 addresses covered by the subnets.<br>
+	 */
+	private final Ipv6Set ipv6Set;
+	/**
+	 * The parsed IPv6 subnets.<br>
+	 */
+	private final List<Ipv6Network> ipv6Networks;
+	
+	/**
+	 * Constructs a new subnet index for the given parsed subnets.<br>
+	 *
+	 * @param ipv4Networks The parsed IPv4 subnets
+	 * @param ipv6Networks The parsed IPv6 subnets
+	 */
+	private SubnetIndex(@NonNull List<Ipv4Network> ipv4Networks, @NonNull List<Ipv6Network> ipv6Networks) {
+		this.ipv4Set = Ipv4Set.of(ipv4Networks.toArray(Ipv4Network[]::new));
+		this.ipv4Networks = List.copyOf(ipv4Networks);
+		this.ipv6Set = Ipv6Set.of(ipv6Networks.toArray(Ipv6Network[]::new));
+		this.ipv6Networks = List.copyOf(ipv6Networks);
+	}
+	
+	/**
+	 * Compiles the given subnets in CIDR notation into a subnet index.<br>
+	 *
+	 * @param cidrs The subnets in CIDR notation
+	 * @return The compiled subnet index
+	 * @throws NullPointerException If the cidrs collection is null or contains null elements
+	 * @throws ConstraintViolateException If any of the cidrs is not a valid CIDR notation
+	 */
+	public static @NonNull SubnetIndex compile(@NonNull Collection<String> cidrs) {
+		Objects.requireNonNull(cidrs, "CIDRs must not be null");
+		
+		List<Ipv4Network> ipv4Networks = new ArrayList<>();
+		List<Ipv6Network> ipv6Networks = new ArrayList<>();
+		for (String cidr : cidrs) {
+			try {
+				switch (IpAddresses.parseNetwork(cidr)) {
+					case Ipv4Network ipv4Network -> ipv4Networks.add(ipv4Network);
+					case Ipv6Network ipv6Network -> ipv6Networks.add(ipv6Network);
+				}
+			} catch (IpParseException e) {
+				throw new ConstraintViolateException("Invalid CIDR '" + cidr + "' in subnet constraint: " + e.getMessage());
+			}
+		}
+		return new SubnetIndex(ipv4Networks, ipv6Networks);
+	}
+	
+	/**
+	 * Checks if the given IPv4 address is a member of any IPv4 subnet of this index.<br>
+	 *
+	 * @param address The address to check
+	 * @return True if the address is a member of any subnet, otherwise false
+	 * @throws NullPointerException If the address is null
+	 */
+	public boolean contains(@NonNull Ipv4Address address) {
+		return this.ipv4Set.containsAddress(address);
+	}
+	
+	/**
+	 * Checks if the given IPv6 address is a member of any IPv6 subnet of this index.<br>
+	 *
+	 * @param address The address to check
+	 * @return True if the address is a member of any subnet, otherwise false
+	 * @throws NullPointerException If the address is null
+	 */
+	public boolean contains(@NonNull Ipv6Address address) {
+		return this.ipv6Set.containsAddress(address);
+	}
+	
+	/**
+	 * Returns the parsed IPv4 subnets of this index.<br>
+	 * @return The IPv4 subnets
+	 */
+	public @NonNull List<Ipv4Network> getIpv4Networks() {
+		return this.ipv4Networks;
+	}
+	
+	/**
+	 * Returns the parsed IPv6 subnets of this index.<br>
+	 * @return The IPv6 subnets
+	 */
+	public @NonNull List<Ipv6Network> getIpv6Networks() {
+		return this.ipv6Networks;
+	}
+	
+	//region Object overrides
+	@Override
+	public String toString() {
+		return "SubnetIndex[ipv4=" + this.ipv4Networks + ", ipv6=" + this.ipv6Networks + "]";
+	}
+	//endregion
+}
@@ -0,0 +1,116 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.codec.decoder;
+
+import net.luis.utils.io.codec.provider.TypeProvider;
+import net.luis.utils.io.codec.provider.ValueKind;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * A cursor which allows decoders to pull values directly from a format reader.<br>
+ * <p>
+ *     In contrast to the tree based decoding using {@link Decoder#decode(TypeProvider, Object, Object)},
+ *     the cursor does not require the input to be fully parsed into elements of the type provider before decoding.<br>
+ *     Decoders which are aware of the cursor consume the structure token by token and skip values they do not need.<br>
+ *     All other decoders read the current value as element using {@link #readValue()} and decode it as usual.
+ * </p>
+ * <p>
+ *     The cursor always points to the next value which has not been consumed yet.<br>
+ *     Lists are consumed by {@link #beginList()}, a loop over {@link #hasNext()} and {@link #endList()}.<br>
+ *     Maps are consumed by {@link #beginMap()}, a loop over {@link #hasNext()} and {@link #nextKey()} followed by the value and {@link #endMap()}.
+ * </p>
+ *
+ * @see Decoder#decodeFrom(DecodeCursor)
+ *
+ * @author Luis-St
+ *
+ * @param <R> The type of the elements of the type provider
+ */
+public interface DecodeCursor<R> {
+	
+	/**
+	 * Returns the type provider which is used to create elements read by this cursor.<br>
+	 * @return The type provider
+	 */
+	@NonNull TypeProvider<R> getProvider();
+	
+	/**
+	 * Returns the kind of the next value without consuming it.<br>
+	 *
+	 * @return The kind of the next value
+	 * @throws DecoderException If there is no next value or the input is invalid
+	 */
+	@NonNull ValueKind peek() throws DecoderException;
+	
+	/**
+	 * Checks if the current list or map has another element.<br>
+	 *
+	 * @return True if there is another element, otherwise false
+	 * @throws DecoderException If the input is invalid
+	 */
+	boolean hasNext() throws DecoderException;
+	
+	/**
+	 * Consumes the beginning of a list.<br>
+	 * @throws DecoderException If the next value is not a list or the input is invalid
+	 */
+	void beginList() throws DecoderException;
+	
+	/**
+	 * Consumes the end of a list.<br>
+	 * @throws DecoderException If the current list has remaining elements or the input is invalid
+	 */
+	void endList() throws DecoderException;
+	
+	/**
+	 * Consumes the beginning of a map.<br>
+	 * @throws DecoderException If the next value is not a map or the input is invalid
+	 */
+	void beginMap() throws DecoderException;
+	
+	/**
+	 * Consumes the key of the next map entry.<br>
+	 * The cursor then points to the value of the entry.<br>
+	 *
+	 * @return The key of the entry
+	 * @throws DecoderException If there is no next entry or the input is invalid
+	 */
+	@NonNull String nextKey() throws DecoderException;
+	
+	/**
+	 * Consumes the end of a map.<br>
+	 * @throws DecoderException If the current map has remaining entries or the input is invalid
+	 */
+	void endMap() throws DecoderException;
+	
+	/**
+	 * Skips the next value including all nested values.<br>
+	 * @throws DecoderException If there is no next value or the input is invalid
+	 */
+	void skipValue() throws DecoderException;
+	
+	/**
+	 * Reads the next value including all nested values as element of the type provider.<br>
+	 * This is the fallback for decoders which are not aware of the cursor.<br>
+	 *
+	 * @return The read element
+	 * @throws DecoderException If there is no next value or the input is invalid
+	 */
+	@NonNull R readValue() throws DecoderException;
+}
@@ -20,12 +20,13 @@ package net.luis.utils.io.codec.decoder;
 
 import net.luis.utils.function.throwable.ThrowableFunction;
 import net.luis.utils.io.codec.provider.TypeProvider;
+import net.luis.utils.io.codec.provider.ValueKind;
 import net.luis.utils.util.Either;
 import org.jetbrains.annotations.UnknownNullability;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
-import java.util.Objects;
+import java.util.*;
 
 /**
  * Represents a decoder for a specific type.<br>
@@ -86,6 +87,46 @@ public interface Decoder<C> {
 	 */
 	<R> @UnknownNullability C decode(@NonNull TypeProvider<R> provider, @NonNull R current, @Nullable R value) throws DecoderException;
 	
+	/**
+	 * Decodes the next value of the given cursor and returns the decoded value.<br>
+	 * <p>
+	 *     By default, the next value is read as element of the type provider of the cursor and decoded using {@link #decode(TypeProvider, Object, Object)}.<br>
+	 *     Decoders of structured values should override this method to pull their content directly from the cursor,
+	 *     which avoids building the intermediate element tree of the value.
+	 * </p>
+	 * <p>
+	 *     The decoder must consume exactly one value of the cursor.<br>
+	 *     If the decoding process fails, the position of the cursor is undefined and the cursor should not be used anymore.
+	 * </p>
+	 *
+	 * @param cursor The cursor to decode from
+	 * @return The decoded value
+	 * @param <R> The type to decode from
+	 * @throws NullPointerException If the cursor is null
+	 * @throws DecoderException If an error occurs during decoding
+	 * @see DecodeCursor
+	 */
+	default <R> @UnknownNullability C decodeFrom(@NonNull DecodeCursor<R> cursor) throws DecoderException {
+		Objects.requireNonNull(cursor, "Decode cursor must not be null");
+		
+		TypeProvider<R> provider = cursor.getProvider();
+		return this.decode(provider, provider.empty(), cursor.readValue());
+	}
+	
+	/**
+	 * Returns the kinds of values this decoder is able to decode.<br>
+	 * <p>
+	 *     Codecs which try multiple alternatives use the kinds to skip decoders which are not able to decode a value,
+	 *     if the kind of the value is known by the type provider (see {@link TypeProvider#getKind(Object, java.util.function.Function)}).<br>
+	 *     Decoders must return all kinds for which the decoding process might succeed, by default all kinds are returned.
+	 * </p>
+	 *
+	 * @return The kinds of values this decoder is able to decode
+	 */
+	default @NonNull Set<ValueKind> getDecodableKinds() {
+		return EnumSet.allOf(ValueKind.class);
+	}
+	
 	/**
 	 * Decodes a key to a value of the specified type and returns the decoded key.<br>
 	 *
@@ -18,10 +18,24 @@
 
 package net.luis.utils.io.codec.decoder;
 
+import net.luis.utils.util.LazyLoad;
+import org.jetbrains.annotations.UnknownNullability;
+import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
+import java.util.Objects;
+import java.util.function.Supplier;
+
 /**
  * Thrown when an error occurs during decoding an object.<br>
+ * <p>
+ *     Exceptions created inside of {@link #speculative(ScopedValue.CallableOp)} do not capture a stack trace.<br>
+ *     This keeps failures cheap for codecs which try multiple alternatives and expect most of them to fail.
+ * </p>
+ * <p>
+ *     The message of the exception can be created lazily using {@link #DecoderException(Supplier, Decoder, Throwable)},
+ *     messages which contain the decoding value are only created if the message is requested.
+ * </p>
  *
  * @see Decoder
  *
@@ -29,17 +43,28 @@ import org.jspecify.annotations.Nullable;
  */
 public class DecoderException extends Exception {
 	
+	/**
+	 * Scoped value which marks the current decoding as speculative.<br>
+	 */
+	private static final ScopedValue<Boolean> SPECULATIVE = ScopedValue.newInstance();
+	
 	/**
 	 * The decoder that caused the exception.<br>
 	 */
 	private final Decoder<?> decoder;
+	/**
+	 * The lazily created message of the exception, null if the message was passed directly.<br>
+	 */
+	private final transient @Nullable LazyLoad<String> lazyMessage;
 	
 	/**
 	 * Constructs a new decoder exception with the specified decoder.<br>
 	 * @param decoder The decoder that caused the exception
 	 */
 	public DecoderException(@Nullable Decoder<?> decoder) {
+		super(null, null, true, isStackTraceWritable());
 		this.decoder = decoder;
+		this.lazyMessage = null;
 	}
 	
 	/**
@@ -57,8 +82,9 @@ public class DecoderException extends Exception {
 	 * @param decoder The decoder that caused the exception
 	 */
 	public DecoderException(@Nullable String message, @Nullable Decoder<?> decoder) {
-		super(message);
+		super(message, null, true, isStackTraceWritable());
 		this.decoder = decoder;
+		this.lazyMessage = null;
 	}
 	
 	/**
@@ -79,8 +105,24 @@ public class DecoderException extends Exception {
 	 * @param cause The cause of the exception
 	 */
 	public DecoderException(@Nullable String message, @Nullable Decoder<?> decoder, @Nullable Throwable cause) {
-		super(message, cause);
+		super(message, cause, true, isStackTraceWritable());
 		this.decoder = decoder;
+		this.lazyMessage = null;
+	}
+	
+	/**
+	 * Constructs a new decoder exception with the lazily created message, decoder and cause.<br>
+	 * The message is created on the first request and only once.<br>
+	 *
+	 * @param messageSupplier The supplier of the message of the exception
+	 * @param decoder The decoder that caused the exception
+	 * @param cause The cause of the exception
+	 * @throws NullPointerException If the message supplier is null
+	 */
+	public DecoderException(@NonNull Supplier<String> messageSupplier, @Nullable Decoder<?> decoder, @Nullable Throwable cause) {
+		super(null, cause, true, isStackTraceWritable());
+		this.decoder = decoder;
+		this.lazyMessage = new LazyLoad<>(Objects.requireNonNull(messageSupplier, "Message supplier must not be null"));
 	}
 	
 	/**
@@ -90,8 +132,37 @@ public class DecoderException extends Exception {
 	 * @param cause The cause of the exception
 	 */
 	public DecoderException(@Nullable Decoder<?> decoder, @Nullable Throwable cause) {
-		super(cause);
+		super(cause == null ? null : cause.toString(), cause, true, isStackTraceWritable());
 		this.decoder = decoder;
+		this.lazyMessage = null;
+	}
+	
+	/**
+	 * Runs the given operation as speculative decoding.<br>
+	 * Exceptions of this type created during the operation do not capture a stack trace.<br>
+	 *
+	 * @param operation The operation to run
+	 * @return The result of the operation
+	 * @param <T> The type of the result
+	 * @throws NullPointerException If the operation is null
+	 * @throws DecoderException If the operation fails
+	 */
+	public static <T> @UnknownNullability T speculative(ScopedValue.@NonNull CallableOp<? extends T, DecoderException> operation) throws DecoderException {
+		Objects.requireNonNull(operation, "Operation must not be null");
+		return ScopedValue.where(SPECULATIVE, Boolean.TRUE).call(operation);
+	}
+	
+	/**
+	 * Checks if the stack trace of a new exception should be captured.<br>
+	 * @return False if the current decoding is speculative, otherwise true
+	 */
+	private static boolean isStackTraceWritable() {
+		return !SPECULATIVE.orElse(Boolean.FALSE);
+	}
+	
+	@Override
+	public @Nullable String getMessage() {
+		return this.lazyMessage == null ? super.getMessage() : this.lazyMessage.get();
 	}
 	
 	/**
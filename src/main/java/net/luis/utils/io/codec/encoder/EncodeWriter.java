@@ -0,0 +1,96 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.codec.encoder;
+
+import net.luis.utils.io.codec.provider.TypeProvider;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * A writer which allows encoders to write values directly to a format writer.<br>
+ * <p>
+ *     In contrast to the tree based encoding using {@link Encoder#encode(TypeProvider, Object, Object)},
+ *     the writer does not require the value to be fully encoded into elements of the type provider before it is written.<br>
+ *     Encoders which are aware of the writer emit their structure token by token.<br>
+ *     All other encoders encode their value as element and write it using {@link #writeValue(Object)}.
+ * </p>
+ * <p>
+ *     Lists are written by {@link #beginList()}, the elements and {@link #endList()}.<br>
+ *     Maps are written by {@link #beginMap()}, {@link #key(String)} followed by the value for each entry and {@link #endMap()}.<br>
+ *     A key is only written if a value follows it, this allows encoders to omit empty values.
+ * </p>
+ *
+ * @see Encoder#encodeTo(EncodeWriter, Object)
+ *
+ * @author Luis-St
+ *
+ * @param <R> The type of the elements of the type provider
+ */
+public interface EncodeWriter<R> {
+	
+	/**
+	 * Returns the type provider which is used to create elements written by this writer.<br>
+	 * @return The type provider
+	 */
+	@NonNull TypeProvider<R> getProvider();
+	
+	/**
+	 * Writes the beginning of a list.<br>
+	 * @throws EncoderException If no value is expected at the current position or an error occurs while writing
+	 */
+	void beginList() throws EncoderException;
+	
+	/**
+	 * Writes the end of the current list.<br>
+	 * @throws EncoderException If the current scope is not a list or an error occurs while writing
+	 */
+	void endList() throws EncoderException;
+	
+	/**
+	 * Writes the beginning of a map.<br>
+	 * @throws EncoderException If no value is expected at the current position or an error occurs while writing
+	 */
+	void beginMap() throws EncoderException;
+	
+	/**
+	 * Sets the key of the next map entry.<br>
+	 * The key is written together with the following value, if no value follows the key is discarded.<br>
+	 *
+	 * @param key The key of the entry
+	 * @throws NullPointerException If the key is null
+	 * @throws EncoderException If the current scope is not a map
+	 */
+	void key(@NonNull String key) throws EncoderException;
+	
+	/**
+	 * Writes the end of the current map.<br>
+	 * @throws EncoderException If the current scope is not a map or an error occurs while writing
+	 */
+	void endMap() throws EncoderException;
+	
+	/**
+	 * Writes the given element of the type provider including all nested elements.<br>
+	 * If the element is empty ({@link TypeProvider#isEmpty(Object, java.util.function.Function)}), nothing is written.<br>
+	 * This is the fallback for encoders which are not aware of the writer.<br>
+	 *
+	 * @param value The element to write
+	 * @throws NullPointerException If the element is null
+	 * @throws EncoderException If no value is expected at the current position or an error occurs while writing
+	 */
+	void writeValue(@NonNull R value) throws EncoderException;
+}
@@ -77,6 +77,32 @@ public interface Encoder<C> {
 	 */
 	<R> @NonNull R encode(@NonNull TypeProvider<R> provider, @NonNull R current, @Nullable C value) throws EncoderException;
 	
+	/**
+	 * Encodes the given value directly to the given writer.<br>
+	 * <p>
+	 *     By default, the value is encoded as element of the type provider of the writer using {@link #encode(TypeProvider, Object, Object)} and then written.<br>
+	 *     Encoders of structured values should override this method to write their content directly to the writer,
+	 *     which avoids building the intermediate element tree of the value.
+	 * </p>
+	 * <p>
+	 *     The encoder must write at most one value to the writer, an empty value is not written at all.<br>
+	 *     If the encoding process fails, the state of the writer is undefined and the writer should not be used anymore.
+	 * </p>
+	 *
+	 * @param writer The writer to encode to
+	 * @param value The value to encode
+	 * @param <R> The type to encode to
+	 * @throws NullPointerException If the writer is null
+	 * @throws EncoderException If an error occurs during encoding
+	 * @see EncodeWriter
+	 */
+	default <R> void encodeTo(@NonNull EncodeWriter<R> writer, @Nullable C value) throws EncoderException {
+		Objects.requireNonNull(writer, "Encode writer must not be null");
+		
+		TypeProvider<R> provider = writer.getProvider();
+		writer.writeValue(this.encode(provider, provider.empty(), value));
+	}
+	
 	/**
 	 * Encodes the key of the specified type and returns the encoded key.<br>
 	 *
@@ -112,6 +138,12 @@ public interface Encoder<C> {
 				return Encoder.this.encode(provider, current, function.apply(value));
 			}
 			
+			@Override
+			public <R> void encodeTo(@NonNull EncodeWriter<R> writer, @Nullable O value) throws EncoderException {
+				Objects.requireNonNull(writer, "Encode writer must not be null");
+				Encoder.this.encodeTo(writer, function.apply(value));
+			}
+			
 			@Override
 			public @NonNull String encodeKey(@NonNull O key) throws EncoderException {
 				Objects.requireNonNull(key, "Key to encode must not be null");
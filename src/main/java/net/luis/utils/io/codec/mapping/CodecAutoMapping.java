@@ -26,6 +26,7 @@ import org.jetbrains.annotations.Unmodifiable;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
+import java.lang.invoke.*;
 import java.lang.reflect.*;
 import java.net.URI;
 import java.nio.charset.Charset;
@@ -191,75 +192,76 @@ public final class CodecAutoMapping {
 			throw new IllegalArgumentException("Record class has too many components (max 16): " + clazz.getName());
 		}
 		
+		MethodHandle instantiator = createInstantiator(constructor);
 		FieldCodec<?, O>[] fieldCodecs = Stream.of(components).map(CodecAutoMapping::createFieldCodec).toArray(FieldCodec[]::new);
 		return switch (components.length) {
 			case 1 -> CodecBuilder.of(
 				fieldCodecs[0]
-			).create(arg0 -> createInstance(constructor, arg0));
+			).create(arg0 -> createInstance(instantiator, arg0));
 			case 2 -> CodecBuilder.of(
 				fieldCodecs[0], fieldCodecs[1]
-			).create((arg0, arg1) -> createInstance(constructor, arg0, arg1));
+			).create((arg0, arg1) -> createInstance(instantiator, arg0, arg1));
 			case 3 -> CodecBuilder.of(
 				fieldCodecs[0], fieldCodecs[1], fieldCodecs[2]
-			).create((arg0, arg1, arg2) -> createInstance(constructor, arg0, arg1, arg2));
+			).create((arg0, arg1, arg2) -> createInstance(instantiator, arg0, arg1, arg2));
 			case 4 -> CodecBuilder.of(
 				fieldCodecs[0], fieldCodecs[1], fieldCodecs[2], fieldCodecs[3]
-			).create((arg0, arg1, arg2, arg3) -> createInstance(constructor, arg0, arg1, arg2, arg3));
+			).create((arg0, arg1, arg2, arg3) -> createInstance(instantiator, arg0, arg1, arg2, arg3));
 			case 5 -> CodecBuilder.of(
 				fieldCodecs[0], fieldCodecs[1], fieldCodecs[2], fieldCodecs[3], fieldCodecs[4]
-			).create((arg0, arg1, arg2, arg3, arg4) -> createInstance(constructor, arg0, arg1, arg2, arg3, arg4));
+			).create((arg0, arg1, arg2, arg3, arg4) -> createInstance(instantiator, arg0, arg1, arg2, arg3, arg4));
 			case 6 -> CodecBuilder.of(
 				fieldCodecs[0], fieldCodecs[1], fieldCodecs[2], fieldCodecs[3], fieldCodecs[4], fieldCodecs[5]
-			).create((arg0, arg1, arg2, arg3, arg4, arg5) -> createInstance(constructor, arg0, arg1, arg2, arg3, arg4, arg5));
+			).create((arg0, arg1, arg2, arg3, arg4, arg5) -> createInstance(instantiator, arg0, arg1, arg2, arg3, arg4, arg5));
 			case 7 -> CodecBuilder.of(
 				fieldCodecs[0], fieldCodecs[1], fieldCodecs[2], fieldCodecs[3], fieldCodecs[4], fieldCodecs[5], fieldCodecs[6]
-			).create((arg0, arg1, arg2, arg3, arg4, arg5, arg6) -> createInstance(constructor, arg0, arg1, arg2, arg3, arg4, arg5, arg6));
+			).create((arg0, arg1, arg2, arg3, arg4, arg5, arg6) -> createInstance(instantiator, arg0, arg1, arg2, arg3, arg4, arg5, arg6));
 			case 8 -> CodecBuilder.of(
 				fieldCodecs[0], fieldCodecs[1], fieldCodecs[2], fieldCodecs[3], fieldCodecs[4], fieldCodecs[5], fieldCodecs[6], fieldCodecs[7]
-			).create((arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7) -> createInstance(constructor, arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7));
+			).create((arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7) -> createInstance(instantiator, arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7));
 			case 9 -> CodecBuilder.of(
 				fieldCodecs[0], fieldCodecs[1], fieldCodecs[2], fieldCodecs[3], fieldCodecs[4], fieldCodecs[5], fieldCodecs[6], fieldCodecs[7],
 				fieldCodecs[8]
-			).create((arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8) -> createInstance(constructor, arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8));
+			).create((arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8) -> createInstance(instantiator, arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8));
 			case 10 -> CodecBuilder.of(
 				fieldCodecs[0], fieldCodecs[1], fieldCodecs[2], fieldCodecs[3], fieldCodecs[4], fieldCodecs[5], fieldCodecs[6], fieldCodecs[7],
 				fieldCodecs[8], fieldCodecs[9]
-			).create((arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9) -> createInstance(constructor, arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9));
+			).create((arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9) -> createInstance(instantiator, arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9));
 			case 11 -> CodecBuilder.of(
 				fieldCodecs[0], fieldCodecs[1], fieldCodecs[2], fieldCodecs[3], fieldCodecs[4], fieldCodecs[5], fieldCodecs[6], fieldCodecs[7],
 				fieldCodecs[8], fieldCodecs[9], fieldCodecs[10]
 			).create((arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10) -> createInstance(
-				constructor, arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10
+				instantiator, arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10
 			));
 			case 12 -> CodecBuilder.of(
 				fieldCodecs[0], fieldCodecs[1], fieldCodecs[2], fieldCodecs[3], fieldCodecs[4], fieldCodecs[5], fieldCodecs[6], fieldCodecs[7],
 				fieldCodecs[8], fieldCodecs[9], fieldCodecs[10], fieldCodecs[11]
 			).create((arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10, arg11) -> createInstance(
-				constructor, arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10, arg11
+				instantiator, arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10, arg11
 			));
 			case 13 -> CodecBuilder.of(
 				fieldCodecs[0], fieldCodecs[1], fieldCodecs[2], fieldCodecs[3], fieldCodecs[4], fieldCodecs[5], fieldCodecs[6], fieldCodecs[7],
 				fieldCodecs[8], fieldCodecs[9], fieldCodecs[10], fieldCodecs[11], fieldCodecs[12]
 			).create((arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10, arg11, arg12) -> createInstance(
-				constructor, arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10, arg11, arg12
+				instantiator, arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10, arg11, arg12
 			));
 			case 14 -> CodecBuilder.of(
 				fieldCodecs[0], fieldCodecs[1], fieldCodecs[2], fieldCodecs[3], fieldCodecs[4], fieldCodecs[5], fieldCodecs[6], fieldCodecs[7],
 				fieldCodecs[8], fieldCodecs[9], fieldCodecs[10], fieldCodecs[11], fieldCodecs[12], fieldCodecs[13]
 			).create((arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10, arg11, arg12, arg13) -> createInstance(
-				constructor, arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10, arg11, arg12, arg13
+				instantiator, arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10, arg11, arg12, arg13
 			));
 			case 15 -> CodecBuilder.of(
 				fieldCodecs[0], fieldCodecs[1], fieldCodecs[2], fieldCodecs[3], fieldCodecs[4], fieldCodecs[5], fieldCodecs[6], fieldCodecs[7],
 				fieldCodecs[8], fieldCodecs[9], fieldCodecs[10], fieldCodecs[11], fieldCodecs[12], fieldCodecs[13], fieldCodecs[14]
 			).create((arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10, arg11, arg12, arg13, arg14) -> createInstance(
-				constructor, arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10, arg11, arg12, arg13, arg14
+				instantiator, arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10, arg11, arg12, arg13, arg14
 			));
 			case 16 -> CodecBuilder.of(
 				fieldCodecs[0], fieldCodecs[1], fieldCodecs[2], fieldCodecs[3], fieldCodecs[4], fieldCodecs[5], fieldCodecs[6], fieldCodecs[7],
 				fieldCodecs[8], fieldCodecs[9], fieldCodecs[10], fieldCodecs[11], fieldCodecs[12], fieldCodecs[13], fieldCodecs[14], fieldCodecs[15]
 			).create((arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10, arg11, arg12, arg13, arg14, arg15) -> createInstance(
-				constructor, arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10, arg11, arg12, arg13, arg14, arg15
+				instantiator, arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10, arg11, arg12, arg13, arg14, arg15
 			));
 			default -> throw new IllegalArgumentException("Record class has too many components (max 16): " + clazz.getName());
 		};
@@ -384,7 +386,8 @@ public final class CodecAutoMapping {
 		Codec<C> codec = getCodec(component.getType(), genericInfo == null ? null : genericInfo.value());
 		String name = component.getName();
 		
-		Function<O, C> getter = o -> (C) component.accessValue(o).orElseThrow();
+		Function<Object, Object> accessor = component.createAccessor();
+		Function<O, C> getter = o -> (C) accessor.apply(o);
 		return codec.fieldOf(name, getter);
 	}
 	
@@ -477,16 +480,492 @@ public final class CodecAutoMapping {
 	}
 	
 	/**
-	 * Creates a new instance of a class using the specified constructor and arguments.<br>
-	 * This method uses reflection to instantiate the class.<br>
+	 * Creates an instantiator method handle for the given constructor.<br>
+	 * <p>
+	 *     The method handle is resolved once when the codec is created and adapted to the generic type {@code (Object, ...)Object},
+	 *     so creating an instance neither performs any reflective access checks nor allocates an argument array.<br>
+	 *     If the constructor is not accessible via method handles, the method handle falls back to reflection.
+	 * </p>
 	 *
-	 * @param constructor The constructor to use
+	 * @param constructor The constructor to create the instantiator for
+	 * @return The instantiator method handle which accepts the constructor arguments
+	 * @throws NullPointerException If the constructor is null
+	 * @throws IllegalStateException If the reflective fallback can not be resolved
+	 */
+	private static @NonNull MethodHandle createInstantiator(@NonNull Constructor<?> constructor) {
+		Objects.requireNonNull(constructor, "Constructor must not be null");
+		
+		int parameterCount = constructor.getParameterCount();
+		MethodHandle handle;
+		try {
+			handle = constructor.trySetAccessible() ? MethodHandles.lookup().unreflectConstructor(constructor) : null;
+		} catch (IllegalAccessException e) {
+			handle = null;
+		}
+		if (handle == null) {
+			try {
+				MethodHandle reflective = MethodHandles.lookup().findStatic(
+					CodecAutoMapping.class, "newInstanceReflectively", MethodType.methodType(Object.class, Constructor.class, Object[].class)
+				);
+				handle = reflective.bindTo(constructor).asCollector(Object[].class, parameterCount);
+			} catch (NoSuchMethodException | IllegalAccessException e) {
+				throw new IllegalStateException("Unable to create instantiator for " + constructor.getDeclaringClass().getName(), e);
+			}
+		}
+		return handle.asType(MethodType.genericMethodType(parameterCount));
+	}
+	
+	/**
+	 * Creates a new instance using reflection.<br>
+	 * This method is the fallback of {@link #createInstantiator(Constructor)} if the constructor is not accessible via method handles.<br>
+	 *
+	 * @param constructor The constructor to invoke
 	 * @param args The arguments to pass to the constructor
-	 * @param <O> The type of the class
 	 * @return A new instance of the class
-	 * @throws NullPointerException If the constructor or args are null
+	 * @throws NoSuchElementException If the instance could not be created
 	 */
-	private static <O> @NonNull O createInstance(@NonNull Constructor<O> constructor, Object @NonNull ... args) {
+	private static @NonNull Object newInstanceReflectively(@NonNull Constructor<?> constructor, Object @NonNull [] args) {
 		return ReflectionHelper.newInstance(constructor, args).orElseThrow();
 	}
+	
+	/**
+	 * Converts a throwable thrown by an instantiator into an unchecked exception.<br>
+	 * Errors are rethrown, runtime exceptions are returned as is and any other throwable is wrapped into an {@link IllegalStateException}.<br>
+	 *
+	 * @param throwable The throwable to convert
+	 * @return The unchecked exception to throw
+	 */
+	private static @NonNull RuntimeException propagate(@NonNull Throwable throwable) {
+		if (throwable instanceof Error error) {
+			throw error;
+		}
+		if (throwable instanceof RuntimeException exception) {
+			return exception;
+		}
+		return new IllegalStateException("Unable to create instance", throwable);
+	}
+	
+	/**
+	 * Creates a new instance of a class with 1 constructor argument using the specified instantiator.<br>
+	 *
+	 * @param instantiator The instantiator to use
+	 * @param arg0 The first constructor argument
+	 * @return A new instance of the class
+	 * @param <O> The type of the class
+	 * @see #createInstantiator(Constructor)
+	 */
+	@SuppressWarnings("unchecked")
+	private static <O> @NonNull O createInstance(@NonNull MethodHandle instantiator, @Nullable Object arg0) {
+		try {
+			Object instance = instantiator.invokeExact(arg0);
+			return (O) instance;
+		} catch (Throwable e) {
+			throw propagate(e);
+		}
+	}
+	
+	/**
+	 * Creates a new instance of a class with 2 constructor arguments using the specified instantiator.<br>
+	 *
+	 * @param instantiator The instantiator to use
+	 * @param arg0 The first constructor argument
+	 * @param arg1 The second constructor argument
+	 * @return A new instance of the class
+	 * @param <O> The type of the class
+	 * @see #createInstantiator(Constructor)
+	 */
+	@SuppressWarnings("unchecked")
+	private static <O> @NonNull O createInstance(@NonNull MethodHandle instantiator, @Nullable Object arg0, @Nullable Object arg1) {
+		try {
+			Object instance = instantiator.invokeExact(arg0, arg1);
+			return (O) instance;
+		} catch (Throwable e) {
+			throw propagate(e);
+		}
+	}
+	
+	/**
+	 * Creates a new instance of a class with 3 constructor arguments using the specified instantiator.<br>
+	 *
+	 * @param instantiator The instantiator to use
+	 * @param arg0 The first constructor argument
+	 * @param arg1 The second constructor argument
+	 * @param arg2 The third constructor argument
+	 * @return A new instance of the class
+	 * @param <O> The type of the class
+	 * @see #createInstantiator(Constructor)
+	 */
+	@SuppressWarnings("unchecked")
+	private static <O> @NonNull O createInstance(@NonNull MethodHandle instantiator, @Nullable Object arg0, @Nullable Object arg1, @Nullable Object arg2) {
+		try {
+			Object instance = instantiator.invokeExact(arg0, arg1, arg2);
+			return (O) instance;
+		} catch (Throwable e) {
+			throw propagate(e);
+		}
+	}
+	
+	/**
+	 * Creates a new instance of a class with 4 constructor arguments using the specified instantiator.<br>
+	 *
+	 * @param instantiator The instantiator to use
+	 * @param arg0 The first constructor argument
+	 * @param arg1 The second constructor argument
+	 * @param arg2 The third constructor argument
+	 * @param arg3 The fourth constructor argument
+	 * @return A new instance of the class
+	 * @param <O> The type of the class
+	 * @see #createInstantiator(Constructor)
+	 */
+	@SuppressWarnings("unchecked")
+	private static <O> @NonNull O createInstance(@NonNull MethodHandle instantiator, @Nullable Object arg0, @Nullable Object arg1, @Nullable Object arg2, @Nullable Object arg3) {
+		try {
+			Object instance = instantiator.invokeExact(arg0, arg1, arg2, arg3);
+			return (O) instance;
+		} catch (Throwable e) {
+			throw propagate(e);
+		}
+	}
+	
+	/**
+	 * Creates a new instance of a class with 5 constructor arguments using the specified instantiator.<br>
+	 *
+	 * @param instantiator The instantiator to use
+	 * @param arg0 The first constructor argument
+	 * @param arg1 The second constructor argument
+	 * @param arg2 The third constructor argument
+	 * @param arg3 The fourth constructor argument
+	 * @param arg4 The fifth constructor argument
+	 * @return A new instance of the class
+	 * @param <O> The type of the class
+	 * @see #createInstantiator(Constructor)
+	 */
+	@SuppressWarnings("unchecked")
+	private static <O> @NonNull O createInstance(@NonNull MethodHandle instantiator, @Nullable Object arg0, @Nullable Object arg1, @Nullable Object arg2, @Nullable Object arg3, @Nullable Object arg4) {
+		try {
+			Object instance = instantiator.invokeExact(arg0, arg1, arg2, arg3, arg4);
+			return (O) instance;
+		} catch (Throwable e) {
+			throw propagate(e);
+		}
+	}
+	
+	/**
+	 * Creates a new instance of a class with 6 constructor arguments using the specified instantiator.<br>
+	 *
+	 * @param instantiator The instantiator to use
+	 * @param arg0 The first constructor argument
+	 * @param arg1 The second constructor argument
+	 * @param arg2 The third constructor argument
+	 * @param arg3 The fourth constructor argument
+	 * @param arg4 The fifth constructor argument
+	 * @param arg5 The sixth constructor argument
+	 * @return A new instance of the class
+	 * @param <O> The type of the class
+	 * @see #createInstantiator(Constructor)
+	 */
+	@SuppressWarnings("unchecked")
+	private static <O> @NonNull O createInstance(@NonNull MethodHandle instantiator, @Nullable Object arg0, @Nullable Object arg1, @Nullable Object arg2, @Nullable Object arg3, @Nullable Object arg4, @Nullable Object arg5) {
+		try {
+			Object instance = instantiator.invokeExact(arg0, arg1, arg2, arg3, arg4, arg5);
+			return (O) instance;
+		} catch (Throwable e) {
+			throw propagate(e);
+		}
+	}
+	
+	/**
+	 * Creates a new instance of a class with 7 constructor arguments using the specified instantiator.<br>
+	 *
+	 * @param instantiator The instantiator to use
+	 * @param arg0 The first constructor argument
+	 * @param arg1 The second constructor argument
+	 * @param arg2 The third constructor argument
+	 * @param arg3 The fourth constructor argument
+	 * @param arg4 The fifth constructor argument
+	 * @param arg5 The sixth constructor argument
+	 * @param arg6 The seventh constructor argument
+	 * @return A new instance of the class
+	 * @param <O> The type of the class
+	 * @see #createInstantiator(Constructor)
+	 */
+	@SuppressWarnings("unchecked")
+	private static <O> @NonNull O createInstance(@NonNull MethodHandle instantiator, @Nullable Object arg0, @Nullable Object arg1, @Nullable Object arg2, @Nullable Object arg3, @Nullable Object arg4, @Nullable Object arg5, @Nullable Object arg6) {
+		try {
+			Object instance = instantiator.invokeExact(arg0, arg1, arg2, arg3, arg4, arg5, arg6);
+			return (O) instance;
+		} catch (Throwable e) {
+			throw propagate(e);
+		}
+	}
+	
+	/**
+	 * Creates a new instance of a class with 8 constructor arguments using the specified instantiator.<br>
+	 *
+	 * @param instantiator The instantiator to use
+	 * @param arg0 The first constructor argument
+	 * @param arg1 The second constructor argument
+	 * @param arg2 The third constructor argument
+	 * @param arg3 The fourth constructor argument
+	 * @param arg4 The fifth constructor argument
+	 * @param arg5 The sixth constructor argument
+	 * @param arg6 The seventh constructor argument
+	 * @param arg7 The eighth constructor argument
+	 * @return A new instance of the class
+	 * @param <O> The type of the class
+	 * @see #createInstantiator(Constructor)
+	 */
+	@SuppressWarnings("unchecked")
+	private static <O> @NonNull O createInstance(@NonNull MethodHandle instantiator, @Nullable Object arg0, @Nullable Object arg1, @Nullable Object arg2, @Nullable Object arg3, @Nullable Object arg4, @Nullable Object arg5, @Nullable Object arg6, @Nullable Object arg7) {
+		try {
+			Object instance = instantiator.invokeExact(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7);
+			return (O) instance;
+		} catch (Throwable e) {
+			throw propagate(e);
+		}
+	}
+	
+	/**
+	 * Creates a new instance of a class with 9 constructor arguments using the specified instantiator.<br>
+	 *
+	 * @param instantiator The instantiator to use
+	 * @param arg0 The first constructor argument
+	 * @param arg1 The second constructor argument
+	 * @param arg2 The third constructor argument
+	 * @param arg3 The fourth constructor argument
+	 * @param arg4 The fifth constructor argument
+	 * @param arg5 The sixth constructor argument
+	 * @param arg6 The seventh constructor argument
+	 * @param arg7 The eighth constructor argument
+	 * @param arg8 The ninth constructor argument
+	 * @return A new instance of the class
+	 * @param <O> The type of the class
+	 * @see #createInstantiator(Constructor)
+	 */
+	@SuppressWarnings("unchecked")
+	private static <O> @NonNull O createInstance(@NonNull MethodHandle instantiator, @Nullable Object arg0, @Nullable Object arg1, @Nullable Object arg2, @Nullable Object arg3, @Nullable Object arg4, @Nullable Object arg5, @Nullable Object arg6, @Nullable Object arg7, @Nullable Object arg8) {
+		try {
+			Object instance = instantiator.invokeExact(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8);
+			return (O) instance;
+		} catch (Throwable e) {
+			throw propagate(e);
+		}
+	}
+	
+	/**
+	 * Creates a new instance of a class with 10 constructor arguments using the specified instantiator.<br>
+	 *
+	 * @param instantiator The instantiator to use
+	 * @param arg0 The first constructor argument
+	 * @param arg1 The second constructor argument
+	 * @param arg2 The third constructor argument
+	 * @param arg3 The fourth constructor argument
+	 * @param arg4 The fifth constructor argument
+	 * @param arg5 The sixth constructor argument
+	 * @param arg6 The seventh constructor argument
+	 * @param arg7 The eighth constructor argument
+	 * @param arg8 The ninth constructor argument
+	 * @param arg9 The tenth constructor argument
+	 * @return A new instance of the class
+	 * @param <O> The type of the class
+	 * @see #createInstantiator(Constructor)
+	 */
+	@SuppressWarnings("unchecked")
+	private static <O> @NonNull O createInstance(@NonNull MethodHandle instantiator, @Nullable Object arg0, @Nullable Object arg1, @Nullable Object arg2, @Nullable Object arg3, @Nullable Object arg4, @Nullable Object arg5, @Nullable Object arg6, @Nullable Object arg7, @Nullable Object arg8, @Nullable Object arg9) {
+		try {
+			Object instance = instantiator.invokeExact(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9);
+			return (O) instance;
+		} catch (Throwable e) {
+			throw propagate(e);
+		}
+	}
+	
+	/**
+	 * Creates a new instance of a class with 11 constructor arguments using the specified instantiator.<br>
+	 *
+	 * @param instantiator The instantiator to use
+	 * @param arg0 The first constructor argument
+	 * @param arg1 The second constructor argument
+	 * @param arg2 The third constructor argument
+	 * @param arg3 The fourth constructor argument
+	 * @param arg4 The fifth constructor argument
+	 * @param arg5 The sixth constructor argument
+	 * @param arg6 The seventh constructor argument
+	 * @param arg7 The eighth constructor argument
+	 * @param arg8 The ninth constructor argument
+	 * @param arg9 The tenth constructor argument
+	 * @param arg10 The eleventh constructor argument
+	 * @return A new instance of the class
+	 * @param <O> The type of the class
+	 * @see #createInstantiator(Constructor)
+	 */
+	@SuppressWarnings("unchecked")
+	private static <O> @NonNull O createInstance(@NonNull MethodHandle instantiator, @Nullable Object arg0, @Nullable Object arg1, @Nullable Object arg2, @Nullable Object arg3, @Nullable Object arg4, @Nullable Object arg5, @Nullable Object arg6, @Nullable Object arg7, @Nullable Object arg8, @Nullable Object arg9, @Nullable Object arg10) {
+		try {
+			Object instance = instantiator.invokeExact(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10);
+			return (O) instance;
+		} catch (Throwable e) {
+			throw propagate(e);
+		}
+	}
+	
+	/**
+	 * Creates a new instance of a class with 12 constructor arguments using the specified instantiator.<br>
+	 *
+	 * @param instantiator The instantiator to use
+	 * @param arg0 The first constructor argument
+	 * @param arg1 The second constructor argument
+	 * @param arg2 The third constructor argument
+	 * @param arg3 The fourth constructor argument
+	 * @param arg4 The fifth constructor argument
+	 * @param arg5 The sixth constructor argument
+	 * @param arg6 The seventh constructor argument
+	 * @param arg7 The eighth constructor argument
+	 * @param arg8 The ninth constructor argument
+	 * @param arg9 The tenth constructor argument
+	 * @param arg10 The eleventh constructor argument
+	 * @param arg11 The twelfth constructor argument
+	 * @return A new instance of the class
+	 * @param <O> The type of the class
+	 * @see #createInstantiator(Constructor)
+	 */
+	@SuppressWarnings("unchecked")
+	private static <O> @NonNull O createInstance(@NonNull MethodHandle instantiator, @Nullable Object arg0, @Nullable Object arg1, @Nullable Object arg2, @Nullable Object arg3, @Nullable Object arg4, @Nullable Object arg5, @Nullable Object arg6, @Nullable Object arg7, @Nullable Object arg8, @Nullable Object arg9, @Nullable Object arg10, @Nullable Object arg11) {
+		try {
+			Object instance = instantiator.invokeExact(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10, arg11);
+			return (O) instance;
+		} catch (Throwable e) {
+			throw propagate(e);
+		}
+	}
+	
+	/**
+	 * Creates a new instance of a class with 13 constructor arguments using the specified instantiator.<br>
+	 *
+	 * @param instantiator The instantiator to use
+	 * @param arg0 The first constructor argument
+	 * @param arg1 The second constructor argument
+	 * @param arg2 The third constructor argument
+	 * @param arg3 The fourth constructor argument
+	 * @param arg4 The fifth constructor argument
+	 * @param arg5 The sixth constructor argument
+	 * @param arg6 The seventh constructor argument
+	 * @param arg7 The eighth constructor argument
+	 * @param arg8 The ninth constructor argument
+	 * @param arg9 The tenth constructor argument
+	 * @param arg10 The eleventh constructor argument
+	 * @param arg11 The twelfth constructor argument
+	 * @param arg12 The thirteenth constructor argument
+	 * @return A new instance of the class
+	 * @param <O> The type of the class
+	 * @see #createInstantiator(Constructor)
+	 */
+	@SuppressWarnings("unchecked")
+	private static <O> @NonNull O createInstance(@NonNull MethodHandle instantiator, @Nullable Object arg0, @Nullable Object arg1, @Nullable Object arg2, @Nullable Object arg3, @Nullable Object arg4, @Nullable Object arg5, @Nullable Object arg6, @Nullable Object arg7, @Nullable Object arg8, @Nullable Object arg9, @Nullable Object arg10, @Nullable Object arg11, @Nullable Object arg12) {
+		try {
+			Object instance = instantiator.invokeExact(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10, arg11, arg12);
+			return (O) instance;
+		} catch (Throwable e) {
+			throw propagate(e);
+		}
+	}
+	
+	/**
+	 * Creates a new instance of a class with 14 constructor arguments using the specified instantiator.<br>
+	 *
+	 * @param instantiator The instantiator to use
+	 * @param arg0 The first constructor argument
+	 * @param arg1 The second constructor argument
+	 * @param arg2 The third constructor argument
+	 * @param arg3 The fourth constructor argument
+	 * @param arg4 The fifth constructor argument
+	 * @param arg5 The sixth constructor argument
+	 * @param arg6 The seventh constructor argument
+	 * @param arg7 The eighth constructor argument
+	 * @param arg8 The ninth constructor argument
+	 * @param arg9 The tenth constructor argument
+	 * @param arg10 The eleventh constructor argument
+	 * @param arg11 The twelfth constructor argument
+	 * @param arg12 The thirteenth constructor argument
+	 * @param arg13 The fourteenth constructor argument
+	 * @return A new instance of the class
+	 * @param <O> The type of the class
+	 * @see #createInstantiator(Constructor)
+	 */
+	@SuppressWarnings("unchecked")
+	private static <O> @NonNull O createInstance(@NonNull MethodHandle instantiator, @Nullable Object arg0, @Nullable Object arg1, @Nullable Object arg2, @Nullable Object arg3, @Nullable Object arg4, @Nullable Object arg5, @Nullable Object arg6, @Nullable Object arg7, @Nullable Object arg8, @Nullable Object arg9, @Nullable Object arg10, @Nullable Object arg11, @Nullable Object arg12, @Nullable Object arg13) {
+		try {
+			Object instance = instantiator.invokeExact(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10, arg11, arg12, arg13);
+			return (O) instance;
+		} catch (Throwable e) {
+			throw propagate(e);
+		}
+	}
+	
+	/**
+	 * Creates a new instance of a class with 15 constructor arguments using the specified instantiator.<br>
+	 *
+	 * @param instantiator The instantiator to use
+	 * @param arg0 The first constructor argument
+	 * @param arg1 The second constructor argument
+	 * @param arg2 The third constructor argument
+	 * @param arg3 The fourth constructor argument
+	 * @param arg4 The fifth constructor argument
+	 * @param arg5 The sixth constructor argument
+	 * @param arg6 The seventh constructor argument
+	 * @param arg7 The eighth constructor argument
+	 * @param arg8 The ninth constructor argument
+	 * @param arg9 The tenth constructor argument
+	 * @param arg10 The eleventh constructor argument
+	 * @param arg11 The twelfth constructor argument
+	 * @param arg12 The thirteenth constructor argument
+	 * @param arg13 The fourteenth constructor argument
+	 * @param arg14 The fifteenth constructor argument
+	 * @return A new instance of the class
+	 * @param <O> The type of the class
+	 * @see #createInstantiator(Constructor)
+	 */
+	@SuppressWarnings("unchecked")
+	private static <O> @NonNull O createInstance(@NonNull MethodHandle instantiator, @Nullable Object arg0, @Nullable Object arg1, @Nullable Object arg2, @Nullable Object arg3, @Nullable Object arg4, @Nullable Object arg5, @Nullable Object arg6, @Nullable Object arg7, @Nullable Object arg8, @Nullable Object arg9, @Nullable Object arg10, @Nullable Object arg11, @Nullable Object arg12, @Nullable Object arg13, @Nullable Object arg14) {
+		try {
+			Object instance = instantiator.invokeExact(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10, arg11, arg12, arg13, arg14);
+			return (O) instance;
+		} catch (Throwable e) {
+			throw propagate(e);
+		}
+	}
+	
+	/**
+	 * Creates a new instance of a class with 16 constructor arguments using the specified instantiator.<br>
+	 *
+	 * @param instantiator The instantiator to use
+	 * @param arg0 The first constructor argument
+	 * @param arg1 The second constructor argument
+	 * @param arg2 The third constructor argument
+	 * @param arg3 The fourth constructor argument
+	 * @param arg4 The fifth constructor argument
+	 * @param arg5 The sixth constructor argument
+	 * @param arg6 The seventh constructor argument
+	 * @param arg7 The eighth constructor argument
+	 * @param arg8 The ninth constructor argument
+	 * @param arg9 The tenth constructor argument
+	 * @param arg10 The eleventh constructor argument
+	 * @param arg11 The twelfth constructor argument
+	 * @param arg12 The thirteenth constructor argument
+	 * @param arg13 The fourteenth constructor argument
+	 * @param arg14 The fifteenth constructor argument
+	 * @param arg15 The sixteenth constructor argument
+	 * @return A new instance of the class
+	 * @param <O> The type of the class
+	 * @see #createInstantiator(Constructor)
+	 */
+	@SuppressWarnings("unchecked")
+	private static <O> @NonNull O createInstance(@NonNull MethodHandle instantiator, @Nullable Object arg0, @Nullable Object arg1, @Nullable Object arg2, @Nullable Object arg3, @Nullable Object arg4, @Nullable Object arg5, @Nullable Object arg6, @Nullable Object arg7, @Nullable Object arg8, @Nullable Object arg9, @Nullable Object arg10, @Nullable Object arg11, @Nullable Object arg12, @Nullable Object arg13, @Nullable Object arg14, @Nullable Object arg15) {
+		try {
+			Object instance = instantiator.invokeExact(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10, arg11, arg12, arg13, arg14, arg15);
+			return (O) instance;
+		} catch (Throwable e) {
+			throw propagate(e);
+		}
+	}
 }
@@ -22,12 +22,14 @@ import net.luis.utils.util.Either;
 import net.luis.utils.util.unsafe.reflection.ReflectionHelper;
 import org.jetbrains.annotations.UnknownNullability;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Field;
-import java.lang.reflect.RecordComponent;
+import java.lang.invoke.*;
+import java.lang.reflect.*;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * A wrapper class that represents a component of a class which can be either a record component or a field.<br>
@@ -120,6 +122,56 @@ public class CodecComponent {
 		);
 	}
 	
+	/**
+	 * Creates an accessor function for the value of this component.<br>
+	 * <p>
+	 *     The accessor is backed by a method handle which is resolved once when this method is called,
+	 *     so accessing the value does not perform any reflective access checks or argument wrapping.<br>
+	 *     If the component is not accessible via method handles, the accessor falls back to {@link #accessValue(Object)}.
+	 * </p>
+	 * <p>
+	 *     In contrast to {@link #accessValue(Object)}, a null value of the component is returned as null.
+	 * </p>
+	 *
+	 * @return The accessor function for the value of this component
+	 */
+	public @NonNull Function<Object, Object> createAccessor() {
+		MethodHandle handle = this.createAccessorHandle();
+		if (handle == null) {
+			return instance -> this.accessValue(instance).orElse(null);
+		}
+		
+		MethodHandle accessor = handle.asType(MethodType.methodType(Object.class, Object.class));
+		return instance -> {
+			Objects.requireNonNull(instance, "Instance must not be null");
+			try {
+				return (Object) accessor.invokeExact(instance);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new IllegalStateException("Unable to access value of component '" + this.getName() + "'", e);
+			}
+		};
+	}
+	
+	/**
+	 * Creates the method handle used to access the value of this component.<br>
+	 * @return The method handle or null if the component is not accessible
+	 */
+	private @Nullable MethodHandle createAccessorHandle() {
+		try {
+			if (this.component.isLeft()) {
+				Method accessor = this.component.leftOrThrow().getAccessor();
+				return accessor.trySetAccessible() ? MethodHandles.lookup().unreflect(accessor) : null;
+			}
+			
+			Field field = this.component.rightOrThrow();
+			return field.trySetAccessible() ? MethodHandles.lookup().unreflectGetter(field) : null;
+		} catch (IllegalAccessException e) {
+			return null;
+		}
+	}
+	
 	//region Object overrides
 	@Override
 	public boolean equals(Object o) {
@@ -0,0 +1,504 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.codec.provider;
+
+import com.google.common.collect.Maps;
+import net.luis.utils.annotation.type.Singleton;
+import net.luis.utils.io.data.binary.*;
+import org.jetbrains.annotations.Unmodifiable;
+import org.jetbrains.annotations.UnknownNullability;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Type provider implementation for binary elements.<br>
+ * This class is a singleton and should be accessed through the {@link #INSTANCE} constant.<br>
+ * <p>
+ *     The created elements can be written with a {@link BinaryWriter} and read with a {@link BinaryReader}.<br>
+ *     Since the binary format keeps the exact type of numeric values, numbers are created with their exact type,
+ *     but any numeric value is accepted when a number is requested.
+ * </p>
+ *
+ * @author Luis-St
+ */
+@Singleton
+public final class BinaryTypeProvider implements TypeProvider<BinaryElement> {
+	
+	/**
+	 * An empty binary element instance.<br>
+	 * Used for internal purposes only.<br>
+	 * The binary element is not supported by the {@link BinaryWriter} and will cause an exception if it is written.<br>
+	 */
+	private static final BinaryElement EMPTY_ELEMENT = new BinaryElement() {
+		@Override
+		public String toString() {
+			return "<empty>";
+		}
+	};
+	
+	/**
+	 * The singleton instance of this class.<br>
+	 */
+	public static final BinaryTypeProvider INSTANCE = new BinaryTypeProvider();
+	
+	/**
+	 * Private constructor to prevent instantiation.<br>
+	 */
+	private BinaryTypeProvider() {}
+	
+	@Override
+	public @NonNull BinaryElement empty() {
+		return EMPTY_ELEMENT;
+	}
+	
+	@Override
+	public <X extends Exception> @NonNull BinaryElement createNull(@NonNull Function<String, X> exceptionConstructor) {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		return BinaryNull.INSTANCE;
+	}
+	
+	@Override
+	public <X extends Exception> @NonNull BinaryElement createBoolean(boolean value, @NonNull Function<String, X> exceptionConstructor) {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		return new BinaryPrimitive(value);
+	}
+	
+	@Override
+	public <X extends Exception> @NonNull BinaryElement createByte(byte value, @NonNull Function<String, X> exceptionConstructor) {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		return new BinaryPrimitive(value);
+	}
+	
+	@Override
+	public <X extends Exception> @NonNull BinaryElement createShort(short value, @NonNull Function<String, X> exceptionConstructor) {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		return new BinaryPrimitive(value);
+	}
+	
+	@Override
+	public <X extends Exception> @NonNull BinaryElement createInteger(int value, @NonNull Function<String, X> exceptionConstructor) {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		return new BinaryPrimitive(value);
+	}
+	
+	@Override
+	public <X extends Exception> @NonNull BinaryElement createLong(long value, @NonNull Function<String, X> exceptionConstructor) {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		return new BinaryPrimitive(value);
+	}
+	
+	@Override
+	public <X extends Exception> @NonNull BinaryElement createFloat(float value, @NonNull Function<String, X> exceptionConstructor) {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		return new BinaryPrimitive(value);
+	}
+	
+	@Override
+	public <X extends Exception> @NonNull BinaryElement createDouble(double value, @NonNull Function<String, X> exceptionConstructor) {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		return new BinaryPrimitive(value);
+	}
+	
+	@Override
+	public <X extends Exception> @NonNull BinaryElement createString(@Nullable String value, @NonNull Function<String, X> exceptionConstructor) throws X {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		if (value == null) {
+			throw exceptionConstructor.apply("Value 'null' is not a valid string");
+		}
+		return new BinaryPrimitive(value);
+	}
+	
+	@Override
+	public <X extends Exception> @NonNull BinaryElement createList(@Nullable List<? extends BinaryElement> values, @NonNull Function<String, X> exceptionConstructor) throws X {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		if (values == null) {
+			throw exceptionConstructor.apply("Value 'null' is not a valid list");
+		}
+		return new BinaryArray(values);
+	}
+	
+	@Override
+	public <X extends Exception> @NonNull BinaryElement createIntegerArray(int @Nullable [] values, @NonNull Function<String, X> exceptionConstructor) throws X {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		if (values == null) {
+			throw exceptionConstructor.apply("Value 'null' is not a valid int array");
+		}
+		BinaryArray array = new BinaryArray();
+		for (int value : values) {
+			array.add(new BinaryPrimitive(value));
+		}
+		return array;
+	}
+	
+	@Override
+	public <X extends Exception> @NonNull BinaryElement createLongArray(long @Nullable [] values, @NonNull Function<String, X> exceptionConstructor) throws X {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		if (values == null) {
+			throw exceptionConstructor.apply("Value 'null' is not a valid long array");
+		}
+		BinaryArray array = new BinaryArray();
+		for (long value : values) {
+			array.add(new BinaryPrimitive(value));
+		}
+		return array;
+	}
+	
+	@Override
+	public <X extends Exception> @NonNull BinaryElement createDoubleArray(double @Nullable [] values, @NonNull Function<String, X> exceptionConstructor) throws X {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		if (values == null) {
+			throw exceptionConstructor.apply("Value 'null' is not a valid double array");
+		}
+		BinaryArray array = new BinaryArray();
+		for (double value : values) {
+			array.add(new BinaryPrimitive(value));
+		}
+		return array;
+	}
+	
+	@Override
+	public <X extends Exception> @NonNull BinaryElement createMap(@NonNull Function<String, X> exceptionConstructor) {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		return new BinaryObject();
+	}
+	
+	@Override
+	public <X extends Exception> @NonNull BinaryElement createMap(@Nullable Map<String, ? extends BinaryElement> values, @NonNull Function<String, X> exceptionConstructor) throws X {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		if (values == null) {
+			throw exceptionConstructor.apply("Value 'null' is not a valid map");
+		}
+		return new BinaryObject(values);
+	}
+	
+	@Override
+	public <X extends Exception> boolean isEmpty(@Nullable BinaryElement type, @NonNull Function<String, X> exceptionConstructor) throws X {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		if (type == null) {
+			throw exceptionConstructor.apply("Value 'null' is not valid");
+		}
+		return type == EMPTY_ELEMENT;
+	}
+	
+	@Override
+	public <X extends Exception> boolean isNull(@Nullable BinaryElement type, @NonNull Function<String, X> exceptionConstructor) throws X {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		if (type == null) {
+			throw exceptionConstructor.apply("Value 'null' is not valid");
+		}
+		return type.isBinaryNull();
+	}
+	
+	@Override
+	public <X extends Exception> @Nullable ValueKind getKind(@Nullable BinaryElement type, @NonNull Function<String, X> exceptionConstructor) throws X {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		if (type == null) {
+			throw exceptionConstructor.apply("Value 'null' is not valid");
+		}
+		if (type.isBinaryNull()) {
+			return ValueKind.NULL;
+		}
+		if (type.isBinaryObject()) {
+			return ValueKind.MAP;
+		}
+		if (type.isBinaryArray()) {
+			return ValueKind.LIST;
+		}
+		if (type.isBinaryPrimitive()) {
+			BinaryPrimitive primitive = type.getAsBinaryPrimitive();
+			if (primitive.isBoolean()) {
+				return ValueKind.BOOLEAN;
+			}
+			if (primitive.isNumber()) {
+				return ValueKind.NUMBER;
+			}
+			if (primitive.isString()) {
+				return ValueKind.STRING;
+			}
+		}
+		return null;
+	}
+	
+	@Override
+	public <X extends Exception> @NonNull Boolean getBoolean(@Nullable BinaryElement type, @NonNull Function<String, X> exceptionConstructor) throws X {
+		BinaryPrimitive primitive = getPrimitive(type, "a boolean", exceptionConstructor);
+		if (!primitive.isBoolean()) {
+			throw exceptionConstructor.apply("Binary element '" + TypeProvider.describe(primitive) + "' is not a binary boolean");
+		}
+		return primitive.getAsBoolean();
+	}
+	
+	@Override
+	public <X extends Exception> @NonNull Byte getByte(@Nullable BinaryElement type, @NonNull Function<String, X> exceptionConstructor) throws X {
+		return getNumber(type, "a byte", exceptionConstructor).getAsByte();
+	}
+	
+	@Override
+	public <X extends Exception> @NonNull Short getShort(@Nullable BinaryElement type, @NonNull Function<String, X> exceptionConstructor) throws X {
+		return getNumber(type, "a short", exceptionConstructor).getAsShort();
+	}
+	
+	@Override
+	public <X extends Exception> @NonNull Integer getInteger(@Nullable BinaryElement type, @NonNull Function<String, X> exceptionConstructor) throws X {
+		return getNumber(type, "an integer", exceptionConstructor).getAsInteger();
+	}
+	
+	@Override
+	public <X extends Exception> @NonNull Long getLong(@Nullable BinaryElement type, @NonNull Function<String, X> exceptionConstructor) throws X {
+		return getNumber(type, "a long", exceptionConstructor).getAsLong();
+	}
+	
+	@Override
+	public <X extends Exception> @NonNull Float getFloat(@Nullable BinaryElement type, @NonNull Function<String, X> exceptionConstructor) throws X {
+		return getNumber(type, "a float", exceptionConstructor).getAsFloat();
+	}
+	
+	@Override
+	public <X extends Exception> @NonNull Double getDouble(@Nullable BinaryElement type, @NonNull Function<String, X> exceptionConstructor) throws X {
+		return getNumber(type, "a double", exceptionConstructor).getAsDouble();
+	}
+	
+	@Override
+	public <X extends Exception> @NonNull String getString(@Nullable BinaryElement type, @NonNull Function<String, X> exceptionConstructor) throws X {
+		BinaryPrimitive primitive = getPrimitive(type, "a string", exceptionConstructor);
+		if (!primitive.isString()) {
+			throw exceptionConstructor.apply("Binary element '" + TypeProvider.describe(primitive) + "' is not a binary string");
+		}
+		return primitive.getAsString();
+	}
+	
+	@Override
+	public <X extends Exception> @NonNull List<BinaryElement> getList(@Nullable BinaryElement type, @NonNull Function<String, X> exceptionConstructor) throws X {
+		return getArray(type, exceptionConstructor).getElements();
+	}
+	
+	@Override
+	public <X extends Exception> int @NonNull [] getIntegerArray(@Nullable BinaryElement type, @NonNull Function<String, X> exceptionConstructor) throws X {
+		BinaryArray array = getArray(type, exceptionConstructor);
+		int[] values = new int[array.size()];
+		int i = 0;
+		for (BinaryElement element : array) {
+			values[i] = getNumber(element, "an integer", TypeProvider.elementException(i, exceptionConstructor)).getAsInteger();
+			i++;
+		}
+		return values;
+	}
+	
+	@Override
+	public <X extends Exception> long @NonNull [] getLongArray(@Nullable BinaryElement type, @NonNull Function<String, X> exceptionConstructor) throws X {
+		BinaryArray array = getArray(type, exceptionConstructor);
+		long[] values = new long[array.size()];
+		int i = 0;
+		for (BinaryElement element : array) {
+			values[i] = getNumber(element, "a long", TypeProvider.elementException(i, exceptionConstructor)).getAsLong();
+			i++;
+		}
+		return values;
+	}
+	
+	@Override
+	public <X extends Exception> double @NonNull [] getDoubleArray(@Nullable BinaryElement type, @NonNull Function<String, X> exceptionConstructor) throws X {
+		BinaryArray array = getArray(type, exceptionConstructor);
+		double[] values = new double[array.size()];
+		int i = 0;
+		for (BinaryElement element : array) {
+			values[i] = getNumber(element, "a double", TypeProvider.elementException(i, exceptionConstructor)).getAsDouble();
+			i++;
+		}
+		return values;
+	}
+	
+	@Override
+	public <X extends Exception> @NonNull Map<String, BinaryElement> getMap(@Nullable BinaryElement type, @NonNull Function<String, X> exceptionConstructor) throws X {
+		BinaryObject object = getObject(type, exceptionConstructor);
+		Map<String, BinaryElement> map = Maps.newLinkedHashMapWithExpectedSize(object.size());
+		for (Map.Entry<String, BinaryElement> entry : object) {
+			map.put(entry.getKey(), entry.getValue());
+		}
+		return map;
+	}
+	
+	@Override
+	public <X extends Exception> @NonNull @Unmodifiable Map<String, BinaryElement> getMapView(@Nullable BinaryElement type, @NonNull Function<String, X> exceptionConstructor) throws X {
+		BinaryObject object = getObject(type, exceptionConstructor);
+		return ElementMapView.of(object.entrySet(), object::get, object::containsKey);
+	}
+	
+	@Override
+	public <X extends Exception> boolean has(@Nullable BinaryElement type, @Nullable String key, @NonNull Function<String, X> exceptionConstructor) throws X {
+		BinaryObject object = getObject(type, exceptionConstructor);
+		if (key == null) {
+			throw exceptionConstructor.apply("Value 'null' is not valid");
+		}
+		return object.containsKey(key);
+	}
+	
+	@Override
+	public <X extends Exception> @Nullable BinaryElement get(@Nullable BinaryElement type, @Nullable String key, @NonNull Function<String, X> exceptionConstructor) throws X {
+		BinaryObject object = getObject(type, exceptionConstructor);
+		if (key == null) {
+			throw exceptionConstructor.apply("Value 'null' is not valid");
+		}
+		return object.get(key);
+	}
+	
+	@Override
+	public <X extends Exception> void set(@Nullable BinaryElement type, @Nullable String key, @Nullable BinaryElement value, @NonNull Function<String, X> exceptionConstructor) throws X {
+		BinaryObject object = getObject(type, exceptionConstructor);
+		if (key == null) {
+			throw exceptionConstructor.apply("Value 'null' is not valid");
+		}
+		if (value == null) {
+			throw exceptionConstructor.apply("Value 'null' is not valid");
+		}
+		object.add(key, value);
+	}
+	
+	@Override
+	public <X extends Exception> @UnknownNullability BinaryElement merge(@Nullable BinaryElement current, @Nullable BinaryElement value, @NonNull Function<String, X> exceptionConstructor) throws X {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		if (current == null) {
+			return value;
+		}
+		if (value == null) {
+			return current;
+		}
+		
+		if (current == EMPTY_ELEMENT || current.isBinaryNull()) {
+			return value;
+		}
+		if (value == EMPTY_ELEMENT || value.isBinaryNull()) {
+			return current;
+		}
+		
+		if (current instanceof BinaryArray array && value instanceof BinaryArray other) {
+			array.addAll(other);
+			return array;
+		}
+		if (current instanceof BinaryObject object && value instanceof BinaryObject other) {
+			object.addAll(other);
+			return object;
+		}
+		throw exceptionConstructor.apply("Unable to merge '" + TypeProvider.describe(current) + "' with '" + TypeProvider.describe(value) + "'");
+	}
+	
+	/**
+	 * Gets the given binary element as binary primitive.<br>
+	 *
+	 * @param element The binary element to get
+	 * @param name The name of the expected value used in the error message for null values
+	 * @param exceptionConstructor A function to create an exception if the element is not a binary primitive
+	 * @param <X> The type of the exception to throw
+	 * @return The binary primitive of the element
+	 * @throws X If the element is not a binary primitive
+	 */
+	private static <X extends Exception> @NonNull BinaryPrimitive getPrimitive(@Nullable BinaryElement element, @NonNull String name, @NonNull Function<String, X> exceptionConstructor) throws X {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		if (element == null) {
+			throw exceptionConstructor.apply("Value 'null' is not " + name);
+		}
+		if (!(element instanceof BinaryPrimitive primitive)) {
+			throw exceptionConstructor.apply("Binary element '" + TypeProvider.describe(element) + "' is not a binary primitive");
+		}
+		return primitive;
+	}
+	
+	/**
+	 * Gets the given binary element as numeric binary primitive.<br>
+	 *
+	 * @param element The binary element to get
+	 * @param name The name of the expected value used in the error messages
+	 * @param exceptionConstructor A function to create an exception if the element is not a binary number
+	 * @param <X> The type of the exception to throw
+	 * @return The binary primitive of the element
+	 * @throws X If the element is not a binary number
+	 */
+	private static <X extends Exception> @NonNull BinaryPrimitive getNumber(@Nullable BinaryElement element, @NonNull String name, @NonNull Function<String, X> exceptionConstructor) throws X {
+		BinaryPrimitive primitive = getPrimitive(element, name, exceptionConstructor);
+		if (!primitive.isNumber()) {
+			throw exceptionConstructor.apply("Binary element '" + TypeProvider.describe(primitive) + "' is not " + name);
+		}
+		return primitive;
+	}
+	
+	/**
+	 * Gets the given binary element as binary array.<br>
+	 *
+	 * @param element The binary element to get
+	 * @param exceptionConstructor A function to create an exception if the element is not a binary array
+	 * @param <X> The type of the exception to throw
+	 * @return The binary array of the element
+	 * @throws X If the element is not a binary array
+	 */
+	private static <X extends Exception> @NonNull BinaryArray getArray(@Nullable BinaryElement element, @NonNull Function<String, X> exceptionConstructor) throws X {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		if (element == null) {
+			throw exceptionConstructor.apply("Value 'null' is not a valid list");
+		}
+		if (!(element instanceof BinaryArray array)) {
+			throw exceptionConstructor.apply("Binary element '" + TypeProvider.describe(element) + "' is not a binary array");
+		}
+		return array;
+	}
+	
+	/**
+	 * Gets the given binary element as binary object.<br>
+	 *
+	 * @param element The binary element to get
+	 * @param exceptionConstructor A function to create an exception if the element is not a binary object
+	 * @param <X> The type of the exception to throw
+	 * @return The binary object of the element
+	 * @throws X If the element is not a binary object
+	 */
+	private static <X extends Exception> @NonNull BinaryObject getObject(@Nullable BinaryElement element, @NonNull Function<String, X> exceptionConstructor) throws X {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		if (element == null) {
+			throw exceptionConstructor.apply("Value 'null' is not a valid map");
+		}
+		if (!(element instanceof BinaryObject object)) {
+			throw exceptionConstructor.apply("Binary element '" + TypeProvider.describe(element) + "' is not a binary object");
+		}
+		return object;
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.codec.provider;
+
+import org.jetbrains.annotations.Unmodifiable;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Internal read-only map view over the entries of a map-like data element.<br>
+ * Used by the type providers to implement {@link TypeProvider#getMapView(Object, Function)} without copying the entries.<br>
+ * <p>
+ *     Lookups are delegated to the element, iteration uses the entries of the element directly.<br>
+ *     Changes of the element are visible through the view.
+ * </p>
+ *
+ * @author Luis-St
+ *
+ * @param <T> The type of the values
+ */
+final class ElementMapView<T> extends AbstractMap<String, T> {
+	
+	/**
+	 * The entries of the element.<br>
+	 */
+	private final Set<Map.Entry<String, T>> entries;
+	/**
+	 * The function to get the value for a key from the element.<br>
+	 */
+	private final Function<String, T> getter;
+	/**
+	 * The predicate to check if the element contains a key.<br>
+	 */
+	private final Predicate<String> contains;
+	
+	/**
+	 * Constructs a new element map view.<br>
+	 *
+	 * @param entries The entries of the element
+	 * @param getter The function to get the value for a key from the element
+	 * @param contains The predicate to check if the element contains a key
+	 */
+	private ElementMapView(@NonNull Set<Map.Entry<String, T>> entries, @NonNull Function<String, T> getter, @NonNull Predicate<String> contains) {
+		this.entries = entries;
+		this.getter = getter;
+		this.contains = contains;
+	}
+	
+	/**
+	 * Creates an unmodifiable map view for the given element entries and lookup functions.<br>
+	 *
+	 * @param entries The entries of the element
+	 * @param getter The function to get the value for a key from the element
+	 * @param contains The predicate to check if the element contains a key
+	 * @return The unmodifiable map view
+	 * @param <T> The type of the values
+	 * @throws NullPointerException If any parameter is null
+	 */
+	static <T> @NonNull @Unmodifiable Map<String, T> of(@NonNull Set<Map.Entry<String, T>> entries, @NonNull Function<String, T> getter, @NonNull Predicate<String> contains) {
+		Objects.requireNonNull(entries, "Entries must not be null");
+		Objects.requireNonNull(getter, "Getter must not be null");
+		Objects.requireNonNull(contains, "Contains predicate must not be null");
+		return Collections.unmodifiableMap(new ElementMapView<>(entries, getter, contains));
+	}
+	
+	@Override
+	public @NonNull Set<Map.Entry<String, T>> entrySet() {
+		return this.entries;
+	}
+	
+	@Override
+	public int size() {
+		return this.entries.size();
+	}
+	
+	@Override
+	public boolean containsKey(@Nullable Object key) {
+		return key instanceof String string && this.contains.test(string);
+	}
+	
+	@Override
+	public @Nullable T get(@Nullable Object key) {
+		return key instanceof String string ? this.getter.apply(string) : null;
+	}
+}
@@ -21,6 +21,7 @@ package net.luis.utils.io.codec.provider;
 import com.google.common.collect.Maps;
 import net.luis.utils.annotation.type.Singleton;
 import net.luis.utils.io.data.ini.*;
+import org.jetbrains.annotations.Unmodifiable;
 import org.jetbrains.annotations.UnknownNullability;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
@@ -199,12 +200,12 @@ public final class IniTypeProvider implements TypeProvider<IniElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a boolean");
 		}
 		if (!type.isIniValue()) {
-			throw exceptionConstructor.apply("Ini element '" + type + "' is not an ini value");
+			throw exceptionConstructor.apply("Ini element '" + TypeProvider.describe(type) + "' is not an ini value");
 		}
 		
 		IniValue value = type.getAsIniValue();
 		if (!value.isIniBoolean()) {
-			throw exceptionConstructor.apply("Ini element '" + type + "' is not an ini boolean");
+			throw exceptionConstructor.apply("Ini element '" + TypeProvider.describe(type) + "' is not an ini boolean");
 		}
 		return value.getAsBoolean();
 	}
@@ -217,12 +218,12 @@ public final class IniTypeProvider implements TypeProvider<IniElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a byte");
 		}
 		if (!type.isIniValue()) {
-			throw exceptionConstructor.apply("Ini element '" + type + "' is not an ini value");
+			throw exceptionConstructor.apply("Ini element '" + TypeProvider.describe(type) + "' is not an ini value");
 		}
 		
 		IniValue value = type.getAsIniValue();
 		if (!value.isIniNumber()) {
-			throw exceptionConstructor.apply("Ini element '" + type + "' is not an ini byte");
+			throw exceptionConstructor.apply("Ini element '" + TypeProvider.describe(type) + "' is not an ini byte");
 		}
 		return value.getAsByte();
 	}
@@ -235,12 +236,12 @@ public final class IniTypeProvider implements TypeProvider<IniElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a short");
 		}
 		if (!type.isIniValue()) {
-			throw exceptionConstructor.apply("Ini element '" + type + "' is not an ini value");
+			throw exceptionConstructor.apply("Ini element '" + TypeProvider.describe(type) + "' is not an ini value");
 		}
 		
 		IniValue value = type.getAsIniValue();
 		if (!value.isIniNumber()) {
-			throw exceptionConstructor.apply("Ini element '" + type + "' is not an ini short");
+			throw exceptionConstructor.apply("Ini element '" + TypeProvider.describe(type) + "' is not an ini short");
 		}
 		return value.getAsShort();
 	}
@@ -253,12 +254,12 @@ public final class IniTypeProvider implements TypeProvider<IniElement> {
 			throw exceptionConstructor.apply("Value 'null' is not an integer");
 		}
 		if (!type.isIniValue()) {
-			throw exceptionConstructor.apply("Ini element '" + type + "' is not an ini value");
+			throw exceptionConstructor.apply("Ini element '" + TypeProvider.describe(type) + "' is not an ini value");
 		}
 		
 		IniValue value = type.getAsIniValue();
 		if (!value.isIniNumber()) {
-			throw exceptionConstructor.apply("Ini element '" + type + "' is not an ini integer");
+			throw exceptionConstructor.apply("Ini element '" + TypeProvider.describe(type) + "' is not an ini integer");
 		}
 		return value.getAsInteger();
 	}
@@ -271,12 +272,12 @@ public final class IniTypeProvider implements TypeProvider<IniElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a long");
 		}
 		if (!type.isIniValue()) {
-			throw exceptionConstructor.apply("Ini element '" + type + "' is not an ini value");
+			throw exceptionConstructor.apply("Ini element '" + TypeProvider.describe(type) + "' is not an ini value");
 		}
 		
 		IniValue value = type.getAsIniValue();
 		if (!value.isIniNumber()) {
-			throw exceptionConstructor.apply("Ini element '" + type + "' is not an ini long");
+			throw exceptionConstructor.apply("Ini element '" + TypeProvider.describe(type) + "' is not an ini long");
 		}
 		return value.getAsLong();
 	}
@@ -289,12 +290,12 @@ public final class IniTypeProvider implements TypeProvider<IniElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a float");
 		}
 		if (!type.isIniValue()) {
-			throw exceptionConstructor.apply("Ini element '" + type + "' is not an ini value");
+			throw exceptionConstructor.apply("Ini element '" + TypeProvider.describe(type) + "' is not an ini value");
 		}
 		
 		IniValue value = type.getAsIniValue();
 		if (value.isIniString()) {
-			throw exceptionConstructor.apply("Ini element '" + type + "' is an ini string, not an ini float");
+			throw exceptionConstructor.apply("Ini element '" + TypeProvider.describe(type) + "' is an ini string, not an ini float");
 		}
 		return value.getAsFloat();
 	}
@@ -307,12 +308,12 @@ public final class IniTypeProvider implements TypeProvider<IniElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a double");
 		}
 		if (!type.isIniValue()) {
-			throw exceptionConstructor.apply("Ini element '" + type + "' is not an ini value");
+			throw exceptionConstructor.apply("Ini element '" + TypeProvider.describe(type) + "' is not an ini value");
 		}
 		
 		IniValue value = type.getAsIniValue();
 		if (!value.isIniNumber()) {
-			throw exceptionConstructor.apply("Ini element '" + type + "' is not an ini double");
+			throw exceptionConstructor.apply("Ini element '" + TypeProvider.describe(type) + "' is not an ini double");
 		}
 		return value.getAsDouble();
 	}
@@ -325,12 +326,12 @@ public final class IniTypeProvider implements TypeProvider<IniElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a string");
 		}
 		if (!type.isIniValue()) {
-			throw exceptionConstructor.apply("Ini element '" + type + "' is not an ini value");
+			throw exceptionConstructor.apply("Ini element '" + TypeProvider.describe(type) + "' is not an ini value");
 		}
 		
 		IniValue value = type.getAsIniValue();
 		if (!value.isIniString()) {
-			throw exceptionConstructor.apply("Ini element '" + type + "' is not an ini string");
+			throw exceptionConstructor.apply("Ini element '" + TypeProvider.describe(type) + "' is not an ini string");
 		}
 		return value.getAsString();
 	}
@@ -350,7 +351,7 @@ public final class IniTypeProvider implements TypeProvider<IniElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a valid map");
 		}
 		if (!type.isIniSection()) {
-			throw exceptionConstructor.apply("Ini element '" + type + "' is not an ini section");
+			throw exceptionConstructor.apply("Ini element '" + TypeProvider.describe(type) + "' is not an ini section");
 		}
 		
 		Map<String, IniElement> map = Maps.newLinkedHashMap();
@@ -358,6 +359,21 @@ public final class IniTypeProvider implements TypeProvider<IniElement> {
 		return map;
 	}
 	
+	@Override
+	public <X extends Exception> @NonNull @Unmodifiable Map<String, IniElement> getMapView(@Nullable IniElement type, @NonNull Function<String, X> exceptionConstructor) throws X {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		if (type == null) {
+			throw exceptionConstructor.apply("Value 'null' is not a valid map");
+		}
+		if (!type.isIniSection()) {
+			throw exceptionConstructor.apply("Ini element '" + TypeProvider.describe(type) + "' is not an ini section");
+		}
+		
+		IniSection section = type.getAsIniSection();
+		return ElementMapView.of(section.entrySet(), section::get, section::containsKey);
+	}
+	
 	@Override
 	@SuppressWarnings("DuplicatedCode")
 	public <X extends Exception> boolean has(@Nullable IniElement type, @Nullable String key, @NonNull Function<String, X> exceptionConstructor) throws X {
@@ -371,7 +387,7 @@ public final class IniTypeProvider implements TypeProvider<IniElement> {
 		}
 		
 		if (!type.isIniSection()) {
-			throw exceptionConstructor.apply("Ini element '" + type + "' is not an ini section");
+			throw exceptionConstructor.apply("Ini element '" + TypeProvider.describe(type) + "' is not an ini section");
 		}
 		return type.getAsIniSection().containsKey(key);
 	}
@@ -389,7 +405,7 @@ public final class IniTypeProvider implements TypeProvider<IniElement> {
 		}
 		
 		if (!type.isIniSection()) {
-			throw exceptionConstructor.apply("Ini element '" + type + "' is not an ini section");
+			throw exceptionConstructor.apply("Ini element '" + TypeProvider.describe(type) + "' is not an ini section");
 		}
 		return type.getAsIniSection().get(key);
 	}
@@ -410,7 +426,7 @@ public final class IniTypeProvider implements TypeProvider<IniElement> {
 		}
 		
 		if (!type.isIniSection()) {
-			throw exceptionConstructor.apply("Ini element '" + type + "' is not an ini section");
+			throw exceptionConstructor.apply("Ini element '" + TypeProvider.describe(type) + "' is not an ini section");
 		}
 		type.getAsIniSection().add(key, value);
 	}
@@ -438,6 +454,6 @@ public final class IniTypeProvider implements TypeProvider<IniElement> {
 			section.addAll(value.getAsIniSection());
 			return section;
 		}
-		throw exceptionConstructor.apply("Unable to merge '" + current + "' with '" + value + "'");
+		throw exceptionConstructor.apply("Unable to merge '" + TypeProvider.describe(current) + "' with '" + TypeProvider.describe(value) + "'");
 	}
 }
@@ -183,7 +183,7 @@ public final class JavaTypeProvider implements TypeProvider<Object> {
 		if (type instanceof Boolean booleanValue) {
 			return booleanValue;
 		}
-		throw exceptionConstructor.apply("Object '" + type + "' is not a boolean");
+		throw exceptionConstructor.apply("Object '" + TypeProvider.describe(type) + "' is not a boolean");
 	}
 	
 	@Override
@@ -197,7 +197,7 @@ public final class JavaTypeProvider implements TypeProvider<Object> {
 		if (type instanceof Byte byteValue) {
 			return byteValue;
 		}
-		throw exceptionConstructor.apply("Object '" + type + "' is not a byte");
+		throw exceptionConstructor.apply("Object '" + TypeProvider.describe(type) + "' is not a byte");
 	}
 	
 	@Override
@@ -211,7 +211,7 @@ public final class JavaTypeProvider implements TypeProvider<Object> {
 		if (type instanceof Short shortValue) {
 			return shortValue;
 		}
-		throw exceptionConstructor.apply("Object '" + type + "' is not a short");
+		throw exceptionConstructor.apply("Object '" + TypeProvider.describe(type) + "' is not a short");
 	}
 	
 	@Override
@@ -225,7 +225,7 @@ public final class JavaTypeProvider implements TypeProvider<Object> {
 		if (type instanceof Integer intValue) {
 			return intValue;
 		}
-		throw exceptionConstructor.apply("Object '" + type + "' is not an integer");
+		throw exceptionConstructor.apply("Object '" + TypeProvider.describe(type) + "' is not an integer");
 	}
 	
 	@Override
@@ -239,7 +239,7 @@ public final class JavaTypeProvider implements TypeProvider<Object> {
 		if (type instanceof Long longValue) {
 			return longValue;
 		}
-		throw exceptionConstructor.apply("Object '" + type + "' is not a long");
+		throw exceptionConstructor.apply("Object '" + TypeProvider.describe(type) + "' is not a long");
 	}
 	
 	@Override
@@ -253,7 +253,7 @@ public final class JavaTypeProvider implements TypeProvider<Object> {
 		if (type instanceof Float floatValue) {
 			return floatValue;
 		}
-		throw exceptionConstructor.apply("Object '" + type + "' is not a float");
+		throw exceptionConstructor.apply("Object '" + TypeProvider.describe(type) + "' is not a float");
 	}
 	
 	@Override
@@ -267,7 +267,7 @@ public final class JavaTypeProvider implements TypeProvider<Object> {
 		if (type instanceof Double doubleValue) {
 			return doubleValue;
 		}
-		throw exceptionConstructor.apply("Object '" + type + "' is not a double");
+		throw exceptionConstructor.apply("Object '" + TypeProvider.describe(type) + "' is not a double");
 	}
 	
 	@Override
@@ -281,7 +281,7 @@ public final class JavaTypeProvider implements TypeProvider<Object> {
 		if (type instanceof String stringValue) {
 			return stringValue;
 		}
-		throw exceptionConstructor.apply("Object '" + type + "' is not a string");
+		throw exceptionConstructor.apply("Object '" + TypeProvider.describe(type) + "' is not a string");
 	}
 	
 	@Override
@@ -296,7 +296,7 @@ public final class JavaTypeProvider implements TypeProvider<Object> {
 		if (type instanceof List<?> list) {
 			return (List<Object>) list;
 		}
-		throw exceptionConstructor.apply("Object '" + type + "' is not a list");
+		throw exceptionConstructor.apply("Object '" + TypeProvider.describe(type) + "' is not a list");
 	}
 	
 	@Override
@@ -311,7 +311,7 @@ public final class JavaTypeProvider implements TypeProvider<Object> {
 		if (type instanceof Map<?, ?> map) {
 			return (Map<String, Object>) map;
 		}
-		throw exceptionConstructor.apply("Object '" + type + "' is not a map");
+		throw exceptionConstructor.apply("Object '" + TypeProvider.describe(type) + "' is not a map");
 	}
 	
 	@Override
@@ -328,7 +328,7 @@ public final class JavaTypeProvider implements TypeProvider<Object> {
 		if (type instanceof Map<?, ?> map) {
 			return map.containsKey(key);
 		}
-		throw exceptionConstructor.apply("Object '" + type + "' is not a map");
+		throw exceptionConstructor.apply("Object '" + TypeProvider.describe(type) + "' is not a map");
 	}
 	
 	@Override
@@ -345,7 +345,7 @@ public final class JavaTypeProvider implements TypeProvider<Object> {
 		if (type instanceof Map<?, ?> map) {
 			return map.get(key);
 		}
-		throw exceptionConstructor.apply("Object '" + type + "' is not a map");
+		throw exceptionConstructor.apply("Object '" + TypeProvider.describe(type) + "' is not a map");
 	}
 	
 	@Override
@@ -364,7 +364,7 @@ public final class JavaTypeProvider implements TypeProvider<Object> {
 			((Map<String, Object>) map).put(key, value);
 			return;
 		}
-		throw exceptionConstructor.apply("Object '" + type + "' is not a map");
+		throw exceptionConstructor.apply("Object '" + TypeProvider.describe(type) + "' is not a map");
 	}
 	
 	@Override
@@ -392,6 +392,6 @@ public final class JavaTypeProvider implements TypeProvider<Object> {
 			((Map<String, Object>) currentMap).putAll((Map<String, Object>) valueMap);
 			return currentMap;
 		}
-		throw exceptionConstructor.apply("Unable to merge '" + current + "' with '" + value + "'");
+		throw exceptionConstructor.apply("Unable to merge '" + TypeProvider.describe(current) + "' with '" + TypeProvider.describe(value) + "'");
 	}
 }
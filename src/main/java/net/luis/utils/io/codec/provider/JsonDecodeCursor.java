@@ -0,0 +1,153 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.codec.provider;
+
+import net.luis.utils.io.codec.decoder.DecodeCursor;
+import net.luis.utils.io.codec.decoder.DecoderException;
+import net.luis.utils.io.data.json.*;
+import net.luis.utils.io.data.json.exception.JsonSyntaxException;
+import org.jspecify.annotations.NonNull;
+
+import java.util.Objects;
+
+/**
+ * Decode cursor implementation for json which reads directly from a {@link JsonTokenReader}.<br>
+ * The elements read by {@link #readValue()} are created for the {@link JsonTypeProvider}.<br>
+ * <p>
+ *     Syntax errors of the underlying reader are rethrown as {@link DecoderException}.
+ * </p>
+ *
+ * @author Luis-St
+ */
+public class JsonDecodeCursor implements DecodeCursor<JsonElement>, AutoCloseable {
+	
+	/**
+	 * The json token reader to read from.<br>
+	 */
+	private final JsonTokenReader reader;
+	
+	/**
+	 * Constructs a new json decode cursor for the given json token reader.<br>
+	 *
+	 * @param reader The json token reader to read from
+	 * @throws NullPointerException If the reader is null
+	 */
+	public JsonDecodeCursor(@NonNull JsonTokenReader reader) {
+		this.reader = Objects.requireNonNull(reader, "Json token reader must not be null");
+	}
+	
+	@Override
+	public @NonNull TypeProvider<JsonElement> getProvider() {
+		return JsonTypeProvider.INSTANCE;
+	}
+	
+	@Override
+	public @NonNull ValueKind peek() throws DecoderException {
+		try {
+			return switch (this.reader.peek()) {
+				case BEGIN_ARRAY -> ValueKind.LIST;
+				case BEGIN_OBJECT -> ValueKind.MAP;
+				case STRING -> ValueKind.STRING;
+				case NUMBER -> ValueKind.NUMBER;
+				case BOOLEAN -> ValueKind.BOOLEAN;
+				case NULL -> ValueKind.NULL;
+				case END_ARRAY, END_OBJECT, NAME, END_DOCUMENT -> throw new DecoderException("Expected a json value but got " + this.reader.peek());
+			};
+		} catch (JsonSyntaxException e) {
+			throw new DecoderException("Unable to read json value: " + e.getMessage(), e);
+		}
+	}
+	
+	@Override
+	public boolean hasNext() throws DecoderException {
+		try {
+			return this.reader.hasNext();
+		} catch (JsonSyntaxException e) {
+			throw new DecoderException("Unable to read json value: " + e.getMessage(), e);
+		}
+	}
+	
+	@Override
+	public void beginList() throws DecoderException {
+		try {
+			this.reader.beginArray();
+		} catch (JsonSyntaxException e) {
+			throw new DecoderException("Unable to read json array: " + e.getMessage(), e);
+		}
+	}
+	
+	@Override
+	public void endList() throws DecoderException {
+		try {
+			this.reader.endArray();
+		} catch (JsonSyntaxException e) {
+			throw new DecoderException("Unable to read json array: " + e.getMessage(), e);
+		}
+	}
+	
+	@Override
+	public void beginMap() throws DecoderException {
+		try {
+			this.reader.beginObject();
+		} catch (JsonSyntaxException e) {
+			throw new DecoderException("Unable to read json object: " + e.getMessage(), e);
+		}
+	}
+	
+	@Override
+	public @NonNull String nextKey() throws DecoderException {
+		try {
+			return this.reader.nextName();
+		} catch (JsonSyntaxException e) {
+			throw new DecoderException("Unable to read json object key: " + e.getMessage(), e);
+		}
+	}
+	
+	@Override
+	public void endMap() throws DecoderException {
+		try {
+			this.reader.endObject();
+		} catch (JsonSyntaxException e) {
+			throw new DecoderException("Unable to read json object: " + e.getMessage(), e);
+		}
+	}
+	
+	@Override
+	public void skipValue() throws DecoderException {
+		try {
+			this.reader.skipValue();
+		} catch (JsonSyntaxException e) {
+			throw new DecoderException("Unable to skip json value: " + e.getMessage(), e);
+		}
+	}
+	
+	@Override
+	public @NonNull JsonElement readValue() throws DecoderException {
+		try {
+			return this.reader.nextElement();
+		} catch (JsonSyntaxException e) {
+			throw new DecoderException("Unable to read json value: " + e.getMessage(), e);
+		}
+	}
+	
+	@Override
+	public void close() {
+		this.reader.close();
+	}
+}
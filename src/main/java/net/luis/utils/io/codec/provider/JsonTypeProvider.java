@@ -21,6 +21,7 @@ package net.luis.utils.io.codec.provider;
 import com.google.common.collect.Maps;
 import net.luis.utils.annotation.type.Singleton;
 import net.luis.utils.io.data.json.*;
+import org.jetbrains.annotations.Unmodifiable;
 import org.jetbrains.annotations.UnknownNullability;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
@@ -135,6 +136,48 @@ public final class JsonTypeProvider implements TypeProvider<JsonElement> {
 		return new JsonArray(values);
 	}
 	
+	@Override
+	public <X extends Exception> @NonNull JsonElement createIntegerArray(int @Nullable [] values, @NonNull Function<String, X> exceptionConstructor) throws X {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		if (values == null) {
+			throw exceptionConstructor.apply("Value 'null' is not a valid int array");
+		}
+		JsonArray array = new JsonArray();
+		for (int value : values) {
+			array.add(value);
+		}
+		return array;
+	}
+	
+	@Override
+	public <X extends Exception> @NonNull JsonElement createLongArray(long @Nullable [] values, @NonNull Function<String, X> exceptionConstructor) throws X {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		if (values == null) {
+			throw exceptionConstructor.apply("Value 'null' is not a valid long array");
+		}
+		JsonArray array = new JsonArray();
+		for (long value : values) {
+			array.add(value);
+		}
+		return array;
+	}
+	
+	@Override
+	public <X extends Exception> @NonNull JsonElement createDoubleArray(double @Nullable [] values, @NonNull Function<String, X> exceptionConstructor) throws X {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		if (values == null) {
+			throw exceptionConstructor.apply("Value 'null' is not a valid double array");
+		}
+		JsonArray array = new JsonArray();
+		for (double value : values) {
+			array.add(value);
+		}
+		return array;
+	}
+	
 	@Override
 	public <X extends Exception> @NonNull JsonElement createMap(@NonNull Function<String, X> exceptionConstructor) {
 		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
@@ -172,6 +215,37 @@ public final class JsonTypeProvider implements TypeProvider<JsonElement> {
 		return type.isJsonNull();
 	}
 	
+	@Override
+	public <X extends Exception> @Nullable ValueKind getKind(@Nullable JsonElement type, @NonNull Function<String, X> exceptionConstructor) throws X {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		if (type == null) {
+			throw exceptionConstructor.apply("Value 'null' is not valid");
+		}
+		if (type.isJsonNull()) {
+			return ValueKind.NULL;
+		}
+		if (type.isJsonObject()) {
+			return ValueKind.MAP;
+		}
+		if (type.isJsonArray()) {
+			return ValueKind.LIST;
+		}
+		if (type.isJsonPrimitive()) {
+			JsonPrimitive primitive = type.getAsJsonPrimitive();
+			if (primitive.isJsonBoolean()) {
+				return ValueKind.BOOLEAN;
+			}
+			if (primitive.isJsonNumber()) {
+				return ValueKind.NUMBER;
+			}
+			if (primitive.isJsonString()) {
+				return ValueKind.STRING;
+			}
+		}
+		return null;
+	}
+	
 	@Override
 	public <X extends Exception> @NonNull Boolean getBoolean(@Nullable JsonElement type, @NonNull Function<String, X> exceptionConstructor) throws X {
 		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
@@ -180,12 +254,12 @@ public final class JsonTypeProvider implements TypeProvider<JsonElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a boolean");
 		}
 		if (!type.isJsonPrimitive()) {
-			throw exceptionConstructor.apply("Json element '" + type + "' is not a json primitive");
+			throw exceptionConstructor.apply("Json element '" + TypeProvider.describe(type) + "' is not a json primitive");
 		}
 		
 		JsonPrimitive primitive = type.getAsJsonPrimitive();
 		if (!primitive.isJsonBoolean()) {
-			throw exceptionConstructor.apply("Json element '" + type + "' is not a json boolean");
+			throw exceptionConstructor.apply("Json element '" + TypeProvider.describe(type) + "' is not a json boolean");
 		}
 		return primitive.getAsBoolean();
 	}
@@ -198,12 +272,12 @@ public final class JsonTypeProvider implements TypeProvider<JsonElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a byte");
 		}
 		if (!type.isJsonPrimitive()) {
-			throw exceptionConstructor.apply("Json element '" + type + "' is not a json primitive");
+			throw exceptionConstructor.apply("Json element '" + TypeProvider.describe(type) + "' is not a json primitive");
 		}
 		
 		JsonPrimitive primitive = type.getAsJsonPrimitive();
 		if (!primitive.isJsonNumber()) {
-			throw exceptionConstructor.apply("Json element '" + type + "' is not a json byte");
+			throw exceptionConstructor.apply("Json element '" + TypeProvider.describe(type) + "' is not a json byte");
 		}
 		return primitive.getAsByte();
 	}
@@ -216,12 +290,12 @@ public final class JsonTypeProvider implements TypeProvider<JsonElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a short");
 		}
 		if (!type.isJsonPrimitive()) {
-			throw exceptionConstructor.apply("Json element '" + type + "' is not a json primitive");
+			throw exceptionConstructor.apply("Json element '" + TypeProvider.describe(type) + "' is not a json primitive");
 		}
 		
 		JsonPrimitive primitive = type.getAsJsonPrimitive();
 		if (!primitive.isJsonNumber()) {
-			throw exceptionConstructor.apply("Json element '" + type + "' is not a json short");
+			throw exceptionConstructor.apply("Json element '" + TypeProvider.describe(type) + "' is not a json short");
 		}
 		return primitive.getAsShort();
 	}
@@ -234,12 +308,12 @@ public final class JsonTypeProvider implements TypeProvider<JsonElement> {
 			throw exceptionConstructor.apply("Value 'null' is not an integer");
 		}
 		if (!type.isJsonPrimitive()) {
-			throw exceptionConstructor.apply("Json element '" + type + "' is not a json primitive");
+			throw exceptionConstructor.apply("Json element '" + TypeProvider.describe(type) + "' is not a json primitive");
 		}
 		
 		JsonPrimitive primitive = type.getAsJsonPrimitive();
 		if (!primitive.isJsonNumber()) {
-			throw exceptionConstructor.apply("Json element '" + type + "' is not a json integer");
+			throw exceptionConstructor.apply("Json element '" + TypeProvider.describe(type) + "' is not a json integer");
 		}
 		return primitive.getAsInteger();
 	}
@@ -252,12 +326,12 @@ public final class JsonTypeProvider implements TypeProvider<JsonElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a long");
 		}
 		if (!type.isJsonPrimitive()) {
-			throw exceptionConstructor.apply("Json element '" + type + "' is not a json primitive");
+			throw exceptionConstructor.apply("Json element '" + TypeProvider.describe(type) + "' is not a json primitive");
 		}
 		
 		JsonPrimitive primitive = type.getAsJsonPrimitive();
 		if (!primitive.isJsonNumber()) {
-			throw exceptionConstructor.apply("Json element '" + type + "' is not a json long");
+			throw exceptionConstructor.apply("Json element '" + TypeProvider.describe(type) + "' is not a json long");
 		}
 		return primitive.getAsLong();
 	}
@@ -270,12 +344,12 @@ public final class JsonTypeProvider implements TypeProvider<JsonElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a float");
 		}
 		if (!type.isJsonPrimitive()) {
-			throw exceptionConstructor.apply("Json element '" + type + "' is not a json primitive");
+			throw exceptionConstructor.apply("Json element '" + TypeProvider.describe(type) + "' is not a json primitive");
 		}
 		
 		JsonPrimitive primitive = type.getAsJsonPrimitive();
 		if (primitive.isJsonString()) {
-			throw exceptionConstructor.apply("Json element '" + type + "' is not a json float");
+			throw exceptionConstructor.apply("Json element '" + TypeProvider.describe(type) + "' is not a json float");
 		}
 		return primitive.getAsFloat();
 	}
@@ -288,12 +362,12 @@ public final class JsonTypeProvider implements TypeProvider<JsonElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a double");
 		}
 		if (!type.isJsonPrimitive()) {
-			throw exceptionConstructor.apply("Json element '" + type + "' is not a json primitive");
+			throw exceptionConstructor.apply("Json element '" + TypeProvider.describe(type) + "' is not a json primitive");
 		}
 		
 		JsonPrimitive primitive = type.getAsJsonPrimitive();
 		if (!primitive.isJsonNumber()) {
-			throw exceptionConstructor.apply("Json element '" + type + "' is not a json number");
+			throw exceptionConstructor.apply("Json element '" + TypeProvider.describe(type) + "' is not a json number");
 		}
 		return primitive.getAsDouble();
 	}
@@ -306,12 +380,12 @@ public final class JsonTypeProvider implements TypeProvider<JsonElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a string");
 		}
 		if (!type.isJsonPrimitive()) {
-			throw exceptionConstructor.apply("Json element '" + type + "' is not a json primitive");
+			throw exceptionConstructor.apply("Json element '" + TypeProvider.describe(type) + "' is not a json primitive");
 		}
 		
 		JsonPrimitive primitive = type.getAsJsonPrimitive();
 		if (!primitive.isJsonString()) {
-			throw exceptionConstructor.apply("Json element '" + type + "' is not a json string");
+			throw exceptionConstructor.apply("Json element '" + TypeProvider.describe(type) + "' is not a json string");
 		}
 		return type.getAsJsonPrimitive().getAsString();
 	}
@@ -325,11 +399,68 @@ public final class JsonTypeProvider implements TypeProvider<JsonElement> {
 		}
 		
 		if (!type.isJsonArray()) {
-			throw exceptionConstructor.apply("Json element '" + type + "' is not a json array");
+			throw exceptionConstructor.apply("Json element '" + TypeProvider.describe(type) + "' is not a json array");
 		}
 		return type.getAsJsonArray().getElements();
 	}
 	
+	@Override
+	public <X extends Exception> int @NonNull [] getIntegerArray(@Nullable JsonElement type, @NonNull Function<String, X> exceptionConstructor) throws X {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		List<JsonElement> elements = this.getList(type, exceptionConstructor);
+		int[] values = new int[elements.size()];
+		for (int i = 0; i < values.length; i++) {
+			JsonElement element = elements.get(i);
+			if (element != null && element.isJsonPrimitive() && element.getAsJsonPrimitive().isJsonNumber()) {
+				values[i] = element.getAsJsonPrimitive().getAsInteger();
+			} else {
+				values[i] = this.getInteger(element, TypeProvider.elementException(i, exceptionConstructor));
+			}
+		}
+		return values;
+	}
+		return values;
+	}
+	
+	@Override
+	public <X extends Exception> long @NonNull [] getLongArray(@Nullable JsonElement type, @NonNull Function<String, X> exceptionConstructor) throws X {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		List<JsonElement> elements = this.getList(type, exceptionConstructor);
+		long[] values = new long[elements.size()];
+		for (int i = 0; i < values.length; i++) {
+			JsonElement element = elements.get(i);
+			if (element != null && element.isJsonPrimitive() && element.getAsJsonPrimitive().isJsonNumber()) {
+				values[i] = element.getAsJsonPrimitive().getAsLong();
+			} else {
+				values[i] = this.getLong(element, TypeProvider.elementException(i, exceptionConstructor));
+			}
+		}
+		return values;
+	}
+		return values;
+	}
+	
+	@Override
+	public <X extends Exception> double @NonNull [] getDoubleArray(@Nullable JsonElement type, @NonNull Function<String, X> exceptionConstructor) throws X {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		List<JsonElement> elements = this.getList(type, exceptionConstructor);
+		double[] values = new double[elements.size()];
+		for (int i = 0; i < values.length; i++) {
+			JsonElement element = elements.get(i);
+			if (element != null && element.isJsonPrimitive() && element.getAsJsonPrimitive().isJsonNumber()) {
+				values[i] = element.getAsJsonPrimitive().getAsDouble();
+			} else {
+				values[i] = this.getDouble(element, TypeProvider.elementException(i, exceptionConstructor));
+			}
+		}
+		return values;
+	}
+		return values;
+	}
+	
 	@Override
 	public <X extends Exception> @NonNull Map<String, JsonElement> getMap(@Nullable JsonElement type, @NonNull Function<String, X> exceptionConstructor) throws X {
 		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
@@ -338,7 +469,7 @@ public final class JsonTypeProvider implements TypeProvider<JsonElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a valid map");
 		}
 		if (!type.isJsonObject()) {
-			throw exceptionConstructor.apply("Json element '" + type + "' is not a json object");
+			throw exceptionConstructor.apply("Json element '" + TypeProvider.describe(type) + "' is not a json object");
 		}
 		
 		Map<String, JsonElement> map = Maps.newLinkedHashMap();
@@ -346,6 +477,21 @@ public final class JsonTypeProvider implements TypeProvider<JsonElement> {
 		return map;
 	}
 	
+	@Override
+	public <X extends Exception> @NonNull @Unmodifiable Map<String, JsonElement> getMapView(@Nullable JsonElement type, @NonNull Function<String, X> exceptionConstructor) throws X {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		if (type == null) {
+			throw exceptionConstructor.apply("Value 'null' is not a valid map");
+		}
+		if (!type.isJsonObject()) {
+			throw exceptionConstructor.apply("Json element '" + TypeProvider.describe(type) + "' is not a json object");
+		}
+		
+		JsonObject object = type.getAsJsonObject();
+		return ElementMapView.of(object.entrySet(), object::get, object::containsKey);
+	}
+	
 	@Override
 	public <X extends Exception> boolean has(@Nullable JsonElement type, @Nullable String key, @NonNull Function<String, X> exceptionConstructor) throws X {
 		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
@@ -358,7 +504,7 @@ public final class JsonTypeProvider implements TypeProvider<JsonElement> {
 		}
 		
 		if (!type.isJsonObject()) {
-			throw exceptionConstructor.apply("Json element '" + type + "' is not a json object");
+			throw exceptionConstructor.apply("Json element '" + TypeProvider.describe(type) + "' is not a json object");
 		}
 		return type.getAsJsonObject().containsKey(key);
 	}
@@ -376,7 +522,7 @@ public final class JsonTypeProvider implements TypeProvider<JsonElement> {
 		}
 		
 		if (!type.isJsonObject()) {
-			throw exceptionConstructor.apply("Json element '" + type + "' is not a json object");
+			throw exceptionConstructor.apply("Json element '" + TypeProvider.describe(type) + "' is not a json object");
 		}
 		return type.getAsJsonObject().get(key);
 	}
@@ -397,7 +543,7 @@ public final class JsonTypeProvider implements TypeProvider<JsonElement> {
 		}
 		
 		if (!type.isJsonObject()) {
-			throw exceptionConstructor.apply("Json element '" + type + "' is not a json object");
+			throw exceptionConstructor.apply("Json element '" + TypeProvider.describe(type) + "' is not a json object");
 		}
 		type.getAsJsonObject().add(key, value);
 	}
@@ -431,6 +577,6 @@ public final class JsonTypeProvider implements TypeProvider<JsonElement> {
 			object.addAll(value.getAsJsonObject());
 			return object;
 		}
-		throw exceptionConstructor.apply("Unable to merge '" + current + "' with '" + value + "'");
+		throw exceptionConstructor.apply("Unable to merge '" + TypeProvider.describe(current) + "' with '" + TypeProvider.describe(value) + "'");
 	}
 }
@@ -0,0 +1,139 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.codec.provider;
+
+import net.luis.utils.io.codec.encoder.EncodeWriter;
+import net.luis.utils.io.codec.encoder.EncoderException;
+import net.luis.utils.io.data.toml.TomlElement;
+import net.luis.utils.io.data.toml.TomlTokenWriter;
+import org.jspecify.annotations.NonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+
+/**
+ * Encode writer implementation for toml which writes directly to a {@link TomlTokenWriter}.<br>
+ * The elements written by {@link #writeValue(TomlElement)} are expected to be created by the {@link TomlTypeProvider}.<br>
+ * <p>
+ *     Since the root element of a toml document must be a table, the encoded value must be a map.<br>
+ *     State and I/O errors of the underlying writer are rethrown as {@link EncoderException}.
+ * </p>
+ *
+ * @author Luis-St
+ */
+public class TomlEncodeWriter implements EncodeWriter<TomlElement>, AutoCloseable {
+	
+	/**
+	 * The toml token writer to write to.<br>
+	 */
+	private final TomlTokenWriter writer;
+	
+	/**
+	 * Constructs a new toml encode writer for the given toml token writer.<br>
+	 *
+	 * @param writer The toml token writer to write to
+	 * @throws NullPointerException If the writer is null
+	 */
+	public TomlEncodeWriter(@NonNull TomlTokenWriter writer) {
+		this.writer = Objects.requireNonNull(writer, "Toml token writer must not be null");
+	}
+	
+	@Override
+	public @NonNull TypeProvider<TomlElement> getProvider() {
+		return TomlTypeProvider.INSTANCE;
+	}
+	
+	@Override
+	public void beginList() throws EncoderException {
+		try {
+			this.writer.beginArray();
+		} catch (IllegalStateException | UncheckedIOException e) {
+			throw new EncoderException("Unable to write toml array: " + e.getMessage(), e);
+		}
+	}
+	
+	@Override
+	public void endList() throws EncoderException {
+		try {
+			this.writer.endArray();
+		} catch (IllegalStateException | UncheckedIOException e) {
+			throw new EncoderException("Unable to write toml array: " + e.getMessage(), e);
+		}
+	}
+	
+	@Override
+	public void beginMap() throws EncoderException {
+		try {
+			this.writer.beginTable();
+		} catch (IllegalStateException | UncheckedIOException e) {
+			throw new EncoderException("Unable to write toml table: " + e.getMessage(), e);
+		}
+	}
+	
+	@Override
+	public void key(@NonNull String key) throws EncoderException {
+		Objects.requireNonNull(key, "Key must not be null");
+		try {
+			this.writer.key(key);
+		} catch (IllegalStateException e) {
+			throw new EncoderException("Unable to write toml table key '" + key + "': " + e.getMessage(), e);
+		}
+	}
+	
+	@Override
+	public void endMap() throws EncoderException {
+		try {
+			this.writer.endTable();
+		} catch (IllegalStateException | UncheckedIOException e) {
+			throw new EncoderException("Unable to write toml table: " + e.getMessage(), e);
+		}
+	}
+	
+	@Override
+	public void writeValue(@NonNull TomlElement value) throws EncoderException {
+		Objects.requireNonNull(value, "Toml element must not be null");
+		if (TomlTypeProvider.INSTANCE.isEmpty(value, EncoderException::new)) {
+			return;
+		}
+		
+		try {
+			this.writer.element(value);
+		} catch (IllegalArgumentException | IllegalStateException | UncheckedIOException e) {
+			throw new EncoderException("Unable to write toml value: " + e.getMessage(), e);
+		}
+	}
+	
+	/**
+	 * Flushes the written content to the output.<br>
+	 * @throws EncoderException If an I/O error occurs
+	 */
+	public void flush() throws EncoderException {
+		try {
+			this.writer.flush();
+		} catch (UncheckedIOException e) {
+			throw new EncoderException("Unable to flush toml content: " + e.getMessage(), e);
+		}
+	}
+	
+	@Override
+	public void close() throws IOException {
+		this.writer.close();
+	}
+}
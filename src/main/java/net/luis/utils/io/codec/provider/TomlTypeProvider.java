@@ -21,6 +21,7 @@ package net.luis.utils.io.codec.provider;
 import com.google.common.collect.Maps;
 import net.luis.utils.annotation.type.Singleton;
 import net.luis.utils.io.data.toml.*;
+import org.jetbrains.annotations.Unmodifiable;
 import org.jetbrains.annotations.UnknownNullability;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
@@ -180,12 +181,12 @@ public final class TomlTypeProvider implements TypeProvider<TomlElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a boolean");
 		}
 		if (!type.isTomlValue()) {
-			throw exceptionConstructor.apply("Toml element '" + type + "' is not a toml value");
+			throw exceptionConstructor.apply("Toml element '" + TypeProvider.describe(type) + "' is not a toml value");
 		}
 		
 		TomlValue value = type.getAsTomlValue();
 		if (!value.isTomlBoolean()) {
-			throw exceptionConstructor.apply("Toml element '" + type + "' is not a toml boolean");
+			throw exceptionConstructor.apply("Toml element '" + TypeProvider.describe(type) + "' is not a toml boolean");
 		}
 		return value.getAsBoolean();
 	}
@@ -198,12 +199,12 @@ public final class TomlTypeProvider implements TypeProvider<TomlElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a byte");
 		}
 		if (!type.isTomlValue()) {
-			throw exceptionConstructor.apply("Toml element '" + type + "' is not a toml value");
+			throw exceptionConstructor.apply("Toml element '" + TypeProvider.describe(type) + "' is not a toml value");
 		}
 		
 		TomlValue value = type.getAsTomlValue();
 		if (!value.isTomlNumber()) {
-			throw exceptionConstructor.apply("Toml element '" + type + "' is not a toml byte");
+			throw exceptionConstructor.apply("Toml element '" + TypeProvider.describe(type) + "' is not a toml byte");
 		}
 		return value.getAsByte();
 	}
@@ -216,12 +217,12 @@ public final class TomlTypeProvider implements TypeProvider<TomlElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a short");
 		}
 		if (!type.isTomlValue()) {
-			throw exceptionConstructor.apply("Toml element '" + type + "' is not a toml value");
+			throw exceptionConstructor.apply("Toml element '" + TypeProvider.describe(type) + "' is not a toml value");
 		}
 		
 		TomlValue value = type.getAsTomlValue();
 		if (!value.isTomlNumber()) {
-			throw exceptionConstructor.apply("Toml element '" + type + "' is not a toml short");
+			throw exceptionConstructor.apply("Toml element '" + TypeProvider.describe(type) + "' is not a toml short");
 		}
 		return value.getAsShort();
 	}
@@ -234,12 +235,12 @@ public final class TomlTypeProvider implements TypeProvider<TomlElement> {
 			throw exceptionConstructor.apply("Value 'null' is not an integer");
 		}
 		if (!type.isTomlValue()) {
-			throw exceptionConstructor.apply("Toml element '" + type + "' is not a toml value");
+			throw exceptionConstructor.apply("Toml element '" + TypeProvider.describe(type) + "' is not a toml value");
 		}
 		
 		TomlValue value = type.getAsTomlValue();
 		if (!value.isTomlNumber()) {
-			throw exceptionConstructor.apply("Toml element '" + type + "' is not a toml integer");
+			throw exceptionConstructor.apply("Toml element '" + TypeProvider.describe(type) + "' is not a toml integer");
 		}
 		return value.getAsInteger();
 	}
@@ -252,12 +253,12 @@ public final class TomlTypeProvider implements TypeProvider<TomlElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a long");
 		}
 		if (!type.isTomlValue()) {
-			throw exceptionConstructor.apply("Toml element '" + type + "' is not a toml value");
+			throw exceptionConstructor.apply("Toml element '" + TypeProvider.describe(type) + "' is not a toml value");
 		}
 		
 		TomlValue value = type.getAsTomlValue();
 		if (!value.isTomlNumber()) {
-			throw exceptionConstructor.apply("Toml element '" + type + "' is not a toml long");
+			throw exceptionConstructor.apply("Toml element '" + TypeProvider.describe(type) + "' is not a toml long");
 		}
 		return value.getAsLong();
 	}
@@ -270,12 +271,12 @@ public final class TomlTypeProvider implements TypeProvider<TomlElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a float");
 		}
 		if (!type.isTomlValue()) {
-			throw exceptionConstructor.apply("Toml element '" + type + "' is not a toml value");
+			throw exceptionConstructor.apply("Toml element '" + TypeProvider.describe(type) + "' is not a toml value");
 		}
 		
 		TomlValue value = type.getAsTomlValue();
 		if (!value.isTomlNumber()) {
-			throw exceptionConstructor.apply("Toml element '" + type + "' is a toml string, not a toml float");
+			throw exceptionConstructor.apply("Toml element '" + TypeProvider.describe(type) + "' is a toml string, not a toml float");
 		}
 		return value.getAsFloat();
 	}
@@ -288,12 +289,12 @@ public final class TomlTypeProvider implements TypeProvider<TomlElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a double");
 		}
 		if (!type.isTomlValue()) {
-			throw exceptionConstructor.apply("Toml element '" + type + "' is not a toml value");
+			throw exceptionConstructor.apply("Toml element '" + TypeProvider.describe(type) + "' is not a toml value");
 		}
 		
 		TomlValue value = type.getAsTomlValue();
 		if (!value.isTomlNumber()) {
-			throw exceptionConstructor.apply("Toml element '" + type + "' is not a toml double");
+			throw exceptionConstructor.apply("Toml element '" + TypeProvider.describe(type) + "' is not a toml double");
 		}
 		return value.getAsDouble();
 	}
@@ -306,12 +307,12 @@ public final class TomlTypeProvider implements TypeProvider<TomlElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a string");
 		}
 		if (!type.isTomlValue()) {
-			throw exceptionConstructor.apply("Toml element '" + type + "' is not a toml value");
+			throw exceptionConstructor.apply("Toml element '" + TypeProvider.describe(type) + "' is not a toml value");
 		}
 		
 		TomlValue value = type.getAsTomlValue();
 		if (!value.isTomlString()) {
-			throw exceptionConstructor.apply("Toml element '" + type + "' is not a toml string");
+			throw exceptionConstructor.apply("Toml element '" + TypeProvider.describe(type) + "' is not a toml string");
 		}
 		return value.getAsString();
 	}
@@ -325,7 +326,7 @@ public final class TomlTypeProvider implements TypeProvider<TomlElement> {
 		}
 		
 		if (!type.isTomlArray()) {
-			throw exceptionConstructor.apply("Toml element '" + type + "' is not a toml array");
+			throw exceptionConstructor.apply("Toml element '" + TypeProvider.describe(type) + "' is not a toml array");
 		}
 		return type.getAsTomlArray().getElements();
 	}
@@ -338,7 +339,7 @@ public final class TomlTypeProvider implements TypeProvider<TomlElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a valid map");
 		}
 		if (!type.isTomlTable()) {
-			throw exceptionConstructor.apply("Toml element '" + type + "' is not a toml table");
+			throw exceptionConstructor.apply("Toml element '" + TypeProvider.describe(type) + "' is not a toml table");
 		}
 		
 		Map<String, TomlElement> map = Maps.newLinkedHashMap();
@@ -346,6 +347,21 @@ public final class TomlTypeProvider implements TypeProvider<TomlElement> {
 		return map;
 	}
 	
+	@Override
+	public <X extends Exception> @NonNull @Unmodifiable Map<String, TomlElement> getMapView(@Nullable TomlElement type, @NonNull Function<String, X> exceptionConstructor) throws X {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		if (type == null) {
+			throw exceptionConstructor.apply("Value 'null' is not a valid map");
+		}
+		if (!type.isTomlTable()) {
+			throw exceptionConstructor.apply("Toml element '" + TypeProvider.describe(type) + "' is not a toml table");
+		}
+		
+		TomlTable table = type.getAsTomlTable();
+		return ElementMapView.of(table.entrySet(), table::get, table::containsKey);
+	}
+	
 	@Override
 	@SuppressWarnings("DuplicatedCode")
 	public <X extends Exception> boolean has(@Nullable TomlElement type, @Nullable String key, @NonNull Function<String, X> exceptionConstructor) throws X {
@@ -359,7 +375,7 @@ public final class TomlTypeProvider implements TypeProvider<TomlElement> {
 		}
 		
 		if (!type.isTomlTable()) {
-			throw exceptionConstructor.apply("Toml element '" + type + "' is not a toml table");
+			throw exceptionConstructor.apply("Toml element '" + TypeProvider.describe(type) + "' is not a toml table");
 		}
 		return type.getAsTomlTable().containsKey(key);
 	}
@@ -377,7 +393,7 @@ public final class TomlTypeProvider implements TypeProvider<TomlElement> {
 		}
 		
 		if (!type.isTomlTable()) {
-			throw exceptionConstructor.apply("Toml element '" + type + "' is not a toml table");
+			throw exceptionConstructor.apply("Toml element '" + TypeProvider.describe(type) + "' is not a toml table");
 		}
 		return type.getAsTomlTable().get(key);
 	}
@@ -398,7 +414,7 @@ public final class TomlTypeProvider implements TypeProvider<TomlElement> {
 		}
 		
 		if (!type.isTomlTable()) {
-			throw exceptionConstructor.apply("Toml element '" + type + "' is not a toml table");
+			throw exceptionConstructor.apply("Toml element '" + TypeProvider.describe(type) + "' is not a toml table");
 		}
 		type.getAsTomlTable().add(key, value);
 	}
@@ -432,6 +448,6 @@ public final class TomlTypeProvider implements TypeProvider<TomlElement> {
 			table.addAll(value.getAsTomlTable());
 			return table;
 		}
-		throw exceptionConstructor.apply("Unable to merge '" + current + "' with '" + value + "'");
+		throw exceptionConstructor.apply("Unable to merge '" + TypeProvider.describe(current) + "' with '" + TypeProvider.describe(value) + "'");
 	}
 }
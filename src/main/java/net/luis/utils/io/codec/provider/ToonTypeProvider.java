@@ -21,6 +21,7 @@ package net.luis.utils.io.codec.provider;
 import com.google.common.collect.Maps;
 import net.luis.utils.annotation.type.Singleton;
 import net.luis.utils.io.data.toon.*;
+import org.jetbrains.annotations.Unmodifiable;
 import org.jetbrains.annotations.UnknownNullability;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
@@ -180,12 +181,12 @@ public final class ToonTypeProvider implements TypeProvider<ToonElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a boolean");
 		}
 		if (!type.isToonValue()) {
-			throw exceptionConstructor.apply("Toon element '" + type + "' is not a toon value");
+			throw exceptionConstructor.apply("Toon element '" + TypeProvider.describe(type) + "' is not a toon value");
 		}
 		
 		ToonValue value = type.getAsToonValue();
 		if (!value.isToonBoolean()) {
-			throw exceptionConstructor.apply("Toon element '" + type + "' is not a toon boolean");
+			throw exceptionConstructor.apply("Toon element '" + TypeProvider.describe(type) + "' is not a toon boolean");
 		}
 		return value.getAsBoolean();
 	}
@@ -198,12 +199,12 @@ public final class ToonTypeProvider implements TypeProvider<ToonElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a byte");
 		}
 		if (!type.isToonValue()) {
-			throw exceptionConstructor.apply("Toon element '" + type + "' is not a toon value");
+			throw exceptionConstructor.apply("Toon element '" + TypeProvider.describe(type) + "' is not a toon value");
 		}
 		
 		ToonValue value = type.getAsToonValue();
 		if (!value.isToonNumber()) {
-			throw exceptionConstructor.apply("Toon element '" + type + "' is not a toon byte");
+			throw exceptionConstructor.apply("Toon element '" + TypeProvider.describe(type) + "' is not a toon byte");
 		}
 		return value.getAsByte();
 	}
@@ -216,12 +217,12 @@ public final class ToonTypeProvider implements TypeProvider<ToonElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a short");
 		}
 		if (!type.isToonValue()) {
-			throw exceptionConstructor.apply("Toon element '" + type + "' is not a toon value");
+			throw exceptionConstructor.apply("Toon element '" + TypeProvider.describe(type) + "' is not a toon value");
 		}
 		
 		ToonValue value = type.getAsToonValue();
 		if (!value.isToonNumber()) {
-			throw exceptionConstructor.apply("Toon element '" + type + "' is not a toon short");
+			throw exceptionConstructor.apply("Toon element '" + TypeProvider.describe(type) + "' is not a toon short");
 		}
 		return value.getAsShort();
 	}
@@ -234,12 +235,12 @@ public final class ToonTypeProvider implements TypeProvider<ToonElement> {
 			throw exceptionConstructor.apply("Value 'null' is not an integer");
 		}
 		if (!type.isToonValue()) {
-			throw exceptionConstructor.apply("Toon element '" + type + "' is not a toon value");
+			throw exceptionConstructor.apply("Toon element '" + TypeProvider.describe(type) + "' is not a toon value");
 		}
 		
 		ToonValue value = type.getAsToonValue();
 		if (!value.isToonNumber()) {
-			throw exceptionConstructor.apply("Toon element '" + type + "' is not a toon integer");
+			throw exceptionConstructor.apply("Toon element '" + TypeProvider.describe(type) + "' is not a toon integer");
 		}
 		return value.getAsInteger();
 	}
@@ -252,12 +253,12 @@ public final class ToonTypeProvider implements TypeProvider<ToonElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a long");
 		}
 		if (!type.isToonValue()) {
-			throw exceptionConstructor.apply("Toon element '" + type + "' is not a toon value");
+			throw exceptionConstructor.apply("Toon element '" + TypeProvider.describe(type) + "' is not a toon value");
 		}
 		
 		ToonValue value = type.getAsToonValue();
 		if (!value.isToonNumber()) {
-			throw exceptionConstructor.apply("Toon element '" + type + "' is not a toon long");
+			throw exceptionConstructor.apply("Toon element '" + TypeProvider.describe(type) + "' is not a toon long");
 		}
 		return value.getAsLong();
 	}
@@ -270,12 +271,12 @@ public final class ToonTypeProvider implements TypeProvider<ToonElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a float");
 		}
 		if (!type.isToonValue()) {
-			throw exceptionConstructor.apply("Toon element '" + type + "' is not a toon value");
+			throw exceptionConstructor.apply("Toon element '" + TypeProvider.describe(type) + "' is not a toon value");
 		}
 		
 		ToonValue value = type.getAsToonValue();
 		if (!value.isToonNumber()) {
-			throw exceptionConstructor.apply("Toon element '" + type + "' is a toon string, not a toon float");
+			throw exceptionConstructor.apply("Toon element '" + TypeProvider.describe(type) + "' is a toon string, not a toon float");
 		}
 		return value.getAsFloat();
 	}
@@ -288,12 +289,12 @@ public final class ToonTypeProvider implements TypeProvider<ToonElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a double");
 		}
 		if (!type.isToonValue()) {
-			throw exceptionConstructor.apply("Toon element '" + type + "' is not a toon value");
+			throw exceptionConstructor.apply("Toon element '" + TypeProvider.describe(type) + "' is not a toon value");
 		}
 		
 		ToonValue value = type.getAsToonValue();
 		if (!value.isToonNumber()) {
-			throw exceptionConstructor.apply("Toon element '" + type + "' is not a toon double");
+			throw exceptionConstructor.apply("Toon element '" + TypeProvider.describe(type) + "' is not a toon double");
 		}
 		return value.getAsDouble();
 	}
@@ -306,12 +307,12 @@ public final class ToonTypeProvider implements TypeProvider<ToonElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a string");
 		}
 		if (!type.isToonValue()) {
-			throw exceptionConstructor.apply("Toon element '" + type + "' is not a toon value");
+			throw exceptionConstructor.apply("Toon element '" + TypeProvider.describe(type) + "' is not a toon value");
 		}
 		
 		ToonValue value = type.getAsToonValue();
 		if (!value.isToonString()) {
-			throw exceptionConstructor.apply("Toon element '" + type + "' is not a toon string");
+			throw exceptionConstructor.apply("Toon element '" + TypeProvider.describe(type) + "' is not a toon string");
 		}
 		return value.getAsString();
 	}
@@ -325,7 +326,7 @@ public final class ToonTypeProvider implements TypeProvider<ToonElement> {
 		}
 		
 		if (!type.isToonArray()) {
-			throw exceptionConstructor.apply("Toon element '" + type + "' is not a toon array");
+			throw exceptionConstructor.apply("Toon element '" + TypeProvider.describe(type) + "' is not a toon array");
 		}
 		return type.getAsToonArray().getElements();
 	}
@@ -338,7 +339,7 @@ public final class ToonTypeProvider implements TypeProvider<ToonElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a valid map");
 		}
 		if (!type.isToonObject()) {
-			throw exceptionConstructor.apply("Toon element '" + type + "' is not a toon object");
+			throw exceptionConstructor.apply("Toon element '" + TypeProvider.describe(type) + "' is not a toon object");
 		}
 		
 		Map<String, ToonElement> map = Maps.newLinkedHashMap();
@@ -346,6 +347,21 @@ public final class ToonTypeProvider implements TypeProvider<ToonElement> {
 		return map;
 	}
 	
+	@Override
+	public <X extends Exception> @NonNull @Unmodifiable Map<String, ToonElement> getMapView(@Nullable ToonElement type, @NonNull Function<String, X> exceptionConstructor) throws X {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		if (type == null) {
+			throw exceptionConstructor.apply("Value 'null' is not a valid map");
+		}
+		if (!type.isToonObject()) {
+			throw exceptionConstructor.apply("Toon element '" + TypeProvider.describe(type) + "' is not a toon object");
+		}
+		
+		ToonObject object = type.getAsToonObject();
+		return ElementMapView.of(object.entrySet(), object::get, object::containsKey);
+	}
+	
 	@Override
 	@SuppressWarnings("DuplicatedCode")
 	public <X extends Exception> boolean has(@Nullable ToonElement type, @Nullable String key, @NonNull Function<String, X> exceptionConstructor) throws X {
@@ -359,7 +375,7 @@ public final class ToonTypeProvider implements TypeProvider<ToonElement> {
 		}
 		
 		if (!type.isToonObject()) {
-			throw exceptionConstructor.apply("Toon element '" + type + "' is not a toon object");
+			throw exceptionConstructor.apply("Toon element '" + TypeProvider.describe(type) + "' is not a toon object");
 		}
 		return type.getAsToonObject().containsKey(key);
 	}
@@ -377,7 +393,7 @@ public final class ToonTypeProvider implements TypeProvider<ToonElement> {
 		}
 		
 		if (!type.isToonObject()) {
-			throw exceptionConstructor.apply("Toon element '" + type + "' is not a toon object");
+			throw exceptionConstructor.apply("Toon element '" + TypeProvider.describe(type) + "' is not a toon object");
 		}
 		return type.getAsToonObject().get(key);
 	}
@@ -398,7 +414,7 @@ public final class ToonTypeProvider implements TypeProvider<ToonElement> {
 		}
 		
 		if (!type.isToonObject()) {
-			throw exceptionConstructor.apply("Toon element '" + type + "' is not a toon object");
+			throw exceptionConstructor.apply("Toon element '" + TypeProvider.describe(type) + "' is not a toon object");
 		}
 		type.getAsToonObject().add(key, value);
 	}
@@ -432,6 +448,6 @@ public final class ToonTypeProvider implements TypeProvider<ToonElement> {
 			object.addAll(value.getAsToonObject());
 			return object;
 		}
-		throw exceptionConstructor.apply("Unable to merge '" + current + "' with '" + value + "'");
+		throw exceptionConstructor.apply("Unable to merge '" + TypeProvider.describe(current) + "' with '" + TypeProvider.describe(value) + "'");
 	}
 }
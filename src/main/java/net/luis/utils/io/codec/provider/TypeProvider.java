@@ -19,12 +19,24 @@
 package net.luis.utils.io.codec.provider;
 
 import net.luis.utils.io.codec.Codec;
+import net.luis.utils.io.data.binary.BinaryArray;
+import net.luis.utils.io.data.binary.BinaryObject;
+import net.luis.utils.io.data.ini.IniSection;
+import net.luis.utils.io.data.json.JsonArray;
+import net.luis.utils.io.data.json.JsonObject;
+import net.luis.utils.io.data.toml.TomlArray;
+import net.luis.utils.io.data.toml.TomlTable;
+import net.luis.utils.io.data.toon.ToonArray;
+import net.luis.utils.io.data.toon.ToonObject;
+import net.luis.utils.io.data.xml.XmlContainer;
+import net.luis.utils.io.data.yaml.YamlMapping;
+import net.luis.utils.io.data.yaml.YamlSequence;
+import org.jetbrains.annotations.Unmodifiable;
 import org.jetbrains.annotations.UnknownNullability;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 import java.util.function.Function;
 
 /**
@@ -176,6 +188,87 @@ public interface TypeProvider<T> {
 	 */
 	<X extends Exception> @NonNull T createList(@Nullable List<? extends T> values, @NonNull Function<String, X> exceptionConstructor) throws X;
 	
+	/**
+	 * Creates a list value of the type this provider is for using the given int values.<br>
+	 * <p>
+	 *     This is a fast path for primitive arrays which does not require a boxed list of the values.<br>
+	 *     The default implementation creates an integer value for each element using {@link #createInteger(int, Function)}.
+	 * </p>
+	 *
+	 * @param values The int values to create the list value from
+	 * @param exceptionConstructor A function to create an exception if the type does not support list values or the creation failed
+	 * @param <X> The type of the exception to throw
+	 * @return A list of the type
+	 * @throws NullPointerException If the exception constructor is null
+	 * @throws X If the type does not support list or integer values or the creation failed
+	 */
+	default <X extends Exception> @NonNull T createIntegerArray(int @Nullable [] values, @NonNull Function<String, X> exceptionConstructor) throws X {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		if (values == null) {
+			throw exceptionConstructor.apply("Value 'null' is not a valid int array");
+		}
+		
+		List<T> elements = new ArrayList<>(values.length);
+		for (int i = 0; i < values.length; i++) {
+			elements.add(this.createInteger(values[i], elementException(i, exceptionConstructor)));
+		}
+		return this.createList(elements, exceptionConstructor);
+	}
+	
+	/**
+	 * Creates a list value of the type this provider is for using the given long values.<br>
+	 * <p>
+	 *     This is a fast path for primitive arrays which does not require a boxed list of the values.<br>
+	 *     The default implementation creates a long value for each element using {@link #createLong(long, Function)}.
+	 * </p>
+	 *
+	 * @param values The long values to create the list value from
+	 * @param exceptionConstructor A function to create an exception if the type does not support list values or the creation failed
+	 * @param <X> The type of the exception to throw
+	 * @return A list of the type
+	 * @throws NullPointerException If the exception constructor is null
+	 * @throws X If the type does not support list or long values or the creation failed
+	 */
+	default <X extends Exception> @NonNull T createLongArray(long @Nullable [] values, @NonNull Function<String, X> exceptionConstructor) throws X {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		if (values == null) {
+			throw exceptionConstructor.apply("Value 'null' is not a valid long array");
+		}
+		
+		List<T> elements = new ArrayList<>(values.length);
+		for (int i = 0; i < values.length; i++) {
+			elements.add(this.createLong(values[i], elementException(i, exceptionConstructor)));
+		}
+		return this.createList(elements, exceptionConstructor);
+	}
+	
+	/**
+	 * Creates a list value of the type this provider is for using the given double values.<br>
+	 * <p>
+	 *     This is a fast path for primitive arrays which does not require a boxed list of the values.<br>
+	 *     The default implementation creates a double value for each element using {@link #createDouble(double, Function)}.
+	 * </p>
+	 *
+	 * @param values The double values to create the list value from
+	 * @param exceptionConstructor A function to create an exception if the type does not support list values or the creation failed
+	 * @param <X> The type of the exception to throw
+	 * @return A list of the type
+	 * @throws NullPointerException If the exception constructor is null
+	 * @throws X If the type does not support list or double values or the creation failed
+	 */
+	default <X extends Exception> @NonNull T createDoubleArray(double @Nullable [] values, @NonNull Function<String, X> exceptionConstructor) throws X {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		if (values == null) {
+			throw exceptionConstructor.apply("Value 'null' is not a valid double array");
+		}
+		
+		List<T> elements = new ArrayList<>(values.length);
+		for (int i = 0; i < values.length; i++) {
+			elements.add(this.createDouble(values[i], elementException(i, exceptionConstructor)));
+		}
+		return this.createList(elements, exceptionConstructor);
+	}
+	
 	/**
 	 * Creates an empty map value of the type this provider is for.<br>
 	 *
@@ -223,6 +316,27 @@ public interface TypeProvider<T> {
 	 */
 	<X extends Exception> boolean isNull(@Nullable T type, @NonNull Function<String, X> exceptionConstructor) throws X;
 	
+	/**
+	 * Returns the kind of the given value if the kind is known by this provider.<br>
+	 * <p>
+	 *     The kind is used by codecs which try multiple alternatives to skip decoders which are not able to decode the value.<br>
+	 *     A provider must only return a kind if the value is rejected by the getters of all other kinds,
+	 *     lenient providers which convert values between kinds must return null.<br>
+	 *     By default, the kind is unknown and null is returned.
+	 * </p>
+	 *
+	 * @param type The value to get the kind of
+	 * @param exceptionConstructor A function to create an exception if the value is invalid
+	 * @param <X> The type of the exception to throw
+	 * @return The kind of the value or null if the kind is unknown
+	 * @throws NullPointerException If the exception constructor is null
+	 * @throws X If the value is invalid
+	 */
+	default <X extends Exception> @Nullable ValueKind getKind(@Nullable T type, @NonNull Function<String, X> exceptionConstructor) throws X {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		return null;
+	}
+	
 	/**
 	 * Gets the given value as a boolean value of the type this provider is for.<br>
 	 *
@@ -331,6 +445,87 @@ public interface TypeProvider<T> {
 	 */
 	<X extends Exception> @NonNull List<T> getList(@Nullable T type, @NonNull Function<String, X> exceptionConstructor) throws X;
 	
+	/**
+	 * Gets the given value as a list of int values of the type this provider is for.<br>
+	 * <p>
+	 *     This is a fast path for primitive arrays which does not require a boxed list of the values.<br>
+	 *     The default implementation gets each element of the list using {@link #getInteger(Object, Function)}.
+	 * </p>
+	 *
+	 * @param type The value to get as a list of int values
+	 * @param exceptionConstructor A function to create an exception if the type does not support list values or the retrieval failed
+	 * @param <X> The type of the exception to throw
+	 * @return The int values of the list
+	 * @throws NullPointerException If the exception constructor is null
+	 * @throws X If the type does not support list or integer values or the retrieval failed
+	 */
+	default <X extends Exception> int @NonNull [] getIntegerArray(@Nullable T type, @NonNull Function<String, X> exceptionConstructor) throws X {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		List<T> elements = this.getList(type, exceptionConstructor);
+		int[] values = new int[elements.size()];
+		int index = 0;
+		for (T element : elements) {
+			values[index] = this.getInteger(element, elementException(index, exceptionConstructor)).intValue();
+			index++;
+		}
+		return values;
+	}
+	
+	/**
+	 * Gets the given value as a list of long values of the type this provider is for.<br>
+	 * <p>
+	 *     This is a fast path for primitive arrays which does not require a boxed list of the values.<br>
+	 *     The default implementation gets each element of the list using {@link #getLong(Object, Function)}.
+	 * </p>
+	 *
+	 * @param type The value to get as a list of long values
+	 * @param exceptionConstructor A function to create an exception if the type does not support list values or the retrieval failed
+	 * @param <X> The type of the exception to throw
+	 * @return The long values of the list
+	 * @throws NullPointerException If the exception constructor is null
+	 * @throws X If the type does not support list or long values or the retrieval failed
+	 */
+	default <X extends Exception> long @NonNull [] getLongArray(@Nullable T type, @NonNull Function<String, X> exceptionConstructor) throws X {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		List<T> elements = this.getList(type, exceptionConstructor);
+		long[] values = new long[elements.size()];
+		int index = 0;
+		for (T element : elements) {
+			values[index] = this.getLong(element, elementException(index, exceptionConstructor)).longValue();
+			index++;
+		}
+		return values;
+	}
+	
+	/**
+	 * Gets the given value as a list of double values of the type this provider is for.<br>
+	 * <p>
+	 *     This is a fast path for primitive arrays which does not require a boxed list of the values.<br>
+	 *     The default implementation gets each element of the list using {@link #getDouble(Object, Function)}.
+	 * </p>
+	 *
+	 * @param type The value to get as a list of double values
+	 * @param exceptionConstructor A function to create an exception if the type does not support list values or the retrieval failed
+	 * @param <X> The type of the exception to throw
+	 * @return The double values of the list
+	 * @throws NullPointerException If the exception constructor is null
+	 * @throws X If the type does not support list or double values or the retrieval failed
+	 */
+	default <X extends Exception> double @NonNull [] getDoubleArray(@Nullable T type, @NonNull Function<String, X> exceptionConstructor) throws X {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		List<T> elements = this.getList(type, exceptionConstructor);
+		double[] values = new double[elements.size()];
+		int index = 0;
+		for (T element : elements) {
+			values[index] = this.getDouble(element, elementException(index, exceptionConstructor)).doubleValue();
+			index++;
+		}
+		return values;
+	}
+	
 	/**
 	 * Gets the given value as a map value of the type this provider is for.<br>
 	 *
@@ -343,6 +538,28 @@ public interface TypeProvider<T> {
 	 */
 	<X extends Exception> @NonNull Map<String, T> getMap(@Nullable T type, @NonNull Function<String, X> exceptionConstructor) throws X;
 	
+	/**
+	 * Gets the given value as a read-only map view of the type this provider is for.<br>
+	 * <p>
+	 *     In contrast to {@link #getMap(Object, Function)}, the returned map is not required to be a copy of the entries.<br>
+	 *     Implementations should return a view of the underlying map value, so that decoding does not allocate a map per object.<br>
+	 *     The view must not be modified and must not be used after the underlying value was changed.
+	 * </p>
+	 * <p>
+	 *     By default, the result of {@link #getMap(Object, Function)} is wrapped into an unmodifiable map.
+	 * </p>
+	 *
+	 * @param type The value to get as a map view
+	 * @param exceptionConstructor A function to create an exception if the type does not support map values or the retrieval failed
+	 * @param <X> The type of the exception to throw
+	 * @return The read-only map view
+	 * @throws NullPointerException If the exception constructor is null
+	 * @throws X If the type does not support map values or the retrieval failed
+	 */
+	default <X extends Exception> @NonNull @Unmodifiable Map<String, T> getMapView(@Nullable T type, @NonNull Function<String, X> exceptionConstructor) throws X {
+		return Collections.unmodifiableMap(this.getMap(type, exceptionConstructor));
+	}
+	
 	/**
 	 * Checks if the given value is a map and contains the given key.<br>
 	 * The given type must be a map.<br>
@@ -402,4 +619,48 @@ public interface TypeProvider<T> {
 	 * @throws X If the type does not support merging or the merge operation failed
 	 */
 	<X extends Exception> @UnknownNullability T merge(@Nullable T current, @Nullable T value, @NonNull Function<String, X> exceptionConstructor) throws X;
+	
+	/**
+	 * Creates an exception constructor for an element of a list value.<br>
+	 * The created exception constructor prefixes the message with the index of the element,
+	 * so that errors of the primitive array fast paths keep the position of the invalid element.<br>
+	 *
+	 * @param index The index of the element in the list value
+	 * @param exceptionConstructor The exception constructor to delegate to
+	 * @return The exception constructor for the element
+	 * @param <X> The type of the exception to throw
+	 * @throws NullPointerException If the exception constructor is null
+	 */
+	static <X extends Exception> @NonNull Function<String, X> elementException(int index, @NonNull Function<String, X> exceptionConstructor) {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		return message -> exceptionConstructor.apply("Invalid element at index " + index + ": " + message);
+	}
+	
+	/**
+	 * Returns a short description of the given value for error messages.<br>
+	 * Non-empty lists and maps of all supported formats are described by their size instead of being serialized.<br>
+	 *
+	 * @param value The value to describe
+	 * @return The description of the value
+	 */
+	static @NonNull String describe(@Nullable Object value) {
+		return switch (value) {
+			case Collection<?> collection when !collection.isEmpty() -> "[" + collection.size() + " elements]";
+			case Map<?, ?> map when !map.isEmpty() -> "{" + map.size() + " entries}";
+			case Object[] array when array.length > 0 -> "[" + array.length + " elements]";
+			case JsonArray array when !array.isEmpty() -> "[" + array.size() + " elements]";
+			case JsonObject object when !object.isEmpty() -> "{" + object.size() + " entries}";
+			case TomlArray array when !array.isEmpty() -> "[" + array.size() + " elements]";
+			case TomlTable table when !table.isEmpty() -> "{" + table.size() + " entries}";
+			case YamlSequence sequence when !sequence.isEmpty() -> "[" + sequence.size() + " elements]";
+			case YamlMapping mapping when !mapping.isEmpty() -> "{" + mapping.size() + " entries}";
+			case ToonArray array when !array.isEmpty() -> "[" + array.size() + " elements]";
+			case ToonObject object when !object.isEmpty() -> "{" + object.size() + " entries}";
+			case BinaryArray array when !array.isEmpty() -> "[" + array.size() + " elements]";
+			case BinaryObject object when !object.isEmpty() -> "{" + object.size() + " entries}";
+			case XmlContainer container when !container.isEmpty() -> "<" + container.getName() + "> with " + container.size() + " elements";
+			case IniSection section when !section.isEmpty() -> "[" + section.getName() + "] with " + section.size() + " entries";
+			case null, default -> String.valueOf(value);
+		};
+	}
 }
@@ -0,0 +1,53 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.codec.provider;
+
+/**
+ * Represents the kind of a value independent of the underlying format.<br>
+ * The kinds correspond to the value types supported by a {@link TypeProvider}.<br>
+ *
+ * @author Luis-St
+ */
+public enum ValueKind {
+	
+	/**
+	 * A null value.<br>
+	 */
+	NULL,
+	/**
+	 * A boolean value.<br>
+	 */
+	BOOLEAN,
+	/**
+	 * A numeric value.<br>
+	 */
+	NUMBER,
+	/**
+	 * A string value.<br>
+	 */
+	STRING,
+	/**
+	 * A list of values.<br>
+	 */
+	LIST,
+	/**
+	 * A map of string keys to values.<br>
+	 */
+	MAP
+}
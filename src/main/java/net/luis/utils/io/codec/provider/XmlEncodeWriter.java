@@ -0,0 +1,194 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.luis.utils.io.codec.provider;
+
+import net.luis.utils.io.codec.encoder.EncodeWriter;
+import net.luis.utils.io.codec.encoder.EncoderException;
+import net.luis.utils.io.data.xml.XmlElement;
+import net.luis.utils.io.data.xml.XmlTokenWriter;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+
+/**
+ * Encode writer implementation for xml which writes directly to a {@link XmlTokenWriter}.<br>
+ * The elements written by {@link #writeValue(XmlElement)} are expected to be created by the {@link XmlTypeProvider}.<br>
+ * <p>
+ *     The elements are named in the same way as by the {@link XmlTypeProvider}.<br>
+ *     Lists and maps are written as containers, list elements are named as element and map entries are named by their (escaped) key.<br>
+ *     If the writer is configured to be strict, the xml declaration must be written to the token writer before encoding.
+ * </p>
+ * <p>
+ *     State and I/O errors of the underlying writer are rethrown as {@link EncoderException}.
+ * </p>
+ *
+ * @author Luis-St
+ */
+public class XmlEncodeWriter implements EncodeWriter<XmlElement>, AutoCloseable {
+	
+	/**
+	 * The xml token writer to write to.<br>
+	 */
+	private final XmlTokenWriter writer;
+	/**
+	 * The stack of the currently open containers, true for lists and false for maps.<br>
+	 */
+	private final Deque<Boolean> containers = new ArrayDeque<>();
+	/**
+	 * The key of the next map entry or null if no key is pending.<br>
+	 */
+	private @Nullable String pendingKey;
+	
+	/**
+	 * Constructs a new xml encode writer for the given xml token writer.<br>
+	 *
+	 * @param writer The xml token writer to write to
+	 * @throws NullPointerException If the writer is null
+	 */
+	public XmlEncodeWriter(@NonNull XmlTokenWriter writer) {
+		this.writer = Objects.requireNonNull(writer, "Xml token writer must not be null");
+	}
+	
+	@Override
+	public @NonNull TypeProvider<XmlElement> getProvider() {
+		return XmlTypeProvider.INSTANCE;
+	}
+	
+	@Override
+	public void beginList() throws EncoderException {
+		String name = this.nextName(XmlTypeProvider.LIST);
+		try {
+			this.writer.beginElement(name);
+		} catch (IllegalStateException | UncheckedIOException e) {
+			throw new EncoderException("Unable to write xml list: " + e.getMessage(), e);
+		}
+		this.containers.push(true);
+	}
+	
+	@Override
+	public void endList() throws EncoderException {
+		this.endContainer(true, "list");
+	}
+	
+	@Override
+	public void beginMap() throws EncoderException {
+		String name = this.nextName(XmlTypeProvider.MAP);
+		try {
+			this.writer.beginElement(name);
+		} catch (IllegalStateException | UncheckedIOException e) {
+			throw new EncoderException("Unable to write xml map: " + e.getMessage(), e);
+		}
+		this.containers.push(false);
+	}
+	
+	@Override
+	public void key(@NonNull String key) throws EncoderException {
+		Objects.requireNonNull(key, "Key must not be null");
+		if (!Boolean.FALSE.equals(this.containers.peek())) {
+			throw new EncoderException("Unable to write xml map key '" + key + "': Key is only allowed inside of a map");
+		}
+		this.pendingKey = key;
+	}
+	
+	@Override
+	public void endMap() throws EncoderException {
+		this.pendingKey = null;
+		this.endContainer(false, "map");
+	}
+	
+	@Override
+	public void writeValue(@NonNull XmlElement value) throws EncoderException {
+		Objects.requireNonNull(value, "Xml element must not be null");
+		if (XmlTypeProvider.INSTANCE.isEmpty(value, EncoderException::new)) {
+			return;
+		}
+		
+		String name = this.nextName(value.getName());
+		try {
+			this.writer.element(this.containers.isEmpty() ? value : XmlTypeProvider.INSTANCE.copyWithName(name, value));
+		} catch (IllegalArgumentException | IllegalStateException | UncheckedIOException e) {
+			throw new EncoderException("Unable to write xml value: " + e.getMessage(), e);
+		}
+	}
+	
+	/**
+	 * Flushes the written content to the output.<br>
+	 * @throws EncoderException If an I/O error occurs
+	 */
+	public void flush() throws EncoderException {
+		try {
+			this.writer.flush();
+		} catch (UncheckedIOException e) {
+			throw new EncoderException("Unable to flush xml content: " + e.getMessage(), e);
+		}
+	}
+	
+	/**
+	 * Returns the name of the next element and consumes the pending key.<br>
+	 * The root element uses the given name, list elements are named as element and map entries are named by their escaped key.<br>
+	 *
+	 * @param rootName The name to use if the element is the root element
+	 * @return The name of the next element
+	 * @throws EncoderException If the element is written inside a map without a key
+	 */
+	private @NonNull String nextName(@NonNull String rootName) throws EncoderException {
+		Boolean list = this.containers.peek();
+		if (list == null) {
+			return rootName;
+		}
+		if (list) {
+			return XmlTypeProvider.ELEMENT;
+		}
+		
+		if (this.pendingKey == null) {
+			throw new EncoderException("Unable to write xml element: Map entries must be preceded by a key");
+		}
+		String name = XmlTypeProvider.INSTANCE.escapeName(this.pendingKey);
+		this.pendingKey = null;
+		return name;
+	}
+	
+	/**
+	 * Closes the current container if it is of the expected type.<br>
+	 *
+	 * @param list Whether the container is expected to be a list
+	 * @param type The name of the container type used in error messages
+	 * @throws EncoderException If the current container is not of the expected type or an error occurs while writing
+	 */
+	private void endContainer(boolean list, @NonNull String type) throws EncoderException {
+		Boolean current = this.containers.peek();
+		if (current == null || current != list) {
+			throw new EncoderException("Unable to write xml " + type + ": No " + type + " is open");
+		}
+		
+		try {
+			this.writer.endElement();
+		} catch (IllegalStateException | UncheckedIOException e) {
+			throw new EncoderException("Unable to write xml " + type + ": " + e.getMessage(), e);
+		}
+		this.containers.pop();
+	}
+	
+	@Override
+	public void close() throws IOException {
+		this.writer.close();
+	}
+}
@@ -91,15 +91,15 @@ public final class XmlTypeProvider implements TypeProvider<XmlElement> {
 	/**
 	 * Constants for the name of list xml element type.<br>
 	 */
-	private static final String LIST = "list" + GENERATED;
+	static final String LIST = "list" + GENERATED;
 	/**
 	 * Constants for the name of list element xml element type.<br>
 	 */
-	private static final String ELEMENT = "element" + GENERATED;
+	static final String ELEMENT = "element" + GENERATED;
 	/**
 	 * Constants for the name of map xml element type.<br>
 	 */
-	private static final String MAP = "map" + GENERATED;
+	static final String MAP = "map" + GENERATED;
 	
 	/**
 	 * The singleton instance of this class.<br>
@@ -239,7 +239,7 @@ public final class XmlTypeProvider implements TypeProvider<XmlElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a boolean");
 		}
 		if (!type.isXmlValue()) {
-			throw exceptionConstructor.apply("Xml element '" + type + "' must have a value to be a boolean");
+			throw exceptionConstructor.apply("Xml element '" + TypeProvider.describe(type) + "' must have a value to be a boolean");
 		}
 		
 		try {
@@ -257,7 +257,7 @@ public final class XmlTypeProvider implements TypeProvider<XmlElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a byte");
 		}
 		if (!type.isXmlValue()) {
-			throw exceptionConstructor.apply("Xml element '" + type + "' must have a value to be a byte");
+			throw exceptionConstructor.apply("Xml element '" + TypeProvider.describe(type) + "' must have a value to be a byte");
 		}
 		
 		try {
@@ -275,7 +275,7 @@ public final class XmlTypeProvider implements TypeProvider<XmlElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a short");
 		}
 		if (!type.isXmlValue()) {
-			throw exceptionConstructor.apply("Xml element '" + type + "' must have a value to be a short");
+			throw exceptionConstructor.apply("Xml element '" + TypeProvider.describe(type) + "' must have a value to be a short");
 		}
 		
 		try {
@@ -293,7 +293,7 @@ public final class XmlTypeProvider implements TypeProvider<XmlElement> {
 			throw exceptionConstructor.apply("Value 'null' is not an integer");
 		}
 		if (!type.isXmlValue()) {
-			throw exceptionConstructor.apply("Xml element '" + type + "' must have a value to be an integer");
+			throw exceptionConstructor.apply("Xml element '" + TypeProvider.describe(type) + "' must have a value to be an integer");
 		}
 		
 		try {
@@ -311,7 +311,7 @@ public final class XmlTypeProvider implements TypeProvider<XmlElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a long");
 		}
 		if (!type.isXmlValue()) {
-			throw exceptionConstructor.apply("Xml element '" + type + "' must have a value to be a long");
+			throw exceptionConstructor.apply("Xml element '" + TypeProvider.describe(type) + "' must have a value to be a long");
 		}
 		
 		try {
@@ -329,7 +329,7 @@ public final class XmlTypeProvider implements TypeProvider<XmlElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a float");
 		}
 		if (!type.isXmlValue()) {
-			throw exceptionConstructor.apply("Xml element '" + type + "' must have a value to be a float");
+			throw exceptionConstructor.apply("Xml element '" + TypeProvider.describe(type) + "' must have a value to be a float");
 		}
 		
 		try {
@@ -347,7 +347,7 @@ public final class XmlTypeProvider implements TypeProvider<XmlElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a double");
 		}
 		if (!type.isXmlValue()) {
-			throw exceptionConstructor.apply("Xml element '" + type + "' must have a value to be a double");
+			throw exceptionConstructor.apply("Xml element '" + TypeProvider.describe(type) + "' must have a value to be a double");
 		}
 		
 		try {
@@ -366,7 +366,7 @@ public final class XmlTypeProvider implements TypeProvider<XmlElement> {
 		}
 		
 		if (!type.isXmlValue()) {
-			throw exceptionConstructor.apply("Xml element '" + type + "' must have a value to be a string");
+			throw exceptionConstructor.apply("Xml element '" + TypeProvider.describe(type) + "' must have a value to be a string");
 		}
 		return type.getAsXmlValue().getAsString();
 	}
@@ -380,7 +380,7 @@ public final class XmlTypeProvider implements TypeProvider<XmlElement> {
 		}
 		
 		if (!type.isXmlContainer()) {
-			throw exceptionConstructor.apply("Xml element '" + type + "' is not a container");
+			throw exceptionConstructor.apply("Xml element '" + TypeProvider.describe(type) + "' is not a container");
 		}
 		
 		XmlContainer container = type.getAsXmlContainer();
@@ -398,9 +398,9 @@ public final class XmlTypeProvider implements TypeProvider<XmlElement> {
 			if (element != null) {
 				return List.of(element);
 			}
-			throw exceptionConstructor.apply("Xml element '" + type + "' is an undefined xml container with no elements but not empty");
+			throw exceptionConstructor.apply("Xml element '" + TypeProvider.describe(type) + "' is an undefined xml container with no elements but not empty");
 		}
-		throw exceptionConstructor.apply("Xml element '" + type + "' is a container with non-array elements");
+		throw exceptionConstructor.apply("Xml element '" + TypeProvider.describe(type) + "' is a container with non-array elements");
 	}
 	
 	@Override
@@ -412,7 +412,7 @@ public final class XmlTypeProvider implements TypeProvider<XmlElement> {
 		}
 		
 		if (!type.isXmlContainer()) {
-			throw exceptionConstructor.apply("Xml element '" + type + "' is not a container");
+			throw exceptionConstructor.apply("Xml element '" + TypeProvider.describe(type) + "' is not a container");
 		}
 		
 		XmlElements elements = type.getAsXmlContainer().getElements();
@@ -432,9 +432,9 @@ public final class XmlTypeProvider implements TypeProvider<XmlElement> {
 				XmlElement copied = this.copyWithName(element.getName(), element);
 				return Map.of(this.unescapeName(copied.getName()), copied);
 			}
-			throw exceptionConstructor.apply("Xml element '" + type + "' is an undefined container with no elements but not empty");
+			throw exceptionConstructor.apply("Xml element '" + TypeProvider.describe(type) + "' is an undefined container with no elements but not empty");
 		}
-		throw exceptionConstructor.apply("Xml element '" + type + "' is a container with non-object elements");
+		throw exceptionConstructor.apply("Xml element '" + TypeProvider.describe(type) + "' is a container with non-object elements");
 	}
 	
 	@Override
@@ -450,7 +450,7 @@ public final class XmlTypeProvider implements TypeProvider<XmlElement> {
 		}
 		
 		if (!type.isXmlContainer()) {
-			throw exceptionConstructor.apply("Xml element '" + type + "' is not a container");
+			throw exceptionConstructor.apply("Xml element '" + TypeProvider.describe(type) + "' is not a container");
 		}
 		
 		XmlElements elements = type.getAsXmlContainer().getElements();
@@ -473,12 +473,12 @@ public final class XmlTypeProvider implements TypeProvider<XmlElement> {
 		}
 		
 		if (!type.isXmlContainer()) {
-			throw exceptionConstructor.apply("Xml element '" + type + "' is not a container");
+			throw exceptionConstructor.apply("Xml element '" + TypeProvider.describe(type) + "' is not a container");
 		}
 		
 		XmlElements elements = type.getAsXmlContainer().getElements();
 		if (elements.isArray()) {
-			throw exceptionConstructor.apply("Xml element '" + type + "' is a container with array elements");
+			throw exceptionConstructor.apply("Xml element '" + TypeProvider.describe(type) + "' is a container with array elements");
 		}
 		
 		XmlElement element = elements.get(this.escapeName(key));
@@ -504,12 +504,12 @@ public final class XmlTypeProvider implements TypeProvider<XmlElement> {
 		}
 		
 		if (!type.isXmlContainer()) {
-			throw exceptionConstructor.apply("Xml element '" + type + "' is not a container");
+			throw exceptionConstructor.apply("Xml element '" + TypeProvider.describe(type) + "' is not a container");
 		}
 		
 		XmlElements elements = type.getAsXmlContainer().getElements();
 		if (elements.isArray()) {
-			throw exceptionConstructor.apply("Xml element '" + type + "' is a container with array elements");
+			throw exceptionConstructor.apply("Xml element '" + TypeProvider.describe(type) + "' is a container with array elements");
 		}
 		elements.add(this.copyWithName(this.escapeName(key), value));
 	}
@@ -553,9 +553,9 @@ public final class XmlTypeProvider implements TypeProvider<XmlElement> {
 				return this.mergeUndefined(currentContainer.getElements(), valueContainer.getElements(), exceptionConstructor);
 			}
 			
-			throw exceptionConstructor.apply("Unable to merge container of different types: '" + current + "' with '" + value + "'");
+			throw exceptionConstructor.apply("Unable to merge container of different types: '" + TypeProvider.describe(current) + "' with '" + TypeProvider.describe(value) + "'");
 		}
-		throw exceptionConstructor.apply("Unable to merge '" + current + "' with '" + value + "'");
+		throw exceptionConstructor.apply("Unable to merge '" + TypeProvider.describe(current) + "' with '" + TypeProvider.describe(value) + "'");
 	}
 	
 	//region Helper methods
@@ -569,7 +569,7 @@ public final class XmlTypeProvider implements TypeProvider<XmlElement> {
 	 * @return The escaped name
 	 * @throws NullPointerException If the name is null
 	 */
-	private @NonNull String escapeName(@NonNull String name) {
+	@NonNull String escapeName(@NonNull String name) {
 		Objects.requireNonNull(name, "Name must not be null");
 		return !XML_ELEMENT_NAME_PATTERN.matcher(name).matches() ? "_" + name : name;
 	}
@@ -603,7 +603,7 @@ public final class XmlTypeProvider implements TypeProvider<XmlElement> {
 	 * @throws NullPointerException If the name or value is null
 	 * @throws IllegalStateException If the value is not a valid xml element (should not happen)
 	 */
-	private @NonNull XmlElement copyWithName(@NonNull String name, @NonNull XmlElement value) {
+	@NonNull XmlElement copyWithName(@NonNull String name, @NonNull XmlElement value) {
 		Objects.requireNonNull(name, "Name must not be null");
 		Objects.requireNonNull(value, "Value must not be null");
 		
@@ -21,6 +21,7 @@ package net.luis.utils.io.codec.provider;
 import com.google.common.collect.Maps;
 import net.luis.utils.annotation.type.Singleton;
 import net.luis.utils.io.data.yaml.*;
+import org.jetbrains.annotations.Unmodifiable;
 import org.jetbrains.annotations.UnknownNullability;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
@@ -180,12 +181,12 @@ public final class YamlTypeProvider implements TypeProvider<YamlElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a boolean");
 		}
 		if (!type.isYamlScalar()) {
-			throw exceptionConstructor.apply("Yaml element '" + type + "' is not a yaml scalar");
+			throw exceptionConstructor.apply("Yaml element '" + TypeProvider.describe(type) + "' is not a yaml scalar");
 		}
 		
 		YamlScalar scalar = type.getAsYamlScalar();
 		if (!scalar.isYamlBoolean()) {
-			throw exceptionConstructor.apply("Yaml element '" + type + "' is not a yaml boolean");
+			throw exceptionConstructor.apply("Yaml element '" + TypeProvider.describe(type) + "' is not a yaml boolean");
 		}
 		return scalar.getAsBoolean();
 	}
@@ -198,12 +199,12 @@ public final class YamlTypeProvider implements TypeProvider<YamlElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a byte");
 		}
 		if (!type.isYamlScalar()) {
-			throw exceptionConstructor.apply("Yaml element '" + type + "' is not a yaml scalar");
+			throw exceptionConstructor.apply("Yaml element '" + TypeProvider.describe(type) + "' is not a yaml scalar");
 		}
 		
 		YamlScalar scalar = type.getAsYamlScalar();
 		if (!scalar.isYamlNumber()) {
-			throw exceptionConstructor.apply("Yaml element '" + type + "' is not a yaml byte");
+			throw exceptionConstructor.apply("Yaml element '" + TypeProvider.describe(type) + "' is not a yaml byte");
 		}
 		return scalar.getAsByte();
 	}
@@ -216,12 +217,12 @@ public final class YamlTypeProvider implements TypeProvider<YamlElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a short");
 		}
 		if (!type.isYamlScalar()) {
-			throw exceptionConstructor.apply("Yaml element '" + type + "' is not a yaml scalar");
+			throw exceptionConstructor.apply("Yaml element '" + TypeProvider.describe(type) + "' is not a yaml scalar");
 		}
 		
 		YamlScalar scalar = type.getAsYamlScalar();
 		if (!scalar.isYamlNumber()) {
-			throw exceptionConstructor.apply("Yaml element '" + type + "' is not a yaml short");
+			throw exceptionConstructor.apply("Yaml element '" + TypeProvider.describe(type) + "' is not a yaml short");
 		}
 		return scalar.getAsShort();
 	}
@@ -234,12 +235,12 @@ public final class YamlTypeProvider implements TypeProvider<YamlElement> {
 			throw exceptionConstructor.apply("Value 'null' is not an integer");
 		}
 		if (!type.isYamlScalar()) {
-			throw exceptionConstructor.apply("Yaml element '" + type + "' is not a yaml scalar");
+			throw exceptionConstructor.apply("Yaml element '" + TypeProvider.describe(type) + "' is not a yaml scalar");
 		}
 		
 		YamlScalar scalar = type.getAsYamlScalar();
 		if (!scalar.isYamlNumber()) {
-			throw exceptionConstructor.apply("Yaml element '" + type + "' is not a yaml integer");
+			throw exceptionConstructor.apply("Yaml element '" + TypeProvider.describe(type) + "' is not a yaml integer");
 		}
 		return scalar.getAsInteger();
 	}
@@ -252,12 +253,12 @@ public final class YamlTypeProvider implements TypeProvider<YamlElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a long");
 		}
 		if (!type.isYamlScalar()) {
-			throw exceptionConstructor.apply("Yaml element '" + type + "' is not a yaml scalar");
+			throw exceptionConstructor.apply("Yaml element '" + TypeProvider.describe(type) + "' is not a yaml scalar");
 		}
 		
 		YamlScalar scalar = type.getAsYamlScalar();
 		if (!scalar.isYamlNumber()) {
-			throw exceptionConstructor.apply("Yaml element '" + type + "' is not a yaml long");
+			throw exceptionConstructor.apply("Yaml element '" + TypeProvider.describe(type) + "' is not a yaml long");
 		}
 		return scalar.getAsLong();
 	}
@@ -270,12 +271,12 @@ public final class YamlTypeProvider implements TypeProvider<YamlElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a float");
 		}
 		if (!type.isYamlScalar()) {
-			throw exceptionConstructor.apply("Yaml element '" + type + "' is not a yaml scalar");
+			throw exceptionConstructor.apply("Yaml element '" + TypeProvider.describe(type) + "' is not a yaml scalar");
 		}
 		
 		YamlScalar scalar = type.getAsYamlScalar();
 		if (scalar.isYamlString()) {
-			throw exceptionConstructor.apply("Yaml element '" + type + "' is a yaml string, not a yaml float");
+			throw exceptionConstructor.apply("Yaml element '" + TypeProvider.describe(type) + "' is a yaml string, not a yaml float");
 		}
 		return scalar.getAsFloat();
 	}
@@ -288,12 +289,12 @@ public final class YamlTypeProvider implements TypeProvider<YamlElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a double");
 		}
 		if (!type.isYamlScalar()) {
-			throw exceptionConstructor.apply("Yaml element '" + type + "' is not a yaml scalar");
+			throw exceptionConstructor.apply("Yaml element '" + TypeProvider.describe(type) + "' is not a yaml scalar");
 		}
 		
 		YamlScalar scalar = type.getAsYamlScalar();
 		if (!scalar.isYamlNumber()) {
-			throw exceptionConstructor.apply("Yaml element '" + type + "' is not a yaml double");
+			throw exceptionConstructor.apply("Yaml element '" + TypeProvider.describe(type) + "' is not a yaml double");
 		}
 		return scalar.getAsDouble();
 	}
@@ -306,12 +307,12 @@ public final class YamlTypeProvider implements TypeProvider<YamlElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a string");
 		}
 		if (!type.isYamlScalar()) {
-			throw exceptionConstructor.apply("Yaml element '" + type + "' is not a yaml scalar");
+			throw exceptionConstructor.apply("Yaml element '" + TypeProvider.describe(type) + "' is not a yaml scalar");
 		}
 		
 		YamlScalar scalar = type.getAsYamlScalar();
 		if (!scalar.isYamlString()) {
-			throw exceptionConstructor.apply("Yaml element '" + type + "' is not a yaml string");
+			throw exceptionConstructor.apply("Yaml element '" + TypeProvider.describe(type) + "' is not a yaml string");
 		}
 		return scalar.getAsString();
 	}
@@ -325,7 +326,7 @@ public final class YamlTypeProvider implements TypeProvider<YamlElement> {
 		}
 		
 		if (!type.isYamlSequence()) {
-			throw exceptionConstructor.apply("Yaml element '" + type + "' is not a yaml sequence");
+			throw exceptionConstructor.apply("Yaml element '" + TypeProvider.describe(type) + "' is not a yaml sequence");
 		}
 		return type.getAsYamlSequence().getElements();
 	}
@@ -338,7 +339,7 @@ public final class YamlTypeProvider implements TypeProvider<YamlElement> {
 			throw exceptionConstructor.apply("Value 'null' is not a valid map");
 		}
 		if (!type.isYamlMapping()) {
-			throw exceptionConstructor.apply("Yaml element '" + type + "' is not a yaml mapping");
+			throw exceptionConstructor.apply("Yaml element '" + TypeProvider.describe(type) + "' is not a yaml mapping");
 		}
 		
 		Map<String, YamlElement> map = Maps.newLinkedHashMap();
@@ -346,6 +347,21 @@ public final class YamlTypeProvider implements TypeProvider<YamlElement> {
 		return map;
 	}
 	
+	@Override
+	public <X extends Exception> @NonNull @Unmodifiable Map<String, YamlElement> getMapView(@Nullable YamlElement type, @NonNull Function<String, X> exceptionConstructor) throws X {
+		Objects.requireNonNull(exceptionConstructor, "Exception constructor must not be null");
+		
+		if (type == null) {
+			throw exceptionConstructor.apply("Value 'null' is not a valid map");
+		}
+		if (!type.isYamlMapping()) {
+			throw exceptionConstructor.apply("Yaml element '" + TypeProvider.describe(type) + "' is not a yaml mapping");
+		}
+		
+		YamlMapping mapping = type.getAsYamlMapping();
+		return ElementMapView.of(mapping.entrySet(), mapping::get, mapping::containsKey);
+	}
+	
 	@Override
 	@SuppressWarnings("DuplicatedCode")
 	public <X extends Exception> boolean has(@Nullable YamlElement type, @Nullable String key, @NonNull Function<String, X> exceptionConstructor) throws X {
@@ -359,7 +375,7 @@ public final class YamlTypeProvider implements TypeProvider<YamlElement> {
 		}
 		
 		if (!type.isYamlMapping()) {
-			throw exceptionConstructor.apply("Yaml element '" + type + "' is not a yaml mapping");
+			throw exceptionConstructor.apply("Yaml element '" + TypeProvider.describe(type) + "' is not a yaml mapping");
 		}
 		return type.getAsYamlMapping().containsKey(key);
 	}
@@ -377,7 +393,7 @@ public final class YamlTypeProvider implements TypeProvider<YamlElement> {
 		}
 		
 		if (!type.isYamlMapping()) {
-			throw exceptionConstructor.apply("Yaml element '" + type + "' is not a yaml mapping");
+			throw exceptionConstructor.apply("Yaml element '" + TypeProvider.describe(type) + "' is not a yaml mapping");
 		}
 		return type.getAsYamlMapping().get(key);
 	}
@@ -398,7 +414,7 @@ public final class YamlTypeProvider implements TypeProvider<YamlElement> {
 		}
 		
 		if (!type.isYamlMapping()) {
-			throw exceptionConstructor.apply("Yaml element '" + type + "' is not a yaml mapping");
+			throw exceptionConstructor.apply("Yaml element '" + TypeProvider.describe(type) + "' is not a yaml mapping");
 		}
 		type.getAsYamlMapping().add(key, value);
 	}
@@ -432,6 +448,6 @@ public final class YamlTypeProvider implements TypeProvider<YamlElement> {
 			mapping.addAll(value.getAsYamlMapping());
 			return mapping;
 		}
-		throw exceptionConstructor.apply("Unable to merge '" + current + "' with '" + value + "'");
+		throw exceptionConstructor.apply("Unable to merge '" + TypeProvider.describe(current) + "' with '" + TypeProvider.describe(value) + "'");
 	}
 }
@@ -24,15 +24,14 @@ import net.luis.utils.io.codec.constraint.merged.collection.PrimitiveArrayConstr
 import net.luis.utils.io.codec.decoder.DecoderException;
 import net.luis.utils.io.codec.encoder.EncoderException;
 import net.luis.utils.io.codec.provider.TypeProvider;
-import org.apache.commons.lang3.ArrayUtils;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
-import java.util.*;
+import java.util.Objects;
 
 /**
  * Internal codec implementation for double arrays.<br>
- * Uses a list of doubles as an internal representation.<br>
+ * Uses the primitive array fast paths of the type provider, the elements are not boxed into an intermediate list.<br>
  *
  * @author Luis-St
  */
@@ -40,11 +39,6 @@ public class DoubleArrayCodec
 	extends AbstractConstrainableCodec<double[], PrimitiveArrayConstraintConfig<double[]>, DoubleArrayCodec>
 	implements PrimitiveArrayConstraint<double[], DoubleArrayCodec> {
 	
-	/**
-	 * The internal codec that handles the conversion between a list of doubles and the array representation.<br>
-	 */
-	private final Codec<List<Double>> internalCodec = Codecs.DOUBLE.list();
-	
 	/**
 	 * Constructs a new double array codec.<br>
 	 */
@@ -71,7 +65,7 @@ public class DoubleArrayCodec
 		}
 		
 		this.validateEncodeConstraints(value);
-		return this.internalCodec.encode(provider, current, Arrays.asList(ArrayUtils.toObject(value)));
+		return provider.merge(current, provider.createDoubleArray(value, message -> new EncoderException(message, this)), EncoderException::new);
 	}
 	
 	@Override
@@ -82,8 +76,6 @@ public class DoubleArrayCodec
 			throw new DecoderException("Unable to decode null value as double array", this);
 		}
 		
-		List<Double> list = this.internalCodec.decode(provider, current, value);
-		double[] array = ArrayUtils.toPrimitive(list.toArray(Double[]::new));
-		return this.validateDecodeConstraints(array);
+		return this.validateDecodeConstraints(provider.getDoubleArray(value, message -> new DecoderException(message, this)));
 	}
 }
@@ -24,15 +24,14 @@ import net.luis.utils.io.codec.constraint.merged.collection.PrimitiveArrayConstr
 import net.luis.utils.io.codec.decoder.DecoderException;
 import net.luis.utils.io.codec.encoder.EncoderException;
 import net.luis.utils.io.codec.provider.TypeProvider;
-import org.apache.commons.lang3.ArrayUtils;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
-import java.util.*;
+import java.util.Objects;
 
 /**
  * Internal codec implementation for integer arrays.<br>
- * Uses a list of integers as an internal representation.<br>
+ * Uses the primitive array fast paths of the type provider, the elements are not boxed into an intermediate list.<br>
  *
  * @author Luis-St
  */
@@ -40,11 +39,6 @@ public class IntegerArrayCodec
 	extends AbstractConstrainableCodec<int[], PrimitiveArrayConstraintConfig<int[]>, IntegerArrayCodec>
 	implements PrimitiveArrayConstraint<int[], IntegerArrayCodec> {
 	
-	/**
-	 * The internal codec that handles the conversion between a list of integers and the array representation.<br>
-	 */
-	private final Codec<List<Integer>> internalCodec = Codecs.INTEGER.list();
-	
 	/**
 	 * Constructs a new integer array codec.<br>
 	 */
@@ -71,7 +65,7 @@ public class IntegerArrayCodec
 		}
 		
 		this.validateEncodeConstraints(value);
-		return this.internalCodec.encode(provider, current, Arrays.asList(ArrayUtils.toObject(value)));
+		return provider.merge(current, provider.createIntegerArray(value, message -> new EncoderException(message, this)), EncoderException::new);
 	}
 	
 	@Override
@@ -82,8 +76,6 @@ public class IntegerArrayCodec
 			throw new DecoderException("Unable to decode null value as int array", this);
 		}
 		
-		List<Integer> list = this.internalCodec.decode(provider, current, value);
-		int[] array = ArrayUtils.toPrimitive(list.toArray(Integer[]::new));
-		return this.validateDecodeConstraints(array);
+		return this.validateDecodeConstraints(provider.getIntegerArray(value, message -> new DecoderException(message, this)));
 	}
 }
@@ -22,10 +22,13 @@ import net.luis.utils.io.codec.AbstractCodec;
 import net.luis.utils.io.codec.decoder.DecoderException;
 import net.luis.utils.io.codec.encoder.EncoderException;
 import net.luis.utils.io.codec.provider.TypeProvider;
+import net.luis.utils.io.codec.provider.ValueKind;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Internal codec implementation for booleans.<br>
@@ -56,6 +59,11 @@ public class BooleanCodec extends AbstractCodec<Boolean> {
 		return key.toString();
 	}
 	
+	@Override
+	public @NonNull Set<ValueKind> getDecodableKinds() {
+		return EnumSet.of(ValueKind.BOOLEAN);
+	}
+	
 	@Override
 	public <R> @NonNull Boolean decode(@NonNull TypeProvider<R> provider, @NonNull R current, @Nullable R value) throws DecoderException {
 		Objects.requireNonNull(provider, "Type provider must not be null");
@@ -24,10 +24,13 @@ import net.luis.utils.io.codec.constraint.merged.CharacterConstraint;
 import net.luis.utils.io.codec.decoder.DecoderException;
 import net.luis.utils.io.codec.encoder.EncoderException;
 import net.luis.utils.io.codec.provider.TypeProvider;
+import net.luis.utils.io.codec.provider.ValueKind;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Internal codec implementation for characters.<br>
@@ -72,6 +75,11 @@ public class CharacterCodec
 		return String.valueOf(this.validateEncodeConstraints(key));
 	}
 	
+	@Override
+	public @NonNull Set<ValueKind> getDecodableKinds() {
+		return EnumSet.of(ValueKind.STRING);
+	}
+	
 	@Override
 	public <R> @NonNull Character decode(@NonNull TypeProvider<R> provider, @NonNull R current, @Nullable R value) throws DecoderException {
 		Objects.requireNonNull(provider, "Type provider must not be null");
@@ -24,10 +24,13 @@ import net.luis.utils.io.codec.constraint.merged.StringConstraint;
 import net.luis.utils.io.codec.decoder.DecoderException;
 import net.luis.utils.io.codec.encoder.EncoderException;
 import net.luis.utils.io.codec.provider.TypeProvider;
+import net.luis.utils.io.codec.provider.ValueKind;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Internal codec implementation for strings.<br>
@@ -71,6 +74,11 @@ public class StringCodec
 		return this.validateEncodeConstraints(key);
 	}
 	
+	@Override
+	public @NonNull Set<ValueKind> getDecodableKinds() {
+		return EnumSet.of(ValueKind.STRING);
+	}
+	
 	@Override
 	public <R> @NonNull String decode(@NonNull TypeProvider<R> provider, @NonNull R current, @Nullable R value) throws DecoderException {
 		Objects.requireNonNull(provider, "Type provider must not be null");
@@ -24,11 +24,14 @@ import net.luis.utils.io.codec.constraint.merged.numeric.BigDecimalConstraint;
 import net.luis.utils.io.codec.decoder.DecoderException;
 import net.luis.utils.io.codec.encoder.EncoderException;
 import net.luis.utils.io.codec.provider.TypeProvider;
+import net.luis.utils.io.codec.provider.ValueKind;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
 import java.math.BigDecimal;
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Internal codec implementation for big decimals.<br>
@@ -74,6 +77,11 @@ public class BigDecimalCodec
 		return this.validateEncodeConstraints(key).toPlainString();
 	}
 	
+	@Override
+	public @NonNull Set<ValueKind> getDecodableKinds() {
+		return EnumSet.of(ValueKind.STRING);
+	}
+	
 	@Override
 	public <R> @NonNull BigDecimal decode(@NonNull TypeProvider<R> provider, @NonNull R current, @Nullable R value) throws DecoderException {
 		Objects.requireNonNull(provider, "Type provider must not be null");
@@ -24,11 +24,14 @@ import net.luis.utils.io.codec.constraint.merged.numeric.IntegerConstraint;
 import net.luis.utils.io.codec.decoder.DecoderException;
 import net.luis.utils.io.codec.encoder.EncoderException;
 import net.luis.utils.io.codec.provider.TypeProvider;
+import net.luis.utils.io.codec.provider.ValueKind;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
 import java.math.BigInteger;
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Internal codec implementation for big integers.<br>
@@ -74,6 +77,11 @@ public class BigIntegerCodec
 		return this.validateEncodeConstraints(key).toString();
 	}
 	
+	@Override
+	public @NonNull Set<ValueKind> getDecodableKinds() {
+		return EnumSet.of(ValueKind.STRING);
+	}
+	
 	@Override
 	public <R> @NonNull BigInteger decode(@NonNull TypeProvider<R> provider, @NonNull R current, @Nullable R value) throws DecoderException {
 		Objects.requireNonNull(provider, "Type provider must not be null");
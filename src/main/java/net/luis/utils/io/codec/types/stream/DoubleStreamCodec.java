@@ -27,21 +27,15 @@ import org.jspecify.annotations.Nullable;
 
 import java.util.Objects;
 import java.util.stream.DoubleStream;
-import java.util.stream.Stream;
 
 /**
  * Internal codec implementation for double streams.<br>
- * Uses a stream of boxed doubles as an internal representation.<br>
+ * Uses the primitive array fast paths of the type provider, the elements are not boxed.<br>
  *
  * @author Luis-St
  */
 public class DoubleStreamCodec extends AbstractCodec<DoubleStream> {
 	
-	/**
-	 * The internal codec that handles the conversion between a stream of boxed doubles and the unboxed version.<br>
-	 */
-	private final Codec<Stream<Double>> internalCodec = Codecs.DOUBLE.stream();
-	
 	/**
 	 * Constructs a new double stream codec.<br>
 	 */
@@ -55,7 +49,7 @@ public class DoubleStreamCodec extends AbstractCodec<DoubleStream> {
 			throw new EncoderException("Unable to encode null as double stream", this);
 		}
 		
-		return this.internalCodec.encode(provider, current, value.boxed());
+		return provider.merge(current, provider.createDoubleArray(value.toArray(), message -> new EncoderException(message, this)), EncoderException::new);
 	}
 	
 	@Override
@@ -66,7 +60,7 @@ public class DoubleStreamCodec extends AbstractCodec<DoubleStream> {
 			throw new DecoderException("Unable to decode null value as double stream", this);
 		}
 		
-		return this.internalCodec.decode(provider, current, value).mapToDouble(Double::doubleValue);
+		return DoubleStream.of(provider.getDoubleArray(value, message -> new DecoderException(message, this)));
 	}
 	
 	@Override
@@ -27,21 +27,15 @@ import org.jspecify.annotations.Nullable;
 
 import java.util.Objects;
 import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 /**
  * Internal codec implementation for int streams.<br>
- * Uses a stream of boxed integers as an internal representation.<br>
+ * Uses the primitive array fast paths of the type provider, the elements are not boxed.<br>
  *
  * @author Luis-St
  */
 public class IntStreamCodec extends AbstractCodec<IntStream> {
 	
-	/**
-	 * The internal codec that handles the conversion between a stream of boxed integers and the unboxed version.<br>
-	 */
-	private final Codec<Stream<Integer>> internalCodec = Codecs.INTEGER.stream();
-	
 	/**
 	 * Constructs a new int stream codec.<br>
 	 */
@@ -55,7 +49,7 @@ public class IntStreamCodec extends AbstractCodec<IntStream> {
 			throw new EncoderException("Unable to encode null as int stream", this);
 		}
 		
-		return this.internalCodec.encode(provider, current, value.boxed());
+		return provider.merge(current, provider.createIntegerArray(value.toArray(), message -> new EncoderException(message, this)), EncoderException::new);
 	}
 	
 	@Override
@@ -66,7 +60,7 @@ public class IntStreamCodec extends AbstractCodec<IntStream> {
 			throw new DecoderException("Unable to decode null value as int stream", this);
 		}
 		
-		return this.internalCodec.decode(provider, current, value).mapToInt(Integer::intValue);
+		return IntStream.of(provider.getIntegerArray(value, message -> new DecoderException(message, this)));
 	}
 	
 	@Override
@@ -27,21 +27,15 @@ import org.jspecify.annotations.Nullable;
 
 import java.util.Objects;
 import java.util.stream.LongStream;
-import java.util.stream.Stream;
 
 /**
  * Internal codec implementation for long streams.<br>
- * Uses a stream of boxed longs as an internal representation.<br>
+ * Uses the primitive array fast paths of the type provider, the elements are not boxed.<br>
  *
  * @author Luis-St
  */
 public class LongStreamCodec extends AbstractCodec<LongStream> {
 	
-	/**
-	 * The internal codec that handles the conversion between a stream of boxed longs and the unboxed version.<br>
-	 */
-	private final Codec<Stream<Long>> internalCodec = Codecs.LONG.stream();
-	
 	/**
 	 * Constructs a new long stream codec.<br>
 	 */
@@ -55,7 +49,7 @@ public class LongStreamCodec extends AbstractCodec<LongStream> {
 			throw new EncoderException("Unable to encode null as long stream", this);
 		}
 		
-		return this.internalCodec.encode(provider, current, value.boxed());
+		return provider.merge(current, provider.createLongArray(value.toArray(), message -> new EncoderException(message, this)), EncoderException::new);
 	}
 	
 	@Override
@@ -66,7 +60,7 @@ public class LongStreamCodec extends AbstractCodec<LongStream> {
 			throw new DecoderException("Unable to decode null value as long stream", this);
 		}
 		
-		return this.internalCodec.decode(provider, current, value).mapToLong(Long::longValue);
+		return LongStream.of(provider.getLongArray(value, message -> new DecoderException(message, this)));
 	}
 	
 	@Override
@@ -23,6 +23,7 @@ import net.luis.utils.io.codec.Codec;
 import net.luis.utils.io.codec.decoder.DecoderException;
 import net.luis.utils.io.codec.encoder.EncoderException;
 import net.luis.utils.io.codec.provider.TypeProvider;
+import net.luis.utils.io.codec.provider.ValueKind;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
@@ -57,6 +58,15 @@ import java.util.stream.Collectors;
  *     During decoding, the codec similarly tries each codec in order and returns the
  *     result from the first codec that successfully decodes the value.
  * </p>
+ * <p>
+ *     The codecs are tried speculatively, failed attempts do not capture a stack trace
+ *     and the exceptions of the failed attempts are only attached as suppressed exceptions if all codecs fail.
+ * </p>
+ * <p>
+ *     The codecs which are able to decode each {@link ValueKind kind} of value are precomputed on construction.<br>
+ *     If the type provider knows the kind of the decoded value, only the codecs which are able to decode this kind are tried.<br>
+ *     Codecs of distinct kinds (for example a number and a map codec) are therefore selected by a single lookup instead of trial and error.
+ * </p>
  *
  * @author Luis-St
  *
@@ -68,6 +78,10 @@ public class AnyCodec<C> extends AbstractCodec<C> {
 	 * The list of codecs to try in sequence.<br>
 	 */
 	private final List<Codec<C>> codecs;
+	/**
+	 * The codecs which are able to decode a value of a specific kind, in the order of {@link #codecs}.<br>
+	 */
+	private final Map<ValueKind, List<Codec<C>>> codecsByKind = new EnumMap<>(ValueKind.class);
 	
 	/**
 	 * Constructs a new any codec with the specified array of codecs.
@@ -102,6 +116,9 @@ public class AnyCodec<C> extends AbstractCodec<C> {
 			throw new NullPointerException("Codecs must not contain null elements");
 		}
 		this.codecs = (List<Codec<C>>) List.copyOf(codecs);
+		for (ValueKind kind : ValueKind.values()) {
+			this.codecsByKind.put(kind, this.codecs.stream().filter(codec -> codec.getDecodableKinds().contains(kind)).toList());
+		}
 	}
 	
 	@Override
@@ -109,6 +126,17 @@ public class AnyCodec<C> extends AbstractCodec<C> {
 		return this.codecs.getFirst().getType();
 	}
 	
+	@Override
+	public @NonNull Set<ValueKind> getDecodableKinds() {
+		Set<ValueKind> kinds = EnumSet.noneOf(ValueKind.class);
+		this.codecsByKind.forEach((kind, codecs) -> {
+			if (!codecs.isEmpty()) {
+				kinds.add(kind);
+			}
+		});
+		return kinds;
+	}
+	
 	@Override
 	public <R> @NonNull R encode(@NonNull TypeProvider<R> provider, @NonNull R current, @Nullable C value) throws EncoderException {
 		Objects.requireNonNull(provider, "Type provider must not be null");
@@ -117,17 +145,17 @@ public class AnyCodec<C> extends AbstractCodec<C> {
 			throw new EncoderException("Unable to encode null as any", this);
 		}
 		
-		List<EncoderException> exceptions = new ArrayList<>();
+		List<Exception> failures = new ArrayList<>(this.codecs.size());
 		for (Codec<C> codec : this.codecs) {
 			try {
-				return codec.encode(provider, current, value);
+				return EncoderException.speculative(() -> codec.encode(provider, current, value));
 			} catch (EncoderException | ClassCastException e) {
-				exceptions.add(e instanceof EncoderException ee ? ee : new EncoderException("Type mismatch: " + e.getMessage(), this));
+				failures.add(e);
 			}
 		}
 		
-		EncoderException e = new EncoderException("Unable to encode value '" + value + "' as any codec: All codecs failed", this);
-		exceptions.forEach(e::addSuppressed);
+		EncoderException e = new EncoderException(() -> "Unable to encode value '" + value + "' as any codec: All codecs failed", this, null);
+		failures.forEach(e::addSuppressed);
 		throw e;
 	}
 	
@@ -139,17 +167,23 @@ public class AnyCodec<C> extends AbstractCodec<C> {
 			throw new DecoderException("Unable to decode null as any", this);
 		}
 		
-		List<DecoderException> exceptions = new ArrayList<>();
-		for (Codec<C> codec : this.codecs) {
+		ValueKind kind = provider.getKind(value, DecoderException::new);
+		List<Codec<C>> candidates = kind == null ? this.codecs : this.codecsByKind.get(kind);
+		if (candidates.isEmpty()) {
+			throw new DecoderException("Unable to decode value using any codec: No codec is able to decode a value of kind " + kind, this);
+		}
+		
+		List<Exception> failures = new ArrayList<>(candidates.size());
+		for (Codec<C> codec : candidates) {
 			try {
-				return codec.decode(provider, current, value);
+				return DecoderException.speculative(() -> codec.decode(provider, current, value));
 			} catch (DecoderException | ClassCastException e) {
-				exceptions.add(e instanceof DecoderException de ? de : new DecoderException("Type mismatch: " + e.getMessage(), this));
+				failures.add(e);
 			}
 		}
 		
 		DecoderException e = new DecoderException("Unable to decode value using any codec: All codecs failed", this);
-		exceptions.forEach(e::addSuppressed);
+		failures.forEach(e::addSuppressed);
 		throw e;
 	}
 	
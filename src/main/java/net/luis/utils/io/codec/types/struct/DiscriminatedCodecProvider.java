@@ -24,6 +24,7 @@ import org.jspecify.annotations.NonNull;
 
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
@@ -125,7 +126,8 @@ public interface DiscriminatedCodecProvider<C, T> {
 	 * The map is used to directly retrieve the codec for a given discriminator value.<br>
 	 * <p>
 	 *     This factory method is useful when the set of possible discriminator values and their
-	 *     corresponding codecs is known in advance and can be defined as a static mapping.
+	 *     corresponding codecs is known in advance and can be defined as a static mapping.<br>
+	 *     The map is copied on creation, later modifications of the given map are not reflected by the provider.
 	 * </p>
 	 *
 	 * @param codecType The class representing the base type of values handled by the codecs
@@ -133,12 +135,13 @@ public interface DiscriminatedCodecProvider<C, T> {
 	 * @param <C> The base type of values handled by the codecs provided by this provider
 	 * @param <T> The type of the discriminator value
 	 * @return A new discriminated codec provider
-	 * @throws NullPointerException If codec type or codec provider is null
+	 * @throws NullPointerException If codec type or codec provider is null or the codec provider contains null keys or values
 	 */
 	static <C, T> @NonNull DiscriminatedCodecProvider<C, T> create(@NonNull Class<C> codecType, @NonNull Map<T, Codec<? extends C>> codecProvider) {
 		Objects.requireNonNull(codecType, "Codec type must not be null");
 		Objects.requireNonNull(codecProvider, "Codec provider must not be null");
 		
+		Map<T, Codec<? extends C>> codecs = Map.copyOf(codecProvider);
 		return new DiscriminatedCodecProvider<C, T>() {
 			@Override
 			public @NonNull Class<C> getCodecType() {
@@ -148,7 +151,7 @@ public interface DiscriminatedCodecProvider<C, T> {
 			@Override
 			@SuppressWarnings("unchecked")
 			public @NonNull Codec<C> getCodec(@NonNull T discriminator) {
-				return (Codec<C>) codecProvider.get(discriminator);
+				return (Codec<C>) codecs.get(discriminator);
 			}
 		};
 	}
@@ -171,4 +174,30 @@ public interface DiscriminatedCodecProvider<C, T> {
 	 */
 	@UnknownNullability
 	Codec<C> getCodec(@NonNull T discriminator);
+	
+	/**
+	 * Returns a provider which caches the codecs returned by this provider.<br>
+	 * <p>
+	 *     The codec of each discriminator value is resolved once by this provider and looked up in a table for all further values.<br>
+	 *     This is useful for function-based providers whose resolution is expensive, for example if the function creates the codec.<br>
+	 *     Discriminator values without a codec are not cached.
+	 * </p>
+	 *
+	 * @return The caching provider
+	 */
+	default @NonNull DiscriminatedCodecProvider<C, T> cached() {
+		Map<T, Codec<C>> codecs = new ConcurrentHashMap<>();
+		return new DiscriminatedCodecProvider<C, T>() {
+			@Override
+			public @NonNull Class<C> getCodecType() {
+				return DiscriminatedCodecProvider.this.getCodecType();
+			}
+			
+			@Override
+			public @UnknownNullability Codec<C> getCodec(@NonNull T discriminator) {
+				Objects.requireNonNull(discriminator, "Discriminator must not be null");
+				return codecs.computeIfAbsent(discriminator, DiscriminatedCodecProvider.this::getCodec);
+			}
+		};
+	}
 }
@@ -99,23 +99,23 @@ public class EitherCodec<F, S> extends AbstractCodec<Either<F, S>> {
 			throw new DecoderException("Unable to decode null value as either", this);
 		}
 		
-		DecoderException left;
+		DecoderException leftFailure;
 		try {
-			return Either.left(this.firstCodec.decode(provider, current, value));
+			return Either.left(DecoderException.speculative(() -> this.firstCodec.decode(provider, current, value)));
 		} catch (DecoderException e) {
-			left = e;
+			leftFailure = e;
 		}
 		
-		DecoderException right;
+		DecoderException rightFailure;
 		try {
-			return Either.right(this.secondCodec.decode(provider, current, value));
+			return Either.right(DecoderException.speculative(() -> this.secondCodec.decode(provider, current, value)));
 		} catch (DecoderException e) {
-			right = e;
+			rightFailure = e;
 		}
 		
 		DecoderException e = new DecoderException("Unable to decode value as either", this);
-		e.addSuppressed(right);
-		e.addSuppressed(left);
+		e.addSuppressed(rightFailure);
+		e.addSuppressed(leftFailure);
 		throw e;
 	}
 	
@@ -163,14 +163,8 @@ public class FlatDiscriminatedCodec<C, T> extends AbstractCodec<C> {
 			throw new DecoderException("Unable to decode null value as flat discriminated", this);
 		}
 		
-		R discriminatorField;
-		try {
-			if (!provider.has(value, this.discriminatedField, DecoderException::new)) {
-				throw new DecoderException("Discriminator field '" + this.discriminatedField + "' not found", this);
-			}
-			
-			discriminatorField = provider.get(value, this.discriminatedField, DecoderException::new);
-		} catch (DecoderException e) {
+		R discriminatorField = this.findDiscriminatorField(provider, value);
+		if (discriminatorField == null) {
 			throw new DecoderException("Unable to decode value as flat discriminated: Discriminator field '" + this.discriminatedField + "' not found", this);
 		}
 		
@@ -188,6 +182,24 @@ public class FlatDiscriminatedCodec<C, T> extends AbstractCodec<C> {
 		return codec.decode(provider, current, value);
 	}
 	
+	/**
+	 * Looks up the discriminator field in the given value.<br>
+	 * The lookup is speculative, since a missing field is reported by the caller.<br>
+	 * The field is looked up once, since the provider returns null for missing keys.<br>
+	 *
+	 * @param provider The type provider
+	 * @param value The value to look up the discriminator field in
+	 * @return The discriminator field or null if the field is not present
+	 * @param <R> The type of the value
+	 */
+	private <R> @Nullable R findDiscriminatorField(@NonNull TypeProvider<R> provider, @NonNull R value) {
+		try {
+			return DecoderException.speculative(() -> provider.get(value, this.discriminatedField, DecoderException::new));
+		} catch (DecoderException e) {
+			return null;
+		}
+	}
+	
 	//region Object overrides
 	@Override
 	public boolean equals(Object o) {
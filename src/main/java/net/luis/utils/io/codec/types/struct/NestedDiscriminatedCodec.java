@@ -133,14 +133,8 @@ public class NestedDiscriminatedCodec<C, T> extends AbstractCodec<C> {
 			throw new EncoderException("Unable to encode null value as discriminated", this);
 		}
 		
-		R discriminatorField;
-		try {
-			if (!provider.has(current, this.discriminatedField, EncoderException::new)) {
-				throw new EncoderException("Discriminator field '" + this.discriminatedField + "' not found", this);
-			}
-			
-			discriminatorField = provider.get(current, this.discriminatedField, EncoderException::new);
-		} catch (EncoderException e) {
+		R discriminatorField = this.findDiscriminatorField(provider, current);
+		if (discriminatorField == null) {
 			throw new EncoderException("Unable to encode value as discriminated: Discriminator field '" + this.discriminatedField + "' not found", this);
 		}
 		
@@ -166,14 +160,8 @@ public class NestedDiscriminatedCodec<C, T> extends AbstractCodec<C> {
 			throw new DecoderException("Unable to decode null value as discriminated", this);
 		}
 		
-		R discriminatorField;
-		try {
-			if (!provider.has(current, this.discriminatedField, DecoderException::new)) {
-				throw new DecoderException("Discriminator field '" + this.discriminatedField + "' not found", this);
-			}
-			
-			discriminatorField = provider.get(current, this.discriminatedField, DecoderException::new);
-		} catch (DecoderException e) {
+		R discriminatorField = this.findDiscriminatorField(provider, current);
+		if (discriminatorField == null) {
 			throw new DecoderException("Unable to decode value as discriminated: Discriminator field '" + this.discriminatedField + "' not found", this);
 		}
 		
@@ -191,6 +179,24 @@ public class NestedDiscriminatedCodec<C, T> extends AbstractCodec<C> {
 		return codec.decode(provider, current, value);
 	}
 	
+	/**
+	 * Looks up the discriminator field in the given parent value.<br>
+	 * The lookup is speculative, since a missing field is reported by the caller.<br>
+	 * The field is looked up once, since the provider returns null for missing keys.<br>
+	 *
+	 * @param provider The type provider
+	 * @param current The value to look up the discriminator field in
+	 * @return The discriminator field or null if the field is not present
+	 * @param <R> The type of the value
+	 */
+	private <R> @Nullable R findDiscriminatorField(@NonNull TypeProvider<R> provider, @NonNull R current) {
+		try {
+			return DecoderException.speculative(() -> provider.get(current, this.discriminatedField, DecoderException::new));
+		} catch (DecoderException e) {
+			return null;
+		}
+	}
+	
 	//region Object overrides
 	@Override
 	public boolean equals(Object o) {
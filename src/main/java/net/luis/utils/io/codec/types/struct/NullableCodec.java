@@ -20,13 +20,16 @@ package net.luis.utils.io.codec.types.struct;
 
 import net.luis.utils.io.codec.AbstractCodec;
 import net.luis.utils.io.codec.Codec;
+import net.luis.utils.io.codec.decoder.DecodeCursor;
 import net.luis.utils.io.codec.decoder.DecoderException;
+import net.luis.utils.io.codec.encoder.EncodeWriter;
 import net.luis.utils.io.codec.encoder.EncoderException;
 import net.luis.utils.io.codec.provider.TypeProvider;
+import net.luis.utils.io.codec.provider.ValueKind;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
-import java.util.Objects;
+import java.util.*;
 
 /**
  * A codec for encoding and decoding nullable values.<br>
@@ -79,6 +82,24 @@ public class NullableCodec<C> extends AbstractCodec<C> {
 		return this.codec.encode(provider, current, value);
 	}
 	
+	@Override
+	public <R> void encodeTo(@NonNull EncodeWriter<R> writer, @Nullable C value) throws EncoderException {
+		Objects.requireNonNull(writer, "Encode writer must not be null");
+		if (value == null) {
+			writer.writeValue(writer.getProvider().createNull(EncoderException::new));
+			return;
+		}
+		
+		this.codec.encodeTo(writer, value);
+	}
+	
+	@Override
+	public @NonNull Set<ValueKind> getDecodableKinds() {
+		Set<ValueKind> kinds = EnumSet.of(ValueKind.NULL);
+		kinds.addAll(this.codec.getDecodableKinds());
+		return kinds;
+	}
+	
 	@Override
 	@SuppressWarnings({ "ReturnOfNull", "DataFlowIssue" })
 	public <R> @NonNull C decode(@NonNull TypeProvider<R> provider, @NonNull R current, @Nullable R value) throws DecoderException {
@@ -94,6 +115,18 @@ public class NullableCodec<C> extends AbstractCodec<C> {
 		return this.codec.decode(provider, current, value);
 	}
 	
+	@Override
+	@SuppressWarnings({ "ReturnOfNull", "DataFlowIssue" })
+	public <R> @NonNull C decodeFrom(@NonNull DecodeCursor<R> cursor) throws DecoderException {
+		Objects.requireNonNull(cursor, "Decode cursor must not be null");
+		
+		if (cursor.peek() == ValueKind.NULL) {
+			cursor.skipValue();
+			return null;
+		}
+		return this.codec.decodeFrom(cursor);
+	}
+	
 	//region Object overrides
 	@Override
 	public boolean equals(Object o) {
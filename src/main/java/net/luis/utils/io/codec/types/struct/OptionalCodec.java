@@ -21,6 +21,7 @@ package net.luis.utils.io.codec.types.struct;
 import net.luis.utils.io.codec.AbstractCodec;
 import net.luis.utils.io.codec.Codec;
 import net.luis.utils.io.codec.decoder.DecoderException;
+import net.luis.utils.io.codec.encoder.EncodeWriter;
 import net.luis.utils.io.codec.encoder.EncoderException;
 import net.luis.utils.io.codec.provider.TypeProvider;
 import org.jspecify.annotations.NonNull;
@@ -105,6 +106,15 @@ public class OptionalCodec<C> extends AbstractCodec<Optional<C>> {
 		}
 	}
 	
+	@Override
+	public <R> void encodeTo(@NonNull EncodeWriter<R> writer, @Nullable Optional<C> value) throws EncoderException {
+		Objects.requireNonNull(writer, "Encode writer must not be null");
+		
+		if (value != null && value.isPresent()) {
+			this.codec.encodeTo(writer, value.get());
+		}
+	}
+	
 	@Override
 	public <R> @NonNull Optional<C> decode(@NonNull TypeProvider<R> provider, @NonNull R current, @Nullable R value) throws DecoderException {
 		Objects.requireNonNull(provider, "Type provider must not be null");
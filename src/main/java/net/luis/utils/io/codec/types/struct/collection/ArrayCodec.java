@@ -21,9 +21,12 @@ package net.luis.utils.io.codec.types.struct.collection;
 import net.luis.utils.io.codec.*;
 import net.luis.utils.io.codec.constraint.config.collection.ArrayConstraintConfig;
 import net.luis.utils.io.codec.constraint.merged.collection.ArrayConstraint;
+import net.luis.utils.io.codec.decoder.DecodeCursor;
 import net.luis.utils.io.codec.decoder.DecoderException;
+import net.luis.utils.io.codec.encoder.EncodeWriter;
 import net.luis.utils.io.codec.encoder.EncoderException;
 import net.luis.utils.io.codec.provider.TypeProvider;
+import net.luis.utils.io.codec.provider.ValueKind;
 import net.luis.utils.util.Either;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
@@ -153,6 +156,21 @@ public class ArrayCodec<C>
 		return provider.merge(current, provider.createList(this.encode(partialElements), EncoderException::new), EncoderException::new);
 	}
 	
+	@Override
+	public <R> void encodeTo(@NonNull EncodeWriter<R> writer, C @Nullable [] value) throws EncoderException {
+		Objects.requireNonNull(writer, "Encode writer must not be null");
+		if (value == null) {
+			throw new EncoderException("Unable to encode null value as array", this);
+		}
+		
+		this.encodeElements(writer, this.codec, Arrays.asList(this.validateEncodeConstraints(value)));
+	}
+	
+	@Override
+	public @NonNull Set<ValueKind> getDecodableKinds() {
+		return EnumSet.of(ValueKind.LIST);
+	}
+	
 	@Override
 	@SuppressWarnings({ "unchecked", "DuplicatedCode" })
 	public <R> C @NonNull [] decode(@NonNull TypeProvider<R> provider, @NonNull R current, @Nullable R value) throws DecoderException {
@@ -180,6 +198,22 @@ public class ArrayCodec<C>
 		return this.validateDecodeConstraints((C[]) array);
 	}
 	
+	@Override
+	@SuppressWarnings("unchecked")
+	public <R> C @NonNull [] decodeFrom(@NonNull DecodeCursor<R> cursor) throws DecoderException {
+		Objects.requireNonNull(cursor, "Decode cursor must not be null");
+		if (cursor.peek() != ValueKind.LIST) {
+			return super.decodeFrom(cursor);
+		}
+		
+		List<C> elements = this.decodeElements(cursor, this.codec);
+		Object array = Array.newInstance(this.type, elements.size());
+		for (int i = 0; i < elements.size(); i++) {
+			Array.set(array, i, this.type.cast(elements.get(i)));
+		}
+		return this.validateDecodeConstraints((C[]) array);
+	}
+	
 	@Override
 	public String toString() {
 		String base = "ArrayCodec[" + this.codec + "]";
@@ -21,9 +21,12 @@ package net.luis.utils.io.codec.types.struct.collection;
 import net.luis.utils.io.codec.*;
 import net.luis.utils.io.codec.constraint.config.collection.ListConstraintConfig;
 import net.luis.utils.io.codec.constraint.merged.collection.ListConstraint;
+import net.luis.utils.io.codec.decoder.DecodeCursor;
 import net.luis.utils.io.codec.decoder.DecoderException;
+import net.luis.utils.io.codec.encoder.EncodeWriter;
 import net.luis.utils.io.codec.encoder.EncoderException;
 import net.luis.utils.io.codec.provider.TypeProvider;
+import net.luis.utils.io.codec.provider.ValueKind;
 import net.luis.utils.util.Either;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
@@ -40,7 +43,7 @@ import java.util.*;
  */
 public class ListCodec<C>
 	extends AbstractConstrainableCodec<List<C>, ListConstraintConfig<C>, ListCodec<C>>
-	implements PartialCodec<ListCodec<C>>, ListConstraint<C, ListCodec<C>> {
+	implements PartialCodec<ListCodec<C>>, ParallelCodec<ListCodec<C>>, ListConstraint<C, ListCodec<C>> {
 	
 	/**
 	 * The codec used to encode and decode the elements of the list.<br>
@@ -50,6 +53,10 @@ public class ListCodec<C>
 	 * Whether this codec is partial.<br>
 	 */
 	private final boolean partial;
+	/**
+	 * The number of elements above which lists are decoded in parallel, 0 if lists are decoded sequentially.<br>
+	 */
+	private final int parallelThreshold;
 	
 	/**
 	 * Constructs a new list codec using the given codec for the elements.<br>
@@ -58,42 +65,45 @@ public class ListCodec<C>
 	 * @throws NullPointerException If the codec is null
 	 */
 	public ListCodec(@NonNull Codec<C> codec) {
-		this(codec, false, ListConstraintConfig.unconstrained());
+		this(codec, false, 0, ListConstraintConfig.unconstrained());
 	}
 	
 	/**
-	 * Constructs a new list codec using the given codec for the elements and the given constraint configuration.<br>
+	 * Constructs a new list codec using the given codec for the elements, the given parallel threshold and the given constraint configuration.<br>
 	 *
 	 * @param codec The codec for the elements
+	 * @param parallelThreshold The number of elements above which lists are decoded in parallel, 0 to decode sequentially
 	 * @param config The constraint configuration
 	 * @throws NullPointerException If the codec or the config is null
 	 */
-	private ListCodec(@NonNull Codec<C> codec, @NonNull ListConstraintConfig<C> config) {
-		this(codec, false, config);
+	private ListCodec(@NonNull Codec<C> codec, int parallelThreshold, @NonNull ListConstraintConfig<C> config) {
+		this(codec, false, parallelThreshold, config);
 	}
 	
 	/**
-	 * Constructs a new list codec using the given codec for the elements, the given partial flag and the given constraint configuration.<br>
+	 * Constructs a new list codec using the given codec for the elements, the given partial flag, the given parallel threshold and the given constraint configuration.<br>
 	 *
 	 * @param codec The codec for the elements
 	 * @param partial Whether this codec is partial
+	 * @param parallelThreshold The number of elements above which lists are decoded in parallel, 0 to decode sequentially
 	 * @param config The constraint configuration
 	 * @throws NullPointerException If the codec or the config is null
 	 */
-	private ListCodec(@NonNull Codec<C> codec, boolean partial, @NonNull ListConstraintConfig<C> config) {
-		super(newConfig -> new ListCodec<>(codec, newConfig), config);
+	private ListCodec(@NonNull Codec<C> codec, boolean partial, int parallelThreshold, @NonNull ListConstraintConfig<C> config) {
+		super(newConfig -> new ListCodec<>(codec, parallelThreshold, newConfig), config);
 		this.codec = Objects.requireNonNull(codec, "Codec must not be null");
 		this.partial = partial;
+		this.parallelThreshold = parallelThreshold;
 	}
 	
 	@Override
 	public @NonNull ListCodec<C> partial() {
-		return new ListCodec<>(this.codec, true, this.config);
+		return new ListCodec<>(this.codec, true, this.parallelThreshold, this.config);
 	}
 	
 	@Override
 	public @NonNull ListCodec<C> strict() {
-		return new ListCodec<>(this.codec, false, this.config);
+		return new ListCodec<>(this.codec, false, this.parallelThreshold, this.config);
 	}
 	
 	@Override
@@ -101,6 +111,24 @@ public class ListCodec<C>
 		return this.partial;
 	}
 	
+	@Override
+	public @NonNull ListCodec<C> parallel(int threshold) {
+		if (1 > threshold) {
+			throw new IllegalArgumentException("Parallel threshold must be greater than 0");
+		}
+		return new ListCodec<>(this.codec, this.partial, threshold, this.config);
+	}
+	
+	@Override
+	public @NonNull ListCodec<C> sequential() {
+		return new ListCodec<>(this.codec, this.partial, 0, this.config);
+	}
+	
+	@Override
+	public int getParallelThreshold() {
+		return this.parallelThreshold;
+	}
+	
 	@Override
 	@SuppressWarnings("unchecked")
 	public @NonNull Class<List<C>> getType() {
@@ -131,6 +159,21 @@ public class ListCodec<C>
 		return provider.merge(current, provider.createList(this.encode(partialElements), EncoderException::new), EncoderException::new);
 	}
 	
+	@Override
+	public <R> void encodeTo(@NonNull EncodeWriter<R> writer, @Nullable List<C> value) throws EncoderException {
+		Objects.requireNonNull(writer, "Encode writer must not be null");
+		if (value == null) {
+			throw new EncoderException("Unable to encode null value as list", this);
+		}
+		
+		this.encodeElements(writer, this.codec, this.validateEncodeConstraints(value));
+	}
+	
+	@Override
+	public @NonNull Set<ValueKind> getDecodableKinds() {
+		return EnumSet.of(ValueKind.LIST);
+	}
+	
 	@Override
 	@SuppressWarnings("DuplicatedCode")
 	public <R> @NonNull List<C> decode(@NonNull TypeProvider<R> provider, @NonNull R current, @Nullable R value) throws DecoderException {
@@ -140,18 +183,21 @@ public class ListCodec<C>
 			throw new DecoderException("Unable to decode null value as list", this);
 		}
 		
-		List<Either<C, DecoderException>> partialElements = new ArrayList<>();
-		for (R element : provider.getList(value, DecoderException::new)) {
-			try {
-				C decodedElement = this.codec.decode(provider, current, element);
-				partialElements.add(Either.left(decodedElement));
-			} catch (DecoderException e) {
-				partialElements.add(Either.right(e));
-			}
-		}
+		List<R> elements = provider.getList(value, DecoderException::new);
+		List<Either<C, DecoderException>> partialElements = this.decodeAll(elements, element -> this.codec.decode(provider, current, element));
 		return this.validateDecodeConstraints(this.decode(partialElements));
 	}
 	
+	@Override
+	public <R> @NonNull List<C> decodeFrom(@NonNull DecodeCursor<R> cursor) throws DecoderException {
+		Objects.requireNonNull(cursor, "Decode cursor must not be null");
+		if (cursor.peek() != ValueKind.LIST) {
+			return super.decodeFrom(cursor);
+		}
+		
+		return this.validateDecodeConstraints(this.decodeElements(cursor, this.codec));
+	}
+	
 	@Override
 	public String toString() {
 		String base = "ListCodec[" + this.codec + "]";
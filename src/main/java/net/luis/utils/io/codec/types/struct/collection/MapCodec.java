@@ -22,9 +22,12 @@ import net.luis.utils.collection.util.SimpleEntry;
 import net.luis.utils.io.codec.*;
 import net.luis.utils.io.codec.constraint.config.collection.MapConstraintConfig;
 import net.luis.utils.io.codec.constraint.merged.collection.MapConstraint;
+import net.luis.utils.io.codec.decoder.DecodeCursor;
 import net.luis.utils.io.codec.decoder.DecoderException;
+import net.luis.utils.io.codec.encoder.EncodeWriter;
 import net.luis.utils.io.codec.encoder.EncoderException;
 import net.luis.utils.io.codec.provider.TypeProvider;
+import net.luis.utils.io.codec.provider.ValueKind;
 import net.luis.utils.util.Either;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
@@ -42,7 +45,7 @@ import java.util.*;
  */
 public class MapCodec<K, V>
 	extends AbstractConstrainableCodec<Map<K, V>, MapConstraintConfig<K, V>, MapCodec<K, V>>
-	implements PartialCodec<MapCodec<K, V>>, MapConstraint<K, V, MapCodec<K, V>> {
+	implements PartialCodec<MapCodec<K, V>>, ParallelCodec<MapCodec<K, V>>, MapConstraint<K, V, MapCodec<K, V>> {
 	
 	/**
 	 * The codec used to encode and decode the keys of the map.<br>
@@ -56,6 +59,10 @@ public class MapCodec<K, V>
 	 * Whether this codec is partial.<br>
 	 */
 	private final boolean partial;
+	/**
+	 * The number of entries above which maps are decoded in parallel, 0 if maps are decoded sequentially.<br>
+	 */
+	private final int parallelThreshold;
 	
 	/**
 	 * Constructs a new map codec using the given codecs for the keys and values.<br>
@@ -65,7 +72,7 @@ public class MapCodec<K, V>
 	 * @throws NullPointerException If the key or value codec is null
 	 */
 	public MapCodec(@NonNull Codec<K> keyCodec, @NonNull Codec<V> valueCodec) {
-		this(keyCodec, valueCodec, false, MapConstraintConfig.unconstrained());
+		this(keyCodec, valueCodec, false, 0, MapConstraintConfig.unconstrained());
 	}
 	
 	/**
@@ -77,33 +84,35 @@ public class MapCodec<K, V>
 	 * @throws NullPointerException If the key codec, value codec or the config is null
 	 */
 	private MapCodec(@NonNull Codec<K> keyCodec, @NonNull Codec<V> valueCodec, @NonNull MapConstraintConfig<K, V> config) {
-		this(keyCodec, valueCodec, false, config);
+		this(keyCodec, valueCodec, false, 0, config);
 	}
 	
 	/**
-	 * Constructs a new map codec using the given codecs for the keys and values, the given partial flag and the given configuration.<br>
+	 * Constructs a new map codec using the given codecs for the keys and values, the given partial flag, the given parallel threshold and the given configuration.<br>
 	 *
 	 * @param keyCodec The key codec
 	 * @param valueCodec The value codec
 	 * @param partial Whether this codec is partial
+	 * @param parallelThreshold The number of entries above which maps are decoded in parallel, 0 to decode sequentially
 	 * @param config The constraint configuration
 	 * @throws NullPointerException If the key codec, value codec or the config is null
 	 */
-	private MapCodec(@NonNull Codec<K> keyCodec, @NonNull Codec<V> valueCodec, boolean partial, @NonNull MapConstraintConfig<K, V> config) {
-		super(newConfig -> new MapCodec<>(keyCodec, valueCodec, partial, newConfig), config);
+	private MapCodec(@NonNull Codec<K> keyCodec, @NonNull Codec<V> valueCodec, boolean partial, int parallelThreshold, @NonNull MapConstraintConfig<K, V> config) {
+		super(newConfig -> new MapCodec<>(keyCodec, valueCodec, partial, parallelThreshold, newConfig), config);
 		this.keyCodec = Objects.requireNonNull(keyCodec, "Key codec must not be null");
 		this.valueCodec = Objects.requireNonNull(valueCodec, "Value codec must not be null");
 		this.partial = partial;
+		this.parallelThreshold = parallelThreshold;
 	}
 	
 	@Override
 	public @NonNull MapCodec<K, V> partial() {
-		return new MapCodec<>(this.keyCodec, this.valueCodec, true, this.config);
+		return new MapCodec<>(this.keyCodec, this.valueCodec, true, this.parallelThreshold, this.config);
 	}
 	
 	@Override
 	public @NonNull MapCodec<K, V> strict() {
-		return new MapCodec<>(this.keyCodec, this.valueCodec, false, this.config);
+		return new MapCodec<>(this.keyCodec, this.valueCodec, false, this.parallelThreshold, this.config);
 	}
 	
 	@Override
@@ -111,6 +120,24 @@ public class MapCodec<K, V>
 		return this.partial;
 	}
 	
+	@Override
+	public @NonNull MapCodec<K, V> parallel(int threshold) {
+		if (1 > threshold) {
+			throw new IllegalArgumentException("Parallel threshold must be greater than 0");
+		}
+		return new MapCodec<>(this.keyCodec, this.valueCodec, this.partial, threshold, this.config);
+	}
+	
+	@Override
+	public @NonNull MapCodec<K, V> sequential() {
+		return new MapCodec<>(this.keyCodec, this.valueCodec, this.partial, 0, this.config);
+	}
+	
+	@Override
+	public int getParallelThreshold() {
+		return this.parallelThreshold;
+	}
+	
 	@Override
 	@SuppressWarnings("unchecked")
 	public @NonNull Class<Map<K, V>> getType() {
@@ -145,6 +172,34 @@ public class MapCodec<K, V>
 		return provider.merge(current, map, EncoderException::new);
 	}
 	
+	@Override
+	public <R> void encodeTo(@NonNull EncodeWriter<R> writer, @Nullable Map<K, V> value) throws EncoderException {
+		Objects.requireNonNull(writer, "Encode writer must not be null");
+		if (value == null) {
+			throw new EncoderException("Unable to encode null value as map", this);
+		}
+		
+		TypeProvider<R> provider = writer.getProvider();
+		writer.beginMap();
+		for (Map.Entry<K, V> entry : this.validateEncodeConstraints(value).entrySet()) {
+			if (!this.partial) {
+				writer.key(this.keyCodec.encodeKey(entry.getKey()));
+				this.valueCodec.encodeTo(writer, entry.getValue());
+				continue;
+			}
+			
+			Map.Entry<String, R> encodedEntry;
+			try {
+				encodedEntry = this.encodeEntry(provider, entry);
+			} catch (EncoderException e) {
+				continue;
+			}
+			writer.key(encodedEntry.getKey());
+			writer.writeValue(encodedEntry.getValue());
+		}
+		writer.endMap();
+	}
+	
 	/**
 	 * Encodes the given map entry using the key and value codecs.<br>
 	 * The result contains the encoded entry or an error message.<br>
@@ -165,6 +220,11 @@ public class MapCodec<K, V>
 		return new SimpleEntry<>(encodedKey, encodedValue);
 	}
 	
+	@Override
+	public @NonNull Set<ValueKind> getDecodableKinds() {
+		return EnumSet.of(ValueKind.MAP);
+	}
+	
 	@Override
 	public <R> @NonNull Map<K, V> decode(@NonNull TypeProvider<R> provider, @NonNull R current, @Nullable R value) throws DecoderException {
 		Objects.requireNonNull(provider, "Type provider must not be null");
@@ -173,15 +233,8 @@ public class MapCodec<K, V>
 			throw new DecoderException("Unable to decode null value as map", this);
 		}
 		
-		List<Either<Map.Entry<K, V>, DecoderException>> partialEntries = new ArrayList<>();
-		for (Map.Entry<String, R> entry : provider.getMap(value, DecoderException::new).entrySet()) {
-			try {
-				Map.Entry<K, V> decodedEntry = this.decodeEntry(provider, value, entry);
-				partialEntries.add(Either.left(decodedEntry));
-			} catch (DecoderException e) {
-				partialEntries.add(Either.right(e));
-			}
-		}
+		Set<Map.Entry<String, R>> encodedEntries = provider.getMapView(value, DecoderException::new).entrySet();
+		List<Either<Map.Entry<K, V>, DecoderException>> partialEntries = this.decodeAll(encodedEntries, entry -> this.decodeEntry(provider, value, entry));
 		
 		Map<K, V> entries = new HashMap<>();
 		for (Map.Entry<K, V> entry : this.decode(partialEntries)) {
@@ -211,6 +264,39 @@ public class MapCodec<K, V>
 		return new SimpleEntry<>(decodedKey, decodedValue);
 	}
 	
+	@Override
+	public <R> @NonNull Map<K, V> decodeFrom(@NonNull DecodeCursor<R> cursor) throws DecoderException {
+		Objects.requireNonNull(cursor, "Decode cursor must not be null");
+		if (cursor.peek() != ValueKind.MAP) {
+			return super.decodeFrom(cursor);
+		}
+		
+		TypeProvider<R> provider = cursor.getProvider();
+		List<Either<Map.Entry<K, V>, DecoderException>> partialEntries = new ArrayList<>();
+		cursor.beginMap();
+		while (cursor.hasNext()) {
+			String key = cursor.nextKey();
+			if (!this.partial) {
+				partialEntries.add(Either.left(new SimpleEntry<>(this.keyCodec.decodeKey(key), this.valueCodec.decodeFrom(cursor))));
+				continue;
+			}
+			
+			R value = cursor.readValue();
+			try {
+				partialEntries.add(Either.left(this.decodeEntry(provider, provider.empty(), new SimpleEntry<>(key, value))));
+			} catch (DecoderException e) {
+				partialEntries.add(Either.right(e));
+			}
+		}
+		cursor.endMap();
+		
+		Map<K, V> entries = new HashMap<>();
+		for (Map.Entry<K, V> entry : this.decode(partialEntries)) {
+			entries.put(entry.getKey(), entry.getValue());
+		}
+		return this.validateDecodeConstraints(entries);
+	}
+	
 	@Override
 	public String toString() {
 		String base = "MapCodec[" + this.keyCodec + ", " + this.valueCodec + "]";
@@ -21,9 +21,12 @@ package net.luis.utils.io.codec.types.struct.collection;
 import net.luis.utils.io.codec.*;
 import net.luis.utils.io.codec.constraint.config.collection.SetConstraintConfig;
 import net.luis.utils.io.codec.constraint.merged.collection.SetConstraint;
+import net.luis.utils.io.codec.decoder.DecodeCursor;
 import net.luis.utils.io.codec.decoder.DecoderException;
+import net.luis.utils.io.codec.encoder.EncodeWriter;
 import net.luis.utils.io.codec.encoder.EncoderException;
 import net.luis.utils.io.codec.provider.TypeProvider;
+import net.luis.utils.io.codec.provider.ValueKind;
 import net.luis.utils.util.Either;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
@@ -131,6 +134,21 @@ public class SetCodec<C>
 		return provider.merge(current, provider.createList(this.encode(partialElements), EncoderException::new), EncoderException::new);
 	}
 	
+	@Override
+	public <R> void encodeTo(@NonNull EncodeWriter<R> writer, @Nullable Set<C> value) throws EncoderException {
+		Objects.requireNonNull(writer, "Encode writer must not be null");
+		if (value == null) {
+			throw new EncoderException("Unable to encode null as set", this);
+		}
+		
+		this.encodeElements(writer, this.codec, this.validateEncodeConstraints(value));
+	}
+	
+	@Override
+	public @NonNull Set<ValueKind> getDecodableKinds() {
+		return EnumSet.of(ValueKind.LIST);
+	}
+	
 	@Override
 	@SuppressWarnings("DuplicatedCode")
 	public <R> @NonNull Set<C> decode(@NonNull TypeProvider<R> provider, @NonNull R current, @Nullable R value) throws DecoderException {
@@ -152,6 +170,16 @@ public class SetCodec<C>
 		return this.validateDecodeConstraints(new LinkedHashSet<>(this.decode(partialElements)));
 	}
 	
+	@Override
+	public <R> @NonNull Set<C> decodeFrom(@NonNull DecodeCursor<R> cursor) throws DecoderException {
+		Objects.requireNonNull(cursor, "Decode cursor must not be null");
+		if (cursor.peek() != ValueKind.LIST) {
+			return super.decodeFrom(cursor);
+		}
+		
+		return this.validateDecodeConstraints(new LinkedHashSet<>(this.decodeElements(cursor, this.codec)));
+	}
+	
 	@Override
 	public String toString() {
 		String base = "SetCodec[" + this.codec + "]";
@@ -0,0 +1,145 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.binary;
+
+import org.jetbrains.annotations.Unmodifiable;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Represents an ordered list of binary elements.<br>
+ *
+ * @author Luis-St
+ */
+public final class BinaryArray implements BinaryElement, Iterable<BinaryElement> {
+	
+	/**
+	 * The internal list of binary elements.<br>
+	 */
+	private final List<BinaryElement> elements = new ArrayList<>();
+	
+	/**
+	 * Constructs an empty binary array.<br>
+	 */
+	public BinaryArray() {}
+	
+	/**
+	 * Constructs a binary array with the given list of binary elements.<br>
+	 *
+	 * @param elements The list of binary elements to add
+	 * @throws NullPointerException If the list of binary elements is null
+	 */
+	public BinaryArray(@NonNull List<? extends BinaryElement> elements) {
+		Objects.requireNonNull(elements, "Binary elements must not be null").forEach(this::add);
+	}
+	
+	/**
+	 * Returns the number of elements in this binary array.<br>
+	 * @return The size of this binary array
+	 */
+	public int size() {
+		return this.elements.size();
+	}
+	
+	/**
+	 * Checks if this binary array is empty.<br>
+	 * @return True if this binary array is empty, false otherwise
+	 */
+	public boolean isEmpty() {
+		return this.elements.isEmpty();
+	}
+	
+	/**
+	 * Returns the binary element at the given index.<br>
+	 *
+	 * @param index The index of the element
+	 * @return The binary element at the given index
+	 * @throws IndexOutOfBoundsException If the index is out of bounds
+	 */
+	public @NonNull BinaryElement get(int index) {
+		return this.elements.get(index);
+	}
+	
+	/**
+	 * Returns an unmodifiable copy of the binary elements of this binary array.<br>
+	 * @return The binary elements
+	 */
+	public @NonNull @Unmodifiable List<BinaryElement> getElements() {
+		return List.copyOf(this.elements);
+	}
+	
+	/**
+	 * Adds the given binary element to the end of this binary array.<br>
+	 * If the binary element is null, a {@link BinaryNull} is added instead.<br>
+	 *
+	 * @param element The binary element to add
+	 */
+	public void add(@Nullable BinaryElement element) {
+		this.elements.add(element == null ? BinaryNull.INSTANCE : element);
+	}
+	
+	/**
+	 * Adds all binary elements of the given binary array to the end of this binary array.<br>
+	 *
+	 * @param array The binary array to add
+	 * @throws NullPointerException If the binary array is null
+	 */
+	public void addAll(@NonNull BinaryArray array) {
+		this.elements.addAll(Objects.requireNonNull(array, "Binary array must not be null").elements);
+	}
+	
+	/**
+	 * Removes the binary element at the given index.<br>
+	 *
+	 * @param index The index of the element to remove
+	 * @return The removed binary element
+	 * @throws IndexOutOfBoundsException If the index is out of bounds
+	 */
+	public @NonNull BinaryElement remove(int index) {
+		return this.elements.remove(index);
+	}
+	
+	@Override
+	public @NonNull Iterator<BinaryElement> iterator() {
+		return Collections.unmodifiableList(this.elements).iterator();
+	}
+	
+	//region Object overrides
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (!(o instanceof BinaryArray that)) return false;
+		
+		return this.elements.equals(that.elements);
+	}
+	
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.elements);
+	}
+	
+	@Override
+	public String toString() {
+		return this.elements.stream().map(String::valueOf).collect(Collectors.joining(", ", "[", "]"));
+	}
+	//endregion
+}
@@ -0,0 +1,82 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.binary;
+
+import net.luis.utils.io.data.config.ReadOnly;
+import net.luis.utils.io.data.config.WriteOnly;
+
+/**
+ * Configuration for reading and writing binary elements.<br>
+ *
+ * @author Luis-St
+ *
+ * @param keyDictionary Whether repeated object keys are written as references to their first occurrence (write-only)
+ * @param maxLength The maximum length of strings, arrays and objects accepted when reading (read-only)
+ * @param maxDepth The maximum nesting depth of arrays and objects accepted when reading (read-only)
+ */
+public record BinaryConfig(
+	@WriteOnly boolean keyDictionary,
+	@ReadOnly int maxLength,
+	@ReadOnly int maxDepth
+) {
+	
+	/**
+	 * The default maximum nesting depth of arrays and objects.<br>
+	 */
+	public static final int DEFAULT_MAX_DEPTH = 512;
+	
+	/**
+	 * The default binary configuration.<br>
+	 * <ul>
+	 *     <li>Key dictionary: true</li>
+	 *     <li>Max length: {@link Integer#MAX_VALUE}</li>
+	 *     <li>Max depth: {@value #DEFAULT_MAX_DEPTH}</li>
+	 * </ul>
+	 */
+	public static final BinaryConfig DEFAULT = new BinaryConfig(true, Integer.MAX_VALUE, DEFAULT_MAX_DEPTH);
+	
+	/**
+	 * Constructs a new binary configuration.<br>
+	 *
+	 * @param keyDictionary Whether repeated object keys are written as references to their first occurrence (write-only)
+	 * @param maxLength The maximum length of strings, arrays and objects accepted when reading (read-only)
+	 * @param maxDepth The maximum nesting depth of arrays and objects accepted when reading (read-only)
+	 * @throws IllegalArgumentException If the max length or the max depth is less than 1
+	 */
+	public BinaryConfig {
+		if (1 > maxLength) {
+			throw new IllegalArgumentException("Max length must be greater than 0");
+		}
+		if (1 > maxDepth) {
+			throw new IllegalArgumentException("Max depth must be greater than 0");
+		}
+	}
+	
+	/**
+	 * Constructs a new binary configuration with the default maximum nesting depth.<br>
+	 *
+	 * @param keyDictionary Whether repeated object keys are written as references to their first occurrence (write-only)
+	 * @param maxLength The maximum length of strings, arrays and objects accepted when reading (read-only)
+	 * @throws IllegalArgumentException If the max length is less than 1
+	 * @see #DEFAULT_MAX_DEPTH
+	 */
+	public BinaryConfig(boolean keyDictionary, int maxLength) {
+		this(keyDictionary, maxLength, DEFAULT_MAX_DEPTH);
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.binary;
+
+import net.luis.utils.io.data.binary.exception.BinaryTypeException;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * A generic interface representing a binary element.<br>
+ * A binary element can be a binary object, a binary array, a binary primitive or a binary null.<br>
+ * <p>
+ *     In contrast to text formats, binary elements keep the exact type of their numeric values.<br>
+ *     The elements are written by the {@link BinaryWriter} and read by the {@link BinaryReader}.
+ * </p>
+ *
+ * @author Luis-St
+ */
+public interface BinaryElement {
+	
+	/**
+	 * Checks if this binary element is a binary null.<br>
+	 * @return True if this binary element is a binary null, false otherwise
+	 */
+	default boolean isBinaryNull() {
+		return this instanceof BinaryNull;
+	}
+	
+	/**
+	 * Checks if this binary element is a binary object.<br>
+	 * @return True if this binary element is a binary object, false otherwise
+	 */
+	default boolean isBinaryObject() {
+		return this instanceof BinaryObject;
+	}
+	
+	/**
+	 * Checks if this binary element is a binary array.<br>
+	 * @return True if this binary element is a binary array, false otherwise
+	 */
+	default boolean isBinaryArray() {
+		return this instanceof BinaryArray;
+	}
+	
+	/**
+	 * Checks if this binary element is a binary primitive.<br>
+	 * @return True if this binary element is a binary primitive, false otherwise
+	 */
+	default boolean isBinaryPrimitive() {
+		return this instanceof BinaryPrimitive;
+	}
+	
+	/**
+	 * Converts this binary element to a binary object.<br>
+	 *
+	 * @return This binary element as a binary object
+	 * @throws BinaryTypeException If this binary element is not a binary object
+	 */
+	default @NonNull BinaryObject getAsBinaryObject() {
+		if (this instanceof BinaryObject object) {
+			return object;
+		}
+		throw new BinaryTypeException("Expected a binary object, but found: " + this.getClass().getSimpleName());
+	}
+	
+	/**
+	 * Converts this binary element to a binary array.<br>
+	 *
+	 * @return This binary element as a binary array
+	 * @throws BinaryTypeException If this binary element is not a binary array
+	 */
+	default @NonNull BinaryArray getAsBinaryArray() {
+		if (this instanceof BinaryArray array) {
+			return array;
+		}
+		throw new BinaryTypeException("Expected a binary array, but found: " + this.getClass().getSimpleName());
+	}
+	
+	/**
+	 * Converts this binary element to a binary primitive.<br>
+	 *
+	 * @return This binary element as a binary primitive
+	 * @throws BinaryTypeException If this binary element is not a binary primitive
+	 */
+	default @NonNull BinaryPrimitive getAsBinaryPrimitive() {
+		if (this instanceof BinaryPrimitive primitive) {
+			return primitive;
+		}
+		throw new BinaryTypeException("Expected a binary primitive, but found: " + this.getClass().getSimpleName());
+	}
+}
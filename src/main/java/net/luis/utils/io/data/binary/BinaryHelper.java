@@ -0,0 +1,131 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.binary;
+
+/**
+ * Internal constants and helper methods of the binary format shared by the {@link BinaryReader} and {@link BinaryWriter}.<br>
+ * <p>
+ *     Each document starts with a header consisting of the magic bytes {@code LUB}, the format version and a flag byte.<br>
+ *     The header is followed by exactly one element, which starts with a single tag byte:
+ * </p>
+ * <ul>
+ *     <li>Booleans and null are encoded in the tag only</li>
+ *     <li>Bytes are written as raw byte</li>
+ *     <li>Shorts, integers and longs are written as zigzag encoded varints</li>
+ *     <li>Floats and doubles are written as fixed size big-endian values</li>
+ *     <li>Strings are prefixed with the varint length of their utf-8 bytes</li>
+ *     <li>Arrays and objects are prefixed with the varint number of their elements</li>
+ * </ul>
+ * <p>
+ *     If the key dictionary flag is set, each object key is written as varint {@code length << 1} followed by its utf-8 bytes on its first occurrence
+ *     and as varint {@code (index << 1) | 1} referencing the first occurrence afterward.<br>
+ *     Otherwise, each key is written as a length-prefixed string.
+ * </p>
+ *
+ * @author Luis-St
+ */
+final class BinaryHelper {
+	
+	/**
+	 * The magic bytes at the start of each binary document.<br>
+	 */
+	static final byte[] MAGIC = { 'L', 'U', 'B' };
+	/**
+	 * The current version of the binary format.<br>
+	 */
+	static final int VERSION = 1;
+	/**
+	 * The header flag indicating that object keys are written using the key dictionary.<br>
+	 */
+	static final int FLAG_KEY_DICTIONARY = 1;
+	
+	/**
+	 * The tag of a null value.<br>
+	 */
+	static final int TAG_NULL = 0;
+	/**
+	 * The tag of the boolean value false.<br>
+	 */
+	static final int TAG_FALSE = 1;
+	/**
+	 * The tag of the boolean value true.<br>
+	 */
+	static final int TAG_TRUE = 2;
+	/**
+	 * The tag of a byte value.<br>
+	 */
+	static final int TAG_BYTE = 3;
+	/**
+	 * The tag of a short value.<br>
+	 */
+	static final int TAG_SHORT = 4;
+	/**
+	 * The tag of an integer value.<br>
+	 */
+	static final int TAG_INTEGER = 5;
+	/**
+	 * The tag of a long value.<br>
+	 */
+	static final int TAG_LONG = 6;
+	/**
+	 * The tag of a float value.<br>
+	 */
+	static final int TAG_FLOAT = 7;
+	/**
+	 * The tag of a double value.<br>
+	 */
+	static final int TAG_DOUBLE = 8;
+	/**
+	 * The tag of a string value.<br>
+	 */
+	static final int TAG_STRING = 9;
+	/**
+	 * The tag of an array.<br>
+	 */
+	static final int TAG_ARRAY = 10;
+	/**
+	 * The tag of an object.<br>
+	 */
+	static final int TAG_OBJECT = 11;
+	
+	/**
+	 * Private constructor to prevent instantiation of this helper class.<br>
+	 */
+	private BinaryHelper() {}
+	
+	/**
+	 * Maps the given signed value to an unsigned value, so that values with a small magnitude have a short varint encoding.<br>
+	 *
+	 * @param value The signed value
+	 * @return The zigzag encoded value
+	 */
+	static long encodeZigZag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+	
+	/**
+	 * Reverses the zigzag encoding of the given value.<br>
+	 *
+	 * @param value The zigzag encoded value
+	 * @return The signed value
+	 */
+	static long decodeZigZag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+}
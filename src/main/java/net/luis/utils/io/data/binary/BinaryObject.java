@@ -0,0 +1,168 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.binary;
+
+import org.jetbrains.annotations.Unmodifiable;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Represents a mapping of keys to binary elements.<br>
+ * The entries are kept in insertion order.<br>
+ *
+ * @author Luis-St
+ */
+public final class BinaryObject implements BinaryElement, Iterable<Map.Entry<String, BinaryElement>> {
+	
+	/**
+	 * The internal map of binary elements.<br>
+	 */
+	private final Map<String, BinaryElement> elements = new LinkedHashMap<>();
+	
+	/**
+	 * Constructs an empty binary object.<br>
+	 */
+	public BinaryObject() {}
+	
+	/**
+	 * Constructs a binary object with the given map of binary elements.<br>
+	 *
+	 * @param elements The map of binary elements to add
+	 * @throws NullPointerException If the map of binary elements is null
+	 */
+	public BinaryObject(@NonNull Map<String, ? extends BinaryElement> elements) {
+		Objects.requireNonNull(elements, "Binary elements must not be null").forEach(this::add);
+	}
+	
+	/**
+	 * Returns the number of entries in this binary object.<br>
+	 * @return The size of this binary object
+	 */
+	public int size() {
+		return this.elements.size();
+	}
+	
+	/**
+	 * Checks if this binary object is empty.<br>
+	 * @return True if this binary object is empty, false otherwise
+	 */
+	public boolean isEmpty() {
+		return this.elements.isEmpty();
+	}
+	
+	/**
+	 * Checks if this binary object contains the given key.<br>
+	 *
+	 * @param key The key to check
+	 * @return True if this binary object contains the key, false otherwise
+	 */
+	public boolean containsKey(@Nullable String key) {
+		return this.elements.containsKey(key);
+	}
+	
+	/**
+	 * Returns the binary element for the given key.<br>
+	 *
+	 * @param key The key of the element
+	 * @return The binary element for the key or null if this binary object does not contain the key
+	 */
+	public @Nullable BinaryElement get(@Nullable String key) {
+		return this.elements.get(key);
+	}
+	
+	/**
+	 * Returns an unmodifiable view of the keys of this binary object.<br>
+	 * @return The keys
+	 */
+	public @NonNull @Unmodifiable Set<String> keySet() {
+		return Collections.unmodifiableSet(this.elements.keySet());
+	}
+	
+	/**
+	 * Returns an unmodifiable view of the entries of this binary object.<br>
+	 * @return The entries
+	 */
+	public @NonNull @Unmodifiable Set<Map.Entry<String, BinaryElement>> entrySet() {
+		return Collections.unmodifiableMap(this.elements).entrySet();
+	}
+	
+	/**
+	 * Adds the given binary element with the given key to this binary object.<br>
+	 * If the binary element is null, a {@link BinaryNull} is added instead.<br>
+	 * An existing element with the same key is replaced.<br>
+	 *
+	 * @param key The key of the element
+	 * @param element The binary element to add
+	 * @return The previous binary element for the key or null if there was none
+	 * @throws NullPointerException If the key is null
+	 */
+	public @Nullable BinaryElement add(@NonNull String key, @Nullable BinaryElement element) {
+		Objects.requireNonNull(key, "Key must not be null");
+		return this.elements.put(key, element == null ? BinaryNull.INSTANCE : element);
+	}
+	
+	/**
+	 * Adds all entries of the given binary object to this binary object.<br>
+	 * Existing elements with the same keys are replaced.<br>
+	 *
+	 * @param object The binary object to add
+	 * @throws NullPointerException If the binary object is null
+	 */
+	public void addAll(@NonNull BinaryObject object) {
+		this.elements.putAll(Objects.requireNonNull(object, "Binary object must not be null").elements);
+	}
+	
+	/**
+	 * Removes the binary element for the given key.<br>
+	 *
+	 * @param key The key of the element to remove
+	 * @return The removed binary element or null if this binary object did not contain the key
+	 */
+	public @Nullable BinaryElement remove(@Nullable String key) {
+		return this.elements.remove(key);
+	}
+	
+	@Override
+	public @NonNull Iterator<Map.Entry<String, BinaryElement>> iterator() {
+		return this.entrySet().iterator();
+	}
+	
+	//region Object overrides
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (!(o instanceof BinaryObject that)) return false;
+		
+		return this.elements.equals(that.elements);
+	}
+	
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.elements);
+	}
+	
+	@Override
+	public String toString() {
+		return this.elements.entrySet().stream().map(entry -> "\"" + entry.getKey() + "\": " + entry.getValue()).collect(Collectors.joining(", ", "{", "}"));
+	}
+	//endregion
+}
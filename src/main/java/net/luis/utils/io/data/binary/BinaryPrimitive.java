@@ -0,0 +1,308 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.binary;
+
+import net.luis.utils.io.data.binary.exception.BinaryTypeException;
+import org.jspecify.annotations.NonNull;
+
+import java.util.Objects;
+
+/**
+ * Represents a binary primitive value.<br>
+ * A binary primitive can be a boolean, a byte, a short, an integer, a long, a float, a double or a string.<br>
+ * <p>
+ *     The exact type of numeric values is kept, a value which was created as byte is written and read as byte.<br>
+ *     Numeric values can be converted to any other numeric type.
+ * </p>
+ *
+ * @author Luis-St
+ */
+public final class BinaryPrimitive implements BinaryElement {
+	
+	/**
+	 * The value of this binary primitive.<br>
+	 */
+	private final Object value;
+	
+	/**
+	 * Constructs a new binary primitive with the given boolean value.<br>
+	 * @param value The boolean value
+	 */
+	public BinaryPrimitive(boolean value) {
+		this.value = value;
+	}
+	
+	/**
+	 * Constructs a new binary primitive with the given byte value.<br>
+	 * @param value The byte value
+	 */
+	public BinaryPrimitive(byte value) {
+		this.value = value;
+	}
+	
+	/**
+	 * Constructs a new binary primitive with the given short value.<br>
+	 * @param value The short value
+	 */
+	public BinaryPrimitive(short value) {
+		this.value = value;
+	}
+	
+	/**
+	 * Constructs a new binary primitive with the given integer value.<br>
+	 * @param value The integer value
+	 */
+	public BinaryPrimitive(int value) {
+		this.value = value;
+	}
+	
+	/**
+	 * Constructs a new binary primitive with the given long value.<br>
+	 * @param value The long value
+	 */
+	public BinaryPrimitive(long value) {
+		this.value = value;
+	}
+	
+	/**
+	 * Constructs a new binary primitive with the given float value.<br>
+	 * @param value The float value
+	 */
+	public BinaryPrimitive(float value) {
+		this.value = value;
+	}
+	
+	/**
+	 * Constructs a new binary primitive with the given double value.<br>
+	 * @param value The double value
+	 */
+	public BinaryPrimitive(double value) {
+		this.value = value;
+	}
+	
+	/**
+	 * Constructs a new binary primitive with the given string value.<br>
+	 *
+	 * @param value The string value
+	 * @throws NullPointerException If the value is null
+	 */
+	public BinaryPrimitive(@NonNull String value) {
+		this.value = Objects.requireNonNull(value, "Value must not be null");
+	}
+	
+	/**
+	 * Checks if this binary primitive is a boolean.<br>
+	 * @return True if this binary primitive is a boolean, false otherwise
+	 */
+	public boolean isBoolean() {
+		return this.value instanceof Boolean;
+	}
+	
+	/**
+	 * Checks if this binary primitive is a number.<br>
+	 * @return True if this binary primitive is a number, false otherwise
+	 */
+	public boolean isNumber() {
+		return this.value instanceof Number;
+	}
+	
+	/**
+	 * Checks if this binary primitive is a byte.<br>
+	 * @return True if this binary primitive is a byte, false otherwise
+	 */
+	public boolean isByte() {
+		return this.value instanceof Byte;
+	}
+	
+	/**
+	 * Checks if this binary primitive is a short.<br>
+	 * @return True if this binary primitive is a short, false otherwise
+	 */
+	public boolean isShort() {
+		return this.value instanceof Short;
+	}
+	
+	/**
+	 * Checks if this binary primitive is an integer.<br>
+	 * @return True if this binary primitive is an integer, false otherwise
+	 */
+	public boolean isInteger() {
+		return this.value instanceof Integer;
+	}
+	
+	/**
+	 * Checks if this binary primitive is a long.<br>
+	 * @return True if this binary primitive is a long, false otherwise
+	 */
+	public boolean isLong() {
+		return this.value instanceof Long;
+	}
+	
+	/**
+	 * Checks if this binary primitive is a float.<br>
+	 * @return True if this binary primitive is a float, false otherwise
+	 */
+	public boolean isFloat() {
+		return this.value instanceof Float;
+	}
+	
+	/**
+	 * Checks if this binary primitive is a double.<br>
+	 * @return True if this binary primitive is a double, false otherwise
+	 */
+	public boolean isDouble() {
+		return this.value instanceof Double;
+	}
+	
+	/**
+	 * Checks if this binary primitive is a string.<br>
+	 * @return True if this binary primitive is a string, false otherwise
+	 */
+	public boolean isString() {
+		return this.value instanceof String;
+	}
+	
+	/**
+	 * Returns the value of this binary primitive as a boolean.<br>
+	 *
+	 * @return The boolean value
+	 * @throws BinaryTypeException If this binary primitive is not a boolean
+	 */
+	public boolean getAsBoolean() {
+		if (this.value instanceof Boolean bool) {
+			return bool;
+		}
+		throw new BinaryTypeException("Expected a boolean, but found: " + this.value);
+	}
+	
+	/**
+	 * Returns the value of this binary primitive as a number.<br>
+	 *
+	 * @return The number value
+	 * @throws BinaryTypeException If this binary primitive is not a number
+	 */
+	public @NonNull Number getAsNumber() {
+		if (this.value instanceof Number number) {
+			return number;
+		}
+		throw new BinaryTypeException("Expected a number, but found: " + this.value);
+	}
+	
+	/**
+	 * Returns the value of this binary primitive as a byte.<br>
+	 * Other numeric values are converted to a byte.<br>
+	 *
+	 * @return The byte value
+	 * @throws BinaryTypeException If this binary primitive is not a number
+	 */
+	public byte getAsByte() {
+		return this.getAsNumber().byteValue();
+	}
+	
+	/**
+	 * Returns the value of this binary primitive as a short.<br>
+	 * Other numeric values are converted to a short.<br>
+	 *
+	 * @return The short value
+	 * @throws BinaryTypeException If this binary primitive is not a number
+	 */
+	public short getAsShort() {
+		return this.getAsNumber().shortValue();
+	}
+	
+	/**
+	 * Returns the value of this binary primitive as an integer.<br>
+	 * Other numeric values are converted to an integer.<br>
+	 *
+	 * @return The integer value
+	 * @throws BinaryTypeException If this binary primitive is not a number
+	 */
+	public int getAsInteger() {
+		return this.getAsNumber().intValue();
+	}
+	
+	/**
+	 * Returns the value of this binary primitive as a long.<br>
+	 * Other numeric values are converted to a long.<br>
+	 *
+	 * @return The long value
+	 * @throws BinaryTypeException If this binary primitive is not a number
+	 */
+	public long getAsLong() {
+		return this.getAsNumber().longValue();
+	}
+	
+	/**
+	 * Returns the value of this binary primitive as a float.<br>
+	 * Other numeric values are converted to a float.<br>
+	 *
+	 * @return The float value
+	 * @throws BinaryTypeException If this binary primitive is not a number
+	 */
+	public float getAsFloat() {
+		return this.getAsNumber().floatValue();
+	}
+	
+	/**
+	 * Returns the value of this binary primitive as a double.<br>
+	 * Other numeric values are converted to a double.<br>
+	 *
+	 * @return The double value
+	 * @throws BinaryTypeException If this binary primitive is not a number
+	 */
+	public double getAsDouble() {
+		return this.getAsNumber().doubleValue();
+	}
+	
+	/**
+	 * Returns the value of this binary primitive as a string.<br>
+	 *
+	 * @return The string value
+	 * @throws BinaryTypeException If this binary primitive is not a string
+	 */
+	public @NonNull String getAsString() {
+		if (this.value instanceof String string) {
+			return string;
+		}
+		throw new BinaryTypeException("Expected a string, but found: " + this.value);
+	}
+	
+	//region Object overrides
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (!(o instanceof BinaryPrimitive that)) return false;
+		
+		return this.value.equals(that.value);
+	}
+	
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.value);
+	}
+	
+	@Override
+	public String toString() {
+		if (this.value instanceof String string) {
+			return "\"" + string + "\"";
+		}
+		return String.valueOf(this.value);
+	}
+	//endregion
+}
@@ -0,0 +1,311 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.binary;
+
+import net.luis.utils.io.data.InputProvider;
+import net.luis.utils.io.data.binary.exception.BinarySyntaxException;
+import org.jspecify.annotations.NonNull;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static net.luis.utils.io.data.binary.BinaryHelper.*;
+
+/**
+ * A binary reader for reading binary elements written by a {@link BinaryWriter} from an input.<br>
+ * The reader reads one binary document for each call of {@link #readBinary()}.<br>
+ * <p>
+ *     Whether object keys are read using the key dictionary is determined by the header of each document, not by the configuration.<br>
+ *     The configuration limits the length of strings, arrays and objects and the nesting depth of arrays and objects to protect against malformed input.<br>
+ *     Short and integer values are range checked before they are narrowed, so malformed input is rejected instead of being truncated.
+ * </p>
+ *
+ * @author Luis-St
+ * @see BinaryHelper
+ */
+public class BinaryReader implements AutoCloseable {
+	
+	/**
+	 * The key dictionary of the current document containing the read keys in order of their first occurrence.<br>
+	 */
+	private final List<String> keys = new ArrayList<>();
+	/**
+	 * The binary config used by this reader.<br>
+	 */
+	private final BinaryConfig config;
+	/**
+	 * The internal stream used to read the binary content.<br>
+	 */
+	private final DataInputStream stream;
+	/**
+	 * Whether the object keys of the current document are read using the key dictionary.<br>
+	 */
+	private boolean keyDictionary;
+	/**
+	 * The nesting depth of the array or object which is currently read.<br>
+	 */
+	private int depth;
+	
+	/**
+	 * Constructs a new binary reader with the given input and the default configuration.<br>
+	 *
+	 * @param input The input to create the reader for
+	 * @throws NullPointerException If the input is null
+	 */
+	public BinaryReader(@NonNull InputProvider input) {
+		this(input, BinaryConfig.DEFAULT);
+	}
+	
+	/**
+	 * Constructs a new binary reader with the given input and configuration.<br>
+	 *
+	 * @param input The input to create the reader for
+	 * @param config The configuration to use
+	 * @throws NullPointerException If the input or configuration is null
+	 */
+	public BinaryReader(@NonNull InputProvider input, @NonNull BinaryConfig config) {
+		this.config = Objects.requireNonNull(config, "Binary config must not be null");
+		this.stream = new DataInputStream(new BufferedInputStream(Objects.requireNonNull(input, "Input must not be null").getStream()));
+	}
+	
+	/**
+	 * Reads the next binary document from the input.<br>
+	 *
+	 * @return The binary element of the document
+	 * @throws BinarySyntaxException If the input is not a valid binary document
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public @NonNull BinaryElement readBinary() {
+		this.keys.clear();
+		this.depth = 0;
+		try {
+			byte[] magic = this.stream.readNBytes(MAGIC.length);
+			if (magic.length == 0) {
+				throw new BinarySyntaxException("Invalid binary, expected content but got nothing");
+			}
+			if (!Arrays.equals(magic, MAGIC)) {
+				throw new BinarySyntaxException("Invalid binary, expected magic bytes 'LUB' but got: " + Arrays.toString(magic));
+			}
+			
+			int version = this.stream.readUnsignedByte();
+			if (version != VERSION) {
+				throw new BinarySyntaxException("Unsupported binary version " + version + ", expected version " + VERSION);
+			}
+			
+			int flags = this.stream.readUnsignedByte();
+			if ((flags & ~FLAG_KEY_DICTIONARY) != 0) {
+				throw new BinarySyntaxException("Invalid binary header, unknown flags: " + flags);
+			}
+			this.keyDictionary = (flags & FLAG_KEY_DICTIONARY) != 0;
+			return this.readElement();
+		} catch (EOFException e) {
+			throw new BinarySyntaxException("Invalid binary, unexpected end of input", e);
+		} catch (IOException e) {
+			throw new UncheckedIOException("An I/O error occurred while reading the binary element", e);
+		}
+	}
+	
+	/**
+	 * Reads the next binary element including all nested elements.<br>
+	 *
+	 * @return The read binary element
+	 * @throws BinarySyntaxException If the element is invalid
+	 * @throws IOException If an I/O error occurs
+	 */
+	private @NonNull BinaryElement readElement() throws IOException {
+		int tag = this.stream.readUnsignedByte();
+		return switch (tag) {
+			case TAG_NULL -> BinaryNull.INSTANCE;
+			case TAG_FALSE -> new BinaryPrimitive(false);
+			case TAG_TRUE -> new BinaryPrimitive(true);
+			case TAG_BYTE -> new BinaryPrimitive(this.stream.readByte());
+			case TAG_SHORT -> new BinaryPrimitive((short) this.readRanged(Short.MIN_VALUE, Short.MAX_VALUE, "short"));
+			case TAG_INTEGER -> new BinaryPrimitive((int) this.readRanged(Integer.MIN_VALUE, Integer.MAX_VALUE, "integer"));
+			case TAG_LONG -> new BinaryPrimitive(decodeZigZag(this.readVarLong()));
+			case TAG_FLOAT -> new BinaryPrimitive(this.stream.readFloat());
+			case TAG_DOUBLE -> new BinaryPrimitive(this.stream.readDouble());
+			case TAG_STRING -> new BinaryPrimitive(this.readString(this.readLength("string")));
+			case TAG_ARRAY -> this.readArray();
+			case TAG_OBJECT -> this.readObject();
+			default -> throw new BinarySyntaxException("Invalid binary element, unknown tag: " + tag);
+		};
+	}
+	
+	/**
+	 * Reads a binary array.<br>
+	 *
+	 * @return The read binary array
+	 * @throws BinarySyntaxException If the array is invalid
+	 * @throws IOException If an I/O error occurs
+	 */
+	private @NonNull BinaryArray readArray() throws IOException {
+		int size = this.readLength("array");
+		this.enter();
+		BinaryArray array = new BinaryArray();
+		for (int i = 0; i < size; i++) {
+			array.add(this.readElement());
+		}
+		this.depth--;
+		return array;
+	}
+	
+	/**
+	 * Reads a binary object.<br>
+	 *
+	 * @return The read binary object
+	 * @throws BinarySyntaxException If the object is invalid
+	 * @throws IOException If an I/O error occurs
+	 */
+	private @NonNull BinaryObject readObject() throws IOException {
+		int size = this.readLength("object");
+		this.enter();
+		BinaryObject object = new BinaryObject();
+		for (int i = 0; i < size; i++) {
+			String key = this.readKey();
+			object.add(key, this.readElement());
+		}
+		this.depth--;
+		return object;
+	}
+	
+	/**
+	 * Enters a nested array or object and checks the nesting depth against the maximum depth of the configuration.<br>
+	 * The depth is not restored if the reading fails, since the depth is reset for each document.<br>
+	 *
+	 * @throws BinarySyntaxException If the nesting depth exceeds the maximum depth
+	 */
+	private void enter() {
+		if (++this.depth > this.config.maxDepth()) {
+			throw new BinarySyntaxException("Invalid binary, nesting depth exceeds the maximum depth of " + this.config.maxDepth());
+		}
+	}
+	
+	/**
+	 * Reads a zigzag encoded varint and checks that it is within the given range.<br>
+	 *
+	 * @param min The minimum allowed value
+	 * @param max The maximum allowed value
+	 * @param name The name of the value type, used in error messages
+	 * @return The read value
+	 * @throws BinarySyntaxException If the value is out of range
+	 * @throws IOException If an I/O error occurs
+	 */
+	private long readRanged(long min, long max, @NonNull String name) throws IOException {
+		long value = decodeZigZag(this.readVarLong());
+		if (value < min || value > max) {
+			throw new BinarySyntaxException("Invalid binary " + name + " value " + value + ", value is out of range");
+		}
+		return value;
+	}
+	
+	/**
+	 * Reads an object key.<br>
+	 * If the key dictionary is used, the key is either read as new key or resolved from the keys of the current document.<br>
+	 *
+	 * @return The read key
+	 * @throws BinarySyntaxException If the key is invalid
+	 * @throws IOException If an I/O error occurs
+	 */
+	private @NonNull String readKey() throws IOException {
+		if (!this.keyDictionary) {
+			return this.readString(this.readLength("key"));
+		}
+		
+		long value = this.readVarLong();
+		if ((value & 1) != 0) {
+			long index = value >>> 1;
+			if (index >= this.keys.size()) {
+				throw new BinarySyntaxException("Invalid binary key reference " + index + ", only " + this.keys.size() + " keys are known");
+			}
+			return this.keys.get((int) index);
+		}
+		
+		String key = this.readString(this.checkLength(value >>> 1, "key"));
+		this.keys.add(key);
+		return key;
+	}
+	
+	/**
+	 * Reads a length-prefixed utf-8 string with the given length.<br>
+	 *
+	 * @param length The number of bytes of the string
+	 * @return The read string
+	 * @throws EOFException If the input ends before the string is complete
+	 * @throws IOException If an I/O error occurs
+	 */
+	private @NonNull String readString(int length) throws IOException {
+		byte[] bytes = this.stream.readNBytes(length);
+		if (bytes.length != length) {
+			throw new EOFException();
+		}
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * Reads the length of a string, array or object.<br>
+	 *
+	 * @param name The name of the value the length belongs to, used in error messages
+	 * @return The read length
+	 * @throws BinarySyntaxException If the length exceeds the maximum length
+	 * @throws IOException If an I/O error occurs
+	 */
+	private int readLength(@NonNull String name) throws IOException {
+		return this.checkLength(this.readVarLong(), name);
+	}
+	
+	/**
+	 * Checks the given length against the maximum length of the configuration.<br>
+	 *
+	 * @param length The length to check
+	 * @param name The name of the value the length belongs to, used in error messages
+	 * @return The length as integer
+	 * @throws BinarySyntaxException If the length exceeds the maximum length
+	 */
+	private int checkLength(long length, @NonNull String name) {
+		if (length < 0 || length > this.config.maxLength()) {
+			throw new BinarySyntaxException("Invalid binary " + name + " length " + Long.toUnsignedString(length) + ", maximum length is " + this.config.maxLength());
+		}
+		return (int) length;
+	}
+	
+	/**
+	 * Reads an unsigned varint.<br>
+	 *
+	 * @return The read value
+	 * @throws BinarySyntaxException If the varint is longer than ten bytes
+	 * @throws IOException If an I/O error occurs
+	 */
+	private long readVarLong() throws IOException {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			int b = this.stream.readUnsignedByte();
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new BinarySyntaxException("Invalid binary varint, value exceeds 64 bits");
+	}
+	
+	@Override
+	public void close() throws IOException {
+		this.stream.close();
+	}
+}
@@ -0,0 +1,219 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.binary;
+
+import net.luis.utils.io.data.OutputProvider;
+import org.jspecify.annotations.NonNull;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static net.luis.utils.io.data.binary.BinaryHelper.*;
+
+/**
+ * A binary writer for writing binary elements in a compact binary format to an output.<br>
+ * The writer writes one binary document for each call of {@link #writeBinary(BinaryElement)}.<br>
+ * <p>
+ *     If the key dictionary is enabled in the configuration, repeated object keys are written as references to their first occurrence.<br>
+ *     The dictionary is reset for each document, so each document can be read independently.
+ * </p>
+ *
+ * @author Luis-St
+ * @see BinaryHelper
+ */
+public class BinaryWriter implements AutoCloseable {
+	
+	/**
+	 * The key dictionary of the current document mapping each written key to its index.<br>
+	 */
+	private final Map<String, Integer> keys = new HashMap<>();
+	/**
+	 * The binary config used by the writer.<br>
+	 */
+	private final BinaryConfig config;
+	/**
+	 * The internal stream used to write the binary elements.<br>
+	 */
+	private final DataOutputStream stream;
+	
+	/**
+	 * Constructs a new binary writer with the default configuration.<br>
+	 *
+	 * @param output The output to create the writer for
+	 * @throws NullPointerException If the output is null
+	 */
+	public BinaryWriter(@NonNull OutputProvider output) {
+		this(output, BinaryConfig.DEFAULT);
+	}
+	
+	/**
+	 * Constructs a new binary writer with the given configuration.<br>
+	 *
+	 * @param output The output to create the writer for
+	 * @param config The configuration to use for the writer
+	 * @throws NullPointerException If the output or the configuration is null
+	 */
+	public BinaryWriter(@NonNull OutputProvider output, @NonNull BinaryConfig config) {
+		this.config = Objects.requireNonNull(config, "Binary config must not be null");
+		this.stream = new DataOutputStream(new BufferedOutputStream(Objects.requireNonNull(output, "Output must not be null").getStream()));
+	}
+	
+	/**
+	 * Writes the given binary element as binary document to the output.<br>
+	 *
+	 * @param binary The binary element to write
+	 * @throws NullPointerException If the binary element is null
+	 * @throws IllegalArgumentException If the binary element or one of its nested elements is not supported
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public void writeBinary(@NonNull BinaryElement binary) {
+		Objects.requireNonNull(binary, "Binary element must not be null");
+		this.keys.clear();
+		try {
+			this.stream.write(MAGIC);
+			this.stream.writeByte(VERSION);
+			this.stream.writeByte(this.config.keyDictionary() ? FLAG_KEY_DICTIONARY : 0);
+			this.writeElement(binary);
+			this.stream.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException("An I/O error occurred while writing the binary element", e);
+		}
+	}
+	
+	/**
+	 * Writes the given binary element including all nested elements.<br>
+	 *
+	 * @param element The binary element to write
+	 * @throws IllegalArgumentException If the binary element is not supported
+	 * @throws IOException If an I/O error occurs
+	 */
+	private void writeElement(@NonNull BinaryElement element) throws IOException {
+		if (element instanceof BinaryNull) {
+			this.stream.writeByte(TAG_NULL);
+		} else if (element instanceof BinaryPrimitive primitive) {
+			this.writePrimitive(primitive);
+		} else if (element instanceof BinaryArray array) {
+			this.stream.writeByte(TAG_ARRAY);
+			this.writeVarLong(array.size());
+			for (BinaryElement value : array) {
+				this.writeElement(value);
+			}
+		} else if (element instanceof BinaryObject object) {
+			this.stream.writeByte(TAG_OBJECT);
+			this.writeVarLong(object.size());
+			for (Map.Entry<String, BinaryElement> entry : object) {
+				this.writeKey(entry.getKey());
+				this.writeElement(entry.getValue());
+			}
+		} else {
+			throw new IllegalArgumentException("Unsupported binary element: " + element.getClass().getName());
+		}
+	}
+	
+	/**
+	 * Writes the given binary primitive with the tag of its exact type.<br>
+	 *
+	 * @param primitive The binary primitive to write
+	 * @throws IOException If an I/O error occurs
+	 */
+	private void writePrimitive(@NonNull BinaryPrimitive primitive) throws IOException {
+		if (primitive.isBoolean()) {
+			this.stream.writeByte(primitive.getAsBoolean() ? TAG_TRUE : TAG_FALSE);
+		} else if (primitive.isByte()) {
+			this.stream.writeByte(TAG_BYTE);
+			this.stream.writeByte(primitive.getAsByte());
+		} else if (primitive.isShort()) {
+			this.stream.writeByte(TAG_SHORT);
+			this.writeVarLong(encodeZigZag(primitive.getAsShort()));
+		} else if (primitive.isInteger()) {
+			this.stream.writeByte(TAG_INTEGER);
+			this.writeVarLong(encodeZigZag(primitive.getAsInteger()));
+		} else if (primitive.isLong()) {
+			this.stream.writeByte(TAG_LONG);
+			this.writeVarLong(encodeZigZag(primitive.getAsLong()));
+		} else if (primitive.isFloat()) {
+			this.stream.writeByte(TAG_FLOAT);
+			this.stream.writeFloat(primitive.getAsFloat());
+		} else if (primitive.isDouble()) {
+			this.stream.writeByte(TAG_DOUBLE);
+			this.stream.writeDouble(primitive.getAsDouble());
+		} else {
+			this.stream.writeByte(TAG_STRING);
+			this.writeString(primitive.getAsString());
+		}
+	}
+	
+	/**
+	 * Writes the given object key.<br>
+	 * If the key dictionary is enabled, a key which was already written in the current document is written as reference.<br>
+	 *
+	 * @param key The key to write
+	 * @throws IOException If an I/O error occurs
+	 */
+	private void writeKey(@NonNull String key) throws IOException {
+		if (!this.config.keyDictionary()) {
+			this.writeString(key);
+			return;
+		}
+		
+		Integer index = this.keys.get(key);
+		if (index != null) {
+			this.writeVarLong(((long) index << 1) | 1);
+			return;
+		}
+		
+		byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+		this.writeVarLong((long) bytes.length << 1);
+		this.stream.write(bytes);
+		this.keys.put(key, this.keys.size());
+	}
+	
+	/**
+	 * Writes the given string as utf-8 bytes prefixed with their length.<br>
+	 *
+	 * @param string The string to write
+	 * @throws IOException If an I/O error occurs
+	 */
+	private void writeString(@NonNull String string) throws IOException {
+		byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+		this.writeVarLong(bytes.length);
+		this.stream.write(bytes);
+	}
+	
+	/**
+	 * Writes the given value as unsigned varint.<br>
+	 * Each byte contains seven bits of the value, the highest bit indicates whether more bytes follow.<br>
+	 *
+	 * @param value The value to write
+	 * @throws IOException If an I/O error occurs
+	 */
+	private void writeVarLong(long value) throws IOException {
+		while ((value & ~0x7FL) != 0) {
+			this.stream.writeByte((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		this.stream.writeByte((int) value);
+	}
+	
+	@Override
+	public void close() throws IOException {
+		this.stream.close();
+	}
+}
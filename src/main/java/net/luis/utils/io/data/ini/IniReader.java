@@ -24,8 +24,11 @@ import net.luis.utils.io.reader.StringReader;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
-import java.io.InputStreamReader;
-import java.util.Objects;
+import java.io.*;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Represents a reader for ini files.<br>
@@ -40,6 +43,11 @@ import java.util.Objects;
  *     <li>Comments starting with ; or #</li>
  *     <li>Quoted string values</li>
  * </ul>
+ * <p>
+ *     The input is read line by line, so besides reading a complete document via {@link #readIni()},
+ *     the sections can be processed one at a time via {@link #readSections(Consumer)} or {@link #streamSections()}.<br>
+ *     In this mode only the current section is held in memory, which allows processing very large files.
+ * </p>
  *
  * @author Luis-St
  */
@@ -51,9 +59,25 @@ public class IniReader implements AutoCloseable {
 	private final IniConfig config;
 	
 	/**
-	 * The internal io reader to read the ini content.<br>
+	 * The internal io reader to read the ini content line by line.<br>
+	 */
+	private final BufferedReader reader;
+	
+	/**
+	 * The global properties read while streaming the sections.<br>
+	 */
+	private final IniDocument globalProperties = new IniDocument();
+	
+	/**
+	 * The names of all sections that have been streamed, used to detect duplicate sections.<br>
+	 * The names are only tracked if duplicate sections are not allowed.<br>
+	 */
+	private final Set<String> streamedSections = new HashSet<>();
+	
+	/**
+	 * The section whose header has been read while streaming but which has not been completed yet.<br>
 	 */
-	private final StringReader reader;
+	private @Nullable IniSection pendingSection;
 	
 	/**
 	 * The current line number for error messages.<br>
@@ -79,7 +103,7 @@ public class IniReader implements AutoCloseable {
 	 */
 	public IniReader(@NonNull String string, @NonNull IniConfig config) {
 		this.config = Objects.requireNonNull(config, "Ini config must not be null");
-		this.reader = new StringReader(Objects.requireNonNull(string, "String must not be null"));
+		this.reader = new BufferedReader(Reader.of(Objects.requireNonNull(string, "String must not be null")));
 	}
 	
 	/**
@@ -101,7 +125,7 @@ public class IniReader implements AutoCloseable {
 	 */
 	public IniReader(@NonNull InputProvider input, @NonNull IniConfig config) {
 		this.config = Objects.requireNonNull(config, "Ini config must not be null");
-		this.reader = new StringReader(new InputStreamReader(Objects.requireNonNull(input, "Input must not be null").getStream(), config.charset()));
+		this.reader = new BufferedReader(new InputStreamReader(Objects.requireNonNull(input, "Input must not be null").getStream(), config.charset()));
 	}
 	
 	/**
@@ -109,14 +133,14 @@ public class IniReader implements AutoCloseable {
 	 *
 	 * @return The parsed ini document
 	 * @throws IniSyntaxException If the ini content has syntax errors
+	 * @throws UncheckedIOException If an I/O error occurs while reading the content
 	 */
 	public @NonNull IniDocument readIni() {
 		IniDocument document = new IniDocument();
 		IniSection currentSection = null;
 		
-		while (this.reader.canRead()) {
-			String line = this.reader.readLine(false);
-			this.lineNumber++;
+		String line;
+		while ((line = this.readLine()) != null) {
 			String trimmedLine = line.trim();
 			
 			if (trimmedLine.isEmpty()) {
@@ -137,6 +161,140 @@ public class IniReader implements AutoCloseable {
 		return document;
 	}
 	
+	/**
+	 * Reads the ini content section by section and passes each completed section to the given action.<br>
+	 * A section is completed when the next section header or the end of the input is reached.<br>
+	 * <p>
+	 *     The same parsing rules as in {@link #readIni()} apply.<br>
+	 *     If duplicate sections are allowed, each occurrence of a section is passed as a separate section.<br>
+	 *     Otherwise the names of the completed sections are retained to detect duplicates,
+	 *     a configuration allowing duplicate sections keeps the memory usage independent of the number of sections.
+	 * </p>
+	 *
+	 * @param action The action to perform for each section
+	 * @return A document which contains only the global properties of the ini content
+	 * @throws NullPointerException If the action is null
+	 * @throws IniSyntaxException If the ini content has syntax errors
+	 * @throws UncheckedIOException If an I/O error occurs while reading the content
+	 */
+	public @NonNull IniDocument readSections(@NonNull Consumer<? super IniSection> action) {
+		Objects.requireNonNull(action, "Action must not be null");
+		
+		IniSection section;
+		while ((section = this.readNextSection()) != null) {
+			action.accept(section);
+		}
+		return this.globalProperties;
+	}
+	
+	/**
+	 * Returns a lazy stream of the sections of the ini content.<br>
+	 * The input is only read as far as required to complete the next section.<br>
+	 * <p>
+	 *     The global properties are collected while streaming and are available via {@link #getGlobalProperties()}
+	 *     once the first section has been returned by the stream.<br>
+	 *     If duplicate sections are allowed, each occurrence of a section is returned as a separate section.<br>
+	 *     Otherwise the names of the completed sections are retained to detect duplicates,
+	 *     a configuration allowing duplicate sections keeps the memory usage independent of the number of sections.<br>
+	 *     Closing the stream closes this reader, so the stream can be used in a try-with-resources statement.
+	 * </p>
+	 *
+	 * @return A sequential stream of the sections
+	 * @throws IniSyntaxException If the ini content has syntax errors (thrown while consuming the stream)
+	 * @throws UncheckedIOException If an I/O error occurs while reading the content (thrown while consuming the stream)
+	 */
+	public @NonNull Stream<IniSection> streamSections() {
+		Iterator<IniSection> iterator = new Iterator<>() {
+			private @Nullable IniSection next;
+			
+			@Override
+			public boolean hasNext() {
+				if (this.next == null) {
+					this.next = IniReader.this.readNextSection();
+				}
+				return this.next != null;
+			}
+			
+			@Override
+			public @NonNull IniSection next() {
+				if (!this.hasNext()) {
+					throw new NoSuchElementException("No more sections available");
+				}
+				IniSection section = this.next;
+				this.next = null;
+				return section;
+			}
+		};
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(this::close);
+	}
+	
+	/**
+	 * Returns the global properties which have been read while streaming the sections.<br>
+	 * The global properties are complete once the first section has been read.<br>
+	 *
+	 * @return A document which contains only the global properties
+	 */
+	public @NonNull IniDocument getGlobalProperties() {
+		return this.globalProperties;
+	}
+	
+	/**
+	 * Reads the input until the next section is completed and returns it.<br>
+	 * Global properties before the first section are added to {@link #globalProperties}.<br>
+	 *
+	 * @return The next completed section or null if the end of the input has been reached
+	 * @throws IniSyntaxException If the ini content has syntax errors
+	 * @throws UncheckedIOException If an I/O error occurs while reading the content
+	 */
+	private @Nullable IniSection readNextSection() {
+		IniSection currentSection = this.pendingSection;
+		this.pendingSection = null;
+		
+		String line;
+		while ((line = this.readLine()) != null) {
+			String trimmedLine = line.trim();
+			if (trimmedLine.isEmpty() || this.isComment(trimmedLine)) {
+				continue;
+			}
+			
+			if (trimmedLine.startsWith("[")) {
+				String sectionName = this.parseSectionName(trimmedLine);
+				if (!this.config.allowDuplicateSections() && !this.streamedSections.add(sectionName)) {
+					throw new IniSyntaxException("Duplicate section '" + sectionName + "' at line " + this.lineNumber);
+				}
+				
+				IniSection section = new IniSection(sectionName);
+				if (currentSection != null) {
+					this.pendingSection = section;
+					return currentSection;
+				}
+				currentSection = section;
+				continue;
+			}
+			
+			this.parseKeyValue(trimmedLine, this.globalProperties, currentSection);
+		}
+		return currentSection;
+	}
+	
+	/**
+	 * Reads the next line of the input and increments the line number.<br>
+	 *
+	 * @return The next line without the line break or null if the end of the input has been reached
+	 * @throws UncheckedIOException If an I/O error occurs while reading the line
+	 */
+	private @Nullable String readLine() {
+		try {
+			String line = this.reader.readLine();
+			if (line != null) {
+				this.lineNumber++;
+			}
+			return line;
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to read line " + (this.lineNumber + 1) + " of ini content", e);
+		}
+	}
+	
 	/**
 	 * Checks if the line is a comment.<br>
 	 *
@@ -167,6 +325,27 @@ public class IniReader implements AutoCloseable {
 		Objects.requireNonNull(line, "Line must not be null");
 		Objects.requireNonNull(document, "Document must not be null");
 		
+		String sectionName = this.parseSectionName(line);
+		if (document.containsSection(sectionName)) {
+			if (!this.config.allowDuplicateSections()) {
+				throw new IniSyntaxException("Duplicate section '" + sectionName + "' at line " + this.lineNumber);
+			}
+			return document.getSection(sectionName);
+		}
+		return document.createSection(sectionName);
+	}
+	
+	/**
+	 * Parses a section header and returns the validated name of the section.<br>
+	 *
+	 * @param line The line containing the section header
+	 * @return The name of the section
+	 * @throws IniSyntaxException If the section header is invalid
+	 * @throws NullPointerException If the line is null
+	 */
+	private @NonNull String parseSectionName(@NonNull String line) {
+		Objects.requireNonNull(line, "Line must not be null");
+		
 		int closeBracket = line.indexOf(']');
 		if (closeBracket == -1) {
 			throw new IniSyntaxException("Missing closing bracket ']' for section at line " + this.lineNumber);
@@ -187,14 +366,7 @@ public class IniReader implements AutoCloseable {
 				throw new IniSyntaxException("Unexpected content after section header at line " + this.lineNumber);
 			}
 		}
-		
-		if (document.containsSection(sectionName)) {
-			if (!this.config.allowDuplicateSections()) {
-				throw new IniSyntaxException("Duplicate section '" + sectionName + "' at line " + this.lineNumber);
-			}
-			return document.getSection(sectionName);
-		}
-		return document.createSection(sectionName);
+		return sectionName;
 	}
 	
 	/**
@@ -373,6 +545,10 @@ public class IniReader implements AutoCloseable {
 	
 	@Override
 	public void close() {
-		this.reader.readRemaining();
+		try {
+			this.reader.close();
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to close ini reader", e);
+		}
 	}
 }
@@ -0,0 +1,68 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.json;
+
+/**
+ * Represents the type of the next token of a {@link JsonTokenReader}.<br>
+ *
+ * @author Luis-St
+ */
+public enum JsonToken {
+	
+	/**
+	 * The opening bracket {@code [} of a json array.<br>
+	 */
+	BEGIN_ARRAY,
+	/**
+	 * The closing bracket {@code ]} of a json array.<br>
+	 */
+	END_ARRAY,
+	/**
+	 * The opening curly bracket of a json object.<br>
+	 */
+	BEGIN_OBJECT,
+	/**
+	 * The closing curly bracket of a json object.<br>
+	 */
+	END_OBJECT,
+	/**
+	 * The key of an entry in a json object.<br>
+	 */
+	NAME,
+	/**
+	 * A json string primitive.<br>
+	 */
+	STRING,
+	/**
+	 * A json number primitive, including {@code Infinity} and {@code NaN}.<br>
+	 */
+	NUMBER,
+	/**
+	 * A json boolean primitive.<br>
+	 */
+	BOOLEAN,
+	/**
+	 * The json null value.<br>
+	 */
+	NULL,
+	/**
+	 * The end of the json input.<br>
+	 */
+	END_DOCUMENT
+}
@@ -0,0 +1,626 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.json;
+
+import net.luis.utils.io.data.InputProvider;
+import net.luis.utils.io.data.json.exception.JsonSyntaxException;
+import net.luis.utils.io.reader.StringReader;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.InputStreamReader;
+import java.util.*;
+
+/**
+ * A pull based json reader which reads the json content token by token.<br>
+ * In contrast to the {@link JsonReader}, this reader does not build a json element tree,
+ * the caller pulls the values it needs from the reader and skips the rest.<br>
+ * <p>
+ *     The reader applies the same parsing rules as the {@link JsonReader} for the given {@link JsonConfig}.<br>
+ *     The next token can be inspected using {@link #peek()} and consumed using the corresponding method:
+ * </p>
+ * <ul>
+ *     <li>{@link JsonToken#BEGIN_ARRAY} and {@link JsonToken#END_ARRAY}: {@link #beginArray()} and {@link #endArray()}</li>
+ *     <li>{@link JsonToken#BEGIN_OBJECT} and {@link JsonToken#END_OBJECT}: {@link #beginObject()} and {@link #endObject()}</li>
+ *     <li>{@link JsonToken#NAME}: {@link #nextName()}</li>
+ *     <li>{@link JsonToken#STRING}: {@link #nextString()}</li>
+ *     <li>{@link JsonToken#NUMBER}: {@link #nextNumber()}</li>
+ *     <li>{@link JsonToken#BOOLEAN}: {@link #nextBoolean()}</li>
+ *     <li>{@link JsonToken#NULL}: {@link #nextNull()}</li>
+ * </ul>
+ * <p>
+ *     Any value can be skipped using {@link #skipValue()} or read as json element using {@link #nextElement()}.
+ * </p>
+ *
+ * @author Luis-St
+ */
+public class JsonTokenReader implements AutoCloseable {
+	
+	/**
+	 * The context stack used to keep track of the current json scope.<br>
+	 */
+	private final Deque<Context> contexts = new ArrayDeque<>();
+	/**
+	 * The json config used by this reader.<br>
+	 */
+	private final JsonConfig config;
+	/**
+	 * The internal reader used to read the json content.<br>
+	 */
+	private final StringReader reader;
+	/**
+	 * The next token if it has already been peeked, otherwise null.<br>
+	 */
+	private @Nullable JsonToken peeked;
+	
+	/**
+	 * Constructs a new json token reader with the given string and the default configuration.<br>
+	 *
+	 * @param string The string to read from
+	 * @throws NullPointerException If the string is null
+	 */
+	public JsonTokenReader(@NonNull String string) {
+		this(string, JsonConfig.DEFAULT);
+	}
+	
+	/**
+	 * Constructs a new json token reader with the given string and configuration.<br>
+	 *
+	 * @param string The string to read from
+	 * @param config The configuration to use
+	 * @throws NullPointerException If the string or configuration is null
+	 */
+	public JsonTokenReader(@NonNull String string, @NonNull JsonConfig config) {
+		this.config = Objects.requireNonNull(config, "Json config must not be null");
+		this.reader = new StringReader(Objects.requireNonNull(string, "String must not be null"));
+		this.contexts.push(Context.DOCUMENT_START);
+	}
+	
+	/**
+	 * Constructs a new json token reader with the given input and the default configuration.<br>
+	 *
+	 * @param input The input to create the reader for
+	 * @throws NullPointerException If the input is null
+	 */
+	public JsonTokenReader(@NonNull InputProvider input) {
+		this(input, JsonConfig.DEFAULT);
+	}
+	
+	/**
+	 * Constructs a new json token reader with the given input and configuration.<br>
+	 *
+	 * @param input The input to create the reader for
+	 * @param config The configuration to use
+	 * @throws NullPointerException If the input or configuration is null
+	 */
+	public JsonTokenReader(@NonNull InputProvider input, @NonNull JsonConfig config) {
+		this.config = Objects.requireNonNull(config, "Json config must not be null");
+		this.reader = new StringReader(new InputStreamReader(Objects.requireNonNull(input, "Input must not be null").getStream(), config.charset()));
+		this.contexts.push(Context.DOCUMENT_START);
+	}
+	
+	/**
+	 * Returns the type of the next token without consuming it.<br>
+	 *
+	 * @return The type of the next token
+	 * @throws JsonSyntaxException If the json is invalid
+	 */
+	public @NonNull JsonToken peek() {
+		if (this.peeked != null) {
+			return this.peeked;
+		}
+		
+		Context context = Objects.requireNonNull(this.contexts.peek(), "Context stack must not be empty");
+		this.reader.skipWhitespaces();
+		this.peeked = switch (context) {
+			case DOCUMENT_START -> {
+				if (!this.reader.canRead()) {
+					throw new JsonSyntaxException("Invalid json, expected content but got nothing");
+				}
+				this.replaceContext(Context.DOCUMENT_END);
+				yield this.peekValue();
+			}
+			case DOCUMENT_END -> {
+				if (this.config.strict() && this.reader.canRead()) {
+					throw new JsonSyntaxException("Invalid json element, expected end of input but got: '" + this.reader.peek() + "'");
+				}
+				yield JsonToken.END_DOCUMENT;
+			}
+			case ARRAY_FIRST, ARRAY_NEXT -> this.peekArrayElement(context);
+			case OBJECT_FIRST, OBJECT_NEXT -> this.peekObjectEntry(context);
+			case OBJECT_VALUE -> {
+				this.replaceContext(Context.OBJECT_NEXT);
+				yield this.peekValue();
+			}
+		};
+		return this.peeked;
+	}
+	
+	/**
+	 * Checks if the current array or object has another element.<br>
+	 *
+	 * @return True if the next token is neither the end of an array, an object nor the input, otherwise false
+	 * @throws JsonSyntaxException If the json is invalid
+	 */
+	public boolean hasNext() {
+		JsonToken token = this.peek();
+		return token != JsonToken.END_ARRAY && token != JsonToken.END_OBJECT && token != JsonToken.END_DOCUMENT;
+	}
+	
+	/**
+	 * Consumes the opening bracket of a json array.<br>
+	 * @throws JsonSyntaxException If the next token is not the beginning of an array
+	 */
+	public void beginArray() {
+		this.expect(JsonToken.BEGIN_ARRAY);
+		this.reader.skip();
+		this.contexts.push(Context.ARRAY_FIRST);
+		this.peeked = null;
+	}
+	
+	/**
+	 * Consumes the closing bracket of a json array.<br>
+	 * @throws JsonSyntaxException If the next token is not the end of an array
+	 */
+	public void endArray() {
+		this.expect(JsonToken.END_ARRAY);
+		this.reader.skip();
+		this.contexts.pop();
+		this.peeked = null;
+	}
+	
+	/**
+	 * Consumes the opening bracket of a json object.<br>
+	 * @throws JsonSyntaxException If the next token is not the beginning of an object
+	 */
+	public void beginObject() {
+		this.expect(JsonToken.BEGIN_OBJECT);
+		this.reader.skip();
+		this.contexts.push(Context.OBJECT_FIRST);
+		this.peeked = null;
+	}
+	
+	/**
+	 * Consumes the closing bracket of a json object.<br>
+	 * @throws JsonSyntaxException If the next token is not the end of an object
+	 */
+	public void endObject() {
+		this.expect(JsonToken.END_OBJECT);
+		this.reader.skip();
+		this.contexts.pop();
+		this.peeked = null;
+	}
+	
+	/**
+	 * Consumes the key of the next entry in the current json object including the following colon.<br>
+	 * <p>
+	 *     In strict mode, the key must be quoted.
+	 * </p>
+	 *
+	 * @return The key of the entry
+	 * @throws JsonSyntaxException If the next token is not a key or the key is invalid
+	 */
+	public @NonNull String nextName() {
+		this.expect(JsonToken.NAME);
+		
+		String key;
+		if (this.config.strict()) {
+			if (this.reader.peek() != '"') {
+				throw new JsonSyntaxException("Invalid json object, expected quoted key but got: '" + this.reader.peek() + "'");
+			}
+			key = this.reader.readQuotedString();
+		} else {
+			key = this.reader.readString();
+		}
+		
+		this.reader.skipWhitespaces();
+		if (!this.reader.canRead() || this.reader.peek() != ':') {
+			throw new JsonSyntaxException("Invalid json object, expected ':' but got: '" + (this.reader.canRead() ? this.reader.peek() : "nothing") + "'");
+		}
+		this.reader.skip();
+		this.replaceContext(Context.OBJECT_VALUE);
+		this.peeked = null;
+		return key;
+	}
+	
+	/**
+	 * Consumes the next json string.<br>
+	 *
+	 * @return The string value
+	 * @throws JsonSyntaxException If the next token is not a string
+	 */
+	public @NonNull String nextString() {
+		this.expect(JsonToken.STRING);
+		String value = this.reader.readQuotedString();
+		this.peeked = null;
+		return value;
+	}
+	
+	/**
+	 * Consumes the next json number.<br>
+	 * The special values {@code Infinity}, {@code -Infinity} and {@code NaN} are supported.<br>
+	 *
+	 * @return The number value
+	 * @throws JsonSyntaxException If the next token is not a number or the number is invalid
+	 */
+	public @NonNull Number nextNumber() {
+		this.expect(JsonToken.NUMBER);
+		
+		char next = Character.toLowerCase(this.reader.peek());
+		Number value;
+		if (next == 'i' || next == 'n' || ((next == '-' || next == '+') && this.isSpecialNumberAfterSign())) {
+			value = this.readSpecialNumber();
+		} else {
+			try {
+				value = this.reader.readNumber();
+			} catch (Exception e) {
+				throw new JsonSyntaxException("Invalid json primitive, expected a number but got: '" + next + "'", e);
+			}
+		}
+		this.peeked = null;
+		return value;
+	}
+	
+	/**
+	 * Consumes the next json boolean.<br>
+	 * <p>
+	 *     In non-strict mode, any case of 'true' or 'false' is accepted.
+	 * </p>
+	 *
+	 * @return The boolean value
+	 * @throws JsonSyntaxException If the next token is not a boolean or the boolean is invalid
+	 */
+	public boolean nextBoolean() {
+		this.expect(JsonToken.BOOLEAN);
+		
+		boolean expected = Character.toLowerCase(this.reader.peek()) == 't';
+		String literal = expected ? "true" : "false";
+		String value = this.readLiteral(literal.length());
+		if (this.config.strict() ? !literal.equals(value) : !literal.equalsIgnoreCase(value)) {
+			throw new JsonSyntaxException("Invalid json boolean, expected '" + literal + "' but got: '" + value + "'");
+		}
+		this.peeked = null;
+		return expected;
+	}
+	
+	/**
+	 * Consumes the next json null value.<br>
+	 * <p>
+	 *     In non-strict mode, any case of 'null' is accepted.
+	 * </p>
+	 *
+	 * @throws JsonSyntaxException If the next token is not null or the null value is invalid
+	 */
+	public void nextNull() {
+		this.expect(JsonToken.NULL);
+		
+		String value = this.readLiteral(4);
+		if (this.config.strict() ? !"null".equals(value) : !"null".equalsIgnoreCase(value)) {
+			throw new JsonSyntaxException("Invalid json null, expected 'null' but got: '" + value + "'");
+		}
+		this.peeked = null;
+	}
+	
+	/**
+	 * Skips the next value including all nested values without creating any json elements.<br>
+	 * If the next token is a key, the key and its value are skipped.<br>
+	 *
+	 * @throws JsonSyntaxException If the json is invalid or there is no value to skip
+	 */
+	public void skipValue() {
+		if (this.peek() == JsonToken.NAME) {
+			this.nextName();
+		}
+		
+		int depth = 0;
+		do {
+			switch (this.peek()) {
+				case BEGIN_ARRAY -> {
+					this.beginArray();
+					depth++;
+				}
+				case BEGIN_OBJECT -> {
+					this.beginObject();
+					depth++;
+				}
+				case END_ARRAY -> {
+					this.endArray();
+					depth--;
+				}
+				case END_OBJECT -> {
+					this.endObject();
+					depth--;
+				}
+				case NAME -> this.nextName();
+				case STRING -> this.nextString();
+				case NUMBER -> this.nextNumber();
+				case BOOLEAN -> this.nextBoolean();
+				case NULL -> this.nextNull();
+				case END_DOCUMENT -> throw new JsonSyntaxException("Invalid json, expected a value to skip but got end of input");
+			}
+		} while (depth > 0);
+	}
+	
+	/**
+	 * Reads the next value including all nested values as json element.<br>
+	 *
+	 * @return The read json element
+	 * @throws JsonSyntaxException If the json is invalid or there is no value to read
+	 */
+	public @NonNull JsonElement nextElement() {
+		return switch (this.peek()) {
+			case BEGIN_ARRAY -> {
+				JsonArray array = new JsonArray();
+				this.beginArray();
+				while (this.hasNext()) {
+					array.add(this.nextElement());
+				}
+				this.endArray();
+				yield array;
+			}
+			case BEGIN_OBJECT -> {
+				JsonObject object = new JsonObject();
+				this.beginObject();
+				while (this.hasNext()) {
+					String key = this.nextName();
+					object.add(key, this.nextElement());
+				}
+				this.endObject();
+				yield object;
+			}
+			case STRING -> new JsonPrimitive(this.nextString());
+			case NUMBER -> new JsonPrimitive(this.nextNumber());
+			case BOOLEAN -> new JsonPrimitive(this.nextBoolean());
+			case NULL -> {
+				this.nextNull();
+				yield JsonNull.INSTANCE;
+			}
+			case END_ARRAY, END_OBJECT, NAME, END_DOCUMENT -> throw new JsonSyntaxException("Invalid json, expected a value but got " + this.peek());
+		};
+	}
+	
+	/**
+	 * Ensures that the next token is of the expected type.<br>
+	 *
+	 * @param expected The expected token type
+	 * @throws JsonSyntaxException If the next token is of a different type
+	 */
+	private void expect(@NonNull JsonToken expected) {
+		JsonToken token = this.peek();
+		if (token != expected) {
+			throw new JsonSyntaxException("Invalid json, expected " + expected + " but got " + token);
+		}
+	}
+	
+	/**
+	 * Reads a literal with the given length.<br>
+	 *
+	 * @param length The length of the literal
+	 * @return The read literal
+	 * @throws JsonSyntaxException If there are not enough characters left
+	 */
+	private @NonNull String readLiteral(int length) {
+		if (!this.reader.canRead(length)) {
+			throw new JsonSyntaxException("Invalid json primitive, expected " + length + " characters but got incomplete value");
+		}
+		return this.reader.read(length);
+	}
+	
+	/**
+	 * Replaces the current context with the given one.<br>
+	 * @param context The new context
+	 */
+	private void replaceContext(@NonNull Context context) {
+		this.contexts.pop();
+		this.contexts.push(context);
+	}
+	
+	/**
+	 * Determines the type of the next array element or the end of the array.<br>
+	 * <p>
+	 *     In strict mode, the reader expects no trailing comma after the last element.
+	 * </p>
+	 *
+	 * @param context The current array context
+	 * @return The type of the next token
+	 * @throws JsonSyntaxException If the json array is invalid
+	 */
+	private @NonNull JsonToken peekArrayElement(@NonNull Context context) {
+		if (!this.reader.canRead()) {
+			throw new JsonSyntaxException("Invalid json array, expected closing bracket ']' or another element but got nothing");
+		}
+		if (context == Context.ARRAY_NEXT && this.reader.peek() == ',') {
+			this.reader.skip();
+			this.reader.skipWhitespaces();
+			if (this.config.strict() && this.reader.canRead() && this.reader.peek() == ']') {
+				throw new JsonSyntaxException("Invalid json array, expected another element but got closing bracket ']'");
+			}
+		}
+		if (!this.reader.canRead()) {
+			throw new JsonSyntaxException("Invalid json array, expected closing bracket ']' but got nothing");
+		}
+		if (this.reader.peek() == ']') {
+			return JsonToken.END_ARRAY;
+		}
+		
+		this.replaceContext(Context.ARRAY_NEXT);
+		return this.peekValue();
+	}
+	
+	/**
+	 * Determines whether the next token is the key of another object entry or the end of the object.<br>
+	 * <p>
+	 *     In strict mode, the reader expects no trailing comma after the last entry.
+	 * </p>
+	 *
+	 * @param context The current object context
+	 * @return The type of the next token
+	 * @throws JsonSyntaxException If the json object is invalid
+	 */
+	private @NonNull JsonToken peekObjectEntry(@NonNull Context context) {
+		if (!this.reader.canRead()) {
+			throw new JsonSyntaxException("Invalid json object, expected closing bracket '}' but got nothing");
+		}
+		if (this.reader.peek() == '}') {
+			return JsonToken.END_OBJECT;
+		}
+		
+		if (context == Context.OBJECT_NEXT) {
+			if (this.reader.peek() != ',') {
+				throw new JsonSyntaxException("Invalid json object, expected ',' or '}' but got: '" + this.reader.peek() + "'");
+			}
+			this.reader.skip();
+			this.reader.skipWhitespaces();
+			if (!this.reader.canRead()) {
+				throw new JsonSyntaxException("Invalid json object, expected closing bracket '}' but got nothing");
+			}
+			if (this.reader.peek() == '}') {
+				if (this.config.strict()) {
+					throw new JsonSyntaxException("Invalid json object, expected another entry but got closing bracket '}'");
+				}
+				return JsonToken.END_OBJECT;
+			}
+		}
+		return JsonToken.NAME;
+	}
+	
+	/**
+	 * Determines the type of the next value based on its first character.<br>
+	 *
+	 * @return The type of the next value
+	 * @throws JsonSyntaxException If there is no value or the next character can not start a value
+	 */
+	private @NonNull JsonToken peekValue() {
+		if (!this.reader.canRead()) {
+			throw new JsonSyntaxException("Invalid json element, expected content but got nothing");
+		}
+		
+		char next = Character.toLowerCase(this.reader.peek());
+		return switch (next) {
+			case '[' -> JsonToken.BEGIN_ARRAY;
+			case '{' -> JsonToken.BEGIN_OBJECT;
+			case '"' -> JsonToken.STRING;
+			case 't', 'f' -> JsonToken.BOOLEAN;
+			case 'n' -> this.isNaN() ? JsonToken.NUMBER : JsonToken.NULL;
+			case ']', '}', ',', ':' -> throw new JsonSyntaxException("Invalid json element, expected a value but got: '" + next + "'");
+			default -> JsonToken.NUMBER;
+		};
+	}
+	
+	/**
+	 * Checks if the value starting with 'n' at the current position is 'NaN' instead of 'null'.<br>
+	 * @return True if the value is 'NaN', otherwise false
+	 */
+	private boolean isNaN() {
+		this.reader.mark();
+		this.reader.skip();
+		boolean nan = this.reader.canRead() && Character.toLowerCase(this.reader.peek()) == 'a';
+		this.reader.reset();
+		return nan;
+	}
+	
+	/**
+	 * Checks if the sign at the current position is followed by 'Infinity' or 'NaN'.<br>
+	 * @return True if the sign is followed by a special number, otherwise false
+	 */
+	private boolean isSpecialNumberAfterSign() {
+		this.reader.mark();
+		this.reader.skip();
+		if (!this.reader.canRead()) {
+			throw new JsonSyntaxException("Invalid json primitive, expected 'Infinity' or 'NaN' but got incomplete value");
+		}
+		char afterSign = Character.toLowerCase(this.reader.peek());
+		this.reader.reset();
+		return afterSign == 'i' || afterSign == 'n';
+	}
+	
+	/**
+	 * Reads a special json number (Infinity or NaN) with the same rules as the {@link JsonReader}.<br>
+	 *
+	 * @return The read special number
+	 * @throws JsonSyntaxException If the special number is invalid
+	 */
+	private @NonNull Double readSpecialNumber() {
+		char sign = '\0';
+		char next = this.reader.peek();
+		if (next == '+' || next == '-') {
+			sign = this.reader.read();
+			next = this.reader.peek();
+		}
+		
+		if (Character.toLowerCase(next) == 'i') {
+			String value = this.readLiteral(8);
+			if (this.config.strict() ? !"Infinity".equals(value) : !"infinity".equalsIgnoreCase(value)) {
+				throw new JsonSyntaxException("Invalid json primitive, expected '" + (sign == '\0' ? '+' : sign) + "Infinity' but got: '" + value + "'");
+			}
+			return sign == '-' ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+		}
+		
+		String value = this.readLiteral(3);
+		if (this.config.strict() ? !"NaN".equals(value) : !"nan".equalsIgnoreCase(value)) {
+			throw new JsonSyntaxException("Invalid json primitive, expected 'NaN' but got: '" + value + "'");
+		}
+		if (this.config.strict() && sign != '\0') {
+			throw new JsonSyntaxException("Invalid json primitive, 'NaN' cannot be prefixed with a sign");
+		}
+		return Double.NaN;
+	}
+	
+	@Override
+	public void close() {
+		this.reader.readRemaining(); // Assert that there is no remaining content
+	}
+	
+	/**
+	 * Internal enum for the parsing context of the reader.<br>
+	 *
+	 * @author Luis-St
+	 */
+	private enum Context {
+		
+		/**
+		 * Before the root value of the input.<br>
+		 */
+		DOCUMENT_START,
+		/**
+		 * After the root value of the input.<br>
+		 */
+		DOCUMENT_END,
+		/**
+		 * Inside an array before the first element.<br>
+		 */
+		ARRAY_FIRST,
+		/**
+		 * Inside an array after at least one element.<br>
+		 */
+		ARRAY_NEXT,
+		/**
+		 * Inside an object before the first entry.<br>
+		 */
+		OBJECT_FIRST,
+		/**
+		 * Inside an object after at least one entry.<br>
+		 */
+		OBJECT_NEXT,
+		/**
+		 * Inside an object after a key and before its value.<br>
+		 */
+		OBJECT_VALUE
+	}
+}
@@ -0,0 +1,381 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.json;
+
+import net.luis.utils.io.data.OutputProvider;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * A streaming json writer which writes the json content token by token directly to the output.<br>
+ * In contrast to the {@link JsonWriter}, this writer does not require a json element tree of the content.<br>
+ * <p>
+ *     The writer uses the pretty print and indent settings of the given {@link JsonConfig}.<br>
+ *     Since the size of arrays and objects is not known in advance, arrays and objects are never simplified.<br>
+ *     The output is equal to {@link JsonElement#toString(JsonConfig)} for a configuration without simplification.
+ * </p>
+ * <p>
+ *     The key of an object entry is only written if a value follows it.<br>
+ *     If {@link #name(String)} is not followed by a value, the key is discarded by the next key or the end of the object.
+ * </p>
+ *
+ * @author Luis-St
+ */
+public class JsonTokenWriter implements AutoCloseable {
+	
+	/**
+	 * The context stack used to keep track of the current json scope.<br>
+	 */
+	private final Deque<Context> contexts = new ArrayDeque<>();
+	/**
+	 * The json config used by this writer.<br>
+	 */
+	private final JsonConfig config;
+	/**
+	 * The internal writer used to write the json content.<br>
+	 */
+	private final BufferedWriter writer;
+	/**
+	 * The key of the current object entry which has not been written yet, otherwise null.<br>
+	 */
+	private @Nullable String pendingName;
+	
+	/**
+	 * Constructs a new json token writer with the default configuration.<br>
+	 *
+	 * @param output The output to create the writer for
+	 * @throws NullPointerException If the output is null
+	 */
+	public JsonTokenWriter(@NonNull OutputProvider output) {
+		this(output, JsonConfig.DEFAULT);
+	}
+	
+	/**
+	 * Constructs a new json token writer with the given configuration.<br>
+	 *
+	 * @param output The output to create the writer for
+	 * @param config The configuration to use for the writer
+	 * @throws NullPointerException If the output or the configuration is null
+	 */
+	public JsonTokenWriter(@NonNull OutputProvider output, @NonNull JsonConfig config) {
+		this.config = Objects.requireNonNull(config, "Json config must not be null");
+		this.writer = new BufferedWriter(new OutputStreamWriter(Objects.requireNonNull(output, "Output must not be null").getStream(), config.charset()));
+		this.contexts.push(Context.DOCUMENT_START);
+	}
+	
+	/**
+	 * Writes the opening bracket of a json array.<br>
+	 *
+	 * @throws IllegalStateException If no value is expected at the current position
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public void beginArray() {
+		this.beforeValue();
+		this.write("[");
+		this.contexts.push(Context.ARRAY_FIRST);
+	}
+	
+	/**
+	 * Writes the closing bracket of the current json array.<br>
+	 *
+	 * @throws IllegalStateException If the current scope is not a json array
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public void endArray() {
+		this.end(Context.ARRAY_FIRST, Context.ARRAY_NEXT, "]");
+	}
+	
+	/**
+	 * Writes the opening bracket of a json object.<br>
+	 *
+	 * @throws IllegalStateException If no value is expected at the current position
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public void beginObject() {
+		this.beforeValue();
+		this.write("{");
+		this.contexts.push(Context.OBJECT_FIRST);
+	}
+	
+	/**
+	 * Writes the closing bracket of the current json object.<br>
+	 * A pending key without value is discarded.<br>
+	 *
+	 * @throws IllegalStateException If the current scope is not a json object
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public void endObject() {
+		this.pendingName = null;
+		this.end(Context.OBJECT_FIRST, Context.OBJECT_NEXT, "}");
+	}
+	
+	/**
+	 * Sets the key of the next entry in the current json object.<br>
+	 * The key is written together with the following value.<br>
+	 * A previous key without value is discarded.<br>
+	 *
+	 * @param name The key of the entry
+	 * @throws NullPointerException If the key is null
+	 * @throws IllegalStateException If the current scope is not a json object
+	 */
+	public void name(@NonNull String name) {
+		Objects.requireNonNull(name, "Name must not be null");
+		Context context = this.currentContext();
+		if (context != Context.OBJECT_FIRST && context != Context.OBJECT_NEXT) {
+			throw new IllegalStateException("Unable to write name '" + name + "' outside of a json object");
+		}
+		this.pendingName = name;
+	}
+	
+	/**
+	 * Writes the given string value.<br>
+	 * If the value is null, a json null value is written instead.<br>
+	 *
+	 * @param value The string value to write
+	 * @throws IllegalStateException If no value is expected at the current position
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public void value(@Nullable String value) {
+		if (value == null) {
+			this.nullValue();
+			return;
+		}
+		this.beforeValue();
+		this.write("\"" + value + "\"");
+	}
+	
+	/**
+	 * Writes the given number value.<br>
+	 * If the value is null, a json null value is written instead.<br>
+	 *
+	 * @param value The number value to write
+	 * @throws IllegalStateException If no value is expected at the current position
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public void value(@Nullable Number value) {
+		if (value == null) {
+			this.nullValue();
+			return;
+		}
+		this.beforeValue();
+		this.write(String.valueOf(value));
+	}
+	
+	/**
+	 * Writes the given boolean value.<br>
+	 *
+	 * @param value The boolean value to write
+	 * @throws IllegalStateException If no value is expected at the current position
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public void value(boolean value) {
+		this.beforeValue();
+		this.write(String.valueOf(value));
+	}
+	
+	/**
+	 * Writes a json null value.<br>
+	 *
+	 * @throws IllegalStateException If no value is expected at the current position
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public void nullValue() {
+		this.beforeValue();
+		this.write("null");
+	}
+	
+	/**
+	 * Writes the given json element including all nested elements.<br>
+	 *
+	 * @param element The json element to write
+	 * @throws NullPointerException If the json element is null
+	 * @throws IllegalStateException If no value is expected at the current position
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public void element(@NonNull JsonElement element) {
+		Objects.requireNonNull(element, "Json element must not be null");
+		
+		if (element.isJsonObject()) {
+			this.beginObject();
+			for (Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+				this.name(entry.getKey());
+				this.element(entry.getValue());
+			}
+			this.endObject();
+		} else if (element.isJsonArray()) {
+			this.beginArray();
+			for (JsonElement value : element.getAsJsonArray().getElements()) {
+				this.element(value);
+			}
+			this.endArray();
+		} else if (element.isJsonNull()) {
+			this.nullValue();
+		} else if (element.isJsonPrimitive()) {
+			this.beforeValue();
+			this.write(element.toString(this.config));
+		} else {
+			throw new IllegalArgumentException("Unsupported json element: " + element.getClass().getName());
+		}
+	}
+	
+	/**
+	 * Flushes the written content to the output.<br>
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public void flush() {
+		try {
+			this.writer.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException("An I/O error occurred while flushing the json content", e);
+		}
+	}
+	
+	/**
+	 * Returns the current context of the writer.<br>
+	 * @return The current context
+	 */
+	private @NonNull Context currentContext() {
+		return Objects.requireNonNull(this.contexts.peek(), "Context stack must not be empty");
+	}
+	
+	/**
+	 * Prepares the output for the next value.<br>
+	 * Writes the separator, the line break and indentation and the pending key if required.<br>
+	 *
+	 * @throws IllegalStateException If no value is expected at the current position
+	 */
+	private void beforeValue() {
+		Context context = this.currentContext();
+		switch (context) {
+			case DOCUMENT_START -> this.replaceContext(Context.DOCUMENT_END);
+			case DOCUMENT_END -> throw new IllegalStateException("Json document already contains a root value");
+			case ARRAY_FIRST, ARRAY_NEXT -> {
+				this.writeSeparator(context == Context.ARRAY_NEXT);
+				this.replaceContext(Context.ARRAY_NEXT);
+			}
+			case OBJECT_FIRST, OBJECT_NEXT -> {
+				if (this.pendingName == null) {
+					throw new IllegalStateException("Expected a name before the value of a json object entry");
+				}
+				this.writeSeparator(context == Context.OBJECT_NEXT);
+				this.write("\"" + this.pendingName + "\": ");
+				this.pendingName = null;
+				this.replaceContext(Context.OBJECT_NEXT);
+			}
+		}
+	}
+	
+	/**
+	 * Writes the separator between two elements and the line break and indentation if pretty print is enabled.<br>
+	 * @param comma Whether a comma must be written before the element
+	 */
+	private void writeSeparator(boolean comma) {
+		if (comma) {
+			this.write(",");
+		}
+		if (this.config.prettyPrint()) {
+			this.write(System.lineSeparator() + this.config.indent().repeat(this.contexts.size() - 1));
+		}
+	}
+	
+	/**
+	 * Ends the current json array or object.<br>
+	 *
+	 * @param empty The context of the scope if it contains no elements
+	 * @param filled The context of the scope if it contains elements
+	 * @param bracket The closing bracket to write
+	 * @throws IllegalStateException If the current scope does not match
+	 */
+	private void end(@NonNull Context empty, @NonNull Context filled, @NonNull String bracket) {
+		Context context = this.currentContext();
+		if (context != empty && context != filled) {
+			throw new IllegalStateException("Unable to write closing bracket '" + bracket + "' in context " + context);
+		}
+		
+		this.contexts.pop();
+		if (context == filled && this.config.prettyPrint()) {
+			this.write(System.lineSeparator() + this.config.indent().repeat(this.contexts.size() - 1));
+		}
+		this.write(bracket);
+	}
+	
+	/**
+	 * Replaces the current context with the given one.<br>
+	 * @param context The new context
+	 */
+	private void replaceContext(@NonNull Context context) {
+		this.contexts.pop();
+		this.contexts.push(context);
+	}
+	
+	/**
+	 * Writes the given string to the internal writer.<br>
+	 *
+	 * @param string The string to write
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	private void write(@NonNull String string) {
+		try {
+			this.writer.write(string);
+		} catch (IOException e) {
+			throw new UncheckedIOException("An I/O error occurred while writing the json content", e);
+		}
+	}
+	
+	@Override
+	public void close() throws IOException {
+		this.writer.close();
+	}
+	
+	/**
+	 * Internal enum for the writing context of the writer.<br>
+	 *
+	 * @author Luis-St
+	 */
+	private enum Context {
+		
+		/**
+		 * Before the root value of the output.<br>
+		 */
+		DOCUMENT_START,
+		/**
+		 * After the root value of the output.<br>
+		 */
+		DOCUMENT_END,
+		/**
+		 * Inside an array before the first element.<br>
+		 */
+		ARRAY_FIRST,
+		/**
+		 * Inside an array after at least one element.<br>
+		 */
+		ARRAY_NEXT,
+		/**
+		 * Inside an object before the first entry.<br>
+		 */
+		OBJECT_FIRST,
+		/**
+		 * Inside an object after at least one entry.<br>
+		 */
+		OBJECT_NEXT
+	}
+}
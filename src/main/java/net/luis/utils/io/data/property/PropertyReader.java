@@ -69,6 +69,14 @@ import static org.apache.commons.lang3.StringUtils.*;
  * <pre>{@code
  * <key_part>.${<type>:<variable_key>:-<default_value>}.<key_part><separator><value>
  * }</pre>
+ * <p>
+ *     Property variables are resolved through the {@link PropertyVariableResolver} of the reader,
+ *     the properties read by this reader are stored in a new layer on top of its existing layers.<br>
+ *     A resolver passed to the reader can contain lower layers, for example the properties of a base file read by another reader.<br>
+ *     Resolved variables are always memoized, so a variable used by many keys is only resolved once.<br>
+ *     Recursive resolution of variables inside referenced properties stays opt-in through {@link PropertyVariableResolver#PropertyVariableResolver(PropertyConfig, boolean)},
+ *     since it would make existing values containing a literal {@code ${} fail to resolve.
+ * </p>
  *
  * <h2><a href="arrays">Arrays</a></h2>
  * Arrays can be specified in two formats:
@@ -91,9 +99,13 @@ public class PropertyReader implements AutoCloseable {
 	private static final Pattern VARIABLE_KEY_PATTERN = Pattern.compile("^(.+?)\\.(\\$\\{(.*)})\\.?(.*)$");
 	
 	/**
-	 * A cache for all properties that have been read.<br>
+	 * The resolver for variable keys, which holds all properties that have been read.<br>
+	 */
+	private final PropertyVariableResolver resolver;
+	/**
+	 * The layer of the resolver the properties of this reader are stored in.<br>
 	 */
-	private final Map<String, String> propertyCache = Maps.newLinkedHashMap();
+	private final int layer;
 	/**
 	 * A cache for multi-line arrays.<br>
 	 */
@@ -129,8 +141,23 @@ public class PropertyReader implements AutoCloseable {
 	 * @throws NullPointerException If the string or the configuration is null
 	 */
 	public PropertyReader(@NonNull String string, @NonNull PropertyConfig config) {
+		this(string, config, new PropertyVariableResolver(config));
+	}
+	
+	/**
+	 * Constructs a new property reader with the given string, configuration and variable resolver.<br>
+	 * The properties read by this reader are stored in a new layer on top of the existing layers of the resolver.<br>
+	 *
+	 * @param string The string to read from
+	 * @param config The configuration for this reader
+	 * @param resolver The resolver used to resolve variable keys
+	 * @throws NullPointerException If the string, the configuration or the resolver is null
+	 */
+	public PropertyReader(@NonNull String string, @NonNull PropertyConfig config, @NonNull PropertyVariableResolver resolver) {
 		this.config = Objects.requireNonNull(config, "Property config must not be null");
+		this.resolver = Objects.requireNonNull(resolver, "Property variable resolver must not be null");
 		this.reader = new StringReader(Objects.requireNonNull(string, "String must not be null"));
+		this.layer = resolver.addLayer();
 	}
 	
 	/**
@@ -151,8 +178,41 @@ public class PropertyReader implements AutoCloseable {
 	 * @throws NullPointerException If the input or the configuration is null
 	 */
 	public PropertyReader(@NonNull InputProvider input, @NonNull PropertyConfig config) {
+		this(input, config, new PropertyVariableResolver(config));
+	}
+	
+	/**
+	 * Constructs a new property reader with the given input, configuration and variable resolver.<br>
+	 * The properties read by this reader are stored in a new layer on top of the existing layers of the resolver.<br>
+	 *
+	 * @param input The input to create the reader for
+	 * @param config The configuration for this reader
+	 * @param resolver The resolver used to resolve variable keys
+	 * @throws NullPointerException If the input, the configuration or the resolver is null
+	 */
+	public PropertyReader(@NonNull InputProvider input, @NonNull PropertyConfig config, @NonNull PropertyVariableResolver resolver) {
 		this.config = Objects.requireNonNull(config, "Property config must not be null");
+		this.resolver = Objects.requireNonNull(resolver, "Property variable resolver must not be null");
 		this.reader = new StringReader(new InputStreamReader(Objects.requireNonNull(input, "Input must not be null").getStream(), config.charset()));
+		this.layer = resolver.addLayer();
+	}
+	
+	/**
+	 * Returns the variable resolver of this reader.<br>
+	 * The resolver can be passed to another reader to use the properties of this reader as a lower layer.<br>
+	 *
+	 * @return The variable resolver
+	 */
+	public @NonNull PropertyVariableResolver getResolver() {
+		return this.resolver;
+	}
+	
+	/**
+	 * Returns the layer of the resolver the properties of this reader are stored in.<br>
+	 * @return The layer index
+	 */
+	public int getLayer() {
+		return this.layer;
 	}
 	
 	/**
@@ -246,7 +306,7 @@ public class PropertyReader implements AutoCloseable {
 				}
 				
 				if (prop.element() instanceof PropertyValue value && value.isPropertyString()) {
-					this.propertyCache.put(prop.key(), value.getAsString());
+					this.resolver.set(this.layer, prop.key(), value.getAsString());
 				}
 			}
 		}
@@ -570,6 +630,10 @@ public class PropertyReader implements AutoCloseable {
 	 *     <li>{@code sys:} - Resolve from system properties</li>
 	 *     <li>{@code env:} - Resolve from environment variables</li>
 	 * </ul>
+	 * <p>
+	 *     The resolution is delegated to the {@link PropertyVariableResolver} of this reader,
+	 *     which memoizes parsed variables and resolved values across all occurrences.
+	 * </p>
 	 *
 	 * @param key The key being parsed (for error messages)
 	 * @param variable The variable content (without ${})
@@ -581,34 +645,11 @@ public class PropertyReader implements AutoCloseable {
 		Objects.requireNonNull(key, "Key must not be null");
 		Objects.requireNonNull(variable, "Variable key part must not be null");
 		
-		char typeSeparator = this.config.variableTypeSeparator();
-		String defaultMarker = this.config.defaultValueMarker();
-		
-		int typeEnd = variable.indexOf(typeSeparator);
-		if (typeEnd == -1) {
-			throw new PropertySyntaxException("Variable '${" + variable + "}' must contain type separator '" + typeSeparator + "': '" + key + "'");
-		}
-		
-		String type = variable.substring(0, typeEnd).strip();
-		String remainder = variable.substring(typeEnd + 1);
-		
-		String targetKey;
-		String defaultValue = null;
-		int defaultIndex = remainder.indexOf(defaultMarker);
-		if (defaultIndex == -1) {
-			targetKey = remainder.strip();
-		} else {
-			targetKey = remainder.substring(0, defaultIndex).strip();
-			defaultValue = remainder.substring(defaultIndex + defaultMarker.length());
-		}
-		
-		if (targetKey.isEmpty()) {
-			throw new PropertySyntaxException("Target key in variable '${" + variable + "}' must not be empty: '" + key + "'");
-		}
-		
-		String value = this.resolveVariableValue(type, targetKey, key, variable);
-		if (value == null && defaultValue != null) {
-			value = defaultValue;
+		String value;
+		try {
+			value = this.resolver.resolveVariable(variable);
+		} catch (PropertySyntaxException e) {
+			throw new PropertySyntaxException(e.getMessage() + ": '" + key + "'", e);
 		}
 		
 		if (value == null) {
@@ -617,37 +658,6 @@ public class PropertyReader implements AutoCloseable {
 		return value;
 	}
 	
-	/**
-	 * Resolves the actual value of the given variable based on its type.<br>
-	 *
-	 * @param type The variable type (prop, sys, env)
-	 * @param targetKey The key to look up
-	 * @param key The original key (for error messages)
-	 * @param variable The original variable (for error messages)
-	 * @return The resolved value, or null if not found
-	 * @throws PropertySyntaxException If the type is not recognized
-	 * @throws NullPointerException If any of the parameters are null
-	 */
-	private @Nullable String resolveVariableValue(@NonNull String type, @NonNull String targetKey, @NonNull String key, @NonNull String variable) {
-		Objects.requireNonNull(type, "Variable type must not be null");
-		Objects.requireNonNull(targetKey, "Target key must not be null");
-		Objects.requireNonNull(key, "Key must not be null");
-		Objects.requireNonNull(variable, "Variable must not be null");
-		
-		Map<String, String> customVars = this.config.getCustomVariables();
-		if (!customVars.isEmpty() && customVars.containsKey(targetKey)) {
-			return customVars.get(targetKey);
-		}
-		
-		return switch (type.toLowerCase()) {
-			case "prop", "property", "" -> this.propertyCache.get(targetKey);
-			case "sys", "system" -> System.getProperty(targetKey);
-			case "env", "environment" -> System.getenv(targetKey);
-			default -> throw new PropertySyntaxException("Unknown variable type '" + type + "' in '${" + variable + "}'. " +
-				"Valid types are: prop, sys, env: '" + key + "'");
-		};
-	}
-	
 	/**
 	 * Extends the given list of resolved keys with the given new key parts.<br>
 	 *
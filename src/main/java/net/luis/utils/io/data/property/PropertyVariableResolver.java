@@ -0,0 +1,616 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.property;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import net.luis.utils.io.data.property.exception.PropertySyntaxException;
+import org.jetbrains.annotations.Unmodifiable;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * A resolver for variables in the format {@code ${type:key:-default}} used by property files.<br>
+ * The resolver holds the raw property values in multiple layers, where a higher layer overrides the values of the lower layers.<br>
+ * <p>
+ *     Raw values may reference other properties using {@code ${prop:key}} variables.<br>
+ *     Resolved variables are always memoized, a memoized variable is only invalidated when the property it references changes.<br>
+ *     By default a referenced property resolves to its raw value, the variables inside of it are not substituted,
+ *     since existing values may contain a literal {@code ${} which would fail to resolve.<br>
+ *     If recursive resolution is enabled, the references form a dependency graph which is built once when a value is set,
+ *     resolved values are memoized and only the affected keys are invalidated when a layer changes.
+ * </p>
+ * <p>
+ *     The supported variable types are:
+ * </p>
+ * <ul>
+ *     <li>{@code prop} - Resolve from the properties of this resolver (the default if the type is empty)</li>
+ *     <li>{@code sys} - Resolve from system properties</li>
+ *     <li>{@code env} - Resolve from environment variables</li>
+ * </ul>
+ * <p>
+ *     Custom variables of the {@link PropertyConfig} take precedence over all types.<br>
+ *     System properties and environment variables are looked up once and cached for the lifetime of the resolver.
+ * </p>
+ *
+ * @author Luis-St
+ */
+public class PropertyVariableResolver {
+	
+	/**
+	 * The prefix of a variable.<br>
+	 */
+	private static final String VARIABLE_PREFIX = "${";
+	
+	/**
+	 * The configuration used to parse variables.<br>
+	 */
+	private final PropertyConfig config;
+	/**
+	 * Whether variables inside of referenced properties are substituted.<br>
+	 */
+	private final boolean recursive;
+	/**
+	 * The layers of raw values, the first layer has the lowest priority.<br>
+	 */
+	private final List<Map<String, String>> layers = Lists.newArrayList();
+	/**
+	 * The memoized resolved values of the properties.<br>
+	 */
+	private final Map<String, String> resolvedValues = Maps.newHashMap();
+	/**
+	 * The property keys each property references in its raw value.<br>
+	 */
+	private final Map<String, Set<String>> dependencies = Maps.newHashMap();
+	/**
+	 * The property keys which reference a property in their raw value (reverse of {@link #dependencies}).<br>
+	 */
+	private final Map<String, Set<String>> dependents = Maps.newHashMap();
+	/**
+	 * The memoized parsed variables.<br>
+	 */
+	private final Map<String, ParsedVariable> parsedVariables = Maps.newHashMap();
+	/**
+	 * The memoized values of system and environment variables.<br>
+	 */
+	private final Map<ParsedVariable, Optional<String>> externalValues = Maps.newHashMap();
+	/**
+	 * The memoized values of resolved variables, an empty optional if a variable resolved to null.<br>
+	 */
+	private final Map<String, Optional<String>> resolvedVariables = Maps.newHashMap();
+	/**
+	 * The memoized variables which reference a property, used to invalidate them when the property changes.<br>
+	 */
+	private final Map<String, Set<String>> variablesByKey = Maps.newHashMap();
+	
+	/**
+	 * Constructs a new non-recursive property variable resolver with the default configuration.<br>
+	 */
+	public PropertyVariableResolver() {
+		this(PropertyConfig.DEFAULT);
+	}
+	
+	/**
+	 * Constructs a new non-recursive property variable resolver with the given configuration.<br>
+	 *
+	 * @param config The configuration used to parse variables
+	 * @throws NullPointerException If the configuration is null
+	 */
+	public PropertyVariableResolver(@NonNull PropertyConfig config) {
+		this(config, false);
+	}
+	
+	/**
+	 * Constructs a new property variable resolver with the given configuration.<br>
+	 * If recursive resolution is enabled, variables inside of referenced properties are substituted as well.<br>
+	 *
+	 * @param config The configuration used to parse variables
+	 * @param recursive Whether variables inside of referenced properties are substituted
+	 * @throws NullPointerException If the configuration is null
+	 */
+	public PropertyVariableResolver(@NonNull PropertyConfig config, boolean recursive) {
+		this.config = Objects.requireNonNull(config, "Property config must not be null");
+		this.recursive = recursive;
+	}
+	
+	/**
+	 * Checks whether variables inside of referenced properties are substituted.<br>
+	 * @return True if the resolution is recursive, otherwise false
+	 */
+	public boolean isRecursive() {
+		return this.recursive;
+	}
+	
+	/**
+	 * Returns the number of layers of this resolver.<br>
+	 * @return The layer count
+	 */
+	public int getLayerCount() {
+		return this.layers.size();
+	}
+	
+	/**
+	 * Adds a new empty layer on top of all existing layers.<br>
+	 * @return The index of the new layer
+	 */
+	public int addLayer() {
+		this.layers.add(Maps.newLinkedHashMap());
+		return this.layers.size() - 1;
+	}
+	
+	/**
+	 * Adds a new layer with the given raw values on top of all existing layers.<br>
+	 *
+	 * @param values The raw values of the new layer
+	 * @return The index of the new layer
+	 * @throws NullPointerException If the values are null
+	 */
+	public int addLayer(@NonNull Map<String, String> values) {
+		Objects.requireNonNull(values, "Values must not be null");
+		int layer = this.addLayer();
+		this.replaceLayer(layer, values);
+		return layer;
+	}
+	
+	/**
+	 * Sets the raw value of the given key in the given layer.<br>
+	 * Only the key and the keys which depend on it are invalidated if the effective value changes.<br>
+	 *
+	 * @param layer The index of the layer
+	 * @param key The key of the property
+	 * @param value The raw value of the property
+	 * @throws IndexOutOfBoundsException If the layer does not exist
+	 * @throws NullPointerException If the key or value is null
+	 */
+	public void set(int layer, @NonNull String key, @NonNull String value) {
+		Objects.requireNonNull(key, "Key must not be null");
+		Objects.requireNonNull(value, "Value must not be null");
+		
+		String previous = this.getRawValue(key);
+		this.layers.get(layer).put(key, value);
+		this.updateIfChanged(key, previous);
+	}
+	
+	/**
+	 * Removes the raw value of the given key from the given layer.<br>
+	 *
+	 * @param layer The index of the layer
+	 * @param key The key of the property
+	 * @throws IndexOutOfBoundsException If the layer does not exist
+	 * @throws NullPointerException If the key is null
+	 */
+	public void remove(int layer, @NonNull String key) {
+		Objects.requireNonNull(key, "Key must not be null");
+		
+		String previous = this.getRawValue(key);
+		this.layers.get(layer).remove(key);
+		this.updateIfChanged(key, previous);
+	}
+	
+	/**
+	 * Replaces all raw values of the given layer with the given values.<br>
+	 * Only keys whose effective value changes and the keys which depend on them are invalidated.<br>
+	 *
+	 * @param layer The index of the layer
+	 * @param values The new raw values of the layer
+	 * @throws IndexOutOfBoundsException If the layer does not exist
+	 * @throws NullPointerException If the values are null
+	 */
+	public void replaceLayer(int layer, @NonNull Map<String, String> values) {
+		Objects.requireNonNull(values, "Values must not be null");
+		
+		Map<String, String> target = this.layers.get(layer);
+		Set<String> keys = Sets.newLinkedHashSet(target.keySet());
+		keys.addAll(values.keySet());
+		
+		Map<String, String> previous = Maps.newHashMap();
+		for (String key : keys) {
+			previous.put(key, this.getRawValue(key));
+		}
+		
+		target.clear();
+		values.forEach((key, value) -> target.put(
+			Objects.requireNonNull(key, "Key must not be null"), Objects.requireNonNull(value, "Value of key '" + key + "' must not be null")
+		));
+		for (String key : keys) {
+			this.updateIfChanged(key, previous.get(key));
+		}
+	}
+	
+	/**
+	 * Returns the effective raw value of the given key.<br>
+	 * The effective value is the value of the highest layer that contains the key.<br>
+	 *
+	 * @param key The key of the property
+	 * @return The raw value or null if no layer contains the key
+	 * @throws NullPointerException If the key is null
+	 */
+	public @Nullable String getRawValue(@NonNull String key) {
+		Objects.requireNonNull(key, "Key must not be null");
+		for (int i = this.layers.size() - 1; i >= 0; i--) {
+			String value = this.layers.get(i).get(key);
+			if (value != null) {
+				return value;
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * Returns the property keys which are directly referenced by the raw value of the given key.<br>
+	 * The dependencies are only tracked if the resolution is recursive.<br>
+	 *
+	 * @param key The key of the property
+	 * @return The referenced keys
+	 * @throws NullPointerException If the key is null
+	 */
+	public @NonNull @Unmodifiable Set<String> getDependencies(@NonNull String key) {
+		Objects.requireNonNull(key, "Key must not be null");
+		return Set.copyOf(this.dependencies.getOrDefault(key, Set.of()));
+	}
+	
+	/**
+	 * Resolves the value of the given key.<br>
+	 * If the resolution is recursive, all variables in its raw value are substituted,
+	 * the resolved value is memoized until the key or one of its dependencies changes.<br>
+	 * Otherwise the raw value is returned unchanged.<br>
+	 *
+	 * @param key The key of the property
+	 * @return The resolved value or null if no layer contains the key
+	 * @throws NullPointerException If the key is null
+	 * @throws PropertySyntaxException If the value contains a cyclic reference or a variable which cannot be resolved
+	 */
+	public @Nullable String resolve(@NonNull String key) {
+		Objects.requireNonNull(key, "Key must not be null");
+		return this.resolve(key, Sets.newLinkedHashSet());
+	}
+	
+	/**
+	 * Resolves the given variable content (without the surrounding {@code ${}} ).<br>
+	 *
+	 * @param variable The variable to resolve
+	 * @return The resolved value or null if the variable cannot be resolved and has no default value
+	 * @throws NullPointerException If the variable is null
+	 * @throws PropertySyntaxException If the variable is invalid or contains a cyclic reference
+	 */
+	public @Nullable String resolveVariable(@NonNull String variable) {
+		Objects.requireNonNull(variable, "Variable must not be null");
+		return this.resolveVariable(variable, Sets.newLinkedHashSet());
+	}
+	
+	/**
+	 * Substitutes all variables in the given text with their resolved values.<br>
+	 *
+	 * @param text The text to substitute
+	 * @return The text with all variables substituted
+	 * @throws NullPointerException If the text is null
+	 * @throws PropertySyntaxException If a variable is invalid, cyclic or cannot be resolved
+	 */
+	public @NonNull String substitute(@NonNull String text) {
+		Objects.requireNonNull(text, "Text must not be null");
+		return this.substitute(text, Sets.newLinkedHashSet());
+	}
+	
+	/**
+	 * Resolves the value of the given key and tracks the keys currently being resolved to detect cycles.<br>
+	 *
+	 * @param key The key of the property
+	 * @param resolving The keys currently being resolved
+	 * @return The resolved value or null if no layer contains the key
+	 * @throws PropertySyntaxException If the value contains a cyclic reference or a variable which cannot be resolved
+	 */
+	private @Nullable String resolve(@NonNull String key, @NonNull Set<String> resolving) {
+		String resolved = this.resolvedValues.get(key);
+		if (resolved != null) {
+			return resolved;
+		}
+		
+		String raw = this.getRawValue(key);
+		if (raw == null || !this.recursive) {
+			return raw;
+		}
+		if (!resolving.add(key)) {
+			throw new PropertySyntaxException("Cyclic variable reference detected: " + String.join(" -> ", resolving) + " -> " + key);
+		}
+		
+		resolved = this.substitute(raw, resolving);
+		resolving.remove(key);
+		this.resolvedValues.put(key, resolved);
+		return resolved;
+	}
+	
+	/**
+	 * Resolves the given variable content and tracks the keys currently being resolved to detect cycles.<br>
+	 *
+	 * @param variable The variable to resolve
+	 * @param resolving The keys currently being resolved
+	 * @return The resolved value or null if the variable cannot be resolved and has no default value
+	 * @throws PropertySyntaxException If the variable is invalid or contains a cyclic reference
+	 */
+	private @Nullable String resolveVariable(@NonNull String variable, @NonNull Set<String> resolving) {
+		Optional<String> memoized = this.resolvedVariables.get(variable);
+		if (memoized != null) {
+			return memoized.orElse(null);
+		}
+		
+		ParsedVariable parsed = this.parseVariable(variable);
+		String value;
+		Map<String, String> customVariables = this.config.getCustomVariables();
+		if (customVariables.containsKey(parsed.key())) {
+			value = customVariables.get(parsed.key());
+		} else {
+			value = switch (parsed.type()) {
+				case PROPERTY -> this.resolve(parsed.key(), resolving);
+				case SYSTEM -> this.externalValues.computeIfAbsent(parsed, p -> Optional.ofNullable(System.getProperty(p.key()))).orElse(null);
+				case ENVIRONMENT -> this.externalValues.computeIfAbsent(parsed, p -> Optional.ofNullable(System.getenv(p.key()))).orElse(null);
+			};
+			if (value == null) {
+				value = parsed.defaultValue();
+			}
+			if (parsed.type() == VariableType.PROPERTY) {
+				this.variablesByKey.computeIfAbsent(parsed.key(), k -> Sets.newHashSet()).add(variable);
+			}
+		}
+		
+		this.resolvedVariables.put(variable, Optional.ofNullable(value));
+		return value;
+	}
+	
+	/**
+	 * Substitutes all variables in the given text and tracks the keys currently being resolved to detect cycles.<br>
+	 *
+	 * @param text The text to substitute
+	 * @param resolving The keys currently being resolved
+	 * @return The text with all variables substituted
+	 * @throws PropertySyntaxException If a variable is invalid, cyclic or cannot be resolved
+	 */
+	private @NonNull String substitute(@NonNull String text, @NonNull Set<String> resolving) {
+		int start = text.indexOf(VARIABLE_PREFIX);
+		if (start == -1) {
+			return text;
+		}
+		
+		StringBuilder builder = new StringBuilder(text.length());
+		int index = 0;
+		while (start != -1) {
+			int end = findVariableEnd(text, start);
+			if (end == -1) {
+				throw new PropertySyntaxException("Variable at position " + start + " is not closed: '" + text + "'");
+			}
+			String variable = text.substring(start + VARIABLE_PREFIX.length(), end);
+			String value = this.resolveVariable(variable, resolving);
+			if (value == null) {
+				throw new PropertySyntaxException("Could not resolve variable '${" + variable + "}' and no default was provided");
+			}
+			
+			builder.append(text, index, start).append(value);
+			index = end + 1;
+			start = text.indexOf(VARIABLE_PREFIX, index);
+		}
+		return builder.append(text, index, text.length()).toString();
+	}
+	
+	/**
+	 * Parses the given variable content into its type, key and default value.<br>
+	 * The result is memoized, so each distinct variable is only parsed once.<br>
+	 *
+	 * @param variable The variable to parse
+	 * @return The parsed variable
+	 * @throws PropertySyntaxException If the variable is invalid
+	 */
+	private @NonNull ParsedVariable parseVariable(@NonNull String variable) {
+		ParsedVariable parsed = this.parsedVariables.get(variable);
+		if (parsed == null) {
+			parsed = ParsedVariable.parse(variable, this.config.variableTypeSeparator(), this.config.defaultValueMarker());
+			this.parsedVariables.put(variable, parsed);
+		}
+		return parsed;
+	}
+	
+	/**
+	 * Updates the dependency graph and invalidates the memoized values if the effective raw value of the given key changed.<br>
+	 *
+	 * @param key The key which may have changed
+	 * @param previous The previous effective raw value of the key
+	 */
+	private void updateIfChanged(@NonNull String key, @Nullable String previous) {
+		String current = this.getRawValue(key);
+		if (Objects.equals(previous, current)) {
+			return;
+		}
+		
+		Set<String> oldDependencies = this.dependencies.remove(key);
+		if (oldDependencies != null) {
+			for (String dependency : oldDependencies) {
+				Set<String> keys = this.dependents.get(dependency);
+				if (keys != null && keys.remove(key) && keys.isEmpty()) {
+					this.dependents.remove(dependency);
+				}
+			}
+		}
+		if (current != null && this.recursive) {
+			Set<String> newDependencies = this.collectDependencies(current);
+			if (!newDependencies.isEmpty()) {
+				this.dependencies.put(key, newDependencies);
+				for (String dependency : newDependencies) {
+					this.dependents.computeIfAbsent(dependency, k -> Sets.newHashSet()).add(key);
+				}
+			}
+		}
+		this.invalidate(key);
+	}
+	
+	/**
+	 * Collects the property keys referenced by the variables in the given raw value.<br>
+	 * Nested variables in default values are not considered as dependencies.<br>
+	 * Invalid variables are skipped, they are reported when the value is resolved.<br>
+	 *
+	 * @param raw The raw value
+	 * @return The referenced property keys
+	 */
+	private @NonNull Set<String> collectDependencies(@NonNull String raw) {
+		Set<String> keys = Sets.newHashSet();
+		int start = raw.indexOf(VARIABLE_PREFIX);
+		while (start != -1) {
+			int end = findVariableEnd(raw, start);
+			if (end == -1) {
+				break;
+			}
+			try {
+				ParsedVariable parsed = this.parseVariable(raw.substring(start + VARIABLE_PREFIX.length(), end));
+				if (parsed.type() == VariableType.PROPERTY) {
+					keys.add(parsed.key());
+				}
+			} catch (PropertySyntaxException ignored) {
+				// Invalid variables are reported when the value is resolved
+			}
+			start = raw.indexOf(VARIABLE_PREFIX, end + 1);
+		}
+		return keys;
+	}
+	
+	/**
+	 * Removes the memoized values of the given key and all keys which transitively depend on it.<br>
+	 * The memoized variables referencing one of these keys are removed as well.<br>
+	 * @param key The key to invalidate
+	 */
+	private void invalidate(@NonNull String key) {
+		Deque<String> queue = new ArrayDeque<>();
+		Set<String> visited = Sets.newHashSet();
+		queue.add(key);
+		while (!queue.isEmpty()) {
+			String current = queue.poll();
+			if (visited.add(current)) {
+				this.resolvedValues.remove(current);
+				Set<String> variables = this.variablesByKey.remove(current);
+				if (variables != null) {
+					variables.forEach(this.resolvedVariables::remove);
+				}
+				queue.addAll(this.dependents.getOrDefault(current, Set.of()));
+			}
+		}
+	}
+	
+	/**
+	 * Finds the index of the closing curly bracket of the variable starting at the given index.<br>
+	 *
+	 * @param text The text containing the variable
+	 * @param start The index of the variable prefix
+	 * @return The index of the closing curly bracket or -1 if the variable is not closed
+	 */
+	private static int findVariableEnd(@NonNull String text, int start) {
+		int depth = 0;
+		for (int i = start + 1; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c == '{') {
+				depth++;
+			} else if (c == '}' && --depth == 0) {
+				return i;
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * Internal enum for the source type of a variable.<br>
+	 *
+	 * @author Luis-St
+	 */
+	private enum VariableType {
+		
+		/**
+		 * Resolves from the properties of the resolver.<br>
+		 */
+		PROPERTY,
+		/**
+		 * Resolves from the system properties.<br>
+		 */
+		SYSTEM,
+		/**
+		 * Resolves from the environment variables.<br>
+		 */
+		ENVIRONMENT;
+		
+		/**
+		 * Returns the variable type for the given name.<br>
+		 *
+		 * @param type The name of the type
+		 * @param variable The variable (for error messages)
+		 * @return The variable type
+		 * @throws PropertySyntaxException If the type is not recognized
+		 */
+		private static @NonNull VariableType fromName(@NonNull String type, @NonNull String variable) {
+			return switch (type.toLowerCase()) {
+				case "prop", "property", "" -> PROPERTY;
+				case "sys", "system" -> SYSTEM;
+				case "env", "environment" -> ENVIRONMENT;
+				default -> throw new PropertySyntaxException("Unknown variable type '" + type + "' in '${" + variable + "}'. Valid types are: prop, sys, env");
+			};
+		}
+	}
+	
+	/**
+	 * Internal record for a parsed variable.<br>
+	 *
+	 * @author Luis-St
+	 *
+	 * @param type The source type of the variable
+	 * @param key The key to look up in the source
+	 * @param defaultValue The default value or null if none was provided
+	 */
+	private record ParsedVariable(@NonNull VariableType type, @NonNull String key, @Nullable String defaultValue) {
+		
+		/**
+		 * Parses the given variable content in the format {@code type:key} or {@code type:key:-default}.<br>
+		 *
+		 * @param variable The variable content (without ${})
+		 * @param typeSeparator The character separating the type from the key
+		 * @param defaultMarker The string marking the default value
+		 * @return The parsed variable
+		 * @throws PropertySyntaxException If the variable format is invalid
+		 */
+		private static @NonNull ParsedVariable parse(@NonNull String variable, char typeSeparator, @NonNull String defaultMarker) {
+			int typeEnd = variable.indexOf(typeSeparator);
+			if (typeEnd == -1) {
+				throw new PropertySyntaxException("Variable '${" + variable + "}' must contain type separator '" + typeSeparator + "'");
+			}
+			
+			String type = variable.substring(0, typeEnd).strip();
+			String remainder = variable.substring(typeEnd + 1);
+			
+			String key;
+			String defaultValue = null;
+			int defaultIndex = remainder.indexOf(defaultMarker);
+			if (defaultIndex == -1) {
+				key = remainder.strip();
+			} else {
+				key = remainder.substring(0, defaultIndex).strip();
+				defaultValue = remainder.substring(defaultIndex + defaultMarker.length());
+			}
+			
+			if (key.isEmpty()) {
+				throw new PropertySyntaxException("Target key in variable '${" + variable + "}' must not be empty");
+			}
+			return new ParsedVariable(VariableType.fromName(type, variable), key, defaultValue);
+		}
+	}
+}
@@ -0,0 +1,494 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.luis.utils.io.data.toml;
+
+import net.luis.utils.io.data.OutputProvider;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * A streaming toml writer which writes the toml content token by token to the output.<br>
+ * In contrast to the {@link TomlWriter}, this writer does not require a toml element tree of the content.<br>
+ * <p>
+ *     The root element must be a table, nested tables are written as sections with a header.<br>
+ *     Since toml requires all entries of a table before its sections, the sections are kept as text until the enclosing table ends.<br>
+ *     Arrays and tables inside of arrays are kept as text until they end, because their format depends on their size.<br>
+ *     The entries of the root table are written directly.
+ * </p>
+ * <p>
+ *     The writer uses the settings of the given {@link TomlConfig}.<br>
+ *     The output is equal to the output of the {@link TomlWriter} for the same content.
+ * </p>
+ *
+ * @author Luis-St
+ */
+public class TomlTokenWriter implements AutoCloseable {
+	
+	/**
+	 * The stack of the currently open tables and arrays.<br>
+	 */
+	private final Deque<Scope> scopes = new ArrayDeque<>();
+	/**
+	 * The toml config used by this writer.<br>
+	 */
+	private final TomlConfig config;
+	/**
+	 * The internal writer used to write the toml content.<br>
+	 */
+	private final BufferedWriter writer;
+	/**
+	 * The key of the next table entry or null if no key is pending.<br>
+	 */
+	private @Nullable String pendingKey;
+	/**
+	 * Whether the root table has been started.<br>
+	 */
+	private boolean started;
+	
+	/**
+	 * Constructs a new toml token writer with the default configuration.<br>
+	 *
+	 * @param output The output to create the writer for
+	 * @throws NullPointerException If the output is null
+	 */
+	public TomlTokenWriter(@NonNull OutputProvider output) {
+		this(output, TomlConfig.DEFAULT);
+	}
+	
+	/**
+	 * Constructs a new toml token writer with the given configuration.<br>
+	 *
+	 * @param output The output to create the writer for
+	 * @param config The configuration to use for the writer
+	 * @throws NullPointerException If the output or the configuration is null
+	 */
+	public TomlTokenWriter(@NonNull OutputProvider output, @NonNull TomlConfig config) {
+		this.config = Objects.requireNonNull(config, "Toml config must not be null");
+		this.writer = new BufferedWriter(new OutputStreamWriter(Objects.requireNonNull(output, "Output must not be null").getStream(), config.charset()));
+	}
+	
+	/**
+	 * Begins a new toml table.<br>
+	 * Tables inside of tables are written as sections, tables inside of arrays are written as values.<br>
+	 * The table must be closed by {@link #endTable()}.<br>
+	 *
+	 * @throws IllegalStateException If no table is expected at the current position
+	 */
+	public void beginTable() {
+		Scope parent = this.scopes.peek();
+		if (parent == null) {
+			if (this.started) {
+				throw new IllegalStateException("Toml document already contains a root table");
+			}
+			this.started = true;
+			this.scopes.push(new Scope(Kind.TABLE, null, "", null));
+		} else if (parent.kind == Kind.TABLE) {
+			String key = this.consumeKey();
+			this.scopes.push(new Scope(Kind.TABLE, key, childPath(parent.path, key), null));
+		} else {
+			this.scopes.push(new Scope(Kind.INLINE_TABLE, parent.kind == Kind.ARRAY ? null : this.consumeKey(), "", null));
+		}
+	}
+	
+	/**
+	 * Ends the current toml table.<br>
+	 *
+	 * @throws IllegalStateException If the current scope is not a table
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public void endTable() {
+		Scope scope = this.scopes.peek();
+		if (scope == null || scope.kind == Kind.ARRAY) {
+			throw new IllegalStateException("Unable to end toml table outside of a toml table");
+		}
+		
+		this.pendingKey = null;
+		this.scopes.pop();
+		if (scope.kind == Kind.INLINE_TABLE) {
+			this.value(scope.key, scope.toInlineTableString(this.config));
+		} else if (scope.target != null) {
+			scope.target.append(scope.toSectionString(this.config));
+		} else if (this.scopes.isEmpty()) {
+			this.write(scope.toSectionString(this.config));
+		} else {
+			Objects.requireNonNull(this.scopes.peek(), "Scope must not be null").sections.add(scope.toSectionString(this.config));
+		}
+	}
+	
+	/**
+	 * Begins a new toml array.<br>
+	 * The array must be closed by {@link #endArray()}.<br>
+	 *
+	 * @throws IllegalStateException If no array is expected at the current position
+	 */
+	public void beginArray() {
+		Scope parent = this.scopes.peek();
+		if (parent == null) {
+			throw new IllegalStateException("The root element of a toml document must be a table");
+		}
+		this.scopes.push(new Scope(Kind.ARRAY, parent.kind == Kind.ARRAY ? null : this.consumeKey(), "", null));
+	}
+	
+	/**
+	 * Ends the current toml array.<br>
+	 *
+	 * @throws IllegalStateException If the current scope is not an array
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public void endArray() {
+		Scope scope = this.scopes.peek();
+		if (scope == null || scope.kind != Kind.ARRAY) {
+			throw new IllegalStateException("Unable to end toml array outside of a toml array");
+		}
+		
+		this.scopes.pop();
+		this.value(scope.key, scope.toArrayString(this.config));
+	}
+	
+	/**
+	 * Sets the key of the next table entry.<br>
+	 * The key is written together with the next value, a key without value is replaced by the next key.<br>
+	 *
+	 * @param key The key of the next entry
+	 * @throws NullPointerException If the key is null
+	 * @throws IllegalStateException If the current scope is not a table
+	 */
+	public void key(@NonNull String key) {
+		Objects.requireNonNull(key, "Key must not be null");
+		Scope scope = this.scopes.peek();
+		if (scope == null || scope.kind == Kind.ARRAY) {
+			throw new IllegalStateException("Unable to write key '" + key + "' outside of a toml table");
+		}
+		this.pendingKey = key;
+	}
+	
+	/**
+	 * Writes the given toml element.<br>
+	 * Tables which are not inline and arrays of tables inside of tables are written as sections,
+	 * all other elements are written by their string representation.<br>
+	 *
+	 * @param element The toml element to write
+	 * @throws NullPointerException If the toml element is null
+	 * @throws IllegalStateException If no value is expected at the current position
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public void element(@NonNull TomlElement element) {
+		Objects.requireNonNull(element, "Toml element must not be null");
+		
+		Scope scope = this.scopes.peek();
+		if (scope == null || scope.kind == Kind.TABLE) {
+			if (element instanceof TomlTable table && (scope == null || !table.isInline())) {
+				this.beginTable();
+				this.entries(table);
+				this.endTable();
+				return;
+			}
+			if (scope == null) {
+				throw new IllegalStateException("The root element of a toml document must be a table");
+			}
+			if (element instanceof TomlArray array && array.isArrayOfTables()) {
+				this.arrayOfTables(scope, childPath(scope.path, this.consumeKey()), array);
+				return;
+			}
+		}
+		this.value(scope.kind == Kind.ARRAY ? null : this.consumeKey(), element.toString(this.config));
+	}
+	
+	/**
+	 * Flushes the written content to the output.<br>
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public void flush() {
+		try {
+			this.writer.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException("An I/O error occurred while flushing the toml content", e);
+		}
+	}
+	
+	/**
+	 * Creates the path of a section with the given key inside of the section with the given path.<br>
+	 *
+	 * @param path The path of the parent section (empty for the root table)
+	 * @param key The key of the section
+	 * @return The path of the section
+	 */
+	private static @NonNull String childPath(@NonNull String path, @NonNull String key) {
+		return path.isEmpty() ? TomlHelper.formatKey(key) : path + "." + TomlHelper.formatKey(key);
+	}
+	
+	/**
+	 * Consumes and returns the pending key.<br>
+	 *
+	 * @return The pending key
+	 * @throws IllegalStateException If no key is pending
+	 */
+	private @NonNull String consumeKey() {
+		String key = this.pendingKey;
+		if (key == null) {
+			throw new IllegalStateException("Expected a key before the value of a toml table entry");
+		}
+		this.pendingKey = null;
+		return key;
+	}
+	
+	/**
+	 * Writes the keys and values of the given table to the current table.<br>
+	 * @param table The table to write the entries of
+	 */
+	private void entries(@NonNull TomlTable table) {
+		for (Map.Entry<String, TomlElement> entry : table) {
+			this.key(entry.getKey());
+			this.element(entry.getValue());
+		}
+	}
+	
+	/**
+	 * Adds the formatted value to the current scope.<br>
+	 * Entries of the root table are written directly, all other values are kept until their scope ends.<br>
+	 *
+	 * @param key The key of the value or null if the current scope is an array
+	 * @param value The formatted value
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	private void value(@Nullable String key, @NonNull String value) {
+		Scope scope = Objects.requireNonNull(this.scopes.peek(), "Scope must not be null");
+		if (scope.kind == Kind.ARRAY) {
+			scope.values.add(value);
+			return;
+		}
+		
+		String entry = TomlHelper.formatKey(Objects.requireNonNull(key, "Key must not be null")) + " = " + value;
+		if (scope.kind == Kind.INLINE_TABLE) {
+			scope.values.add(entry);
+		} else if (this.scopes.size() == 1 && scope.target == null) {
+			this.write(entry + System.lineSeparator());
+			scope.simple = true;
+		} else {
+			scope.entries.append(entry).append(System.lineSeparator());
+			scope.simple = true;
+		}
+	}
+	
+	/**
+	 * Adds the given array of tables to the array table sections of the given table.<br>
+	 * The format is equal to the format of the {@link TomlWriter}.<br>
+	 *
+	 * @param scope The table to add the array of tables to
+	 * @param path The path of the array of tables
+	 * @param array The array of tables
+	 */
+	private void arrayOfTables(@NonNull Scope scope, @NonNull String path, @NonNull TomlArray array) {
+		for (TomlElement element : array) {
+			if (this.config.prettyPrint()) {
+				scope.arrayTables.append(System.lineSeparator());
+			}
+			scope.arrayTables.append("[[").append(path).append("]]").append(System.lineSeparator());
+			
+			if (element instanceof TomlTable table) {
+				for (Map.Entry<String, TomlElement> entry : table) {
+					TomlElement value = entry.getValue();
+					if (value instanceof TomlTable nested && !nested.isInline()) {
+						this.scopes.push(new Scope(Kind.TABLE, entry.getKey(), path + "." + TomlHelper.formatKey(entry.getKey()), scope.arrayTables));
+						this.entries(nested);
+						this.endTable();
+					} else if (!(value instanceof TomlArray nestedArray && nestedArray.isArrayOfTables())) {
+						scope.arrayTables.append(TomlHelper.formatKey(entry.getKey())).append(" = ").append(value.toString(this.config)).append(System.lineSeparator());
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Writes the given string to the internal writer.<br>
+	 *
+	 * @param string The string to write
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	private void write(@NonNull String string) {
+		try {
+			this.writer.write(string);
+		} catch (IOException e) {
+			throw new UncheckedIOException("An I/O error occurred while writing the toml content", e);
+		}
+	}
+	
+	@Override
+	public void close() throws IOException {
+		this.writer.close();
+	}
+	
+	/**
+	 * Internal enum for the kind of scope.<br>
+	 *
+	 * @author Luis-St
+	 */
+	private enum Kind {
+		
+		/**
+		 * A table which is written as section.<br>
+		 */
+		TABLE,
+		/**
+		 * A table inside of an array which is written as value.<br>
+		 */
+		INLINE_TABLE,
+		/**
+		 * An array which is written as value.<br>
+		 */
+		ARRAY
+	}
+	
+	/**
+	 * Internal class for a table or array which has not been ended yet.<br>
+	 *
+	 * @author Luis-St
+	 */
+	private static final class Scope {
+		
+		/**
+		 * The kind of the scope.<br>
+		 */
+		private final Kind kind;
+		/**
+		 * The key of the scope in the enclosing table or null if the scope is the root table or an array element.<br>
+		 */
+		private final @Nullable String key;
+		/**
+		 * The path of the section (empty if the scope is not a section).<br>
+		 */
+		private final String path;
+		/**
+		 * The target to append the section to or null if the section belongs to the enclosing table.<br>
+		 */
+		private final @Nullable StringBuilder target;
+		/**
+		 * The formatted entries of the section.<br>
+		 */
+		private final StringBuilder entries = new StringBuilder();
+		/**
+		 * The formatted nested sections of the section.<br>
+		 */
+		private final List<String> sections = new ArrayList<>();
+		/**
+		 * The formatted array of tables sections of the section.<br>
+		 */
+		private final StringBuilder arrayTables = new StringBuilder();
+		/**
+		 * The formatted values of an array or the formatted entries of an inline table.<br>
+		 */
+		private final List<String> values = new ArrayList<>();
+		/**
+		 * Whether the section contains at least one simple entry.<br>
+		 */
+		private boolean simple;
+		
+		/**
+		 * Constructs a new scope.<br>
+		 *
+		 * @param kind The kind of the scope
+		 * @param key The key of the scope in the enclosing table
+		 * @param path The path of the section
+		 * @param target The target to append the section to
+		 */
+		private Scope(@NonNull Kind kind, @Nullable String key, @NonNull String path, @Nullable StringBuilder target) {
+			this.kind = kind;
+			this.key = key;
+			this.path = path;
+			this.target = target;
+		}
+		
+		/**
+		 * Formats the section including the header, the entries and the nested sections.<br>
+		 * The header is omitted for the root table and for sections which only contain nested sections.<br>
+		 *
+		 * @param config The toml config
+		 * @return The formatted section
+		 */
+		private @NonNull String toSectionString(@NonNull TomlConfig config) {
+			StringBuilder builder = new StringBuilder();
+			if (!this.path.isEmpty() && (this.simple || (this.sections.isEmpty() && this.arrayTables.isEmpty()))) {
+				builder.append("[").append(this.path).append("]").append(System.lineSeparator());
+				builder.append(this.entries);
+			}
+			
+			for (String section : this.sections) {
+				if (config.prettyPrint() && this.simple) {
+					builder.append(System.lineSeparator());
+				}
+				builder.append(section);
+			}
+			return builder.append(this.arrayTables).toString();
+		}
+		
+		/**
+		 * Formats the table in the same way as {@link TomlTable#toString(TomlConfig)}.<br>
+		 *
+		 * @param config The toml config
+		 * @return The formatted table
+		 */
+		private @NonNull String toInlineTableString(@NonNull TomlConfig config) {
+			if (this.values.isEmpty()) {
+				return "{}";
+			}
+			if (config.useInlineTables() && this.values.size() <= config.maxInlineTableSize()) {
+				return "{" + String.join(", ", this.values) + "}";
+			}
+			
+			StringBuilder builder = new StringBuilder();
+			for (String value : this.values) {
+				builder.append(value).append(System.lineSeparator());
+			}
+			return builder.toString();
+		}
+		
+		/**
+		 * Formats the array in the same way as {@link TomlArray#toString(TomlConfig)}.<br>
+		 *
+		 * @param config The toml config
+		 * @return The formatted array
+		 */
+		private @NonNull String toArrayString(@NonNull TomlConfig config) {
+			if (this.values.isEmpty()) {
+				return "[]";
+			}
+			if (config.useInlineArrays() && this.values.size() <= config.maxInlineArraySize()) {
+				return "[" + String.join(", ", this.values) + "]";
+			}
+			
+			StringBuilder builder = new StringBuilder("[");
+			if (config.prettyPrint()) {
+				builder.append(System.lineSeparator());
+			}
+			for (String value : this.values) {
+				if (config.prettyPrint()) {
+					builder.append(config.indent());
+				}
+				builder.append(value).append(",");
+				if (config.prettyPrint()) {
+					builder.append(System.lineSeparator());
+				}
+			}
+			return builder.append("]").toString();
+		}
+	}
+}
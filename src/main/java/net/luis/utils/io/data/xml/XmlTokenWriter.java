@@ -0,0 +1,251 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.luis.utils.io.data.xml;
+
+import net.luis.utils.io.data.OutputProvider;
+import net.luis.utils.util.Version;
+import org.jspecify.annotations.NonNull;
+
+import java.io.*;
+import java.util.*;
+
+import static net.luis.utils.io.data.xml.XmlHelper.*;
+
+/**
+ * A streaming xml writer which writes the xml content tag by tag directly to the output.<br>
+ * In contrast to the {@link XmlWriter}, this writer does not require a xml element tree of the content.<br>
+ * <p>
+ *     The writer uses the pretty print and indent settings of the given {@link XmlConfig}.<br>
+ *     The output is equal to the output of the {@link XmlWriter} for the same content.
+ * </p>
+ * <p>
+ *     The xml declaration must be written before the root element if the configuration is strict,
+ *     otherwise a declaration with version 1.0 is written automatically.
+ * </p>
+ *
+ * @author Luis-St
+ */
+public class XmlTokenWriter implements AutoCloseable {
+	
+	/**
+	 * The stack of the names of the currently open elements.<br>
+	 */
+	private final Deque<OpenElement> elements = new ArrayDeque<>();
+	/**
+	 * The xml config used by this writer.<br>
+	 */
+	private final XmlConfig config;
+	/**
+	 * The internal writer used to write the xml content.<br>
+	 */
+	private final BufferedWriter writer;
+	/**
+	 * Whether the xml declaration has been written.<br>
+	 */
+	private boolean wroteDeclaration;
+	/**
+	 * Whether the root element has been written completely.<br>
+	 */
+	private boolean wroteRoot;
+	
+	/**
+	 * Constructs a new xml token writer with the default configuration.<br>
+	 *
+	 * @param output The output to create the writer for
+	 * @throws NullPointerException If the output is null
+	 */
+	public XmlTokenWriter(@NonNull OutputProvider output) {
+		this(output, XmlConfig.DEFAULT);
+	}
+	
+	/**
+	 * Constructs a new xml token writer with the given configuration.<br>
+	 *
+	 * @param output The output to create the writer for
+	 * @param config The configuration to use for the writer
+	 * @throws NullPointerException If the output or the configuration is null
+	 */
+	public XmlTokenWriter(@NonNull OutputProvider output, @NonNull XmlConfig config) {
+		this.config = Objects.requireNonNull(config, "Xml config must not be null");
+		this.writer = new BufferedWriter(new OutputStreamWriter(Objects.requireNonNull(output, "Output must not be null").getStream(), config.charset()));
+	}
+	
+	/**
+	 * Writes the given xml declaration.<br>
+	 *
+	 * @param declaration The xml declaration to write
+	 * @throws NullPointerException If the declaration is null
+	 * @throws IllegalStateException If the declaration was already written in strict mode or the root element has been started
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public void writeDeclaration(@NonNull XmlDeclaration declaration) {
+		Objects.requireNonNull(declaration, "Xml declaration must not be null");
+		if (!this.elements.isEmpty() || this.wroteRoot) {
+			throw new IllegalStateException("The xml declaration must be written before the root element");
+		}
+		
+		if (!this.wroteDeclaration) {
+			this.write(declaration.toString());
+			if (this.config.prettyPrint()) {
+				this.write(System.lineSeparator());
+			}
+			this.wroteDeclaration = true;
+		} else if (this.config.strict()) {
+			throw new IllegalStateException("The xml declaration was already written");
+		}
+	}
+	
+	/**
+	 * Writes the start tag of a new element with the given name.<br>
+	 * The element must be closed by {@link #endElement()}.<br>
+	 *
+	 * @param name The name of the element
+	 * @throws NullPointerException If the name is null
+	 * @throws IllegalArgumentException If the name is not a valid xml element name
+	 * @throws IllegalStateException If no element is expected at the current position
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public void beginElement(@NonNull String name) {
+		validateElementName(name);
+		this.beforeElement();
+		this.write("<" + name + ">");
+		this.elements.push(new OpenElement(name));
+	}
+	
+	/**
+	 * Writes the end tag of the current element.<br>
+	 *
+	 * @throws IllegalStateException If no element is open
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public void endElement() {
+		OpenElement element = this.elements.poll();
+		if (element == null) {
+			throw new IllegalStateException("Unable to write end tag without an open element");
+		}
+		
+		if (element.filled && this.config.prettyPrint()) {
+			this.write(System.lineSeparator() + this.config.indent().repeat(this.elements.size()));
+		}
+		this.write("</" + element.name + ">");
+		this.wroteRoot = this.elements.isEmpty();
+	}
+	
+	/**
+	 * Writes the given xml element including all nested elements.<br>
+	 *
+	 * @param element The xml element to write
+	 * @throws NullPointerException If the xml element is null
+	 * @throws IllegalStateException If no element is expected at the current position or the element can not be represented with the configuration
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public void element(@NonNull XmlElement element) {
+		Objects.requireNonNull(element, "Xml element must not be null");
+		
+		String content = element.toString(this.config);
+		this.beforeElement();
+		if (this.config.prettyPrint() && !this.elements.isEmpty()) {
+			content = content.replace(System.lineSeparator(), System.lineSeparator() + this.config.indent().repeat(this.elements.size()));
+		}
+		this.write(content);
+		this.wroteRoot = this.elements.isEmpty();
+	}
+	
+	/**
+	 * Flushes the written content to the output.<br>
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public void flush() {
+		try {
+			this.writer.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException("An I/O error occurred while flushing the xml content", e);
+		}
+	}
+	
+	/**
+	 * Prepares the output for the next element.<br>
+	 * Writes the declaration before the root element and the line break and indentation of child elements if required.<br>
+	 *
+	 * @throws IllegalStateException If the root element has already been written or the declaration is missing in strict mode
+	 */
+	private void beforeElement() {
+		OpenElement parent = this.elements.peek();
+		if (parent == null) {
+			if (this.wroteRoot) {
+				throw new IllegalStateException("Xml document already contains a root element");
+			}
+			if (!this.wroteDeclaration) {
+				if (this.config.strict()) {
+					throw new IllegalStateException("The xml declaration must be written before the xml element");
+				}
+				this.writeDeclaration(new XmlDeclaration(Version.of(1, 0)));
+			}
+			return;
+		}
+		
+		parent.filled = true;
+		if (this.config.prettyPrint()) {
+			this.write(System.lineSeparator() + this.config.indent().repeat(this.elements.size()));
+		}
+	}
+	
+	/**
+	 * Writes the given string to the internal writer.<br>
+	 *
+	 * @param string The string to write
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	private void write(@NonNull String string) {
+		try {
+			this.writer.write(string);
+		} catch (IOException e) {
+			throw new UncheckedIOException("An I/O error occurred while writing the xml content", e);
+		}
+	}
+	
+	@Override
+	public void close() throws IOException {
+		this.writer.close();
+	}
+	
+	/**
+	 * Internal class for an element whose end tag has not been written yet.<br>
+	 *
+	 * @author Luis-St
+	 */
+	private static final class OpenElement {
+		
+		/**
+		 * The name of the element.<br>
+		 */
+		private final String name;
+		/**
+		 * Whether the element contains at least one child element.<br>
+		 */
+		private boolean filled;
+		
+		/**
+		 * Constructs a new open element with the given name.<br>
+		 * @param name The name of the element
+		 */
+		private OpenElement(@NonNull String name) {
+			this.name = name;
+		}
+	}
+}
@@ -66,7 +66,7 @@ public class YamlMapping implements YamlElement {
 	 * @param key The key to format
 	 * @return The formatted key
 	 */
-	private static @NonNull String formatKey(@NonNull String key) {
+	static @NonNull String formatKey(@NonNull String key) {
 		if (key.isEmpty() || needsQuoting(key)) {
 			return "\"" + YamlHelper.escapeString(key) + "\"";
 		}
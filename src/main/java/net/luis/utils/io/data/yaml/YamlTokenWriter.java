@@ -0,0 +1,346 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.luis.utils.io.data.yaml;
+
+import net.luis.utils.io.data.OutputProvider;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * A streaming yaml writer which writes the yaml content token by token directly to the output.<br>
+ * In contrast to the {@link YamlWriter}, this writer does not require a yaml element tree of the content.<br>
+ * <p>
+ *     The writer uses the block style, indent and document marker settings of the given {@link YamlConfig}.<br>
+ *     The output is equal to the output of the {@link YamlWriter} for the same content.
+ * </p>
+ *
+ * @author Luis-St
+ */
+public class YamlTokenWriter implements AutoCloseable {
+	
+	/**
+	 * The stack of the currently open mappings and sequences.<br>
+	 */
+	private final Deque<Scope> scopes = new ArrayDeque<>();
+	/**
+	 * The yaml config used by this writer.<br>
+	 */
+	private final YamlConfig config;
+	/**
+	 * The internal writer used to write the yaml content.<br>
+	 */
+	private final BufferedWriter writer;
+	/**
+	 * The key of the next mapping entry or null if no key is pending.<br>
+	 */
+	private @Nullable String pendingKey;
+	/**
+	 * Whether the root element has been started.<br>
+	 */
+	private boolean started;
+	
+	/**
+	 * Constructs a new yaml token writer with the default configuration.<br>
+	 *
+	 * @param output The output to create the writer for
+	 * @throws NullPointerException If the output is null
+	 */
+	public YamlTokenWriter(@NonNull OutputProvider output) {
+		this(output, YamlConfig.DEFAULT);
+	}
+	
+	/**
+	 * Constructs a new yaml token writer with the given configuration.<br>
+	 *
+	 * @param output The output to create the writer for
+	 * @param config The configuration to use for the writer
+	 * @throws NullPointerException If the output or the configuration is null
+	 */
+	public YamlTokenWriter(@NonNull OutputProvider output, @NonNull YamlConfig config) {
+		this.config = Objects.requireNonNull(config, "Yaml config must not be null");
+		this.writer = new BufferedWriter(new OutputStreamWriter(Objects.requireNonNull(output, "Output must not be null").getStream(), config.charset()));
+	}
+	
+	/**
+	 * Begins a new yaml sequence.<br>
+	 * The sequence must be closed by {@link #endSequence()}.<br>
+	 *
+	 * @throws IllegalStateException If no value is expected at the current position
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public void beginSequence() {
+		this.begin(false);
+	}
+	
+	/**
+	 * Ends the current yaml sequence.<br>
+	 *
+	 * @throws IllegalStateException If the current scope is not a sequence
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public void endSequence() {
+		this.end(false);
+	}
+	
+	/**
+	 * Begins a new yaml mapping.<br>
+	 * The mapping must be closed by {@link #endMapping()}.<br>
+	 *
+	 * @throws IllegalStateException If no value is expected at the current position
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public void beginMapping() {
+		this.begin(true);
+	}
+	
+	/**
+	 * Ends the current yaml mapping.<br>
+	 *
+	 * @throws IllegalStateException If the current scope is not a mapping
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public void endMapping() {
+		this.pendingKey = null;
+		this.end(true);
+	}
+	
+	/**
+	 * Sets the key of the next mapping entry.<br>
+	 * The key is written together with the next value, a key without value is replaced by the next key.<br>
+	 *
+	 * @param key The key of the next entry
+	 * @throws NullPointerException If the key is null
+	 * @throws IllegalStateException If the current scope is not a mapping
+	 */
+	public void key(@NonNull String key) {
+		Objects.requireNonNull(key, "Key must not be null");
+		Scope scope = this.scopes.peek();
+		if (scope == null || !scope.mapping) {
+			throw new IllegalStateException("Unable to write key '" + key + "' outside of a yaml mapping");
+		}
+		this.pendingKey = key;
+	}
+	
+	/**
+	 * Writes the given yaml element.<br>
+	 * Mappings and sequences are written recursively, all other elements are written by their string representation.<br>
+	 *
+	 * @param element The yaml element to write
+	 * @throws NullPointerException If the yaml element is null
+	 * @throws IllegalStateException If no value is expected at the current position
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public void element(@NonNull YamlElement element) {
+		Objects.requireNonNull(element, "Yaml element must not be null");
+		
+		if (element.isYamlMapping()) {
+			this.beginMapping();
+			for (Map.Entry<String, YamlElement> entry : element.getAsYamlMapping().entrySet()) {
+				this.key(entry.getKey());
+				this.element(entry.getValue());
+			}
+			this.endMapping();
+		} else if (element.isYamlSequence()) {
+			this.beginSequence();
+			for (YamlElement value : element.getAsYamlSequence()) {
+				this.element(value);
+			}
+			this.endSequence();
+		} else {
+			Scope scope = this.scopes.peek();
+			String prefix = this.beforeValue();
+			String value = element.toString(this.config);
+			if (this.config.useBlockStyle()) {
+				if (!prefix.isEmpty()) {
+					value = value.replace(System.lineSeparator(), System.lineSeparator() + prefix);
+				}
+				if (scope != null && scope.mapping) {
+					value = " " + value;
+				}
+			}
+			this.write(value);
+			this.afterValue();
+		}
+	}
+	
+	/**
+	 * Flushes the written content to the output.<br>
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public void flush() {
+		try {
+			this.writer.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException("An I/O error occurred while flushing the yaml content", e);
+		}
+	}
+	
+	/**
+	 * Begins a new mapping or sequence scope.<br>
+	 * In flow style the opening bracket is written immediately, in block style the content starts with the first entry.<br>
+	 *
+	 * @param mapping Whether the scope is a mapping
+	 * @throws IllegalStateException If no value is expected at the current position
+	 */
+	private void begin(boolean mapping) {
+		Scope parent = this.scopes.peek();
+		this.beforeValue();
+		
+		String prefix = parent == null ? "" : parent.prefix + this.config.indent();
+		this.scopes.push(new Scope(mapping, prefix, parent != null && parent.mapping));
+		if (!this.config.useBlockStyle()) {
+			this.write(mapping ? "{" : "[");
+		}
+	}
+	
+	/**
+	 * Ends the current scope if it is of the expected type.<br>
+	 * Empty scopes are written as empty flow collection, since block style can not represent them.<br>
+	 *
+	 * @param mapping Whether the scope is expected to be a mapping
+	 * @throws IllegalStateException If the current scope is not of the expected type
+	 */
+	private void end(boolean mapping) {
+		Scope scope = this.scopes.peek();
+		if (scope == null || scope.mapping != mapping) {
+			throw new IllegalStateException("Unable to end yaml " + (mapping ? "mapping" : "sequence") + " outside of a yaml " + (mapping ? "mapping" : "sequence"));
+		}
+		
+		this.scopes.pop();
+		if (!this.config.useBlockStyle()) {
+			this.write(mapping ? "}" : "]");
+		} else if (scope.size == 0) {
+			this.write((scope.afterKey ? " " : "") + (mapping ? "{}" : "[]"));
+		}
+		this.afterValue();
+	}
+	
+	/**
+	 * Prepares the output for the next value in the current scope.<br>
+	 * Writes the document start marker, the separator to the previous value, the key of mapping entries and the sequence item indicator.<br>
+	 *
+	 * @return The prefix which must be inserted after each line break of a value written by its string representation
+	 * @throws IllegalStateException If no value is expected at the current position
+	 */
+	private @NonNull String beforeValue() {
+		Scope scope = this.scopes.peek();
+		if (scope == null) {
+			if (this.started) {
+				throw new IllegalStateException("Yaml document already contains a root element");
+			}
+			if (this.config.useDocumentMarkers()) {
+				this.write("---" + System.lineSeparator());
+			}
+			this.started = true;
+			return "";
+		}
+		
+		if (scope.mapping && this.pendingKey == null) {
+			throw new IllegalStateException("Expected a key before the value of a yaml mapping entry");
+		}
+		
+		boolean block = this.config.useBlockStyle();
+		if (scope.size > 0) {
+			this.write(block ? System.lineSeparator() + scope.prefix : ", ");
+		} else if (block && scope.afterKey) {
+			this.write(System.lineSeparator() + scope.prefix);
+		}
+		scope.size++;
+		
+		if (scope.mapping) {
+			this.write(YamlMapping.formatKey(this.pendingKey) + (block ? ":" : ": "));
+			this.pendingKey = null;
+			return scope.prefix;
+		}
+		
+		if (block) {
+			this.write("- ");
+		}
+		return scope.prefix + this.config.indent();
+	}
+	
+	/**
+	 * Completes the document if the written value was the root element.<br>
+	 * Writes the document end marker if configured.<br>
+	 */
+	private void afterValue() {
+		if (this.scopes.isEmpty() && this.config.useDocumentMarkers()) {
+			this.write(System.lineSeparator() + "...");
+		}
+	}
+	
+	/**
+	 * Writes the given string to the internal writer.<br>
+	 *
+	 * @param string The string to write
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	private void write(@NonNull String string) {
+		try {
+			this.writer.write(string);
+		} catch (IOException e) {
+			throw new UncheckedIOException("An I/O error occurred while writing the yaml content", e);
+		}
+	}
+	
+	@Override
+	public void close() throws IOException {
+		this.writer.close();
+	}
+	
+	/**
+	 * Internal class for a mapping or sequence which has not been ended yet.<br>
+	 *
+	 * @author Luis-St
+	 */
+	private static final class Scope {
+		
+		/**
+		 * Whether the scope is a mapping or a sequence.<br>
+		 */
+		private final boolean mapping;
+		/**
+		 * The indentation of the lines of this scope.<br>
+		 */
+		private final String prefix;
+		/**
+		 * Whether the scope is the value of a mapping entry.<br>
+		 */
+		private final boolean afterKey;
+		/**
+		 * The number of values written in this scope.<br>
+		 */
+		private int size;
+		
+		/**
+		 * Constructs a new scope.<br>
+		 *
+		 * @param mapping Whether the scope is a mapping
+		 * @param prefix The indentation of the lines of this scope
+		 * @param afterKey Whether the scope is the value of a mapping entry
+		 */
+		private Scope(boolean mapping, @NonNull String prefix, boolean afterKey) {
+			this.mapping = mapping;
+			this.prefix = prefix;
+			this.afterKey = afterKey;
+		}
+	}
+}
@@ -51,29 +51,73 @@ public interface SqlConnectionSource {
 		Objects.requireNonNull(dataSource, "Data source must not be null");
 		
 		return () -> {
-			Connection connection;
 			try {
-				connection = dataSource.getConnection();
+				return releasing(dataSource.getConnection());
 			} catch (SQLException e) {
 				throw new SqlConnectionException("Failed to obtain connection from data source", e);
 			}
+		};
+	}
+	
+	/**
+	 * Creates a connection source that routes connections through the given replica router.<br>
+	 * Handles opened from the source use the primary data source, while the source returned by {@link #forReads()} uses the read replicas.<br>
+	 * Closing a handle returned by either source releases the connection back to its data source.<br>
+	 *
+	 * @param router The replica router to obtain connections from
+	 * @return A connection source backed by the given replica router
+	 * @throws NullPointerException If the router is null
+	 */
+	static @NonNull SqlConnectionSource replicated(@NonNull SqlReplicaRouter router) {
+		Objects.requireNonNull(router, "Sql replica router must not be null");
+		
+		SqlConnectionSource reads = () -> {
+			try {
+				return releasing(router.getReadConnection());
+			} catch (SQLException e) {
+				throw new SqlConnectionException("Failed to obtain connection from read replicas", e);
+			}
+		};
+		return new SqlConnectionSource() {
 			
-			return new SqlConnectionHandle() {
-				
-				@Override
-				public @NonNull Connection connection() {
-					return connection;
+			@Override
+			public @NonNull SqlConnectionHandle open() throws SqlException {
+				try {
+					return releasing(router.getWriteConnection());
+				} catch (SQLException e) {
+					throw new SqlConnectionException("Failed to obtain connection from data source", e);
 				}
-				
-				@Override
-				public void close() throws SqlException {
-					try {
-						connection.close();
-					} catch (SQLException e) {
-						throw new SqlConnectionException("Failed to release connection to data source", e);
-					}
+			}
+			
+			@Override
+			public @NonNull SqlConnectionSource forReads() {
+				return reads;
+			}
+		};
+	}
+	
+	/**
+	 * Creates a connection handle which closes the given connection when the handle is closed.<br>
+	 *
+	 * @param connection The connection to wrap
+	 * @return The created connection handle
+	 */
+	private static @NonNull SqlConnectionHandle releasing(@NonNull Connection connection) {
+		return new SqlConnectionHandle() {
+			
+			@Override
+			public @NonNull Connection connection() {
+				return connection;
+			}
+			
+			@Override
+			public void close() throws SqlException {
+				try {
+					connection.close();
+				} catch (SQLException e) {
+					throw new SqlConnectionException("Failed to release connection to data source", e);
 				}
-			};
+			}
 		};
 	}
 	
@@ -107,4 +151,46 @@ public interface SqlConnectionSource {
 	 * @throws SqlException If a connection could not be obtained
 	 */
 	@NonNull SqlConnectionHandle open() throws SqlException;
+	
+	/**
+	 * Returns the connection source used for reads which do not lock rows.<br>
+	 * <p>
+	 *     By default reads use the same connections as writes, so this source is returned.<br>
+	 *     Sources backed by a {@link SqlReplicaRouter} return a source which obtains its connections from the read replicas.
+	 * </p>
+	 *
+	 * @return The connection source for reads
+	 */
+	default @NonNull SqlConnectionSource forReads() {
+		return this;
+	}
+	
+	/**
+	 * Returns whether the connections of this source are bound to an active transaction.<br>
+	 * <p>
+	 *     Changes made through the connections of such a source are not visible to other connections until the transaction is committed,
+	 *     so shared state like the {@link net.luis.utils.io.database.table.SqlEntityCache entity cache} must not be populated from them.<br>
+	 *     By default the connections of a source commit every statement immediately, so this method returns false.
+	 * </p>
+	 *
+	 * @return True if this source is bound to an active transaction, otherwise false
+	 */
+	default boolean inTransaction() {
+		return false;
+	}
+	
+	/**
+	 * Runs the given action once the changes made through the connections of this source are completed.<br>
+	 * <p>
+	 *     By default the connections of a source commit every statement immediately, so the action is run directly.<br>
+	 *     Sources bound to a transaction defer the action until the transaction has been committed or rolled back.
+	 * </p>
+	 *
+	 * @param action The action to run
+	 * @throws NullPointerException If the action is null
+	 */
+	default void afterCompletion(@NonNull Runnable action) {
+		Objects.requireNonNull(action, "Action must not be null");
+		action.run();
+	}
 }
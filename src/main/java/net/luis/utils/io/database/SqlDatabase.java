@@ -30,18 +30,26 @@ import net.luis.utils.io.database.table.SqlTableProvider;
 import net.luis.utils.io.database.transaction.*;
 import org.jetbrains.annotations.UnknownNullability;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 import javax.sql.DataSource;
 import java.io.Closeable;
 import java.sql.*;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Represents a fully configured database that acts as the central entry point for all database operations.<br>
  * A database wraps a {@link DataSource}, an {@link SqlDialect} and a set of default behaviors and exposes
  * schema management, table and query access, transactions and sessions through these.<br>
  * Instances are created through the {@link SqlDatabaseBuilder} obtained from {@link #builder(DataSource, SqlDialect)}.<br>
+ * <p>
+ *     If read replicas are configured, read-only transactions and selects outside of transactions and sessions are routed
+ *     to the replicas by a {@link SqlReplicaRouter}, while all other operations use the primary data source.
+ * </p>
  *
  * @see SqlDatabaseBuilder
  * @see SqlProvider
@@ -85,9 +93,13 @@ public class SqlDatabase implements SqlProvider, AutoCloseable {
 	 * The transaction manager used to create and manage transactions for this database.<br>
 	 */
 	private final SqlTransactionManager transactionManager;
+	/**
+	 * The router used to distribute reads across the read replicas, or {@code null} if no replicas are configured.<br>
+	 */
+	private final @Nullable SqlReplicaRouter replicaRouter;
 	
 	/**
-	 * Constructs a new sql database with the given configuration.<br>
+	 * Constructs a new sql database with the given configuration and without read replicas.<br>
 	 * This constructor is package-private; instances are created through the {@link SqlDatabaseBuilder}.<br>
 	 *
 	 * @param dataSource The data source used to obtain connections to the underlying database
@@ -110,6 +122,37 @@ public class SqlDatabase implements SqlProvider, AutoCloseable {
 		@NonNull SqlPropagation defaultTransactionPropagation,
 		boolean autoCloseDataSource,
 		@NonNull SqlAuditUserProvider auditUserProvider
+	) throws SqlConnectionException {
+		this(dataSource, dialect, queryTimeout, connectionAcquisitionTimeout, defaultTransactionIsolationLevel, defaultTransactionPropagation, autoCloseDataSource, auditUserProvider, null);
+	}
+	
+	/**
+	 * Constructs a new sql database with the given configuration.<br>
+	 * This constructor is package-private; instances are created through the {@link SqlDatabaseBuilder}.<br>
+	 *
+	 * @param dataSource The data source used to obtain connections to the underlying database
+	 * @param dialect The sql dialect used to render statements
+	 * @param queryTimeout The timeout applied to individual queries
+	 * @param connectionAcquisitionTimeout The timeout applied when acquiring a connection from the data source
+	 * @param defaultTransactionIsolationLevel The default isolation level for transactions
+	 * @param defaultTransactionPropagation The default propagation behavior for transactions
+	 * @param autoCloseDataSource Whether the data source should be closed when this database is closed
+	 * @param auditUserProvider The audit user provider used for audited operations
+	 * @param replicaRouter The router used to distribute reads across the read replicas, or {@code null} if no replicas are configured
+	 * @throws NullPointerException If any of the non-primitive arguments except the replica router is null
+	 * @throws IllegalArgumentException If the primary data source of the replica router is not the given data source
+	 * @throws SqlConnectionException If the connection to the underlying database can not be established
+	 */
+	SqlDatabase(
+		@NonNull DataSource dataSource,
+		@NonNull SqlDialect dialect,
+		@NonNull Duration queryTimeout,
+		@NonNull Duration connectionAcquisitionTimeout,
+		@NonNull SqlIsolationLevel defaultTransactionIsolationLevel,
+		@NonNull SqlPropagation defaultTransactionPropagation,
+		boolean autoCloseDataSource,
+		@NonNull SqlAuditUserProvider auditUserProvider,
+		@Nullable SqlReplicaRouter replicaRouter
 	) throws SqlConnectionException {
 		this.dataSource = Objects.requireNonNull(dataSource, "Data source must not be null");
 		this.dialect = Objects.requireNonNull(dialect, "Sql dialect must not be null");
@@ -118,7 +161,11 @@ public class SqlDatabase implements SqlProvider, AutoCloseable {
 		this.defaultTransactionPropagation = Objects.requireNonNull(defaultTransactionPropagation, "Default transaction propagation behavior must not be null");
 		this.autoCloseDataSource = autoCloseDataSource;
 		this.auditUserProvider = Objects.requireNonNull(auditUserProvider, "Audit user provider must not be null");
-		this.transactionManager = new SqlTransactionManager(dataSource, dialect, queryTimeout, connectionAcquisitionTimeout);
+		if (replicaRouter != null && replicaRouter.getPrimary() != dataSource) {
+			throw new IllegalArgumentException("The primary data source of the replica router must be the data source of the database");
+		}
+		this.replicaRouter = replicaRouter;
+		this.transactionManager = new SqlTransactionManager(dataSource, dialect, queryTimeout, connectionAcquisitionTimeout, replicaRouter);
 	}
 	
 	/**
@@ -158,27 +205,42 @@ public class SqlDatabase implements SqlProvider, AutoCloseable {
 	}
 	
 	/**
-	 * Checks the health of this database by validating a connection with a timeout of five seconds.<br>
+	 * Returns the router used by this database to distribute reads across the read replicas.<br>
+	 * @return The replica router, or an empty optional if no replicas are configured
+	 */
+	public @NonNull Optional<SqlReplicaRouter> getReplicaRouter() {
+		return Optional.ofNullable(this.replicaRouter);
+	}
+	
+	/**
+	 * Validates a connection obtained from the given data source with the given timeout.<br>
+	 *
+	 * @param dataSource The data source to obtain the connection from
+	 * @param timeoutSeconds The timeout of the validation in seconds
 	 * @return {@code true} if a valid connection could be obtained, {@code false} otherwise
 	 */
-	public boolean health() {
-		try (Connection connection = this.dataSource.getConnection()) {
-			return connection.isValid(5);
+	static boolean isValid(@NonNull DataSource dataSource, int timeoutSeconds) {
+		try (Connection connection = dataSource.getConnection()) {
+			return connection.isValid(timeoutSeconds);
 		} catch (SQLException e) {
 			return false;
 		}
 	}
 	
+	/**
+	 * Checks the health of this database by validating a connection with a timeout of five seconds.<br>
+	 * @return {@code true} if a valid connection could be obtained, {@code false} otherwise
+	 */
+	public boolean health() {
+		return isValid(this.dataSource, 5);
+	}
+	
 	/**
 	 * Pings this database by validating a connection with a timeout of one second.<br>
 	 * @return {@code true} if a valid connection could be obtained, {@code false} otherwise
 	 */
 	public boolean ping() {
-		try (Connection connection = this.dataSource.getConnection()) {
-			return connection.isValid(1);
-		} catch (SQLException e) {
-			return false;
-		}
+		return isValid(this.dataSource, 1);
 	}
 	
 	@Override
@@ -239,7 +301,8 @@ public class SqlDatabase implements SqlProvider, AutoCloseable {
 	@Override
 	public @NonNull <T> SqlQueryProvider<T> from(@NonNull SqlTable<T> table) throws SqlException {
 		Objects.requireNonNull(table, "Sql table must not be null");
-		return new SqlQueryProvider<>(table, this.dialect, SqlConnectionSource.pooled(this.dataSource), this.queryTimeout, this.auditUserProvider, null);
+		SqlConnectionSource source = this.replicaRouter != null ? SqlConnectionSource.replicated(this.replicaRouter) : SqlConnectionSource.pooled(this.dataSource);
+		return new SqlQueryProvider<>(table, this.dialect, source, this.queryTimeout, this.auditUserProvider, null);
 	}
 	
 	/**
@@ -291,6 +354,7 @@ public class SqlDatabase implements SqlProvider, AutoCloseable {
 	/**
 	 * Executes the given action inside a newly started transaction and returns its result.<br>
 	 * The transaction is committed if the action completes normally and rolled back if it throws.<br>
+	 * Within a {@link SqlTransactionContext} the transaction is tracked by the scoped context instead of the current thread.<br>
 	 *
 	 * @param action The action to execute within the transaction
 	 * @param <T> The type of the result produced by the action
@@ -388,7 +452,7 @@ public class SqlDatabase implements SqlProvider, AutoCloseable {
 	 */
 	public @NonNull SqlSession openSession(@NonNull SqlTransaction transaction) {
 		Objects.requireNonNull(transaction, "Sql transaction must not be null");
-		return new SqlSession(this, SqlConnectionSource.fixed(transaction.getConnection()), this.queryTimeout, null, transaction);
+		return new SqlSession(this, transaction.connectionSource(), this.queryTimeout, null, transaction);
 	}
 	
 	/**
@@ -404,25 +468,71 @@ public class SqlDatabase implements SqlProvider, AutoCloseable {
 		Objects.requireNonNull(transaction, "Sql transaction must not be null");
 		Objects.requireNonNull(auditUserProvider, "Audit user provider must not be null");
 		
-		return new SqlSession(this, SqlConnectionSource.fixed(transaction.getConnection()), this.queryTimeout, auditUserProvider, transaction);
+		return new SqlSession(this, transaction.connectionSource(), this.queryTimeout, auditUserProvider, transaction);
 	}
 	
+	/**
+	 * Closes this database.<br>
+	 * <p>
+	 *     The background health checks of the replica router are stopped.<br>
+	 *     If the data source should be closed, the primary and all replica data sources are closed.
+	 *     Every data source is closed even if closing another one fails, the first failure is thrown
+	 *     and further failures are added to it as suppressed exceptions.
+	 * </p>
+	 *
+	 * @throws SqlException If closing a data source fails
+	 */
 	@Override
 	public void close() throws SqlException {
-		if (this.autoCloseDataSource) {
-			if (this.dataSource instanceof Closeable closeable) {
-				try {
-					closeable.close();
-				} catch (Exception e) {
-					throw new SqlException("Failed to close data source", e);
-				}
-			} else if (this.dataSource instanceof AutoCloseable autoCloseable) {
-				try {
-					autoCloseable.close();
-				} catch (Exception e) {
-					throw new SqlException("Failed to close data source", e);
+		if (this.replicaRouter != null) {
+			this.replicaRouter.stopHealthChecks();
+		}
+		if (!this.autoCloseDataSource) {
+			return;
+		}
+		
+		List<DataSource> dataSources = new ArrayList<>();
+		dataSources.add(this.dataSource);
+		if (this.replicaRouter != null) {
+			dataSources.addAll(this.replicaRouter.getReplicas());
+		}
+		
+		SqlException failure = null;
+		for (DataSource dataSource : dataSources) {
+			try {
+				closeDataSource(dataSource);
+			} catch (SqlException e) {
+				if (failure == null) {
+					failure = e;
+				} else {
+					failure.addSuppressed(e);
 				}
 			}
 		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+	
+	/**
+	 * Closes the given data source if it is closeable.<br>
+	 *
+	 * @param dataSource The data source to close
+	 * @throws SqlException If closing the data source fails
+	 */
+	private static void closeDataSource(@NonNull DataSource dataSource) throws SqlException {
+		if (dataSource instanceof Closeable closeable) {
+			try {
+				closeable.close();
+			} catch (Exception e) {
+				throw new SqlException("Failed to close data source", e);
+			}
+		} else if (dataSource instanceof AutoCloseable autoCloseable) {
+			try {
+				autoCloseable.close();
+			} catch (Exception e) {
+				throw new SqlException("Failed to close data source", e);
+			}
+		}
 	}
 }
@@ -23,10 +23,11 @@ import net.luis.utils.io.database.dialect.SqlDialect;
 import net.luis.utils.io.database.exception.database.SqlConnectionException;
 import net.luis.utils.io.database.transaction.*;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 import javax.sql.DataSource;
 import java.time.Duration;
-import java.util.Objects;
+import java.util.*;
 
 /**
  * A fluent builder for {@link SqlDatabase} instances.<br>
@@ -72,6 +73,22 @@ public class SqlDatabaseBuilder {
 	 * The audit user provider used for audited operations, defaulting to an empty provider.<br>
 	 */
 	private SqlAuditUserProvider auditUserProvider = SqlAuditUserProvider.empty();
+	/**
+	 * The read replica data sources, defaulting to no replicas.<br>
+	 */
+	private final List<DataSource> replicas = new ArrayList<>();
+	/**
+	 * The strategy used to distribute reads across the replicas, defaulting to {@link SqlReplicaRouting#ROUND_ROBIN}.<br>
+	 */
+	private SqlReplicaRouting replicaRouting = SqlReplicaRouting.ROUND_ROBIN;
+	/**
+	 * The time a failing replica is skipped before it is validated again, defaulting to thirty seconds.<br>
+	 */
+	private Duration replicaRetryInterval = Duration.ofSeconds(30);
+	/**
+	 * The interval between two background health checks of the replicas, defaulting to {@code null} for no background health checks.<br>
+	 */
+	private @Nullable Duration replicaHealthCheckInterval;
 	
 	/**
 	 * Constructs a new database builder using the given data source and dialect.<br>
@@ -156,13 +173,88 @@ public class SqlDatabaseBuilder {
 		return this;
 	}
 	
+	/**
+	 * Adds a read replica data source to the built database.<br>
+	 * Read-only transactions and selects outside of transactions and sessions are distributed across the added replicas.<br>
+	 *
+	 * @param replica The replica data source to add
+	 * @return This builder for chaining
+	 * @throws NullPointerException If the replica data source is null
+	 * @throws IllegalArgumentException If the replica data source is the primary data source
+	 * @see SqlReplicaRouter
+	 */
+	public @NonNull SqlDatabaseBuilder replica(@NonNull DataSource replica) {
+		Objects.requireNonNull(replica, "Replica data source must not be null");
+		if (replica == this.dataSource) {
+			throw new IllegalArgumentException("The primary data source can not be added as a replica");
+		}
+		this.replicas.add(replica);
+		return this;
+	}
+	
+	/**
+	 * Sets the strategy used to distribute reads across the read replicas.<br>
+	 *
+	 * @param replicaRouting The replica routing to use
+	 * @return This builder for chaining
+	 * @throws NullPointerException If the replica routing is null
+	 */
+	public @NonNull SqlDatabaseBuilder replicaRouting(@NonNull SqlReplicaRouting replicaRouting) {
+		this.replicaRouting = Objects.requireNonNull(replicaRouting, "Replica routing must not be null");
+		return this;
+	}
+	
+	/**
+	 * Sets the time a failing read replica is skipped before it is validated again.<br>
+	 *
+	 * @param replicaRetryInterval The replica retry interval to use
+	 * @return This builder for chaining
+	 * @throws NullPointerException If the replica retry interval is null
+	 * @throws IllegalArgumentException If the replica retry interval is negative
+	 */
+	public @NonNull SqlDatabaseBuilder replicaRetryInterval(@NonNull Duration replicaRetryInterval) {
+		Objects.requireNonNull(replicaRetryInterval, "Replica retry interval must not be null");
+		if (replicaRetryInterval.isNegative()) {
+			throw new IllegalArgumentException("Replica retry interval must not be negative, but was " + replicaRetryInterval);
+		}
+		this.replicaRetryInterval = replicaRetryInterval;
+		return this;
+	}
+	
+	/**
+	 * Sets the interval between two background health checks of the read replicas.<br>
+	 * <p>
+	 *     If set, the {@link SqlReplicaRouter} of the built database {@link SqlReplicaRouter#startHealthChecks(Duration) checks the health}
+	 *     of all replicas periodically, until the database is closed.<br>
+	 *     By default the replicas are only validated when a read is routed to an ejected replica.
+	 * </p>
+	 *
+	 * @param replicaHealthCheckInterval The replica health check interval to use
+	 * @return This builder for chaining
+	 * @throws NullPointerException If the replica health check interval is null
+	 * @throws IllegalArgumentException If the replica health check interval is not positive
+	 */
+	public @NonNull SqlDatabaseBuilder replicaHealthCheckInterval(@NonNull Duration replicaHealthCheckInterval) {
+		Objects.requireNonNull(replicaHealthCheckInterval, "Replica health check interval must not be null");
+		if (replicaHealthCheckInterval.isNegative() || replicaHealthCheckInterval.isZero()) {
+			throw new IllegalArgumentException("Replica health check interval must be positive, but was " + replicaHealthCheckInterval);
+		}
+		this.replicaHealthCheckInterval = replicaHealthCheckInterval;
+		return this;
+	}
+	
 	/**
 	 * Builds a new database from the current configuration of this builder.<br>
+	 * If read replicas were added, the database routes reads through a {@link SqlReplicaRouter}.<br>
 	 *
 	 * @return The configured database
 	 * @throws SqlConnectionException If the connection to the underlying database can not be established
 	 */
 	public @NonNull SqlDatabase build() throws SqlConnectionException {
+		SqlReplicaRouter replicaRouter = this.replicas.isEmpty() ? null : new SqlReplicaRouter(this.dataSource, this.replicas, this.replicaRouting, this.replicaRetryInterval);
+		if (replicaRouter != null && this.replicaHealthCheckInterval != null) {
+			replicaRouter.startHealthChecks(this.replicaHealthCheckInterval);
+		}
 		return new SqlDatabase(
 			this.dataSource,
 			this.dialect,
@@ -171,7 +263,8 @@ public class SqlDatabaseBuilder {
 			this.defaultTransactionIsolationLevel,
 			this.defaultTransactionPropagation,
 			this.autoCloseDataSource,
-			this.auditUserProvider
+			this.auditUserProvider,
+			replicaRouter
 		);
 	}
 }
@@ -0,0 +1,73 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.database;
+
+import org.jetbrains.annotations.Unmodifiable;
+import org.jspecify.annotations.NonNull;
+
+import java.util.*;
+
+/**
+ * Represents a single page of results obtained from a keyset paginated sql query.<br>
+ * In contrast to a {@link SqlPage}, the following page is not addressed by its index but by the continuation token of this page.<br>
+ *
+ * @see SqlKeysetToken
+ *
+ * @author Luis-St
+ *
+ * @param <T> The type of the elements contained in the page
+ * @param content The elements contained in this page
+ * @param pageSize The maximum number of elements per page
+ * @param next The continuation token of the following page, or an empty optional if this is the last page
+ */
+public record SqlKeysetPage<T>(
+	@NonNull @Unmodifiable List<T> content,
+	int pageSize,
+	@NonNull Optional<SqlKeysetToken> next
+) {
+	
+	/**
+	 * Constructs a new sql keyset page with the given content and continuation token.<br>
+	 * The given content is copied into an unmodifiable list.<br>
+	 *
+	 * @param content The elements contained in this page
+	 * @param pageSize The maximum number of elements per page
+	 * @param next The continuation token of the following page, or an empty optional if this is the last page
+	 * @throws NullPointerException If the content or the continuation token optional is null
+	 * @throws IllegalArgumentException If the page size is not positive
+	 */
+	public SqlKeysetPage {
+		Objects.requireNonNull(content, "Sql page content must not be null");
+		Objects.requireNonNull(next, "Sql keyset token must not be null");
+		
+		if (pageSize <= 0) {
+			throw new IllegalArgumentException("Sql page size must be positive");
+		}
+		
+		content = List.copyOf(content);
+	}
+	
+	/**
+	 * Checks whether a following page exists.<br>
+	 * @return {@code true} if a continuation token is present, otherwise {@code false}
+	 */
+	public boolean hasNext() {
+		return this.next.isPresent();
+	}
+}
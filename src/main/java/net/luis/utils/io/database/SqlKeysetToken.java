@@ -0,0 +1,65 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.database;
+
+import org.jetbrains.annotations.Unmodifiable;
+import org.jspecify.annotations.NonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The continuation token of a keyset paginated sql query.<br>
+ * <p>
+ *     The token holds the values of the {@code ORDER BY} expressions of the last row of a page,
+ *     followed by the values of the primary key columns which were appended as tiebreakers.<br>
+ *     The following page starts directly after this row, so its cost does not depend on the number of preceding pages.
+ * </p>
+ * <p>
+ *     The token is opaque to the caller, it is only valid for the query which created it.<br>
+ *     Passing it to a query with a different {@code ORDER BY} clause leads to undefined results.
+ * </p>
+ *
+ * @see SqlKeysetPage
+ *
+ * @author Luis-St
+ *
+ * @param values The values of the order by expressions of the last row in order
+ */
+public record SqlKeysetToken(
+	@NonNull @Unmodifiable List<Object> values
+) {
+	
+	/**
+	 * Constructs a new keyset token with the given key values.<br>
+	 * The given values are copied into an unmodifiable list.<br>
+	 *
+	 * @param values The values of the order by expressions of the last row in order
+	 * @throws NullPointerException If the values or any of the values is null
+	 * @throws IllegalArgumentException If the values are empty
+	 */
+	public SqlKeysetToken {
+		Objects.requireNonNull(values, "Sql keyset values must not be null");
+		if (values.isEmpty()) {
+			throw new IllegalArgumentException("Sql keyset values must not be empty");
+		}
+		
+		values = List.copyOf(values);
+	}
+}
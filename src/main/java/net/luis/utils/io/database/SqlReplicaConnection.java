@@ -0,0 +1,393 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.database;
+
+import org.jspecify.annotations.NonNull;
+
+import java.sql.*;
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Connection borrowed from a read replica by a {@link SqlReplicaRouter}.<br>
+ * <p>
+ *     All calls are delegated to the connection obtained from the replica.<br>
+ *     The load of the replica is released once the connection is closed or aborted for the first time,
+ *     so a connection which is aborted by a pool or a timeout does not keep counting towards the load of the replica.
+ * </p>
+ *
+ * @author Luis-St
+ */
+final class SqlReplicaConnection implements Connection {
+	
+	/**
+	 * The connection obtained from the replica.<br>
+	 */
+	private final Connection connection;
+	/**
+	 * The load of the replica the connection was borrowed from.<br>
+	 */
+	private final AtomicInteger load;
+	/**
+	 * Whether the load of the replica has already been released.<br>
+	 */
+	private final AtomicBoolean released = new AtomicBoolean();
+	
+	/**
+	 * Constructs a new replica connection and increases the given load.<br>
+	 *
+	 * @param connection The connection obtained from the replica
+	 * @param load The load of the replica the connection was borrowed from
+	 * @throws NullPointerException If the connection or load is null
+	 */
+	SqlReplicaConnection(@NonNull Connection connection, @NonNull AtomicInteger load) {
+		this.connection = Objects.requireNonNull(connection, "Connection must not be null");
+		this.load = Objects.requireNonNull(load, "Replica load must not be null");
+		this.load.incrementAndGet();
+	}
+	
+	/**
+	 * Releases the load of the replica if it has not been released yet.<br>
+	 */
+	private void release() {
+		if (this.released.compareAndSet(false, true)) {
+			this.load.decrementAndGet();
+		}
+	}
+	
+	@Override
+	public void close() throws SQLException {
+		try {
+			this.connection.close();
+		} finally {
+			this.release();
+		}
+	}
+	
+	@Override
+	public void abort(Executor executor) throws SQLException {
+		try {
+			this.connection.abort(executor);
+		} finally {
+			this.release();
+		}
+	}
+	
+	@Override
+	public <T> T unwrap(Class<T> iface) throws SQLException {
+		if (iface.isInstance(this)) {
+			return iface.cast(this);
+		}
+		return this.connection.unwrap(iface);
+	}
+	
+	@Override
+	public boolean isWrapperFor(Class<?> iface) throws SQLException {
+		return iface.isInstance(this) || this.connection.isWrapperFor(iface);
+	}
+	
+	@Override
+	public Statement createStatement() throws SQLException {
+		return this.connection.createStatement();
+	}
+	
+	@Override
+	public PreparedStatement prepareStatement(String sql) throws SQLException {
+		return this.connection.prepareStatement(sql);
+	}
+	
+	@Override
+	public CallableStatement prepareCall(String sql) throws SQLException {
+		return this.connection.prepareCall(sql);
+	}
+	
+	@Override
+	public String nativeSQL(String sql) throws SQLException {
+		return this.connection.nativeSQL(sql);
+	}
+	
+	@Override
+	public void setAutoCommit(boolean autoCommit) throws SQLException {
+		this.connection.setAutoCommit(autoCommit);
+	}
+	
+	@Override
+	public boolean getAutoCommit() throws SQLException {
+		return this.connection.getAutoCommit();
+	}
+	
+	@Override
+	public void commit() throws SQLException {
+		this.connection.commit();
+	}
+	
+	@Override
+	public void rollback() throws SQLException {
+		this.connection.rollback();
+	}
+	
+	@Override
+	public boolean isClosed() throws SQLException {
+		return this.connection.isClosed();
+	}
+	
+	@Override
+	public DatabaseMetaData getMetaData() throws SQLException {
+		return this.connection.getMetaData();
+	}
+	
+	@Override
+	public void setReadOnly(boolean readOnly) throws SQLException {
+		this.connection.setReadOnly(readOnly);
+	}
+	
+	@Override
+	public boolean isReadOnly() throws SQLException {
+		return this.connection.isReadOnly();
+	}
+	
+	@Override
+	public void setCatalog(String catalog) throws SQLException {
+		this.connection.setCatalog(catalog);
+	}
+	
+	@Override
+	public String getCatalog() throws SQLException {
+		return this.connection.getCatalog();
+	}
+	
+	@Override
+	public void setTransactionIsolation(int level) throws SQLException {
+		this.connection.setTransactionIsolation(level);
+	}
+	
+	@Override
+	public int getTransactionIsolation() throws SQLException {
+		return this.connection.getTransactionIsolation();
+	}
+	
+	@Override
+	public SQLWarning getWarnings() throws SQLException {
+		return this.connection.getWarnings();
+	}
+	
+	@Override
+	public void clearWarnings() throws SQLException {
+		this.connection.clearWarnings();
+	}
+	
+	@Override
+	public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException {
+		return this.connection.createStatement(resultSetType, resultSetConcurrency);
+	}
+	
+	@Override
+	public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+		return this.connection.prepareStatement(sql, resultSetType, resultSetConcurrency);
+	}
+	
+	@Override
+	public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+		return this.connection.prepareCall(sql, resultSetType, resultSetConcurrency);
+	}
+	
+	@Override
+	public Map<String, Class<?>> getTypeMap() throws SQLException {
+		return this.connection.getTypeMap();
+	}
+	
+	@Override
+	public void setTypeMap(Map<String, Class<?>> map) throws SQLException {
+		this.connection.setTypeMap(map);
+	}
+	
+	@Override
+	public void setHoldability(int holdability) throws SQLException {
+		this.connection.setHoldability(holdability);
+	}
+	
+	@Override
+	public int getHoldability() throws SQLException {
+		return this.connection.getHoldability();
+	}
+	
+	@Override
+	public Savepoint setSavepoint() throws SQLException {
+		return this.connection.setSavepoint();
+	}
+	
+	@Override
+	public Savepoint setSavepoint(String name) throws SQLException {
+		return this.connection.setSavepoint(name);
+	}
+	
+	@Override
+	public void rollback(Savepoint savepoint) throws SQLException {
+		this.connection.rollback(savepoint);
+	}
+	
+	@Override
+	public void releaseSavepoint(Savepoint savepoint) throws SQLException {
+		this.connection.releaseSavepoint(savepoint);
+	}
+	
+	@Override
+	public Statement createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+		return this.connection.createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
+	}
+	
+	@Override
+	public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+		return this.connection.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+	}
+	
+	@Override
+	public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+		return this.connection.prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+	}
+	
+	@Override
+	public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+		return this.connection.prepareStatement(sql, autoGeneratedKeys);
+	}
+	
+	@Override
+	public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
+		return this.connection.prepareStatement(sql, columnIndexes);
+	}
+	
+	@Override
+	public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
+		return this.connection.prepareStatement(sql, columnNames);
+	}
+	
+	@Override
+	public Clob createClob() throws SQLException {
+		return this.connection.createClob();
+	}
+	
+	@Override
+	public Blob createBlob() throws SQLException {
+		return this.connection.createBlob();
+	}
+	
+	@Override
+	public NClob createNClob() throws SQLException {
+		return this.connection.createNClob();
+	}
+	
+	@Override
+	public SQLXML createSQLXML() throws SQLException {
+		return this.connection.createSQLXML();
+	}
+	
+	@Override
+	public boolean isValid(int timeout) throws SQLException {
+		return this.connection.isValid(timeout);
+	}
+	
+	@Override
+	public void setClientInfo(String name, String value) throws SQLClientInfoException {
+		this.connection.setClientInfo(name, value);
+	}
+	
+	@Override
+	public void setClientInfo(Properties properties) throws SQLClientInfoException {
+		this.connection.setClientInfo(properties);
+	}
+	
+	@Override
+	public String getClientInfo(String name) throws SQLException {
+		return this.connection.getClientInfo(name);
+	}
+	
+	@Override
+	public Properties getClientInfo() throws SQLException {
+		return this.connection.getClientInfo();
+	}
+	
+	@Override
+	public Array createArrayOf(String typeName, Object[] elements) throws SQLException {
+		return this.connection.createArrayOf(typeName, elements);
+	}
+	
+	@Override
+	public Struct createStruct(String typeName, Object[] attributes) throws SQLException {
+		return this.connection.createStruct(typeName, attributes);
+	}
+	
+	@Override
+	public void setSchema(String schema) throws SQLException {
+		this.connection.setSchema(schema);
+	}
+	
+	@Override
+	public String getSchema() throws SQLException {
+		return this.connection.getSchema();
+	}
+	
+	@Override
+	public void setNetworkTimeout(Executor executor, int milliseconds) throws SQLException {
+		this.connection.setNetworkTimeout(executor, milliseconds);
+	}
+	
+	@Override
+	public int getNetworkTimeout() throws SQLException {
+		return this.connection.getNetworkTimeout();
+	}
+	
+	@Override
+	public void beginRequest() throws SQLException {
+		this.connection.beginRequest();
+	}
+	
+	@Override
+	public void endRequest() throws SQLException {
+		this.connection.endRequest();
+	}
+	
+	@Override
+	public boolean setShardingKeyIfValid(ShardingKey shardingKey, ShardingKey superShardingKey, int timeout) throws SQLException {
+		return this.connection.setShardingKeyIfValid(shardingKey, superShardingKey, timeout);
+	}
+	
+	@Override
+	public boolean setShardingKeyIfValid(ShardingKey shardingKey, int timeout) throws SQLException {
+		return this.connection.setShardingKeyIfValid(shardingKey, timeout);
+	}
+	
+	@Override
+	public void setShardingKey(ShardingKey shardingKey, ShardingKey superShardingKey) throws SQLException {
+		this.connection.setShardingKey(shardingKey, superShardingKey);
+	}
+	
+	@Override
+	public void setShardingKey(ShardingKey shardingKey) throws SQLException {
+		this.connection.setShardingKey(shardingKey);
+	}
+	
+	//region Object overrides
+	@Override
+	public String toString() {
+		return "SqlReplicaConnection[" + this.connection + "]";
+	}
+	//endregion
+}
@@ -0,0 +1,369 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.database;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jspecify.annotations.NonNull;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Routes connections between a primary data source and a set of read replica data sources.<br>
+ * Writes always use the primary, while reads are distributed across the available replicas by the configured {@link SqlReplicaRouting}.<br>
+ * <p>
+ *     A replica which fails to hand out a connection is ejected and skipped until the retry interval has elapsed.<br>
+ *     Afterwards the replica is validated with the same check as {@link SqlDatabase#ping()} before it receives reads again.<br>
+ *     If no replica is available, reads fall back to the primary.
+ * </p>
+ * <p>
+ *     The load of a replica is the number of connections currently borrowed from it through this router.<br>
+ *     A borrowed connection is released once it is closed or aborted.
+ * </p>
+ * <p>
+ *     The health of all replicas can be checked periodically in the background by {@link #startHealthChecks(Duration)},
+ *     so failing replicas are ejected before a read is routed to them and recovered replicas are reinstated without waiting for a read.
+ * </p>
+ *
+ * @see SqlReplicaRouting
+ * @see SqlDatabaseBuilder#replica(DataSource)
+ *
+ * @author Luis-St
+ */
+public final class SqlReplicaRouter {
+	
+	/**
+	 * The timeout in seconds used to validate a connection of a replica.<br>
+	 */
+	private static final int VALIDATION_TIMEOUT = 1;
+	/**
+	 * The logger used to report failing scheduled health checks.<br>
+	 */
+	private static final Logger LOGGER = LogManager.getLogger(SqlReplicaRouter.class);
+	/**
+	 * The primary data source used for writes.<br>
+	 */
+	private final DataSource primary;
+	/**
+	 * The replicas reads are distributed across.<br>
+	 */
+	private final List<Replica> replicas;
+	/**
+	 * The strategy used to distribute reads across the replicas.<br>
+	 */
+	private final SqlReplicaRouting routing;
+	/**
+	 * The time an ejected replica is skipped before it is validated again.<br>
+	 */
+	private final Duration retryInterval;
+	/**
+	 * The clock used to determine when an ejected replica is validated again.<br>
+	 */
+	private final Clock clock;
+	/**
+	 * The counter used to rotate through the replicas.<br>
+	 */
+	private final AtomicInteger rotation = new AtomicInteger();
+	/**
+	 * The executor running the scheduled health checks, or {@code null} if no health checks are scheduled.<br>
+	 */
+	private final AtomicReference<ScheduledExecutorService> healthCheckExecutor = new AtomicReference<>();
+	
+	/**
+	 * Constructs a new replica router for the given primary and replicas using the system clock.<br>
+	 *
+	 * @param primary The primary data source used for writes
+	 * @param replicas The replica data sources reads are distributed across
+	 * @param routing The strategy used to distribute reads across the replicas
+	 * @param retryInterval The time an ejected replica is skipped before it is validated again
+	 * @throws NullPointerException If any argument or replica is null
+	 * @throws IllegalArgumentException If no replica is given or the retry interval is negative
+	 */
+	public SqlReplicaRouter(@NonNull DataSource primary, @NonNull List<DataSource> replicas, @NonNull SqlReplicaRouting routing, @NonNull Duration retryInterval) {
+		this(primary, replicas, routing, retryInterval, Clock.systemUTC());
+	}
+	
+	/**
+	 * Constructs a new replica router for the given primary and replicas.<br>
+	 *
+	 * @param primary The primary data source used for writes
+	 * @param replicas The replica data sources reads are distributed across
+	 * @param routing The strategy used to distribute reads across the replicas
+	 * @param retryInterval The time an ejected replica is skipped before it is validated again
+	 * @param clock The clock used to determine when an ejected replica is validated again
+	 * @throws NullPointerException If any argument or replica is null
+	 * @throws IllegalArgumentException If no replica is given or the retry interval is negative
+	 */
+	public SqlReplicaRouter(@NonNull DataSource primary, @NonNull List<DataSource> replicas, @NonNull SqlReplicaRouting routing, @NonNull Duration retryInterval, @NonNull Clock clock) {
+		this.primary = Objects.requireNonNull(primary, "Primary data source must not be null");
+		Objects.requireNonNull(replicas, "Replica data sources must not be null");
+		this.routing = Objects.requireNonNull(routing, "Replica routing must not be null");
+		this.retryInterval = Objects.requireNonNull(retryInterval, "Replica retry interval must not be null");
+		this.clock = Objects.requireNonNull(clock, "Clock must not be null");
+		if (replicas.isEmpty()) {
+			throw new IllegalArgumentException("At least one replica data source is required");
+		}
+		if (retryInterval.isNegative()) {
+			throw new IllegalArgumentException("Replica retry interval must not be negative, but was " + retryInterval);
+		}
+		
+		List<Replica> resolved = new ArrayList<>(replicas.size());
+		for (DataSource replica : replicas) {
+			resolved.add(new Replica(Objects.requireNonNull(replica, "Replica data source must not be null")));
+		}
+		this.replicas = List.copyOf(resolved);
+	}
+	
+	/**
+	 * Returns the primary data source used for writes.<br>
+	 * @return The primary data source
+	 */
+	public @NonNull DataSource getPrimary() {
+		return this.primary;
+	}
+	
+	/**
+	 * Returns the replica data sources reads are distributed across.<br>
+	 * @return An unmodifiable list of the replica data sources
+	 */
+	public @NonNull List<DataSource> getReplicas() {
+		return this.replicas.stream().map(Replica::dataSource).toList();
+	}
+	
+	/**
+	 * Returns the strategy used to distribute reads across the replicas.<br>
+	 * @return The replica routing
+	 */
+	public @NonNull SqlReplicaRouting getRouting() {
+		return this.routing;
+	}
+	
+	/**
+	 * Obtains a connection for writes from the primary data source.<br>
+	 *
+	 * @return The obtained connection
+	 * @throws SQLException If the primary data source fails to hand out a connection
+	 */
+	public @NonNull Connection getWriteConnection() throws SQLException {
+		return this.primary.getConnection();
+	}
+	
+	/**
+	 * Obtains a connection for reads from the next available replica.<br>
+	 * <p>
+	 *     Replicas which fail to hand out a connection are ejected and the next replica is tried.<br>
+	 *     If no replica is available, the connection is obtained from the primary data source.
+	 * </p>
+	 *
+	 * @return The obtained connection
+	 * @throws SQLException If no replica is available and the primary data source fails to hand out a connection
+	 */
+	public @NonNull Connection getReadConnection() throws SQLException {
+		for (Replica replica : this.candidates()) {
+			if (!this.isAvailable(replica)) {
+				continue;
+			}
+			
+			Connection connection;
+			try {
+				connection = replica.dataSource().getConnection();
+			} catch (SQLException e) {
+				this.eject(replica);
+				continue;
+			}
+			return new SqlReplicaConnection(connection, replica.load());
+		}
+		return this.primary.getConnection();
+	}
+	
+	/**
+	 * Validates all replicas, ejecting the failing ones and reinstating the healthy ones.<br>
+	 * @return The number of healthy replicas
+	 */
+	public int checkHealth() {
+		int healthy = 0;
+		for (Replica replica : this.replicas) {
+			if (SqlDatabase.isValid(replica.dataSource(), VALIDATION_TIMEOUT)) {
+				replica.ejectedUntil().set(null);
+				healthy++;
+			} else {
+				this.eject(replica);
+			}
+		}
+		return healthy;
+	}
+	
+	/**
+	 * Starts checking the health of all replicas periodically in the background.<br>
+	 * <p>
+	 *     The replicas are checked with {@link #checkHealth()} on a single daemon thread,
+	 *     the first check runs after the given interval has elapsed.<br>
+	 *     The checks run until {@link #stopHealthChecks()} is called.
+	 * </p>
+	 *
+	 * @param interval The interval between two health checks
+	 * @throws NullPointerException If the interval is null
+	 * @throws IllegalArgumentException If the interval is not positive
+	 * @throws IllegalStateException If health checks are already scheduled
+	 */
+	public void startHealthChecks(@NonNull Duration interval) {
+		Objects.requireNonNull(interval, "Health check interval must not be null");
+		if (interval.isNegative() || interval.isZero()) {
+			throw new IllegalArgumentException("Health check interval must be positive, but was " + interval);
+		}
+		
+		ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "sql-replica-health-check");
+			thread.setDaemon(true);
+			return thread;
+		});
+		if (!this.healthCheckExecutor.compareAndSet(null, executor)) {
+			executor.shutdownNow();
+			throw new IllegalStateException("Health checks are already scheduled");
+		}
+		
+		long nanos = interval.toNanos();
+		executor.scheduleWithFixedDelay(() -> {
+			try {
+				this.checkHealth();
+			} catch (RuntimeException e) {
+				LOGGER.warn("Failed to check the health of the read replicas", e);
+			}
+		}, nanos, nanos, TimeUnit.NANOSECONDS);
+	}
+	
+	/**
+	 * Stops the scheduled health checks of the replicas.<br>
+	 * If no health checks are scheduled, this method does nothing.<br>
+	 */
+	public void stopHealthChecks() {
+		ScheduledExecutorService executor = this.healthCheckExecutor.getAndSet(null);
+		if (executor != null) {
+			executor.shutdownNow();
+		}
+	}
+	
+	/**
+	 * Returns whether the health of the replicas is checked periodically in the background.<br>
+	 * @return {@code true} if health checks are scheduled, otherwise {@code false}
+	 */
+	public boolean isCheckingHealth() {
+		return this.healthCheckExecutor.get() != null;
+	}
+	
+	/**
+	 * Returns the number of replicas which are currently not ejected.<br>
+	 * @return The number of healthy replicas
+	 */
+	public int healthyReplicaCount() {
+		return (int) this.replicas.stream().filter(replica -> replica.ejectedUntil().get() == null).count();
+	}
+	
+	/**
+	 * Returns the replicas in the order they should be tried for the next read.<br>
+	 * The rotation is advanced on every call, the least loaded strategy orders the rotated replicas by their load.<br>
+	 *
+	 * @return The ordered replicas
+	 */
+	private @NonNull List<Replica> candidates() {
+		int size = this.replicas.size();
+		int start = Math.floorMod(this.rotation.getAndIncrement(), size);
+		List<Replica> candidates = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			candidates.add(this.replicas.get((start + i) % size));
+		}
+		
+		if (this.routing == SqlReplicaRouting.LEAST_LOADED) {
+			Map<Replica, Integer> loads = new IdentityHashMap<>(size);
+			for (Replica replica : candidates) {
+				loads.put(replica, replica.load().get());
+			}
+			candidates.sort(Comparator.comparingInt(loads::get));
+		}
+		return candidates;
+	}
+	
+	/**
+	 * Checks whether the given replica may receive reads.<br>
+	 * <p>
+	 *     An ejected replica is validated once its retry interval has elapsed and reinstated if the validation succeeds.<br>
+	 *     Only a single caller validates the replica, concurrent callers skip it until the validation has completed.
+	 * </p>
+	 *
+	 * @param replica The replica to check
+	 * @return {@code true} if the replica may receive reads, {@code false} otherwise
+	 */
+	private boolean isAvailable(@NonNull Replica replica) {
+		Instant ejectedUntil = replica.ejectedUntil().get();
+		if (ejectedUntil == null) {
+			return true;
+		}
+		
+		Instant now = this.clock.instant();
+		if (now.isBefore(ejectedUntil) || !replica.ejectedUntil().compareAndSet(ejectedUntil, now.plus(this.retryInterval))) {
+			return false;
+		}
+		if (SqlDatabase.isValid(replica.dataSource(), VALIDATION_TIMEOUT)) {
+			replica.ejectedUntil().set(null);
+			return true;
+		}
+		return false;
+	}
+	
+	/**
+	 * Ejects the given replica for the retry interval.<br>
+	 * @param replica The replica to eject
+	 */
+	private void eject(@NonNull Replica replica) {
+		replica.ejectedUntil().set(this.clock.instant().plus(this.retryInterval));
+	}
+	
+	//region Object overrides
+	@Override
+	public String toString() {
+		return "SqlReplicaRouter[replicas=" + this.replicas.size() + ", healthy=" + this.healthyReplicaCount() + ", routing=" + this.routing + "]";
+	}
+	//endregion
+	
+	/**
+	 * Internal record for a replica and its routing state.<br>
+	 *
+	 * @author Luis-St
+	 *
+	 * @param dataSource The data source of the replica
+	 * @param load The number of connections currently borrowed from the replica
+	 * @param ejectedUntil The time until the replica is ejected, or {@code null} if the replica is healthy
+	 */
+	private record Replica(@NonNull DataSource dataSource, @NonNull AtomicInteger load, @NonNull AtomicReference<Instant> ejectedUntil) {
+		
+		/**
+		 * Constructs a new healthy replica without load for the given data source.<br>
+		 * @param dataSource The data source of the replica
+		 */
+		private Replica(@NonNull DataSource dataSource) {
+			this(dataSource, new AtomicInteger(), new AtomicReference<>());
+		}
+	}
+}
@@ -0,0 +1,36 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.database;
+
+/**
+ * Represents the strategy a {@link SqlReplicaRouter} uses to distribute reads across its replicas.<br>
+ *
+ * @author Luis-St
+ */
+public enum SqlReplicaRouting {
+	
+	/**
+	 * Hands out the replicas one after another in a fixed rotation.<br>
+	 */
+	ROUND_ROBIN,
+	/**
+	 * Hands out the replica with the fewest connections currently borrowed through the router.<br>
+	 */
+	LEAST_LOADED
+}
@@ -37,6 +37,7 @@ import net.luis.utils.io.database.index.SqlIndexMethod;
 import net.luis.utils.io.database.migration.SqlCheckConstraintInfo;
 import net.luis.utils.io.database.query.SqlLockMode;
 import net.luis.utils.io.database.query.SqlSetOperation;
+import net.luis.utils.io.database.rendering.SqlRenderCache;
 import net.luis.utils.io.database.rendering.SqlRendered;
 import net.luis.utils.io.database.rendering.SqlRenderer;
 import net.luis.utils.io.database.table.*;
@@ -48,6 +49,7 @@ import org.jspecify.annotations.Nullable;
 
 import java.sql.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Abstract base implementation of {@link SqlDialect} providing shared dialect behavior.<br>
@@ -68,6 +70,11 @@ public abstract class AbstractSqlDialect implements SqlDialect {
 	 * The name of the internal table used to store schema check constraint metadata.
 	 */
 	private static final String SCHEMA_CHECK_CONSTRAINTS_TABLE = "_sql_schema_check_constraints";
+	/**
+	 * The maximum number of value accessors cached per dialect.<br>
+	 * Parameterized and mapped types may be created per use, so the cache is bounded to avoid growing without limit.
+	 */
+	private static final int MAXIMUM_CACHED_VALUE_ACCESSORS = 1024;
 	/**
 	 * The type registry holding the dialect-specific type mappings.
 	 */
@@ -76,14 +83,24 @@ public abstract class AbstractSqlDialect implements SqlDialect {
 	 * The renderer providing the dialect-specific rendering components.
 	 */
 	private final SqlDialectRenderer renderer;
+	/**
+	 * The cache of rendered sql statements keyed by query shape.
+	 */
+	private final SqlRenderCache renderCache;
+	/**
+	 * The cached value accessors of this dialect keyed by sql type.<br>
+	 * New accessors are no longer stored once {@link #MAXIMUM_CACHED_VALUE_ACCESSORS} is reached.
+	 */
+	private final Map<SqlType<?>, SqlValueAccessor<?>> valueAccessors = new ConcurrentHashMap<>();
 	
 	/**
 	 * Constructs a new abstract sql dialect.<br>
-	 * The type registry and renderer are created using {@link #createTypeRegistry()} and {@link #createRenderer()}.<br>
+	 * The type registry, renderer and render cache are created using {@link #createTypeRegistry()}, {@link #createRenderer()} and {@link #createRenderCache()}.<br>
 	 */
 	protected AbstractSqlDialect() {
 		this.typeRegistry = this.createTypeRegistry();
 		this.renderer = this.createRenderer();
+		this.renderCache = this.createRenderCache();
 	}
 	
 	/**
@@ -125,6 +142,15 @@ public abstract class AbstractSqlDialect implements SqlDialect {
 		return SqlDialectRenderer.builder(this).build();
 	}
 	
+	/**
+	 * Creates the render cache used by this dialect.<br>
+	 * By default a cache with the {@link SqlRenderCache#DEFAULT_MAXIMUM_SIZE default maximum size} is returned, concrete dialects may override this to resize or disable the cache.<br>
+	 * @return The render cache for this dialect
+	 */
+	protected @NonNull SqlRenderCache createRenderCache() {
+		return new SqlRenderCache(SqlRenderCache.DEFAULT_MAXIMUM_SIZE);
+	}
+	
 	@Override
 	public @NonNull SqlTableRenderer tableRenderer() {
 		return this.renderer.tableRenderer();
@@ -150,6 +176,11 @@ public abstract class AbstractSqlDialect implements SqlDialect {
 		return this.renderer.schemaRenderer();
 	}
 	
+	@Override
+	public @NonNull SqlRenderCache renderCache() {
+		return this.renderCache;
+	}
+	
 	@Override
 	public boolean isTypeSupported(@NonNull SqlType<?> type) {
 		Objects.requireNonNull(type, "Sql type must not be null");
@@ -200,6 +231,31 @@ public abstract class AbstractSqlDialect implements SqlDialect {
 		return this.typeRegistry.resolve(type).map(SqlTypeMapping::reader);
 	}
 	
+	/**
+	 * {@inheritDoc}<br>
+	 * <p>
+	 *     The accessors are cached per type, the cache is bounded and stops storing new accessors once it is full.<br>
+	 *     Accessors of types which are not cached are resolved on every call.
+	 * </p>
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> @NonNull SqlValueAccessor<T> valueAccessor(@NonNull SqlType<T> type) {
+		Objects.requireNonNull(type, "Sql type must not be null");
+		
+		SqlValueAccessor<?> accessor = this.valueAccessors.get(type);
+		if (accessor == null) {
+			accessor = SqlValueAccessor.resolve(type, this);
+			if (MAXIMUM_CACHED_VALUE_ACCESSORS > this.valueAccessors.size()) {
+				SqlValueAccessor<?> existing = this.valueAccessors.putIfAbsent(type, accessor);
+				if (existing != null) {
+					accessor = existing;
+				}
+			}
+		}
+		return (SqlValueAccessor<T>) accessor;
+	}
+	
 	/**
 	 * Resolves the native type name for the given jdbc scalar type.<br>
 	 * Concrete dialects may override this to provide dialect-specific scalar type names.<br>
@@ -472,10 +528,10 @@ public abstract class AbstractSqlDialect implements SqlDialect {
 		
 		SqlRenderer renderer = SqlRenderer.empty();
 		if (limit >= 0) {
-			renderer.limit().literal(String.valueOf(limit));
+			renderer.limit().parameter(SqlTypes.LONG, limit);
 		}
 		if (offset > 0) {
-			renderer.offset().literal(String.valueOf(offset));
+			renderer.offset().parameter(SqlTypes.LONG, offset);
 		}
 		return renderer.toSql();
 	}
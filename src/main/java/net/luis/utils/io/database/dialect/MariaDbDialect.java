@@ -84,6 +84,21 @@ public class MariaDbDialect extends MySqlDialect {
 		return SUPPORTED_FEATURES.contains(feature);
 	}
 	
+	@Override
+	public @NonNull Map<String, String> batchRewriteProperties() {
+		return Map.of("useBulkStmts", "true");
+	}
+	
+	@Override
+	public @NonNull Map<String, String> bulkLoadProperties() {
+		return Map.of("allowLocalInfile", "true");
+	}
+	
+	@Override
+	public int streamingFetchSize() {
+		return 1000;
+	}
+	
 	@Override
 	public @NonNull SqlRendered renderReturning(@NonNull List<SqlColumn<?, ?>> columns) throws SqlException {
 		return this.renderStandardReturning(columns);
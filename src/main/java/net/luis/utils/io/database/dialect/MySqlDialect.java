@@ -161,6 +161,26 @@ public class MySqlDialect extends AbstractSqlDialect {
 		return SUPPORTED_FEATURES.contains(feature);
 	}
 	
+	@Override
+	public @NonNull Map<String, String> batchRewriteProperties() {
+		return Map.of("rewriteBatchedStatements", "true");
+	}
+	
+	@Override
+	public @NonNull SqlBulkLoadMethod bulkLoadMethod() {
+		return SqlBulkLoadMethod.LOAD_DATA;
+	}
+	
+	@Override
+	public @NonNull Map<String, String> bulkLoadProperties() {
+		return Map.of("allowLoadLocalInfile", "true");
+	}
+	
+	@Override
+	public int streamingFetchSize() {
+		return Integer.MIN_VALUE;
+	}
+	
 	@Override
 	public boolean isIndexMethodSupported(@NonNull SqlIndexMethod method) {
 		Objects.requireNonNull(method, "Sql index method must not be null");
@@ -196,6 +196,21 @@ public class PostgresSqlDialect extends AbstractSqlDialect {
 		return SUPPORTED_FEATURES.contains(feature);
 	}
 	
+	@Override
+	public @NonNull Map<String, String> batchRewriteProperties() {
+		return Map.of("reWriteBatchedInserts", "true");
+	}
+	
+	@Override
+	public @NonNull SqlBulkLoadMethod bulkLoadMethod() {
+		return SqlBulkLoadMethod.COPY;
+	}
+	
+	@Override
+	public boolean requiresTransactionForStreaming() {
+		return true;
+	}
+	
 	@Override
 	public boolean isIndexMethodSupported(@NonNull SqlIndexMethod method) {
 		Objects.requireNonNull(method, "Sql index method must not be null");
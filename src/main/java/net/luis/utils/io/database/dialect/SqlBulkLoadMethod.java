@@ -0,0 +1,45 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.database.dialect;
+
+/**
+ * Represents the method a {@link SqlDialect} uses to load large amounts of rows into a table.<br>
+ * Dialects declare their method through {@link SqlDialect#bulkLoadMethod()}.<br>
+ *
+ * @author Luis-St
+ */
+public enum SqlBulkLoadMethod {
+	
+	/**
+	 * Loads the rows with chunked multi-row {@code INSERT ... VALUES} statements limited by {@link SqlDialect#maxBindParameters()}.<br>
+	 */
+	MULTI_VALUES,
+	/**
+	 * Streams the rows in text format through {@code COPY ... FROM STDIN} using the copy api of the driver.<br>
+	 */
+	COPY,
+	/**
+	 * Streams the rows in text format through {@code LOAD DATA LOCAL INFILE} using an in-memory input stream of the driver.<br>
+	 */
+	LOAD_DATA,
+	/**
+	 * Streams the rows as a result set through the bulk copy api of the driver.<br>
+	 */
+	BULK_COPY
+}
@@ -31,6 +31,7 @@ import net.luis.utils.io.database.index.SqlIndexMethod;
 import net.luis.utils.io.database.migration.SqlCheckConstraintInfo;
 import net.luis.utils.io.database.query.SqlLockMode;
 import net.luis.utils.io.database.query.SqlSetOperation;
+import net.luis.utils.io.database.rendering.SqlRenderCache;
 import net.luis.utils.io.database.rendering.SqlRendered;
 import net.luis.utils.io.database.rendering.SqlRenderer;
 import net.luis.utils.io.database.table.SqlColumn;
@@ -39,8 +40,7 @@ import net.luis.utils.io.database.type.*;
 import org.jspecify.annotations.NonNull;
 
 import java.sql.Connection;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 
 /**
  * Represents a database-specific sql dialect.<br>
@@ -143,6 +143,23 @@ public interface SqlDialect {
 		return Optional.empty();
 	}
 	
+	/**
+	 * Returns the value accessor which binds and reads values of the given type for this dialect.<br>
+	 * <p>
+	 *     The accessor resolves the {@link #bindingOverride(SqlType) binding override} and {@link #readingOverride(SqlType) reading override}
+	 *     of the type once, so values can be bound and read without further lookups.<br>
+	 *     By default a new accessor is resolved on every call, dialects should cache the accessors per type.
+	 * </p>
+	 *
+	 * @param type The sql type to get the value accessor for
+	 * @return The value accessor of the type for this dialect
+	 * @param <T> The java type of the values
+	 * @throws NullPointerException If the type is null
+	 */
+	default <T> @NonNull SqlValueAccessor<T> valueAccessor(@NonNull SqlType<T> type) {
+		return SqlValueAccessor.resolve(type, this);
+	}
+	
 	/**
 	 * Renders the given sql expression into a rendered sql fragment.<br>
 	 *
@@ -222,6 +239,87 @@ public interface SqlDialect {
 		return 65535;
 	}
 	
+	/**
+	 * Returns the driver properties which enable the rewriting of jdbc batches into fewer statements.<br>
+	 * <p>
+	 *     Batched updates with identical sql are sent through a single prepared statement using jdbc batching.<br>
+	 *     Some drivers can additionally rewrite such a batch into a single multi-row statement if a driver-specific property is set.<br>
+	 *     Since the data source is created outside of this library, the properties must be applied to its configuration,
+	 *     for example via the connection url or {@code HikariConfig#addDataSourceProperty}.
+	 * </p>
+	 * By default an empty map is returned.<br>
+	 *
+	 * @return The driver properties enabling batch rewriting
+	 */
+	default @NonNull Map<String, String> batchRewriteProperties() {
+		return Map.of();
+	}
+	
+	/**
+	 * Returns the method used to load large amounts of rows into a table.<br>
+	 * If the native method is not available for the driver of a connection, the rows are loaded with {@link SqlBulkLoadMethod#MULTI_VALUES}.<br>
+	 * By default this is {@link SqlBulkLoadMethod#MULTI_VALUES}.<br>
+	 *
+	 * @return The bulk load method
+	 * @see #bulkLoadProperties()
+	 */
+	default @NonNull SqlBulkLoadMethod bulkLoadMethod() {
+		return SqlBulkLoadMethod.MULTI_VALUES;
+	}
+	
+	/**
+	 * Returns the driver properties which enable the {@link #bulkLoadMethod() bulk load method} of this dialect.<br>
+	 * Since the data source is created outside of this library, the properties must be applied to its configuration.<br>
+	 * By default an empty map is returned.<br>
+	 *
+	 * @return The driver properties enabling bulk loading
+	 * @see #batchRewriteProperties()
+	 */
+	default @NonNull Map<String, String> bulkLoadProperties() {
+		return Map.of();
+	}
+	
+	/**
+	 * Returns the jdbc fetch size used when the rows of a query are streamed.<br>
+	 * <p>
+	 *     The fetch size is a hint to the driver how many rows are transferred per round trip,
+	 *     it prevents drivers from reading the whole result into memory before the first row is returned.<br>
+	 *     Some drivers require a driver-specific value to enable streaming at all.
+	 * </p>
+	 * By default this is {@code 1000}.<br>
+	 *
+	 * @return The fetch size for streamed queries
+	 * @see #requiresTransactionForStreaming()
+	 */
+	default int streamingFetchSize() {
+		return 1000;
+	}
+	
+	/**
+	 * Checks whether the driver of this dialect only honors the fetch size inside a transaction.<br>
+	 * If {@code true}, a streamed query on a connection in auto-commit mode is executed in its own transaction, which ends when the stream is closed.<br>
+	 * By default {@code false} is returned.<br>
+	 *
+	 * @return {@code true} if streaming requires a non auto-commit connection, {@code false} otherwise
+	 */
+	default boolean requiresTransactionForStreaming() {
+		return false;
+	}
+	
+	/**
+	 * Returns the cache of rendered sql statements keyed by query shape used by this dialect.<br>
+	 * <p>
+	 *     Select, update and delete queries with the same structure reuse the rendered sql of this cache and only bind their parameters.<br>
+	 *     Since the rendered sql depends on the dialect, each dialect has its own cache.
+	 * </p>
+	 * By default a disabled cache is returned.<br>
+	 *
+	 * @return The render cache of this dialect
+	 */
+	default @NonNull SqlRenderCache renderCache() {
+		return SqlRenderCache.disabled();
+	}
+	
 	/**
 	 * Checks whether the given index method is supported by this dialect.<br>
 	 *
@@ -272,6 +370,7 @@ public interface SqlDialect {
 	
 	/**
 	 * Renders the limit and offset clause for the given values.<br>
+	 * The values are bound as parameters, so queries which only differ in their limit or offset share the same sql.<br>
 	 *
 	 * @param limit The maximum number of rows to return
 	 * @param offset The number of rows to skip
@@ -175,6 +175,11 @@ public class SqlServerDialect extends AbstractSqlDialect {
 		return 2100;
 	}
 	
+	@Override
+	public @NonNull SqlBulkLoadMethod bulkLoadMethod() {
+		return SqlBulkLoadMethod.BULK_COPY;
+	}
+	
 	@Override
 	public boolean isIndexMethodSupported(@NonNull SqlIndexMethod method) {
 		Objects.requireNonNull(method, "Sql index method must not be null");
@@ -221,9 +226,9 @@ public class SqlServerDialect extends AbstractSqlDialect {
 		if (!hasOrdering) {
 			renderer.orderBy().openingBracket().select().null_().closingBracket();
 		}
-		renderer.offset().literal(String.valueOf(offset)).rows();
+		renderer.offset().parameter(SqlTypes.LONG, offset).rows();
 		if (limit >= 0) {
-			renderer.fetch().next().literal(String.valueOf(limit)).rows().only();
+			renderer.fetch().next().parameter(SqlTypes.LONG, limit).rows().only();
 		}
 		return renderer.toSql();
 	}
@@ -0,0 +1,63 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.database.exception;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * Wraps a {@link SqlException} with an unchecked exception.<br>
+ * Used where a checked exception can not be thrown, for example while consuming a stream of query results.<br>
+ *
+ * @author Luis-St
+ */
+public class UncheckedSqlException extends RuntimeException {
+	
+	/**
+	 * Constructs a new unchecked sql exception with the given detail message and cause.<br>
+	 *
+	 * @param message The detail message, may be null
+	 * @param cause The sql exception to wrap
+	 * @throws NullPointerException If the cause is null
+	 */
+	public UncheckedSqlException(@Nullable String message, @NonNull SqlException cause) {
+		super(message, Objects.requireNonNull(cause, "Cause must not be null"));
+	}
+	
+	/**
+	 * Constructs a new unchecked sql exception with the given cause.<br>
+	 *
+	 * @param cause The sql exception to wrap
+	 * @throws NullPointerException If the cause is null
+	 */
+	public UncheckedSqlException(@NonNull SqlException cause) {
+		super(Objects.requireNonNull(cause, "Cause must not be null"));
+	}
+	
+	/**
+	 * Returns the wrapped sql exception.<br>
+	 * @return The cause of this exception
+	 */
+	@Override
+	public synchronized @NonNull SqlException getCause() {
+		return (SqlException) super.getCause();
+	}
+}
@@ -19,17 +19,17 @@
 package net.luis.utils.io.database.query;
 
 import net.luis.utils.function.throwable.ThrowableFunction;
-import net.luis.utils.io.database.SqlConnectionSource;
-import net.luis.utils.io.database.SqlSession;
+import net.luis.utils.io.database.*;
 import net.luis.utils.io.database.audit.*;
+import net.luis.utils.io.database.condition.SqlCondition;
 import net.luis.utils.io.database.dialect.SqlDialect;
 import net.luis.utils.io.database.exception.SqlException;
+import net.luis.utils.io.database.exception.client.SqlIncompletePrimaryKeyException;
 import net.luis.utils.io.database.exception.database.SqlResultMappingException;
 import net.luis.utils.io.database.expression.SqlExpression;
 import net.luis.utils.io.database.query.crud.*;
 import net.luis.utils.io.database.query.row.*;
-import net.luis.utils.io.database.table.SqlColumn;
-import net.luis.utils.io.database.table.SqlTable;
+import net.luis.utils.io.database.table.*;
 import net.luis.utils.io.database.type.SqlType;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
@@ -46,7 +46,9 @@ import java.util.*;
  * that can be further configured and executed:<br>
  * <ul>
  *     <li>{@link #select()} and its overloads for read queries</li>
+ *     <li>{@link #findByPrimaryKey(Object)} for primary key lookups, which consult the entity cache of the table</li>
  *     <li>{@link #insert(Object)} and its overloads for insert queries</li>
+ *     <li>{@link #bulkLoad(Iterator)} for loading large amounts of rows</li>
  *     <li>{@link #update()} for update queries</li>
  *     <li>{@link #delete()} for delete queries</li>
  * </ul>
@@ -961,6 +963,90 @@ public class SqlQueryProvider<E> {
 		return this.select(expressions);
 	}
 	
+	//region Primary key lookup
+	
+	/**
+	 * Finds the entity with the given primary key.<br>
+	 * <p>
+	 *     The primary key is either the single primary key value or a list of values in the order of the
+	 *     {@link SqlTable#primaryKeyColumns() primary key columns} for composite primary keys.<br>
+	 *     If the table has an {@link SqlTable#enableCache(SqlEntityCache) entity cache} enabled, the cache is consulted first
+	 *     and a loaded entity is stored in the cache.<br>
+	 *     Lookups of audited tables tracked by a session bypass the cache, since the audit metadata must be read from the database.<br>
+	 *     Lookups through a connection source {@link SqlConnectionSource#inTransaction() bound to an active transaction} bypass the cache as well,
+	 *     since the transaction may read its own uncommitted changes, which must neither be served from nor stored in the shared cache.<br>
+	 *     Cache misses are always loaded from the primary instead of the {@link SqlConnectionSource#forReads() read replicas},
+	 *     since a lagging replica would otherwise store a stale entity in the cache until it expires.
+	 * </p>
+	 *
+	 * @param primaryKey The primary key of the entity
+	 * @return An optional containing the entity or an empty optional if no entity with the primary key exists
+	 * @throws NullPointerException If the primary key is null
+	 * @throws IllegalArgumentException If the number of primary key values does not match the number of primary key columns
+	 * @throws SqlIncompletePrimaryKeyException If the table has no primary key columns or a primary key value is null
+	 * @throws SqlException If an error occurs while executing the query
+	 */
+	public @NonNull Optional<E> findByPrimaryKey(@NonNull Object primaryKey) throws SqlException {
+		Objects.requireNonNull(primaryKey, "Sql primary key must not be null");
+		
+		List<SqlColumn<E, ?>> columns = this.table.primaryKeyColumns();
+		if (columns.isEmpty()) {
+			throw new SqlIncompletePrimaryKeyException("Sql table '" + this.table.name() + "' has no primary key columns");
+		}
+		
+		List<?> values = columns.size() == 1 ? List.of(primaryKey) : this.primaryKeyValues(columns, primaryKey);
+		SqlCondition condition = this.primaryKeyCondition(columns, values);
+		Object key = columns.size() == 1 ? primaryKey : List.copyOf(values);
+		
+		Optional<SqlEntityCache<E>> cache = this.table.cache();
+		if (cache.isEmpty() || this.selectRowMapper != this.entityRowMapper || this.connectionSource.inTransaction()) {
+			return this.select().where(condition).fetchFirst();
+		}
+		SqlConnectionSource primary = this.connectionSource::open;
+		return cache.get().getOrLoad(key, () -> new SqlSelectQuery<>(this.table, this.dialect, primary, this.queryTimeout, this.selectRowMapper).where(condition).fetchFirst());
+	}
+	
+	/**
+	 * Returns the values of the given composite primary key.<br>
+	 *
+	 * @param columns The primary key columns of the table
+	 * @param primaryKey The composite primary key, expected to be a list of values
+	 * @return The values of the primary key
+	 * @throws IllegalArgumentException If the primary key is not a list or its size does not match the number of primary key columns
+	 */
+	private @NonNull List<?> primaryKeyValues(@NonNull List<SqlColumn<E, ?>> columns, @NonNull Object primaryKey) {
+		if (!(primaryKey instanceof List<?> values)) {
+			throw new IllegalArgumentException("Sql table '" + this.table.name() + "' has a composite primary key, the primary key must be a list of " + columns.size() + " values");
+		}
+		if (values.size() != columns.size()) {
+			throw new IllegalArgumentException("Sql table '" + this.table.name() + "' has " + columns.size() + " primary key columns, but " + values.size() + " values were given");
+		}
+		return values;
+	}
+	
+	/**
+	 * Builds a condition matching the given primary key values on the given primary key columns.<br>
+	 *
+	 * @param columns The primary key columns of the table
+	 * @param values The primary key values in the order of the columns
+	 * @return The condition matching the primary key
+	 * @throws SqlIncompletePrimaryKeyException If a primary key value is null
+	 */
+	private @NonNull SqlCondition primaryKeyCondition(@NonNull List<SqlColumn<E, ?>> columns, @NonNull List<?> values) throws SqlIncompletePrimaryKeyException {
+		List<SqlCondition> conditions = new ArrayList<>(columns.size());
+		for (int i = 0; i < columns.size(); i++) {
+			SqlColumn<E, Object> column = (SqlColumn<E, Object>) columns.get(i);
+			Object value = values.get(i);
+			if (value == null) {
+				throw new SqlIncompletePrimaryKeyException("Sql primary key column '" + column.name() + "' of table '" + this.table.name() + "' is null");
+			}
+			
+			conditions.add(Sql.equalTo(column, value));
+		}
+		return conditions.size() == 1 ? conditions.getFirst() : SqlCondition.allOf(conditions);
+	}
+	//endregion
+	
 	/**
 	 * Creates an insert query for the given single entity.<br>
 	 *
@@ -1035,6 +1121,36 @@ public class SqlQueryProvider<E> {
 		return SqlInsertQuery.insertFromSelect(this.table, this.dialect, this.connectionSource, this.queryTimeout, this.entityRowMapper, query);
 	}
 	
+	/**
+	 * Loads the rows of the given iterator into the table using the bulk load method of the dialect.<br>
+	 * <p>
+	 *     The rows are streamed from the iterator and never held in memory as a whole.<br>
+	 *     Postgresql loads the rows with {@code COPY ... FROM STDIN}, mysql and mariadb with {@code LOAD DATA LOCAL INFILE},
+	 *     which requires local infile loading to be enabled on the server, and sql server with the bulk copy api of the driver.<br>
+	 *     All other dialects, audited tables and drivers without a native api load the rows with chunked multi-row inserts.
+	 * </p>
+	 * <p>
+	 *     Since {@code LOAD DATA LOCAL} skips rows violating a unique key and only warns about invalid values,
+	 *     the load fails afterward if any row was skipped or any warning was reported.<br>
+	 *     The rows loaded until then are only rolled back if the load is run inside a transaction.
+	 * </p>
+	 * <p>
+	 *     The multi-row inserts are executed as separate statements,
+	 *     the load must be run inside a transaction to make it atomic.
+	 * </p>
+	 *
+	 * @param rows The rows to load
+	 * @return The number of loaded rows
+	 * @throws NullPointerException If the iterator or one of its rows is null
+	 * @throws SqlException If the rows could not be loaded
+	 * @see SqlBulkLoader
+	 */
+	public long bulkLoad(@NonNull Iterator<? extends E> rows) throws SqlException {
+		Objects.requireNonNull(rows, "Rows must not be null");
+		
+		return SqlBulkLoader.load(this.table, this.dialect, this.connectionSource, rows, chunk -> this.insert(chunk).execute());
+	}
+	
 	/**
 	 * Creates an update query for the table.<br>
 	 * The columns to update and the condition restricting the affected rows are configured on the returned query.<br>
@@ -0,0 +1,518 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.database.query.crud;
+
+import net.luis.utils.function.throwable.ThrowableSupplier;
+import net.luis.utils.io.database.exception.SqlException;
+import org.apache.commons.lang3.ArrayUtils;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.*;
+import java.lang.reflect.*;
+import java.math.BigDecimal;
+import java.sql.*;
+import java.sql.Date;
+import java.time.*;
+import java.util.*;
+
+/**
+ * Forward-only result set which reads its rows from a supplier while it is iterated.<br>
+ * <p>
+ *     It is used as the source of the bulk copy api of the sql server driver, which accepts any jdbc result set.<br>
+ *     The rows are requested one by one when {@link ResultSet#next()} is called, so they are never materialized as a whole.<br>
+ *     The values of a row are the values which would be bound to a prepared statement, the getters only convert them where the requested java type differs.
+ * </p>
+ * <p>
+ *     The result set is exposed as a dynamic proxy by {@link #asResultSet()}, which only answers the methods read by the bulk copy.<br>
+ *     These are the cursor, the object, string, decimal, binary and temporal getters, the streams and the meta data.<br>
+ *     Getters accept a column index or a column label, all other methods throw a {@link SQLFeatureNotSupportedException}.
+ * </p>
+ *
+ * @author Luis-St
+ */
+final class SqlBulkCopyResultSet implements InvocationHandler {
+	
+	/**
+	 * The names of the columns.<br>
+	 */
+	private final List<String> columnNames;
+	/**
+	 * The jdbc type codes of the columns as defined in {@link Types}.<br>
+	 */
+	private final int[] columnTypes;
+	/**
+	 * The supplier of the rows, which returns null once all rows have been read.<br>
+	 */
+	private final ThrowableSupplier<Object @Nullable [], SqlException> rows;
+	/**
+	 * The result set proxy backed by this handler.<br>
+	 */
+	private final ResultSet resultSet;
+	/**
+	 * The values of the current row, or null if the cursor is not on a row.<br>
+	 */
+	private Object @Nullable [] current;
+	/**
+	 * The number of rows read so far.<br>
+	 */
+	private int rowCount;
+	/**
+	 * Whether the last read value was null.<br>
+	 */
+	private boolean lastNull;
+	/**
+	 * Whether all rows have been read.<br>
+	 */
+	private boolean exhausted;
+	/**
+	 * Whether the result set has been closed.<br>
+	 */
+	private boolean closed;
+	
+	/**
+	 * Constructs a new bulk copy result set.<br>
+	 *
+	 * @param columnNames The names of the columns
+	 * @param columnTypes The jdbc type codes of the columns
+	 * @param rows The supplier of the rows, which returns null once all rows have been read
+	 * @throws NullPointerException If any argument is null
+	 * @throws IllegalArgumentException If the number of column names and column types differ
+	 */
+	SqlBulkCopyResultSet(@NonNull List<String> columnNames, int @NonNull [] columnTypes, @NonNull ThrowableSupplier<Object @Nullable [], SqlException> rows) {
+		this.columnNames = List.copyOf(Objects.requireNonNull(columnNames, "Column names must not be null"));
+		this.columnTypes = Objects.requireNonNull(columnTypes, "Column types must not be null").clone();
+		this.rows = Objects.requireNonNull(rows, "Rows must not be null");
+		if (this.columnNames.size() != this.columnTypes.length) {
+			throw new IllegalArgumentException("Number of column names (" + this.columnNames.size() + ") and column types (" + this.columnTypes.length + ") must be equal");
+		}
+		this.resultSet = (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] { ResultSet.class }, this);
+	}
+	
+	/**
+	 * Returns the result set which is passed to the bulk copy.<br>
+	 * @return The result set proxy backed by this handler
+	 */
+	@NonNull ResultSet asResultSet() {
+		return this.resultSet;
+	}
+	
+	/**
+	 * Checks whether the first row has been requested from the supplier.<br>
+	 * @return {@code true} if the result set has been read, {@code false} if all rows are still available
+	 */
+	boolean isStarted() {
+		return this.rowCount > 0 || this.exhausted;
+	}
+	
+	/**
+	 * Returns the number of rows read so far.<br>
+	 * @return The number of read rows
+	 */
+	int rowCount() {
+		return this.rowCount;
+	}
+	
+	/**
+	 * Closes the result set, all further reads fail.<br>
+	 */
+	void close() {
+		this.closed = true;
+		this.current = null;
+	}
+	
+	/**
+	 * Ensures that the result set has not been closed.<br>
+	 * @throws SQLException If the result set has been closed
+	 */
+	private void ensureOpen() throws SQLException {
+		if (this.closed) {
+			throw new SQLException("Bulk copy result set has been closed");
+		}
+	}
+	
+	/**
+	 * Ensures that the given column index is valid.<br>
+	 *
+	 * @param columnIndex The one-based column index
+	 * @return The zero-based column index
+	 * @throws SQLException If the column index is out of range
+	 */
+	private int checkColumn(int columnIndex) throws SQLException {
+		if (columnIndex < 1 || columnIndex > this.columnTypes.length) {
+			throw new SQLException("Column index " + columnIndex + " is out of range, the result set has " + this.columnTypes.length + " columns");
+		}
+		return columnIndex - 1;
+	}
+	
+	/**
+	 * Returns the one-based index of the column with the given label, ignoring case.<br>
+	 *
+	 * @param columnLabel The label of the column
+	 * @return The one-based column index
+	 * @throws SQLException If the result set is closed or the column does not exist
+	 */
+	private int findColumn(@NonNull String columnLabel) throws SQLException {
+		this.ensureOpen();
+		for (int i = 0; i < this.columnNames.size(); i++) {
+			if (this.columnNames.get(i).equalsIgnoreCase(columnLabel)) {
+				return i + 1;
+			}
+		}
+		throw new SQLException("Column '" + columnLabel + "' does not exist in the bulk copy result set");
+	}
+	
+	/**
+	 * Moves the cursor to the next row by requesting it from the supplier.<br>
+	 *
+	 * @return {@code true} if the cursor is on a row, {@code false} if all rows have been read
+	 * @throws SQLException If the result set is closed, the row can not be created or has the wrong number of values
+	 */
+	private boolean next() throws SQLException {
+		this.ensureOpen();
+		if (this.exhausted) {
+			return false;
+		}
+		
+		try {
+			this.current = this.rows.get();
+		} catch (SqlException e) {
+			this.current = null;
+			throw new SQLException("Failed to read the next row for the bulk copy", e);
+		}
+		if (this.current == null) {
+			this.exhausted = true;
+			return false;
+		}
+		if (this.current.length != this.columnTypes.length) {
+			throw new SQLException("Row has " + this.current.length + " values, but the bulk copy result set has " + this.columnTypes.length + " columns");
+		}
+		this.rowCount++;
+		return true;
+	}
+	
+	/**
+	 * Returns the value of the current row at the given column index.<br>
+	 *
+	 * @param columnIndex The one-based column index
+	 * @return The value or {@code null} if the value is sql null
+	 * @throws SQLException If the result set is closed, the cursor is not on a row or the column index is out of range
+	 */
+	private @Nullable Object value(int columnIndex) throws SQLException {
+		this.ensureOpen();
+		int index = this.checkColumn(columnIndex);
+		if (this.current == null) {
+			throw new SQLException("Cursor of the bulk copy result set is not on a row");
+		}
+		
+		Object value = this.current[index];
+		this.lastNull = value == null;
+		return value;
+	}
+	
+	/**
+	 * Creates the exception thrown if a value can not be converted to the requested type.<br>
+	 *
+	 * @param columnIndex The one-based column index
+	 * @param value The value which can not be converted
+	 * @param target The description of the requested type
+	 * @return The exception
+	 */
+	private static @NonNull SQLException notConvertible(int columnIndex, @NonNull Object value, @NonNull String target) {
+		return new SQLException("Value of column " + columnIndex + " with type " + value.getClass().getName() + " can not be converted to " + target);
+	}
+	
+	/**
+	 * Returns the value at the given column index as string.<br>
+	 *
+	 * @param columnIndex The one-based column index
+	 * @return The string or {@code null} if the value is sql null
+	 * @throws SQLException If the value can not be read
+	 */
+	private @Nullable String string(int columnIndex) throws SQLException {
+		return switch (this.value(columnIndex)) {
+			case null -> null;
+			case BigDecimal decimal -> decimal.toPlainString();
+			case Object value -> String.valueOf(value);
+		};
+	}
+	
+	/**
+	 * Returns the value at the given column index as decimal.<br>
+	 *
+	 * @param columnIndex The one-based column index
+	 * @return The decimal or {@code null} if the value is sql null
+	 * @throws SQLException If the value can not be converted to a decimal
+	 */
+	private @Nullable BigDecimal decimal(int columnIndex) throws SQLException {
+		return switch (this.value(columnIndex)) {
+			case null -> null;
+			case BigDecimal decimal -> decimal;
+			case Double number -> BigDecimal.valueOf(number);
+			case Float number -> BigDecimal.valueOf(number);
+			case Number number -> new BigDecimal(number.toString());
+			case Boolean bool -> bool ? BigDecimal.ONE : BigDecimal.ZERO;
+			case String string -> {
+				try {
+					yield new BigDecimal(string.strip());
+				} catch (NumberFormatException e) {
+					throw new SQLException("Value '" + string + "' of column " + columnIndex + " is not a number", e);
+				}
+			}
+			case Object value -> throw notConvertible(columnIndex, value, "a decimal");
+		};
+	}
+	
+	/**
+	 * Returns the value at the given column index as bytes.<br>
+	 *
+	 * @param columnIndex The one-based column index
+	 * @return The bytes or {@code null} if the value is sql null
+	 * @throws SQLException If the value is not binary
+	 */
+	private byte @Nullable [] bytes(int columnIndex) throws SQLException {
+		return switch (this.value(columnIndex)) {
+			case null -> null;
+			case byte[] bytes -> bytes;
+			case Object value -> throw notConvertible(columnIndex, value, "bytes");
+		};
+	}
+	
+	/**
+	 * Returns the value at the given column index as sql date.<br>
+	 *
+	 * @param columnIndex The one-based column index
+	 * @return The date or {@code null} if the value is sql null
+	 * @throws SQLException If the value can not be converted to a date
+	 */
+	private @Nullable Date date(int columnIndex) throws SQLException {
+		return switch (this.value(columnIndex)) {
+			case null -> null;
+			case Date date -> date;
+			case Timestamp timestamp -> Date.valueOf(timestamp.toLocalDateTime().toLocalDate());
+			case LocalDate date -> Date.valueOf(date);
+			case LocalDateTime dateTime -> Date.valueOf(dateTime.toLocalDate());
+			case OffsetDateTime dateTime -> Date.valueOf(dateTime.toLocalDate());
+			case Object value -> throw notConvertible(columnIndex, value, "a date");
+		};
+	}
+	
+	/**
+	 * Returns the value at the given column index as sql time.<br>
+	 *
+	 * @param columnIndex The one-based column index
+	 * @return The time or {@code null} if the value is sql null
+	 * @throws SQLException If the value can not be converted to a time
+	 */
+	private @Nullable Time time(int columnIndex) throws SQLException {
+		return switch (this.value(columnIndex)) {
+			case null -> null;
+			case Time time -> time;
+			case LocalTime time -> Time.valueOf(time);
+			case OffsetTime time -> Time.valueOf(time.toLocalTime());
+			case Timestamp timestamp -> Time.valueOf(timestamp.toLocalDateTime().toLocalTime());
+			case LocalDateTime dateTime -> Time.valueOf(dateTime.toLocalTime());
+			case Object value -> throw notConvertible(columnIndex, value, "a time");
+		};
+	}
+	
+	/**
+	 * Returns the value at the given column index as sql timestamp.<br>
+	 *
+	 * @param columnIndex The one-based column index
+	 * @return The timestamp or {@code null} if the value is sql null
+	 * @throws SQLException If the value can not be converted to a timestamp
+	 */
+	private @Nullable Timestamp timestamp(int columnIndex) throws SQLException {
+		return switch (this.value(columnIndex)) {
+			case null -> null;
+			case Timestamp timestamp -> timestamp;
+			case LocalDateTime dateTime -> Timestamp.valueOf(dateTime);
+			case OffsetDateTime dateTime -> Timestamp.from(dateTime.toInstant());
+			case Instant instant -> Timestamp.from(instant);
+			case LocalDate date -> Timestamp.valueOf(date.atStartOfDay());
+			case Date date -> Timestamp.valueOf(date.toLocalDate().atStartOfDay());
+			case Object value -> throw notConvertible(columnIndex, value, "a timestamp");
+		};
+	}
+	
+	/**
+	 * Returns the value at the given column index as the given type.<br>
+	 * The value is returned as is if it is an instance of the type, otherwise it is converted to a string, decimal or sql temporal type.<br>
+	 *
+	 * @param columnIndex The one-based column index
+	 * @param type The requested type
+	 * @return The converted value or {@code null} if the value is sql null
+	 * @throws SQLException If the value can not be converted to the type
+	 */
+	private @Nullable Object object(int columnIndex, @NonNull Class<?> type) throws SQLException {
+		Object value = this.value(columnIndex);
+		if (value == null || type.isInstance(value)) {
+			return value;
+		}
+		
+		if (type == String.class) {
+			return this.string(columnIndex);
+		} else if (type == BigDecimal.class) {
+			return this.decimal(columnIndex);
+		} else if (type == Date.class) {
+			return this.date(columnIndex);
+		} else if (type == Time.class) {
+			return this.time(columnIndex);
+		} else if (type == Timestamp.class) {
+			return this.timestamp(columnIndex);
+		}
+		throw notConvertible(columnIndex, value, type.getName());
+	}
+	
+	@Override
+	public @Nullable Object invoke(@NonNull Object proxy, @NonNull Method method, Object @Nullable [] args) throws SQLException {
+		String name = method.getName();
+		Object[] arguments = args == null ? ArrayUtils.EMPTY_OBJECT_ARRAY : args;
+		if (name.startsWith("get") && arguments.length > 0 && arguments[0] instanceof String columnLabel) {
+			arguments = arguments.clone();
+			arguments[0] = this.findColumn(columnLabel);
+		}
+		
+		return switch (name) {
+			case "equals" -> proxy == arguments[0];
+			case "hashCode" -> System.identityHashCode(proxy);
+			case "toString" -> "SqlBulkCopyResultSet" + this.columnNames;
+			case "next" -> this.next();
+			case "close" -> {
+				this.close();
+				yield null;
+			}
+			case "isClosed" -> this.closed;
+			case "wasNull" -> {
+				this.ensureOpen();
+				yield this.lastNull;
+			}
+			case "getMetaData" -> {
+				this.ensureOpen();
+				yield Proxy.newProxyInstance(ResultSetMetaData.class.getClassLoader(), new Class<?>[] { ResultSetMetaData.class }, new MetaData(this.columnNames, this.columnTypes));
+			}
+			case "findColumn" -> this.findColumn((String) arguments[0]);
+			case "getObject" -> arguments.length == 2 && arguments[1] instanceof Class<?> type ? this.object((int) arguments[0], type) : this.value((int) arguments[0]);
+			case "getString", "getNString" -> this.string((int) arguments[0]);
+			case "getBigDecimal" -> {
+				if (arguments.length != 1) {
+					throw new SQLFeatureNotSupportedException("Bulk copy result set does not support getBigDecimal with a scale");
+				}
+				yield this.decimal((int) arguments[0]);
+			}
+			case "getBytes" -> this.bytes((int) arguments[0]);
+			case "getDate" -> this.date((int) arguments[0]);
+			case "getTime" -> this.time((int) arguments[0]);
+			case "getTimestamp" -> this.timestamp((int) arguments[0]);
+			case "getBinaryStream" -> {
+				byte[] bytes = this.bytes((int) arguments[0]);
+				yield bytes == null ? null : new ByteArrayInputStream(bytes);
+			}
+			case "getCharacterStream", "getNCharacterStream" -> {
+				String string = this.string((int) arguments[0]);
+				yield string == null ? null : new StringReader(string);
+			}
+			case "getType" -> ResultSet.TYPE_FORWARD_ONLY;
+			case "getConcurrency" -> ResultSet.CONCUR_READ_ONLY;
+			case "unwrap" -> {
+				Class<?> type = (Class<?>) arguments[0];
+				if (!type.isInstance(proxy)) {
+					throw new SQLException("Bulk copy result set does not wrap " + type.getName());
+				}
+				yield proxy;
+			}
+			case "isWrapperFor" -> ((Class<?>) arguments[0]).isInstance(proxy);
+			default -> throw new SQLFeatureNotSupportedException("Bulk copy result set does not support " + name);
+		};
+	}
+	
+	/**
+	 * Invocation handler of the meta data of a {@link SqlBulkCopyResultSet}.<br>
+	 * <p>
+	 *     It describes the columns by their name and jdbc type code only.<br>
+	 *     The precision and scale are reported as unknown, so the target columns define how the values are stored.
+	 * </p>
+	 *
+	 * @author Luis-St
+	 *
+	 * @param columnNames The names of the columns
+	 * @param columnTypes The jdbc type codes of the columns
+	 */
+	private record MetaData(@NonNull List<String> columnNames, int @NonNull [] columnTypes) implements InvocationHandler {
+		
+		/**
+		 * Ensures that the given column index is valid.<br>
+		 *
+		 * @param column The one-based column index
+		 * @return The zero-based column index
+		 * @throws SQLException If the column index is out of range
+		 */
+		private int index(int column) throws SQLException {
+			if (column < 1 || column > this.columnTypes.length) {
+				throw new SQLException("Column index " + column + " is out of range, the result set has " + this.columnTypes.length + " columns");
+			}
+			return column - 1;
+		}
+		
+		@Override
+		public @Nullable Object invoke(@NonNull Object proxy, @NonNull Method method, Object @Nullable [] args) throws SQLException {
+			String name = method.getName();
+			Object[] arguments = args == null ? ArrayUtils.EMPTY_OBJECT_ARRAY : args;
+			
+			return switch (name) {
+				case "equals" -> proxy == arguments[0];
+				case "hashCode" -> System.identityHashCode(proxy);
+				case "toString" -> "SqlBulkCopyResultSetMetaData" + this.columnNames;
+				case "getColumnCount" -> this.columnTypes.length;
+				case "getColumnName", "getColumnLabel" -> this.columnNames.get(this.index((int) arguments[0]));
+				case "getColumnType" -> this.columnTypes[this.index((int) arguments[0])];
+				case "getColumnTypeName" -> {
+					int type = this.columnTypes[this.index((int) arguments[0])];
+					try {
+						yield JDBCType.valueOf(type).getName();
+					} catch (IllegalArgumentException e) {
+						yield JDBCType.OTHER.getName();
+					}
+				}
+				case "getPrecision", "getScale" -> {
+					this.index((int) arguments[0]);
+					yield 0;
+				}
+				case "isNullable" -> {
+					this.index((int) arguments[0]);
+					yield ResultSetMetaData.columnNullableUnknown;
+				}
+				case "isAutoIncrement" -> {
+					this.index((int) arguments[0]);
+					yield false;
+				}
+				case "unwrap" -> {
+					Class<?> type = (Class<?>) arguments[0];
+					if (!type.isInstance(proxy)) {
+						throw new SQLException("Bulk copy result set meta data does not wrap " + type.getName());
+					}
+					yield proxy;
+				}
+				case "isWrapperFor" -> ((Class<?>) arguments[0]).isInstance(proxy);
+				default -> throw new SQLFeatureNotSupportedException("Bulk copy result set meta data does not support " + name);
+			};
+		}
+	}
+}
@@ -0,0 +1,840 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.database.query.crud;
+
+import net.luis.utils.function.throwable.ThrowableFunction;
+import net.luis.utils.io.database.SqlConnectionHandle;
+import net.luis.utils.io.database.SqlConnectionSource;
+import net.luis.utils.io.database.dialect.SqlBulkLoadMethod;
+import net.luis.utils.io.database.dialect.SqlDialect;
+import net.luis.utils.io.database.exception.SqlException;
+import net.luis.utils.io.database.exception.client.SqlStatementBuilderException;
+import net.luis.utils.io.database.exception.database.SqlQueryExecutionException;
+import net.luis.utils.io.database.exception.database.transaction.*;
+import net.luis.utils.io.database.table.SqlColumn;
+import net.luis.utils.io.database.table.SqlTable;
+import net.luis.utils.io.database.type.SqlValueAccessor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.*;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.*;
+import java.sql.Date;
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.util.*;
+
+/**
+ * Loads large amounts of rows into a table using the {@link SqlDialect#bulkLoadMethod() bulk load method} of the dialect.<br>
+ * <p>
+ *     The rows are streamed from an iterator and never materialized as a whole.<br>
+ *     The values are converted by the {@link SqlValueAccessor value accessors} of the columns exactly as they would be bound to a prepared statement.<br>
+ *     {@code COPY} and {@code LOAD DATA} receive the rows encoded in the text format of the database, the sql server bulk copy reads them from a result set.<br>
+ *     The native methods are driven through the driver api by reflection, since the drivers are not required at compile time.
+ * </p>
+ * <p>
+ *     The rows are loaded with chunked multi-row inserts if the dialect has no native method, if the table is audited,
+ *     if the dialect binds a column type with a binding override, or if the driver api is not available or rejects the load before the first row was read.<br>
+ *     Inside a transaction the native load is guarded by a savepoint, so a rejected load does not leave the transaction aborted before the fallback runs.<br>
+ *     In auto-commit mode {@code LOAD DATA} runs in a transaction owned by the loader, since it commits the rows read before a failure otherwise.<br>
+ *     A failed native load is always rolled back to the savepoint or the owned transaction is rolled back, before the fallback runs or the failure is thrown.<br>
+ *     Each chunk holds as many rows as fit into {@link SqlDialect#maxBindParameters()}.
+ * </p>
+ * <p>
+ *     {@code LOAD DATA LOCAL} skips rows violating a unique key and reports invalid values as warnings instead of failing.<br>
+ *     The load therefore fails if any row was skipped or any warning was reported, like the other methods fail for such rows.
+ * </p>
+ *
+ * @see SqlBulkLoadMethod
+ *
+ * @author Luis-St
+ */
+public final class SqlBulkLoader {
+	
+	/**
+	 * The logger of this class.<br>
+	 */
+	private static final Logger LOGGER = LogManager.getLogger(SqlBulkLoader.class);
+	/**
+	 * The name of the postgresql connection interface which provides the copy api.<br>
+	 */
+	private static final String POSTGRES_CONNECTION = "org.postgresql.PGConnection";
+	/**
+	 * The name of the postgresql copy manager class.<br>
+	 */
+	private static final String POSTGRES_COPY_MANAGER = "org.postgresql.copy.CopyManager";
+	/**
+	 * The names of the mysql and mariadb statement types which accept a local infile input stream.<br>
+	 */
+	private static final List<String> LOCAL_INFILE_STATEMENTS = List.of("com.mysql.cj.jdbc.JdbcStatement", "org.mariadb.jdbc.Statement");
+	/**
+	 * The name of the sql server connection interface which is accepted by the bulk copy api.<br>
+	 */
+	private static final String SQL_SERVER_CONNECTION = "com.microsoft.sqlserver.jdbc.ISQLServerConnection";
+	/**
+	 * The name of the sql server bulk copy class.<br>
+	 */
+	private static final String SQL_SERVER_BULK_COPY = "com.microsoft.sqlserver.jdbc.SQLServerBulkCopy";
+	/**
+	 * The name of the sql server bulk copy options class.<br>
+	 */
+	private static final String SQL_SERVER_BULK_COPY_OPTIONS = "com.microsoft.sqlserver.jdbc.SQLServerBulkCopyOptions";
+	/**
+	 * The formatter of times in the text format, with up to six fractional digits which are omitted if zero.<br>
+	 */
+	private static final DateTimeFormatter TIME_FORMATTER = new DateTimeFormatterBuilder().appendPattern("HH:mm:ss").appendFraction(ChronoField.NANO_OF_SECOND, 0, 6, true).toFormatter(Locale.ROOT);
+	/**
+	 * The formatter of timestamps in the text format, which separates the date and the time with a space.<br>
+	 */
+	private static final DateTimeFormatter DATE_TIME_FORMATTER = new DateTimeFormatterBuilder().append(DateTimeFormatter.ISO_LOCAL_DATE).appendLiteral(' ').append(TIME_FORMATTER).toFormatter(Locale.ROOT);
+	/**
+	 * The formatter of times with a zone offset in the {@code COPY} text format.<br>
+	 */
+	private static final DateTimeFormatter OFFSET_TIME_FORMATTER = new DateTimeFormatterBuilder().append(TIME_FORMATTER).appendOffset("+HH:MM", "+00:00").toFormatter(Locale.ROOT);
+	/**
+	 * The formatter of timestamps with a zone offset in the {@code COPY} text format.<br>
+	 */
+	private static final DateTimeFormatter OFFSET_DATE_TIME_FORMATTER = new DateTimeFormatterBuilder().append(DATE_TIME_FORMATTER).appendOffset("+HH:MM", "+00:00").toFormatter(Locale.ROOT);
+	
+	/**
+	 * Private constructor to prevent instantiation.<br>
+	 * This is a static helper class.<br>
+	 */
+	private SqlBulkLoader() {}
+	
+	/**
+	 * Loads the given rows into the given table.<br>
+	 * <p>
+	 *     The native methods load all rows with a single statement, which is not bound by the query timeout.<br>
+	 *     The chunked multi-row inserts are executed through the given chunk inserter.
+	 * </p>
+	 *
+	 * @param table The table to load the rows into
+	 * @param dialect The sql dialect used to load the rows
+	 * @param source The connection source used by the native methods
+	 * @param rows The rows to load
+	 * @param chunkInserter The function which inserts a chunk of rows and returns the number of inserted rows
+	 * @return The number of loaded rows
+	 * @param <E> The type of the entities
+	 * @throws NullPointerException If any argument is null
+	 * @throws SqlStatementBuilderException If a value can not be encoded for the native method
+	 * @throws SqlException If loading the rows fails
+	 */
+	public static <E> long load(
+		@NonNull SqlTable<E> table,
+		@NonNull SqlDialect dialect,
+		@NonNull SqlConnectionSource source,
+		@NonNull Iterator<? extends E> rows,
+		@NonNull ThrowableFunction<List<E>, Integer, SqlException> chunkInserter
+	) throws SqlException {
+		Objects.requireNonNull(table, "Sql table must not be null");
+		Objects.requireNonNull(dialect, "Sql dialect must not be null");
+		Objects.requireNonNull(source, "Sql connection source must not be null");
+		Objects.requireNonNull(rows, "Rows must not be null");
+		Objects.requireNonNull(chunkInserter, "Chunk inserter must not be null");
+		
+		SqlBulkLoadMethod method = dialect.bulkLoadMethod();
+		if (method != SqlBulkLoadMethod.MULTI_VALUES && isNativeLoadable(table, dialect)) {
+			RowEncoder<E> encoder = new RowEncoder<>(table, dialect, method);
+			try (SqlConnectionHandle handle = source.open()) {
+				OptionalLong loaded = switch (method) {
+					case COPY -> copy(table, dialect, handle.connection(), new RowStream<>(rows, encoder));
+					case LOAD_DATA -> loadData(table, dialect, handle.connection(), new RowStream<>(rows, encoder));
+					case BULK_COPY -> bulkCopy(table, dialect, handle.connection(), rows, encoder);
+					case MULTI_VALUES -> OptionalLong.empty();
+				};
+				if (loaded.isPresent()) {
+					return loaded.getAsLong();
+				}
+			}
+		}
+		return insertChunked(table, dialect, rows, chunkInserter);
+	}
+	
+	/**
+	 * Checks whether the rows of the given table can be loaded with a native method.<br>
+	 * This is not the case for audited tables, which must be loaded through the insert query,
+	 * and for tables with a column type the dialect binds with a binding override, whose values can not be converted without a prepared statement.<br>
+	 *
+	 * @param table The table to check
+	 * @param dialect The sql dialect used to convert the values
+	 * @return {@code true} if the rows can be loaded with a native method, otherwise {@code false}
+	 */
+	private static boolean isNativeLoadable(@NonNull SqlTable<?> table, @NonNull SqlDialect dialect) {
+		if (table.auditConfig().isPresent()) {
+			return false;
+		}
+		for (SqlColumn<?, ?> column : table.columns()) {
+			if (!dialect.valueAccessor(column.type()).isConvertible()) {
+				LOGGER.debug("Column '{}' is bound with a binding override, falling back to multi-row inserts", column.name());
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Loads the rows through the copy api of the postgresql driver.<br>
+	 *
+	 * @param table The table to load the rows into
+	 * @param dialect The sql dialect used to quote the identifiers
+	 * @param connection The connection to load the rows with
+	 * @param stream The stream of the encoded rows
+	 * @return The number of loaded rows, or an empty optional if the rows must be loaded with multi-row inserts
+	 * @throws SqlException If loading the rows fails
+	 */
+	private static @NonNull OptionalLong copy(@NonNull SqlTable<?> table, @NonNull SqlDialect dialect, @NonNull Connection connection, @NonNull RowStream<?> stream) throws SqlException {
+		Object copyManager;
+		Method copyIn;
+		try {
+			Class<?> connectionType = Class.forName(POSTGRES_CONNECTION);
+			if (!connection.isWrapperFor(connectionType)) {
+				return OptionalLong.empty();
+			}
+			copyManager = connectionType.getMethod("getCopyAPI").invoke(connection.unwrap(connectionType));
+			copyIn = Class.forName(POSTGRES_COPY_MANAGER).getMethod("copyIn", String.class, InputStream.class);
+		} catch (ReflectiveOperationException | SQLException e) {
+			LOGGER.debug("Copy api of the postgresql driver is not available, falling back to multi-row inserts", e);
+			return OptionalLong.empty();
+		}
+		
+		String sql = "COPY " + dialect.quoteIdentifier(table.name()) + " " + columnList(table, dialect) + " FROM STDIN";
+		try (LoadGuard guard = LoadGuard.begin(connection, false)) {
+			long loaded = (Long) copyIn.invoke(copyManager, sql, stream);
+			guard.complete();
+			return OptionalLong.of(loaded);
+		} catch (InvocationTargetException e) {
+			return fallbackOrThrow(stream.isStarted(), sql, e.getCause());
+		} catch (IllegalAccessException e) {
+			throw new SqlException("Failed to access the copy api of the postgresql driver", e);
+		}
+	}
+	
+	/**
+	 * Loads the rows through a local infile input stream of the mysql or mariadb driver.<br>
+	 * <p>
+	 *     Since the server can not stop the transfer of a local infile, it skips rows violating a unique key and reports invalid values as warnings.<br>
+	 *     The load fails if fewer rows were loaded than read or if any warning was reported.<br>
+	 *     The rows are loaded in a transaction owned by the loader if the connection is in auto-commit mode, so a failed load is rolled back completely.
+	 * </p>
+	 *
+	 * @param table The table to load the rows into
+	 * @param dialect The sql dialect used to quote the identifiers
+	 * @param connection The connection to load the rows with
+	 * @param stream The stream of the encoded rows
+	 * @return The number of loaded rows, or an empty optional if the rows must be loaded with multi-row inserts
+	 * @throws SqlQueryExecutionException If the server reported a warning while loading the rows
+	 * @throws SqlException If loading the rows fails or a row was skipped
+	 */
+	private static @NonNull OptionalLong loadData(@NonNull SqlTable<?> table, @NonNull SqlDialect dialect, @NonNull Connection connection, @NonNull RowStream<?> stream) throws SqlException {
+		String sql = "LOAD DATA LOCAL INFILE 'stream' INTO TABLE " + dialect.quoteIdentifier(table.name()) + " CHARACTER SET utf8mb4 " + columnList(table, dialect);
+		try (LoadGuard guard = LoadGuard.begin(connection, true); Statement statement = connection.createStatement()) {
+			Method setInputStream = null;
+			Object driverStatement = null;
+			for (String name : LOCAL_INFILE_STATEMENTS) {
+				try {
+					Class<?> statementType = Class.forName(name);
+					if (statement.isWrapperFor(statementType)) {
+						driverStatement = statement.unwrap(statementType);
+						setInputStream = statementType.getMethod("setLocalInfileInputStream", InputStream.class);
+						break;
+					}
+				} catch (ClassNotFoundException | NoSuchMethodException e) {
+					LOGGER.debug("Local infile api of statement type {} is not available", name, e);
+				}
+			}
+			if (setInputStream == null) {
+				return OptionalLong.empty();
+			}
+			
+			setInputStream.invoke(driverStatement, stream);
+			long loaded = statement.executeLargeUpdate(sql);
+			
+			SQLWarning warning = statement.getWarnings();
+			if (warning != null) {
+				throw new SqlQueryExecutionException("Bulk load of " + stream.rowCount() + " rows reported warnings, local infile loading skips duplicate rows and downgrades invalid values to warnings", warning, sql);
+			}
+			if (loaded != stream.rowCount()) {
+				throw new SqlException("Bulk load skipped " + (stream.rowCount() - loaded) + " of " + stream.rowCount() + " rows: " + sql);
+			}
+			guard.complete();
+			return OptionalLong.of(loaded);
+		} catch (SQLException e) {
+			return fallbackOrThrow(stream.isStarted(), sql, e);
+		} catch (InvocationTargetException | IllegalAccessException e) {
+			throw new SqlException("Failed to pass the rows to the local infile api of the driver", e);
+		}
+	}
+	
+	/**
+	 * Loads the rows through the bulk copy api of the sql server driver.<br>
+	 * <p>
+	 *     The rows are passed as a {@link SqlBulkCopyResultSet} which converts them while the driver reads it.<br>
+	 *     Constraints are checked, triggers are fired and explicit identity and null values are kept, like they are for an insert.<br>
+	 *     The bulk copy uses the transaction of the connection if there is one.
+	 * </p>
+	 *
+	 * @param table The table to load the rows into
+	 * @param dialect The sql dialect used to quote the identifiers
+	 * @param connection The connection to load the rows with
+	 * @param rows The rows to load
+	 * @param encoder The encoder which converts the rows
+	 * @return The number of loaded rows, or an empty optional if the rows must be loaded with multi-row inserts
+	 * @param <E> The type of the entities
+	 * @throws SqlException If loading the rows fails
+	 */
+	private static <E> @NonNull OptionalLong bulkCopy(@NonNull SqlTable<E> table, @NonNull SqlDialect dialect, @NonNull Connection connection, @NonNull Iterator<? extends E> rows, @NonNull RowEncoder<E> encoder) throws SqlException {
+		List<SqlColumn<E, ?>> columns = table.columns();
+		Object bulkCopy;
+		Method writeToServer;
+		try {
+			Class<?> connectionType = Class.forName(SQL_SERVER_CONNECTION);
+			if (!connection.isWrapperFor(connectionType)) {
+				return OptionalLong.empty();
+			}
+			
+			Class<?> optionsType = Class.forName(SQL_SERVER_BULK_COPY_OPTIONS);
+			Object options = optionsType.getConstructor().newInstance();
+			optionsType.getMethod("setBulkCopyTimeout", int.class).invoke(options, 0);
+			optionsType.getMethod("setCheckConstraints", boolean.class).invoke(options, true);
+			optionsType.getMethod("setFireTriggers", boolean.class).invoke(options, true);
+			optionsType.getMethod("setKeepIdentity", boolean.class).invoke(options, true);
+			optionsType.getMethod("setKeepNulls", boolean.class).invoke(options, true);
+			
+			Class<?> bulkCopyType = Class.forName(SQL_SERVER_BULK_COPY);
+			bulkCopy = bulkCopyType.getConstructor(Connection.class).newInstance(connection.unwrap(connectionType));
+			bulkCopyType.getMethod("setBulkCopyOptions", optionsType).invoke(bulkCopy, options);
+			bulkCopyType.getMethod("setDestinationTableName", String.class).invoke(bulkCopy, dialect.quoteIdentifier(table.name()));
+			Method addColumnMapping = bulkCopyType.getMethod("addColumnMapping", int.class, String.class);
+			for (int i = 0; i < columns.size(); i++) {
+				addColumnMapping.invoke(bulkCopy, i + 1, columns.get(i).name());
+			}
+			writeToServer = bulkCopyType.getMethod("writeToServer", ResultSet.class);
+		} catch (ReflectiveOperationException | SQLException e) {
+			LOGGER.debug("Bulk copy api of the sql server driver is not available, falling back to multi-row inserts", e);
+			return OptionalLong.empty();
+		}
+		
+		List<String> columnNames = new ArrayList<>(columns.size());
+		int[] columnTypes = new int[columns.size()];
+		for (int i = 0; i < columns.size(); i++) {
+			columnNames.add(columns.get(i).name());
+			columnTypes[i] = columns.get(i).type().jdbcType();
+		}
+		SqlBulkCopyResultSet resultSet = new SqlBulkCopyResultSet(columnNames, columnTypes, () -> rows.hasNext() ? encoder.values(rows.next()) : null);
+		
+		String sql = "INSERT BULK " + dialect.quoteIdentifier(table.name()) + " " + columnList(table, dialect);
+		try (LoadGuard guard = LoadGuard.begin(connection, false)) {
+			writeToServer.invoke(bulkCopy, resultSet.asResultSet());
+			guard.complete();
+			return OptionalLong.of(resultSet.rowCount());
+		} catch (InvocationTargetException e) {
+			return fallbackOrThrow(resultSet.isStarted(), sql, e.getCause());
+		} catch (IllegalAccessException e) {
+			throw new SqlException("Failed to access the bulk copy api of the sql server driver", e);
+		} finally {
+			resultSet.close();
+			closeBulkCopy(bulkCopy);
+		}
+	}
+	
+	/**
+	 * Closes the given sql server bulk copy.<br>
+	 * A failure is only logged, since the rows have already been loaded or the load has already failed.<br>
+	 *
+	 * @param bulkCopy The bulk copy to close
+	 */
+	private static void closeBulkCopy(@NonNull Object bulkCopy) {
+		try {
+			bulkCopy.getClass().getMethod("close").invoke(bulkCopy);
+		} catch (ReflectiveOperationException e) {
+			LOGGER.debug("Failed to close the bulk copy of the sql server driver", e);
+		}
+	}
+	
+	/**
+	 * Handles a failure of a native method.<br>
+	 * <p>
+	 *     If the rows have not been read yet, they are still available and are loaded with multi-row inserts instead.<br>
+	 *     The {@link LoadGuard guard} of the native method rolls the failed load back before the fallback runs,
+	 *     since some databases abort the whole transaction when a statement fails.
+	 * </p>
+	 *
+	 * @param started Whether the native method has already read rows
+	 * @param sql The sql statement of the native method
+	 * @param cause The cause of the failure
+	 * @return An empty optional if the rows must be loaded with multi-row inserts
+	 * @throws SqlException The conversion failure or the failure of the native method if the rows have already been read
+	 */
+	private static @NonNull OptionalLong fallbackOrThrow(boolean started, @NonNull String sql, @Nullable Throwable cause) throws SqlException {
+		for (Throwable current = cause; current != null; current = current.getCause()) {
+			if (current instanceof SqlException sqlException) {
+				throw sqlException;
+			}
+		}
+		
+		if (!started) {
+			LOGGER.debug("Native bulk load was rejected before reading any row, falling back to multi-row inserts", cause);
+			return OptionalLong.empty();
+		}
+		if (cause instanceof SQLException sqlException) {
+			throw new SqlQueryExecutionException("Failed to bulk load rows", sqlException, sql);
+		}
+		throw new SqlException("Failed to bulk load rows: " + sql, cause);
+	}
+	
+	/**
+	 * Renders the bracketed and quoted list of the columns of the given table.<br>
+	 *
+	 * @param table The table to render the columns of
+	 * @param dialect The sql dialect used to quote the identifiers
+	 * @return The rendered column list
+	 */
+	private static @NonNull String columnList(@NonNull SqlTable<?> table, @NonNull SqlDialect dialect) {
+		StringJoiner joiner = new StringJoiner(", ", "(", ")");
+		for (SqlColumn<?, ?> column : table.columns()) {
+			joiner.add(dialect.quoteIdentifier(column.name()));
+		}
+		return joiner.toString();
+	}
+	
+	/**
+	 * Inserts the given rows with chunked multi-row inserts.<br>
+	 * Each chunk holds as many rows as fit into the bind parameter limit of the dialect.<br>
+	 *
+	 * @param table The table to insert the rows into
+	 * @param dialect The sql dialect which limits the bind parameters
+	 * @param rows The rows to insert
+	 * @param chunkInserter The function which inserts a chunk of rows and returns the number of inserted rows
+	 * @return The number of inserted rows
+	 * @param <E> The type of the entities
+	 * @throws SqlException If inserting a chunk fails
+	 */
+	private static <E> long insertChunked(@NonNull SqlTable<E> table, @NonNull SqlDialect dialect, @NonNull Iterator<? extends E> rows, @NonNull ThrowableFunction<List<E>, Integer, SqlException> chunkInserter) throws SqlException {
+		int paramsPerRow = table.columns().size() + table.auditConfig().map(config -> config.auditColumns().size()).orElse(0);
+		int chunkSize = Math.max(1, dialect.maxBindParameters() / Math.max(1, paramsPerRow));
+		
+		long inserted = 0;
+		List<E> chunk = new ArrayList<>();
+		while (rows.hasNext()) {
+			chunk.add(rows.next());
+			if (chunk.size() == chunkSize) {
+				inserted += chunkInserter.apply(chunk);
+				chunk = new ArrayList<>();
+			}
+		}
+		if (!chunk.isEmpty()) {
+			inserted += chunkInserter.apply(chunk);
+		}
+		return inserted;
+	}
+	
+	/**
+	 * Guards a native load, so a failed load never leaves rows behind.<br>
+	 * <p>
+	 *     If the connection takes part in a transaction, a savepoint is set before the load.<br>
+	 *     Otherwise the guard can own a transaction for the load, which disables the auto-commit mode until the guard is closed.<br>
+	 *     Closing a guard whose load has not been {@link #complete() completed} rolls back to the savepoint or rolls back the owned transaction.
+	 * </p>
+	 *
+	 * @author Luis-St
+	 */
+	private static final class LoadGuard implements AutoCloseable {
+		
+		/**
+		 * The connection the load is executed on.<br>
+		 */
+		private final Connection connection;
+		/**
+		 * The savepoint set before the load, or null if the connection is in auto-commit mode.<br>
+		 */
+		private final @Nullable Savepoint savepoint;
+		/**
+		 * Whether the guard owns the transaction of the load.<br>
+		 */
+		private final boolean ownsTransaction;
+		/**
+		 * Whether the load has been completed.<br>
+		 */
+		private boolean completed;
+		
+		/**
+		 * Constructs a new load guard.<br>
+		 *
+		 * @param connection The connection the load is executed on
+		 * @param savepoint The savepoint set before the load, or null if the connection is in auto-commit mode
+		 * @param ownsTransaction Whether the guard owns the transaction of the load
+		 */
+		private LoadGuard(@NonNull Connection connection, @Nullable Savepoint savepoint, boolean ownsTransaction) {
+			this.connection = connection;
+			this.savepoint = savepoint;
+			this.ownsTransaction = ownsTransaction;
+		}
+		
+		/**
+		 * Begins guarding a load on the given connection.<br>
+		 * <p>
+		 *     If the connection takes part in a transaction, a savepoint is set.<br>
+		 *     If the connection is in auto-commit mode and the guard should own a transaction, the auto-commit mode is disabled.<br>
+		 *     Otherwise the load is executed as a single auto-committed statement and not guarded.
+		 * </p>
+		 *
+		 * @param connection The connection the load is executed on
+		 * @param ownTransaction Whether the guard should own a transaction if the connection is in auto-commit mode
+		 * @return The created guard
+		 * @throws SqlTransactionSavepointException If the savepoint could not be set
+		 * @throws SqlTransactionConnectionException If the auto-commit mode could not be read or disabled
+		 */
+		private static @NonNull LoadGuard begin(@NonNull Connection connection, boolean ownTransaction) throws SqlException {
+			boolean autoCommit;
+			try {
+				autoCommit = connection.getAutoCommit();
+				if (autoCommit && ownTransaction) {
+					connection.setAutoCommit(false);
+				}
+			} catch (SQLException e) {
+				throw new SqlTransactionConnectionException("Failed to begin the transaction guarding the bulk load", e);
+			}
+			
+			if (autoCommit) {
+				return new LoadGuard(connection, null, ownTransaction);
+			}
+			try {
+				return new LoadGuard(connection, connection.setSavepoint(), false);
+			} catch (SQLException e) {
+				throw new SqlTransactionSavepointException("Failed to set the savepoint guarding the bulk load", e);
+			}
+		}
+		
+		/**
+		 * Completes the guarded load by committing the owned transaction or releasing the savepoint.<br>
+		 *
+		 * @throws SqlTransactionCommitException If the owned transaction could not be committed
+		 * @throws SqlTransactionSavepointException If the savepoint could not be released
+		 */
+		private void complete() throws SqlException {
+			if (this.ownsTransaction) {
+				try {
+					this.connection.commit();
+				} catch (SQLException e) {
+					throw new SqlTransactionCommitException("Failed to commit the bulk load", e);
+				}
+			} else if (this.savepoint != null) {
+				try {
+					this.connection.releaseSavepoint(this.savepoint);
+				} catch (SQLException e) {
+					throw new SqlTransactionSavepointException("Failed to release the savepoint guarding the bulk load", e);
+				}
+			}
+			this.completed = true;
+		}
+		
+		/**
+		 * Rolls back the load if it has not been completed and restores the auto-commit mode of an owned transaction.<br>
+		 *
+		 * @throws SqlTransactionRollbackException If the owned transaction could not be rolled back
+		 * @throws SqlTransactionSavepointException If the connection could not be rolled back to the savepoint
+		 */
+		@Override
+		public void close() throws SqlException {
+			try {
+				if (this.completed) {
+					return;
+				}
+				
+				if (this.ownsTransaction) {
+					try {
+						this.connection.rollback();
+					} catch (SQLException e) {
+						throw new SqlTransactionRollbackException("Failed to roll back the failed bulk load", e);
+					}
+				} else if (this.savepoint != null) {
+					try {
+						this.connection.rollback(this.savepoint);
+					} catch (SQLException e) {
+						throw new SqlTransactionSavepointException("Failed to roll back to the savepoint guarding the failed bulk load", e);
+					}
+				}
+			} finally {
+				if (this.ownsTransaction) {
+					try {
+						this.connection.setAutoCommit(true);
+					} catch (SQLException ignored) {}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Converts entities into the values of their columns and encodes them into lines of the tab-separated text format shared by {@code COPY} and {@code LOAD DATA}.<br>
+	 * <p>
+	 *     The value accessor of each column is resolved once, the values are converted by it exactly as they would be bound to a prepared statement.<br>
+	 *     Null values are written as {@code \N}, backslashes, tabs and line breaks are escaped with a backslash.
+	 * </p>
+	 * <p>
+	 *     Temporal values are formatted as {@code yyyy-MM-dd HH:mm:ss.ffffff} with up to six fractional digits, since neither method accepts the iso format of java.<br>
+	 *     {@code COPY} receives values with a zone offset including their offset.<br>
+	 *     {@code LOAD DATA} does not accept offsets, so such values are converted to the default time zone first, like the mysql and mariadb drivers bind them.
+	 * </p>
+	 *
+	 * @author Luis-St
+	 *
+	 * @param <E> The type of the entities
+	 */
+	private static final class RowEncoder<E> {
+		
+		/**
+		 * The columns whose values are encoded.<br>
+		 */
+		private final List<SqlColumn<E, ?>> columns;
+		/**
+		 * The value accessors of the columns in column order.<br>
+		 */
+		private final List<SqlValueAccessor<?>> accessors;
+		/**
+		 * The bulk load method the rows are encoded for.<br>
+		 */
+		private final SqlBulkLoadMethod method;
+		
+		/**
+		 * Constructs a new row encoder for the given table.<br>
+		 *
+		 * @param table The table whose columns are encoded
+		 * @param dialect The sql dialect used to resolve the value accessors
+		 * @param method The bulk load method the rows are encoded for
+		 */
+		private RowEncoder(@NonNull SqlTable<E> table, @NonNull SqlDialect dialect, @NonNull SqlBulkLoadMethod method) {
+			this.columns = table.columns();
+			this.accessors = new ArrayList<>(this.columns.size());
+			for (SqlColumn<E, ?> column : this.columns) {
+				this.accessors.add(dialect.valueAccessor(column.type()));
+			}
+			this.method = method;
+		}
+		
+		/**
+		 * Converts the column values of the given entity.<br>
+		 *
+		 * @param entity The entity to convert
+		 * @return The converted values in column order
+		 * @throws NullPointerException If the entity is null
+		 * @throws SqlStatementBuilderException If a value can not be loaded with the bulk load method
+		 * @throws SqlException If a value can not be converted
+		 */
+		private Object @NonNull [] values(@NonNull E entity) throws SqlException {
+			Objects.requireNonNull(entity, "Entity must not be null");
+			
+			Object[] values = new Object[this.columns.size()];
+			for (int i = 0; i < values.length; i++) {
+				SqlColumn<E, ?> column = this.columns.get(i);
+				Object value = this.accessors.get(i).convert(column.getter().apply(entity));
+				if (value instanceof Object[] || value instanceof java.sql.Array) {
+					throw new SqlStatementBuilderException("Cannot bulk load value of column '" + column.name() + "' with type " + value.getClass().getSimpleName() + " using " + this.method);
+				}
+				values[i] = value;
+			}
+			return values;
+		}
+		
+		/**
+		 * Encodes the given entity into a line.<br>
+		 *
+		 * @param entity The entity to encode
+		 * @return The encoded line including the line break
+		 * @throws NullPointerException If the entity is null
+		 * @throws SqlStatementBuilderException If a value can not be encoded
+		 * @throws SqlException If a value can not be converted
+		 */
+		private @NonNull String encode(@NonNull E entity) throws SqlException {
+			Object[] values = this.values(entity);
+			
+			StringBuilder line = new StringBuilder();
+			for (int i = 0; i < values.length; i++) {
+				if (i > 0) {
+					line.append('\t');
+				}
+				this.append(line, this.columns.get(i), values[i]);
+			}
+			return line.append('\n').toString();
+		}
+		
+		/**
+		 * Appends the text of the given converted value to the given line.<br>
+		 *
+		 * @param line The line to append to
+		 * @param column The column of the value
+		 * @param value The converted value
+		 * @throws SqlStatementBuilderException If the value can not be encoded
+		 */
+		private void append(@NonNull StringBuilder line, @NonNull SqlColumn<E, ?> column, @Nullable Object value) throws SqlException {
+			if (value == null) {
+				line.append("\\N");
+				return;
+			}
+			
+			String text = switch (value) {
+				case Boolean bool when this.method == SqlBulkLoadMethod.COPY -> bool ? "t" : "f";
+				case Boolean bool -> bool ? "1" : "0";
+				case BigDecimal decimal -> decimal.toPlainString();
+				case byte[] bytes when this.method == SqlBulkLoadMethod.COPY -> "\\x" + HexFormat.of().formatHex(bytes);
+				case byte[] _ -> throw new SqlStatementBuilderException("Cannot bulk load value of column '" + column.name() + "' with type " + value.getClass().getSimpleName() + " using " + this.method);
+				case LocalDate date -> DateTimeFormatter.ISO_LOCAL_DATE.format(date);
+				case LocalTime time -> TIME_FORMATTER.format(time);
+				case LocalDateTime dateTime -> DATE_TIME_FORMATTER.format(dateTime);
+				case OffsetTime time when this.method == SqlBulkLoadMethod.COPY -> OFFSET_TIME_FORMATTER.format(time);
+				case OffsetTime time -> TIME_FORMATTER.format(time.withOffsetSameInstant(ZoneId.systemDefault().getRules().getOffset(Instant.now())));
+				case OffsetDateTime dateTime when this.method == SqlBulkLoadMethod.COPY -> OFFSET_DATE_TIME_FORMATTER.format(dateTime);
+				case OffsetDateTime dateTime -> DATE_TIME_FORMATTER.format(dateTime.atZoneSameInstant(ZoneId.systemDefault()));
+				case ZonedDateTime dateTime when this.method == SqlBulkLoadMethod.COPY -> OFFSET_DATE_TIME_FORMATTER.format(dateTime);
+				case ZonedDateTime dateTime -> DATE_TIME_FORMATTER.format(dateTime.withZoneSameInstant(ZoneId.systemDefault()));
+				case Instant instant when this.method == SqlBulkLoadMethod.COPY -> OFFSET_DATE_TIME_FORMATTER.format(instant.atOffset(ZoneOffset.UTC));
+				case Instant instant -> DATE_TIME_FORMATTER.format(instant.atZone(ZoneId.systemDefault()));
+				case Timestamp timestamp -> DATE_TIME_FORMATTER.format(timestamp.toLocalDateTime());
+				case Date date -> DateTimeFormatter.ISO_LOCAL_DATE.format(date.toLocalDate());
+				case Time time -> TIME_FORMATTER.format(time.toLocalTime());
+				default -> String.valueOf(value);
+			};
+			
+			for (int i = 0; i < text.length(); i++) {
+				char c = text.charAt(i);
+				switch (c) {
+					case '\\' -> line.append("\\\\");
+					case '\t' -> line.append("\\t");
+					case '\n' -> line.append("\\n");
+					case '\r' -> line.append("\\r");
+					default -> line.append(c);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Input stream which encodes the rows of an iterator line by line while it is read.<br>
+	 * Failures of the encoding are thrown as {@link IOException} with the original {@link SqlException} as cause.<br>
+	 *
+	 * @author Luis-St
+	 *
+	 * @param <E> The type of the entities
+	 */
+	private static final class RowStream<E> extends InputStream {
+		
+		/**
+		 * The rows to encode.<br>
+		 */
+		private final Iterator<? extends E> rows;
+		/**
+		 * The encoder of the rows.<br>
+		 */
+		private final RowEncoder<E> encoder;
+		/**
+		 * The encoded bytes of the current line.<br>
+		 */
+		private byte[] buffer = new byte[0];
+		/**
+		 * The position of the next byte in the buffer.<br>
+		 */
+		private int position;
+		/**
+		 * The number of rows taken from the iterator.<br>
+		 */
+		private long rowCount;
+		
+		/**
+		 * Constructs a new row stream for the given rows.<br>
+		 *
+		 * @param rows The rows to encode
+		 * @param encoder The encoder of the rows
+		 */
+		private RowStream(@NonNull Iterator<? extends E> rows, @NonNull RowEncoder<E> encoder) {
+			this.rows = rows;
+			this.encoder = encoder;
+		}
+		
+		/**
+		 * Checks whether the first row has been taken from the iterator.<br>
+		 * @return {@code true} if the stream has been read, {@code false} if all rows are still available
+		 */
+		private boolean isStarted() {
+			return this.rowCount > 0;
+		}
+		
+		/**
+		 * Returns the number of rows taken from the iterator.<br>
+		 * @return The number of read rows
+		 */
+		private long rowCount() {
+			return this.rowCount;
+		}
+		
+		@Override
+		public int read() throws IOException {
+			if (!this.fill()) {
+				return -1;
+			}
+			return this.buffer[this.position++] & 0xFF;
+		}
+		
+		@Override
+		public int read(byte @NonNull [] bytes, int offset, int length) throws IOException {
+			Objects.checkFromIndexSize(offset, length, bytes.length);
+			if (length == 0) {
+				return 0;
+			}
+			if (!this.fill()) {
+				return -1;
+			}
+			
+			int count = Math.min(length, this.buffer.length - this.position);
+			System.arraycopy(this.buffer, this.position, bytes, offset, count);
+			this.position += count;
+			return count;
+		}
+		
+		/**
+		 * Encodes the next row if the current line has been read completely.<br>
+		 *
+		 * @return {@code true} if bytes are available, {@code false} if all rows have been read
+		 * @throws IOException If the next row can not be encoded
+		 */
+		private boolean fill() throws IOException {
+			while (this.position >= this.buffer.length) {
+				if (!this.rows.hasNext()) {
+					return false;
+				}
+				
+				this.rowCount++;
+				try {
+					this.buffer = this.encoder.encode(this.rows.next()).getBytes(StandardCharsets.UTF_8);
+				} catch (SqlException e) {
+					throw new IOException("Failed to encode row for bulk loading", e);
+				}
+				this.position = 0;
+			}
+			return true;
+		}
+	}
+}
@@ -0,0 +1,269 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.database.query.crud;
+
+import net.luis.utils.function.throwable.ThrowableFunction;
+import net.luis.utils.io.database.SqlConnectionHandle;
+import net.luis.utils.io.database.dialect.SqlDialect;
+import net.luis.utils.io.database.exception.SqlException;
+import net.luis.utils.io.database.exception.UncheckedSqlException;
+import net.luis.utils.io.database.exception.database.SqlQueryExecutionException;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.sql.*;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A forward-only cursor over the rows of an executed select query.<br>
+ * <p>
+ *     In contrast to {@link SqlSelectQuery#fetch()}, the rows are not collected into a list,
+ *     each row is read from the open result set and mapped by the row mapper of the query when it is requested.<br>
+ *     The statement is executed with the {@link SqlDialect#streamingFetchSize() streaming fetch size} of the dialect,
+ *     so the driver only holds a limited number of rows in memory.
+ * </p>
+ * <p>
+ *     The cursor holds the connection, statement and result set open until it is closed.<br>
+ *     If the dialect {@link SqlDialect#requiresTransactionForStreaming() requires a transaction for streaming} and the connection was in auto-commit mode,
+ *     the cursor runs in its own transaction which is committed when the cursor is closed.
+ * </p>
+ * A cursor is not thread-safe and must be closed after use, preferably with a try-with-resources statement.<br>
+ *
+ * @see SqlSelectQuery#cursor()
+ *
+ * @author Luis-St
+ *
+ * @param <E> The type of the entities mapped from the result rows
+ */
+public final class SqlCursor<E> implements AutoCloseable {
+	
+	/**
+	 * The handle of the connection the query is executed on.<br>
+	 */
+	private final SqlConnectionHandle handle;
+	/**
+	 * The executed statement.<br>
+	 */
+	private final PreparedStatement statement;
+	/**
+	 * The open result set of the executed statement.<br>
+	 */
+	private final ResultSet resultSet;
+	/**
+	 * The row mapper used to map the current row to an entity.<br>
+	 */
+	private final ThrowableFunction<ResultSet, E, SqlException> rowMapper;
+	/**
+	 * Whether the cursor started the transaction of the connection and must end it on close.<br>
+	 */
+	private final boolean ownsTransaction;
+	/**
+	 * The executed sql attached to thrown execution exceptions for diagnostics.<br>
+	 */
+	private final String sql;
+	/**
+	 * Whether the result set is positioned on a row which has not been returned yet.<br>
+	 */
+	private boolean pending;
+	/**
+	 * Whether the result set has no more rows.<br>
+	 */
+	private boolean exhausted;
+	/**
+	 * Whether the cursor has been closed.<br>
+	 */
+	private boolean closed;
+	
+	/**
+	 * Constructs a new cursor over the given open result set.<br>
+	 *
+	 * @param handle The handle of the connection the query is executed on
+	 * @param statement The executed statement
+	 * @param resultSet The open result set of the executed statement
+	 * @param rowMapper The row mapper used to map each row to an entity
+	 * @param ownsTransaction Whether the cursor started the transaction of the connection
+	 * @param sql The executed sql
+	 * @throws NullPointerException If any of the non-primitive arguments is null
+	 */
+	SqlCursor(
+		@NonNull SqlConnectionHandle handle,
+		@NonNull PreparedStatement statement,
+		@NonNull ResultSet resultSet,
+		@NonNull ThrowableFunction<ResultSet, E, SqlException> rowMapper,
+		boolean ownsTransaction,
+		@NonNull String sql
+	) {
+		this.handle = Objects.requireNonNull(handle, "Sql connection handle must not be null");
+		this.statement = Objects.requireNonNull(statement, "Statement must not be null");
+		this.resultSet = Objects.requireNonNull(resultSet, "Result set must not be null");
+		this.rowMapper = Objects.requireNonNull(rowMapper, "Sql row mapper must not be null");
+		this.ownsTransaction = ownsTransaction;
+		this.sql = Objects.requireNonNull(sql, "Sql statement must not be null");
+	}
+	
+	/**
+	 * Checks whether the cursor has another row.<br>
+	 * A closed cursor has no more rows.<br>
+	 *
+	 * @return {@code true} if another row is available, otherwise {@code false}
+	 * @throws SqlException If the next row could not be read
+	 */
+	public boolean hasNext() throws SqlException {
+		if (this.closed) {
+			return false;
+		}
+		
+		if (!this.pending && !this.exhausted) {
+			try {
+				this.pending = this.resultSet.next();
+				this.exhausted = !this.pending;
+			} catch (SQLException e) {
+				throw new SqlQueryExecutionException("Failed to read next row", e, this.sql);
+			}
+		}
+		return this.pending;
+	}
+	
+	/**
+	 * Reads the next row and maps it to an entity.<br>
+	 *
+	 * @return The mapped entity
+	 * @throws NoSuchElementException If the cursor has no more rows
+	 * @throws SqlException If the next row could not be read or mapped
+	 */
+	public @Nullable E next() throws SqlException {
+		if (!this.hasNext()) {
+			throw new NoSuchElementException("No more rows available");
+		}
+		
+		this.pending = false;
+		return this.rowMapper.apply(this.resultSet);
+	}
+	
+	/**
+	 * Returns a sequential stream over the remaining rows of this cursor.<br>
+	 * <p>
+	 *     The rows are read and mapped lazily while the stream is consumed.<br>
+	 *     Closing the stream closes this cursor, the stream should therefore be used in a try-with-resources statement.<br>
+	 *     Errors while reading, mapping or closing are thrown as {@link UncheckedSqlException}.
+	 * </p>
+	 *
+	 * @return The stream of mapped entities
+	 */
+	public @NonNull Stream<E> stream() {
+		Spliterator<E> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED) {
+			@Override
+			public boolean tryAdvance(@NonNull Consumer<? super E> action) {
+				try {
+					if (!SqlCursor.this.hasNext()) {
+						return false;
+					}
+					action.accept(SqlCursor.this.next());
+					return true;
+				} catch (SqlException e) {
+					throw new UncheckedSqlException(e);
+				}
+			}
+		};
+		return StreamSupport.stream(spliterator, false).onClose(() -> {
+			try {
+				this.close();
+			} catch (SqlException e) {
+				throw new UncheckedSqlException(e);
+			}
+		});
+	}
+	
+	/**
+	 * Closes the result set, statement and connection handle of this cursor.<br>
+	 * If the cursor owns the transaction of the connection, the transaction is committed and the auto-commit mode is restored before the connection is released.<br>
+	 * Closing an already closed cursor has no effect.<br>
+	 *
+	 * @throws SqlException If any of the resources could not be closed
+	 */
+	@Override
+	public void close() throws SqlException {
+		if (this.closed) {
+			return;
+		}
+		this.closed = true;
+		
+		SQLException failure = null;
+		try {
+			this.resultSet.close();
+		} catch (SQLException e) {
+			failure = e;
+		}
+		try {
+			this.statement.close();
+		} catch (SQLException e) {
+			failure = suppress(failure, e);
+		}
+		if (this.ownsTransaction) {
+			Connection connection = this.handle.connection();
+			try {
+				connection.commit();
+			} catch (SQLException e) {
+				failure = suppress(failure, e);
+			}
+			try {
+				connection.setAutoCommit(true);
+			} catch (SQLException e) {
+				failure = suppress(failure, e);
+			}
+		}
+		
+		try {
+			this.handle.close();
+		} catch (SqlException e) {
+			if (failure != null) {
+				e.addSuppressed(failure);
+			}
+			throw e;
+		}
+		if (failure != null) {
+			throw new SqlQueryExecutionException("Failed to close cursor", failure, this.sql);
+		}
+	}
+	
+	/**
+	 * Adds the given exception as suppressed exception to the first failure.<br>
+	 *
+	 * @param failure The first failure or null if no failure occurred yet
+	 * @param exception The exception to add
+	 * @return The first failure
+	 */
+	private static @NonNull SQLException suppress(@Nullable SQLException failure, @NonNull SQLException exception) {
+		if (failure == null) {
+			return exception;
+		}
+		failure.addSuppressed(exception);
+		return failure;
+	}
+	
+	//region Object overrides
+	@Override
+	public String toString() {
+		return "SqlCursor[sql=" + this.sql + ", closed=" + this.closed + "]";
+	}
+	//endregion
+}
@@ -156,7 +156,9 @@ public class SqlDeleteQuery<E> implements SqlJoinableQuery<E> {
 		if (this.config.whereCondition() == null && !this.config.allowAll()) {
 			throw new SqlStatementBuilderException("DELETE without WHERE clause would affect all rows, call allowAll() to confirm this is intentional");
 		}
-		return SqlQueryExecutor.executeUpdate(this.config.dialect(), this.config.connectionSource(), this.toSql(this.config.dialect()), this.config.queryTimeout());
+		int affected = SqlQueryExecutor.executeUpdate(this.config.dialect(), this.config.connectionSource(), this.toSql(this.config.dialect()), this.config.queryTimeout());
+		SqlQueryExecutor.invalidateCache(this.config.table(), this.config.connectionSource());
+		return affected;
 	}
 	
 	/**
@@ -166,7 +168,7 @@ public class SqlDeleteQuery<E> implements SqlJoinableQuery<E> {
 	 * @throws SqlException If an error occurs while executing the query
 	 */
 	public @NonNull List<E> returning() throws SqlException {
-		return SqlQueryExecutor.executeReturningQuery(
+		List<E> deleted = SqlQueryExecutor.executeReturningQuery(
 			this.config.dialect(),
 			this.config.connectionSource(),
 			this.toSql(this.config.dialect()),
@@ -174,6 +176,8 @@ public class SqlDeleteQuery<E> implements SqlJoinableQuery<E> {
 			this.config.queryTimeout(),
 			this.config.rowMapper()
 		);
+		SqlQueryExecutor.invalidateCache(this.config.table(), this.config.connectionSource());
+		return deleted;
 	}
 	
 	@Override
@@ -183,6 +187,17 @@ public class SqlDeleteQuery<E> implements SqlJoinableQuery<E> {
 			throw new SqlDialectFeatureException(SqlFeature.JOINED_DML, dialect);
 		}
 		
+		return SqlQueryShape.render(dialect, () -> this.renderUncached(dialect), "DELETE", this.config.table(), this.config.joins(), this.config.whereCondition());
+	}
+	
+	/**
+	 * Renders this delete query into dialect specific sql without using the render cache.<br>
+	 *
+	 * @param dialect The sql dialect used to render the query
+	 * @return The rendered sql
+	 * @throws SqlException If an error occurs while rendering the query
+	 */
+	private @NonNull SqlRendered renderUncached(@NonNull SqlDialect dialect) throws SqlException {
 		SqlRenderer renderer = SqlRenderer.empty();
 		renderer.delete().from().literal(dialect.quoteIdentifier(this.config.table().name()));
 		for (SqlJoinClause join : this.config.joins()) {
@@ -225,16 +225,31 @@ public class SqlInsertQuery<E> implements SqlQuery<E> {
 	/**
 	 * Executes this insert query and returns the number of affected rows.<br>
 	 * If the entities exceed the bind parameter limit of the dialect, the insert is executed as a batched update.<br>
+	 * Since all full chunks render to the same sql, they are sent through a single prepared statement as one jdbc batch.<br>
 	 *
 	 * @return The number of affected rows
 	 * @throws SqlException If an error occurs while executing the query
 	 */
 	public int execute() throws SqlException {
 		List<SqlRendered> chunks = this.renderChunks(this.config.dialect());
+		int affected;
 		if (chunks.size() == 1) {
-			return SqlQueryExecutor.executeUpdate(this.config.dialect(), this.config.connectionSource(), chunks.getFirst(), this.config.queryTimeout());
+			affected = SqlQueryExecutor.executeUpdate(this.config.dialect(), this.config.connectionSource(), chunks.getFirst(), this.config.queryTimeout());
+		} else {
+			affected = SqlQueryExecutor.executeBatchedUpdate(this.config.dialect(), this.config.connectionSource(), chunks, this.config.queryTimeout());
+		}
+		this.invalidateCache();
+		return affected;
+	}
+	
+	/**
+	 * Invalidates the entity cache of the table if this query is an upsert.<br>
+	 * Plain inserts do not modify existing rows, so cached entities remain valid.<br>
+	 */
+	private void invalidateCache() {
+		if (this.config.isUpsert()) {
+			SqlQueryExecutor.invalidateCache(this.config.table(), this.config.connectionSource());
 		}
-		return SqlQueryExecutor.executeBatchedUpdate(this.config.dialect(), this.config.connectionSource(), chunks, this.config.queryTimeout());
 	}
 	
 	/**
@@ -245,7 +260,9 @@ public class SqlInsertQuery<E> implements SqlQuery<E> {
 	 */
 	public @NonNull List<Long> executeReturningKeys() throws SqlException {
 		List<SqlRendered> chunks = this.renderChunks(this.config.dialect());
-		return SqlQueryExecutor.executeUpdateReturningKeys(this.config.dialect(), this.config.connectionSource(), chunks, this.config.queryTimeout());
+		List<Long> keys = SqlQueryExecutor.executeUpdateReturningKeys(this.config.dialect(), this.config.connectionSource(), chunks, this.config.queryTimeout());
+		this.invalidateCache();
+		return keys;
 	}
 	
 	/**
@@ -260,10 +277,14 @@ public class SqlInsertQuery<E> implements SqlQuery<E> {
 		List<SqlRendered> chunks = this.renderChunks(dialect);
 		SqlRendered returning = dialect.renderReturning(List.copyOf(this.config.table().columns()));
 		
+		List<E> inserted;
 		if (chunks.size() == 1) {
-			return SqlQueryExecutor.executeReturningQuery(dialect, this.config.connectionSource(), chunks.getFirst(), returning, this.config.queryTimeout(), this.config.rowMapper());
+			inserted = SqlQueryExecutor.executeReturningQuery(dialect, this.config.connectionSource(), chunks.getFirst(), returning, this.config.queryTimeout(), this.config.rowMapper());
+		} else {
+			inserted = SqlQueryExecutor.executeBatchedReturningQuery(dialect, this.config.connectionSource(), chunks, returning, this.config.queryTimeout(), this.config.rowMapper());
 		}
-		return SqlQueryExecutor.executeBatchedReturningQuery(dialect, this.config.connectionSource(), chunks, returning, this.config.queryTimeout(), this.config.rowMapper());
+		this.invalidateCache();
+		return inserted;
 	}
 	
 	@Override
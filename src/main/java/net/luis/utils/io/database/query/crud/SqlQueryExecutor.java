@@ -30,7 +30,9 @@ import net.luis.utils.io.database.exception.client.dialect.SqlDialectFeatureExce
 import net.luis.utils.io.database.exception.database.SqlQueryExecutionException;
 import net.luis.utils.io.database.rendering.SqlRendered;
 import net.luis.utils.io.database.rendering.SqlRenderer;
+import net.luis.utils.io.database.table.SqlTable;
 import net.luis.utils.io.database.type.SqlType;
+import net.luis.utils.io.database.type.SqlValueAccessor;
 import net.luis.utils.util.Pair;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
@@ -72,6 +74,26 @@ final class SqlQueryExecutor {
 		return user.isEmpty() ? null : user.orElse(null);
 	}
 	
+	/**
+	 * Invalidates the entity cache of the given table after a statement has modified its rows.<br>
+	 * The cache is invalidated immediately and again once the changes made through the given connection source are completed,
+	 * so entities loaded before the changes became visible to other connections are discarded as well.<br>
+	 * If the table has no entity cache enabled, this method does nothing.<br>
+	 *
+	 * @param table The table whose rows were modified
+	 * @param source The connection source the statement was executed with
+	 * @throws NullPointerException If the table or connection source is null
+	 */
+	static void invalidateCache(@NonNull SqlTable<?> table, @NonNull SqlConnectionSource source) {
+		Objects.requireNonNull(table, "Sql table must not be null");
+		Objects.requireNonNull(source, "Sql connection source must not be null");
+		
+		table.cache().ifPresent(cache -> {
+			cache.invalidateAll();
+			source.afterCompletion(cache::invalidateAll);
+		});
+	}
+	
 	/**
 	 * Prepares a statement for the given rendered sql without requesting generated keys.<br>
 	 * This is a convenience overload that delegates to {@link #prepare(SqlDialect, Connection, SqlRendered, Duration, boolean)} with {@code returnGeneratedKeys} set to {@code false}.<br>
@@ -113,12 +135,7 @@ final class SqlQueryExecutor {
 		
 		try {
 			PreparedStatement statement = returnGeneratedKeys ? connection.prepareStatement(rendered.sql(), Statement.RETURN_GENERATED_KEYS) : connection.prepareStatement(rendered.sql());
-			
-			List<Pair<SqlType<?>, Object>> parameters = rendered.parameters();
-			for (int i = 0; i < parameters.size(); i++) {
-				Pair<SqlType<?>, Object> pair = parameters.get(i);
-				SqlType.setValue(pair.getFirst(), dialect, statement, i + 1, pair.getSecond());
-			}
+			bindParameters(dialect, statement, rendered);
 			
 			long seconds = timeout.toSeconds();
 			if (seconds == 0 && !timeout.isZero()) {
@@ -131,6 +148,51 @@ final class SqlQueryExecutor {
 		}
 	}
 	
+	/**
+	 * Binds the parameters of the given rendered sql positionally to the given statement.<br>
+	 *
+	 * @param dialect The sql dialect used to bind the parameters
+	 * @param statement The statement to bind the parameters to
+	 * @param rendered The rendered sql together with its parameters
+	 * @throws SqlException If a parameter could not be bound
+	 */
+	private static void bindParameters(@NonNull SqlDialect dialect, @NonNull PreparedStatement statement, @NonNull SqlRendered rendered) throws SqlException {
+		List<Pair<SqlType<?>, Object>> parameters = rendered.parameters();
+		for (int i = 0; i < parameters.size(); i++) {
+			Pair<SqlType<?>, Object> pair = parameters.get(i);
+			dialect.valueAccessor(pair.getFirst()).bind(statement, i + 1, pair.getSecond());
+		}
+	}
+	
+	/**
+	 * Binds the parameters of the given rendered sql positionally to the given statement, reusing the given value accessors.<br>
+	 * <p>
+	 *     The accessor at each position is reused as long as the parameter at the same position has the identical sql type,
+	 *     otherwise the accessor is resolved from the dialect and stored at the position for the next statement.<br>
+	 *     This allows the statements of a batch, which share the same parameter types, to resolve their accessors only once.
+	 * </p>
+	 *
+	 * @param dialect The sql dialect used to bind the parameters
+	 * @param statement The statement to bind the parameters to
+	 * @param rendered The rendered sql together with its parameters
+	 * @param accessors The value accessors of the previously bound statement by parameter position
+	 * @throws SqlException If a parameter could not be bound
+	 */
+	private static void bindParameters(@NonNull SqlDialect dialect, @NonNull PreparedStatement statement, @NonNull SqlRendered rendered, @Nullable SqlValueAccessor<?> @NonNull [] accessors) throws SqlException {
+		List<Pair<SqlType<?>, Object>> parameters = rendered.parameters();
+		for (int i = 0; i < parameters.size(); i++) {
+			Pair<SqlType<?>, Object> pair = parameters.get(i);
+			SqlValueAccessor<?> accessor = i < accessors.length ? accessors[i] : null;
+			if (accessor == null || accessor.type() != pair.getFirst()) {
+				accessor = dialect.valueAccessor(pair.getFirst());
+				if (i < accessors.length) {
+					accessors[i] = accessor;
+				}
+			}
+			accessor.bind(statement, i + 1, pair.getSecond());
+		}
+	}
+	
 	/**
 	 * Rolls back the given connection, suppressing any error that occurs during the rollback.<br>
 	 * The rollback is only performed if the caller owns the surrounding transaction.<br>
@@ -290,7 +352,15 @@ final class SqlQueryExecutor {
 	
 	/**
 	 * Executes the given rendered statements as a single batched update inside one transaction.<br>
+	 * <p>
+	 *     Consecutive statements with identical sql are grouped and executed through a single prepared statement
+	 *     using jdbc batching, so the statement is only parsed once and the group is sent in one round trip.<br>
+	 *     The order of the statements is preserved, statements with different sql are never reordered.<br>
+	 *     If the driver does not support batch updates, the statements are executed one by one.
+	 * </p>
 	 * The returned count is the sum of the affected row counts of all statements.<br>
+	 * Batched statements for which the driver does not report a row count ({@link Statement#SUCCESS_NO_INFO}) were executed successfully,
+	 * so each of them is counted as one affected row, which makes the total a lower bound in this case.<br>
 	 * If the list is empty no statement is executed and {@code 0} is returned.<br>
 	 *
 	 * @param dialect The sql dialect used to prepare the statements
@@ -313,17 +383,62 @@ final class SqlQueryExecutor {
 		String firstSql = renderedList.getFirst().sql();
 		try (SqlConnectionHandle handle = source.open()) {
 			return inTransaction(handle.connection(), firstSql, "Failed to begin batched update transaction", "Failed to execute batched update", connection -> {
+				boolean batchSupported = connection.getMetaData().supportsBatchUpdates();
+				
 				int total = 0;
-				for (SqlRendered rendered : renderedList) {
-					try (PreparedStatement statement = prepare(dialect, connection, rendered, timeout)) {
-						total += statement.executeUpdate();
+				int start = 0;
+				while (start < renderedList.size()) {
+					String sql = renderedList.get(start).sql();
+					int end = start + 1;
+					while (batchSupported && end < renderedList.size() && sql.equals(renderedList.get(end).sql())) {
+						end++;
 					}
+					
+					total += executeGroup(dialect, connection, renderedList.subList(start, end), timeout);
+					start = end;
 				}
 				return total;
 			});
 		}
 	}
 	
+	/**
+	 * Executes the given group of rendered statements with identical sql through a single prepared statement.<br>
+	 * A group of a single statement is executed as a plain update, larger groups are executed as a jdbc batch.<br>
+	 *
+	 * @param dialect The sql dialect used to bind the parameters
+	 * @param connection The connection to execute the statements on
+	 * @param group The rendered statements sharing the same sql
+	 * @param timeout The query timeout to apply to the statement
+	 * @return The total number of rows affected by the statements of the group, counting statements without a reported row count as one row
+	 * @throws SQLException If a statement failed
+	 * @throws SqlException If the statement could not be prepared or a parameter could not be bound
+	 */
+	private static int executeGroup(@NonNull SqlDialect dialect, @NonNull Connection connection, @NonNull List<SqlRendered> group, @NonNull Duration timeout) throws SQLException, SqlException {
+		try (PreparedStatement statement = prepare(dialect, connection, group.getFirst(), timeout)) {
+			if (group.size() == 1) {
+				return statement.executeUpdate();
+			}
+			
+			statement.addBatch();
+			SqlValueAccessor<?>[] accessors = new SqlValueAccessor<?>[group.getFirst().parameters().size()];
+			for (int i = 1; i < group.size(); i++) {
+				bindParameters(dialect, statement, group.get(i), accessors);
+				statement.addBatch();
+			}
+			
+			int total = 0;
+			for (int count : statement.executeBatch()) {
+				if (count > 0) {
+					total += count;
+				} else if (count == Statement.SUCCESS_NO_INFO) {
+					total++;
+				}
+			}
+			return total;
+		}
+	}
+	
 	/**
 	 * Executes the given rendered statements as a batched update inside one transaction and collects their generated keys.<br>
 	 * Each generated key is read from the first column of the statement's generated keys result set.<br>
@@ -407,6 +522,86 @@ final class SqlQueryExecutor {
 		}
 	}
 	
+	/**
+	 * Executes the given rendered query and opens a cursor over its result set.<br>
+	 * <p>
+	 *     The statement is executed with the {@link SqlDialect#streamingFetchSize() streaming fetch size} of the dialect.<br>
+	 *     If the dialect requires a transaction for streaming and the connection is in auto-commit mode,
+	 *     the auto-commit mode is disabled and the returned cursor owns the transaction.
+	 * </p>
+	 * The connection, statement and result set stay open until the returned cursor is closed.<br>
+	 * If the query could not be executed, all opened resources are released before the error is thrown.<br>
+	 *
+	 * @param dialect The sql dialect used to prepare the statement
+	 * @param source The connection source to obtain a connection from
+	 * @param rendered The rendered query to execute
+	 * @param timeout The query timeout to apply
+	 * @param rowMapper The function that maps each row to an element
+	 * @param <T> The type of the mapped elements
+	 * @return The open cursor over the result rows
+	 * @throws NullPointerException If any of the arguments is null
+	 * @throws SqlException If the query could not be executed
+	 */
+	static <T> @NonNull SqlCursor<T> openCursor(
+		@NonNull SqlDialect dialect,
+		@NonNull SqlConnectionSource source,
+		@NonNull SqlRendered rendered,
+		@NonNull Duration timeout,
+		@NonNull ThrowableFunction<ResultSet, T, SqlException> rowMapper
+	) throws SqlException {
+		Objects.requireNonNull(dialect, "Sql dialect must not be null");
+		Objects.requireNonNull(source, "Sql connection source must not be null");
+		Objects.requireNonNull(rendered, "Sql rendered must not be null");
+		Objects.requireNonNull(timeout, "Query timeout must not be null");
+		Objects.requireNonNull(rowMapper, "Sql row mapper must not be null");
+		
+		SqlConnectionHandle handle = source.open();
+		Connection connection = handle.connection();
+		boolean ownsTransaction = false;
+		PreparedStatement statement = null;
+		try {
+			ownsTransaction = dialect.requiresTransactionForStreaming() && connection.getAutoCommit();
+			if (ownsTransaction) {
+				connection.setAutoCommit(false);
+			}
+			
+			statement = prepare(dialect, connection, rendered, timeout);
+			statement.setFetchSize(dialect.streamingFetchSize());
+			return new SqlCursor<>(handle, statement, statement.executeQuery(), rowMapper, ownsTransaction, rendered.sql());
+		} catch (SqlException e) {
+			releaseQuietly(handle, statement, ownsTransaction);
+			throw e;
+		} catch (SQLException e) {
+			releaseQuietly(handle, statement, ownsTransaction);
+			throw new SqlQueryExecutionException("Failed to open cursor: " + rendered.sql(), e, rendered.sql());
+		}
+	}
+	
+	/**
+	 * Releases the resources of a cursor which could not be opened, suppressing any error that occurs.<br>
+	 * If the cursor owned the transaction, it is rolled back and the auto-commit mode is restored.<br>
+	 *
+	 * @param handle The handle of the connection to release
+	 * @param statement The prepared statement to close or null if it was not prepared
+	 * @param ownsTransaction Whether the cursor started the transaction of the connection
+	 */
+	private static void releaseQuietly(@NonNull SqlConnectionHandle handle, @Nullable PreparedStatement statement, boolean ownsTransaction) {
+		if (statement != null) {
+			try {
+				statement.close();
+			} catch (SQLException ignored) {}
+		}
+		if (ownsTransaction) {
+			rollbackQuietly(handle.connection(), true);
+			try {
+				handle.connection().setAutoCommit(true);
+			} catch (SQLException ignored) {}
+		}
+		try {
+			handle.close();
+		} catch (SqlException ignored) {}
+	}
+	
 	/**
 	 * Executes the given query combined with a returning clause and maps the returned rows.<br>
 	 * The query and returning clause are combined into a single statement before execution.<br>
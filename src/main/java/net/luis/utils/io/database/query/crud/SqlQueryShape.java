@@ -0,0 +1,320 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.database.query.crud;
+
+import net.luis.utils.function.throwable.ThrowableSupplier;
+import net.luis.utils.io.database.dialect.SqlDialect;
+import net.luis.utils.io.database.exception.SqlException;
+import net.luis.utils.io.database.expression.SqlValueExpression;
+import net.luis.utils.io.database.query.SqlAlias;
+import net.luis.utils.io.database.query.util.SqlJoinClause;
+import net.luis.utils.io.database.rendering.SqlRenderCache;
+import net.luis.utils.io.database.rendering.SqlRendered;
+import net.luis.utils.io.database.table.SqlColumn;
+import net.luis.utils.io.database.table.SqlTable;
+import net.luis.utils.io.database.type.SqlType;
+import net.luis.utils.util.Pair;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.*;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAmount;
+import java.util.*;
+
+/**
+ * Internal helper which computes the structural shape of a query for the {@link SqlRenderCache}.<br>
+ * <p>
+ *     The shape is a flat list of the structural parts of the query tree, in which each value expression is replaced by its sql type.<br>
+ *     The values of the value expressions are collected as parameters in tree order.<br>
+ *     Every part is encoded self-delimiting, so two different trees never produce the same shape.
+ * </p>
+ * <p>
+ *     Records are walked component by component, tables are compared by identity and their current column count.<br>
+ *     If the tree contains an object of an unknown type, the query has no shape and is always rendered.
+ * </p>
+ *
+ * @author Luis-St
+ */
+final class SqlQueryShape {
+	
+	/**
+	 * The cached record component accessors by record class, empty if the components can not be accessed.<br>
+	 */
+	private static final ClassValue<Optional<Method[]>> ACCESSORS = new ClassValue<>() {
+		@Override
+		protected @NonNull Optional<Method[]> computeValue(@NonNull Class<?> type) {
+			RecordComponent[] components = type.getRecordComponents();
+			Method[] accessors = new Method[components.length];
+			try {
+				for (int i = 0; i < components.length; i++) {
+					accessors[i] = components[i].getAccessor();
+					accessors[i].setAccessible(true);
+				}
+			} catch (RuntimeException e) {
+				return Optional.empty();
+			}
+			return Optional.of(accessors);
+		}
+	};
+	
+	/**
+	 * The sql dialect the query is rendered with.<br>
+	 */
+	private final SqlDialect dialect;
+	/**
+	 * The structural parts of the query.<br>
+	 */
+	private final List<Object> key = new ArrayList<>();
+	/**
+	 * The parameters of the value expressions in tree order.<br>
+	 */
+	private final List<Pair<SqlType<?>, Object>> parameters = new ArrayList<>();
+	/**
+	 * Whether the walked tree only contains objects of known types.<br>
+	 */
+	private boolean cacheable = true;
+	
+	/**
+	 * Constructs a new empty query shape for the given dialect.<br>
+	 * @param dialect The sql dialect the query is rendered with
+	 */
+	private SqlQueryShape(@NonNull SqlDialect dialect) {
+		this.dialect = dialect;
+	}
+	
+	/**
+	 * Renders a query using the render cache of the given dialect.<br>
+	 * The shape of the query is computed from the given parts, which must contain everything the rendered sql depends on.<br>
+	 * If the parts contain an object of an unknown type, the query is rendered without the cache.<br>
+	 *
+	 * @param dialect The sql dialect used to render the query
+	 * @param renderer The renderer used to render the query if the shape is not cached
+	 * @param parts The parts of the query the rendered sql depends on
+	 * @return The rendered sql
+	 * @throws NullPointerException If the dialect or renderer is null
+	 * @throws SqlException If an error occurs while rendering the query
+	 */
+	static @NonNull SqlRendered render(@NonNull SqlDialect dialect, @NonNull ThrowableSupplier<SqlRendered, SqlException> renderer, @Nullable Object @NonNull ... parts) throws SqlException {
+		Objects.requireNonNull(dialect, "Sql dialect must not be null");
+		Objects.requireNonNull(renderer, "Renderer must not be null");
+		
+		SqlQueryShape shape = new SqlQueryShape(dialect);
+		for (Object part : parts) {
+			shape.walk(part);
+		}
+		
+		if (!shape.cacheable) {
+			return renderer.get();
+		}
+		return dialect.renderCache().render(List.copyOf(shape.key), shape.parameters, renderer);
+	}
+	
+	/**
+	 * Walks the given object of the query tree and appends its parts to the shape.<br>
+	 * @param object The object to walk
+	 */
+	private void walk(@Nullable Object object) {
+		if (!this.cacheable) {
+			return;
+		}
+		
+		switch (object) {
+			case null -> this.key.add(Marker.NULL);
+			case SqlValueExpression<?> value -> {
+				this.key.add(Marker.VALUE);
+				this.key.add(value.type());
+				this.parameters.add(Pair.of(value.type(), value.value()));
+			}
+			case SqlSelectQuery<?> query -> {
+				this.key.add(Marker.QUERY);
+				this.walk(query.config());
+			}
+			case SqlSelectQueryConfig<?> config -> this.walkSelect(config);
+			case SqlJoinClause join -> {
+				this.key.add(Marker.JOIN);
+				this.key.add(join.type());
+				this.walk(join.table());
+				this.walk(join.on());
+				this.walk(join.lateralSubquery());
+				this.walk(join.lateralAlias());
+			}
+			case SqlTable<?> table -> {
+				this.key.add(new Identity(table));
+				this.key.add(table.columns().size());
+			}
+			case SqlColumn<?, ?> column -> this.key.add(column);
+			case SqlType<?> type -> this.key.add(type);
+			case SqlAlias alias -> this.key.add(alias);
+			case Enum<?> constant -> this.key.add(constant);
+			case String _, Number _, Boolean _, Character _, Temporal _, TemporalAmount _, Class<?> _ -> this.key.add(object);
+			case List<?> list -> {
+				this.key.add(Marker.LIST);
+				this.key.add(list.size());
+				for (Object element : list) {
+					this.walk(element);
+				}
+			}
+			case Optional<?> optional -> {
+				this.key.add(Marker.OPTIONAL);
+				this.walk(optional.orElse(null));
+			}
+			case Record record -> this.walkRecord(record);
+			default -> this.cacheable = false;
+		}
+	}
+	
+	/**
+	 * Walks the clauses of the given select query configuration in rendering order.<br>
+	 * The execution settings of the configuration are not part of the rendered sql and therefore skipped.<br>
+	 * The limit and offset are bound as parameters, so only the structure of their clause is part of the shape.<br>
+	 *
+	 * @param config The select query configuration to walk
+	 */
+	private void walkSelect(@NonNull SqlSelectQueryConfig<?> config) {
+		this.walk(config.commonTableExpressions());
+		this.walk(config.isDistinct());
+		this.walk(config.selectedExpressions());
+		this.walk(config.table());
+		this.walk(config.lockMode());
+		this.walk(config.skipLocked());
+		this.walk(config.noWait());
+		this.walk(config.joins());
+		this.walk(config.whereCondition());
+		this.walk(config.whereExistsSubquery());
+		this.walk(config.groupByColumns());
+		this.walk(config.havingCondition());
+		this.walk(config.setOperations());
+		this.walk(config.orderByClauses());
+		this.walkLimitOffset(config);
+	}
+	
+	/**
+	 * Walks the limit and offset clause of the given select query configuration.<br>
+	 * <p>
+	 *     The clause is rendered with the dialect, since the dialect decides which values are rendered and in which order.<br>
+	 *     Its tokens are part of the shape and its parameters are extracted, so different limits and offsets share one shape.<br>
+	 *     If the clause can not be rendered, the shape is marked as not cacheable and the error is reported when the query is rendered.
+	 * </p>
+	 *
+	 * @param config The select query configuration to walk the limit and offset clause of
+	 */
+	private void walkLimitOffset(@NonNull SqlSelectQueryConfig<?> config) {
+		SqlRendered clause;
+		try {
+			clause = SqlSelectQuery.renderLimitOffset(config, this.dialect);
+		} catch (SqlException | IllegalArgumentException e) {
+			this.cacheable = false;
+			return;
+		}
+		
+		if (clause == null) {
+			this.key.add(Marker.NULL);
+			return;
+		}
+		this.key.add(Marker.LIMIT);
+		this.key.add(clause.statements());
+		this.parameters.addAll(clause.parameters());
+	}
+	
+	/**
+	 * Walks the components of the given record in declaration order.<br>
+	 * If the components can not be accessed, the shape is marked as not cacheable.<br>
+	 *
+	 * @param record The record to walk
+	 */
+	private void walkRecord(@NonNull Record record) {
+		Optional<Method[]> accessors = ACCESSORS.get(record.getClass());
+		if (accessors.isEmpty()) {
+			this.cacheable = false;
+			return;
+		}
+		
+		this.key.add(record.getClass());
+		for (Method accessor : accessors.get()) {
+			try {
+				this.walk(accessor.invoke(record));
+			} catch (IllegalAccessException | InvocationTargetException e) {
+				this.cacheable = false;
+				return;
+			}
+		}
+	}
+	
+	/**
+	 * Internal enum for the markers which delimit the structural parts of a shape.<br>
+	 *
+	 * @author Luis-St
+	 */
+	private enum Marker {
+		
+		/**
+		 * Marks a null value.<br>
+		 */
+		NULL,
+		/**
+		 * Marks a value expression, followed by its sql type.<br>
+		 */
+		VALUE,
+		/**
+		 * Marks a nested select query, followed by its clauses.<br>
+		 */
+		QUERY,
+		/**
+		 * Marks a join clause, followed by its parts.<br>
+		 */
+		JOIN,
+		/**
+		 * Marks a list, followed by its size and elements.<br>
+		 */
+		LIST,
+		/**
+		 * Marks an optional, followed by its value.<br>
+		 */
+		OPTIONAL,
+		/**
+		 * Marks a limit and offset clause, followed by its rendered tokens.<br>
+		 */
+		LIMIT
+	}
+	
+	/**
+	 * A part of a shape which is compared by identity.<br>
+	 *
+	 * @author Luis-St
+	 *
+	 * @param value The value to compare by identity
+	 */
+	private record Identity(
+		@NonNull Object value
+	) {
+		
+		//region Object overrides
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Identity(Object other) && this.value == other;
+		}
+		
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(this.value);
+		}
+		//endregion
+	}
+}
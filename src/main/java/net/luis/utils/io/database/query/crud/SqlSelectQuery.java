@@ -18,33 +18,34 @@
 
 package net.luis.utils.io.database.query.crud;
 
+import net.luis.utils.function.throwable.ThrowableConsumer;
 import net.luis.utils.function.throwable.ThrowableFunction;
-import net.luis.utils.io.database.SqlConnectionSource;
-import net.luis.utils.io.database.SqlPage;
+import net.luis.utils.io.database.*;
 import net.luis.utils.io.database.audit.*;
 import net.luis.utils.io.database.condition.SqlCondition;
 import net.luis.utils.io.database.dialect.SqlDialect;
 import net.luis.utils.io.database.dialect.SqlFeature;
 import net.luis.utils.io.database.exception.SqlException;
+import net.luis.utils.io.database.exception.UncheckedSqlException;
 import net.luis.utils.io.database.exception.client.SqlResultCountException;
 import net.luis.utils.io.database.exception.client.SqlStatementBuilderException;
 import net.luis.utils.io.database.exception.client.dialect.SqlDialectFeatureException;
-import net.luis.utils.io.database.expression.SqlExpression;
-import net.luis.utils.io.database.expression.orderable.OrderedSqlExpression;
-import net.luis.utils.io.database.expression.orderable.SqlOrderable;
+import net.luis.utils.io.database.expression.*;
+import net.luis.utils.io.database.expression.orderable.*;
 import net.luis.utils.io.database.query.*;
 import net.luis.utils.io.database.query.row.SqlRowMapper;
 import net.luis.utils.io.database.query.util.*;
 import net.luis.utils.io.database.rendering.SqlRendered;
 import net.luis.utils.io.database.rendering.SqlRenderer;
-import net.luis.utils.io.database.table.SqlColumn;
-import net.luis.utils.io.database.table.SqlTable;
+import net.luis.utils.io.database.table.*;
+import net.luis.utils.io.database.type.SqlType;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
 import java.sql.ResultSet;
 import java.time.Duration;
 import java.util.*;
+import java.util.stream.Stream;
 
 /**
  * A fluent, immutable builder for sql {@code SELECT} statements that can be executed against a database.<br>
@@ -117,6 +118,14 @@ public class SqlSelectQuery<E> implements SqlJoinableQuery<E> {
 		this.config = Objects.requireNonNull(config, "Sql select query config must not be null");
 	}
 	
+	/**
+	 * Returns the configuration of this query.<br>
+	 * @return The configuration that holds all clauses and execution settings of the query
+	 */
+	@NonNull SqlSelectQueryConfig<E> config() {
+		return this.config;
+	}
+	
 	/**
 	 * Adds a {@code FOR UPDATE} lock to this query, locking the selected rows for writing.<br>
 	 *
@@ -512,6 +521,17 @@ public class SqlSelectQuery<E> implements SqlJoinableQuery<E> {
 		));
 	}
 	
+	/**
+	 * Returns the connection source used to execute the given query configuration.<br>
+	 * Queries which lock rows must run on the connections used for writes, all other queries use the {@link SqlConnectionSource#forReads() read source}.<br>
+	 *
+	 * @param config The query configuration to execute
+	 * @return The connection source to execute the query with
+	 */
+	private static @NonNull SqlConnectionSource readSource(@NonNull SqlSelectQueryConfig<?> config) {
+		return config.lockMode() == null ? config.connectionSource().forReads() : config.connectionSource();
+	}
+	
 	/**
 	 * Renders this query, executes it and maps the resulting rows into entities.<br>
 	 *
@@ -519,7 +539,7 @@ public class SqlSelectQuery<E> implements SqlJoinableQuery<E> {
 	 * @throws SqlException If an error occurs while executing the query
 	 */
 	private @NonNull List<E> executeAndMap() throws SqlException {
-		return SqlQueryExecutor.executeQueryAndMap(this.config.dialect(), this.config.connectionSource(), this.toSql(this.config.dialect()), this.config.queryTimeout(), this.config.rowMapper());
+		return SqlQueryExecutor.executeQueryAndMap(this.config.dialect(), readSource(this.config), this.toSql(this.config.dialect()), this.config.queryTimeout(), this.config.rowMapper());
 	}
 	
 	/**
@@ -532,6 +552,54 @@ public class SqlSelectQuery<E> implements SqlJoinableQuery<E> {
 		return Collections.unmodifiableList(this.executeAndMap());
 	}
 	
+	/**
+	 * Executes this query and opens a cursor over the matching rows.<br>
+	 * <p>
+	 *     The rows are not collected into a list, each row is mapped when it is read from the cursor.<br>
+	 *     The connection stays open until the cursor is closed, the cursor should therefore be used in a try-with-resources statement.
+	 * </p>
+	 *
+	 * @return The open cursor over the mapped entities
+	 * @throws SqlException If an error occurs while executing the query
+	 * @see SqlCursor
+	 */
+	public @NonNull SqlCursor<E> cursor() throws SqlException {
+		return SqlQueryExecutor.openCursor(this.config.dialect(), readSource(this.config), this.toSql(this.config.dialect()), this.config.queryTimeout(), this.config.rowMapper());
+	}
+	
+	/**
+	 * Executes this query and returns a lazy stream over the matching rows.<br>
+	 * <p>
+	 *     The connection stays open until the stream is closed, the stream should therefore be used in a try-with-resources statement.<br>
+	 *     Errors while reading or mapping a row are thrown as {@link UncheckedSqlException}.
+	 * </p>
+	 *
+	 * @return The stream of mapped entities
+	 * @throws SqlException If an error occurs while executing the query
+	 * @see SqlCursor#stream()
+	 */
+	public @NonNull Stream<E> stream() throws SqlException {
+		return this.cursor().stream();
+	}
+	
+	/**
+	 * Executes this query and passes each matching row as an entity to the given action.<br>
+	 * The rows are mapped one at a time and the connection is closed after the last row or if the action fails.<br>
+	 *
+	 * @param action The action to perform for each entity
+	 * @throws NullPointerException If the action is null
+	 * @throws SqlException If an error occurs while executing the query or the action fails
+	 */
+	public void forEach(@NonNull ThrowableConsumer<E, SqlException> action) throws SqlException {
+		Objects.requireNonNull(action, "Action must not be null");
+		
+		try (SqlCursor<E> cursor = this.cursor()) {
+			while (cursor.hasNext()) {
+				action.accept(cursor.next());
+			}
+		}
+	}
+	
 	/**
 	 * Executes this query and returns the first matching row as an entity.<br>
 	 *
@@ -597,7 +665,7 @@ public class SqlSelectQuery<E> implements SqlJoinableQuery<E> {
 		} else {
 			countSql = this.render(stripped, dialect, true);
 		}
-		return SqlQueryExecutor.executeScalarQuery(dialect, this.config.connectionSource(), countSql, this.config.queryTimeout(), resultSet -> resultSet.next() ? resultSet.getLong(1) : 0L);
+		return SqlQueryExecutor.executeScalarQuery(dialect, readSource(this.config), countSql, this.config.queryTimeout(), resultSet -> resultSet.next() ? resultSet.getLong(1) : 0L);
 	}
 	
 	/**
@@ -609,7 +677,7 @@ public class SqlSelectQuery<E> implements SqlJoinableQuery<E> {
 	public boolean exists() throws SqlException {
 		SqlDialect dialect = this.config.dialect();
 		SqlSelectQueryConfig<E> core = this.config.withOrderByClauses(List.of()).withLimit(1);
-		return SqlQueryExecutor.executeScalarQuery(dialect, this.config.connectionSource(), this.render(core, dialect, false), this.config.queryTimeout(), ResultSet::next);
+		return SqlQueryExecutor.executeScalarQuery(dialect, readSource(this.config), this.render(core, dialect, false), this.config.queryTimeout(), ResultSet::next);
 	}
 	
 	/**
@@ -641,12 +709,285 @@ public class SqlSelectQuery<E> implements SqlJoinableQuery<E> {
 		return new SqlPage<>(content, page, pageSize, hasNext, page > 0);
 	}
 	
+	/**
+	 * Executes this query for the first page of the given size using keyset pagination.<br>
+	 *
+	 * @param pageSize The number of rows per page
+	 * @return The first page of mapped entities
+	 * @throws IllegalArgumentException If the page size is not positive
+	 * @throws SqlStatementBuilderException If the query is not suitable for keyset pagination, for example if the queried table has no primary key or an order by column is nullable
+	 * @throws SqlException If an error occurs while executing the query
+	 * @see #fetchKeysetPage(SqlKeysetToken, int)
+	 */
+	public @NonNull SqlKeysetPage<E> fetchKeysetPage(int pageSize) throws SqlException {
+		return this.executeKeysetPage(null, pageSize);
+	}
+	
+	/**
+	 * Executes this query for the page following the given continuation token using keyset pagination.<br>
+	 * <p>
+	 *     Instead of skipping the rows of the preceding pages with an offset, the query is restricted to the rows
+	 *     which are ordered after the last row of the preceding page, so the cost of a page does not depend on its depth.<br>
+	 *     The restriction is derived from the {@code ORDER BY} clause of this query, which must therefore be unique.<br>
+	 *     Rows which tie on the order by expressions would otherwise be skipped at page boundaries,
+	 *     so each primary key column of the queried table which is not already ordered by is appended as an ascending tiebreaker.<br>
+	 *     The continuation tokens contain the values of these tiebreaker columns as well.
+	 * </p>
+	 * <p>
+	 *     Each order by expression must be selected by this query and must be a column which is declared not null.<br>
+	 *     Null keys can not be compared by the seek condition, so rows with a null key would be skipped silently at every page boundary.<br>
+	 *     For entity queries the expressions must be columns of the queried table, for projections they must be selected columns.<br>
+	 *     Queries on tables without a primary key, with set operations or with a {@code GROUP BY} clause can not be paginated by keyset.
+	 * </p>
+	 * One additional row beyond the page size is fetched internally to determine whether a next page exists.<br>
+	 *
+	 * @param after The continuation token of the preceding page
+	 * @param pageSize The number of rows per page
+	 * @return The requested page of mapped entities
+	 * @throws NullPointerException If the continuation token is null
+	 * @throws IllegalArgumentException If the page size is not positive or the token does not match the order by clause
+	 * @throws SqlStatementBuilderException If the query is not suitable for keyset pagination
+	 * @throws SqlException If an error occurs while executing the query
+	 */
+	public @NonNull SqlKeysetPage<E> fetchKeysetPage(@NonNull SqlKeysetToken after, int pageSize) throws SqlException {
+		Objects.requireNonNull(after, "Sql keyset token must not be null");
+		return this.executeKeysetPage(after, pageSize);
+	}
+	
+	/**
+	 * Executes this query for the page following the given continuation token using keyset pagination.<br>
+	 *
+	 * @param after The continuation token of the preceding page or null for the first page
+	 * @param pageSize The number of rows per page
+	 * @return The requested page of mapped entities
+	 * @throws IllegalArgumentException If the page size is not positive or the token does not match the order by clause
+	 * @throws SqlStatementBuilderException If the query is not suitable for keyset pagination
+	 * @throws SqlException If an error occurs while executing the query
+	 * @see #fetchKeysetPage(SqlKeysetToken, int)
+	 */
+	private @NonNull SqlKeysetPage<E> executeKeysetPage(@Nullable SqlKeysetToken after, int pageSize) throws SqlException {
+		if (pageSize <= 0) {
+			throw new IllegalArgumentException("Page size must be positive");
+		}
+		if (this.config.orderByClauses().isEmpty()) {
+			throw new SqlStatementBuilderException("Keyset pagination requires an ORDER BY clause");
+		}
+		if (!this.config.setOperations().isEmpty() || !this.config.groupByColumns().isEmpty()) {
+			throw new SqlStatementBuilderException("Keyset pagination is not supported for queries with set operations or a GROUP BY clause");
+		}
+		
+		List<SqlOrderable<?>> ordering = this.uniqueOrdering();
+		int keyCount = ordering.size();
+		List<SqlExpression<?>> keys = new ArrayList<>(keyCount);
+		boolean[] descending = new boolean[keyCount];
+		int[] positions = new int[keyCount];
+		for (int i = 0; i < keyCount; i++) {
+			SqlOrderable<?> orderable = ordering.get(i);
+			keys.add(orderedExpression(orderable));
+			if (!isNotNull(keys.get(i))) {
+				throw new SqlStatementBuilderException("Keyset pagination requires each ORDER BY expression to be a column declared not null, since rows with null keys would be skipped");
+			}
+			descending[i] = orderable instanceof OrderedSqlExpression<?> ordered && ordered.ordering() == SqlOrdering.DESCENDING;
+			positions[i] = this.keyPosition(keys.get(i));
+		}
+		
+		SqlSelectQueryConfig<E> cfg = this.config.withOrderByClauses(ordering).withOffset(-1).withLimit(pageSize + 1L);
+		if (after != null) {
+			if (after.values().size() != keyCount) {
+				throw new IllegalArgumentException("Sql keyset token does not match the ORDER BY clause of the query, expected " + keyCount + " values but got " + after.values().size());
+			}
+			
+			SqlCondition seek = seekCondition(keys, descending, after.values());
+			cfg = cfg.withWhereCondition(cfg.whereCondition() != null ? SqlCondition.allOf(cfg.whereCondition(), seek) : seek);
+		}
+		
+		SqlDialect dialect = cfg.dialect();
+		ThrowableFunction<ResultSet, E, SqlException> rowMapper = cfg.rowMapper();
+		Object[] lastKey = new Object[keyCount];
+		int[] row = { 0 };
+		List<E> results = SqlQueryExecutor.executeQueryAndMap(dialect, readSource(cfg), this.render(cfg, dialect, false), cfg.queryTimeout(), resultSet -> {
+			if (++row[0] == pageSize) {
+				for (int i = 0; i < keyCount; i++) {
+					lastKey[i] = SqlType.getValue(keys.get(i).type(), dialect, resultSet, positions[i]);
+				}
+			}
+			return rowMapper.apply(resultSet);
+		});
+		
+		if (results.size() <= pageSize) {
+			return new SqlKeysetPage<>(results, pageSize, Optional.empty());
+		}
+		if (Arrays.stream(lastKey).anyMatch(Objects::isNull)) {
+			throw new SqlStatementBuilderException("Keyset pagination requires non-null values for all ORDER BY expressions");
+		}
+		return new SqlKeysetPage<>(results.subList(0, pageSize), pageSize, Optional.of(new SqlKeysetToken(Arrays.asList(lastKey))));
+	}
+	
+	/**
+	 * Creates the order by clauses used for keyset pagination of this query.<br>
+	 * The order by clauses of this query are extended by each primary key column of the queried table which is not already ordered by,
+	 * so that rows tying on the requested ordering are ordered by their primary key and no row is skipped at a page boundary.<br>
+	 *
+	 * @return The unique ordering of this query
+	 * @throws SqlStatementBuilderException If the queried table has no primary key
+	 */
+	private @NonNull List<SqlOrderable<?>> uniqueOrdering() throws SqlException {
+		List<? extends SqlColumn<?, ?>> primaryKey = this.config.table().primaryKeyColumns();
+		if (primaryKey.isEmpty()) {
+			throw new SqlStatementBuilderException("Keyset pagination requires the queried table '" + this.config.table().name() + "' to have a primary key to break ties in the ORDER BY clause");
+		}
+		
+		List<SqlOrderable<?>> ordering = new ArrayList<>(this.config.orderByClauses());
+		List<SqlExpression<?>> expressions = ordering.stream().<SqlExpression<?>>map(SqlSelectQuery::orderedExpression).toList();
+		for (SqlColumn<?, ?> column : primaryKey) {
+			if (!expressions.contains(column)) {
+				ordering.add(column);
+			}
+		}
+		return ordering;
+	}
+	
+	/**
+	 * Returns the expression of the given order by clause without its ordering.<br>
+	 *
+	 * @param orderable The order by clause
+	 * @return The ordered expression
+	 */
+	private static @NonNull SqlExpression<?> orderedExpression(@NonNull SqlOrderable<?> orderable) {
+		if (orderable instanceof OrderedSqlExpression<?> ordered) {
+			return ordered.expression();
+		}
+		return (SqlExpression<?>) orderable;
+	}
+	
+	/**
+	 * Checks whether the given order by expression is a column which is declared not null.<br>
+	 * The nullability of other expressions is unknown, so they are not considered to be not null.<br>
+	 *
+	 * @param key The order by expression to check
+	 * @return True if the expression is a column declared not null, otherwise false
+	 */
+	private static boolean isNotNull(@NonNull SqlExpression<?> key) {
+		return switch (key) {
+			case SqlColumn<?, ?> column -> !column.nullable();
+			case SqlAliasedColumn<?, ?> aliased -> !aliased.column().nullable();
+			default -> false;
+		};
+	}
+	
+	/**
+	 * Resolves the one-based position of the given order by expression in the rows returned by this query.<br>
+	 * For entity queries the expression must be a column of the queried table, for projections it must be one of the selected expressions.<br>
+	 *
+	 * @param key The order by expression to resolve
+	 * @return The one-based position of the expression in the result rows
+	 * @throws SqlStatementBuilderException If the expression is not selected by this query
+	 */
+	private int keyPosition(@NonNull SqlExpression<?> key) throws SqlException {
+		if (this.config.selectedExpressions().isEmpty()) {
+			if (key instanceof SqlColumn<?, ?> column && column.owningTable() == this.config.table()) {
+				List<? extends SqlColumn<?, ?>> columns = this.config.table().columns().stream().sorted(Comparator.comparingInt(SqlColumn::index)).toList();
+				int index = columns.indexOf(column);
+				if (index >= 0) {
+					return index + 1;
+				}
+			}
+		} else {
+			for (int i = 0; i < this.config.selectedExpressions().size(); i++) {
+				SqlExpression<?> selected = this.config.selectedExpressions().get(i);
+				if (selected.equals(key) || (selected instanceof SqlAliasedExpression<?> aliased && aliased.expression().equals(key))) {
+					return i + 1;
+				}
+			}
+		}
+		throw new SqlStatementBuilderException("Keyset pagination requires each ORDER BY expression to be selected by the query");
+	}
+	
+	/**
+	 * Creates the condition which restricts a query to the rows ordered after the given key values.<br>
+	 * <p>
+	 *     For the keys {@code k1, ..., kn} the condition is {@code k1 > v1 OR (k1 = v1 AND k2 > v2) OR ...},
+	 *     where {@code >} is replaced by {@code <} for descending keys.<br>
+	 *     The expanded form is used instead of a row value comparison, since it is supported by every dialect and allows mixed orderings.
+	 * </p>
+	 *
+	 * @param keys The order by expressions
+	 * @param descending Whether the order by expression at the same index is descending
+	 * @param values The key values of the last row of the preceding page
+	 * @return The seek condition
+	 */
+	private static @NonNull SqlCondition seekCondition(@NonNull List<SqlExpression<?>> keys, boolean @NonNull [] descending, @NonNull List<Object> values) {
+		List<SqlCondition> alternatives = new ArrayList<>(keys.size());
+		for (int i = 0; i < keys.size(); i++) {
+			List<SqlCondition> conjunction = new ArrayList<>(i + 1);
+			for (int j = 0; j < i; j++) {
+				conjunction.add(compare(keys.get(j), values.get(j), 0));
+			}
+			conjunction.add(compare(keys.get(i), values.get(i), descending[i] ? -1 : 1));
+			alternatives.add(conjunction.size() == 1 ? conjunction.getFirst() : SqlCondition.allOf(conjunction));
+		}
+		return alternatives.size() == 1 ? alternatives.getFirst() : SqlCondition.anyOf(alternatives);
+	}
+	
+	/**
+	 * Creates a condition which compares the given expression with the given value.<br>
+	 *
+	 * @param expression The expression to compare
+	 * @param value The value to compare against
+	 * @param direction {@code 0} for equality, a positive value for greater than and a negative value for less than
+	 * @return The comparison condition
+	 * @param <T> The type of the compared values
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> @NonNull SqlCondition compare(@NonNull SqlExpression<T> expression, @NonNull Object value, int direction) {
+		SqlExpression<T> other = new SqlValueExpression<>((T) value, expression.type());
+		if (direction == 0) {
+			return Sql.equalTo(expression, other);
+		}
+		return direction > 0 ? Sql.greaterThan(expression, other) : Sql.lessThan(expression, other);
+	}
+	
 	@Override
 	public @NonNull SqlRendered toSql(@NonNull SqlDialect dialect) throws SqlException {
 		Objects.requireNonNull(dialect, "Sql dialect must not be null");
 		return this.render(this.config, dialect, false);
 	}
 	
+	/**
+	 * Renders the given configuration into dialect specific sql using the render cache of the dialect.<br>
+	 * Queries with the same shape reuse the cached sql and only bind their own parameters.<br>
+	 *
+	 * @param cfg The configuration to render
+	 * @param dialect The sql dialect used to render the query
+	 * @param countStar Whether to render a {@code COUNT(*)} projection and omit the order by, limit and offset clauses
+	 * @return The rendered sql
+	 * @throws NullPointerException If the configuration or dialect is null
+	 * @throws SqlException If an error occurs while rendering the query
+	 * @see #renderUncached(SqlSelectQueryConfig, SqlDialect, boolean)
+	 */
+	private @NonNull SqlRendered render(@NonNull SqlSelectQueryConfig<?> cfg, @NonNull SqlDialect dialect, boolean countStar) throws SqlException {
+		Objects.requireNonNull(cfg, "Sql select query config must not be null");
+		Objects.requireNonNull(dialect, "Sql dialect must not be null");
+		
+		return SqlQueryShape.render(dialect, () -> this.renderUncached(cfg, dialect, countStar), countStar, cfg);
+	}
+	
+	/**
+	 * Renders the limit and offset clause of the given configuration.<br>
+	 * The clause is also rendered by the {@link SqlQueryShape shape} of the query, which extracts its parameters in the same order.<br>
+	 *
+	 * @param cfg The configuration to render the clause of
+	 * @param dialect The sql dialect used to render the clause
+	 * @return The rendered limit and offset clause or null if the configuration has neither a limit nor an offset
+	 * @throws SqlException If the limit and offset clause cannot be rendered by the dialect
+	 */
+	static @Nullable SqlRendered renderLimitOffset(@NonNull SqlSelectQueryConfig<?> cfg, @NonNull SqlDialect dialect) throws SqlException {
+		if (cfg.limit() < 0 && cfg.offset() < 0) {
+			return null;
+		}
+		return dialect.renderLimitOffset(cfg.limit(), cfg.offset() >= 0 ? cfg.offset() : 0, !cfg.orderByClauses().isEmpty());
+	}
+	
 	/**
 	 * Renders the given configuration into dialect specific sql.<br>
 	 * Assembles the optional {@code WITH}, {@code SELECT}, {@code FROM}, join, {@code WHERE}, {@code GROUP BY}, {@code HAVING}, set operation, {@code ORDER BY}, limit/offset and lock clauses in order.<br>
@@ -659,7 +1000,7 @@ public class SqlSelectQuery<E> implements SqlJoinableQuery<E> {
 	 * @throws SqlStatementBuilderException If skip locked is combined with the {@code FOR SHARE} lock mode
 	 * @throws SqlException If an error occurs while rendering the query
 	 */
-	private @NonNull SqlRendered render(@NonNull SqlSelectQueryConfig<?> cfg, @NonNull SqlDialect dialect, boolean countStar) throws SqlException {
+	private @NonNull SqlRendered renderUncached(@NonNull SqlSelectQueryConfig<?> cfg, @NonNull SqlDialect dialect, boolean countStar) throws SqlException {
 		Objects.requireNonNull(cfg, "Sql select query config must not be null");
 		Objects.requireNonNull(dialect, "Sql dialect must not be null");
 		
@@ -791,12 +1132,9 @@ public class SqlSelectQuery<E> implements SqlJoinableQuery<E> {
 			}
 		}
 		
-		if (cfg.limit() >= 0 || cfg.offset() >= 0) {
-			renderer.rendered(dialect.renderLimitOffset(
-				cfg.limit(),
-				cfg.offset() >= 0 ? cfg.offset() : 0,
-				!cfg.orderByClauses().isEmpty()
-			));
+		SqlRendered limitOffset = renderLimitOffset(cfg, dialect);
+		if (limitOffset != null) {
+			renderer.rendered(limitOffset);
 		}
 		
 		if (cfg.lockMode() != null) {
@@ -261,7 +261,9 @@ public class SqlUpdateQuery<E> implements SqlJoinableQuery<E> {
 		if (this.config.whereCondition() == null && !this.config.allowAll()) {
 			throw new SqlStatementBuilderException("UPDATE without WHERE clause would affect all rows, call allowAll() to confirm this is intentional");
 		}
-		return SqlQueryExecutor.executeUpdate(this.config.dialect(), this.config.connectionSource(), this.toSql(this.config.dialect()), this.config.queryTimeout());
+		int affected = SqlQueryExecutor.executeUpdate(this.config.dialect(), this.config.connectionSource(), this.toSql(this.config.dialect()), this.config.queryTimeout());
+		SqlQueryExecutor.invalidateCache(this.config.table(), this.config.connectionSource());
+		return affected;
 	}
 	
 	/**
@@ -276,9 +278,11 @@ public class SqlUpdateQuery<E> implements SqlJoinableQuery<E> {
 			throw new SqlDialectFeatureException(SqlFeature.UPDATE_RETURNING, this.config.dialect());
 		}
 		
-		return SqlQueryExecutor.executeReturningQuery(
+		List<E> updated = SqlQueryExecutor.executeReturningQuery(
 			this.config.dialect(), this.config.connectionSource(), this.toSql(this.config.dialect()), this.config.dialect().renderReturning(List.copyOf(this.config.table().columns())), this.config.queryTimeout(), this.config.rowMapper()
 		);
+		SqlQueryExecutor.invalidateCache(this.config.table(), this.config.connectionSource());
+		return updated;
 	}
 	
 	@Override
@@ -291,6 +295,17 @@ public class SqlUpdateQuery<E> implements SqlJoinableQuery<E> {
 			throw new SqlDialectFeatureException(SqlFeature.JOINED_DML, dialect);
 		}
 		
+		return SqlQueryShape.render(dialect, () -> this.renderUncached(dialect), "UPDATE", this.config.table(), this.config.joins(), this.config.setClauses(), this.config.whereCondition());
+	}
+	
+	/**
+	 * Renders this update query into dialect specific sql without using the render cache.<br>
+	 *
+	 * @param dialect The sql dialect used to render the query
+	 * @return The rendered sql
+	 * @throws SqlException If an error occurs while rendering the query
+	 */
+	private @NonNull SqlRendered renderUncached(@NonNull SqlDialect dialect) throws SqlException {
 		SqlRenderer renderer = SqlRenderer.empty();
 		renderer.update().literal(dialect.quoteIdentifier(this.config.table().name()));
 		for (SqlJoinClause join : this.config.joins()) {
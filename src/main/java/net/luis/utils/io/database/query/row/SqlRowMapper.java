@@ -29,13 +29,16 @@ import net.luis.utils.io.database.expression.SqlExpression;
 import net.luis.utils.io.database.table.SqlAliasedColumn;
 import net.luis.utils.io.database.table.SqlColumn;
 import net.luis.utils.io.database.type.SqlType;
+import net.luis.utils.io.database.type.SqlValueAccessor;
 import org.apache.commons.lang3.ArrayUtils;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
+import java.lang.invoke.*;
 import java.lang.reflect.*;
 import java.sql.ResultSet;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -45,12 +48,23 @@ import java.util.stream.Stream;
  *     Depending on the requested target type, the produced mapper materializes one of three shapes:<br>
  * </p>
  * <ul>
- *     <li>A dynamic proxy backed by the positional {@link SqlRow2}..{@code SqlRow16} accessor interfaces, where accessors like {@code first()} bind to columns by position</li>
+ *     <li>A concrete row implementation of the positional {@link SqlRow2}..{@code SqlRow16} accessor interfaces, where accessors like {@code first()} bind to columns by position</li>
  *     <li>A record, whose canonical constructor is invoked with the column values matched by component name or, as a fallback, by position</li>
- *     <li>An arbitrary interface, whose zero-argument methods are matched to selected expressions by name and served through a dynamic proxy</li>
+ *     <li>An arbitrary interface, whose zero-argument methods are matched to selected expressions by name and served through a generated row class</li>
  * </ul>
  * The column values are read using the {@link SqlType} of the selected expressions and the active {@link SqlDialect}.<br>
+ * <p>
+ *     The class implementing an interface is generated once per interface with the class file api and cached.<br>
+ *     Interfaces which can not be implemented by a generated class, for example private interfaces or those loaded by a foreign class loader,
+ *     are served through a dynamic proxy instead.
+ * </p>
+ * <p>
+ *     The constructor of a record and the constructor of the class implementing an interface are resolved once per type and cached,
+ *     so creating a mapper and mapping a row do not perform any reflective lookups or access checks.<br>
+ *     The {@link SqlValueAccessor value accessors} of the columns are resolved once when the mapper is created.
+ * </p>
  *
+ * @see SqlRowValues
  * @see SqlRowInvocationHandler
  *
  * @author Luis-St
@@ -80,6 +94,25 @@ public final class SqlRowMapper {
 		Map.entry("fifteenth", 14),
 		Map.entry("sixteenth", 15)
 	);
+	/**
+	 * The cached constructor invokers of record types.<br>
+	 * Each invoker accepts the constructor arguments as an object array and returns the created record.<br>
+	 */
+	private static final ClassValue<MethodHandle> RECORD_CONSTRUCTORS = new ClassValue<>() {
+		@Override
+		protected @NonNull MethodHandle computeValue(@NonNull Class<?> type) {
+			return resolveRecordConstructor(type);
+		}
+	};
+	/**
+	 * The cached dynamic proxy constructors of interface types.<br>
+	 */
+	private static final ClassValue<Constructor<?>> PROXY_CONSTRUCTORS = new ClassValue<>() {
+		@Override
+		protected @NonNull Constructor<?> computeValue(@NonNull Class<?> type) {
+			return resolveProxyConstructor(type);
+		}
+	};
 	
 	/**
 	 * Private constructor to prevent instantiation.<br>
@@ -141,7 +174,7 @@ public final class SqlRowMapper {
 			types.add(expression.type());
 			expressionNames.add(resolveExpressionName(expression));
 		}
-		return createProxyMapper(rowType, types, expressionNames, dialect);
+		return createRowMapper(rowType, types, expressionNames, dialect);
 	}
 	
 	/**
@@ -183,7 +216,7 @@ public final class SqlRowMapper {
 	 * <p>
 	 *     Each record component is matched to a selected expression by name; if no expression name
 	 *     matches, the component is bound positionally by its declaration index.<br>
-	 *     The mapper invokes the canonical constructor of the record with the resolved column values.
+	 *     The mapper invokes the cached canonical constructor of the record with the resolved column values.
 	 * </p>
 	 *
 	 * @param dialect The sql dialect used to read the column values
@@ -213,7 +246,7 @@ public final class SqlRowMapper {
 		}
 		
 		int[] mapping = new int[components.length];
-		SqlType<?>[] types = new SqlType<?>[components.length];
+		SqlValueAccessor<?>[] accessors = new SqlValueAccessor<?>[components.length];
 		
 		for (int c = 0; c < components.length; c++) {
 			String componentName = components[c].getName();
@@ -225,29 +258,22 @@ public final class SqlRowMapper {
 				}
 			}
 			mapping[c] = expressionIndex;
-			types[c] = expressions.get(expressionIndex).type();
-		}
-		
-		Constructor<R> constructor;
-		try {
-			Class<?>[] paramTypes = Arrays.stream(components).map(RecordComponent::getType).toArray(Class[]::new);
-			constructor = recordType.getDeclaredConstructor(paramTypes);
-			constructor.setAccessible(true);
-		} catch (NoSuchMethodException e) {
-			throw new IllegalStateException("Cannot find canonical constructor for record " + recordType.getSimpleName(), e);
-		} catch (InaccessibleObjectException e) {
-			throw new IllegalStateException("Cannot access canonical constructor for record " + recordType.getSimpleName() + ", if it lives in a named module, open its package to LUtils (e.g. 'opens your.package;' in module-info.java)", e);
+			accessors[c] = dialect.valueAccessor(expressions.get(expressionIndex).type());
 		}
 		
+		MethodHandle constructor = RECORD_CONSTRUCTORS.get(recordType);
 		return resultSet -> {
 			Object[] args = new Object[components.length];
 			for (int i = 0; i < args.length; i++) {
-				args[i] = SqlType.getValue(types[i], dialect, resultSet, mapping[i] + 1);
+				args[i] = accessors[i].read(resultSet, mapping[i] + 1);
 			}
 			
 			try {
-				return constructor.newInstance(args);
-			} catch (Exception e) {
+				Object instance = constructor.invokeExact(args);
+				return (R) instance;
+			} catch (Error e) {
+				throw e;
+			} catch (Throwable e) {
 				throw new SqlResultMappingException("Failed to construct record " + recordType.getSimpleName() + " from result set", e, recordType);
 			}
 		};
@@ -258,8 +284,8 @@ public final class SqlRowMapper {
 	 * <p>
 	 *     Every zero-argument, non-default method of the interface is matched to a selected expression
 	 *     by name.<br>
-	 *     The resolved column values are served through a dynamic proxy backed by a
-	 *     {@link SqlRowInvocationHandler}.
+	 *     The resolved column values are served through the generated row class of the interface,
+	 *     or through a dynamic proxy backed by a {@link SqlRowInvocationHandler} if no class can be generated.
 	 * </p>
 	 *
 	 * @param dialect The sql dialect used to read the column values
@@ -267,10 +293,10 @@ public final class SqlRowMapper {
 	 * @param expressions The selected expressions in the order they appear in the result set
 	 * @param expressionNames The resolved names of the selected expressions
 	 * @param <R> The type of the projected interface
-	 * @return A mapper that maps a result set row to a proxy instance of the interface type
+	 * @return A mapper that maps a result set row to an instance of the interface type
 	 * @throws NullPointerException If any of the arguments is null
 	 * @throws IllegalArgumentException If a method of the interface has no matching expression
-	 * @throws IllegalStateException If the proxy constructor cannot be resolved or accessed
+	 * @throws IllegalStateException If the row class cannot be generated or the proxy constructor cannot be resolved or accessed
 	 */
 	private static <R> @NonNull ThrowableFunction<ResultSet, R, SqlException> forInterfaceProjection(
 		@NonNull SqlDialect dialect,
@@ -283,53 +309,35 @@ public final class SqlRowMapper {
 		Objects.requireNonNull(expressions, "Sql expressions must not be null");
 		Objects.requireNonNull(expressionNames, "Sql expression names must not be null");
 		
-		Method[] methods = Arrays.stream(interfaceType.getMethods()).filter(m -> m.getParameterCount() == 0 && !m.isDefault()).toArray(Method[]::new);
-		
-		int[] mapping = new int[methods.length];
-		String[] methodNames = new String[methods.length];
-		SqlType<?>[] types = new SqlType<?>[methods.length];
+		List<String> names = SqlRowValues.accessorNames(interfaceType);
+		SqlValueAccessor<?>[] accessors = new SqlValueAccessor<?>[names.size()];
+		int[] mapping = new int[names.size()];
 		
-		for (int m = 0; m < methods.length; m++) {
-			String methodName = methods[m].getName();
-			methodNames[m] = methodName;
-			
+		for (int i = 0; i < names.size(); i++) {
+			String methodName = names.get(i);
 			int expressionIndex = expressionNames.indexOf(methodName);
 			if (expressionIndex < 0) {
 				throw new IllegalArgumentException("Cannot project into interface " + interfaceType.getSimpleName() + ": method '" + methodName + "()' has no matching expression");
 			}
 			
-			mapping[m] = expressionIndex;
-			types[m] = expressions.get(expressionIndex).type();
+			mapping[i] = expressionIndex;
+			accessors[i] = dialect.valueAccessor(expressions.get(expressionIndex).type());
 		}
-		
-		Map<String, Integer> methodIndexMap = Maps.newHashMap();
-		for (int i = 0; i < methodNames.length; i++) {
-			methodIndexMap.put(methodNames[i], i);
-		}
-		
-		Constructor<?> proxyConstructor = resolveProxyConstructor(interfaceType);
-		
-		return resultSet -> {
-			Object[] values = new Object[methods.length];
-			for (int i = 0; i < values.length; i++) {
-				values[i] = SqlType.getValue(types[i], dialect, resultSet, mapping[i] + 1);
-			}
-			
-			try {
-				return (R) proxyConstructor.newInstance((InvocationHandler) new SqlRowInvocationHandler(values, methodIndexMap));
-			} catch (ReflectiveOperationException e) {
-				throw new SqlResultMappingException("Failed to construct proxy for " + interfaceType.getSimpleName() + " from result set", e, interfaceType);
-			}
-		};
+		return createInterfaceMapper(interfaceType, names, accessors, mapping);
 	}
 	
 	/**
-	 * Creates a row mapper that serves the given column types and names through a dynamic proxy of the row type.<br>
+	 * Creates a row mapper that serves the given column types and names through an instance of the row type.<br>
 	 * <p>
 	 *     For each zero-argument, non-default accessor of the row type a column is resolved: ordinal
 	 *     accessors such as {@code first()} bind to their fixed positional column, while all other
-	 *     accessors bind to the selected expression whose name matches the accessor name.<br>
-	 *     The resolved column values are served through a {@link SqlRowInvocationHandler}.
+	 *     accessors bind to the selected expression whose name matches the accessor name.
+	 * </p>
+	 * <p>
+	 *     If the row type is one of the positional {@link SqlRow2}..{@code SqlRow16} interfaces, the column values are served
+	 *     by the concrete {@link SqlRowValues} implementation of the interface.<br>
+	 *     Otherwise, the resolved column values are served through the generated row class of the interface,
+	 *     or through a dynamic proxy backed by a {@link SqlRowInvocationHandler} if no class can be generated.
 	 * </p>
 	 *
 	 * @param rowType The row interface to map each result row to
@@ -337,24 +345,22 @@ public final class SqlRowMapper {
 	 * @param expressionNames The resolved names of the selected expressions
 	 * @param dialect The sql dialect used to read the column values
 	 * @param <R> The type of the mapped row
-	 * @return A mapper that maps a result set row to a proxy instance of the row type
+	 * @return A mapper that maps a result set row to an instance of the row type
 	 * @throws NullPointerException If any of the arguments is null
 	 * @throws IllegalArgumentException If an ordinal accessor exceeds the column count or a non-ordinal accessor matches no expression
-	 * @throws IllegalStateException If the proxy constructor cannot be resolved or accessed
+	 * @throws IllegalStateException If the row class cannot be generated or the proxy constructor cannot be resolved or accessed
 	 */
-	private static <R> @NonNull ThrowableFunction<ResultSet, R, SqlException> createProxyMapper(@NonNull Class<R> rowType, @NonNull List<SqlType<?>> types, @NonNull List<String> expressionNames, @NonNull SqlDialect dialect) {
+	private static <R> @NonNull ThrowableFunction<ResultSet, R, SqlException> createRowMapper(@NonNull Class<R> rowType, @NonNull List<SqlType<?>> types, @NonNull List<String> expressionNames, @NonNull SqlDialect dialect) {
 		Objects.requireNonNull(rowType, "Row type must not be null");
 		Objects.requireNonNull(types, "Sql types must not be null");
 		Objects.requireNonNull(expressionNames, "Sql expression names must not be null");
 		Objects.requireNonNull(dialect, "Sql dialect must not be null");
 		
-		Method[] methods = Arrays.stream(rowType.getMethods()).filter(m -> m.getParameterCount() == 0 && !m.isDefault()).toArray(Method[]::new);
-		
-		int[] mapping = new int[methods.length];
-		Map<String, Integer> methodIndexMap = Maps.newHashMap();
+		List<String> names = SqlRowValues.accessorNames(rowType);
+		int[] mapping = new int[names.size()];
 		
-		for (int m = 0; m < methods.length; m++) {
-			String name = methods[m].getName();
+		for (int i = 0; i < names.size(); i++) {
+			String name = names.get(i);
 			
 			int column;
 			Integer ordinal = ORDINAL_NAMES.get(name);
@@ -371,25 +377,148 @@ public final class SqlRowMapper {
 				}
 			}
 			
-			mapping[m] = column;
-			methodIndexMap.put(name, m);
+			mapping[i] = column;
+		}
+		
+		Optional<Function<Object[], SqlRowValues>> factory = SqlRowValues.factory(rowType);
+		if (factory.isPresent()) {
+			return createPositionalMapper(factory.get(), types, names.size(), dialect);
 		}
 		
-		Constructor<?> proxyConstructor = resolveProxyConstructor(rowType);
+		SqlValueAccessor<?>[] accessors = new SqlValueAccessor<?>[names.size()];
+		for (int i = 0; i < accessors.length; i++) {
+			accessors[i] = dialect.valueAccessor(types.get(mapping[i]));
+		}
+		return createInterfaceMapper(rowType, names, accessors, mapping);
+	}
+	
+	/**
+	 * Creates a row mapper that serves the resolved column values through an instance of the given interface.<br>
+	 * <p>
+	 *     The n-th accessor name is served by the column at the n-th position of the mapping, read by the n-th value accessor.<br>
+	 *     If a row class can be generated for the interface, the mapper invokes its cached constructor,
+	 *     otherwise the values are served through a dynamic proxy backed by a {@link SqlRowInvocationHandler}.
+	 * </p>
+	 *
+	 * @param type The interface to map each result row to
+	 * @param names The accessor names of the interface as returned by {@link SqlRowValues#accessorNames(Class)}
+	 * @param accessors The value accessors of the accessor names
+	 * @param mapping The zero-based column positions of the accessor names
+	 * @param <R> The type of the mapped row
+	 * @return A mapper that maps a result set row to an instance of the interface
+	 * @throws IllegalStateException If the row class cannot be generated or the proxy constructor cannot be resolved or accessed
+	 */
+	private static <R> @NonNull ThrowableFunction<ResultSet, R, SqlException> createInterfaceMapper(@NonNull Class<R> type, @NonNull List<String> names, SqlValueAccessor<?> @NonNull [] accessors, int @NonNull [] mapping) {
+		Optional<MethodHandle> generated = SqlRowValues.generatedConstructor(type);
+		if (generated.isPresent()) {
+			MethodHandle constructor = generated.get();
+			return resultSet -> {
+				Object[] values = readValues(resultSet, accessors, mapping);
+				try {
+					Object instance = constructor.invokeExact(values);
+					return (R) instance;
+				} catch (Error e) {
+					throw e;
+				} catch (Throwable e) {
+					throw new SqlResultMappingException("Failed to construct row of " + type.getSimpleName() + " from result set", e, type);
+				}
+			};
+		}
+		
+		Map<String, Integer> methodIndexMap = Maps.newHashMapWithExpectedSize(names.size());
+		for (int i = 0; i < names.size(); i++) {
+			methodIndexMap.put(names.get(i), i);
+		}
+		
+		Constructor<?> proxyConstructor = PROXY_CONSTRUCTORS.get(type);
 		return resultSet -> {
-			Object[] values = new Object[methods.length];
-			for (int i = 0; i < values.length; i++) {
-				values[i] = SqlType.getValue(types.get(mapping[i]), dialect, resultSet, mapping[i] + 1);
-			}
-			
+			Object[] values = readValues(resultSet, accessors, mapping);
 			try {
 				return (R) proxyConstructor.newInstance((InvocationHandler) new SqlRowInvocationHandler(values, methodIndexMap));
 			} catch (ReflectiveOperationException e) {
-				throw new SqlResultMappingException("Failed to construct proxy for " + rowType.getSimpleName() + " from result set", e, rowType);
+				throw new SqlResultMappingException("Failed to construct proxy for " + type.getSimpleName() + " from result set", e, type);
+			}
+		};
+	}
+	
+	/**
+	 * Reads the column values of the current row of the given result set.<br>
+	 *
+	 * @param resultSet The result set positioned on the row to read
+	 * @param accessors The value accessors of the columns
+	 * @param mapping The zero-based column positions to read
+	 * @return The column values in the order of the accessors
+	 * @throws SqlException If a column value cannot be read
+	 */
+	private static Object @NonNull [] readValues(@NonNull ResultSet resultSet, SqlValueAccessor<?> @NonNull [] accessors, int @NonNull [] mapping) throws SqlException {
+		Object[] values = new Object[accessors.length];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = accessors[i].read(resultSet, mapping[i] + 1);
+		}
+		return values;
+	}
+	
+	/**
+	 * Creates a row mapper that serves the leading columns of each result row through a concrete positional row implementation.<br>
+	 * The n-th column is read into the n-th ordinal accessor of the row.<br>
+	 *
+	 * @param factory The factory of the positional row implementation
+	 * @param types The sql types of the selected columns in result set order
+	 * @param arity The number of ordinal accessors of the row type
+	 * @param dialect The sql dialect used to read the column values
+	 * @param <R> The type of the mapped row
+	 * @return A mapper that maps a result set row to an instance of the positional row implementation
+	 * @throws NullPointerException If any of the arguments is null
+	 */
+	private static <R> @NonNull ThrowableFunction<ResultSet, R, SqlException> createPositionalMapper(@NonNull Function<Object[], SqlRowValues> factory, @NonNull List<SqlType<?>> types, int arity, @NonNull SqlDialect dialect) {
+		Objects.requireNonNull(factory, "Row factory must not be null");
+		Objects.requireNonNull(types, "Sql types must not be null");
+		Objects.requireNonNull(dialect, "Sql dialect must not be null");
+		
+		SqlValueAccessor<?>[] accessors = new SqlValueAccessor<?>[arity];
+		for (int i = 0; i < arity; i++) {
+			accessors[i] = dialect.valueAccessor(types.get(i));
+		}
+		
+		return resultSet -> {
+			Object[] values = new Object[accessors.length];
+			for (int i = 0; i < values.length; i++) {
+				values[i] = accessors[i].read(resultSet, i + 1);
 			}
+			return (R) factory.apply(values);
 		};
 	}
 	
+	/**
+	 * Resolves the canonical constructor of the given record type as a method handle.<br>
+	 * The returned invoker accepts the constructor arguments as a single object array and returns the created record.<br>
+	 *
+	 * @param recordType The record type to resolve the constructor for
+	 * @return The constructor invoker of the record type
+	 * @throws NullPointerException If the record type is null
+	 * @throws IllegalArgumentException If the type is not a record
+	 * @throws IllegalStateException If the canonical constructor cannot be found or accessed
+	 */
+	private static @NonNull MethodHandle resolveRecordConstructor(@NonNull Class<?> recordType) {
+		Objects.requireNonNull(recordType, "Record type must not be null");
+		
+		RecordComponent[] components = recordType.getRecordComponents();
+		if (components == null) {
+			throw new IllegalArgumentException("Not a record type: " + recordType.getName());
+		}
+		
+		try {
+			Class<?>[] paramTypes = Arrays.stream(components).map(RecordComponent::getType).toArray(Class[]::new);
+			Constructor<?> constructor = recordType.getDeclaredConstructor(paramTypes);
+			constructor.setAccessible(true);
+			return MethodHandles.lookup().unreflectConstructor(constructor).asSpreader(Object[].class, paramTypes.length).asType(MethodType.methodType(Object.class, Object[].class));
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException("Cannot find canonical constructor for record " + recordType.getSimpleName(), e);
+		} catch (InaccessibleObjectException | IllegalAccessException e) {
+			throw new IllegalStateException("Cannot access canonical constructor for record " + recordType.getSimpleName() + ", if it lives in a named module, open its package to LUtils (e.g. 'opens your.package;' in module-info.java)", e);
+		}
+	}
+	
 	/**
 	 * Resolves the dynamic proxy constructor for the given row type.<br>
 	 * The constructor accepts a single {@link InvocationHandler} and is made accessible for direct instantiation.<br>
@@ -0,0 +1,1219 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.database.query.row;
+
+import org.jspecify.annotations.NonNull;
+
+import java.lang.classfile.ClassFile;
+import java.lang.classfile.TypeKind;
+import java.lang.constant.*;
+import java.lang.invoke.*;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Base class of the row implementations created by the {@link SqlRowMapper}.<br>
+ * <p>
+ *     Each positional row interface {@link SqlRow2}..{@code SqlRow16} is implemented by a dedicated final subclass,
+ *     which declares exactly the ordinal accessors of its interface and reads the column value at their fixed position.<br>
+ *     Projection interfaces are implemented by subclasses generated at runtime with the {@link ClassFile class file api},
+ *     whose accessors read the column value of the accessor name, so a row is served by plain field and array access instead of dynamic proxy dispatch.
+ * </p>
+ * <p>
+ *     A class is only generated for a public, non-sealed interface which is visible to the class loader of this library
+ *     and whose accessors return types visible to it as well, since the generated class is defined in this package.<br>
+ *     Other interfaces, for example private ones or those loaded by a foreign class loader, are served by a dynamic proxy.
+ * </p>
+ * <p>
+ *     Equality is identity based, the hash code is derived from the values and the string representation lists the values,
+ *     matching the rows created for arbitrary interfaces through a dynamic proxy.
+ * </p>
+ *
+ * @author Luis-St
+ */
+abstract class SqlRowValues {
+	
+	/**
+	 * The factories of the row implementations mapped by the positional row interface they implement.<br>
+	 */
+	private static final Map<Class<?>, Function<Object[], SqlRowValues>> FACTORIES = Map.ofEntries(
+		Map.entry(SqlRow2.class, Row2::new),
+		Map.entry(SqlRow3.class, Row3::new),
+		Map.entry(SqlRow4.class, Row4::new),
+		Map.entry(SqlRow5.class, Row5::new),
+		Map.entry(SqlRow6.class, Row6::new),
+		Map.entry(SqlRow7.class, Row7::new),
+		Map.entry(SqlRow8.class, Row8::new),
+		Map.entry(SqlRow9.class, Row9::new),
+		Map.entry(SqlRow10.class, Row10::new),
+		Map.entry(SqlRow11.class, Row11::new),
+		Map.entry(SqlRow12.class, Row12::new),
+		Map.entry(SqlRow13.class, Row13::new),
+		Map.entry(SqlRow14.class, Row14::new),
+		Map.entry(SqlRow15.class, Row15::new),
+		Map.entry(SqlRow16.class, Row16::new)
+	);
+	/**
+	 * The descriptor of this class, which is the superclass of the generated row classes.<br>
+	 */
+	private static final ClassDesc CD_ROW_VALUES = ClassDesc.of(SqlRowValues.class.getName());
+	/**
+	 * The descriptor of the constructor of this class and the generated row classes.<br>
+	 */
+	private static final MethodTypeDesc MTD_CONSTRUCTOR = MethodTypeDesc.of(ConstantDescs.CD_void, ConstantDescs.CD_Object.arrayType());
+	/**
+	 * The descriptor of the {@link #value(int)} method invoked by the accessors of the generated row classes.<br>
+	 */
+	private static final MethodTypeDesc MTD_VALUE = MethodTypeDesc.of(ConstantDescs.CD_Object, ConstantDescs.CD_int);
+	/**
+	 * The cached constructors of the generated row classes mapped by the projection interface they implement.<br>
+	 * Each constructor accepts the column values as an object array, an empty optional indicates that no class can be generated for the interface.<br>
+	 */
+	private static final ClassValue<Optional<MethodHandle>> GENERATED_CONSTRUCTORS = new ClassValue<>() {
+		@Override
+		protected @NonNull Optional<MethodHandle> computeValue(@NonNull Class<?> type) {
+			return generate(type);
+		}
+	};
+	
+	/**
+	 * The column values of the row, indexed by their position in the row.<br>
+	 */
+	private final Object[] values;
+	
+	/**
+	 * Constructs a new row with the given column values.<br>
+	 * The constructor is package-private, since it is invoked by the generated row classes.<br>
+	 *
+	 * @param values The column values of the row
+	 * @throws NullPointerException If the values array is null
+	 */
+	SqlRowValues(@NonNull Object[] values) {
+		this.values = Objects.requireNonNull(values, "Values array must not be null");
+	}
+	
+	/**
+	 * Returns the factory of the row implementation for the given positional row interface.<br>
+	 * The factory expects the column values in row order and does not copy them.<br>
+	 *
+	 * @param rowType The row type to get the factory for
+	 * @return The factory of the row implementation, or an empty optional if the row type is not a positional row interface
+	 * @throws NullPointerException If the row type is null
+	 */
+	static @NonNull Optional<Function<Object[], SqlRowValues>> factory(@NonNull Class<?> rowType) {
+		Objects.requireNonNull(rowType, "Row type must not be null");
+		return Optional.ofNullable(FACTORIES.get(rowType));
+	}
+	
+	/**
+	 * Returns the distinct names of the accessors of the given interface in the order of their column values.<br>
+	 * Accessors are the public abstract methods of the interface without parameters.<br>
+	 *
+	 * @param type The interface to get the accessor names of
+	 * @return The sorted accessor names
+	 * @throws NullPointerException If the type is null
+	 */
+	static @NonNull List<String> accessorNames(@NonNull Class<?> type) {
+		Objects.requireNonNull(type, "Type must not be null");
+		return accessors(type).stream().map(Method::getName).distinct().sorted().toList();
+	}
+	
+	/**
+	 * Returns the constructor of the row class generated for the given projection interface.<br>
+	 * <p>
+	 *     The constructor accepts the column values as an object array, ordered like the {@link #accessorNames(Class) accessor names}.<br>
+	 *     The class is generated once per interface and cached.
+	 * </p>
+	 *
+	 * @param type The projection interface
+	 * @return The constructor of the generated row class, or an empty optional if no class can be generated for the interface
+	 * @throws NullPointerException If the type is null
+	 */
+	static @NonNull Optional<MethodHandle> generatedConstructor(@NonNull Class<?> type) {
+		Objects.requireNonNull(type, "Type must not be null");
+		return GENERATED_CONSTRUCTORS.get(type);
+	}
+	
+	/**
+	 * Returns the accessors of the given interface.<br>
+	 *
+	 * @param type The interface to get the accessors of
+	 * @return The public abstract methods of the interface without parameters
+	 */
+	private static @NonNull List<Method> accessors(@NonNull Class<?> type) {
+		return Arrays.stream(type.getMethods()).filter(method -> method.getParameterCount() == 0 && !method.isDefault() && !Modifier.isStatic(method.getModifiers())).toList();
+	}
+	
+	/**
+	 * Generates a row class implementing the given projection interface and defines it as hidden class in this package.<br>
+	 * Each accessor of the generated class returns the column value at the position of its name, cast or unboxed to the return type of the accessor.<br>
+	 *
+	 * @param type The projection interface to implement
+	 * @return The constructor of the generated class, or an empty optional if the interface can not be implemented by a generated class
+	 * @throws IllegalStateException If the generated class can not be defined
+	 */
+	private static @NonNull Optional<MethodHandle> generate(@NonNull Class<?> type) {
+		List<Method> accessors = accessors(type);
+		if (!type.isInterface() || type.isSealed() || !isVisible(type) || !accessors.stream().allMatch(SqlRowValues::isImplementable)) {
+			return Optional.empty();
+		}
+		
+		List<String> names = accessorNames(type);
+		byte[] bytes = ClassFile.of().build(ClassDesc.of(SqlRowValues.class.getPackageName(), "SqlGeneratedRow"), builder -> {
+			builder.withFlags(ClassFile.ACC_FINAL | ClassFile.ACC_SYNTHETIC);
+			builder.withSuperclass(CD_ROW_VALUES);
+			builder.withInterfaceSymbols(describe(type));
+			builder.withMethodBody(ConstantDescs.INIT_NAME, MTD_CONSTRUCTOR, ClassFile.ACC_PUBLIC, code -> code.aload(0).aload(1).invokespecial(CD_ROW_VALUES, ConstantDescs.INIT_NAME, MTD_CONSTRUCTOR).return_());
+			
+			Set<String> generated = new HashSet<>();
+			for (Method accessor : accessors) {
+				Class<?> returnType = accessor.getReturnType();
+				MethodTypeDesc descriptor = MethodTypeDesc.of(describe(returnType));
+				if (!generated.add(accessor.getName() + descriptor.descriptorString())) {
+					continue;
+				}
+				
+				int index = names.indexOf(accessor.getName());
+				builder.withMethodBody(accessor.getName(), descriptor, ClassFile.ACC_PUBLIC | ClassFile.ACC_FINAL, code -> {
+					code.aload(0).loadConstant(index).invokevirtual(CD_ROW_VALUES, "value", MTD_VALUE);
+					if (returnType.isPrimitive()) {
+						ClassDesc wrapper = describe(MethodType.methodType(returnType).wrap().returnType());
+						code.checkcast(wrapper).invokevirtual(wrapper, returnType.getName() + "Value", descriptor);
+					} else if (returnType != Object.class) {
+						code.checkcast(describe(returnType));
+					}
+					code.return_(TypeKind.from(returnType));
+				});
+			}
+		});
+		
+		try {
+			SqlRowValues.class.getModule().addReads(type.getModule());
+			MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClass(bytes, true);
+			MethodHandle constructor = lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class, Object[].class));
+			return Optional.of(constructor.asType(MethodType.methodType(Object.class, Object[].class)));
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Failed to generate row class for " + type.getName(), e);
+		}
+	}
+	
+	/**
+	 * Checks whether the given accessor can be implemented by a generated row class.<br>
+	 * The accessor must not return void, must not redeclare a method of {@link Object} and its return type must be visible to this library.<br>
+	 *
+	 * @param accessor The accessor to check
+	 * @return True if the accessor can be implemented, otherwise false
+	 */
+	private static boolean isImplementable(@NonNull Method accessor) {
+		if (accessor.getReturnType() == void.class) {
+			return false;
+		}
+		try {
+			Object.class.getMethod(accessor.getName());
+			return false;
+		} catch (NoSuchMethodException e) {
+			return isVisible(accessor.getReturnType());
+		}
+	}
+	
+	/**
+	 * Checks whether the given type can be referenced by a class generated in this package.<br>
+	 * <p>
+	 *     Primitive types are always visible.<br>
+	 *     Any other type must be public, exported to the module of this library and resolve to the same class through the class loader of this library.<br>
+	 *     Array types are visible if their element type is visible.
+	 * </p>
+	 *
+	 * @param type The type to check
+	 * @return True if the type is visible, otherwise false
+	 */
+	private static boolean isVisible(@NonNull Class<?> type) {
+		Class<?> element = type;
+		while (element.isArray()) {
+			element = element.getComponentType();
+		}
+		if (element.isPrimitive()) {
+			return true;
+		}
+		if (element.isHidden() || !Modifier.isPublic(element.getModifiers()) || !element.getModule().isExported(element.getPackageName(), SqlRowValues.class.getModule())) {
+			return false;
+		}
+		
+		try {
+			return Class.forName(element.getName(), false, SqlRowValues.class.getClassLoader()) == element;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+	
+	/**
+	 * Returns the nominal descriptor of the given type.<br>
+	 *
+	 * @param type The type to describe
+	 * @return The descriptor of the type
+	 */
+	private static @NonNull ClassDesc describe(@NonNull Class<?> type) {
+		return type.describeConstable().orElseThrow(() -> new IllegalStateException("Type " + type.getName() + " can not be described"));
+	}
+	
+	/**
+	 * Returns the column value at the given position of this row.<br>
+	 * This method is invoked by the accessors of the row implementations, including the generated ones.<br>
+	 *
+	 * @param index The zero-based position of the column
+	 * @return The value of the column
+	 */
+	final Object value(int index) {
+		return this.values[index];
+	}
+	
+	//region Object overrides
+	@Override
+	public final boolean equals(Object o) {
+		return this == o;
+	}
+	
+	@Override
+	public final int hashCode() {
+		return Arrays.hashCode(this.values);
+	}
+	
+	@Override
+	public final String toString() {
+		return "SqlRow" + Arrays.toString(this.values);
+	}
+	//endregion
+	
+	/**
+	 * Row implementation of {@link SqlRow2}.<br>
+	 *
+	 * @author Luis-St
+	 */
+	static final class Row2 extends SqlRowValues implements SqlRow2<Object, Object> {
+		
+		/**
+		 * Constructs a new row of 2 columns with the given column values.<br>
+		 * @param values The column values of the row
+		 */
+		private Row2(@NonNull Object[] values) {
+			super(values);
+		}
+		
+		@Override
+		public Object first() {
+			return this.value(0);
+		}
+		
+		@Override
+		public Object second() {
+			return this.value(1);
+		}
+	}
+	
+	/**
+	 * Row implementation of {@link SqlRow3}.<br>
+	 *
+	 * @author Luis-St
+	 */
+	static final class Row3 extends SqlRowValues implements SqlRow3<Object, Object, Object> {
+		
+		/**
+		 * Constructs a new row of 3 columns with the given column values.<br>
+		 * @param values The column values of the row
+		 */
+		private Row3(@NonNull Object[] values) {
+			super(values);
+		}
+		
+		@Override
+		public Object first() {
+			return this.value(0);
+		}
+		
+		@Override
+		public Object second() {
+			return this.value(1);
+		}
+		
+		@Override
+		public Object third() {
+			return this.value(2);
+		}
+	}
+	
+	/**
+	 * Row implementation of {@link SqlRow4}.<br>
+	 *
+	 * @author Luis-St
+	 */
+	static final class Row4 extends SqlRowValues implements SqlRow4<Object, Object, Object, Object> {
+		
+		/**
+		 * Constructs a new row of 4 columns with the given column values.<br>
+		 * @param values The column values of the row
+		 */
+		private Row4(@NonNull Object[] values) {
+			super(values);
+		}
+		
+		@Override
+		public Object first() {
+			return this.value(0);
+		}
+		
+		@Override
+		public Object second() {
+			return this.value(1);
+		}
+		
+		@Override
+		public Object third() {
+			return this.value(2);
+		}
+		
+		@Override
+		public Object fourth() {
+			return this.value(3);
+		}
+	}
+	
+	/**
+	 * Row implementation of {@link SqlRow5}.<br>
+	 *
+	 * @author Luis-St
+	 */
+	static final class Row5 extends SqlRowValues implements SqlRow5<Object, Object, Object, Object, Object> {
+		
+		/**
+		 * Constructs a new row of 5 columns with the given column values.<br>
+		 * @param values The column values of the row
+		 */
+		private Row5(@NonNull Object[] values) {
+			super(values);
+		}
+		
+		@Override
+		public Object first() {
+			return this.value(0);
+		}
+		
+		@Override
+		public Object second() {
+			return this.value(1);
+		}
+		
+		@Override
+		public Object third() {
+			return this.value(2);
+		}
+		
+		@Override
+		public Object fourth() {
+			return this.value(3);
+		}
+		
+		@Override
+		public Object fifth() {
+			return this.value(4);
+		}
+	}
+	
+	/**
+	 * Row implementation of {@link SqlRow6}.<br>
+	 *
+	 * @author Luis-St
+	 */
+	static final class Row6 extends SqlRowValues implements SqlRow6<Object, Object, Object, Object, Object, Object> {
+		
+		/**
+		 * Constructs a new row of 6 columns with the given column values.<br>
+		 * @param values The column values of the row
+		 */
+		private Row6(@NonNull Object[] values) {
+			super(values);
+		}
+		
+		@Override
+		public Object first() {
+			return this.value(0);
+		}
+		
+		@Override
+		public Object second() {
+			return this.value(1);
+		}
+		
+		@Override
+		public Object third() {
+			return this.value(2);
+		}
+		
+		@Override
+		public Object fourth() {
+			return this.value(3);
+		}
+		
+		@Override
+		public Object fifth() {
+			return this.value(4);
+		}
+		
+		@Override
+		public Object sixth() {
+			return this.value(5);
+		}
+	}
+	
+	/**
+	 * Row implementation of {@link SqlRow7}.<br>
+	 *
+	 * @author Luis-St
+	 */
+	static final class Row7 extends SqlRowValues implements SqlRow7<Object, Object, Object, Object, Object, Object, Object> {
+		
+		/**
+		 * Constructs a new row of 7 columns with the given column values.<br>
+		 * @param values The column values of the row
+		 */
+		private Row7(@NonNull Object[] values) {
+			super(values);
+		}
+		
+		@Override
+		public Object first() {
+			return this.value(0);
+		}
+		
+		@Override
+		public Object second() {
+			return this.value(1);
+		}
+		
+		@Override
+		public Object third() {
+			return this.value(2);
+		}
+		
+		@Override
+		public Object fourth() {
+			return this.value(3);
+		}
+		
+		@Override
+		public Object fifth() {
+			return this.value(4);
+		}
+		
+		@Override
+		public Object sixth() {
+			return this.value(5);
+		}
+		
+		@Override
+		public Object seventh() {
+			return this.value(6);
+		}
+	}
+	
+	/**
+	 * Row implementation of {@link SqlRow8}.<br>
+	 *
+	 * @author Luis-St
+	 */
+	static final class Row8 extends SqlRowValues implements SqlRow8<Object, Object, Object, Object, Object, Object, Object, Object> {
+		
+		/**
+		 * Constructs a new row of 8 columns with the given column values.<br>
+		 * @param values The column values of the row
+		 */
+		private Row8(@NonNull Object[] values) {
+			super(values);
+		}
+		
+		@Override
+		public Object first() {
+			return this.value(0);
+		}
+		
+		@Override
+		public Object second() {
+			return this.value(1);
+		}
+		
+		@Override
+		public Object third() {
+			return this.value(2);
+		}
+		
+		@Override
+		public Object fourth() {
+			return this.value(3);
+		}
+		
+		@Override
+		public Object fifth() {
+			return this.value(4);
+		}
+		
+		@Override
+		public Object sixth() {
+			return this.value(5);
+		}
+		
+		@Override
+		public Object seventh() {
+			return this.value(6);
+		}
+		
+		@Override
+		public Object eighth() {
+			return this.value(7);
+		}
+	}
+	
+	/**
+	 * Row implementation of {@link SqlRow9}.<br>
+	 *
+	 * @author Luis-St
+	 */
+	static final class Row9 extends SqlRowValues implements SqlRow9<Object, Object, Object, Object, Object, Object, Object, Object, Object> {
+		
+		/**
+		 * Constructs a new row of 9 columns with the given column values.<br>
+		 * @param values The column values of the row
+		 */
+		private Row9(@NonNull Object[] values) {
+			super(values);
+		}
+		
+		@Override
+		public Object first() {
+			return this.value(0);
+		}
+		
+		@Override
+		public Object second() {
+			return this.value(1);
+		}
+		
+		@Override
+		public Object third() {
+			return this.value(2);
+		}
+		
+		@Override
+		public Object fourth() {
+			return this.value(3);
+		}
+		
+		@Override
+		public Object fifth() {
+			return this.value(4);
+		}
+		
+		@Override
+		public Object sixth() {
+			return this.value(5);
+		}
+		
+		@Override
+		public Object seventh() {
+			return this.value(6);
+		}
+		
+		@Override
+		public Object eighth() {
+			return this.value(7);
+		}
+		
+		@Override
+		public Object ninth() {
+			return this.value(8);
+		}
+	}
+	
+	/**
+	 * Row implementation of {@link SqlRow10}.<br>
+	 *
+	 * @author Luis-St
+	 */
+	static final class Row10 extends SqlRowValues implements SqlRow10<Object, Object, Object, Object, Object, Object, Object, Object, Object, Object> {
+		
+		/**
+		 * Constructs a new row of 10 columns with the given column values.<br>
+		 * @param values The column values of the row
+		 */
+		private Row10(@NonNull Object[] values) {
+			super(values);
+		}
+		
+		@Override
+		public Object first() {
+			return this.value(0);
+		}
+		
+		@Override
+		public Object second() {
+			return this.value(1);
+		}
+		
+		@Override
+		public Object third() {
+			return this.value(2);
+		}
+		
+		@Override
+		public Object fourth() {
+			return this.value(3);
+		}
+		
+		@Override
+		public Object fifth() {
+			return this.value(4);
+		}
+		
+		@Override
+		public Object sixth() {
+			return this.value(5);
+		}
+		
+		@Override
+		public Object seventh() {
+			return this.value(6);
+		}
+		
+		@Override
+		public Object eighth() {
+			return this.value(7);
+		}
+		
+		@Override
+		public Object ninth() {
+			return this.value(8);
+		}
+		
+		@Override
+		public Object tenth() {
+			return this.value(9);
+		}
+	}
+	
+	/**
+	 * Row implementation of {@link SqlRow11}.<br>
+	 *
+	 * @author Luis-St
+	 */
+	static final class Row11 extends SqlRowValues implements SqlRow11<Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object> {
+		
+		/**
+		 * Constructs a new row of 11 columns with the given column values.<br>
+		 * @param values The column values of the row
+		 */
+		private Row11(@NonNull Object[] values) {
+			super(values);
+		}
+		
+		@Override
+		public Object first() {
+			return this.value(0);
+		}
+		
+		@Override
+		public Object second() {
+			return this.value(1);
+		}
+		
+		@Override
+		public Object third() {
+			return this.value(2);
+		}
+		
+		@Override
+		public Object fourth() {
+			return this.value(3);
+		}
+		
+		@Override
+		public Object fifth() {
+			return this.value(4);
+		}
+		
+		@Override
+		public Object sixth() {
+			return this.value(5);
+		}
+		
+		@Override
+		public Object seventh() {
+			return this.value(6);
+		}
+		
+		@Override
+		public Object eighth() {
+			return this.value(7);
+		}
+		
+		@Override
+		public Object ninth() {
+			return this.value(8);
+		}
+		
+		@Override
+		public Object tenth() {
+			return this.value(9);
+		}
+		
+		@Override
+		public Object eleventh() {
+			return this.value(10);
+		}
+	}
+	
+	/**
+	 * Row implementation of {@link SqlRow12}.<br>
+	 *
+	 * @author Luis-St
+	 */
+	static final class Row12 extends SqlRowValues implements SqlRow12<Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object> {
+		
+		/**
+		 * Constructs a new row of 12 columns with the given column values.<br>
+		 * @param values The column values of the row
+		 */
+		private Row12(@NonNull Object[] values) {
+			super(values);
+		}
+		
+		@Override
+		public Object first() {
+			return this.value(0);
+		}
+		
+		@Override
+		public Object second() {
+			return this.value(1);
+		}
+		
+		@Override
+		public Object third() {
+			return this.value(2);
+		}
+		
+		@Override
+		public Object fourth() {
+			return this.value(3);
+		}
+		
+		@Override
+		public Object fifth() {
+			return this.value(4);
+		}
+		
+		@Override
+		public Object sixth() {
+			return this.value(5);
+		}
+		
+		@Override
+		public Object seventh() {
+			return this.value(6);
+		}
+		
+		@Override
+		public Object eighth() {
+			return this.value(7);
+		}
+		
+		@Override
+		public Object ninth() {
+			return this.value(8);
+		}
+		
+		@Override
+		public Object tenth() {
+			return this.value(9);
+		}
+		
+		@Override
+		public Object eleventh() {
+			return this.value(10);
+		}
+		
+		@Override
+		public Object twelfth() {
+			return this.value(11);
+		}
+	}
+	
+	/**
+	 * Row implementation of {@link SqlRow13}.<br>
+	 *
+	 * @author Luis-St
+	 */
+	static final class Row13 extends SqlRowValues implements SqlRow13<Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object> {
+		
+		/**
+		 * Constructs a new row of 13 columns with the given column values.<br>
+		 * @param values The column values of the row
+		 */
+		private Row13(@NonNull Object[] values) {
+			super(values);
+		}
+		
+		@Override
+		public Object first() {
+			return this.value(0);
+		}
+		
+		@Override
+		public Object second() {
+			return this.value(1);
+		}
+		
+		@Override
+		public Object third() {
+			return this.value(2);
+		}
+		
+		@Override
+		public Object fourth() {
+			return this.value(3);
+		}
+		
+		@Override
+		public Object fifth() {
+			return this.value(4);
+		}
+		
+		@Override
+		public Object sixth() {
+			return this.value(5);
+		}
+		
+		@Override
+		public Object seventh() {
+			return this.value(6);
+		}
+		
+		@Override
+		public Object eighth() {
+			return this.value(7);
+		}
+		
+		@Override
+		public Object ninth() {
+			return this.value(8);
+		}
+		
+		@Override
+		public Object tenth() {
+			return this.value(9);
+		}
+		
+		@Override
+		public Object eleventh() {
+			return this.value(10);
+		}
+		
+		@Override
+		public Object twelfth() {
+			return this.value(11);
+		}
+		
+		@Override
+		public Object thirteenth() {
+			return this.value(12);
+		}
+	}
+	
+	/**
+	 * Row implementation of {@link SqlRow14}.<br>
+	 *
+	 * @author Luis-St
+	 */
+	static final class Row14 extends SqlRowValues implements SqlRow14<Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object> {
+		
+		/**
+		 * Constructs a new row of 14 columns with the given column values.<br>
+		 * @param values The column values of the row
+		 */
+		private Row14(@NonNull Object[] values) {
+			super(values);
+		}
+		
+		@Override
+		public Object first() {
+			return this.value(0);
+		}
+		
+		@Override
+		public Object second() {
+			return this.value(1);
+		}
+		
+		@Override
+		public Object third() {
+			return this.value(2);
+		}
+		
+		@Override
+		public Object fourth() {
+			return this.value(3);
+		}
+		
+		@Override
+		public Object fifth() {
+			return this.value(4);
+		}
+		
+		@Override
+		public Object sixth() {
+			return this.value(5);
+		}
+		
+		@Override
+		public Object seventh() {
+			return this.value(6);
+		}
+		
+		@Override
+		public Object eighth() {
+			return this.value(7);
+		}
+		
+		@Override
+		public Object ninth() {
+			return this.value(8);
+		}
+		
+		@Override
+		public Object tenth() {
+			return this.value(9);
+		}
+		
+		@Override
+		public Object eleventh() {
+			return this.value(10);
+		}
+		
+		@Override
+		public Object twelfth() {
+			return this.value(11);
+		}
+		
+		@Override
+		public Object thirteenth() {
+			return this.value(12);
+		}
+		
+		@Override
+		public Object fourteenth() {
+			return this.value(13);
+		}
+	}
+	
+	/**
+	 * Row implementation of {@link SqlRow15}.<br>
+	 *
+	 * @author Luis-St
+	 */
+	static final class Row15 extends SqlRowValues implements SqlRow15<Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object> {
+		
+		/**
+		 * Constructs a new row of 15 columns with the given column values.<br>
+		 * @param values The column values of the row
+		 */
+		private Row15(@NonNull Object[] values) {
+			super(values);
+		}
+		
+		@Override
+		public Object first() {
+			return this.value(0);
+		}
+		
+		@Override
+		public Object second() {
+			return this.value(1);
+		}
+		
+		@Override
+		public Object third() {
+			return this.value(2);
+		}
+		
+		@Override
+		public Object fourth() {
+			return this.value(3);
+		}
+		
+		@Override
+		public Object fifth() {
+			return this.value(4);
+		}
+		
+		@Override
+		public Object sixth() {
+			return this.value(5);
+		}
+		
+		@Override
+		public Object seventh() {
+			return this.value(6);
+		}
+		
+		@Override
+		public Object eighth() {
+			return this.value(7);
+		}
+		
+		@Override
+		public Object ninth() {
+			return this.value(8);
+		}
+		
+		@Override
+		public Object tenth() {
+			return this.value(9);
+		}
+		
+		@Override
+		public Object eleventh() {
+			return this.value(10);
+		}
+		
+		@Override
+		public Object twelfth() {
+			return this.value(11);
+		}
+		
+		@Override
+		public Object thirteenth() {
+			return this.value(12);
+		}
+		
+		@Override
+		public Object fourteenth() {
+			return this.value(13);
+		}
+		
+		@Override
+		public Object fifteenth() {
+			return this.value(14);
+		}
+	}
+	
+	/**
+	 * Row implementation of {@link SqlRow16}.<br>
+	 *
+	 * @author Luis-St
+	 */
+	static final class Row16 extends SqlRowValues implements SqlRow16<Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object> {
+		
+		/**
+		 * Constructs a new row of 16 columns with the given column values.<br>
+		 * @param values The column values of the row
+		 */
+		private Row16(@NonNull Object[] values) {
+			super(values);
+		}
+		
+		@Override
+		public Object first() {
+			return this.value(0);
+		}
+		
+		@Override
+		public Object second() {
+			return this.value(1);
+		}
+		
+		@Override
+		public Object third() {
+			return this.value(2);
+		}
+		
+		@Override
+		public Object fourth() {
+			return this.value(3);
+		}
+		
+		@Override
+		public Object fifth() {
+			return this.value(4);
+		}
+		
+		@Override
+		public Object sixth() {
+			return this.value(5);
+		}
+		
+		@Override
+		public Object seventh() {
+			return this.value(6);
+		}
+		
+		@Override
+		public Object eighth() {
+			return this.value(7);
+		}
+		
+		@Override
+		public Object ninth() {
+			return this.value(8);
+		}
+		
+		@Override
+		public Object tenth() {
+			return this.value(9);
+		}
+		
+		@Override
+		public Object eleventh() {
+			return this.value(10);
+		}
+		
+		@Override
+		public Object twelfth() {
+			return this.value(11);
+		}
+		
+		@Override
+		public Object thirteenth() {
+			return this.value(12);
+		}
+		
+		@Override
+		public Object fourteenth() {
+			return this.value(13);
+		}
+		
+		@Override
+		public Object fifteenth() {
+			return this.value(14);
+		}
+		
+		@Override
+		public Object sixteenth() {
+			return this.value(15);
+		}
+	}
+}
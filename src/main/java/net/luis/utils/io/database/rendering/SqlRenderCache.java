@@ -0,0 +1,261 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.database.rendering;
+
+import net.luis.utils.function.throwable.ThrowableSupplier;
+import net.luis.utils.io.database.exception.SqlException;
+import net.luis.utils.io.database.type.SqlType;
+import net.luis.utils.util.Pair;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A cache of rendered sql statements keyed by the structural shape of a query.<br>
+ * <p>
+ *     The shape of a query is a fingerprint of its tree in which every bound value is replaced by its sql type.<br>
+ *     The values themselves are extracted in tree order and passed as parameters on lookup.<br>
+ *     On a hit, the cached sql of the shape is reused together with the given parameters and the query is not rendered again.
+ * </p>
+ * <p>
+ *     A statement is only stored if its rendered parameters are exactly the extracted parameters in the same order.<br>
+ *     Shapes whose values are rendered inline, transformed or reordered by the dialect are marked as not cacheable and always rendered.<br>
+ *     If the extracted values are not distinct, the order can not be verified and the statement is rendered without being stored.
+ * </p>
+ * <p>
+ *     The cache is bounded, once the maximum size is reached the least recently used shape is evicted to store a new one.
+ * </p>
+ *
+ * @see SqlRenderCacheStats
+ *
+ * @author Luis-St
+ */
+public final class SqlRenderCache {
+	
+	/**
+	 * The default maximum number of query shapes stored in a cache.<br>
+	 */
+	public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+	/**
+	 * The shared cache which never stores a statement.<br>
+	 */
+	private static final SqlRenderCache DISABLED = new SqlRenderCache(0);
+	/**
+	 * The entry stored for shapes which can not be cached.<br>
+	 */
+	private static final Entry NOT_CACHEABLE = new Entry(null, null);
+	
+	/**
+	 * The maximum number of query shapes stored in this cache.<br>
+	 */
+	private final int maximumSize;
+	/**
+	 * The cached entries by query shape in access order, the least recently used entry first.<br>
+	 * All accesses are synchronized on the map itself.<br>
+	 */
+	private final Map<Object, Entry> entries = new LinkedHashMap<>(16, 0.75F, true);
+	/**
+	 * The number of lookups which reused a cached statement.<br>
+	 */
+	private final LongAdder hits = new LongAdder();
+	/**
+	 * The number of lookups which rendered the statement.<br>
+	 */
+	private final LongAdder misses = new LongAdder();
+	
+	/**
+	 * Constructs a new render cache with the given maximum size.<br>
+	 * A maximum size of {@code 0} disables the cache.<br>
+	 *
+	 * @param maximumSize The maximum number of query shapes to store
+	 * @throws IllegalArgumentException If the maximum size is negative
+	 */
+	public SqlRenderCache(int maximumSize) {
+		if (0 > maximumSize) {
+			throw new IllegalArgumentException("Maximum size must not be negative");
+		}
+		this.maximumSize = maximumSize;
+	}
+	
+	/**
+	 * Returns the shared cache which never stores a statement and records no metrics.<br>
+	 * @return The disabled cache
+	 */
+	public static @NonNull SqlRenderCache disabled() {
+		return DISABLED;
+	}
+	
+	/**
+	 * Checks whether the rendered parameters are exactly the extracted parameters in the same order.<br>
+	 * Types are compared by identity, since they are passed through unchanged while rendering.<br>
+	 * Values are compared by equality, since values bound by the dialect itself like the limit and offset are boxed again on every rendering.<br>
+	 *
+	 * @param rendered The parameters of the rendered statement
+	 * @param extracted The parameters extracted from the query shape
+	 * @return {@code true} if the parameters match, otherwise {@code false}
+	 */
+	private static boolean matches(@NonNull List<Pair<SqlType<?>, Object>> rendered, @NonNull List<Pair<SqlType<?>, Object>> extracted) {
+		if (rendered.size() != extracted.size()) {
+			return false;
+		}
+		
+		for (int i = 0; i < rendered.size(); i++) {
+			Pair<SqlType<?>, Object> renderedParameter = rendered.get(i);
+			Pair<SqlType<?>, Object> extractedParameter = extracted.get(i);
+			if (renderedParameter.getFirst() != extractedParameter.getFirst() || !Objects.equals(renderedParameter.getSecond(), extractedParameter.getSecond())) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Checks whether the values of the given parameters are distinct by equality.<br>
+	 * Only if all values are distinct, a match of the parameters proves that the order of the values is preserved.<br>
+	 *
+	 * @param parameters The parameters to check
+	 * @return {@code true} if all values are distinct, otherwise {@code false}
+	 */
+	private static boolean isDistinct(@NonNull List<Pair<SqlType<?>, Object>> parameters) {
+		Set<Object> values = new HashSet<>();
+		for (Pair<SqlType<?>, Object> parameter : parameters) {
+			if (!values.add(parameter.getSecond())) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Returns the rendered statement for the given query shape.<br>
+	 * <p>
+	 *     If a statement is cached for the shape, it is returned with the given parameters without rendering the query.<br>
+	 *     Otherwise, the query is rendered using the given renderer and the result is stored for the shape if it can be reused.
+	 * </p>
+	 *
+	 * @param shape The structural shape of the query, must implement {@code equals} and {@code hashCode}
+	 * @param parameters The parameters extracted from the query in tree order
+	 * @param renderer The renderer used to render the query on a miss
+	 * @return The rendered statement
+	 * @throws NullPointerException If any of the arguments is null
+	 * @throws SqlException If the query could not be rendered
+	 */
+	public @NonNull SqlRendered render(@NonNull Object shape, @NonNull List<Pair<SqlType<?>, Object>> parameters, @NonNull ThrowableSupplier<SqlRendered, SqlException> renderer) throws SqlException {
+		Objects.requireNonNull(shape, "Shape must not be null");
+		Objects.requireNonNull(parameters, "Sql parameters must not be null");
+		Objects.requireNonNull(renderer, "Renderer must not be null");
+		if (this.maximumSize == 0) {
+			return renderer.get();
+		}
+		
+		Entry entry;
+		synchronized (this.entries) {
+			entry = this.entries.get(shape);
+		}
+		if (entry != null && entry.statements() != null && entry.sql() != null) {
+			this.hits.increment();
+			return new SqlRendered(entry.statements(), parameters, entry.sql());
+		}
+		
+		this.misses.increment();
+		SqlRendered rendered = renderer.get();
+		if (entry == null) {
+			if (!matches(rendered.parameters(), parameters)) {
+				this.store(shape, NOT_CACHEABLE);
+			} else if (isDistinct(parameters)) {
+				this.store(shape, new Entry(rendered.statements(), rendered.sql()));
+			}
+		}
+		return rendered;
+	}
+	
+	/**
+	 * Stores the given entry for the given shape unless an entry has been stored concurrently.<br>
+	 * If the cache is full, the least recently used entry is evicted first.<br>
+	 *
+	 * @param shape The structural shape of the query
+	 * @param entry The entry to store
+	 */
+	private void store(@NonNull Object shape, @NonNull Entry entry) {
+		synchronized (this.entries) {
+			if (this.entries.containsKey(shape)) {
+				return;
+			}
+			
+			if (this.entries.size() >= this.maximumSize) {
+				Iterator<Object> iterator = this.entries.keySet().iterator();
+				iterator.next();
+				iterator.remove();
+			}
+			this.entries.put(shape, entry);
+		}
+	}
+	
+	/**
+	 * Returns the number of query shapes stored in this cache.<br>
+	 * @return The number of stored shapes
+	 */
+	private int size() {
+		synchronized (this.entries) {
+			return this.entries.size();
+		}
+	}
+	
+	/**
+	 * Returns a snapshot of the metrics of this cache.<br>
+	 * @return The current metrics
+	 */
+	public @NonNull SqlRenderCacheStats stats() {
+		return new SqlRenderCacheStats(this.hits.sum(), this.misses.sum(), this.size());
+	}
+	
+	/**
+	 * Removes all cached statements and resets the metrics of this cache.<br>
+	 */
+	public void clear() {
+		synchronized (this.entries) {
+			this.entries.clear();
+		}
+		this.hits.reset();
+		this.misses.reset();
+	}
+	
+	//region Object overrides
+	@Override
+	public String toString() {
+		return "SqlRenderCache[maximumSize=" + this.maximumSize + ", size=" + this.size() + "]";
+	}
+	//endregion
+	
+	/**
+	 * A cached entry of a query shape.<br>
+	 * If the statements and the sql are null, the shape can not be cached.<br>
+	 *
+	 * @author Luis-St
+	 *
+	 * @param statements The rendered sql statements as an ordered list of tokens
+	 * @param sql The sql string joined from the statements
+	 */
+	private record Entry(
+		@Nullable List<String> statements,
+		@Nullable String sql
+	) {}
+}
@@ -62,6 +62,20 @@ public final class SqlRendered {
 		this.parameters = List.copyOf(Objects.requireNonNull(parameters, "Sql parameters must not be null"));
 	}
 	
+	/**
+	 * Constructs a new rendered sql with the given statements, parameters and already joined sql string.<br>
+	 * Used by the {@link SqlRenderCache} to reuse the sql string of a cached statement.<br>
+	 *
+	 * @param statements The rendered sql statements as an ordered list of tokens
+	 * @param parameters The ordered list of parameters, each paired with its sql type
+	 * @param sql The sql string joined from the statements
+	 * @throws NullPointerException If any of the arguments is null
+	 */
+	SqlRendered(@NonNull @Unmodifiable List<String> statements, @NonNull @Unmodifiable List<Pair<SqlType<?>, Object>> parameters, @NonNull String sql) {
+		this(statements, parameters);
+		this.cachedSql = Objects.requireNonNull(sql, "Sql statement must not be null");
+	}
+	
 	/**
 	 * Creates a rendered sql from the given sql string without any parameters.<br>
 	 *
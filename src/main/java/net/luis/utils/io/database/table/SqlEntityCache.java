@@ -0,0 +1,305 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.database.table;
+
+import net.luis.utils.function.throwable.ThrowableSupplier;
+import net.luis.utils.io.database.exception.SqlException;
+import org.jspecify.annotations.NonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache of entities of a single {@link SqlTable table} keyed by their primary key.<br>
+ * <p>
+ *     The primary key of an entity is either the single primary key value or a list of values for composite primary keys.<br>
+ *     Entities are stored for a fixed time to live and are evicted once they expire.<br>
+ *     If the cache is full, the least recently used entity is evicted in constant time,
+ *     expired entities are removed when they are looked up.
+ * </p>
+ * <p>
+ *     The cache is intended for read-mostly tables whose entities are immutable, since cached entities are shared between all callers.<br>
+ *     Every invalidation advances the generation of the cache, entities loaded before an invalidation are not stored,
+ *     so a concurrent load can not reinsert a stale entity.
+ * </p>
+ *
+ * @see SqlEntityCacheStats
+ * @see SqlTable#enableCache(SqlEntityCache)
+ *
+ * @author Luis-St
+ *
+ * @param <E> The type of the cached entities
+ */
+public final class SqlEntityCache<E> {
+	
+	/**
+	 * The maximum number of entities stored in this cache.<br>
+	 */
+	private final int maximumSize;
+	/**
+	 * The time to live of a stored entity.<br>
+	 */
+	private final Duration timeToLive;
+	/**
+	 * The clock used to determine the expiry of the stored entities.<br>
+	 */
+	private final Clock clock;
+	/**
+	 * The cached entries by primary key in access order, the least recently used entry comes first.<br>
+	 * All accesses are synchronized on the map itself.<br>
+	 */
+	private final LinkedHashMap<Object, Entry<E>> entries = new LinkedHashMap<>(16, 0.75F, true);
+	/**
+	 * The generation of this cache, advanced by every invalidation.<br>
+	 */
+	private final AtomicLong generation = new AtomicLong();
+	/**
+	 * The number of lookups which returned a cached entity.<br>
+	 */
+	private final LongAdder hits = new LongAdder();
+	/**
+	 * The number of lookups which loaded the entity.<br>
+	 */
+	private final LongAdder misses = new LongAdder();
+	/**
+	 * The number of entities removed because they expired or the cache was full.<br>
+	 */
+	private final LongAdder evictions = new LongAdder();
+	
+	/**
+	 * Constructs a new entity cache with the given maximum size and time to live using the system clock.<br>
+	 *
+	 * @param maximumSize The maximum number of entities to store
+	 * @param timeToLive The time to live of a stored entity
+	 * @throws NullPointerException If the time to live is null
+	 * @throws IllegalArgumentException If the maximum size is not positive or the time to live is zero or negative
+	 */
+	public SqlEntityCache(int maximumSize, @NonNull Duration timeToLive) {
+		this(maximumSize, timeToLive, Clock.systemUTC());
+	}
+	
+	/**
+	 * Constructs a new entity cache with the given maximum size, time to live and clock.<br>
+	 *
+	 * @param maximumSize The maximum number of entities to store
+	 * @param timeToLive The time to live of a stored entity
+	 * @param clock The clock used to determine the expiry of the stored entities
+	 * @throws NullPointerException If the time to live or clock is null
+	 * @throws IllegalArgumentException If the maximum size is not positive or the time to live is zero or negative
+	 */
+	public SqlEntityCache(int maximumSize, @NonNull Duration timeToLive, @NonNull Clock clock) {
+		Objects.requireNonNull(timeToLive, "Time to live must not be null");
+		this.clock = Objects.requireNonNull(clock, "Clock must not be null");
+		if (0 >= maximumSize) {
+			throw new IllegalArgumentException("Maximum size must be greater than 0");
+		}
+		if (timeToLive.isZero() || timeToLive.isNegative()) {
+			throw new IllegalArgumentException("Time to live must be positive");
+		}
+		this.maximumSize = maximumSize;
+		this.timeToLive = timeToLive;
+	}
+	
+	/**
+	 * Returns the cached entity with the given primary key.<br>
+	 * An expired entity is removed and not returned, the lookup is not recorded in the metrics of this cache.<br>
+	 *
+	 * @param primaryKey The primary key of the entity
+	 * @return An optional containing the cached entity or an empty optional if no valid entity is cached
+	 * @throws NullPointerException If the primary key is null
+	 */
+	public @NonNull Optional<E> get(@NonNull Object primaryKey) {
+		Objects.requireNonNull(primaryKey, "Primary key must not be null");
+		
+		synchronized (this.entries) {
+			Entry<E> entry = this.entries.get(primaryKey);
+			if (entry == null) {
+				return Optional.empty();
+			}
+			if (entry.isExpired(this.clock.millis())) {
+				this.entries.remove(primaryKey);
+				this.evictions.increment();
+				return Optional.empty();
+			}
+			return Optional.of(entry.entity());
+		}
+	}
+	
+	/**
+	 * Returns the cached entity with the given primary key or loads it using the given loader.<br>
+	 * A loaded entity is stored unless the cache has been invalidated while it was loaded.<br>
+	 * An empty result of the loader is not stored.<br>
+	 *
+	 * @param primaryKey The primary key of the entity
+	 * @param loader The loader used to load the entity on a miss
+	 * @return An optional containing the cached or loaded entity or an empty optional if no entity exists
+	 * @throws NullPointerException If the primary key or loader is null
+	 * @throws SqlException If the entity could not be loaded
+	 */
+	public @NonNull Optional<E> getOrLoad(@NonNull Object primaryKey, @NonNull ThrowableSupplier<Optional<E>, SqlException> loader) throws SqlException {
+		Objects.requireNonNull(primaryKey, "Primary key must not be null");
+		Objects.requireNonNull(loader, "Loader must not be null");
+		
+		Optional<E> cached = this.get(primaryKey);
+		if (cached.isPresent()) {
+			this.hits.increment();
+			return cached;
+		}
+		
+		this.misses.increment();
+		long generation = this.generation.get();
+		Optional<E> loaded = Objects.requireNonNull(loader.get(), "Loaded entity must not be null");
+		loaded.ifPresent(entity -> this.store(primaryKey, entity, generation));
+		return loaded;
+	}
+	
+	/**
+	 * Stores the given entity under the given primary key.<br>
+	 *
+	 * @param primaryKey The primary key of the entity
+	 * @param entity The entity to store
+	 * @throws NullPointerException If the primary key or entity is null
+	 */
+	public void put(@NonNull Object primaryKey, @NonNull E entity) {
+		Objects.requireNonNull(primaryKey, "Primary key must not be null");
+		Objects.requireNonNull(entity, "Entity must not be null");
+		this.store(primaryKey, entity, this.generation.get());
+	}
+	
+	/**
+	 * Stores the given entity if the generation of this cache still matches the given generation.<br>
+	 * The generation is checked while holding the lock, so an entity loaded before a concurrent invalidation is never stored.<br>
+	 *
+	 * @param primaryKey The primary key of the entity
+	 * @param entity The entity to store
+	 * @param generation The generation of the cache when the entity was loaded
+	 */
+	private void store(@NonNull Object primaryKey, @NonNull E entity, long generation) {
+		synchronized (this.entries) {
+			if (this.generation.get() != generation) {
+				return;
+			}
+			if (!this.entries.containsKey(primaryKey) && this.entries.size() >= this.maximumSize) {
+				this.evictEldest();
+			}
+			this.entries.put(primaryKey, new Entry<>(entity, this.clock.millis() + this.timeToLive.toMillis()));
+		}
+	}
+	
+	/**
+	 * Removes the least recently used entity to make room for a new entity.<br>
+	 * Must be called while holding the lock of {@link #entries}.<br>
+	 */
+	private void evictEldest() {
+		Iterator<Object> iterator = this.entries.keySet().iterator();
+		if (iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+			this.evictions.increment();
+		}
+	}
+	
+	/**
+	 * Removes the entity with the given primary key from this cache.<br>
+	 *
+	 * @param primaryKey The primary key of the entity
+	 * @throws NullPointerException If the primary key is null
+	 */
+	public void invalidate(@NonNull Object primaryKey) {
+		Objects.requireNonNull(primaryKey, "Primary key must not be null");
+		synchronized (this.entries) {
+			this.generation.incrementAndGet();
+			this.entries.remove(primaryKey);
+		}
+	}
+	
+	/**
+	 * Removes all entities from this cache.<br>
+	 * In contrast to {@link #clear()}, the metrics of this cache are kept.<br>
+	 */
+	public void invalidateAll() {
+		synchronized (this.entries) {
+			this.generation.incrementAndGet();
+			this.entries.clear();
+		}
+	}
+	
+	/**
+	 * Returns a snapshot of the metrics of this cache.<br>
+	 * @return The current metrics
+	 */
+	public @NonNull SqlEntityCacheStats stats() {
+		return new SqlEntityCacheStats(this.hits.sum(), this.misses.sum(), this.evictions.sum(), this.size());
+	}
+	
+	/**
+	 * Returns the number of entities currently stored in this cache.<br>
+	 * @return The number of stored entities
+	 */
+	private int size() {
+		synchronized (this.entries) {
+			return this.entries.size();
+		}
+	}
+	
+	/**
+	 * Removes all entities and resets the metrics of this cache.<br>
+	 */
+	public void clear() {
+		this.invalidateAll();
+		this.hits.reset();
+		this.misses.reset();
+		this.evictions.reset();
+	}
+	
+	//region Object overrides
+	@Override
+	public String toString() {
+		return "SqlEntityCache[maximumSize=" + this.maximumSize + ", timeToLive=" + this.timeToLive + ", size=" + this.size() + "]";
+	}
+	//endregion
+	
+	/**
+	 * A cached entry of an entity.<br>
+	 *
+	 * @author Luis-St
+	 *
+	 * @param <E> The type of the cached entity
+	 * @param entity The cached entity
+	 * @param expiresAt The time in milliseconds at which the entry expires
+	 */
+	private record Entry<E>(
+		@NonNull E entity,
+		long expiresAt
+	) {
+		
+		/**
+		 * Checks whether this entry is expired at the given time.<br>
+		 *
+		 * @param now The current time in milliseconds
+		 * @return {@code true} if the entry is expired, otherwise {@code false}
+		 */
+		private boolean isExpired(long now) {
+			return now >= this.expiresAt;
+		}
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.database.table;
+
+/**
+ * A snapshot of the metrics of a {@link SqlEntityCache}.<br>
+ *
+ * @see SqlEntityCache
+ *
+ * @author Luis-St
+ *
+ * @param hits The number of lookups which returned a cached entity
+ * @param misses The number of lookups which loaded the entity from the database
+ * @param evictions The number of entities removed because they expired or the cache was full
+ * @param size The number of entities currently stored in the cache
+ */
+public record SqlEntityCacheStats(
+	long hits,
+	long misses,
+	long evictions,
+	int size
+) {
+	
+	/**
+	 * Constructs a new entity cache stats snapshot.<br>
+	 *
+	 * @param hits The number of lookups which returned a cached entity
+	 * @param misses The number of lookups which loaded the entity from the database
+	 * @param evictions The number of entities removed because they expired or the cache was full
+	 * @param size The number of entities currently stored in the cache
+	 * @throws IllegalArgumentException If any of the values is negative
+	 */
+	public SqlEntityCacheStats {
+		if (0 > hits) {
+			throw new IllegalArgumentException("Hits must not be negative");
+		}
+		if (0 > misses) {
+			throw new IllegalArgumentException("Misses must not be negative");
+		}
+		if (0 > evictions) {
+			throw new IllegalArgumentException("Evictions must not be negative");
+		}
+		if (0 > size) {
+			throw new IllegalArgumentException("Size must not be negative");
+		}
+	}
+	
+	/**
+	 * Returns the total number of lookups.<br>
+	 * @return The sum of hits and misses
+	 */
+	public long lookups() {
+		return this.hits + this.misses;
+	}
+	
+	/**
+	 * Returns the ratio of lookups which returned a cached entity.<br>
+	 * If no lookup has been performed yet, {@code 0.0} is returned.<br>
+	 *
+	 * @return The hit rate between {@code 0.0} and {@code 1.0}
+	 */
+	public double hitRate() {
+		long lookups = this.lookups();
+		return lookups == 0 ? 0.0 : (double) this.hits / lookups;
+	}
+}
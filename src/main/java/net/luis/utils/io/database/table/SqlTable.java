@@ -28,6 +28,7 @@ import org.jetbrains.annotations.Unmodifiable;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
@@ -48,7 +49,8 @@ import java.util.function.UnaryOperator;
  *     Equality and hash code are based on the value of the table definition (name, schema, columns,
  *     keys and constraints) rather than on object identity.<br>
  *     This is safe because tables are expected to be built once during static initialization and not
- *     mutated afterwards.
+ *     mutated afterwards.<br>
+ *     The optional {@link #enableCache(SqlEntityCache) entity cache} is not part of the table definition.
  * </p>
  *
  * @see SqlColumn
@@ -103,6 +105,10 @@ public class SqlTable<E> {
 	 * The composite primary key of the table or an empty optional if none is defined.
 	 */
 	private Optional<SqlCompositePrimaryKey<E>> compositePrimaryKey = Optional.empty();
+	/**
+	 * The entity cache of the table or {@code null} if caching is not enabled.
+	 */
+	private volatile SqlEntityCache<E> cache;
 	
 	/**
 	 * Constructs a new sql table with the given type, name, schema and optional audit configuration.<br>
@@ -510,6 +516,60 @@ public class SqlTable<E> {
 	}
 	//endregion
 	
+	//region Cache methods
+	
+	/**
+	 * Enables an entity cache with the given maximum size and time to live for this table.<br>
+	 *
+	 * @param maximumSize The maximum number of entities to cache
+	 * @param timeToLive The time to live of a cached entity
+	 * @return The enabled cache
+	 * @throws NullPointerException If the time to live is null
+	 * @throws IllegalArgumentException If the maximum size is not positive or the time to live is zero or negative
+	 * @see #enableCache(SqlEntityCache)
+	 */
+	public @NonNull SqlEntityCache<E> enableCache(int maximumSize, @NonNull Duration timeToLive) {
+		return this.enableCache(new SqlEntityCache<>(maximumSize, timeToLive));
+	}
+	
+	/**
+	 * Enables the given entity cache for this table, replacing the previously enabled cache.<br>
+	 * <p>
+	 *     Primary key lookups through the {@link net.luis.utils.io.database.query.SqlQueryProvider query provider} consult the cache first.<br>
+	 *     Updates, deletes and upserts on this table invalidate the cache once their changes are completed.
+	 * </p>
+	 *
+	 * @param cache The cache to enable
+	 * @return The enabled cache
+	 * @throws NullPointerException If the cache is null
+	 * @throws IllegalStateException If this table has no primary key columns
+	 */
+	public @NonNull SqlEntityCache<E> enableCache(@NonNull SqlEntityCache<E> cache) {
+		Objects.requireNonNull(cache, "Sql entity cache must not be null");
+		if (this.primaryKeyColumns().isEmpty()) {
+			throw new IllegalStateException("Sql table " + this.name + " has no primary key columns, an entity cache requires a primary key");
+		}
+		
+		this.cache = cache;
+		return cache;
+	}
+	
+	/**
+	 * Disables the entity cache of this table.<br>
+	 */
+	public void disableCache() {
+		this.cache = null;
+	}
+	
+	/**
+	 * Returns the entity cache of this table.<br>
+	 * @return An optional containing the entity cache or an empty optional if caching is not enabled
+	 */
+	public @NonNull Optional<SqlEntityCache<E>> cache() {
+		return Optional.ofNullable(this.cache);
+	}
+	//endregion
+	
 	/**
 	 * Returns the entity type this table maps to.<br>
 	 * @return The entity type
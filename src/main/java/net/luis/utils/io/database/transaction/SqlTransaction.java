@@ -20,6 +20,7 @@ package net.luis.utils.io.database.transaction;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import net.luis.utils.io.database.SqlConnectionHandle;
 import net.luis.utils.io.database.SqlConnectionSource;
 import net.luis.utils.io.database.SqlProvider;
 import net.luis.utils.io.database.dialect.SqlDialect;
@@ -260,6 +261,47 @@ public class SqlTransaction implements SqlProvider, AutoCloseable {
 		this.listeners.add(Objects.requireNonNull(listener, "Sql transaction listener must not be null"));
 	}
 	
+	/**
+	 * Returns a connection source that hands out the connection of this transaction.<br>
+	 * Closing a handle returned by the source does not close the connection, and
+	 * {@link SqlConnectionSource#afterCompletion(Runnable) completion actions} are deferred until this transaction
+	 * has been committed or rolled back, and the source reports to be {@link SqlConnectionSource#inTransaction() in a transaction} while this transaction is active.<br>
+	 *
+	 * @return The connection source bound to this transaction
+	 */
+	public @NonNull SqlConnectionSource connectionSource() {
+		SqlConnectionSource fixed = SqlConnectionSource.fixed(this.connection);
+		return new SqlConnectionSource() {
+			
+			@Override
+			public @NonNull SqlConnectionHandle open() throws SqlException {
+				return fixed.open();
+			}
+			
+			@Override
+			public boolean inTransaction() {
+				return SqlTransaction.this.isActive();
+			}
+			
+			@Override
+			public void afterCompletion(@NonNull Runnable action) {
+				Objects.requireNonNull(action, "Action must not be null");
+				SqlTransaction.this.addListener(new SqlTransactionListener() {
+					
+					@Override
+					public void afterCommit() {
+						action.run();
+					}
+					
+					@Override
+					public void afterRollback() {
+						action.run();
+					}
+				});
+			}
+		};
+	}
+	
 	/**
 	 * Commits this transaction and notifies all registered listeners afterwards.<br>
 	 * The exact behavior depends on how the transaction was created:<br>
@@ -464,13 +506,13 @@ public class SqlTransaction implements SqlProvider, AutoCloseable {
 	@Override
 	public @NonNull <T> SqlTableProvider<T> table(@NonNull SqlTable<T> table) {
 		Objects.requireNonNull(table, "Sql table must not be null");
-		return new SqlTableProvider<>(table, this.dialect, SqlConnectionSource.fixed(this.connection), this.queryTimeout);
+		return new SqlTableProvider<>(table, this.dialect, this.connectionSource(), this.queryTimeout);
 	}
 	
 	@Override
 	public @NonNull <T> SqlQueryProvider<T> from(@NonNull SqlTable<T> table) {
 		Objects.requireNonNull(table, "Sql table must not be null");
-		return new SqlQueryProvider<>(table, this.dialect, SqlConnectionSource.fixed(this.connection), this.queryTimeout);
+		return new SqlQueryProvider<>(table, this.dialect, this.connectionSource(), this.queryTimeout);
 	}
 	
 	@Override
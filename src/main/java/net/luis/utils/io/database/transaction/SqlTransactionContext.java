@@ -0,0 +1,180 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.database.transaction;
+
+import org.jetbrains.annotations.UnknownNullability;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+
+/**
+ * Scoped context which tracks the active transaction of the {@link SqlTransactionManager} without thread-bound state.<br>
+ * <p>
+ *     By default the manager tracks the active transaction in a thread-local variable.<br>
+ *     Code executed through {@link #run(Runnable)} or {@link #call(ScopedValue.CallableOp)} tracks it in a context bound
+ *     to a {@link ScopedValue} instead, which suits servers that handle every request on its own virtual thread.
+ * </p>
+ * <p>
+ *     A context belongs to the thread which bound it and is not shared with forked subtasks, even if they inherit the scoped value.<br>
+ *     Subtasks which should see the active transaction must be wrapped with {@link #propagate(Callable)} or {@link #propagate(Runnable)},
+ *     a wrapped subtask runs in its own context which starts with the transaction that was active when the subtask was wrapped.<br>
+ *     Subtasks which are not wrapped fall back to the thread-local tracking.<br>
+ *     Since a connection must not be used concurrently, subtasks joining the same transaction must not execute statements at the same time.
+ * </p>
+ *
+ * @see SqlTransactionManager
+ *
+ * @author Luis-St
+ */
+public final class SqlTransactionContext {
+	
+	/**
+	 * Scoped value which holds the context of the current scope.<br>
+	 */
+	private static final ScopedValue<SqlTransactionContext> CONTEXT = ScopedValue.newInstance();
+	
+	/**
+	 * The thread which bound this context.<br>
+	 */
+	private final Thread owner = Thread.currentThread();
+	/**
+	 * The transaction currently active in this context, or {@code null} if none.<br>
+	 */
+	private @Nullable SqlTransaction transaction;
+	
+	/**
+	 * Constructs a new context for the current thread with the given active transaction.<br>
+	 * @param transaction The initially active transaction, or {@code null} if none
+	 */
+	private SqlTransactionContext(@Nullable SqlTransaction transaction) {
+		this.transaction = transaction;
+	}
+	
+	/**
+	 * Checks whether a context is bound for the current thread.<br>
+	 * @return {@code true} if transactions of the current thread are tracked by a scoped context, {@code false} otherwise
+	 */
+	public static boolean isBound() {
+		return bound() != null;
+	}
+	
+	/**
+	 * Runs the given action with transactions tracked by a scoped context.<br>
+	 * The context starts with the currently active transaction, if a context is already bound for the current thread the action is run within this context.<br>
+	 *
+	 * @param action The action to run
+	 * @throws NullPointerException If the action is null
+	 */
+	public static void run(@NonNull Runnable action) {
+		Objects.requireNonNull(action, "Action must not be null");
+		if (isBound()) {
+			action.run();
+		} else {
+			ScopedValue.where(CONTEXT, new SqlTransactionContext(SqlTransactionManager.current())).run(action);
+		}
+	}
+	
+	/**
+	 * Calls the given operation with transactions tracked by a scoped context.<br>
+	 * The context starts with the currently active transaction, if a context is already bound for the current thread the operation is called within this context.<br>
+	 *
+	 * @param operation The operation to call
+	 * @return The result of the operation
+	 * @param <T> The type of the result
+	 * @param <X> The type of the exception thrown by the operation
+	 * @throws NullPointerException If the operation is null
+	 * @throws X If the operation fails
+	 */
+	public static <T, X extends Throwable> @UnknownNullability T call(ScopedValue.@NonNull CallableOp<? extends T, X> operation) throws X {
+		Objects.requireNonNull(operation, "Operation must not be null");
+		if (isBound()) {
+			return operation.call();
+		}
+		return ScopedValue.where(CONTEXT, new SqlTransactionContext(SqlTransactionManager.current())).call(operation);
+	}
+	
+	/**
+	 * Wraps the given task to run in its own scoped context which starts with the currently active transaction.<br>
+	 * The transaction is captured when this method is called, the returned task can be executed by any thread.<br>
+	 *
+	 * @param task The task to wrap
+	 * @return The wrapped task
+	 * @param <T> The type of the result of the task
+	 * @throws NullPointerException If the task is null
+	 */
+	public static <T> @NonNull Callable<T> propagate(@NonNull Callable<T> task) {
+		Objects.requireNonNull(task, "Task must not be null");
+		SqlTransaction transaction = SqlTransactionManager.current();
+		return () -> ScopedValue.where(CONTEXT, new SqlTransactionContext(transaction)).call(task::call);
+	}
+	
+	/**
+	 * Wraps the given task to run in its own scoped context which starts with the currently active transaction.<br>
+	 * The transaction is captured when this method is called, the returned task can be executed by any thread.<br>
+	 *
+	 * @param task The task to wrap
+	 * @return The wrapped task
+	 * @throws NullPointerException If the task is null
+	 */
+	public static @NonNull Runnable propagate(@NonNull Runnable task) {
+		Objects.requireNonNull(task, "Task must not be null");
+		SqlTransaction transaction = SqlTransactionManager.current();
+		return () -> ScopedValue.where(CONTEXT, new SqlTransactionContext(transaction)).run(task);
+	}
+	
+	/**
+	 * Returns the context bound for the current thread.<br>
+	 * A context inherited from another thread is ignored, since it must not be shared.<br>
+	 *
+	 * @return The bound context, or {@code null} if no context is bound for the current thread
+	 */
+	static @Nullable SqlTransactionContext bound() {
+		if (!CONTEXT.isBound()) {
+			return null;
+		}
+		
+		SqlTransactionContext context = CONTEXT.get();
+		return context.owner == Thread.currentThread() ? context : null;
+	}
+	
+	/**
+	 * Returns the transaction currently active in this context.<br>
+	 * @return The active transaction, or {@code null} if none
+	 */
+	@Nullable SqlTransaction transaction() {
+		return this.transaction;
+	}
+	
+	/**
+	 * Sets the transaction currently active in this context.<br>
+	 * @param transaction The active transaction, or {@code null} if none
+	 */
+	void transaction(@Nullable SqlTransaction transaction) {
+		this.transaction = transaction;
+	}
+	
+	//region Object overrides
+	@Override
+	public String toString() {
+		return "SqlTransactionContext[owner=" + this.owner.getName() + ", active=" + (this.transaction != null) + "]";
+	}
+	//endregion
+}
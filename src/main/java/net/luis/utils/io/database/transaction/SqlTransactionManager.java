@@ -18,6 +18,7 @@
 
 package net.luis.utils.io.database.transaction;
 
+import net.luis.utils.io.database.SqlReplicaRouter;
 import net.luis.utils.io.database.dialect.SqlDialect;
 import net.luis.utils.io.database.exception.SqlException;
 import net.luis.utils.io.database.exception.client.transaction.SqlTransactionPropagationException;
@@ -45,6 +46,12 @@ import java.util.concurrent.*;
  *     Transactions that were suspended in favor of a new one are restored automatically once the transaction
  *     that replaced them is closed.
  * </p>
+ * <p>
+ *     If a {@link SqlReplicaRouter} is configured, connections of read-only transactions are acquired from the read replicas.
+ * </p>
+ * <p>
+ *     Inside of a {@link SqlTransactionContext} the active transaction is tracked by the scoped context instead of the thread.
+ * </p>
  *
  * @see SqlTransaction
  * @see SqlPropagation
@@ -59,7 +66,7 @@ public class SqlTransactionManager {
 	 */
 	private static final Logger LOGGER = LogManager.getLogger(SqlTransactionManager.class);
 	/**
-	 * The transaction currently bound to the calling thread.
+	 * The transaction currently bound to the calling thread, used if no {@link SqlTransactionContext} is bound.
 	 */
 	private static final ThreadLocal<SqlTransaction> CURRENT_TRANSACTION = new ThreadLocal<>();
 	/**
@@ -82,6 +89,10 @@ public class SqlTransactionManager {
 	 * The timeout for acquiring a connection while another transaction is suspended.
 	 */
 	private final Duration connectionAcquisitionTimeout;
+	/**
+	 * The router read-only connections are acquired from, or {@code null} if all connections are acquired from the data source.
+	 */
+	private final @Nullable SqlReplicaRouter replicaRouter;
 	
 	/**
 	 * Constructs a new sql transaction manager with the {@link #DEFAULT_CONNECTION_ACQUISITION_TIMEOUT default connection acquisition timeout}.<br>
@@ -103,10 +114,24 @@ public class SqlTransactionManager {
 	 * @throws NullPointerException If the data source, dialect, query timeout or connection acquisition timeout is null
 	 */
 	public SqlTransactionManager(@NonNull DataSource dataSource, @NonNull SqlDialect dialect, @NonNull Duration queryTimeout, @NonNull Duration connectionAcquisitionTimeout) {
+		this(dataSource, dialect, queryTimeout, connectionAcquisitionTimeout, null);
+	}
+	
+	/**
+	 * Constructs a new sql transaction manager which acquires the connections of read-only transactions from the given replica router.<br>
+	 * @param dataSource The data source connections are acquired from
+	 * @param dialect The sql dialect used by created transactions
+	 * @param queryTimeout The query timeout applied to created transactions
+	 * @param connectionAcquisitionTimeout The timeout for acquiring a connection while another transaction is suspended
+	 * @param replicaRouter The router read-only connections are acquired from, or {@code null} to acquire all connections from the data source
+	 * @throws NullPointerException If the data source, dialect, query timeout or connection acquisition timeout is null
+	 */
+	public SqlTransactionManager(@NonNull DataSource dataSource, @NonNull SqlDialect dialect, @NonNull Duration queryTimeout, @NonNull Duration connectionAcquisitionTimeout, @Nullable SqlReplicaRouter replicaRouter) {
 		this.dataSource = Objects.requireNonNull(dataSource, "Data source must not be null");
 		this.dialect = Objects.requireNonNull(dialect, "Sql dialect must not be null");
 		this.queryTimeout = Objects.requireNonNull(queryTimeout, "Query timeout must not be null");
 		this.connectionAcquisitionTimeout = Objects.requireNonNull(connectionAcquisitionTimeout, "Connection acquisition timeout must not be null");
+		this.replicaRouter = replicaRouter;
 	}
 	
 	/**
@@ -117,11 +142,23 @@ public class SqlTransactionManager {
 		return AcquireExecutorHolder.INSTANCE;
 	}
 	
+	/**
+	 * Returns the transaction currently active for the calling thread.<br>
+	 * The transaction is taken from the bound {@link SqlTransactionContext} or from the thread-bound state if no context is bound.<br>
+	 *
+	 * @return The active transaction, or {@code null} if none
+	 */
+	static @Nullable SqlTransaction current() {
+		SqlTransactionContext context = SqlTransactionContext.bound();
+		return context != null ? context.transaction() : CURRENT_TRANSACTION.get();
+	}
+	
 	/**
 	 * Begins a transaction applying the given propagation behavior.<br>
 	 * Based on the current thread-bound transaction and the propagation a transaction is created that starts a
 	 * new transaction, joins the existing one, opens a nested savepoint or runs non-transactionally.<br>
 	 * The returned transaction becomes the active transaction for the current thread until it is closed.<br>
+	 * If a {@link SqlTransactionContext} is bound, the transaction becomes the active transaction of the context instead.<br>
 	 *
 	 * @param readOnly Whether the transaction should be read-only
 	 * @param isolationLevel The isolation level to use for the transaction
@@ -132,7 +169,8 @@ public class SqlTransactionManager {
 	 * @throws SqlException If the transaction cannot be created
 	 */
 	public @NonNull SqlTransaction begin(boolean readOnly, @NonNull SqlIsolationLevel isolationLevel, @NonNull SqlPropagation propagation) throws SqlException {
-		SqlTransaction current = CURRENT_TRANSACTION.get();
+		SqlTransactionContext context = SqlTransactionContext.bound();
+		SqlTransaction current = context != null ? context.transaction() : CURRENT_TRANSACTION.get();
 		
 		SqlTransaction tx = switch (propagation) {
 			case REQUIRED -> this.resolveRequired(current, readOnly, isolationLevel);
@@ -148,10 +186,10 @@ public class SqlTransactionManager {
 			
 			@Override
 			public void afterClose() {
-				SqlTransactionManager.this.restore(tx);
+				SqlTransactionManager.this.restore(context, tx);
 			}
 		});
-		CURRENT_TRANSACTION.set(tx);
+		bind(context, tx);
 		return tx;
 	}
 	
@@ -339,6 +377,7 @@ public class SqlTransactionManager {
 	/**
 	 * Acquires a connection from the data source and applies the read-only and isolation settings.<br>
 	 * A bounded acquisition with a timeout is used when another transaction is suspended and still holds a connection.<br>
+	 * Read-only connections are acquired from the read replicas if a replica router is configured.<br>
 	 *
 	 * @param readOnly Whether the connection should be read-only
 	 * @param isolationLevel The isolation level to apply to the connection
@@ -351,7 +390,7 @@ public class SqlTransactionManager {
 	private @NonNull Connection acquireConnection(boolean readOnly, @NonNull SqlIsolationLevel isolationLevel, boolean bounded) throws SqlException {
 		Objects.requireNonNull(isolationLevel, "Transaction isolation level must not be null");
 		
-		Connection connection = bounded ? this.acquireConnectionBounded() : this.acquireConnectionDirect();
+		Connection connection = bounded ? this.acquireConnectionBounded(readOnly) : this.acquireConnectionDirect(readOnly);
 		try {
 			connection.setReadOnly(readOnly);
 			connection.setTransactionIsolation(isolationLevel.jdbcLevel());
@@ -363,29 +402,46 @@ public class SqlTransactionManager {
 	}
 	
 	/**
-	 * Acquires a connection directly from the data source without a timeout.<br>
+	 * Obtains a connection from the read replicas for read-only connections if a replica router is configured, otherwise from the data source.<br>
+	 *
+	 * @param readOnly Whether the connection should be read-only
+	 * @return The obtained connection
+	 * @throws SQLException If obtaining the connection fails
+	 */
+	private @NonNull Connection obtainConnection(boolean readOnly) throws SQLException {
+		if (readOnly && this.replicaRouter != null) {
+			return this.replicaRouter.getReadConnection();
+		}
+		return this.dataSource.getConnection();
+	}
+	
+	/**
+	 * Acquires a connection directly without a timeout.<br>
+	 *
+	 * @param readOnly Whether the connection should be read-only
 	 * @return The acquired connection
 	 * @throws SqlTransactionConnectionException If acquiring the connection fails
 	 */
-	private @NonNull Connection acquireConnectionDirect() throws SqlException {
+	private @NonNull Connection acquireConnectionDirect(boolean readOnly) throws SqlException {
 		try {
-			return this.dataSource.getConnection();
+			return this.obtainConnection(readOnly);
 		} catch (SQLException e) {
 			throw new SqlTransactionConnectionException("Failed to acquire connection from data source", e);
 		}
 	}
 	
 	/**
-	 * Acquires a connection from the data source bounded by the {@link #connectionAcquisitionTimeout connection acquisition timeout}.<br>
+	 * Acquires a connection bounded by the {@link #connectionAcquisitionTimeout connection acquisition timeout}.<br>
 	 * If the timeout elapses or the thread is interrupted any connection that arrives late is released to avoid leaking it.<br>
 	 *
+	 * @param readOnly Whether the connection should be read-only
 	 * @return The acquired connection
 	 * @throws SqlTransactionConnectionException If the acquisition times out, is interrupted or otherwise fails
 	 */
-	private @NonNull Connection acquireConnectionBounded() throws SqlException {
+	private @NonNull Connection acquireConnectionBounded(boolean readOnly) throws SqlException {
 		CompletableFuture<Connection> future = CompletableFuture.supplyAsync(() -> {
 			try {
-				return this.dataSource.getConnection();
+				return this.obtainConnection(readOnly);
 			} catch (SQLException e) {
 				throw new CompletionException(e);
 			}
@@ -434,16 +490,27 @@ public class SqlTransactionManager {
 	}
 	
 	/**
-	 * Restores the thread-bound transaction after the given transaction has been closed.<br>
-	 * The transaction it suspended becomes active again, or the thread is left without an active transaction.<br>
+	 * Restores the active transaction after the given transaction has been closed.<br>
+	 * The transaction it suspended becomes active again, or the context or thread is left without an active transaction.<br>
 	 *
+	 * @param context The context the transaction was begun in, or {@code null} if it was bound to the thread
 	 * @param transaction The transaction that was closed
 	 */
-	private void restore(@NonNull SqlTransaction transaction) {
-		SqlTransaction suspended = transaction.getSuspended();
-		
-		if (suspended != null) {
-			CURRENT_TRANSACTION.set(suspended);
+	private void restore(@Nullable SqlTransactionContext context, @NonNull SqlTransaction transaction) {
+		bind(context, transaction.getSuspended());
+	}
+	
+	/**
+	 * Makes the given transaction the active transaction of the given context or of the current thread if no context is given.<br>
+	 *
+	 * @param context The context to bind the transaction to, or {@code null} to bind it to the current thread
+	 * @param transaction The transaction to make active, or {@code null} to clear the active transaction
+	 */
+	private static void bind(@Nullable SqlTransactionContext context, @Nullable SqlTransaction transaction) {
+		if (context != null) {
+			context.transaction(transaction);
+		} else if (transaction != null) {
+			CURRENT_TRANSACTION.set(transaction);
 		} else {
 			CURRENT_TRANSACTION.remove();
 		}
@@ -139,6 +139,12 @@ public final class MappedSqlType<S, T> implements SqlType<T> {
 		this.sourceType.set(access, dialect, preparedStatement, columnIndex, this.fromTargetToSource.apply(value));
 	}
 	
+	@Override
+	@ApiStatus.Internal
+	public @Nullable Object convert(@NonNull SqlTypeInternalAccess access, @Nullable T value) throws SqlException {
+		return this.sourceType.convert(access, this.fromTargetToSource.apply(value));
+	}
+	
 	//region Object overrides
 	@Override
 	public boolean equals(Object o) {
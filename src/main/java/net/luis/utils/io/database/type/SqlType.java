@@ -84,6 +84,7 @@ public sealed interface SqlType<T> permits SqlScalarType, ParameterizedSqlType,
 	/**
 	 * Reads the value of the given sql type from the result set at the specified column index.<br>
 	 * If the given dialect provides a {@link SqlDialect#readingOverride(SqlType) reading override} for the type, that override is used to read the raw value which is then cast to the {@link #javaType() java type}, otherwise the value is read using the type itself.<br>
+	 * The value is read through the {@link SqlDialect#valueAccessor(SqlType) value accessor} of the dialect for the type.<br>
 	 *
 	 * @param type The sql type of the value to read
 	 * @param dialect The sql dialect used to resolve a possible reading override
@@ -99,26 +100,13 @@ public sealed interface SqlType<T> permits SqlScalarType, ParameterizedSqlType,
 		Objects.requireNonNull(dialect, "Sql dialect must not be null");
 		Objects.requireNonNull(resultSet, "Result set must not be null");
 		
-		Optional<SqlValueReader> override = dialect.readingOverride(type);
-		if (override.isPresent()) {
-			Object value;
-			try {
-				value = override.get().read(resultSet, columnIndex);
-			} catch (SQLException e) {
-				throw new SqlResultMappingException("Failed to retrieve value from result set at column index " + columnIndex, e, type.javaType(), null);
-			}
-			try {
-				return value == null ? null : type.javaType().cast(value);
-			} catch (ClassCastException e) {
-				throw new SqlResultMappingException("Reading override for column index " + columnIndex + " returned a value of incompatible type " + value.getClass().getName(), e, type.javaType());
-			}
-		}
-		return type.get(SqlTypeInternalAccess.INSTANCE, resultSet, columnIndex);
+		return dialect.valueAccessor(type).read(resultSet, columnIndex);
 	}
 	
 	/**
 	 * Binds the given value to the prepared statement at the specified index using the given sql type.<br>
 	 * If the given dialect provides a {@link SqlDialect#bindingOverride(SqlType) binding override} for the type, that override is used to bind the value, otherwise the value is bound using the type itself.<br>
+	 * The value is bound through the {@link SqlDialect#valueAccessor(SqlType) value accessor} of the dialect for the type.<br>
 	 *
 	 * @param type The sql type of the value to bind
 	 * @param dialect The sql dialect used to resolve a possible binding override
@@ -129,21 +117,11 @@ public sealed interface SqlType<T> permits SqlScalarType, ParameterizedSqlType,
 	 * @throws SqlException If the value could not be bound to the prepared statement
 	 * @param <T> The java type of the value
 	 */
-	@SuppressWarnings("unchecked")
 	static <T> void setValue(@NonNull SqlType<T> type, @NonNull SqlDialect dialect, @NonNull PreparedStatement statement, int index, Object value) throws SqlException {
 		Objects.requireNonNull(type, "Sql type must not be null");
 		Objects.requireNonNull(dialect, "Sql dialect must not be null");
 		
-		Optional<SqlValueBinder> override = dialect.bindingOverride(type);
-		if (override.isPresent()) {
-			try {
-				override.get().bind(statement, index, value);
-			} catch (SQLException e) {
-				throw new SqlStatementBindException("Failed to bind value to prepared statement at column index " + index, e, index);
-			}
-		} else {
-			type.set(SqlTypeInternalAccess.INSTANCE, dialect, statement, index, (T) value);
-		}
+		dialect.valueAccessor(type).bind(statement, index, value);
 	}
 	
 	/**
@@ -336,6 +314,25 @@ public sealed interface SqlType<T> permits SqlScalarType, ParameterizedSqlType,
 		}
 	}
 	
+	/**
+	 * Converts the given value of this sql type into the value which is passed to the driver when the value is bound.<br>
+	 * This method is intended for internal use only and must be called with the package-private access token, external callers should use {@link SqlValueAccessor#convert(Object)} instead.<br>
+	 * The default implementation returns the given value unchanged.<br>
+	 *
+	 * @param access The internal access token used to restrict the caller to this package
+	 * @param value The value to convert
+	 * @return The converted value or {@code null} if the value is bound as sql null
+	 * @throws IllegalCallerException If the access token is null
+	 * @throws SqlException If the value could not be converted
+	 */
+	@ApiStatus.Internal
+	default @Nullable Object convert(@NonNull SqlTypeInternalAccess access, @Nullable T value) throws SqlException {
+		if (access == null) {
+			throw new IllegalCallerException("SqlType#convert should only be called from inside the net.luis.utils.io.database.type package, external callers should use SqlValueAccessor#convert");
+		}
+		return value;
+	}
+	
 	/**
 	 * Creates a new sql type that maps this type to a different target java type.<br>
 	 * The given functions are used to convert values between the target type and this type when binding and reading values.<br>
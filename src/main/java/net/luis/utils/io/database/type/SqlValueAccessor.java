@@ -0,0 +1,197 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.database.type;
+
+import net.luis.utils.io.database.dialect.SqlDialect;
+import net.luis.utils.io.database.exception.SqlException;
+import net.luis.utils.io.database.exception.database.SqlResultMappingException;
+import net.luis.utils.io.database.exception.database.statement.SqlStatementBindException;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.sql.*;
+import java.util.Objects;
+
+/**
+ * The resolved binding and reading of a sql type for a specific dialect.<br>
+ * <p>
+ *     The {@link SqlDialect#bindingOverride(SqlType) binding override} and {@link SqlDialect#readingOverride(SqlType) reading override}
+ *     of the dialect are resolved once when the accessor is created.<br>
+ *     Binding and reading a value through the accessor therefore does not perform any registry lookups.
+ * </p>
+ * <p>
+ *     Accessors are usually obtained through {@link SqlDialect#valueAccessor(SqlType)}, which allows the dialect to cache them.<br>
+ *     {@link SqlType#setValue(SqlType, SqlDialect, PreparedStatement, int, Object)} and {@link SqlType#getValue(SqlType, SqlDialect, ResultSet, int)}
+ *     are equivalent to binding and reading through the accessor of the dialect.
+ * </p>
+ *
+ * @author Luis-St
+ *
+ * @param <T> The java type of the values
+ */
+public final class SqlValueAccessor<T> {
+	
+	/**
+	 * The sql type of the values.<br>
+	 */
+	private final SqlType<T> type;
+	/**
+	 * The sql dialect the accessor was resolved for.<br>
+	 */
+	private final SqlDialect dialect;
+	/**
+	 * The binding override of the dialect for the type, or null if the type binds the value itself.<br>
+	 */
+	private final @Nullable SqlValueBinder binder;
+	/**
+	 * The reading override of the dialect for the type, or null if the type reads the value itself.<br>
+	 */
+	private final @Nullable SqlValueReader reader;
+	
+	/**
+	 * Constructs a new value accessor for the given type and dialect.<br>
+	 *
+	 * @param type The sql type of the values
+	 * @param dialect The sql dialect to resolve the overrides from
+	 * @throws NullPointerException If the type or dialect is null
+	 */
+	private SqlValueAccessor(@NonNull SqlType<T> type, @NonNull SqlDialect dialect) {
+		this.type = Objects.requireNonNull(type, "Sql type must not be null");
+		this.dialect = Objects.requireNonNull(dialect, "Sql dialect must not be null");
+		this.binder = dialect.bindingOverride(type).orElse(null);
+		this.reader = dialect.readingOverride(type).orElse(null);
+	}
+	
+	/**
+	 * Resolves a new value accessor for the given type and dialect.<br>
+	 * Prefer {@link SqlDialect#valueAccessor(SqlType)}, which may return a cached accessor.<br>
+	 *
+	 * @param type The sql type of the values
+	 * @param dialect The sql dialect to resolve the overrides from
+	 * @return The resolved value accessor
+	 * @param <T> The java type of the values
+	 * @throws NullPointerException If the type or dialect is null
+	 */
+	public static <T> @NonNull SqlValueAccessor<T> resolve(@NonNull SqlType<T> type, @NonNull SqlDialect dialect) {
+		return new SqlValueAccessor<>(type, dialect);
+	}
+	
+	/**
+	 * Returns the sql type of the values.<br>
+	 * @return The sql type
+	 */
+	public @NonNull SqlType<T> type() {
+		return this.type;
+	}
+	
+	/**
+	 * Returns the sql dialect the accessor was resolved for.<br>
+	 * @return The sql dialect
+	 */
+	public @NonNull SqlDialect dialect() {
+		return this.dialect;
+	}
+	
+	/**
+	 * Reads the value from the result set at the specified column index.<br>
+	 * If the dialect provides a reading override for the type, the raw value read by the override is cast to the {@link SqlType#javaType() java type}.<br>
+	 *
+	 * @param resultSet The result set to read the value from
+	 * @param columnIndex The one-based column index to read the value from
+	 * @return The read value or {@code null} if the column value is sql null
+	 * @throws NullPointerException If the result set is null
+	 * @throws SqlException If the value could not be read or is of an incompatible type
+	 */
+	public @Nullable T read(@NonNull ResultSet resultSet, int columnIndex) throws SqlException {
+		Objects.requireNonNull(resultSet, "Result set must not be null");
+		if (this.reader == null) {
+			return this.type.get(SqlTypeInternalAccess.INSTANCE, resultSet, columnIndex);
+		}
+		
+		Object value;
+		try {
+			value = this.reader.read(resultSet, columnIndex);
+		} catch (SQLException e) {
+			throw new SqlResultMappingException("Failed to retrieve value from result set at column index " + columnIndex, e, this.type.javaType(), null);
+		}
+		try {
+			return value == null ? null : this.type.javaType().cast(value);
+		} catch (ClassCastException e) {
+			throw new SqlResultMappingException("Reading override for column index " + columnIndex + " returned a value of incompatible type " + value.getClass().getName(), e, this.type.javaType());
+		}
+	}
+	
+	/**
+	 * Binds the given value to the prepared statement at the specified index.<br>
+	 * If the dialect provides a binding override for the type, the value is bound by the override.<br>
+	 *
+	 * @param statement The prepared statement to bind the value to
+	 * @param index The one-based index to bind the value to
+	 * @param value The value to bind
+	 * @throws SqlException If the value could not be bound to the prepared statement
+	 */
+	@SuppressWarnings("unchecked")
+	public void bind(@NonNull PreparedStatement statement, int index, @Nullable Object value) throws SqlException {
+		if (this.binder == null) {
+			this.type.set(SqlTypeInternalAccess.INSTANCE, this.dialect, statement, index, (T) value);
+			return;
+		}
+		
+		try {
+			this.binder.bind(statement, index, value);
+		} catch (SQLException e) {
+			throw new SqlStatementBindException("Failed to bind value to prepared statement at column index " + index, e, index);
+		}
+	}
+	
+	/**
+	 * Checks whether values can be converted through {@link #convert(Object)}.<br>
+	 * This is not the case if the dialect provides a binding override for the type, since the override binds the value itself.<br>
+	 *
+	 * @return {@code true} if values can be converted, otherwise {@code false}
+	 */
+	public boolean isConvertible() {
+		return this.binder == null;
+	}
+	
+	/**
+	 * Converts the given value into the value which would be passed to the driver when binding it.<br>
+	 * This allows values to be written without a prepared statement, for example by native bulk load apis.<br>
+	 *
+	 * @param value The value to convert
+	 * @return The converted value or {@code null} if the value would be bound as sql null
+	 * @throws IllegalStateException If the dialect provides a binding override for the type
+	 * @throws SqlException If the value could not be converted
+	 * @see #isConvertible()
+	 */
+	@SuppressWarnings("unchecked")
+	public @Nullable Object convert(@Nullable Object value) throws SqlException {
+		if (this.binder != null) {
+			throw new IllegalStateException("Values of type " + this.type + " can not be converted, the sql dialect " + this.dialect.name() + " binds them with a binding override");
+		}
+		return this.type.convert(SqlTypeInternalAccess.INSTANCE, (T) value);
+	}
+	
+	//region Object overrides
+	@Override
+	public String toString() {
+		return "SqlValueAccessor[type=" + this.type + ", dialect=" + this.dialect.name() + ", binder=" + (this.binder != null) + ", reader=" + (this.reader != null) + "]";
+	}
+	//endregion
+}
@@ -217,13 +217,17 @@ public final class Ipv4Set implements IpSet<Ipv4Address, Ipv4Range, Ipv4Network,
 	public boolean containsAddress(@NonNull Ipv4Address address) {
 		Objects.requireNonNull(address, "Address must not be null");
 		
-		for (Ipv4Range range : this.ranges) {
-			if (range.containsAddress(address)) {
-				return true;
-			}
-			
+		int low = 0;
+		int high = this.ranges.size() - 1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			Ipv4Range range = this.ranges.get(middle);
 			if (range.start().compareTo(address) > 0) {
-				return false;
+				high = middle - 1;
+			} else if (range.end().compareTo(address) < 0) {
+				low = middle + 1;
+			} else {
+				return true;
 			}
 		}
 		return false;
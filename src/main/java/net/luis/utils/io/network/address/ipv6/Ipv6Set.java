@@ -212,13 +212,17 @@ public final class Ipv6Set implements IpSet<Ipv6Address, Ipv6Range, Ipv6Network,
 		Objects.requireNonNull(address, "Address must not be null");
 		Ipv6Address stripped = address.withoutZoneId();
 		
-		for (Ipv6Range range : this.ranges) {
-			if (range.containsAddress(stripped)) {
-				return true;
-			}
-			
+		int low = 0;
+		int high = this.ranges.size() - 1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			Ipv6Range range = this.ranges.get(middle);
 			if (range.start().compareTo(stripped) > 0) {
-				return false;
+				high = middle - 1;
+			} else if (range.end().compareTo(stripped) < 0) {
+				low = middle + 1;
+			} else {
+				return true;
 			}
 		}
 		return false;
@@ -179,6 +179,54 @@ class CodecGroupTest {
 		assertTrue(obj.flag);
 	}
 	
+	@Test
+	void decodeWithUnorderedEntries() throws Exception {
+		JsonTypeProvider typeProvider = JsonTypeProvider.INSTANCE;
+		CodecGroup<TestObject> codec = createTestCodecGroup();
+		
+		JsonObject reversed = new JsonObject();
+		reversed.add("value", new JsonPrimitive(123));
+		reversed.add("name", new JsonPrimitive("hello"));
+		assertEquals(new TestObject("hello", 123), codec.decode(typeProvider, reversed, reversed));
+		
+		JsonObject interrupted = new JsonObject();
+		interrupted.add("name", new JsonPrimitive("hello"));
+		interrupted.add("unknown", new JsonPrimitive(false));
+		interrupted.add("value", new JsonPrimitive(123));
+		assertEquals(new TestObject("hello", 123), codec.decode(typeProvider, interrupted, interrupted));
+		
+		JsonObject trailing = new JsonObject();
+		trailing.add("name", new JsonPrimitive("hello"));
+		trailing.add("value", new JsonPrimitive(123));
+		trailing.add("unknown", new JsonPrimitive(false));
+		assertEquals(new TestObject("hello", 123), codec.decode(typeProvider, trailing, trailing));
+	}
+	
+	@Test
+	void decodeOrderedEntriesWithAlias() throws Exception {
+		JsonTypeProvider typeProvider = JsonTypeProvider.INSTANCE;
+		List<FieldCodec<?, TestObject>> codecs = List.of(
+			STRING.fieldOf("name", "title", TestObject::name),
+			INTEGER.fieldOf("value", TestObject::value)
+		);
+		CodecGroup<TestObject> codec = new CodecGroup<>(codecs, components -> new TestObject((String) components.getFirst(), (Integer) components.get(1)));
+		
+		JsonObject aliased = new JsonObject();
+		aliased.add("title", new JsonPrimitive("hello"));
+		aliased.add("value", new JsonPrimitive(123));
+		assertEquals(new TestObject("hello", 123), codec.decode(typeProvider, aliased, aliased));
+		
+		JsonObject invalidName = new JsonObject();
+		invalidName.add("name", new JsonPrimitive(1));
+		invalidName.add("value", new JsonPrimitive(123));
+		invalidName.add("title", new JsonPrimitive("hello"));
+		assertEquals(new TestObject("hello", 123), codec.decode(typeProvider, invalidName, invalidName));
+		
+		JsonObject missing = new JsonObject();
+		missing.add("value", new JsonPrimitive(123));
+		assertThrows(DecoderException.class, () -> codec.decode(typeProvider, missing, missing));
+	}
+	
 	@Test
 	void decodeWithEmptyCodecs() throws Exception {
 		JsonTypeProvider typeProvider = JsonTypeProvider.INSTANCE;
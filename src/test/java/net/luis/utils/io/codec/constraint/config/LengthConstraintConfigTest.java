@@ -19,6 +19,7 @@
 package net.luis.utils.io.codec.constraint.config;
 
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintViolateException;
+import net.luis.utils.io.codec.constraint.core.Constraint;
 import net.luis.utils.util.Pair;
 import org.junit.jupiter.api.Test;
 
@@ -294,4 +295,57 @@ class LengthConstraintConfigTest {
 		LengthConstraintConfig config = LengthConstraintConfig.UNCONSTRAINED;
 		assertThrows(NullPointerException.class, () -> config.validate(null));
 	}
+	
+	@Test
+	void compileUnconstrained() {
+		Constraint<Integer> constraint = LengthConstraintConfig.UNCONSTRAINED.compile();
+		assertNotNull(constraint);
+		assertDoesNotThrow(() -> constraint.validate(0));
+		assertDoesNotThrow(() -> constraint.validate(Integer.MAX_VALUE));
+	}
+	
+	@Test
+	void compileMatchesValidateWithRange() {
+		LengthConstraintConfig config = LengthConstraintConfig.UNCONSTRAINED.withLengthBetween(3, 8);
+		Constraint<Integer> constraint = config.compile();
+		
+		for (int value : List.of(0, 2, 3, 5, 8, 9, Integer.MAX_VALUE)) {
+			String expected = assertValidation(() -> config.validate(value));
+			String actual = assertValidation(() -> constraint.validate(value));
+			assertEquals(expected, actual, "Compiled constraint differs for value " + value);
+		}
+	}
+	
+	@Test
+	void compileMatchesValidateWithMembership() {
+		LengthConstraintConfig config = LengthConstraintConfig.UNCONSTRAINED.withMaxLength(10).withIn(List.of(2, 4, 12));
+		Constraint<Integer> constraint = config.compile();
+		
+		for (int value : List.of(0, 2, 3, 4, 12)) {
+			String expected = assertValidation(() -> config.validate(value));
+			String actual = assertValidation(() -> constraint.validate(value));
+			assertEquals(expected, actual, "Compiled constraint differs for value " + value);
+		}
+	}
+	
+	@Test
+	void compileMatchesValidateWithNotEqualTo() {
+		LengthConstraintConfig config = LengthConstraintConfig.UNCONSTRAINED.withNotEqualTo(3);
+		Constraint<Integer> constraint = config.compile();
+		
+		for (int value : List.of(2, 3, 4)) {
+			String expected = assertValidation(() -> config.validate(value));
+			String actual = assertValidation(() -> constraint.validate(value));
+			assertEquals(expected, actual, "Compiled constraint differs for value " + value);
+		}
+	}
+	
+	private static String assertValidation(Runnable validation) {
+		try {
+			validation.run();
+			return null;
+		} catch (ConstraintViolateException e) {
+			return e.getMessage();
+		}
+	}
 }
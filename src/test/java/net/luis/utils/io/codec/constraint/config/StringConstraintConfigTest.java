@@ -19,6 +19,7 @@
 package net.luis.utils.io.codec.constraint.config;
 
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintViolateException;
+import net.luis.utils.io.codec.constraint.core.Constraint;
 import net.luis.utils.util.Pair;
 import org.junit.jupiter.api.Test;
 
@@ -358,4 +359,59 @@ class StringConstraintConfigTest {
 		StringConstraintConfig config = StringConstraintConfig.UNCONSTRAINED;
 		assertThrows(NullPointerException.class, () -> config.validate(null));
 	}
+	
+	@Test
+	void compileUnconstrained() {
+		Constraint<String> constraint = StringConstraintConfig.UNCONSTRAINED.compile();
+		assertNotNull(constraint);
+		assertDoesNotThrow(() -> constraint.validate("any string"));
+	}
+	
+	@Test
+	void compileWithMultipleConstraints() {
+		StringConstraintConfig config = StringConstraintConfig.UNCONSTRAINED
+			.withLength(LengthConstraintConfig.UNCONSTRAINED.withMinLength(3).withMaxLength(10))
+			.withStartsWith("a")
+			.withNotBlank();
+		Constraint<String> constraint = config.compile();
+		
+		assertDoesNotThrow(() -> constraint.validate("abc"));
+		assertThrows(ConstraintViolateException.class, () -> constraint.validate("ab"));
+		assertThrows(ConstraintViolateException.class, () -> constraint.validate("bcd"));
+	}
+	
+	@Test
+	void compileMatchesValidateMessages() {
+		StringConstraintConfig config = StringConstraintConfig.UNCONSTRAINED
+			.withLength(LengthConstraintConfig.UNCONSTRAINED.withMaxLength(5))
+			.withTrimmed();
+		Constraint<String> constraint = config.compile();
+		
+		for (String value : List.of("too long value", " abc")) {
+			ConstraintViolateException expected = assertThrows(ConstraintViolateException.class, () -> config.validate(value));
+			ConstraintViolateException actual = assertThrows(ConstraintViolateException.class, () -> constraint.validate(value));
+			assertEquals(expected.getMessage(), actual.getMessage());
+		}
+	}
+	
+	@Test
+	void compileMatchesValidateIgnoreCase() {
+		StringConstraintConfig config = StringConstraintConfig.UNCONSTRAINED.withInIgnoreCase(List.of("Alpha", "BETA", "straße"));
+		Constraint<String> constraint = config.compile();
+		
+		for (String value : List.of("alpha", "ALPHA", "beta", "gamma", "STRASSE", "STRAßE", "Straße")) {
+			ConstraintViolateException expected = null;
+			try {
+				config.validate(value);
+			} catch (ConstraintViolateException e) {
+				expected = e;
+			}
+			if (expected == null) {
+				assertDoesNotThrow(() -> constraint.validate(value));
+			} else {
+				ConstraintViolateException actual = assertThrows(ConstraintViolateException.class, () -> constraint.validate(value));
+				assertEquals(expected.getMessage(), actual.getMessage());
+			}
+		}
+	}
 }
@@ -19,6 +19,7 @@
 package net.luis.utils.io.codec.constraint.config.numeric;
 
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintViolateException;
+import net.luis.utils.io.codec.constraint.core.Constraint;
 import net.luis.utils.io.codec.constraint.util.Unit;
 import net.luis.utils.util.Pair;
 import org.junit.jupiter.api.Test;
@@ -591,4 +592,57 @@ class IntegerConstraintConfigTest {
 		IntegerConstraintConfig<Integer> config = IntegerConstraintConfig.unconstrained();
 		assertThrows(NullPointerException.class, () -> config.validate(null));
 	}
+	
+	@Test
+	void compileUnconstrained() {
+		Constraint<Integer> constraint = IntegerConstraintConfig.<Integer>unconstrained().compile();
+		assertNotNull(constraint);
+		assertDoesNotThrow(() -> constraint.validate(Integer.MIN_VALUE));
+		assertDoesNotThrow(() -> constraint.validate(Integer.MAX_VALUE));
+	}
+	
+	@Test
+	void compileMatchesValidateWithRange() {
+		IntegerConstraintConfig<Integer> config = IntegerConstraintConfig.<Integer>unconstrained().withGreaterThan(0).withLessThanOrEqual(100);
+		Constraint<Integer> constraint = config.compile();
+		
+		for (int value : List.of(-1, 0, 1, 50, 100, 101)) {
+			String expected = assertValidation(() -> config.validate(value));
+			String actual = assertValidation(() -> constraint.validate(value));
+			assertEquals(expected, actual, "Compiled constraint differs for value " + value);
+		}
+	}
+	
+	@Test
+	void compileMatchesValidateWithMembership() {
+		IntegerConstraintConfig<Integer> config = IntegerConstraintConfig.<Integer>unconstrained().withNotIn(List.of(2, 4)).withEven();
+		Constraint<Integer> constraint = config.compile();
+		
+		for (int value : List.of(1, 2, 3, 4, 6)) {
+			String expected = assertValidation(() -> config.validate(value));
+			String actual = assertValidation(() -> constraint.validate(value));
+			assertEquals(expected, actual, "Compiled constraint differs for value " + value);
+		}
+	}
+	
+	@Test
+	void compileMatchesValidateWithEqualTo() {
+		IntegerConstraintConfig<Integer> config = IntegerConstraintConfig.<Integer>unconstrained().withEqualTo(42);
+		Constraint<Integer> constraint = config.compile();
+		
+		for (int value : List.of(41, 42, 43)) {
+			String expected = assertValidation(() -> config.validate(value));
+			String actual = assertValidation(() -> constraint.validate(value));
+			assertEquals(expected, actual, "Compiled constraint differs for value " + value);
+		}
+	}
+	
+	private static String assertValidation(Runnable validation) {
+		try {
+			validation.run();
+			return null;
+		} catch (ConstraintViolateException e) {
+			return e.getMessage();
+		}
+	}
 }
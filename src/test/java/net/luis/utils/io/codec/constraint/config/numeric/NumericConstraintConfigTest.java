@@ -19,6 +19,7 @@
 package net.luis.utils.io.codec.constraint.config.numeric;
 
 import net.luis.utils.io.codec.constraint.config.validator.ConstraintViolateException;
+import net.luis.utils.io.codec.constraint.core.Constraint;
 import net.luis.utils.util.Pair;
 import org.junit.jupiter.api.Test;
 
@@ -292,4 +293,69 @@ class NumericConstraintConfigTest {
 		NumericConstraintConfig config = NumericConstraintConfig.UNCONSTRAINED;
 		assertThrows(NullPointerException.class, () -> config.validate(null));
 	}
+	
+	@Test
+	void compileUnconstrained() {
+		Constraint<Integer> constraint = NumericConstraintConfig.UNCONSTRAINED.compile();
+		assertNotNull(constraint);
+		assertDoesNotThrow(() -> constraint.validate(0));
+		assertDoesNotThrow(() -> constraint.validate(Integer.MAX_VALUE));
+	}
+	
+	@Test
+	void compileMatchesValidateWithExclusiveRange() {
+		NumericConstraintConfig config = NumericConstraintConfig.UNCONSTRAINED.withBetween(3, 8);
+		Constraint<Integer> constraint = config.compile();
+		
+		for (int value : List.of(2, 3, 4, 7, 8, 9)) {
+			String expected = assertValidation(() -> config.validate(value));
+			String actual = assertValidation(() -> constraint.validate(value));
+			assertEquals(expected, actual, "Compiled constraint differs for value " + value);
+		}
+	}
+	
+	@Test
+	void compileMatchesValidateWithInclusiveRange() {
+		NumericConstraintConfig config = NumericConstraintConfig.UNCONSTRAINED.withBetweenOrEqual(3, 8);
+		Constraint<Integer> constraint = config.compile();
+		
+		for (int value : List.of(2, 3, 4, 7, 8, 9)) {
+			String expected = assertValidation(() -> config.validate(value));
+			String actual = assertValidation(() -> constraint.validate(value));
+			assertEquals(expected, actual, "Compiled constraint differs for value " + value);
+		}
+	}
+	
+	@Test
+	void compileMatchesValidateWithExtremeBounds() {
+		NumericConstraintConfig config = NumericConstraintConfig.UNCONSTRAINED.withGreaterThan(Integer.MAX_VALUE - 1).withLessThanOrEqual(Integer.MAX_VALUE);
+		Constraint<Integer> constraint = config.compile();
+		
+		for (int value : List.of(Integer.MIN_VALUE, 0, Integer.MAX_VALUE - 1, Integer.MAX_VALUE)) {
+			String expected = assertValidation(() -> config.validate(value));
+			String actual = assertValidation(() -> constraint.validate(value));
+			assertEquals(expected, actual, "Compiled constraint differs for value " + value);
+		}
+	}
+	
+	@Test
+	void compileMatchesValidateWithMembership() {
+		NumericConstraintConfig config = NumericConstraintConfig.UNCONSTRAINED.withIn(List.of(1, 3, 5));
+		Constraint<Integer> constraint = config.compile();
+		
+		for (int value : List.of(0, 1, 2, 3, 5)) {
+			String expected = assertValidation(() -> config.validate(value));
+			String actual = assertValidation(() -> constraint.validate(value));
+			assertEquals(expected, actual, "Compiled constraint differs for value " + value);
+		}
+	}
+	
+	private static String assertValidation(Runnable validation) {
+		try {
+			validation.run();
+			return null;
+		} catch (ConstraintViolateException e) {
+			return e.getMessage();
+		}
+	}
 }
@@ -0,0 +1,228 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.codec.constraint.config.validator;
+
+import net.luis.utils.io.codec.constraint.config.LengthConstraintConfig;
+import net.luis.utils.io.codec.constraint.core.Constraint;
+import net.luis.utils.io.codec.constraint.util.Unit;
+import net.luis.utils.util.Pair;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link ConstraintChain}.<br>
+ *
+ * @author Luis-St
+ */
+class ConstraintChainTest {
+	
+	@Test
+	void unconstrained() {
+		Constraint<String> constraint = ConstraintChain.unconstrained();
+		assertNotNull(constraint);
+		assertDoesNotThrow(() -> constraint.validate("any"));
+		assertSame(constraint, ConstraintChain.unconstrained());
+	}
+	
+	@Test
+	void compiledIsCachedPerConfig() {
+		LengthConstraintConfig config = LengthConstraintConfig.UNCONSTRAINED.withLengthBetween(1, 3);
+		Constraint<Integer> constraint = ConstraintChain.compiled(config);
+		assertSame(constraint, ConstraintChain.compiled(config));
+		assertNotSame(constraint, ConstraintChain.compiled(LengthConstraintConfig.UNCONSTRAINED.withLengthBetween(1, 3)));
+		assertThrows(NullPointerException.class, () -> ConstraintChain.compiled(null));
+	}
+	
+	@Test
+	void buildWithoutConstraints() {
+		assertSame(ConstraintChain.unconstrained(), ConstraintChain.<String>builder().build());
+	}
+	
+	@Test
+	void buildWithInactiveConstraints() {
+		Constraint<String> constraint = ConstraintChain.<String>builder()
+			.add(Optional.empty(), _ -> fail("Inactive constraint must not be added"))
+			.add(false, _ -> fail("Inactive constraint must not be added"))
+			.addFlag(Optional.empty(), _ -> false, _ -> "Inactive flag must not be added")
+			.addNested(Optional.<LengthConstraintConfig>empty(), String::length, "Length")
+			.build();
+		
+		assertSame(ConstraintChain.unconstrained(), constraint);
+	}
+	
+	@Test
+	void buildWithSingleConstraint() {
+		Constraint<String> single = value -> {};
+		assertSame(single, ConstraintChain.<String>builder().add(true, single).build());
+	}
+	
+	@Test
+	void buildWithMultipleConstraints() {
+		Constraint<String> constraint = ConstraintChain.<String>builder()
+			.add(true, value -> {})
+			.add(Optional.of("configured"), value -> {})
+			.build();
+		
+		assertInstanceOf(ConstraintChain.class, constraint);
+		assertEquals("ConstraintChain[2 constraints]", constraint.toString());
+	}
+	
+	@Test
+	void addWithNullParameters() {
+		ConstraintChain.Builder<String> builder = ConstraintChain.builder();
+		assertThrows(NullPointerException.class, () -> builder.add(null, value -> {}));
+		assertThrows(NullPointerException.class, () -> builder.add(Optional.empty(), null));
+		assertThrows(NullPointerException.class, () -> builder.add(true, null));
+		assertThrows(NullPointerException.class, () -> builder.addFlag(null, _ -> true, _ -> ""));
+		assertThrows(NullPointerException.class, () -> builder.addNested(null, String::length, "Length"));
+	}
+	
+	@Test
+	void validateInOrderWithEarlyExit() {
+		List<Integer> calls = new ArrayList<>();
+		Constraint<String> constraint = ConstraintChain.<String>builder()
+			.add(true, _ -> calls.add(1))
+			.add(true, _ -> {
+				calls.add(2);
+				throw new ConstraintViolateException("Second constraint failed");
+			})
+			.add(true, _ -> calls.add(3))
+			.build();
+		
+		ConstraintViolateException exception = assertThrows(ConstraintViolateException.class, () -> constraint.validate("value"));
+		assertEquals("Second constraint failed", exception.getMessage());
+		assertEquals(List.of(1, 2), calls);
+	}
+	
+	@Test
+	void addFlagCreatesMessageOnlyOnViolation() {
+		List<String> messages = new ArrayList<>();
+		Constraint<String> constraint = ConstraintChain.<String>builder()
+			.addFlag(Optional.of(Unit.INSTANCE), s -> !s.isBlank(), value -> {
+				messages.add(value);
+				return "String '" + value + "' must not be blank";
+			})
+			.build();
+		
+		assertDoesNotThrow(() -> constraint.validate("value"));
+		assertTrue(messages.isEmpty());
+		
+		ConstraintViolateException exception = assertThrows(ConstraintViolateException.class, () -> constraint.validate(" "));
+		assertEquals("String ' ' must not be blank", exception.getMessage());
+		assertEquals(List.of(" "), messages);
+	}
+	
+	@Test
+	void addNestedWrapsMessage() {
+		Constraint<String> constraint = ConstraintChain.<String>builder()
+			.addNested(Optional.of(LengthConstraintConfig.UNCONSTRAINED.withMaxLength(3)), String::length, "Length")
+			.build();
+		
+		assertDoesNotThrow(() -> constraint.validate("abc"));
+		ConstraintViolateException exception = assertThrows(ConstraintViolateException.class, () -> constraint.validate("abcd"));
+		assertTrue(exception.getMessage().startsWith("Length constraint failed: "));
+	}
+	
+	@Test
+	void buildWithInactivePrecomputedConstraints() {
+		Constraint<Integer> constraint = ConstraintChain.<Integer>builder()
+			.addEqualTo(Optional.empty())
+			.addIn(Optional.empty())
+			.addRange(Optional.empty(), Optional.empty(), Comparator.naturalOrder())
+			.build();
+		
+		assertSame(ConstraintChain.unconstrained(), constraint);
+	}
+	
+	@Test
+	void equalTo() {
+		assertSame(ConstraintChain.unconstrained(), ConstraintChain.equalTo(Optional.empty()));
+		
+		Constraint<String> equal = ConstraintChain.equalTo(Optional.of(Pair.of("value", false)));
+		assertDoesNotThrow(() -> equal.validate("value"));
+		assertEquals("Value 'other' must be equal to 'value'", assertThrows(ConstraintViolateException.class, () -> equal.validate("other")).getMessage());
+		
+		Constraint<String> notEqual = ConstraintChain.equalTo(Optional.of(Pair.of("value", true)));
+		assertDoesNotThrow(() -> notEqual.validate("other"));
+		assertEquals("Value 'value' must not be equal to 'value'", assertThrows(ConstraintViolateException.class, () -> notEqual.validate("value")).getMessage());
+	}
+	
+	@Test
+	void equalToIgnoreCase() {
+		Constraint<String> constraint = ConstraintChain.equalToIgnoreCase(Optional.of(Pair.of("Value", false)));
+		assertDoesNotThrow(() -> constraint.validate("value"));
+		assertDoesNotThrow(() -> constraint.validate("VALUE"));
+		assertEquals("Value 'other' must be equal to 'Value'", assertThrows(ConstraintViolateException.class, () -> constraint.validate("other")).getMessage());
+	}
+	
+	@Test
+	void in() {
+		assertSame(ConstraintChain.unconstrained(), ConstraintChain.in(Optional.empty()));
+		
+		Constraint<Integer> in = ConstraintChain.in(Optional.of(Pair.of(Set.of(1), false)));
+		assertDoesNotThrow(() -> in.validate(1));
+		assertEquals("Value '2' must be in [1]", assertThrows(ConstraintViolateException.class, () -> in.validate(2)).getMessage());
+		
+		Constraint<Integer> notIn = ConstraintChain.in(Optional.of(Pair.of(Set.of(1), true)));
+		assertDoesNotThrow(() -> notIn.validate(2));
+		assertEquals("Value '1' must not be in [1]", assertThrows(ConstraintViolateException.class, () -> notIn.validate(1)).getMessage());
+	}
+	
+	@Test
+	void inIgnoreCase() {
+		Constraint<String> constraint = ConstraintChain.inIgnoreCase(Optional.of(Pair.of(Set.of("Alpha"), false)));
+		assertDoesNotThrow(() -> constraint.validate("alpha"));
+		assertDoesNotThrow(() -> constraint.validate("ALPHA"));
+		assertEquals("Value 'beta' must be in [Alpha]", assertThrows(ConstraintViolateException.class, () -> constraint.validate("beta")).getMessage());
+	}
+	
+	@Test
+	void range() {
+		assertSame(ConstraintChain.unconstrained(), ConstraintChain.range(Optional.<Pair<Integer, Boolean>>empty(), Optional.empty(), Comparator.naturalOrder()));
+		
+		Constraint<String> exclusive = ConstraintChain.range(Optional.of(Pair.of("b", false)), Optional.of(Pair.of("d", false)), Comparator.naturalOrder());
+		assertDoesNotThrow(() -> exclusive.validate("c"));
+		assertEquals("Value 'b' must be greater than b", assertThrows(ConstraintViolateException.class, () -> exclusive.validate("b")).getMessage());
+		assertEquals("Value 'd' must be less than d", assertThrows(ConstraintViolateException.class, () -> exclusive.validate("d")).getMessage());
+		
+		Constraint<String> inclusive = ConstraintChain.range(Optional.of(Pair.of("b", true)), Optional.of(Pair.of("d", true)), Comparator.naturalOrder());
+		assertDoesNotThrow(() -> inclusive.validate("b"));
+		assertDoesNotThrow(() -> inclusive.validate("d"));
+		assertEquals("Value 'a' must be greater than or equal to b", assertThrows(ConstraintViolateException.class, () -> inclusive.validate("a")).getMessage());
+		assertEquals("Value 'e' must be less than or equal to d", assertThrows(ConstraintViolateException.class, () -> inclusive.validate("e")).getMessage());
+	}
+	
+	@Test
+	void intRange() {
+		assertSame(ConstraintChain.unconstrained(), ConstraintChain.intRange(Optional.empty(), Optional.empty()));
+		
+		Constraint<Integer> constraint = ConstraintChain.intRange(Optional.of(Pair.of(Integer.MAX_VALUE - 1, false)), Optional.of(Pair.of(Integer.MAX_VALUE, true)));
+		assertDoesNotThrow(() -> constraint.validate(Integer.MAX_VALUE));
+		assertThrows(ConstraintViolateException.class, () -> constraint.validate(Integer.MAX_VALUE - 1));
+		
+		Constraint<Integer> minOnly = ConstraintChain.intRange(Optional.of(Pair.of(Integer.MIN_VALUE, true)), Optional.empty());
+		assertDoesNotThrow(() -> minOnly.validate(Integer.MIN_VALUE));
+		
+		Constraint<Integer> maxOnly = ConstraintChain.intRange(Optional.empty(), Optional.of(Pair.of(Integer.MIN_VALUE, false)));
+		assertEquals("Value '-2147483648' must be less than -2147483648", assertThrows(ConstraintViolateException.class, () -> maxOnly.validate(Integer.MIN_VALUE)).getMessage());
+	}
+}
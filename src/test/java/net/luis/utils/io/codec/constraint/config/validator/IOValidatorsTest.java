@@ -20,6 +20,7 @@ package net.luis.utils.io.codec.constraint.config.validator;
 
 import net.luis.utils.io.codec.constraint.config.*;
 import net.luis.utils.io.codec.constraint.config.io.*;
+import net.luis.utils.io.codec.constraint.core.Constraint;
 import net.luis.utils.io.codec.constraint.util.*;
 import net.luis.utils.util.Pair;
 import org.junit.jupiter.api.Test;
@@ -278,6 +279,45 @@ class IOValidatorsTest {
 		assertTrue(exception.getMessage().contains("not a valid ip address"));
 	}
 	
+	@Test
+	void compileInAnySubnetWithNull() {
+		assertThrows(NullPointerException.class, () -> IOValidators.compileInAnySubnet(null));
+	}
+	
+	@Test
+	void compileInAnySubnetWithMember() {
+		Constraint<String> constraint = IOValidators.compileInAnySubnet(Pair.of(Set.of("192.168.0.0/16", "10.0.0.0/8", "2001:db8::/32"), false));
+		assertDoesNotThrow(() -> constraint.validate("10.1.2.3"));
+		assertDoesNotThrow(() -> constraint.validate("192.168.1.1"));
+		assertDoesNotThrow(() -> constraint.validate("2001:db8::1"));
+		
+		ConstraintViolateException exception = assertThrows(ConstraintViolateException.class, () -> constraint.validate("8.8.8.8"));
+		assertTrue(exception.getMessage().contains("must be member of at least one specified subnet"));
+	}
+	
+	@Test
+	void compileInAnySubnetWithNegated() {
+		Constraint<String> constraint = IOValidators.compileInAnySubnet(Pair.of(Set.of("192.168.0.0/16"), true));
+		assertDoesNotThrow(() -> constraint.validate("8.8.8.8"));
+		
+		ConstraintViolateException exception = assertThrows(ConstraintViolateException.class, () -> constraint.validate("192.168.1.1"));
+		assertTrue(exception.getMessage().contains("must not be member of any specified subnet"));
+	}
+	
+	@Test
+	void compileInAnySubnetWithInvalidCidr() {
+		Constraint<String> constraint = assertDoesNotThrow(() -> IOValidators.compileInAnySubnet(Pair.of(Set.of("invalid"), false)));
+		
+		ConstraintViolateException exception = assertThrows(ConstraintViolateException.class, () -> constraint.validate("192.168.1.1"));
+		assertTrue(exception.getMessage().contains("Invalid CIDR"));
+	}
+	
+	@Test
+	void compileInAnySubnetWithInvalidIp() {
+		Constraint<String> constraint = IOValidators.compileInAnySubnet(Pair.of(Set.of("192.168.0.0/16"), false));
+		assertThrows(ConstraintViolateException.class, () -> constraint.validate("not-an-ip"));
+	}
+	
 	@Test
 	void validateInAnySubnetWithMixedSubnets() {
 		assertDoesNotThrow(() -> IOValidators.validateInAnySubnet("192.168.1.1", Optional.of(Pair.of(Set.of("192.168.0.0/16", "2001:db8::/32"), false))));
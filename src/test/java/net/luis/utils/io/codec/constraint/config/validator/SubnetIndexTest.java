@@ -0,0 +1,90 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.codec.constraint.config.validator;
+
+import net.luis.utils.io.network.address.IpAddresses;
+import net.luis.utils.io.network.address.ipv4.Ipv4Address;
+import net.luis.utils.io.network.address.ipv6.Ipv6Address;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link SubnetIndex}.<br>
+ *
+ * @author Luis-St
+ */
+class SubnetIndexTest {
+	
+	@Test
+	void compileWithNull() {
+		assertThrows(NullPointerException.class, () -> SubnetIndex.compile(null));
+	}
+	
+	@Test
+	void compileWithInvalidCidr() {
+		ConstraintViolateException exception = assertThrows(ConstraintViolateException.class, () -> SubnetIndex.compile(List.of("10.0.0.0/8", "invalid")));
+		assertTrue(exception.getMessage().contains("Invalid CIDR 'invalid'"));
+	}
+	
+	@Test
+	void compileWithEmpty() {
+		SubnetIndex index = SubnetIndex.compile(List.of());
+		assertTrue(index.getIpv4Networks().isEmpty());
+		assertTrue(index.getIpv6Networks().isEmpty());
+		assertFalse(index.contains(IpAddresses.parseIpv4("10.0.0.1")));
+		assertFalse(index.contains(IpAddresses.parseIpv6("2001:db8::1")));
+	}
+	
+	@Test
+	void compileSeparatesVersions() {
+		SubnetIndex index = SubnetIndex.compile(List.of("10.0.0.0/8", "2001:db8::/32", "192.168.0.0/16"));
+		assertEquals(2, index.getIpv4Networks().size());
+		assertEquals(1, index.getIpv6Networks().size());
+	}
+	
+	@Test
+	void containsIpv4() {
+		SubnetIndex index = SubnetIndex.compile(List.of("10.0.0.0/8", "172.16.0.0/12", "192.168.0.0/16", "192.168.1.0/24"));
+		assertTrue(index.contains(IpAddresses.parseIpv4("10.255.255.255")));
+		assertTrue(index.contains(IpAddresses.parseIpv4("172.31.0.1")));
+		assertTrue(index.contains(IpAddresses.parseIpv4("192.168.1.1")));
+		assertFalse(index.contains(IpAddresses.parseIpv4("9.255.255.255")));
+		assertFalse(index.contains(IpAddresses.parseIpv4("172.32.0.0")));
+		assertFalse(index.contains(IpAddresses.parseIpv4("8.8.8.8")));
+	}
+	
+	@Test
+	void containsIpv6() {
+		SubnetIndex index = SubnetIndex.compile(List.of("2001:db8::/32", "fc00::/7", "10.0.0.0/8"));
+		assertTrue(index.contains(IpAddresses.parseIpv6("2001:db8::1")));
+		assertTrue(index.contains(IpAddresses.parseIpv6("fd00::1")));
+		assertFalse(index.contains(IpAddresses.parseIpv6("2001:db9::1")));
+		assertFalse(index.contains(IpAddresses.parseIpv6("::1")));
+	}
+	
+	@Test
+	void containsWithNull() {
+		SubnetIndex index = SubnetIndex.compile(List.of("10.0.0.0/8"));
+		assertThrows(NullPointerException.class, () -> index.contains((Ipv4Address) null));
+		assertThrows(NullPointerException.class, () -> index.contains((Ipv6Address) null));
+	}
+}
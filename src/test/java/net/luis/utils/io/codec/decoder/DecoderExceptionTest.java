@@ -20,6 +20,8 @@ package net.luis.utils.io.codec.decoder;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.function.Supplier;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -128,6 +130,25 @@ class DecoderExceptionTest {
 		assertSame(cause, exception.getCause());
 	}
 	
+	@Test
+	void constructorWithMessageSupplierDecoderAndCause() {
+		assertThrows(NullPointerException.class, () -> new DecoderException((Supplier<String>) null, null, null));
+		
+		int[] calls = new int[1];
+		RuntimeException cause = new RuntimeException("Root cause");
+		DecoderException exception = new DecoderException(() -> {
+			calls[0]++;
+			return "Decoding failed";
+		}, null, cause);
+		
+		assertEquals(0, calls[0]);
+		assertEquals("Decoding failed", exception.getMessage());
+		assertEquals("Decoding failed", exception.getMessage());
+		assertEquals(1, calls[0]);
+		assertNull(exception.getDecoder());
+		assertSame(cause, exception.getCause());
+	}
+	
 	@Test
 	void constructorWithDecoderAndCause() {
 		RuntimeException cause = new RuntimeException("Root cause");
@@ -189,4 +210,17 @@ class DecoderExceptionTest {
 		
 		assertEquals(specialMessage, exception.getMessage());
 	}
+	
+	@Test
+	void speculative() throws DecoderException {
+		assertThrows(NullPointerException.class, () -> DecoderException.speculative(null));
+		assertEquals("value", DecoderException.speculative(() -> "value"));
+		
+		DecoderException exception = assertThrows(DecoderException.class, () -> DecoderException.speculative(() -> {
+			throw new DecoderException("Speculative");
+		}));
+		assertEquals("Speculative", exception.getMessage());
+		assertEquals(0, exception.getStackTrace().length);
+		assertTrue(new DecoderException("Regular").getStackTrace().length > 0);
+	}
 }
@@ -20,6 +20,8 @@ package net.luis.utils.io.codec.encoder;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.function.Supplier;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -128,6 +130,25 @@ class EncoderExceptionTest {
 		assertSame(cause, exception.getCause());
 	}
 	
+	@Test
+	void constructorWithMessageSupplierEncoderAndCause() {
+		assertThrows(NullPointerException.class, () -> new EncoderException((Supplier<String>) null, null, null));
+		
+		int[] calls = new int[1];
+		RuntimeException cause = new RuntimeException("Root cause");
+		EncoderException exception = new EncoderException(() -> {
+			calls[0]++;
+			return "Encoding failed";
+		}, null, cause);
+		
+		assertEquals(0, calls[0]);
+		assertEquals("Encoding failed", exception.getMessage());
+		assertEquals("Encoding failed", exception.getMessage());
+		assertEquals(1, calls[0]);
+		assertNull(exception.getCodec());
+		assertSame(cause, exception.getCause());
+	}
+	
 	@Test
 	void constructorWithEncoderAndCause() {
 		RuntimeException cause = new RuntimeException("Root cause");
@@ -189,4 +210,17 @@ class EncoderExceptionTest {
 		
 		assertEquals(specialMessage, exception.getMessage());
 	}
+	
+	@Test
+	void speculative() throws EncoderException {
+		assertThrows(NullPointerException.class, () -> EncoderException.speculative(null));
+		assertEquals("value", EncoderException.speculative(() -> "value"));
+		
+		EncoderException exception = assertThrows(EncoderException.class, () -> EncoderException.speculative(() -> {
+			throw new EncoderException("Speculative");
+		}));
+		assertEquals("Speculative", exception.getMessage());
+		assertEquals(0, exception.getStackTrace().length);
+		assertTrue(new EncoderException("Regular").getStackTrace().length > 0);
+	}
 }
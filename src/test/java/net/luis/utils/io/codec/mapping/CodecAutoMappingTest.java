@@ -19,6 +19,7 @@
 package net.luis.utils.io.codec.mapping;
 
 import net.luis.utils.io.codec.Codec;
+import net.luis.utils.io.codec.encoder.EncoderException;
 import net.luis.utils.io.codec.provider.JsonTypeProvider;
 import net.luis.utils.io.data.json.*;
 import net.luis.utils.util.Either;
@@ -70,6 +71,16 @@ class CodecAutoMappingTest {
 		assertEquals(original, decoded);
 	}
 	
+	@Test
+	void simpleRecordCodecWithNullComponent() {
+		record SimpleRecord(String name, int age) {}
+		
+		Codec<SimpleRecord> codec = CodecAutoMapping.createAutoMappedCodec(SimpleRecord.class);
+		JsonTypeProvider provider = JsonTypeProvider.INSTANCE;
+		
+		assertThrows(EncoderException.class, () -> codec.encode(provider, new SimpleRecord(null, 30)));
+	}
+	
 	@Test
 	void emptyRecordCodecWorks() throws Exception {
 		record EmptyRecord() {}
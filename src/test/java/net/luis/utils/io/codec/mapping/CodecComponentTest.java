@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import java.lang.reflect.Field;
 import java.lang.reflect.RecordComponent;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -142,6 +143,23 @@ class CodecComponentTest {
 		assertEquals("private", value.get());
 	}
 	
+	@Test
+	void createAccessor() throws NoSuchFieldException {
+		record TestRecord(String name, int age) {}
+		
+		RecordComponent[] components = TestRecord.class.getRecordComponents();
+		Function<Object, Object> nameAccessor = new CodecComponent(components[0]).createAccessor();
+		Function<Object, Object> ageAccessor = new CodecComponent(components[1]).createAccessor();
+		assertEquals("Alice", nameAccessor.apply(new TestRecord("Alice", 30)));
+		assertEquals(30, ageAccessor.apply(new TestRecord("Alice", 30)));
+		assertNull(nameAccessor.apply(new TestRecord(null, 30)));
+		assertThrows(NullPointerException.class, () -> nameAccessor.apply(null));
+		
+		Function<Object, Object> fieldAccessor = new CodecComponent(TestClassWithPrivateField.class.getDeclaredField("privateField")).createAccessor();
+		assertEquals("private", fieldAccessor.apply(new TestClassWithPrivateField()));
+		assertThrows(ClassCastException.class, () -> fieldAccessor.apply("not an instance"));
+	}
+	
 	@Test
 	void annotationAccess() throws NoSuchFieldException {
 		Field annotatedField = AnnotatedTestClass.class.getDeclaredField("annotatedField");
@@ -0,0 +1,184 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.codec.provider;
+
+import net.luis.utils.io.codec.Codecs;
+import net.luis.utils.io.data.InputProvider;
+import net.luis.utils.io.data.OutputProvider;
+import net.luis.utils.io.data.binary.*;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link BinaryTypeProvider}.<br>
+ *
+ * @author Luis-St
+ */
+class BinaryTypeProviderTest {
+	
+	@Test
+	void emptyReturnsBinaryElement() {
+		BinaryElement element = BinaryTypeProvider.INSTANCE.empty();
+		assertFalse(element.isBinaryNull());
+		assertFalse(element.isBinaryPrimitive());
+		assertFalse(element.isBinaryArray());
+		assertFalse(element.isBinaryObject());
+		assertTrue(BinaryTypeProvider.INSTANCE.isEmpty(element, RuntimeException::new));
+		assertFalse(BinaryTypeProvider.INSTANCE.isEmpty(BinaryNull.INSTANCE, RuntimeException::new));
+	}
+	
+	@Test
+	void createPrimitiveTypes() {
+		assertEquals(BinaryNull.INSTANCE, BinaryTypeProvider.INSTANCE.createNull(RuntimeException::new));
+		assertEquals(new BinaryPrimitive(true), BinaryTypeProvider.INSTANCE.createBoolean(true, RuntimeException::new));
+		assertEquals(new BinaryPrimitive((byte) 42), BinaryTypeProvider.INSTANCE.createByte((byte) 42, RuntimeException::new));
+		assertEquals(new BinaryPrimitive((short) 42), BinaryTypeProvider.INSTANCE.createShort((short) 42, RuntimeException::new));
+		assertEquals(new BinaryPrimitive(42), BinaryTypeProvider.INSTANCE.createInteger(42, RuntimeException::new));
+		assertEquals(new BinaryPrimitive(42L), BinaryTypeProvider.INSTANCE.createLong(42L, RuntimeException::new));
+		assertEquals(new BinaryPrimitive(42.5f), BinaryTypeProvider.INSTANCE.createFloat(42.5f, RuntimeException::new));
+		assertEquals(new BinaryPrimitive(42.5), BinaryTypeProvider.INSTANCE.createDouble(42.5, RuntimeException::new));
+		assertEquals(new BinaryPrimitive("test"), BinaryTypeProvider.INSTANCE.createString("test", RuntimeException::new));
+		assertThrows(RuntimeException.class, () -> BinaryTypeProvider.INSTANCE.createString(null, RuntimeException::new));
+	}
+	
+	@Test
+	void createCollectionTypes() {
+		assertThrows(RuntimeException.class, () -> BinaryTypeProvider.INSTANCE.createList(null, RuntimeException::new));
+		assertThrows(RuntimeException.class, () -> BinaryTypeProvider.INSTANCE.createMap(null, RuntimeException::new));
+		
+		assertEquals(new BinaryArray(List.of(new BinaryPrimitive("a"))), BinaryTypeProvider.INSTANCE.createList(List.of(new BinaryPrimitive("a")), RuntimeException::new));
+		assertEquals(new BinaryObject(), BinaryTypeProvider.INSTANCE.createMap(RuntimeException::new));
+		assertEquals(new BinaryObject(Map.of("a", new BinaryPrimitive(1))), BinaryTypeProvider.INSTANCE.createMap(Map.of("a", new BinaryPrimitive(1)), RuntimeException::new));
+		assertEquals(new BinaryArray(List.of(new BinaryPrimitive(1), new BinaryPrimitive(2))), BinaryTypeProvider.INSTANCE.createIntegerArray(new int[] { 1, 2 }, RuntimeException::new));
+	}
+	
+	@Test
+	void getPrimitiveTypes() {
+		assertTrue(BinaryTypeProvider.INSTANCE.getBoolean(new BinaryPrimitive(true), RuntimeException::new));
+		assertEquals((byte) 42, BinaryTypeProvider.INSTANCE.getByte(new BinaryPrimitive(42), RuntimeException::new));
+		assertEquals(42, BinaryTypeProvider.INSTANCE.getInteger(new BinaryPrimitive((byte) 42), RuntimeException::new));
+		assertEquals(42L, BinaryTypeProvider.INSTANCE.getLong(new BinaryPrimitive(42), RuntimeException::new));
+		assertEquals(42.0, BinaryTypeProvider.INSTANCE.getDouble(new BinaryPrimitive(42), RuntimeException::new));
+		assertEquals("test", BinaryTypeProvider.INSTANCE.getString(new BinaryPrimitive("test"), RuntimeException::new));
+		
+		assertThrows(RuntimeException.class, () -> BinaryTypeProvider.INSTANCE.getInteger(null, RuntimeException::new));
+		assertThrows(RuntimeException.class, () -> BinaryTypeProvider.INSTANCE.getInteger(new BinaryPrimitive("42"), RuntimeException::new));
+		assertThrows(RuntimeException.class, () -> BinaryTypeProvider.INSTANCE.getInteger(new BinaryArray(), RuntimeException::new));
+		assertThrows(RuntimeException.class, () -> BinaryTypeProvider.INSTANCE.getBoolean(new BinaryPrimitive(1), RuntimeException::new));
+		assertThrows(RuntimeException.class, () -> BinaryTypeProvider.INSTANCE.getString(new BinaryPrimitive(1), RuntimeException::new));
+	}
+	
+	@Test
+	void getPrimitiveArraysReportElementIndex() {
+		BinaryArray array = new BinaryArray(List.of(new BinaryPrimitive(1), new BinaryPrimitive("a")));
+		assertTrue(assertThrows(RuntimeException.class, () -> BinaryTypeProvider.INSTANCE.getIntegerArray(array, RuntimeException::new)).getMessage().startsWith("Invalid element at index 1: "));
+		assertTrue(assertThrows(RuntimeException.class, () -> BinaryTypeProvider.INSTANCE.getLongArray(array, RuntimeException::new)).getMessage().startsWith("Invalid element at index 1: "));
+		assertTrue(assertThrows(RuntimeException.class, () -> BinaryTypeProvider.INSTANCE.getDoubleArray(array, RuntimeException::new)).getMessage().startsWith("Invalid element at index 1: "));
+	}
+	
+	@Test
+	void getCollectionTypes() {
+		BinaryArray array = new BinaryArray(List.of(new BinaryPrimitive(1), new BinaryPrimitive(2L)));
+		assertEquals(array.getElements(), BinaryTypeProvider.INSTANCE.getList(array, RuntimeException::new));
+		assertArrayEquals(new int[] { 1, 2 }, BinaryTypeProvider.INSTANCE.getIntegerArray(array, RuntimeException::new));
+		assertArrayEquals(new long[] { 1L, 2L }, BinaryTypeProvider.INSTANCE.getLongArray(array, RuntimeException::new));
+		assertThrows(RuntimeException.class, () -> BinaryTypeProvider.INSTANCE.getList(new BinaryObject(), RuntimeException::new));
+		assertThrows(RuntimeException.class, () -> BinaryTypeProvider.INSTANCE.getIntegerArray(new BinaryArray(List.of(new BinaryPrimitive("a"))), RuntimeException::new));
+		
+		BinaryObject object = new BinaryObject(Map.of("a", new BinaryPrimitive(1)));
+		assertEquals(Map.of("a", new BinaryPrimitive(1)), BinaryTypeProvider.INSTANCE.getMap(object, RuntimeException::new));
+		assertThrows(RuntimeException.class, () -> BinaryTypeProvider.INSTANCE.getMap(array, RuntimeException::new));
+	}
+	
+	@Test
+	void getKind() {
+		assertEquals(ValueKind.NULL, BinaryTypeProvider.INSTANCE.getKind(BinaryNull.INSTANCE, RuntimeException::new));
+		assertEquals(ValueKind.BOOLEAN, BinaryTypeProvider.INSTANCE.getKind(new BinaryPrimitive(true), RuntimeException::new));
+		assertEquals(ValueKind.NUMBER, BinaryTypeProvider.INSTANCE.getKind(new BinaryPrimitive(42L), RuntimeException::new));
+		assertEquals(ValueKind.STRING, BinaryTypeProvider.INSTANCE.getKind(new BinaryPrimitive("test"), RuntimeException::new));
+		assertEquals(ValueKind.LIST, BinaryTypeProvider.INSTANCE.getKind(new BinaryArray(), RuntimeException::new));
+		assertEquals(ValueKind.MAP, BinaryTypeProvider.INSTANCE.getKind(new BinaryObject(), RuntimeException::new));
+		assertNull(BinaryTypeProvider.INSTANCE.getKind(BinaryTypeProvider.INSTANCE.empty(), RuntimeException::new));
+	}
+	
+	@Test
+	void getMapView() {
+		assertThrows(RuntimeException.class, () -> BinaryTypeProvider.INSTANCE.getMapView(new BinaryArray(), RuntimeException::new));
+		
+		BinaryObject object = new BinaryObject(Map.of("a", new BinaryPrimitive(1)));
+		Map<String, BinaryElement> view = BinaryTypeProvider.INSTANCE.getMapView(object, RuntimeException::new);
+		assertEquals(Map.of("a", new BinaryPrimitive(1)), view);
+		assertTrue(view.containsKey("a"));
+		assertThrows(UnsupportedOperationException.class, () -> view.remove("a"));
+	}
+	
+	@Test
+	void hasGetAndSet() {
+		BinaryObject object = new BinaryObject();
+		BinaryTypeProvider.INSTANCE.set(object, "a", new BinaryPrimitive(1), RuntimeException::new);
+		
+		assertTrue(BinaryTypeProvider.INSTANCE.has(object, "a", RuntimeException::new));
+		assertFalse(BinaryTypeProvider.INSTANCE.has(object, "b", RuntimeException::new));
+		assertEquals(new BinaryPrimitive(1), BinaryTypeProvider.INSTANCE.get(object, "a", RuntimeException::new));
+		assertNull(BinaryTypeProvider.INSTANCE.get(object, "b", RuntimeException::new));
+		
+		assertThrows(RuntimeException.class, () -> BinaryTypeProvider.INSTANCE.has(object, null, RuntimeException::new));
+		assertThrows(RuntimeException.class, () -> BinaryTypeProvider.INSTANCE.set(object, "a", null, RuntimeException::new));
+		assertThrows(RuntimeException.class, () -> BinaryTypeProvider.INSTANCE.get(new BinaryArray(), "a", RuntimeException::new));
+	}
+	
+	@Test
+	void merge() {
+		BinaryElement value = new BinaryPrimitive(1);
+		assertEquals(value, BinaryTypeProvider.INSTANCE.merge(BinaryTypeProvider.INSTANCE.empty(), value, RuntimeException::new));
+		assertEquals(value, BinaryTypeProvider.INSTANCE.merge(value, BinaryNull.INSTANCE, RuntimeException::new));
+		
+		BinaryArray array = new BinaryArray(List.of(value));
+		assertEquals(new BinaryArray(List.of(value, value)), BinaryTypeProvider.INSTANCE.merge(array, new BinaryArray(List.of(value)), RuntimeException::new));
+		
+		BinaryObject object = new BinaryObject(Map.of("a", value));
+		BinaryObject merged = (BinaryObject) BinaryTypeProvider.INSTANCE.merge(object, new BinaryObject(Map.of("b", value)), RuntimeException::new);
+		assertEquals(2, merged.size());
+		
+		assertThrows(RuntimeException.class, () -> BinaryTypeProvider.INSTANCE.merge(new BinaryArray(), new BinaryObject(), RuntimeException::new));
+	}
+	
+	@Test
+	void codecRoundTrip() throws Exception {
+		BinaryElement encoded = Codecs.INTEGER_ARRAY.encode(BinaryTypeProvider.INSTANCE, new int[] { 1, -2, 300 });
+		
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		try (BinaryWriter writer = new BinaryWriter(new OutputProvider(output))) {
+			writer.writeBinary(encoded);
+		}
+		
+		BinaryElement read;
+		try (BinaryReader reader = new BinaryReader(new InputProvider(new ByteArrayInputStream(output.toByteArray())))) {
+			read = reader.readBinary();
+		}
+		assertArrayEquals(new int[] { 1, -2, 300 }, Codecs.INTEGER_ARRAY.decode(BinaryTypeProvider.INSTANCE, read));
+		assertEquals("test", Codecs.STRING.decode(BinaryTypeProvider.INSTANCE, Codecs.STRING.encode(BinaryTypeProvider.INSTANCE, "test")));
+	}
+}
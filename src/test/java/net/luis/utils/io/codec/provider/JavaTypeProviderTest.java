@@ -85,6 +85,26 @@ class JavaTypeProviderTest {
 		assertEquals(element2, mapWithElements.get("key2"));
 	}
 	
+	@Test
+	void createAndGetPrimitiveArrays() {
+		assertThrows(RuntimeException.class, () -> JavaTypeProvider.INSTANCE.createIntegerArray(null, RuntimeException::new));
+		
+		Object ints = JavaTypeProvider.INSTANCE.createIntegerArray(new int[] { 1, 2, 3 }, RuntimeException::new);
+		assertEquals(List.of(1, 2, 3), ints);
+		assertArrayEquals(new int[] { 1, 2, 3 }, JavaTypeProvider.INSTANCE.getIntegerArray(ints, RuntimeException::new));
+		
+		Object longs = JavaTypeProvider.INSTANCE.createLongArray(new long[] { 1L, 2L }, RuntimeException::new);
+		assertEquals(List.of(1L, 2L), longs);
+		assertArrayEquals(new long[] { 1L, 2L }, JavaTypeProvider.INSTANCE.getLongArray(longs, RuntimeException::new));
+		
+		Object doubles = JavaTypeProvider.INSTANCE.createDoubleArray(new double[] { 1.5, 2.5 }, RuntimeException::new);
+		assertEquals(List.of(1.5, 2.5), doubles);
+		assertArrayEquals(new double[] { 1.5, 2.5 }, JavaTypeProvider.INSTANCE.getDoubleArray(doubles, RuntimeException::new));
+		
+		assertThrows(RuntimeException.class, () -> JavaTypeProvider.INSTANCE.getIntegerArray(null, RuntimeException::new));
+		assertThrows(RuntimeException.class, () -> JavaTypeProvider.INSTANCE.getIntegerArray(List.of("a"), RuntimeException::new));
+	}
+	
 	@Test
 	void getEmptyValidation() {
 		assertThrows(RuntimeException.class, () -> JavaTypeProvider.INSTANCE.isEmpty(null, RuntimeException::new));
@@ -0,0 +1,209 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.codec.provider;
+
+import net.luis.utils.io.codec.Codec;
+import net.luis.utils.io.codec.CodecBuilder;
+import net.luis.utils.io.codec.decoder.Decoder;
+import net.luis.utils.io.codec.decoder.DecoderException;
+import net.luis.utils.io.codec.types.struct.DiscriminatedCodecProvider;
+import net.luis.utils.io.data.json.*;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static net.luis.utils.io.codec.Codecs.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link JsonDecodeCursor}.<br>
+ *
+ * @author Luis-St
+ */
+class JsonDecodeCursorTest {
+	
+	private static final Codec<TestObject> TEST_CODEC = CodecBuilder.of(
+		STRING.fieldOf("name", "title", TestObject::name),
+		INTEGER.optionalFieldOf("count", 0, TestObject::count),
+		STRING.list().fieldOf("tags", TestObject::tags)
+	).create(TestObject::new);
+	
+	private static @NonNull JsonDecodeCursor cursor(@NonNull String json) {
+		return new JsonDecodeCursor(new JsonTokenReader(json));
+	}
+	
+	@Test
+	void constructor() {
+		assertThrows(NullPointerException.class, () -> new JsonDecodeCursor(null));
+		assertEquals(JsonTypeProvider.INSTANCE, cursor("{}").getProvider());
+	}
+	
+	@Test
+	void peek() throws DecoderException {
+		JsonDecodeCursor cursor = cursor("[{}, [], \"a\", 1, true, null]");
+		cursor.beginList();
+		assertEquals(ValueKind.MAP, cursor.peek());
+		cursor.skipValue();
+		assertEquals(ValueKind.LIST, cursor.peek());
+		cursor.skipValue();
+		assertEquals(ValueKind.STRING, cursor.peek());
+		cursor.skipValue();
+		assertEquals(ValueKind.NUMBER, cursor.peek());
+		cursor.skipValue();
+		assertEquals(ValueKind.BOOLEAN, cursor.peek());
+		cursor.skipValue();
+		assertEquals(ValueKind.NULL, cursor.peek());
+		cursor.skipValue();
+		assertThrows(DecoderException.class, cursor::peek);
+		cursor.endList();
+	}
+	
+	@Test
+	void readValue() throws DecoderException {
+		JsonDecodeCursor cursor = cursor("{\"a\": [1, 2], \"b\": {\"c\": null}}");
+		cursor.beginMap();
+		assertEquals("a", cursor.nextKey());
+		assertEquals(new JsonReader("[1, 2]").readJson(), cursor.readValue());
+		assertEquals("b", cursor.nextKey());
+		assertInstanceOf(JsonObject.class, cursor.readValue());
+		assertFalse(cursor.hasNext());
+		cursor.endMap();
+	}
+	
+	@Test
+	void syntaxErrorsAsDecoderException() {
+		assertThrows(DecoderException.class, () -> cursor("").peek());
+		assertThrows(DecoderException.class, () -> cursor("[1, 2").readValue());
+		assertThrows(DecoderException.class, () -> cursor("1").beginMap());
+		assertThrows(DecoderException.class, () -> cursor("{}").beginList());
+	}
+	
+	@Test
+	void decodeFromGroup() throws DecoderException {
+		TestObject object = TEST_CODEC.decodeFrom(cursor("{\"name\": \"test\", \"count\": 5, \"tags\": [\"a\", \"b\"]}"));
+		assertEquals(new TestObject("test", 5, List.of("a", "b")), object);
+	}
+	
+	@Test
+	void decodeFromGroupSkipsUnknownFields() throws DecoderException {
+		String json = "{\"unknown\": {\"deep\": [1, 2, {\"x\": null}]}, \"name\": \"test\", \"tags\": [], \"other\": 1.5}";
+		assertEquals(new TestObject("test", 0, List.of()), TEST_CODEC.decodeFrom(cursor(json)));
+	}
+	
+	@Test
+	void decodeFromGroupWithAlias() throws DecoderException {
+		assertEquals("alias", TEST_CODEC.decodeFrom(cursor("{\"title\": \"alias\", \"tags\": []}")).name());
+		assertEquals("name", TEST_CODEC.decodeFrom(cursor("{\"title\": \"alias\", \"name\": \"name\", \"tags\": []}")).name());
+		assertEquals("name", TEST_CODEC.decodeFrom(cursor("{\"name\": \"name\", \"title\": \"alias\", \"tags\": []}")).name());
+	}
+	
+	@Test
+	void decodeFromGroupMatchesTreeDecoding() throws DecoderException {
+		String json = "{\"name\": \"test\", \"count\": 7, \"tags\": [\"x\"], \"ignored\": true}";
+		TestObject expected = TEST_CODEC.decode(JsonTypeProvider.INSTANCE, new JsonReader(json).readJson());
+		assertEquals(expected, TEST_CODEC.decodeFrom(cursor(json)));
+	}
+	
+	@Test
+	void decodeFromGroupWithAliasMatchesTreeDecoding() throws DecoderException {
+		for (String json : List.of(
+			"{\"title\": \"alias\", \"tags\": []}",
+			"{\"name\": 1, \"title\": \"alias\", \"tags\": []}",
+			"{\"title\": \"alias\", \"name\": \"name\", \"tags\": [], \"count\": 2}"
+		)) {
+			assertEquals(TEST_CODEC.decode(JsonTypeProvider.INSTANCE, new JsonReader(json).readJson()), TEST_CODEC.decodeFrom(cursor(json)));
+		}
+	}
+	
+	@Test
+	void decodeFromGroupWithDefaultFromEnclosingMap() throws DecoderException {
+		Codec<String> label = Codec.of(String.class, STRING, new Decoder<>() {
+			@Override
+			public <R> @NonNull String decode(@NonNull TypeProvider<R> provider, @NonNull R current, @Nullable R value) throws DecoderException {
+				if (value != null) {
+					return STRING.decode(provider, current, value);
+				}
+				return "label of " + STRING.decode(provider, current, provider.get(current, "id", DecoderException::new));
+			}
+		}, "LabelCodec");
+		Codec<Labeled> codec = CodecBuilder.of(
+			label.fieldOf("label", Labeled::label),
+			STRING.fieldOf("id", Labeled::id)
+		).create(Labeled::new);
+		
+		for (String json : List.of("{\"id\": \"a\"}", "{\"label\": \"b\", \"id\": \"a\"}", "{\"id\": \"a\", \"unknown\": [1]}")) {
+			assertEquals(codec.decode(JsonTypeProvider.INSTANCE, new JsonReader(json).readJson()), codec.decodeFrom(cursor(json)));
+		}
+		assertEquals(new Labeled("label of a", "a"), codec.decodeFrom(cursor("{\"id\": \"a\"}")));
+	}
+	
+	@Test
+	void decodeFromGroupWithErrors() {
+		assertThrows(DecoderException.class, () -> TEST_CODEC.decodeFrom(cursor("{\"count\": 5, \"tags\": []}")));
+		assertThrows(DecoderException.class, () -> TEST_CODEC.decodeFrom(cursor("{\"name\": 1, \"tags\": []}")));
+		assertThrows(DecoderException.class, () -> TEST_CODEC.decodeFrom(cursor("[\"name\"]")));
+		assertThrows(DecoderException.class, () -> TEST_CODEC.decodeFrom(cursor("{\"name\": \"test\", \"tags\": [")));
+	}
+	
+	@Test
+	void decodeFromCollections() throws DecoderException {
+		assertEquals(List.of(1, 2, 3), INTEGER.list().decodeFrom(cursor("[1, 2, 3]")));
+		assertEquals(Set.of("a", "b"), STRING.set().decodeFrom(cursor("[\"a\", \"b\", \"a\"]")));
+		assertEquals(Map.of("a", 1, "b", 2), map(INTEGER).decodeFrom(cursor("{\"a\": 1, \"b\": 2}")));
+		assertEquals(List.of(List.of(1), List.of()), INTEGER.list().list().decodeFrom(cursor("[[1], []]")));
+	}
+	
+	@Test
+	void decodeFromPartialCollections() throws DecoderException {
+		assertThrows(DecoderException.class, () -> INTEGER.list().decodeFrom(cursor("[1, \"a\", 3]")));
+		assertEquals(List.of(1, 3), INTEGER.list().partial().decodeFrom(cursor("[1, \"a\", 3]")));
+		assertEquals(List.of(1, 3), INTEGER.list().partial().decodeFrom(cursor("[1, [2, 2], 3]")));
+		assertEquals(Map.of("a", 1), map(INTEGER).partial().decodeFrom(cursor("{\"a\": 1, \"b\": {}}")));
+	}
+	
+	@Test
+	void decodeFromNullable() throws DecoderException {
+		assertNull(STRING.nullable().decodeFrom(cursor("null")));
+		assertEquals("value", STRING.nullable().decodeFrom(cursor("\"value\"")));
+		assertEquals(Arrays.asList("a", null), STRING.nullable().list().decodeFrom(cursor("[\"a\", null]")));
+	}
+	
+	@Test
+	void decodeFromRequiringEnclosingMap() throws DecoderException {
+		Codec<Wrapper> codec = CodecBuilder.of(
+			STRING.fieldOf("type", Wrapper::type),
+			discriminatedBy("type", STRING, DiscriminatedCodecProvider.create(Object.class, type -> switch (type) {
+				case "int" -> INTEGER;
+				case "string" -> STRING;
+				default -> throw new IllegalArgumentException("Unknown type: " + type);
+			})).fieldOf("value", Wrapper::value)
+		).create(Wrapper::new);
+		
+		assertEquals(new Wrapper("int", 5), codec.decodeFrom(cursor("{\"value\": 5, \"type\": \"int\"}")));
+		assertEquals(new Wrapper("string", "x"), codec.decodeFrom(cursor("{\"type\": \"string\", \"value\": \"x\"}")));
+	}
+	
+	private record TestObject(@NonNull String name, int count, @NonNull List<String> tags) {}
+	
+	private record Labeled(@NonNull String label, @NonNull String id) {}
+	
+	private record Wrapper(@NonNull String type, @NonNull Object value) {}
+}
@@ -0,0 +1,121 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.codec.provider;
+
+import net.luis.utils.io.codec.Codec;
+import net.luis.utils.io.codec.CodecBuilder;
+import net.luis.utils.io.codec.encoder.EncoderException;
+import net.luis.utils.io.data.OutputProvider;
+import net.luis.utils.io.data.json.*;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static net.luis.utils.io.codec.Codecs.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link JsonEncodeWriter}.<br>
+ *
+ * @author Luis-St
+ */
+class JsonEncodeWriterTest {
+	
+	private static final JsonConfig CONFIG = new JsonConfig(true, true, "\t", false, 10, false, 1, StandardCharsets.UTF_8);
+	private static final Codec<TestObject> TEST_CODEC = CodecBuilder.of(
+		STRING.fieldOf("name", TestObject::name),
+		INTEGER.optionalFieldOf("count", 0, TestObject::count),
+		STRING.nullable().fieldOf("description", TestObject::description),
+		STRING.list().fieldOf("tags", TestObject::tags)
+	).create(TestObject::new);
+	
+	private static <C> @NonNull String encodeTo(@NonNull Codec<C> codec, @Nullable C value) throws Exception {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		try (JsonEncodeWriter writer = new JsonEncodeWriter(new JsonTokenWriter(new OutputProvider(stream), CONFIG))) {
+			codec.encodeTo(writer, value);
+		}
+		return stream.toString(StandardCharsets.UTF_8);
+	}
+	
+	private static <C> @NonNull String encodeTree(@NonNull Codec<C> codec, @Nullable C value) throws EncoderException {
+		return codec.encode(JsonTypeProvider.INSTANCE, value).toString(CONFIG);
+	}
+	
+	@Test
+	void constructor() {
+		assertThrows(NullPointerException.class, () -> new JsonEncodeWriter(null));
+		assertEquals(JsonTypeProvider.INSTANCE, new JsonEncodeWriter(new JsonTokenWriter(new OutputProvider(OutputStream.nullOutputStream()))).getProvider());
+	}
+	
+	@Test
+	void encodeToGroupMatchesTreeEncoding() throws Exception {
+		TestObject object = new TestObject("test", 5, "text", List.of("a", "b"));
+		assertEquals(encodeTree(TEST_CODEC, object), encodeTo(TEST_CODEC, object));
+		
+		TestObject nullDescription = new TestObject("test", 5, null, List.of());
+		assertEquals(encodeTree(TEST_CODEC, nullDescription), encodeTo(TEST_CODEC, nullDescription));
+	}
+	
+	@Test
+	void encodeToRoundTrip() throws Exception {
+		TestObject object = new TestObject("round", 42, "trip", List.of("x", "y", "z"));
+		String json = encodeTo(TEST_CODEC, object);
+		assertEquals(object, TEST_CODEC.decodeFrom(new JsonDecodeCursor(new JsonTokenReader(json))));
+	}
+	
+	@Test
+	void encodeToCollections() throws Exception {
+		assertEquals(encodeTree(INTEGER.list(), List.of(1, 2, 3)), encodeTo(INTEGER.list(), List.of(1, 2, 3)));
+		assertEquals(encodeTree(INTEGER.list().list(), List.of(List.of(1), List.of())), encodeTo(INTEGER.list().list(), List.of(List.of(1), List.of())));
+		
+		Map<String, Integer> map = new LinkedHashMap<>();
+		map.put("a", 1);
+		map.put("b", 2);
+		assertEquals("{\n\t\"a\": 1,\n\t\"b\": 2\n}".replace("\n", System.lineSeparator()), encodeTo(map(INTEGER), map));
+	}
+	
+	@Test
+	void encodeToOptionalOmitsEmpty() throws Exception {
+		Codec<Optional<String>> codec = STRING.optional();
+		assertEquals("", encodeTo(codec, Optional.empty()));
+		assertEquals("\"value\"", encodeTo(codec, Optional.of("value")));
+		assertEquals("[" + System.lineSeparator() + "\t\"a\"" + System.lineSeparator() + "]", encodeTo(codec.list(), List.of(Optional.of("a"), Optional.empty())));
+	}
+	
+	@Test
+	void encodeToPartialList() throws Exception {
+		Codec<List<Integer>> codec = INTEGER.list();
+		assertThrows(EncoderException.class, () -> encodeTo(codec, Arrays.asList(1, null, 3)));
+		assertEquals(encodeTree(INTEGER.list(), List.of(1, 3)), encodeTo(INTEGER.list().partial(), Arrays.asList(1, null, 3)));
+	}
+	
+	@Test
+	void encodeToWithErrors() {
+		assertThrows(NullPointerException.class, () -> TEST_CODEC.encodeTo(null, new TestObject("a", 1, null, List.of())));
+		assertThrows(EncoderException.class, () -> encodeTo(TEST_CODEC, null));
+		assertThrows(EncoderException.class, () -> encodeTo(TEST_CODEC, new TestObject(null, 1, null, List.of())));
+	}
+	
+	private record TestObject(String name, int count, @Nullable String description, @NonNull List<String> tags) {}
+}
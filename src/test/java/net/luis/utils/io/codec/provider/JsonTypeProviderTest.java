@@ -107,6 +107,19 @@ class JsonTypeProviderTest {
 		assertFalse(JsonTypeProvider.INSTANCE.isNull(new JsonPrimitive("test"), RuntimeException::new));
 	}
 	
+	@Test
+	void getKind() {
+		assertThrows(RuntimeException.class, () -> JsonTypeProvider.INSTANCE.getKind(null, RuntimeException::new));
+		
+		assertEquals(ValueKind.NULL, JsonTypeProvider.INSTANCE.getKind(JsonNull.INSTANCE, RuntimeException::new));
+		assertEquals(ValueKind.BOOLEAN, JsonTypeProvider.INSTANCE.getKind(new JsonPrimitive(true), RuntimeException::new));
+		assertEquals(ValueKind.NUMBER, JsonTypeProvider.INSTANCE.getKind(new JsonPrimitive(1), RuntimeException::new));
+		assertEquals(ValueKind.STRING, JsonTypeProvider.INSTANCE.getKind(new JsonPrimitive("test"), RuntimeException::new));
+		assertEquals(ValueKind.LIST, JsonTypeProvider.INSTANCE.getKind(new JsonArray(), RuntimeException::new));
+		assertEquals(ValueKind.MAP, JsonTypeProvider.INSTANCE.getKind(new JsonObject(), RuntimeException::new));
+		assertNull(JsonTypeProvider.INSTANCE.getKind(JsonTypeProvider.INSTANCE.empty(), RuntimeException::new));
+	}
+	
 	@Test
 	void getPrimitiveTypes() {
 		assertThrows(RuntimeException.class, () -> JsonTypeProvider.INSTANCE.getBoolean(null, RuntimeException::new));
@@ -173,6 +186,60 @@ class JsonTypeProviderTest {
 		assertEquals("value", mapResult.get("key").getAsJsonPrimitive().getAsString());
 	}
 	
+	@Test
+	void getMapView() {
+		assertThrows(RuntimeException.class, () -> JsonTypeProvider.INSTANCE.getMapView(null, RuntimeException::new));
+		assertThrows(RuntimeException.class, () -> JsonTypeProvider.INSTANCE.getMapView(new JsonArray(), RuntimeException::new));
+		
+		JsonObject object = new JsonObject();
+		object.add("key1", new JsonPrimitive("value1"));
+		object.add("key2", new JsonPrimitive("value2"));
+		
+		Map<String, JsonElement> view = JsonTypeProvider.INSTANCE.getMapView(object, RuntimeException::new);
+		assertEquals(2, view.size());
+		assertTrue(view.containsKey("key1"));
+		assertFalse(view.containsKey("key3"));
+		assertEquals(new JsonPrimitive("value2"), view.get("key2"));
+		assertNull(view.get("key3"));
+		assertEquals(List.of("key1", "key2"), List.copyOf(view.keySet()));
+		assertEquals(JsonTypeProvider.INSTANCE.getMap(object, RuntimeException::new), view);
+		
+		assertThrows(UnsupportedOperationException.class, () -> view.put("key3", JsonNull.INSTANCE));
+		assertThrows(UnsupportedOperationException.class, () -> view.entrySet().iterator().next().setValue(JsonNull.INSTANCE));
+		
+		object.add("key3", JsonNull.INSTANCE);
+		assertEquals(3, view.size());
+	}
+	
+	@Test
+	void createPrimitiveArrays() {
+		assertThrows(RuntimeException.class, () -> JsonTypeProvider.INSTANCE.createIntegerArray(null, RuntimeException::new));
+		assertThrows(RuntimeException.class, () -> JsonTypeProvider.INSTANCE.createLongArray(null, RuntimeException::new));
+		assertThrows(RuntimeException.class, () -> JsonTypeProvider.INSTANCE.createDoubleArray(null, RuntimeException::new));
+		
+		assertEquals(new JsonArray(List.of(new JsonPrimitive(1), new JsonPrimitive(2))), JsonTypeProvider.INSTANCE.createIntegerArray(new int[] { 1, 2 }, RuntimeException::new));
+		assertEquals(new JsonArray(List.of(new JsonPrimitive(1L), new JsonPrimitive(2L))), JsonTypeProvider.INSTANCE.createLongArray(new long[] { 1L, 2L }, RuntimeException::new));
+		assertEquals(new JsonArray(List.of(new JsonPrimitive(1.5), new JsonPrimitive(2.5))), JsonTypeProvider.INSTANCE.createDoubleArray(new double[] { 1.5, 2.5 }, RuntimeException::new));
+		assertEquals(new JsonArray(), JsonTypeProvider.INSTANCE.createIntegerArray(new int[0], RuntimeException::new));
+	}
+	
+	@Test
+	void getPrimitiveArrays() {
+		JsonArray array = new JsonArray(List.of(new JsonPrimitive(1), new JsonPrimitive(2), new JsonPrimitive(3)));
+		assertArrayEquals(new int[] { 1, 2, 3 }, JsonTypeProvider.INSTANCE.getIntegerArray(array, RuntimeException::new));
+		assertArrayEquals(new long[] { 1L, 2L, 3L }, JsonTypeProvider.INSTANCE.getLongArray(array, RuntimeException::new));
+		assertArrayEquals(new double[] { 1.0, 2.0, 3.0 }, JsonTypeProvider.INSTANCE.getDoubleArray(array, RuntimeException::new));
+		assertArrayEquals(new int[0], JsonTypeProvider.INSTANCE.getIntegerArray(new JsonArray(), RuntimeException::new));
+		
+		assertThrows(RuntimeException.class, () -> JsonTypeProvider.INSTANCE.getIntegerArray(null, RuntimeException::new));
+		assertThrows(RuntimeException.class, () -> JsonTypeProvider.INSTANCE.getIntegerArray(new JsonPrimitive(1), RuntimeException::new));
+		
+		JsonArray mixed = new JsonArray(List.of(new JsonPrimitive(1), new JsonPrimitive("a")));
+		RuntimeException exception = assertThrows(RuntimeException.class, () -> JsonTypeProvider.INSTANCE.getIntegerArray(mixed, RuntimeException::new));
+		assertTrue(exception.getMessage().contains("is not a json integer"));
+		assertThrows(RuntimeException.class, () -> JsonTypeProvider.INSTANCE.getDoubleArray(new JsonArray(List.of(new JsonArray())), RuntimeException::new));
+	}
+	
 	@Test
 	void mapOperations() {
 		JsonObject jsonObject = new JsonObject();
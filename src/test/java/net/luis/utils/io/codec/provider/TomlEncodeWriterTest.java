@@ -0,0 +1,132 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.luis.utils.io.codec.provider;
+
+import net.luis.utils.io.codec.Codec;
+import net.luis.utils.io.codec.CodecBuilder;
+import net.luis.utils.io.codec.encoder.EncoderException;
+import net.luis.utils.io.data.OutputProvider;
+import net.luis.utils.io.data.toml.*;
+import net.luis.utils.io.data.toml.TomlConfig.DateTimeStyle;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static net.luis.utils.io.codec.Codecs.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link TomlEncodeWriter}.<br>
+ *
+ * @author Luis-St
+ */
+class TomlEncodeWriterTest {
+	
+	private static final TomlConfig CONFIG = new TomlConfig(true, true, "  ", false, 3, true, 10, false, 80, true, DateTimeStyle.RFC_3339, false, StandardCharsets.UTF_8);
+	private static final Codec<TestObject> TEST_CODEC = CodecBuilder.of(
+		STRING.fieldOf("name", TestObject::name),
+		INTEGER.optionalFieldOf("count", 0, TestObject::count),
+		STRING.nullable().fieldOf("description", TestObject::description),
+		STRING.list().fieldOf("tags", TestObject::tags)
+	).create(TestObject::new);
+	private static final Codec<NestedObject> NESTED_CODEC = CodecBuilder.of(
+		TEST_CODEC.fieldOf("object", NestedObject::object),
+		TEST_CODEC.list().fieldOf("objects", NestedObject::objects),
+		STRING.fieldOf("id", NestedObject::id)
+	).create(NestedObject::new);
+	
+	private static <C> @NonNull String encodeTo(@NonNull Codec<C> codec, @Nullable C value) throws Exception {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		try (TomlEncodeWriter writer = new TomlEncodeWriter(new TomlTokenWriter(new OutputProvider(stream), CONFIG))) {
+			codec.encodeTo(writer, value);
+		}
+		return stream.toString(StandardCharsets.UTF_8);
+	}
+	
+	private static <C> @NonNull String encodeTree(@NonNull Codec<C> codec, @Nullable C value) throws Exception {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		try (TomlWriter writer = new TomlWriter(new OutputProvider(stream), CONFIG)) {
+			writer.writeToml(codec.encode(TomlTypeProvider.INSTANCE, value).getAsTomlTable());
+		}
+		return stream.toString(StandardCharsets.UTF_8);
+	}
+	
+	@Test
+	void constructor() {
+		assertThrows(NullPointerException.class, () -> new TomlEncodeWriter(null));
+		assertEquals(TomlTypeProvider.INSTANCE, new TomlEncodeWriter(new TomlTokenWriter(new OutputProvider(OutputStream.nullOutputStream()))).getProvider());
+	}
+	
+	@Test
+	void encodeToGroupMatchesTreeEncoding() throws Exception {
+		TestObject object = new TestObject("test", 5, "text", List.of("a", "b"));
+		assertEquals(encodeTree(TEST_CODEC, object), encodeTo(TEST_CODEC, object));
+		
+		TestObject nullDescription = new TestObject("test", 5, null, List.of());
+		assertEquals(encodeTree(TEST_CODEC, nullDescription), encodeTo(TEST_CODEC, nullDescription));
+		
+		NestedObject nested = new NestedObject(object, List.of(object, nullDescription), "id");
+		assertEquals(encodeTree(NESTED_CODEC, nested), encodeTo(NESTED_CODEC, nested));
+	}
+	
+	@Test
+	void encodeToRoundTrip() throws Exception {
+		TestObject object = new TestObject("round", 42, "trip", List.of("x", "y", "z"));
+		String toml = encodeTo(TEST_CODEC, object);
+		assertEquals(object, TEST_CODEC.decode(TomlTypeProvider.INSTANCE, new TomlReader(toml, CONFIG).readToml()));
+	}
+	
+	@Test
+	void encodeToCollections() throws Exception {
+		assertThrows(EncoderException.class, () -> encodeTo(INTEGER.list(), List.of(1, 2, 3)));
+		
+		Map<String, List<Integer>> map = new LinkedHashMap<>();
+		map.put("a", List.of(1));
+		map.put("b", List.of());
+		assertEquals(encodeTree(map(INTEGER.list()), map), encodeTo(map(INTEGER.list()), map));
+		assertEquals("a = [1]" + System.lineSeparator() + "b = []" + System.lineSeparator(), encodeTo(map(INTEGER.list()), map));
+	}
+	
+	@Test
+	void encodeToOptionalOmitsEmpty() throws Exception {
+		Codec<Optional<String>> codec = STRING.optional();
+		assertEquals("", encodeTo(codec, Optional.empty()));
+		assertThrows(EncoderException.class, () -> encodeTo(codec, Optional.of("value")));
+		
+		Map<String, Optional<String>> map = new LinkedHashMap<>();
+		map.put("a", Optional.of("value"));
+		map.put("b", Optional.empty());
+		assertEquals(encodeTree(map(STRING), Map.of("a", "value")), encodeTo(map(codec), map));
+	}
+	
+	@Test
+	void encodeToWithErrors() {
+		assertThrows(NullPointerException.class, () -> TEST_CODEC.encodeTo(null, new TestObject("a", 1, null, List.of())));
+		assertThrows(EncoderException.class, () -> encodeTo(TEST_CODEC, null));
+		assertThrows(EncoderException.class, () -> encodeTo(TEST_CODEC, new TestObject(null, 1, null, List.of())));
+	}
+	
+	private record TestObject(String name, int count, @Nullable String description, @NonNull List<String> tags) {}
+	
+	private record NestedObject(@NonNull TestObject object, @NonNull List<TestObject> objects, @NonNull String id) {}
+}
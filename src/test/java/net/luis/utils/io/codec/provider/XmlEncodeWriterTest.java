@@ -0,0 +1,132 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.luis.utils.io.codec.provider;
+
+import net.luis.utils.io.codec.Codec;
+import net.luis.utils.io.codec.CodecBuilder;
+import net.luis.utils.io.codec.encoder.EncoderException;
+import net.luis.utils.io.data.OutputProvider;
+import net.luis.utils.io.data.xml.*;
+import net.luis.utils.util.Version;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static net.luis.utils.io.codec.Codecs.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link XmlEncodeWriter}.<br>
+ *
+ * @author Luis-St
+ */
+class XmlEncodeWriterTest {
+	
+	private static final XmlConfig CONFIG = new XmlConfig(false, true, "\t", false, false, StandardCharsets.UTF_8);
+	private static final Codec<TestObject> TEST_CODEC = CodecBuilder.of(
+		STRING.fieldOf("name", TestObject::name),
+		INTEGER.optionalFieldOf("count", 0, TestObject::count),
+		STRING.nullable().fieldOf("description", TestObject::description),
+		STRING.list().fieldOf("tags", TestObject::tags)
+	).create(TestObject::new);
+	
+	private static <C> @NonNull String encodeTo(@NonNull Codec<C> codec, @Nullable C value) throws Exception {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		try (XmlEncodeWriter writer = new XmlEncodeWriter(new XmlTokenWriter(new OutputProvider(stream), CONFIG))) {
+			codec.encodeTo(writer, value);
+		}
+		return stream.toString(StandardCharsets.UTF_8);
+	}
+	
+	private static <C> @NonNull String encodeTree(@NonNull Codec<C> codec, @Nullable C value) throws Exception {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		try (XmlWriter writer = new XmlWriter(new OutputProvider(stream), CONFIG)) {
+			writer.writeXml(codec.encode(XmlTypeProvider.INSTANCE, value));
+		}
+		return stream.toString(StandardCharsets.UTF_8);
+	}
+	
+	@Test
+	void constructor() {
+		assertThrows(NullPointerException.class, () -> new XmlEncodeWriter(null));
+		assertEquals(XmlTypeProvider.INSTANCE, new XmlEncodeWriter(new XmlTokenWriter(new OutputProvider(OutputStream.nullOutputStream()))).getProvider());
+	}
+	
+	@Test
+	void encodeToGroupMatchesTreeEncoding() throws Exception {
+		TestObject object = new TestObject("test", 5, "text", List.of("a", "b"));
+		assertEquals(encodeTree(TEST_CODEC, object), encodeTo(TEST_CODEC, object));
+		
+		TestObject nullDescription = new TestObject("test", 5, null, List.of());
+		assertEquals(encodeTree(TEST_CODEC, nullDescription), encodeTo(TEST_CODEC, nullDescription));
+	}
+	
+	@Test
+	void encodeToCollections() throws Exception {
+		assertEquals(encodeTree(INTEGER.list(), List.of(1, 2, 3)), encodeTo(INTEGER.list(), List.of(1, 2, 3)));
+		assertEquals(encodeTree(INTEGER.list().list(), List.of(List.of(1), List.of())), encodeTo(INTEGER.list().list(), List.of(List.of(1), List.of())));
+		
+		Map<String, Integer> map = new LinkedHashMap<>();
+		map.put("a", 1);
+		map.put("1", 2);
+		assertEquals(encodeTree(map(INTEGER), map), encodeTo(map(INTEGER), map));
+	}
+	
+	@Test
+	void encodeToOptionalOmitsEmpty() throws Exception {
+		Codec<Optional<String>> codec = STRING.optional();
+		assertEquals("", encodeTo(codec, Optional.empty()));
+		assertEquals(encodeTree(STRING, "value"), encodeTo(codec, Optional.of("value")));
+		assertEquals(encodeTree(STRING.list(), List.of("a")), encodeTo(codec.list(), List.of(Optional.of("a"), Optional.empty())));
+	}
+	
+	@Test
+	void encodeToPartialList() throws Exception {
+		Codec<List<Integer>> codec = INTEGER.list();
+		assertThrows(EncoderException.class, () -> encodeTo(codec, Arrays.asList(1, null, 3)));
+		assertEquals(encodeTree(INTEGER.list(), List.of(1, 3)), encodeTo(INTEGER.list().partial(), Arrays.asList(1, null, 3)));
+	}
+	
+	@Test
+	void encodeToStrictRequiresDeclaration() throws Exception {
+		XmlConfig strict = new XmlConfig(true, true, "\t", false, false, StandardCharsets.UTF_8);
+		assertThrows(EncoderException.class, () -> INTEGER.list().encodeTo(new XmlEncodeWriter(new XmlTokenWriter(new OutputProvider(OutputStream.nullOutputStream()), strict)), List.of(1)));
+		
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		XmlTokenWriter tokenWriter = new XmlTokenWriter(new OutputProvider(stream), strict);
+		tokenWriter.writeDeclaration(new XmlDeclaration(Version.of(1, 0)));
+		try (XmlEncodeWriter writer = new XmlEncodeWriter(tokenWriter)) {
+			INTEGER.list().encodeTo(writer, List.of(1));
+		}
+		assertEquals(encodeTree(INTEGER.list(), List.of(1)), stream.toString(StandardCharsets.UTF_8));
+	}
+	
+	@Test
+	void encodeToWithErrors() {
+		assertThrows(NullPointerException.class, () -> TEST_CODEC.encodeTo(null, new TestObject("a", 1, null, List.of())));
+		assertThrows(EncoderException.class, () -> encodeTo(TEST_CODEC, null));
+		assertThrows(EncoderException.class, () -> encodeTo(TEST_CODEC, new TestObject(null, 1, null, List.of())));
+	}
+	
+	private record TestObject(String name, int count, @Nullable String description, @NonNull List<String> tags) {}
+}
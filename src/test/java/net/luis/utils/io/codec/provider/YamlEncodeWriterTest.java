@@ -0,0 +1,135 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.luis.utils.io.codec.provider;
+
+import net.luis.utils.io.codec.Codec;
+import net.luis.utils.io.codec.CodecBuilder;
+import net.luis.utils.io.codec.encoder.EncoderException;
+import net.luis.utils.io.data.OutputProvider;
+import net.luis.utils.io.data.yaml.*;
+import net.luis.utils.io.data.yaml.YamlConfig.NullStyle;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static net.luis.utils.io.codec.Codecs.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link YamlEncodeWriter}.<br>
+ *
+ * @author Luis-St
+ */
+class YamlEncodeWriterTest {
+	
+	private static final YamlConfig CONFIG = new YamlConfig(true, true, "  ", true, false, NullStyle.NULL, true, false, StandardCharsets.UTF_8);
+	private static final Codec<TestObject> TEST_CODEC = CodecBuilder.of(
+		STRING.fieldOf("name", TestObject::name),
+		INTEGER.optionalFieldOf("count", 0, TestObject::count),
+		STRING.nullable().fieldOf("description", TestObject::description),
+		STRING.list().fieldOf("tags", TestObject::tags)
+	).create(TestObject::new);
+	private static final Codec<NestedObject> NESTED_CODEC = CodecBuilder.of(
+		TEST_CODEC.fieldOf("object", NestedObject::object),
+		TEST_CODEC.list().fieldOf("objects", NestedObject::objects),
+		STRING.fieldOf("id", NestedObject::id)
+	).create(NestedObject::new);
+	
+	private static <C> @NonNull String encodeTo(@NonNull Codec<C> codec, @Nullable C value) throws Exception {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		try (YamlEncodeWriter writer = new YamlEncodeWriter(new YamlTokenWriter(new OutputProvider(stream), CONFIG))) {
+			codec.encodeTo(writer, value);
+		}
+		return stream.toString(StandardCharsets.UTF_8);
+	}
+	
+	private static <C> @NonNull String encodeTree(@NonNull Codec<C> codec, @Nullable C value) throws Exception {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		try (YamlWriter writer = new YamlWriter(new OutputProvider(stream), CONFIG)) {
+			writer.writeYaml(codec.encode(YamlTypeProvider.INSTANCE, value));
+		}
+		return stream.toString(StandardCharsets.UTF_8);
+	}
+	
+	@Test
+	void constructor() {
+		assertThrows(NullPointerException.class, () -> new YamlEncodeWriter(null));
+		assertEquals(YamlTypeProvider.INSTANCE, new YamlEncodeWriter(new YamlTokenWriter(new OutputProvider(OutputStream.nullOutputStream()))).getProvider());
+	}
+	
+	@Test
+	void encodeToGroupMatchesTreeEncoding() throws Exception {
+		TestObject object = new TestObject("test", 5, "text", List.of("a", "b"));
+		assertEquals(encodeTree(TEST_CODEC, object), encodeTo(TEST_CODEC, object));
+		
+		TestObject nullDescription = new TestObject("test", 5, null, List.of());
+		assertEquals(encodeTree(TEST_CODEC, nullDescription), encodeTo(TEST_CODEC, nullDescription));
+		
+		NestedObject nested = new NestedObject(object, List.of(object, nullDescription), "id");
+		assertEquals(encodeTree(NESTED_CODEC, nested), encodeTo(NESTED_CODEC, nested));
+	}
+	
+	@Test
+	void encodeToRoundTrip() throws Exception {
+		TestObject object = new TestObject("round", 42, "trip", List.of("x", "y", "z"));
+		String yaml = encodeTo(TEST_CODEC, object);
+		assertEquals(object, TEST_CODEC.decode(YamlTypeProvider.INSTANCE, new YamlReader(yaml, CONFIG).readYaml()));
+	}
+	
+	@Test
+	void encodeToCollections() throws Exception {
+		assertEquals(encodeTree(INTEGER.list(), List.of(1, 2, 3)), encodeTo(INTEGER.list(), List.of(1, 2, 3)));
+		assertEquals(encodeTree(INTEGER.list().list(), List.of(List.of(1), List.of())), encodeTo(INTEGER.list().list(), List.of(List.of(1), List.of())));
+		
+		Map<String, Integer> map = new LinkedHashMap<>();
+		map.put("a", 1);
+		map.put("b", 2);
+		assertEquals("a: 1" + System.lineSeparator() + "b: 2", encodeTo(map(INTEGER), map));
+	}
+	
+	@Test
+	void encodeToOptionalOmitsEmpty() throws Exception {
+		Codec<Optional<String>> codec = STRING.optional();
+		assertEquals("", encodeTo(codec, Optional.empty()));
+		assertEquals(encodeTree(STRING, "value"), encodeTo(codec, Optional.of("value")));
+		assertEquals(encodeTree(STRING.list(), List.of("a")), encodeTo(codec.list(), List.of(Optional.of("a"), Optional.empty())));
+	}
+	
+	@Test
+	void encodeToPartialList() throws Exception {
+		Codec<List<Integer>> codec = INTEGER.list();
+		assertThrows(EncoderException.class, () -> encodeTo(codec, Arrays.asList(1, null, 3)));
+		assertEquals(encodeTree(INTEGER.list(), List.of(1, 3)), encodeTo(INTEGER.list().partial(), Arrays.asList(1, null, 3)));
+	}
+	
+	@Test
+	void encodeToWithErrors() {
+		assertThrows(NullPointerException.class, () -> TEST_CODEC.encodeTo(null, new TestObject("a", 1, null, List.of())));
+		assertThrows(EncoderException.class, () -> encodeTo(TEST_CODEC, null));
+		assertThrows(EncoderException.class, () -> encodeTo(TEST_CODEC, new TestObject(null, 1, null, List.of())));
+	}
+	
+	private record TestObject(String name, int count, @Nullable String description, @NonNull List<String> tags) {}
+	
+	private record NestedObject(@NonNull TestObject object, @NonNull List<TestObject> objects, @NonNull String id) {}
+}
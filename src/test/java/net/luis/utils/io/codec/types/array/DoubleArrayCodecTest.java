@@ -21,10 +21,13 @@ package net.luis.utils.io.codec.types.array;
 import net.luis.utils.io.codec.Codec;
 import net.luis.utils.io.codec.decoder.DecoderException;
 import net.luis.utils.io.codec.encoder.EncoderException;
+import net.luis.utils.io.codec.provider.JavaTypeProvider;
 import net.luis.utils.io.codec.provider.JsonTypeProvider;
 import net.luis.utils.io.data.json.*;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -148,6 +151,30 @@ class DoubleArrayCodecTest {
 		assertThrows(DecoderException.class, () -> codec.decode(typeProvider, typeProvider.empty(), new JsonPrimitive(42.5)));
 	}
 	
+	@Test
+	void decodeWithInvalidElement() {
+		JsonTypeProvider typeProvider = JsonTypeProvider.INSTANCE;
+		Codec<double[]> codec = new DoubleArrayCodec();
+		JsonArray array = new JsonArray();
+		array.add(1);
+		array.add("invalid");
+		array.add(3);
+		
+		DecoderException exception = assertThrows(DecoderException.class, () -> codec.decode(typeProvider, typeProvider.empty(), array));
+		assertTrue(exception.getMessage().startsWith("Invalid element at index 1: "));
+		assertSame(codec, exception.getDecoder());
+	}
+	
+	@Test
+	void decodeWithInvalidElementUsingDefaultProvider() {
+		JavaTypeProvider typeProvider = JavaTypeProvider.INSTANCE;
+		Codec<double[]> codec = new DoubleArrayCodec();
+		
+		DecoderException exception = assertThrows(DecoderException.class, () -> codec.decode(typeProvider, typeProvider.empty(), List.of(1.0, 2.0, "invalid")));
+		assertTrue(exception.getMessage().startsWith("Invalid element at index 2: "));
+		assertSame(codec, exception.getDecoder());
+	}
+	
 	@Test
 	void toStringRepresentation() {
 		DoubleArrayCodec codec = new DoubleArrayCodec();
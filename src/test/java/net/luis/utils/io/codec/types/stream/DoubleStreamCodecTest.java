@@ -21,6 +21,7 @@ package net.luis.utils.io.codec.types.stream;
 import net.luis.utils.io.codec.Codec;
 import net.luis.utils.io.codec.decoder.DecoderException;
 import net.luis.utils.io.codec.encoder.EncoderException;
+import net.luis.utils.io.codec.provider.JavaTypeProvider;
 import net.luis.utils.io.codec.provider.JsonTypeProvider;
 import net.luis.utils.io.data.json.*;
 import org.junit.jupiter.api.Test;
@@ -176,6 +177,30 @@ class DoubleStreamCodecTest {
 		assertThrows(DecoderException.class, () -> codec.decode(typeProvider, typeProvider.empty(), new JsonPrimitive(42.0)));
 	}
 	
+	@Test
+	void decodeWithInvalidElement() {
+		JsonTypeProvider typeProvider = JsonTypeProvider.INSTANCE;
+		Codec<DoubleStream> codec = new DoubleStreamCodec();
+		JsonArray array = new JsonArray();
+		array.add(1);
+		array.add("invalid");
+		array.add(3);
+		
+		DecoderException exception = assertThrows(DecoderException.class, () -> codec.decode(typeProvider, typeProvider.empty(), array));
+		assertTrue(exception.getMessage().startsWith("Invalid element at index 1: "));
+		assertSame(codec, exception.getDecoder());
+	}
+	
+	@Test
+	void decodeWithInvalidElementUsingDefaultProvider() {
+		JavaTypeProvider typeProvider = JavaTypeProvider.INSTANCE;
+		Codec<DoubleStream> codec = new DoubleStreamCodec();
+		
+		DecoderException exception = assertThrows(DecoderException.class, () -> codec.decode(typeProvider, typeProvider.empty(), List.of(1.0, 2.0, "invalid")));
+		assertTrue(exception.getMessage().startsWith("Invalid element at index 2: "));
+		assertSame(codec, exception.getDecoder());
+	}
+	
 	@Test
 	void toStringRepresentation() {
 		DoubleStreamCodec codec = new DoubleStreamCodec();
@@ -21,6 +21,7 @@ package net.luis.utils.io.codec.types.stream;
 import net.luis.utils.io.codec.Codec;
 import net.luis.utils.io.codec.decoder.DecoderException;
 import net.luis.utils.io.codec.encoder.EncoderException;
+import net.luis.utils.io.codec.provider.JavaTypeProvider;
 import net.luis.utils.io.codec.provider.JsonTypeProvider;
 import net.luis.utils.io.data.json.*;
 import org.junit.jupiter.api.Test;
@@ -157,6 +158,30 @@ class IntStreamCodecTest {
 		assertThrows(DecoderException.class, () -> codec.decode(typeProvider, typeProvider.empty(), new JsonPrimitive(42)));
 	}
 	
+	@Test
+	void decodeWithInvalidElement() {
+		JsonTypeProvider typeProvider = JsonTypeProvider.INSTANCE;
+		Codec<IntStream> codec = new IntStreamCodec();
+		JsonArray array = new JsonArray();
+		array.add(1);
+		array.add("invalid");
+		array.add(3);
+		
+		DecoderException exception = assertThrows(DecoderException.class, () -> codec.decode(typeProvider, typeProvider.empty(), array));
+		assertTrue(exception.getMessage().startsWith("Invalid element at index 1: "));
+		assertSame(codec, exception.getDecoder());
+	}
+	
+	@Test
+	void decodeWithInvalidElementUsingDefaultProvider() {
+		JavaTypeProvider typeProvider = JavaTypeProvider.INSTANCE;
+		Codec<IntStream> codec = new IntStreamCodec();
+		
+		DecoderException exception = assertThrows(DecoderException.class, () -> codec.decode(typeProvider, typeProvider.empty(), List.of(1, 2, "invalid")));
+		assertTrue(exception.getMessage().startsWith("Invalid element at index 2: "));
+		assertSame(codec, exception.getDecoder());
+	}
+	
 	@Test
 	void toStringRepresentation() {
 		IntStreamCodec codec = new IntStreamCodec();
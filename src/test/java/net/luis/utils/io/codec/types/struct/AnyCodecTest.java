@@ -22,8 +22,8 @@ import net.luis.utils.io.codec.Codec;
 import net.luis.utils.io.codec.decoder.DecoderException;
 import net.luis.utils.io.codec.encoder.EncoderException;
 import net.luis.utils.io.codec.provider.JsonTypeProvider;
-import net.luis.utils.io.data.json.JsonElement;
-import net.luis.utils.io.data.json.JsonPrimitive;
+import net.luis.utils.io.codec.provider.ValueKind;
+import net.luis.utils.io.data.json.*;
 import org.junit.jupiter.api.Test;
 
 import java.util.*;
@@ -169,6 +169,34 @@ class AnyCodecTest {
 		assertThrows(DecoderException.class, () -> codec.decode(typeProvider, typeProvider.empty(), new JsonPrimitive("not-a-number")));
 	}
 	
+	@Test
+	void decodeDispatchesByKind() throws DecoderException {
+		JsonTypeProvider typeProvider = JsonTypeProvider.INSTANCE;
+		Codec<Object> codec = new AnyCodec<>(STRING, INTEGER, BOOLEAN, INTEGER.list());
+		
+		assertEquals("42", codec.decode(typeProvider, typeProvider.empty(), new JsonPrimitive("42")));
+		assertEquals(42, codec.decode(typeProvider, typeProvider.empty(), new JsonPrimitive(42)));
+		assertEquals(true, codec.decode(typeProvider, typeProvider.empty(), new JsonPrimitive(true)));
+		assertEquals(List.of(1, 2), codec.decode(typeProvider, typeProvider.empty(), new JsonArray(List.of(new JsonPrimitive(1), new JsonPrimitive(2)))));
+	}
+	
+	@Test
+	void decodeWithoutCodecForKind() {
+		JsonTypeProvider typeProvider = JsonTypeProvider.INSTANCE;
+		Codec<Number> codec = new AnyCodec<>(INTEGER, DOUBLE);
+		
+		DecoderException exception = assertThrows(DecoderException.class, () -> codec.decode(typeProvider, typeProvider.empty(), new JsonObject()));
+		assertTrue(exception.getMessage().contains("No codec is able to decode a value of kind MAP"));
+	}
+	
+	@Test
+	void decodableKinds() {
+		assertEquals(EnumSet.of(ValueKind.NUMBER), new AnyCodec<>(INTEGER, DOUBLE).getDecodableKinds());
+		assertEquals(EnumSet.of(ValueKind.NUMBER, ValueKind.STRING), new AnyCodec<>(INTEGER, STRING).getDecodableKinds());
+		assertEquals(EnumSet.of(ValueKind.NULL, ValueKind.NUMBER, ValueKind.LIST), new AnyCodec<Object>(INTEGER.nullable(), STRING.list()).getDecodableKinds());
+		assertEquals(EnumSet.allOf(ValueKind.class), new AnyCodec<>(INTEGER, STRING.xmap(String::valueOf, Integer::parseInt)).getDecodableKinds());
+	}
+	
 	@Test
 	void roundTripEncodingDecoding() throws Exception {
 		JsonTypeProvider typeProvider = JsonTypeProvider.INSTANCE;
@@ -21,7 +21,9 @@ package net.luis.utils.io.codec.types.struct;
 import net.luis.utils.io.codec.Codec;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import static net.luis.utils.io.codec.Codecs.*;
@@ -183,4 +185,36 @@ class DiscriminatedCodecProviderTest {
 		assertNotNull(provider);
 		assertNull(provider.getCodec("any"));
 	}
+	
+	@Test
+	void createWithMapCopiesMap() {
+		Map<String, Codec<? extends Number>> map = new HashMap<>(Map.of("int", INTEGER));
+		
+		DiscriminatedCodecProvider<Number, String> provider = DiscriminatedCodecProvider.create(Number.class, map);
+		map.put("long", LONG);
+		
+		assertEquals(INTEGER, provider.getCodec("int"));
+		assertNull(provider.getCodec("long"));
+	}
+	
+	@Test
+	void cachedResolvesCodecOnce() {
+		AtomicInteger calls = new AtomicInteger();
+		Function<String, Codec<? extends Number>> function = type -> {
+			calls.incrementAndGet();
+			return "int".equals(type) ? INTEGER : null;
+		};
+		
+		DiscriminatedCodecProvider<Number, String> provider = DiscriminatedCodecProvider.create(Number.class, function).cached();
+		
+		assertEquals(Number.class, provider.getCodecType());
+		assertEquals(INTEGER, provider.getCodec("int"));
+		assertEquals(INTEGER, provider.getCodec("int"));
+		assertEquals(1, calls.get());
+		
+		assertNull(provider.getCodec("unknown"));
+		assertNull(provider.getCodec("unknown"));
+		assertEquals(3, calls.get());
+		assertThrows(NullPointerException.class, () -> provider.getCodec(null));
+	}
 }
@@ -230,6 +230,65 @@ class ListCodecTest {
 		assertThrows(DecoderException.class, () -> codec.decode(typeProvider, typeProvider.empty(), array));
 	}
 	
+	@Test
+	void parallelConfiguration() {
+		ListCodec<Integer> codec = new ListCodec<>(INTEGER);
+		assertFalse(codec.isParallel());
+		assertEquals(0, codec.getParallelThreshold());
+		
+		assertEquals(ListCodec.DEFAULT_PARALLEL_THRESHOLD, codec.parallel().getParallelThreshold());
+		assertEquals(16, codec.parallel(16).getParallelThreshold());
+		assertTrue(codec.parallel(16).isParallel());
+		assertTrue(codec.parallel(16).partial().isParallel());
+		assertFalse(codec.parallel(16).sequential().isParallel());
+		assertThrows(IllegalArgumentException.class, () -> codec.parallel(0));
+	}
+	
+	@Test
+	void decodeParallel() throws DecoderException {
+		JsonTypeProvider typeProvider = JsonTypeProvider.INSTANCE;
+		ListCodec<Integer> codec = new ListCodec<>(INTEGER);
+		
+		JsonArray array = new JsonArray();
+		for (int i = 0; i < 5000; i++) {
+			array.add(new JsonPrimitive(i));
+		}
+		
+		assertEquals(codec.decode(typeProvider, typeProvider.empty(), array), codec.parallel(16).decode(typeProvider, typeProvider.empty(), array));
+	}
+	
+	@Test
+	void decodeParallelWithInvalidElement() {
+		JsonTypeProvider typeProvider = JsonTypeProvider.INSTANCE;
+		ListCodec<Integer> codec = new ListCodec<Integer>(INTEGER).parallel(16);
+		
+		JsonArray array = new JsonArray();
+		for (int i = 0; i < 5000; i++) {
+			array.add(i == 2500 ? new JsonPrimitive("invalid") : new JsonPrimitive(i));
+		}
+		
+		assertThrows(DecoderException.class, () -> codec.decode(typeProvider, typeProvider.empty(), array));
+	}
+	
+	@Test
+	void decodeParallelPartial() throws DecoderException {
+		JsonTypeProvider typeProvider = JsonTypeProvider.INSTANCE;
+		ListCodec<Integer> codec = new ListCodec<Integer>(INTEGER).partial().parallel(16);
+		
+		JsonArray array = new JsonArray();
+		List<Integer> expected = Lists.newArrayList();
+		for (int i = 0; i < 5000; i++) {
+			if (i % 100 == 0) {
+				array.add(JsonNull.INSTANCE);
+			} else {
+				array.add(new JsonPrimitive(i));
+				expected.add(i);
+			}
+		}
+		
+		assertEquals(expected, codec.decode(typeProvider, typeProvider.empty(), array));
+	}
+	
 	@Test
 	void toStringRepresentation() {
 		ListCodec<Integer> codec = new ListCodec<>(INTEGER);
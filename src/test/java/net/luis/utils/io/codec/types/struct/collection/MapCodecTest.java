@@ -246,6 +246,62 @@ class MapCodecTest {
 		assertThrows(DecoderException.class, () -> codec.decode(typeProvider, typeProvider.empty(), object));
 	}
 	
+	@Test
+	void parallelConfiguration() {
+		MapCodec<Integer, Integer> codec = new MapCodec<>(INTEGER, INTEGER);
+		assertFalse(codec.isParallel());
+		assertEquals(0, codec.getParallelThreshold());
+		
+		assertEquals(MapCodec.DEFAULT_PARALLEL_THRESHOLD, codec.parallel().getParallelThreshold());
+		assertEquals(16, codec.parallel(16).getParallelThreshold());
+		assertTrue(codec.parallel(16).partial().isParallel());
+		assertFalse(codec.parallel(16).sequential().isParallel());
+		assertThrows(IllegalArgumentException.class, () -> codec.parallel(0));
+	}
+	
+	@Test
+	void decodeParallel() throws DecoderException {
+		JsonTypeProvider typeProvider = JsonTypeProvider.INSTANCE;
+		MapCodec<Integer, Integer> codec = new MapCodec<>(INTEGER, INTEGER);
+		
+		JsonObject object = new JsonObject();
+		for (int i = 0; i < 5000; i++) {
+			object.add(String.valueOf(i), new JsonPrimitive(i * 2));
+		}
+		
+		Map<Integer, Integer> result = codec.parallel(16).decode(typeProvider, typeProvider.empty(), object);
+		assertEquals(codec.decode(typeProvider, typeProvider.empty(), object), result);
+	}
+	
+	@Test
+	void decodeParallelWithInvalidEntry() {
+		JsonTypeProvider typeProvider = JsonTypeProvider.INSTANCE;
+		MapCodec<Integer, Integer> codec = new MapCodec<>(INTEGER, INTEGER).parallel(16);
+		
+		JsonObject object = new JsonObject();
+		for (int i = 0; i < 5000; i++) {
+			object.add(String.valueOf(i), i == 2500 ? new JsonPrimitive("invalid") : new JsonPrimitive(i));
+		}
+		
+		assertThrows(DecoderException.class, () -> codec.decode(typeProvider, typeProvider.empty(), object));
+	}
+	
+	@Test
+	void decodeParallelPartial() throws DecoderException {
+		JsonTypeProvider typeProvider = JsonTypeProvider.INSTANCE;
+		MapCodec<Integer, Integer> codec = new MapCodec<>(INTEGER, INTEGER).partial().parallel(16);
+		
+		JsonObject object = new JsonObject();
+		for (int i = 0; i < 5000; i++) {
+			object.add(String.valueOf(i), i % 100 == 0 ? JsonNull.INSTANCE : new JsonPrimitive(i));
+		}
+		
+		Map<Integer, Integer> result = codec.decode(typeProvider, typeProvider.empty(), object);
+		assertEquals(4950, result.size());
+		assertFalse(result.containsKey(100));
+		assertEquals(101, result.get(101));
+	}
+	
 	@Test
 	void toStringRepresentation() {
 		MapCodec<Integer, Boolean> codec = new MapCodec<>(INTEGER, BOOLEAN);
@@ -0,0 +1,99 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.binary;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link BinaryArray}.<br>
+ *
+ * @author Luis-St
+ */
+class BinaryArrayTest {
+	
+	@Test
+	void constructorValidation() {
+		assertThrows(NullPointerException.class, () -> new BinaryArray(null));
+		assertDoesNotThrow(() -> new BinaryArray());
+		assertDoesNotThrow(() -> new BinaryArray(List.of()));
+	}
+	
+	@Test
+	void addAndGet() {
+		BinaryArray array = new BinaryArray();
+		assertTrue(array.isEmpty());
+		
+		array.add(new BinaryPrimitive(1));
+		array.add(null);
+		assertEquals(2, array.size());
+		assertEquals(new BinaryPrimitive(1), array.get(0));
+		assertEquals(BinaryNull.INSTANCE, array.get(1));
+		assertThrows(IndexOutOfBoundsException.class, () -> array.get(2));
+	}
+	
+	@Test
+	void addAll() {
+		BinaryArray array = new BinaryArray(List.of(new BinaryPrimitive(1)));
+		assertThrows(NullPointerException.class, () -> array.addAll(null));
+		
+		array.addAll(new BinaryArray(List.of(new BinaryPrimitive(2), new BinaryPrimitive(3))));
+		assertEquals(List.of(new BinaryPrimitive(1), new BinaryPrimitive(2), new BinaryPrimitive(3)), array.getElements());
+	}
+	
+	@Test
+	void remove() {
+		BinaryArray array = new BinaryArray(List.of(new BinaryPrimitive(1), new BinaryPrimitive(2)));
+		assertEquals(new BinaryPrimitive(1), array.remove(0));
+		assertEquals(1, array.size());
+		assertThrows(IndexOutOfBoundsException.class, () -> array.remove(1));
+	}
+	
+	@Test
+	void iterator() {
+		BinaryArray array = new BinaryArray(List.of(new BinaryPrimitive(1), new BinaryPrimitive(2)));
+		int count = 0;
+		for (BinaryElement _ : array) {
+			count++;
+		}
+		assertEquals(2, count);
+		assertThrows(UnsupportedOperationException.class, () -> {
+			var iterator = array.iterator();
+			iterator.next();
+			iterator.remove();
+		});
+	}
+	
+	@Test
+	void getElementsIsUnmodifiable() {
+		BinaryArray array = new BinaryArray(List.of(new BinaryPrimitive(1)));
+		assertThrows(UnsupportedOperationException.class, () -> array.getElements().add(BinaryNull.INSTANCE));
+	}
+	
+	@Test
+	void equalsAndToString() {
+		BinaryArray array = new BinaryArray(List.of(new BinaryPrimitive(1), new BinaryPrimitive("a")));
+		assertEquals(array, new BinaryArray(List.of(new BinaryPrimitive(1), new BinaryPrimitive("a"))));
+		assertNotEquals(array, new BinaryArray());
+		assertEquals("[1, \"a\"]", array.toString());
+	}
+}
@@ -0,0 +1,48 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.binary;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link BinaryConfig}.<br>
+ *
+ * @author Luis-St
+ */
+class BinaryConfigTest {
+	
+	@Test
+	void constructorValidation() {
+		assertThrows(IllegalArgumentException.class, () -> new BinaryConfig(true, 0));
+		assertThrows(IllegalArgumentException.class, () -> new BinaryConfig(false, -1));
+		assertDoesNotThrow(() -> new BinaryConfig(false, 1));
+		assertThrows(IllegalArgumentException.class, () -> new BinaryConfig(true, 1, 0));
+		assertDoesNotThrow(() -> new BinaryConfig(true, 1, 1));
+		assertEquals(BinaryConfig.DEFAULT_MAX_DEPTH, new BinaryConfig(true, 1).maxDepth());
+	}
+	
+	@Test
+	void defaultConfig() {
+		assertTrue(BinaryConfig.DEFAULT.keyDictionary());
+		assertEquals(Integer.MAX_VALUE, BinaryConfig.DEFAULT.maxLength());
+		assertEquals(BinaryConfig.DEFAULT_MAX_DEPTH, BinaryConfig.DEFAULT.maxDepth());
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.binary;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link BinaryObject}.<br>
+ *
+ * @author Luis-St
+ */
+class BinaryObjectTest {
+	
+	@Test
+	void constructorValidation() {
+		assertThrows(NullPointerException.class, () -> new BinaryObject(null));
+		assertDoesNotThrow(() -> new BinaryObject());
+		assertDoesNotThrow(() -> new BinaryObject(Map.of()));
+	}
+	
+	@Test
+	void addAndGet() {
+		BinaryObject object = new BinaryObject();
+		assertTrue(object.isEmpty());
+		assertThrows(NullPointerException.class, () -> object.add(null, BinaryNull.INSTANCE));
+		
+		assertNull(object.add("a", new BinaryPrimitive(1)));
+		assertNull(object.add("b", null));
+		assertEquals(new BinaryPrimitive(1), object.add("a", new BinaryPrimitive(2)));
+		
+		assertEquals(2, object.size());
+		assertTrue(object.containsKey("a"));
+		assertFalse(object.containsKey("c"));
+		assertEquals(new BinaryPrimitive(2), object.get("a"));
+		assertEquals(BinaryNull.INSTANCE, object.get("b"));
+		assertNull(object.get("c"));
+	}
+	
+	@Test
+	void addAllAndRemove() {
+		BinaryObject object = new BinaryObject();
+		object.add("a", new BinaryPrimitive(1));
+		assertThrows(NullPointerException.class, () -> object.addAll(null));
+		
+		BinaryObject other = new BinaryObject();
+		other.add("a", new BinaryPrimitive(2));
+		other.add("b", new BinaryPrimitive(3));
+		object.addAll(other);
+		assertEquals(new BinaryPrimitive(2), object.get("a"));
+		assertEquals(new BinaryPrimitive(3), object.get("b"));
+		
+		assertEquals(new BinaryPrimitive(3), object.remove("b"));
+		assertNull(object.remove("b"));
+		assertEquals(1, object.size());
+	}
+	
+	@Test
+	void insertionOrder() {
+		BinaryObject object = new BinaryObject();
+		object.add("c", BinaryNull.INSTANCE);
+		object.add("a", BinaryNull.INSTANCE);
+		object.add("b", BinaryNull.INSTANCE);
+		
+		assertEquals(List.of("c", "a", "b"), new ArrayList<>(object.keySet()));
+		assertThrows(UnsupportedOperationException.class, () -> object.keySet().remove("a"));
+		assertThrows(UnsupportedOperationException.class, () -> object.entrySet().clear());
+	}
+	
+	@Test
+	void equalsAndToString() {
+		BinaryObject object = new BinaryObject();
+		object.add("a", new BinaryPrimitive(1));
+		object.add("b", new BinaryPrimitive("x"));
+		
+		BinaryObject other = new BinaryObject();
+		other.add("a", new BinaryPrimitive(1));
+		other.add("b", new BinaryPrimitive("x"));
+		
+		assertEquals(object, other);
+		assertEquals(object.hashCode(), other.hashCode());
+		assertNotEquals(object, new BinaryObject());
+		assertEquals("{\"a\": 1, \"b\": \"x\"}", object.toString());
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.binary;
+
+import net.luis.utils.io.data.binary.exception.BinaryTypeException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link BinaryPrimitive}.<br>
+ *
+ * @author Luis-St
+ */
+class BinaryPrimitiveTest {
+	
+	@Test
+	void constructorValidation() {
+		assertThrows(NullPointerException.class, () -> new BinaryPrimitive((String) null));
+		assertDoesNotThrow(() -> new BinaryPrimitive(""));
+	}
+	
+	@Test
+	void typeChecks() {
+		assertTrue(new BinaryPrimitive(true).isBoolean());
+		assertFalse(new BinaryPrimitive(true).isNumber());
+		assertTrue(new BinaryPrimitive((byte) 1).isByte());
+		assertTrue(new BinaryPrimitive((short) 1).isShort());
+		assertTrue(new BinaryPrimitive(1).isInteger());
+		assertTrue(new BinaryPrimitive(1L).isLong());
+		assertTrue(new BinaryPrimitive(1.0F).isFloat());
+		assertTrue(new BinaryPrimitive(1.0).isDouble());
+		assertTrue(new BinaryPrimitive(1.0).isNumber());
+		assertTrue(new BinaryPrimitive("test").isString());
+		assertFalse(new BinaryPrimitive("test").isNumber());
+		assertFalse(new BinaryPrimitive(1).isLong());
+	}
+	
+	@Test
+	void getAsBoolean() {
+		assertTrue(new BinaryPrimitive(true).getAsBoolean());
+		assertFalse(new BinaryPrimitive(false).getAsBoolean());
+		assertThrows(BinaryTypeException.class, () -> new BinaryPrimitive(1).getAsBoolean());
+		assertThrows(BinaryTypeException.class, () -> new BinaryPrimitive("true").getAsBoolean());
+	}
+	
+	@Test
+	void getAsNumber() {
+		BinaryPrimitive primitive = new BinaryPrimitive(300);
+		assertEquals(300, primitive.getAsNumber());
+		assertEquals((byte) 300, primitive.getAsByte());
+		assertEquals((short) 300, primitive.getAsShort());
+		assertEquals(300L, primitive.getAsLong());
+		assertEquals(300.0F, primitive.getAsFloat());
+		assertEquals(300.0, primitive.getAsDouble());
+		
+		assertThrows(BinaryTypeException.class, () -> new BinaryPrimitive("300").getAsNumber());
+		assertThrows(BinaryTypeException.class, () -> new BinaryPrimitive(true).getAsInteger());
+	}
+	
+	@Test
+	void getAsString() {
+		assertEquals("test", new BinaryPrimitive("test").getAsString());
+		assertThrows(BinaryTypeException.class, () -> new BinaryPrimitive(1).getAsString());
+	}
+	
+	@Test
+	void equalsAndHashCode() {
+		assertEquals(new BinaryPrimitive(1), new BinaryPrimitive(1));
+		assertEquals(new BinaryPrimitive(1).hashCode(), new BinaryPrimitive(1).hashCode());
+		assertEquals(new BinaryPrimitive("test"), new BinaryPrimitive("test"));
+		assertNotEquals(new BinaryPrimitive(1), new BinaryPrimitive(1L));
+		assertNotEquals(new BinaryPrimitive(1), new BinaryPrimitive(2));
+	}
+	
+	@Test
+	void toStringTest() {
+		assertEquals("true", new BinaryPrimitive(true).toString());
+		assertEquals("42", new BinaryPrimitive(42).toString());
+		assertEquals("\"test\"", new BinaryPrimitive("test").toString());
+	}
+}
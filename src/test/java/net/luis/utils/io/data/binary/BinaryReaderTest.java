@@ -0,0 +1,161 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.binary;
+
+import net.luis.utils.io.data.InputProvider;
+import net.luis.utils.io.data.OutputProvider;
+import net.luis.utils.io.data.binary.exception.BinarySyntaxException;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link BinaryReader}.<br>
+ *
+ * @author Luis-St
+ */
+class BinaryReaderTest {
+	
+	private static byte[] write(BinaryElement element, BinaryConfig config) throws IOException {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		try (BinaryWriter writer = new BinaryWriter(new OutputProvider(stream), config)) {
+			writer.writeBinary(element);
+		}
+		return stream.toByteArray();
+	}
+	
+	private static BinaryElement read(byte[] bytes, BinaryConfig config) throws IOException {
+		try (BinaryReader reader = new BinaryReader(new InputProvider(new ByteArrayInputStream(bytes)), config)) {
+			return reader.readBinary();
+		}
+	}
+	
+	private static BinaryObject createObject() {
+		BinaryObject nested = new BinaryObject();
+		nested.add("name", new BinaryPrimitive("nested"));
+		nested.add("value", new BinaryPrimitive(Long.MIN_VALUE));
+		
+		BinaryObject object = new BinaryObject();
+		object.add("name", new BinaryPrimitive("test äöü"));
+		object.add("flag", new BinaryPrimitive(true));
+		object.add("byte", new BinaryPrimitive((byte) -128));
+		object.add("short", new BinaryPrimitive(Short.MIN_VALUE));
+		object.add("int", new BinaryPrimitive(Integer.MAX_VALUE));
+		object.add("float", new BinaryPrimitive(1.5F));
+		object.add("double", new BinaryPrimitive(-0.25));
+		object.add("null", BinaryNull.INSTANCE);
+		object.add("array", new BinaryArray(List.of(nested, nested, new BinaryArray())));
+		return object;
+	}
+	
+	@Test
+	void constructorValidation() {
+		InputProvider provider = new InputProvider(InputStream.nullInputStream());
+		
+		assertThrows(NullPointerException.class, () -> new BinaryReader(null));
+		assertThrows(NullPointerException.class, () -> new BinaryReader(null, BinaryConfig.DEFAULT));
+		assertThrows(NullPointerException.class, () -> new BinaryReader(provider, null));
+		
+		assertDoesNotThrow(() -> new BinaryReader(provider));
+	}
+	
+	@Test
+	void readRoundTrip() throws IOException {
+		BinaryObject object = createObject();
+		assertEquals(object, read(write(object, BinaryConfig.DEFAULT), BinaryConfig.DEFAULT));
+		assertEquals(object, read(write(object, new BinaryConfig(false, Integer.MAX_VALUE)), BinaryConfig.DEFAULT));
+	}
+	
+	@Test
+	void readMultipleDocuments() throws IOException {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		try (BinaryWriter writer = new BinaryWriter(new OutputProvider(stream))) {
+			writer.writeBinary(createObject());
+			writer.writeBinary(new BinaryPrimitive(42));
+			writer.writeBinary(createObject());
+		}
+		
+		try (BinaryReader reader = new BinaryReader(new InputProvider(new ByteArrayInputStream(stream.toByteArray())))) {
+			assertEquals(createObject(), reader.readBinary());
+			assertEquals(new BinaryPrimitive(42), reader.readBinary());
+			assertEquals(createObject(), reader.readBinary());
+			assertThrows(BinarySyntaxException.class, reader::readBinary);
+		}
+	}
+	
+	@Test
+	void readInvalidHeader() {
+		assertThrows(BinarySyntaxException.class, () -> read(new byte[0], BinaryConfig.DEFAULT));
+		assertThrows(BinarySyntaxException.class, () -> read(new byte[] { 'L', 'U', 'X', 1, 0, 0 }, BinaryConfig.DEFAULT));
+		assertThrows(BinarySyntaxException.class, () -> read(new byte[] { 'L', 'U', 'B', 2, 0, 0 }, BinaryConfig.DEFAULT));
+		assertThrows(BinarySyntaxException.class, () -> read(new byte[] { 'L', 'U', 'B', 1, 4, 0 }, BinaryConfig.DEFAULT));
+		assertThrows(BinarySyntaxException.class, () -> read(new byte[] { 'L', 'U', 'B', 1 }, BinaryConfig.DEFAULT));
+	}
+	
+	@Test
+	void readInvalidContent() {
+		assertThrows(BinarySyntaxException.class, () -> read(new byte[] { 'L', 'U', 'B', 1, 0, 99 }, BinaryConfig.DEFAULT));
+		assertThrows(BinarySyntaxException.class, () -> read(new byte[] { 'L', 'U', 'B', 1, 0, 9, 5, 'a' }, BinaryConfig.DEFAULT));
+		assertThrows(BinarySyntaxException.class, () -> read(new byte[] { 'L', 'U', 'B', 1, 1, 11, 1, 1, 0 }, BinaryConfig.DEFAULT));
+		assertThrows(BinarySyntaxException.class, () -> read(new byte[] { 'L', 'U', 'B', 1, 0, 5, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 1 }, BinaryConfig.DEFAULT));
+	}
+	
+	@Test
+	void readMaxLength() throws IOException {
+		byte[] bytes = write(new BinaryPrimitive("test"), BinaryConfig.DEFAULT);
+		assertEquals(new BinaryPrimitive("test"), read(bytes, new BinaryConfig(true, 4)));
+		assertThrows(BinarySyntaxException.class, () -> read(bytes, new BinaryConfig(true, 3)));
+	}
+	
+	@Test
+	void readMaxDepth() throws IOException {
+		BinaryArray inner = new BinaryArray();
+		inner.add(new BinaryPrimitive(1));
+		BinaryArray middle = new BinaryArray();
+		middle.add(inner);
+		BinaryArray outer = new BinaryArray();
+		outer.add(middle);
+		
+		byte[] bytes = write(outer, BinaryConfig.DEFAULT);
+		assertEquals(outer, read(bytes, new BinaryConfig(true, Integer.MAX_VALUE, 3)));
+		assertThrows(BinarySyntaxException.class, () -> read(bytes, new BinaryConfig(true, Integer.MAX_VALUE, 2)));
+	}
+	
+	@Test
+	void readDeeplyNestedInput() {
+		byte[] bytes = new byte[5 + 2 * 100_000];
+		System.arraycopy(new byte[] { 'L', 'U', 'B', 1, 0 }, 0, bytes, 0, 5);
+		for (int i = 5; i < bytes.length; i += 2) {
+			bytes[i] = 10;
+			bytes[i + 1] = 1;
+		}
+		assertThrows(BinarySyntaxException.class, () -> read(bytes, BinaryConfig.DEFAULT));
+	}
+	
+	@Test
+	void readOutOfRangeValues() throws IOException {
+		assertEquals(new BinaryPrimitive(Short.MAX_VALUE), read(write(new BinaryPrimitive(Short.MAX_VALUE), BinaryConfig.DEFAULT), BinaryConfig.DEFAULT));
+		assertEquals(new BinaryPrimitive(Integer.MIN_VALUE), read(write(new BinaryPrimitive(Integer.MIN_VALUE), BinaryConfig.DEFAULT), BinaryConfig.DEFAULT));
+		assertThrows(BinarySyntaxException.class, () -> read(new byte[] { 'L', 'U', 'B', 1, 0, 4, (byte) 0x80, (byte) 0xF1, 4 }, BinaryConfig.DEFAULT));
+		assertThrows(BinarySyntaxException.class, () -> read(new byte[] { 'L', 'U', 'B', 1, 0, 5, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x10 }, BinaryConfig.DEFAULT));
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.binary;
+
+import net.luis.utils.io.data.OutputProvider;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link BinaryWriter}.<br>
+ *
+ * @author Luis-St
+ */
+class BinaryWriterTest {
+	
+	private static byte[] write(BinaryElement element, BinaryConfig config) throws IOException {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		try (BinaryWriter writer = new BinaryWriter(new OutputProvider(stream), config)) {
+			writer.writeBinary(element);
+		}
+		return stream.toByteArray();
+	}
+	
+	@Test
+	void constructorValidation() {
+		OutputProvider provider = new OutputProvider(OutputStream.nullOutputStream());
+		
+		assertThrows(NullPointerException.class, () -> new BinaryWriter(null));
+		assertThrows(NullPointerException.class, () -> new BinaryWriter(null, BinaryConfig.DEFAULT));
+		assertThrows(NullPointerException.class, () -> new BinaryWriter(provider, null));
+		
+		assertDoesNotThrow(() -> new BinaryWriter(provider));
+		assertDoesNotThrow(() -> new BinaryWriter(provider, BinaryConfig.DEFAULT));
+	}
+	
+	@Test
+	void writeBinaryValidation() {
+		BinaryWriter writer = new BinaryWriter(new OutputProvider(OutputStream.nullOutputStream()));
+		assertThrows(NullPointerException.class, () -> writer.writeBinary(null));
+		assertThrows(IllegalArgumentException.class, () -> writer.writeBinary(new BinaryElement() {}));
+	}
+	
+	@Test
+	void writeHeaderAndNull() throws IOException {
+		assertArrayEquals(new byte[] { 'L', 'U', 'B', 1, 1, 0 }, write(BinaryNull.INSTANCE, BinaryConfig.DEFAULT));
+		assertArrayEquals(new byte[] { 'L', 'U', 'B', 1, 0, 0 }, write(BinaryNull.INSTANCE, new BinaryConfig(false, 1)));
+	}
+	
+	@Test
+	void writeVarInts() throws IOException {
+		assertArrayEquals(new byte[] { 'L', 'U', 'B', 1, 1, 5, 0 }, write(new BinaryPrimitive(0), BinaryConfig.DEFAULT));
+		assertArrayEquals(new byte[] { 'L', 'U', 'B', 1, 1, 5, 1 }, write(new BinaryPrimitive(-1), BinaryConfig.DEFAULT));
+		assertArrayEquals(new byte[] { 'L', 'U', 'B', 1, 1, 5, 2 }, write(new BinaryPrimitive(1), BinaryConfig.DEFAULT));
+		assertArrayEquals(new byte[] { 'L', 'U', 'B', 1, 1, 6, (byte) 0xAC, 0x02 }, write(new BinaryPrimitive(150L), BinaryConfig.DEFAULT));
+	}
+	
+	@Test
+	void writeKeyDictionary() throws IOException {
+		BinaryObject first = new BinaryObject();
+		first.add("name", BinaryNull.INSTANCE);
+		BinaryObject second = new BinaryObject();
+		second.add("name", BinaryNull.INSTANCE);
+		BinaryArray array = new BinaryArray(List.of(first, second));
+		
+		byte[] withDictionary = write(array, BinaryConfig.DEFAULT);
+		byte[] withoutDictionary = write(array, new BinaryConfig(false, Integer.MAX_VALUE));
+		assertEquals(withoutDictionary.length - "name".length(), withDictionary.length);
+	}
+}
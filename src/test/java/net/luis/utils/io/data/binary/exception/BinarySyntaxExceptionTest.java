@@ -0,0 +1,71 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.binary.exception;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link BinarySyntaxException}.<br>
+ *
+ * @author Luis-St
+ */
+class BinarySyntaxExceptionTest {
+	
+	@Test
+	void defaultConstructor() {
+		BinarySyntaxException exception = new BinarySyntaxException();
+		
+		assertNull(exception.getMessage());
+		assertNull(exception.getCause());
+	}
+	
+	@Test
+	void constructorWithMessage() {
+		String message = "Binary syntax error";
+		BinarySyntaxException exception = new BinarySyntaxException(message);
+		
+		assertEquals(message, exception.getMessage());
+		assertNull(exception.getCause());
+	}
+	
+	@Test
+	void constructorWithMessageAndCause() {
+		RuntimeException cause = new RuntimeException("Root cause");
+		BinarySyntaxException exception = new BinarySyntaxException("Binary syntax error", cause);
+		
+		assertEquals("Binary syntax error", exception.getMessage());
+		assertSame(cause, exception.getCause());
+	}
+	
+	@Test
+	void constructorWithCause() {
+		RuntimeException cause = new RuntimeException("Root cause");
+		BinarySyntaxException exception = new BinarySyntaxException(cause);
+		
+		assertEquals("java.lang.RuntimeException: Root cause", exception.getMessage());
+		assertSame(cause, exception.getCause());
+	}
+	
+	@Test
+	void isRuntimeException() {
+		assertInstanceOf(RuntimeException.class, new BinarySyntaxException());
+	}
+}
@@ -22,10 +22,11 @@ import net.luis.utils.io.data.InputProvider;
 import net.luis.utils.io.data.ini.exception.IniSyntaxException;
 import org.junit.jupiter.api.Test;
 
-import java.io.ByteArrayInputStream;
+import java.io.*;
 import java.nio.charset.StandardCharsets;
-import java.util.Set;
+import java.util.*;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -530,4 +531,115 @@ class IniReaderTest {
 			assertEquals(3, features.getAsInteger("maxRetries"));
 		}
 	}
+	
+	@Test
+	void readSectionsOneAtATime() {
+		String ini = """
+			name = inventory
+			[host1]
+			ip = 10.0.0.1
+			; comment
+			[host2]
+			ip = 10.0.0.2
+			role = db
+			""";
+		
+		try (IniReader reader = new IniReader(ini)) {
+			List<IniSection> sections = new ArrayList<>();
+			IniDocument globals = reader.readSections(sections::add);
+			
+			assertEquals(1, globals.globalSize());
+			assertEquals("inventory", globals.getGlobalAsString("name"));
+			assertEquals(0, globals.sectionCount());
+			assertEquals(2, sections.size());
+			assertEquals("host1", sections.get(0).getName());
+			assertEquals("10.0.0.1", sections.get(0).getAsString("ip"));
+			assertEquals(2, sections.get(1).size());
+			assertEquals("db", sections.get(1).getAsString("role"));
+		}
+		assertThrows(NullPointerException.class, () -> new IniReader("").readSections(null));
+	}
+	
+	@Test
+	void streamSectionsLazily() {
+		String ini = """
+			global = value
+			[first]
+			key = 1
+			[second]
+			key = 2
+			[invalid
+			""";
+		
+		try (IniReader reader = new IniReader(ini)) {
+			Iterator<IniSection> iterator = reader.streamSections().iterator();
+			
+			assertTrue(iterator.hasNext());
+			assertEquals("first", iterator.next().getName());
+			assertEquals("value", reader.getGlobalProperties().getGlobalAsString("global"));
+			assertThrows(IniSyntaxException.class, iterator::next);
+		}
+	}
+	
+	@Test
+	void streamSectionsCloseClosesReader() {
+		boolean[] closed = new boolean[1];
+		InputStream stream = new ByteArrayInputStream("[section]\nkey = value".getBytes(StandardCharsets.UTF_8)) {
+			@Override
+			public void close() throws IOException {
+				closed[0] = true;
+				super.close();
+			}
+		};
+		
+		IniReader reader = new IniReader(new InputProvider(stream));
+		try (Stream<IniSection> sections = reader.streamSections()) {
+			assertEquals(1, sections.count());
+		}
+		assertTrue(closed[0]);
+	}
+	
+	@Test
+	void streamSectionsEmptyInput() {
+		try (IniReader reader = new IniReader("key = value")) {
+			assertEquals(0, reader.streamSections().count());
+			assertEquals("value", reader.getGlobalProperties().getGlobalAsString("key"));
+		}
+	}
+	
+	@Test
+	void streamSectionsDuplicateSections() {
+		String ini = """
+			[section]
+			key1 = value1
+			[section]
+			key2 = value2
+			""";
+		
+		try (IniReader reader = new IniReader(ini, STRICT_CONFIG)) {
+			assertThrows(IniSyntaxException.class, () -> reader.streamSections().toList());
+		}
+		try (IniReader reader = new IniReader(ini, NON_STRICT_CONFIG)) {
+			List<IniSection> sections = reader.streamSections().toList();
+			assertEquals(2, sections.size());
+			assertEquals("section", sections.get(0).getName());
+			assertEquals("section", sections.get(1).getName());
+			assertTrue(sections.get(0).containsKey("key1"));
+			assertTrue(sections.get(1).containsKey("key2"));
+		}
+	}
+	
+	@Test
+	void streamSectionsWithInputProvider() {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < 1000; i++) {
+			builder.append("[host").append(i).append("]\n").append("index = ").append(i).append("\n");
+		}
+		InputProvider provider = new InputProvider(new ByteArrayInputStream(builder.toString().getBytes(StandardCharsets.UTF_8)));
+		
+		try (IniReader reader = new IniReader(provider, PARSE_TYPES_CONFIG)) {
+			long sum = reader.streamSections().mapToLong(section -> section.getAsLong("index")).sum();
+			assertEquals(499500L, sum);
+		}
+	}
 }
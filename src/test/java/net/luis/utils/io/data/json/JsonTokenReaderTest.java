@@ -0,0 +1,255 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.json;
+
+import net.luis.utils.io.data.InputProvider;
+import net.luis.utils.io.data.json.exception.JsonSyntaxException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link JsonTokenReader}.<br>
+ *
+ * @author Luis-St
+ */
+class JsonTokenReaderTest {
+	
+	private static final JsonConfig STRICT_CONFIG = JsonConfig.DEFAULT;
+	private static final JsonConfig NON_STRICT_CONFIG = new JsonConfig(false, true, "\t", true, 10, true, 1, StandardCharsets.UTF_8);
+	
+	@Test
+	void constructorWithString() {
+		assertThrows(NullPointerException.class, () -> new JsonTokenReader((String) null));
+		assertThrows(NullPointerException.class, () -> new JsonTokenReader((String) null, STRICT_CONFIG));
+		assertThrows(NullPointerException.class, () -> new JsonTokenReader("test", null));
+		
+		assertDoesNotThrow(() -> new JsonTokenReader("{}"));
+		assertDoesNotThrow(() -> new JsonTokenReader("[]", NON_STRICT_CONFIG));
+	}
+	
+	@Test
+	void constructorWithInputProvider() {
+		assertThrows(NullPointerException.class, () -> new JsonTokenReader((InputProvider) null));
+		assertThrows(NullPointerException.class, () -> new JsonTokenReader(new InputProvider(InputStream.nullInputStream()), null));
+		
+		JsonTokenReader reader = new JsonTokenReader(new InputProvider(new ByteArrayInputStream("[1, 2]".getBytes(StandardCharsets.UTF_8))));
+		reader.beginArray();
+		assertEquals(1, reader.nextNumber().intValue());
+		assertEquals(2, reader.nextNumber().intValue());
+		reader.endArray();
+		assertEquals(JsonToken.END_DOCUMENT, reader.peek());
+	}
+	
+	@Test
+	void peekEmptyInput() {
+		assertThrows(JsonSyntaxException.class, () -> new JsonTokenReader("").peek());
+		assertThrows(JsonSyntaxException.class, () -> new JsonTokenReader("   ").peek());
+	}
+	
+	@Test
+	void readObjectTokens() {
+		JsonTokenReader reader = new JsonTokenReader("{\"name\": \"test\", \"count\": 42, \"active\": true, \"value\": null, \"ratio\": 1.5}");
+		
+		assertEquals(JsonToken.BEGIN_OBJECT, reader.peek());
+		reader.beginObject();
+		assertTrue(reader.hasNext());
+		assertEquals(JsonToken.NAME, reader.peek());
+		assertEquals("name", reader.nextName());
+		assertEquals(JsonToken.STRING, reader.peek());
+		assertEquals("test", reader.nextString());
+		assertEquals("count", reader.nextName());
+		assertEquals(42, reader.nextNumber().intValue());
+		assertEquals("active", reader.nextName());
+		assertTrue(reader.nextBoolean());
+		assertEquals("value", reader.nextName());
+		assertEquals(JsonToken.NULL, reader.peek());
+		reader.nextNull();
+		assertEquals("ratio", reader.nextName());
+		assertEquals(1.5, reader.nextNumber().doubleValue());
+		assertFalse(reader.hasNext());
+		assertEquals(JsonToken.END_OBJECT, reader.peek());
+		reader.endObject();
+		assertEquals(JsonToken.END_DOCUMENT, reader.peek());
+	}
+	
+	@Test
+	void readNestedArrayTokens() {
+		JsonTokenReader reader = new JsonTokenReader("[[1, 2], [], {\"key\": [false]}]");
+		
+		reader.beginArray();
+		reader.beginArray();
+		assertEquals(1, reader.nextNumber().intValue());
+		assertEquals(2, reader.nextNumber().intValue());
+		reader.endArray();
+		reader.beginArray();
+		assertFalse(reader.hasNext());
+		reader.endArray();
+		reader.beginObject();
+		assertEquals("key", reader.nextName());
+		reader.beginArray();
+		assertFalse(reader.nextBoolean());
+		reader.endArray();
+		reader.endObject();
+		reader.endArray();
+		assertFalse(reader.hasNext());
+	}
+	
+	@Test
+	void readUnexpectedToken() {
+		JsonTokenReader reader = new JsonTokenReader("{\"key\": 1}");
+		assertThrows(JsonSyntaxException.class, reader::beginArray);
+		reader.beginObject();
+		assertThrows(JsonSyntaxException.class, reader::nextString);
+		assertThrows(JsonSyntaxException.class, reader::endObject);
+		reader.nextName();
+		assertThrows(JsonSyntaxException.class, reader::nextBoolean);
+	}
+	
+	@Test
+	void readSpecialNumbers() {
+		JsonTokenReader reader = new JsonTokenReader("[Infinity, -Infinity, NaN, null, -5]");
+		
+		reader.beginArray();
+		assertEquals(Double.POSITIVE_INFINITY, reader.nextNumber());
+		assertEquals(Double.NEGATIVE_INFINITY, reader.nextNumber());
+		assertEquals(JsonToken.NUMBER, reader.peek());
+		assertTrue(Double.isNaN(reader.nextNumber().doubleValue()));
+		assertEquals(JsonToken.NULL, reader.peek());
+		reader.nextNull();
+		assertEquals(-5, reader.nextNumber().intValue());
+		reader.endArray();
+	}
+	
+	@Test
+	void readStrictMode() {
+		assertThrows(JsonSyntaxException.class, () -> {
+			JsonTokenReader reader = new JsonTokenReader("{key: 1}", STRICT_CONFIG);
+			reader.beginObject();
+			reader.nextName();
+		});
+		assertThrows(JsonSyntaxException.class, () -> {
+			JsonTokenReader reader = new JsonTokenReader("[1, ]", STRICT_CONFIG);
+			reader.beginArray();
+			reader.nextNumber();
+			reader.hasNext();
+		});
+		assertThrows(JsonSyntaxException.class, () -> {
+			JsonTokenReader reader = new JsonTokenReader("{\"a\": 1, }", STRICT_CONFIG);
+			reader.beginObject();
+			reader.nextName();
+			reader.nextNumber();
+			reader.hasNext();
+		});
+		assertThrows(JsonSyntaxException.class, () -> new JsonTokenReader("True", STRICT_CONFIG).nextBoolean());
+		assertThrows(JsonSyntaxException.class, () -> {
+			JsonTokenReader reader = new JsonTokenReader("1 2", STRICT_CONFIG);
+			reader.nextNumber();
+			reader.peek();
+		});
+	}
+	
+	@Test
+	void readNonStrictMode() {
+		JsonTokenReader reader = new JsonTokenReader("{key: TRUE, other: [Null, ], }", NON_STRICT_CONFIG);
+		
+		reader.beginObject();
+		assertEquals("key", reader.nextName());
+		assertTrue(reader.nextBoolean());
+		assertEquals("other", reader.nextName());
+		reader.beginArray();
+		reader.nextNull();
+		assertFalse(reader.hasNext());
+		reader.endArray();
+		assertFalse(reader.hasNext());
+		reader.endObject();
+	}
+	
+	@Test
+	void readMissingSeparator() {
+		JsonTokenReader reader = new JsonTokenReader("{\"a\": 1 \"b\": 2}");
+		reader.beginObject();
+		reader.nextName();
+		reader.nextNumber();
+		assertThrows(JsonSyntaxException.class, reader::hasNext);
+		
+		JsonTokenReader colon = new JsonTokenReader("{\"a\" 1}");
+		colon.beginObject();
+		assertThrows(JsonSyntaxException.class, colon::nextName);
+	}
+	
+	@Test
+	void readUnclosedStructure() {
+		JsonTokenReader reader = new JsonTokenReader("[1, 2");
+		reader.beginArray();
+		reader.nextNumber();
+		reader.nextNumber();
+		assertThrows(JsonSyntaxException.class, reader::hasNext);
+	}
+	
+	@Test
+	void skipValue() {
+		JsonTokenReader reader = new JsonTokenReader("{\"skip\": {\"nested\": [1, {\"deep\": true}], \"other\": \"x\"}, \"keep\": 5}");
+		
+		reader.beginObject();
+		assertEquals("skip", reader.nextName());
+		reader.skipValue();
+		assertEquals("keep", reader.nextName());
+		assertEquals(5, reader.nextNumber().intValue());
+		reader.endObject();
+		assertThrows(JsonSyntaxException.class, reader::skipValue);
+	}
+	
+	@Test
+	void skipValueWithName() {
+		JsonTokenReader reader = new JsonTokenReader("{\"a\": [1, 2], \"b\": 3}");
+		
+		reader.beginObject();
+		reader.skipValue();
+		assertEquals("b", reader.nextName());
+		assertEquals(3, reader.nextNumber().intValue());
+	}
+	
+	@Test
+	void nextElement() {
+		String json = "{\"name\": \"test\", \"values\": [1, 2.5, true, null], \"nested\": {\"empty\": {}}}";
+		JsonTokenReader reader = new JsonTokenReader(json);
+		
+		JsonElement element = reader.nextElement();
+		assertEquals(new JsonReader(json).readJson(), element);
+		assertEquals(JsonToken.END_DOCUMENT, reader.peek());
+	}
+	
+	@Test
+	void nextElementInsideObject() {
+		JsonTokenReader reader = new JsonTokenReader("{\"a\": [1, 2], \"b\": \"c\"}");
+		
+		reader.beginObject();
+		assertEquals("a", reader.nextName());
+		JsonArray array = assertInstanceOf(JsonArray.class, reader.nextElement());
+		assertEquals(2, array.size());
+		assertEquals("b", reader.nextName());
+		assertEquals(new JsonPrimitive("c"), reader.nextElement());
+		reader.endObject();
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.json;
+
+import net.luis.utils.io.data.OutputProvider;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link JsonTokenWriter}.<br>
+ *
+ * @author Luis-St
+ */
+class JsonTokenWriterTest {
+	
+	private static final JsonConfig PRETTY_CONFIG = new JsonConfig(true, true, "\t", false, 10, false, 1, StandardCharsets.UTF_8);
+	private static final JsonConfig COMPACT_CONFIG = new JsonConfig(true, false, "\t", false, 10, false, 1, StandardCharsets.UTF_8);
+	
+	@Test
+	void constructor() {
+		assertThrows(NullPointerException.class, () -> new JsonTokenWriter(null));
+		assertThrows(NullPointerException.class, () -> new JsonTokenWriter(null, COMPACT_CONFIG));
+		assertThrows(NullPointerException.class, () -> new JsonTokenWriter(new OutputProvider(OutputStream.nullOutputStream()), null));
+		assertDoesNotThrow(() -> new JsonTokenWriter(new OutputProvider(OutputStream.nullOutputStream())));
+	}
+	
+	@Test
+	void writeCompact() throws Exception {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		try (JsonTokenWriter writer = new JsonTokenWriter(new OutputProvider(stream), COMPACT_CONFIG)) {
+			writer.beginObject();
+			writer.name("name");
+			writer.value("test");
+			writer.name("values");
+			writer.beginArray();
+			writer.value(1);
+			writer.value(2.5);
+			writer.value(true);
+			writer.nullValue();
+			writer.endArray();
+			writer.name("empty");
+			writer.beginObject();
+			writer.endObject();
+			writer.endObject();
+		}
+		assertEquals("{\"name\": \"test\",\"values\": [1,2.5,true,null],\"empty\": {}}", stream.toString(StandardCharsets.UTF_8));
+	}
+	
+	@Test
+	void writeMatchesElementToString() throws Exception {
+		JsonElement element = new JsonReader("{\"a\": [1, [2, 3], {}], \"b\": {\"c\": \"d\", \"e\": []}, \"f\": null}").readJson();
+		
+		for (JsonConfig config : new JsonConfig[] { PRETTY_CONFIG, COMPACT_CONFIG }) {
+			ByteArrayOutputStream stream = new ByteArrayOutputStream();
+			try (JsonTokenWriter writer = new JsonTokenWriter(new OutputProvider(stream), config)) {
+				writer.element(element);
+			}
+			assertEquals(element.toString(config), stream.toString(StandardCharsets.UTF_8));
+		}
+	}
+	
+	@Test
+	void writeDiscardsNameWithoutValue() throws Exception {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		try (JsonTokenWriter writer = new JsonTokenWriter(new OutputProvider(stream), COMPACT_CONFIG)) {
+			writer.beginObject();
+			writer.name("skipped");
+			writer.name("a");
+			writer.value(1);
+			writer.name("trailing");
+			writer.endObject();
+		}
+		assertEquals("{\"a\": 1}", stream.toString(StandardCharsets.UTF_8));
+	}
+	
+	@Test
+	void writeInvalidState() {
+		JsonTokenWriter writer = new JsonTokenWriter(new OutputProvider(OutputStream.nullOutputStream()), COMPACT_CONFIG);
+		assertThrows(IllegalStateException.class, () -> writer.name("key"));
+		assertThrows(IllegalStateException.class, writer::endArray);
+		
+		writer.beginObject();
+		assertThrows(IllegalStateException.class, () -> writer.value(1));
+		assertThrows(IllegalStateException.class, writer::endArray);
+		writer.endObject();
+		
+		assertThrows(IllegalStateException.class, writer::beginArray);
+		assertThrows(NullPointerException.class, () -> writer.element(null));
+	}
+}
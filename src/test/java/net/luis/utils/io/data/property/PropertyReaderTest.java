@@ -72,6 +72,19 @@ class PropertyReaderTest {
 		assertDoesNotThrow(() -> new PropertyReader("", ADVANCED_CONFIG));
 	}
 	
+	@Test
+	void constructorWithResolver() {
+		PropertyVariableResolver resolver = new PropertyVariableResolver();
+		assertThrows(NullPointerException.class, () -> new PropertyReader("", DEFAULT_CONFIG, null));
+		assertThrows(NullPointerException.class, () -> new PropertyReader(new InputProvider(InputStream.nullInputStream()), DEFAULT_CONFIG, null));
+		
+		PropertyReader first = new PropertyReader("", DEFAULT_CONFIG, resolver);
+		PropertyReader second = new PropertyReader(new InputProvider(InputStream.nullInputStream()), DEFAULT_CONFIG, resolver);
+		assertSame(resolver, first.getResolver());
+		assertEquals(0, first.getLayer());
+		assertEquals(1, second.getLayer());
+	}
+	
 	@Test
 	void readPropertiesEmptyInput() {
 		try (PropertyReader reader = createReader("")) {
@@ -324,6 +337,47 @@ class PropertyReaderTest {
 		}
 	}
 	
+	@Test
+	void readPropertiesVariableKeysFromLowerLayer() {
+		PropertyVariableResolver resolver = new PropertyVariableResolver(ADVANCED_CONFIG);
+		try (PropertyReader base = new PropertyReader("profile = dev", ADVANCED_CONFIG, resolver)) {
+			base.readProperties();
+		}
+		
+		try (PropertyReader override = new PropertyReader("app.${prop:profile}.url = http://localhost", ADVANCED_CONFIG, resolver)) {
+			PropertyObject props = override.readProperties();
+			assertEquals(new PropertyValue("http://localhost"), props.get("app.dev.url"));
+		}
+		assertEquals("dev", resolver.resolve("profile"));
+	}
+	
+	@Test
+	void readPropertiesVariableKeysNotRecursive() {
+		String content = """
+			name = ${prop:missing}
+			app.${prop:name}.url = http://localhost
+			""";
+		
+		try (PropertyReader reader = createReader(content, ADVANCED_CONFIG)) {
+			PropertyObject props = reader.readProperties();
+			assertEquals(new PropertyValue("http://localhost"), props.get("app.${prop:missing}.url"));
+		}
+	}
+	
+	@Test
+	void readPropertiesVariableKeysRecursive() {
+		String content = """
+			profile = dev
+			name = ${prop:profile}
+			app.${prop:name}.url = http://localhost
+			""";
+		
+		try (PropertyReader reader = new PropertyReader(content, ADVANCED_CONFIG, new PropertyVariableResolver(ADVANCED_CONFIG, true))) {
+			PropertyObject props = reader.readProperties();
+			assertEquals(new PropertyValue("http://localhost"), props.get("app.dev.url"));
+		}
+	}
+	
 	@Test
 	void readPropertiesVariableKeysWithDefault() {
 		String content = "app.${prop:missing:-fallback}.url = http://localhost";
@@ -0,0 +1,257 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.property;
+
+import net.luis.utils.io.data.property.exception.PropertySyntaxException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link PropertyVariableResolver}.<br>
+ *
+ * @author Luis-St
+ */
+class PropertyVariableResolverTest {
+	
+	@Test
+	void constructWithNullConfig() {
+		assertThrows(NullPointerException.class, () -> new PropertyVariableResolver(null));
+		assertDoesNotThrow(() -> new PropertyVariableResolver());
+		assertDoesNotThrow(() -> new PropertyVariableResolver(PropertyConfig.ADVANCED));
+		assertThrows(NullPointerException.class, () -> new PropertyVariableResolver(null, true));
+		assertFalse(new PropertyVariableResolver().isRecursive());
+		assertTrue(new PropertyVariableResolver(PropertyConfig.DEFAULT, true).isRecursive());
+	}
+	
+	@Test
+	void addLayer() {
+		PropertyVariableResolver resolver = new PropertyVariableResolver();
+		assertEquals(0, resolver.getLayerCount());
+		assertEquals(0, resolver.addLayer());
+		assertEquals(1, resolver.addLayer(Map.of("key", "value")));
+		assertEquals(2, resolver.getLayerCount());
+		assertEquals("value", resolver.getRawValue("key"));
+		assertThrows(NullPointerException.class, () -> resolver.addLayer(null));
+	}
+	
+	@Test
+	void setWithInvalidLayer() {
+		PropertyVariableResolver resolver = new PropertyVariableResolver();
+		assertThrows(IndexOutOfBoundsException.class, () -> resolver.set(0, "key", "value"));
+		resolver.addLayer();
+		assertThrows(NullPointerException.class, () -> resolver.set(0, null, "value"));
+		assertThrows(NullPointerException.class, () -> resolver.set(0, "key", null));
+	}
+	
+	@Test
+	void resolvePlainValue() {
+		PropertyVariableResolver resolver = new PropertyVariableResolver();
+		resolver.addLayer(Map.of("key", "value"));
+		
+		assertEquals("value", resolver.resolve("key"));
+		assertNull(resolver.resolve("missing"));
+		assertThrows(NullPointerException.class, () -> resolver.resolve(null));
+	}
+	
+	@Test
+	void resolveWithoutRecursion() {
+		PropertyVariableResolver resolver = new PropertyVariableResolver();
+		resolver.addLayer(Map.of(
+			"host", "localhost",
+			"address", "${prop:host}:8080",
+			"literal", "text with ${ inside"
+		));
+		
+		assertEquals("${prop:host}:8080", resolver.resolve("address"));
+		assertEquals("${prop:host}:8080", resolver.resolveVariable("prop:address"));
+		assertEquals("text with ${ inside", resolver.resolveVariable("prop:literal"));
+		assertEquals(Set.of(), resolver.getDependencies("address"));
+	}
+	
+	@Test
+	void resolveVariableMemoizedUntilKeyChanges() {
+		PropertyVariableResolver resolver = new PropertyVariableResolver();
+		int layer = resolver.addLayer(Map.of("host", "localhost"));
+		
+		assertEquals("localhost", resolver.resolveVariable("prop:host"));
+		assertEquals("fallback", resolver.resolveVariable("prop:port:-fallback"));
+		resolver.set(layer, "host", "example.org");
+		resolver.set(layer, "port", "8080");
+		assertEquals("example.org", resolver.resolveVariable("prop:host"));
+		assertEquals("8080", resolver.resolveVariable("prop:port:-fallback"));
+		resolver.remove(layer, "port");
+		assertEquals("fallback", resolver.resolveVariable("prop:port:-fallback"));
+	}
+	
+	@Test
+	void resolveVariableInvalidatedByDependency() {
+		PropertyVariableResolver resolver = new PropertyVariableResolver(PropertyConfig.DEFAULT, true);
+		int layer = resolver.addLayer(Map.of("host", "localhost", "address", "${prop:host}:8080"));
+		
+		assertEquals("localhost:8080", resolver.resolveVariable("prop:address"));
+		resolver.set(layer, "host", "example.org");
+		assertEquals("example.org:8080", resolver.resolveVariable("prop:address"));
+	}
+	
+	@Test
+	void resolveNestedReferences() {
+		PropertyVariableResolver resolver = new PropertyVariableResolver(PropertyConfig.DEFAULT, true);
+		resolver.addLayer(Map.of(
+			"host", "localhost",
+			"port", "8080",
+			"address", "${prop:host}:${prop:port}",
+			"url", "http://${prop:address}/api"
+		));
+		
+		assertEquals("localhost:8080", resolver.resolve("address"));
+		assertEquals("http://localhost:8080/api", resolver.resolve("url"));
+		assertEquals(Set.of("address"), resolver.getDependencies("url"));
+		assertEquals(Set.of("host", "port"), resolver.getDependencies("address"));
+		assertEquals(Set.of(), resolver.getDependencies("host"));
+	}
+	
+	@Test
+	void resolveWithDefaultValue() {
+		PropertyVariableResolver resolver = new PropertyVariableResolver(PropertyConfig.DEFAULT, true);
+		resolver.addLayer(Map.of("key", "${prop:missing:-fallback}"));
+		
+		assertEquals("fallback", resolver.resolve("key"));
+		assertEquals("fallback", resolver.resolveVariable("prop:missing:-fallback"));
+		assertNull(resolver.resolveVariable("prop:missing"));
+	}
+	
+	@Test
+	void resolveCyclicReference() {
+		PropertyVariableResolver resolver = new PropertyVariableResolver(PropertyConfig.DEFAULT, true);
+		resolver.addLayer(Map.of(
+			"a", "${prop:b}",
+			"b", "${prop:c}",
+			"c", "${prop:a}",
+			"self", "x${prop:self}"
+		));
+		
+		PropertySyntaxException exception = assertThrows(PropertySyntaxException.class, () -> resolver.resolve("a"));
+		assertTrue(exception.getMessage().contains("a -> b -> c -> a"));
+		assertThrows(PropertySyntaxException.class, () -> resolver.resolve("self"));
+	}
+	
+	@Test
+	void resolveUnresolvableVariable() {
+		PropertyVariableResolver resolver = new PropertyVariableResolver(PropertyConfig.DEFAULT, true);
+		resolver.addLayer(Map.of(
+			"missing", "${prop:nonexistent}",
+			"unknown", "${unknown:key}",
+			"unclosed", "${prop:key"
+		));
+		
+		assertThrows(PropertySyntaxException.class, () -> resolver.resolve("missing"));
+		assertThrows(PropertySyntaxException.class, () -> resolver.resolve("unknown"));
+		assertThrows(PropertySyntaxException.class, () -> resolver.resolve("unclosed"));
+		assertThrows(PropertySyntaxException.class, () -> resolver.resolveVariable("no-separator"));
+		assertThrows(PropertySyntaxException.class, () -> resolver.resolveVariable("prop:"));
+	}
+	
+	@Test
+	void resolveSystemProperty() {
+		String name = System.getProperty("java.version");
+		PropertyVariableResolver resolver = new PropertyVariableResolver();
+		
+		assertEquals(name, resolver.resolveVariable("sys:java.version"));
+		assertEquals("fallback", resolver.resolveVariable("sys:lutils.missing.property:-fallback"));
+	}
+	
+	@Test
+	void resolveCustomVariable() {
+		PropertyConfig config = new PropertyConfig(
+			'=', 1, Set.of('#'),
+			Pattern.compile(".*"), Pattern.compile(".*"),
+			true, StandardCharsets.UTF_8,
+			true, "\t",
+			'[', ']', ',',
+			true, true,
+			PropertyConfig.NullStyle.EMPTY,
+			true, 2,
+			':', ":-",
+			Map.of("CUSTOM_VAR", "custom_value")
+		);
+		PropertyVariableResolver resolver = new PropertyVariableResolver(config, true);
+		resolver.addLayer(Map.of("key", "${prop:CUSTOM_VAR}"));
+		
+		assertEquals("custom_value", resolver.resolve("key"));
+		assertEquals("custom_value", resolver.resolveVariable("env:CUSTOM_VAR"));
+	}
+	
+	@Test
+	void overridingLayerInvalidatesDependents() {
+		PropertyVariableResolver resolver = new PropertyVariableResolver(PropertyConfig.DEFAULT, true);
+		resolver.addLayer(Map.of(
+			"profile", "dev",
+			"name", "app",
+			"url", "http://${prop:profile}.example.com",
+			"title", "${prop:name}"
+		));
+		int override = resolver.addLayer();
+		
+		assertEquals("http://dev.example.com", resolver.resolve("url"));
+		assertEquals("app", resolver.resolve("title"));
+		
+		resolver.set(override, "profile", "prod");
+		assertEquals("prod", resolver.getRawValue("profile"));
+		assertEquals("http://prod.example.com", resolver.resolve("url"));
+		assertEquals("app", resolver.resolve("title"));
+		
+		resolver.remove(override, "profile");
+		assertEquals("http://dev.example.com", resolver.resolve("url"));
+	}
+	
+	@Test
+	void replaceLayerInvalidatesChangedKeys() {
+		PropertyVariableResolver resolver = new PropertyVariableResolver(PropertyConfig.DEFAULT, true);
+		resolver.addLayer(Map.of("host", "localhost", "url", "http://${prop:host}"));
+		int override = resolver.addLayer(Map.of("host", "example.com"));
+		
+		assertEquals("http://example.com", resolver.resolve("url"));
+		resolver.replaceLayer(override, Map.of("host", "example.org"));
+		assertEquals("http://example.org", resolver.resolve("url"));
+		resolver.replaceLayer(override, Map.of());
+		assertEquals("http://localhost", resolver.resolve("url"));
+		
+		resolver.replaceLayer(override, Map.of("url", "https://${prop:host}/secure"));
+		assertEquals("https://localhost/secure", resolver.resolve("url"));
+		assertThrows(NullPointerException.class, () -> resolver.replaceLayer(override, null));
+	}
+	
+	@Test
+	void substituteText() {
+		PropertyVariableResolver resolver = new PropertyVariableResolver();
+		resolver.addLayer(Map.of("user", "admin", "host", "localhost"));
+		
+		assertEquals("admin@localhost", resolver.substitute("${prop:user}@${prop:host}"));
+		assertEquals("no variables", resolver.substitute("no variables"));
+		assertEquals("guest", resolver.substitute("${prop:missing:-guest}"));
+		assertThrows(PropertySyntaxException.class, () -> resolver.substitute("${prop:missing}"));
+		assertThrows(NullPointerException.class, () -> resolver.substitute(null));
+	}
+}
@@ -0,0 +1,197 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.luis.utils.io.data.toml;
+
+import net.luis.utils.io.data.OutputProvider;
+import net.luis.utils.io.data.toml.TomlConfig.DateTimeStyle;
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link TomlTokenWriter}.<br>
+ *
+ * @author Luis-St
+ */
+class TomlTokenWriterTest {
+	
+	private static final TomlConfig PRETTY_CONFIG = new TomlConfig(true, true, "  ", false, 3, true, 3, false, 80, true, DateTimeStyle.RFC_3339, false, StandardCharsets.UTF_8);
+	private static final TomlConfig COMPACT_CONFIG = new TomlConfig(true, false, "  ", true, 1, false, 10, false, 80, true, DateTimeStyle.RFC_3339, false, StandardCharsets.UTF_8);
+	
+	private static @NonNull TomlTable createTree() {
+		TomlTable address = new TomlTable();
+		address.add("city", "b");
+		
+		TomlTable owner = new TomlTable();
+		owner.add("address", address);
+		owner.add("name", "a");
+		
+		TomlTable sub = new TomlTable();
+		sub.add("v", 1);
+		TomlTable only = new TomlTable();
+		only.add("sub", sub);
+		
+		TomlTable first = new TomlTable();
+		first.add("id", 1);
+		TomlTable second = new TomlTable();
+		second.add("id", 2);
+		second.add("tags", new TomlArray(List.of(new TomlValue("x"))));
+		
+		TomlTable root = new TomlTable();
+		root.add("title", "test");
+		root.add("owner", owner);
+		root.add("values", new TomlArray(List.of(new TomlValue(1), new TomlValue(2), new TomlValue(3), new TomlValue(4))));
+		root.add("empty", new TomlTable());
+		root.add("only", only);
+		root.add("items", new TomlArray(List.of(first, second)));
+		root.add("count", 5);
+		return root;
+	}
+	
+	private static @NonNull String writeTree(@NonNull TomlTable table, @NonNull TomlConfig config) throws Exception {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		try (TomlWriter writer = new TomlWriter(new OutputProvider(stream), config)) {
+			writer.writeToml(table);
+		}
+		return stream.toString(StandardCharsets.UTF_8);
+	}
+	
+	@Test
+	void constructor() {
+		assertThrows(NullPointerException.class, () -> new TomlTokenWriter(null));
+		assertThrows(NullPointerException.class, () -> new TomlTokenWriter(null, COMPACT_CONFIG));
+		assertThrows(NullPointerException.class, () -> new TomlTokenWriter(new OutputProvider(OutputStream.nullOutputStream()), null));
+		assertDoesNotThrow(() -> new TomlTokenWriter(new OutputProvider(OutputStream.nullOutputStream())));
+	}
+	
+	@Test
+	void writeMatchesTomlWriter() throws Exception {
+		for (TomlConfig config : new TomlConfig[] { PRETTY_CONFIG, COMPACT_CONFIG }) {
+			ByteArrayOutputStream stream = new ByteArrayOutputStream();
+			try (TomlTokenWriter writer = new TomlTokenWriter(new OutputProvider(stream), config)) {
+				writer.beginTable();
+				writer.key("title");
+				writer.element(new TomlValue("test"));
+				writer.key("owner");
+				writer.beginTable();
+				writer.key("address");
+				writer.beginTable();
+				writer.key("city");
+				writer.element(new TomlValue("b"));
+				writer.endTable();
+				writer.key("name");
+				writer.element(new TomlValue("a"));
+				writer.endTable();
+				writer.key("values");
+				writer.beginArray();
+				for (int i = 1; i <= 4; i++) {
+					writer.element(new TomlValue(i));
+				}
+				writer.endArray();
+				writer.key("empty");
+				writer.beginTable();
+				writer.endTable();
+				writer.key("only");
+				writer.element(Objects.requireNonNull(createTree().get("only")));
+				writer.key("items");
+				writer.beginArray();
+				writer.beginTable();
+				writer.key("id");
+				writer.element(new TomlValue(1));
+				writer.endTable();
+				writer.beginTable();
+				writer.key("id");
+				writer.element(new TomlValue(2));
+				writer.key("tags");
+				writer.beginArray();
+				writer.element(new TomlValue("x"));
+				writer.endArray();
+				writer.endTable();
+				writer.endArray();
+				writer.key("count");
+				writer.element(new TomlValue(5));
+				writer.endTable();
+			}
+			assertEquals(writeTree(createTree(), config), stream.toString(StandardCharsets.UTF_8));
+		}
+	}
+	
+	@Test
+	void writeElementMatchesTomlWriter() throws Exception {
+		TomlTable details = new TomlTable();
+		details.add("weight", 2);
+		TomlTable product = new TomlTable();
+		product.add("name", "hammer");
+		product.add("details", details);
+		TomlArray products = new TomlArray(List.of(product, new TomlTable(Map.of("name", new TomlValue("nail")))));
+		products.setArrayOfTables(true);
+		
+		TomlTable inline = new TomlTable(Map.of("x", new TomlValue(1)));
+		inline.setInline(true);
+		
+		TomlTable root = createTree();
+		root.add("products", products);
+		root.add("inline", inline);
+		
+		for (TomlConfig config : new TomlConfig[] { PRETTY_CONFIG, COMPACT_CONFIG }) {
+			ByteArrayOutputStream stream = new ByteArrayOutputStream();
+			try (TomlTokenWriter writer = new TomlTokenWriter(new OutputProvider(stream), config)) {
+				writer.element(root);
+			}
+			assertEquals(writeTree(root, config), stream.toString(StandardCharsets.UTF_8));
+		}
+	}
+	
+	@Test
+	void writeDiscardsKeyWithoutValue() throws Exception {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		try (TomlTokenWriter writer = new TomlTokenWriter(new OutputProvider(stream), PRETTY_CONFIG)) {
+			writer.beginTable();
+			writer.key("skipped");
+			writer.key("a");
+			writer.element(new TomlValue(1));
+			writer.key("trailing");
+			writer.endTable();
+		}
+		assertEquals("a = 1" + System.lineSeparator(), stream.toString(StandardCharsets.UTF_8));
+	}
+	
+	@Test
+	void writeInvalidState() {
+		TomlTokenWriter writer = new TomlTokenWriter(new OutputProvider(OutputStream.nullOutputStream()), PRETTY_CONFIG);
+		assertThrows(IllegalStateException.class, () -> writer.key("key"));
+		assertThrows(IllegalStateException.class, writer::beginArray);
+		assertThrows(IllegalStateException.class, () -> writer.element(new TomlValue(1)));
+		assertThrows(IllegalStateException.class, writer::endTable);
+		
+		writer.beginTable();
+		assertThrows(IllegalStateException.class, () -> writer.element(new TomlValue(1)));
+		assertThrows(IllegalStateException.class, writer::beginTable);
+		assertThrows(IllegalStateException.class, writer::endArray);
+		writer.endTable();
+		
+		assertThrows(IllegalStateException.class, writer::beginTable);
+		assertThrows(NullPointerException.class, () -> writer.element(null));
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.luis.utils.io.data.xml;
+
+import net.luis.utils.io.data.OutputProvider;
+import net.luis.utils.util.Version;
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link XmlTokenWriter}.<br>
+ *
+ * @author Luis-St
+ */
+class XmlTokenWriterTest {
+	
+	private static final XmlConfig PRETTY_CONFIG = new XmlConfig(false, true, "\t", false, false, StandardCharsets.UTF_8);
+	private static final XmlConfig COMPACT_CONFIG = new XmlConfig(false, false, "\t", false, false, StandardCharsets.UTF_8);
+	private static final XmlConfig STRICT_CONFIG = new XmlConfig(true, true, "\t", false, false, StandardCharsets.UTF_8);
+	
+	private static @NonNull XmlContainer createTree() {
+		XmlContainer inner = new XmlContainer("inner");
+		inner.add(new XmlValue("value", 1));
+		inner.add(new XmlContainer("empty"));
+		inner.add(new XmlElement("closed"));
+		
+		XmlContainer root = new XmlContainer("root");
+		root.add(inner);
+		root.add(new XmlValue("text", "multi\nline"));
+		return root;
+	}
+	
+	private static @NonNull String writeTree(@NonNull XmlElement element, @NonNull XmlConfig config) throws Exception {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		try (XmlWriter writer = new XmlWriter(new OutputProvider(stream), config)) {
+			writer.writeXml(element);
+		}
+		return stream.toString(StandardCharsets.UTF_8);
+	}
+	
+	@Test
+	void constructor() {
+		assertThrows(NullPointerException.class, () -> new XmlTokenWriter(null));
+		assertThrows(NullPointerException.class, () -> new XmlTokenWriter(null, COMPACT_CONFIG));
+		assertThrows(NullPointerException.class, () -> new XmlTokenWriter(new OutputProvider(OutputStream.nullOutputStream()), null));
+		assertDoesNotThrow(() -> new XmlTokenWriter(new OutputProvider(OutputStream.nullOutputStream())));
+	}
+	
+	@Test
+	void writeMatchesXmlWriter() throws Exception {
+		for (XmlConfig config : new XmlConfig[] { PRETTY_CONFIG, COMPACT_CONFIG }) {
+			ByteArrayOutputStream stream = new ByteArrayOutputStream();
+			try (XmlTokenWriter writer = new XmlTokenWriter(new OutputProvider(stream), config)) {
+				writer.beginElement("root");
+				writer.beginElement("inner");
+				writer.element(new XmlValue("value", 1));
+				writer.beginElement("empty");
+				writer.endElement();
+				writer.element(new XmlElement("closed"));
+				writer.endElement();
+				writer.element(new XmlValue("text", "multi\nline"));
+				writer.endElement();
+			}
+			assertEquals(writeTree(createTree(), config), stream.toString(StandardCharsets.UTF_8));
+		}
+	}
+	
+	@Test
+	void writeElementMatchesXmlWriter() throws Exception {
+		for (XmlConfig config : new XmlConfig[] { PRETTY_CONFIG, COMPACT_CONFIG }) {
+			ByteArrayOutputStream stream = new ByteArrayOutputStream();
+			try (XmlTokenWriter writer = new XmlTokenWriter(new OutputProvider(stream), config)) {
+				writer.beginElement("document");
+				writer.element(createTree());
+				writer.endElement();
+			}
+			
+			XmlContainer document = new XmlContainer("document");
+			document.add(createTree());
+			assertEquals(writeTree(document, config), stream.toString(StandardCharsets.UTF_8));
+		}
+	}
+	
+	@Test
+	void writeDeclaration() throws Exception {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		try (XmlTokenWriter writer = new XmlTokenWriter(new OutputProvider(stream), STRICT_CONFIG)) {
+			assertThrows(IllegalStateException.class, () -> writer.beginElement("root"));
+			writer.writeDeclaration(new XmlDeclaration(Version.of(1, 0)));
+			assertThrows(IllegalStateException.class, () -> writer.writeDeclaration(new XmlDeclaration(Version.of(1, 0))));
+			writer.beginElement("root");
+			writer.endElement();
+		}
+		assertEquals(new XmlDeclaration(Version.of(1, 0)) + System.lineSeparator() + "<root></root>", stream.toString(StandardCharsets.UTF_8));
+	}
+	
+	@Test
+	void writeInvalidState() {
+		XmlTokenWriter writer = new XmlTokenWriter(new OutputProvider(OutputStream.nullOutputStream()), COMPACT_CONFIG);
+		assertThrows(IllegalStateException.class, writer::endElement);
+		assertThrows(NullPointerException.class, () -> writer.beginElement(null));
+		assertThrows(IllegalArgumentException.class, () -> writer.beginElement("1invalid"));
+		assertThrows(NullPointerException.class, () -> writer.element(null));
+		
+		writer.beginElement("root");
+		assertThrows(IllegalStateException.class, () -> writer.writeDeclaration(new XmlDeclaration(Version.of(1, 0))));
+		writer.endElement();
+		
+		assertThrows(IllegalStateException.class, () -> writer.beginElement("second"));
+		assertThrows(IllegalStateException.class, () -> writer.element(new XmlElement("second")));
+	}
+}
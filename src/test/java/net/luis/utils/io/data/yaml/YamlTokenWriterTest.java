@@ -0,0 +1,166 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.luis.utils.io.data.yaml;
+
+import net.luis.utils.io.data.OutputProvider;
+import net.luis.utils.io.data.yaml.YamlConfig.NullStyle;
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link YamlTokenWriter}.<br>
+ *
+ * @author Luis-St
+ */
+class YamlTokenWriterTest {
+	
+	private static final YamlConfig BLOCK_CONFIG = new YamlConfig(true, true, "  ", true, true, NullStyle.NULL, true, false, StandardCharsets.UTF_8);
+	private static final YamlConfig FLOW_CONFIG = new YamlConfig(true, true, "  ", false, false, NullStyle.NULL, true, false, StandardCharsets.UTF_8);
+	
+	private static @NonNull YamlMapping createTree() {
+		YamlSequence inner = new YamlSequence();
+		inner.add(2);
+		inner.add(3);
+		
+		YamlMapping element = new YamlMapping();
+		element.add("a", 1);
+		element.add("b", new YamlSequence());
+		element.add("c", new YamlMapping());
+		
+		YamlSequence values = new YamlSequence();
+		values.add(1);
+		values.add(inner);
+		values.add(new YamlMapping());
+		values.add(element);
+		
+		YamlMapping nested = new YamlMapping();
+		nested.add("c", "d");
+		nested.add("e", new YamlSequence());
+		nested.add("f", values);
+		
+		YamlMapping root = new YamlMapping();
+		root.add("name", "test");
+		root.add("values", values);
+		root.add("nested", nested);
+		root.add("key with space", YamlNull.INSTANCE);
+		return root;
+	}
+	
+	private static @NonNull String writeTree(@NonNull YamlElement element, @NonNull YamlConfig config) throws Exception {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		try (YamlWriter writer = new YamlWriter(new OutputProvider(stream), config)) {
+			writer.writeYaml(element);
+		}
+		return stream.toString(StandardCharsets.UTF_8);
+	}
+	
+	@Test
+	void constructor() {
+		assertThrows(NullPointerException.class, () -> new YamlTokenWriter(null));
+		assertThrows(NullPointerException.class, () -> new YamlTokenWriter(null, BLOCK_CONFIG));
+		assertThrows(NullPointerException.class, () -> new YamlTokenWriter(new OutputProvider(OutputStream.nullOutputStream()), null));
+		assertDoesNotThrow(() -> new YamlTokenWriter(new OutputProvider(OutputStream.nullOutputStream())));
+	}
+	
+	@Test
+	void writeMatchesYamlWriter() throws Exception {
+		for (YamlConfig config : new YamlConfig[] { BLOCK_CONFIG, FLOW_CONFIG }) {
+			ByteArrayOutputStream stream = new ByteArrayOutputStream();
+			try (YamlTokenWriter writer = new YamlTokenWriter(new OutputProvider(stream), config)) {
+				writer.beginMapping();
+				writer.key("name");
+				writer.element(new YamlScalar("test"));
+				writer.key("values");
+				writer.beginSequence();
+				writer.element(new YamlScalar(1));
+				writer.beginSequence();
+				writer.element(new YamlScalar(2));
+				writer.element(new YamlScalar(3));
+				writer.endSequence();
+				writer.beginMapping();
+				writer.endMapping();
+				writer.beginMapping();
+				writer.key("a");
+				writer.element(new YamlScalar(1));
+				writer.key("b");
+				writer.beginSequence();
+				writer.endSequence();
+				writer.key("c");
+				writer.beginMapping();
+				writer.endMapping();
+				writer.endMapping();
+				writer.endSequence();
+				writer.key("nested");
+				writer.element(createTree().getAsYamlMapping("nested"));
+				writer.key("key with space");
+				writer.element(YamlNull.INSTANCE);
+				writer.endMapping();
+			}
+			assertEquals(writeTree(createTree(), config), stream.toString(StandardCharsets.UTF_8));
+		}
+	}
+	
+	@Test
+	void writeElementMatchesYamlWriter() throws Exception {
+		for (YamlConfig config : new YamlConfig[] { BLOCK_CONFIG, FLOW_CONFIG }) {
+			for (YamlElement element : new YamlElement[] { createTree(), createTree().getAsYamlSequence("values"), new YamlScalar("scalar"), new YamlMapping(), new YamlSequence() }) {
+				ByteArrayOutputStream stream = new ByteArrayOutputStream();
+				try (YamlTokenWriter writer = new YamlTokenWriter(new OutputProvider(stream), config)) {
+					writer.element(element);
+				}
+				assertEquals(writeTree(element, config), stream.toString(StandardCharsets.UTF_8));
+			}
+		}
+	}
+	
+	@Test
+	void writeDiscardsKeyWithoutValue() throws Exception {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		try (YamlTokenWriter writer = new YamlTokenWriter(new OutputProvider(stream), FLOW_CONFIG)) {
+			writer.beginMapping();
+			writer.key("skipped");
+			writer.key("a");
+			writer.element(new YamlScalar(1));
+			writer.key("trailing");
+			writer.endMapping();
+		}
+		assertEquals("{a: 1}", stream.toString(StandardCharsets.UTF_8));
+	}
+	
+	@Test
+	void writeInvalidState() {
+		YamlTokenWriter writer = new YamlTokenWriter(new OutputProvider(OutputStream.nullOutputStream()), BLOCK_CONFIG);
+		assertThrows(IllegalStateException.class, () -> writer.key("key"));
+		assertThrows(IllegalStateException.class, writer::endSequence);
+		assertThrows(IllegalStateException.class, writer::endMapping);
+		
+		writer.beginMapping();
+		assertThrows(IllegalStateException.class, () -> writer.element(new YamlScalar(1)));
+		assertThrows(IllegalStateException.class, writer::endSequence);
+		writer.endMapping();
+		
+		assertThrows(IllegalStateException.class, writer::beginSequence);
+		assertThrows(NullPointerException.class, () -> writer.element(null));
+	}
+}
@@ -27,6 +27,8 @@ import javax.sql.DataSource;
 import java.lang.reflect.Proxy;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -164,4 +166,49 @@ class SqlConnectionSourceTest {
 		assertDoesNotThrow(first::close);
 		assertDoesNotThrow(second::close);
 	}
+	
+	@Test
+	void afterCompletionRunsActionImmediately() {
+		AtomicInteger completed = new AtomicInteger();
+		SqlConnectionSource.fixed(SqlTestFixtures.placeholderConnection()).afterCompletion(completed::incrementAndGet);
+		assertEquals(1, completed.get());
+	}
+	
+	@Test
+	void afterCompletionWithNullAction() {
+		assertThrows(NullPointerException.class, () -> SqlConnectionSource.fixed(SqlTestFixtures.placeholderConnection()).afterCompletion(null));
+	}
+	
+	@Test
+	void forReadsDefaultsToSameSource() {
+		SqlConnectionSource source = SqlConnectionSource.fixed(SqlTestFixtures.placeholderConnection());
+		assertSame(source, source.forReads());
+	}
+	
+	@Test
+	void replicatedWithNullRouterThrows() {
+		assertThrows(NullPointerException.class, () -> SqlConnectionSource.replicated(null));
+	}
+	
+	@Test
+	void replicatedRoutesWritesToPrimaryAndReadsToReplica() throws SqlException {
+		SqlTestFixtures.SwitchableDataSource primary = SqlTestFixtures.switchableDataSource();
+		SqlTestFixtures.SwitchableDataSource replica = SqlTestFixtures.switchableDataSource();
+		SqlConnectionSource source = SqlConnectionSource.replicated(new SqlReplicaRouter(primary, List.of(replica), SqlReplicaRouting.ROUND_ROBIN, Duration.ofMinutes(1)));
+		
+		source.open().close();
+		assertEquals(1, primary.connectionCount());
+		assertEquals(0, replica.connectionCount());
+		
+		source.forReads().open().close();
+		assertEquals(1, primary.connectionCount());
+		assertEquals(1, replica.connectionCount());
+	}
+	
+	@Test
+	void replicatedOpenWrapsConnectionFailure() {
+		SqlConnectionSource source = SqlConnectionSource.replicated(new SqlReplicaRouter(SqlTestFixtures.failingDataSource(), List.of(SqlTestFixtures.failingDataSource()), SqlReplicaRouting.ROUND_ROBIN, Duration.ofMinutes(1)));
+		assertThrows(SqlConnectionException.class, source::open);
+		assertThrows(SqlConnectionException.class, () -> source.forReads().open());
+	}
 }
@@ -19,6 +19,7 @@
 package net.luis.utils.io.database;
 
 import net.luis.utils.io.database.audit.SqlAuditUserProvider;
+import net.luis.utils.io.database.exception.SqlException;
 import net.luis.utils.io.database.exception.database.SqlConnectionException;
 import net.luis.utils.io.database.transaction.SqlIsolationLevel;
 import net.luis.utils.io.database.transaction.SqlPropagation;
@@ -27,6 +28,7 @@ import org.junit.jupiter.api.Test;
 
 import javax.sql.DataSource;
 import java.time.Duration;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -175,4 +177,56 @@ class SqlDatabaseBuilderTest {
 		assertSame(provider, second.getAuditUserProvider());
 		assertTrue(first.getAuditUserProvider().get().isEmpty());
 	}
+	
+	@Test
+	void replicaWithInvalidArgumentsThrows() {
+		DataSource dataSource = SqlTestFixtures.failingDataSource();
+		SqlDatabaseBuilder builder = new SqlDatabaseBuilder(dataSource, SqlTestFixtures.DIALECT);
+		assertThrows(NullPointerException.class, () -> builder.replica(null));
+		assertThrows(IllegalArgumentException.class, () -> builder.replica(dataSource));
+		assertThrows(NullPointerException.class, () -> builder.replicaRouting(null));
+		assertThrows(NullPointerException.class, () -> builder.replicaRetryInterval(null));
+		assertThrows(IllegalArgumentException.class, () -> builder.replicaRetryInterval(Duration.ofSeconds(-1)));
+		assertThrows(NullPointerException.class, () -> builder.replicaHealthCheckInterval(null));
+		assertThrows(IllegalArgumentException.class, () -> builder.replicaHealthCheckInterval(Duration.ZERO));
+	}
+	
+	@Test
+	void replicaSettersReturnSameBuilder() {
+		SqlDatabaseBuilder builder = newBuilder();
+		assertSame(builder, builder.replica(SqlTestFixtures.failingDataSource()));
+		assertSame(builder, builder.replicaRouting(SqlReplicaRouting.LEAST_LOADED));
+		assertSame(builder, builder.replicaRetryInterval(Duration.ofSeconds(5)));
+		assertSame(builder, builder.replicaHealthCheckInterval(Duration.ofSeconds(5)));
+	}
+	
+	@Test
+	void buildWithReplicaHealthCheckIntervalStartsHealthChecks() throws SqlException {
+		SqlDatabase database = new SqlDatabaseBuilder(SqlTestFixtures.failingDataSource(), SqlTestFixtures.DIALECT)
+			.replica(SqlTestFixtures.failingDataSource())
+			.replicaHealthCheckInterval(Duration.ofMinutes(1))
+			.build();
+		
+		SqlReplicaRouter router = database.getReplicaRouter().orElseThrow();
+		assertTrue(router.isCheckingHealth());
+		database.close();
+		assertFalse(router.isCheckingHealth());
+	}
+	
+	@Test
+	void buildWithoutReplicasHasNoRouter() throws SqlConnectionException {
+		assertTrue(newBuilder().build().getReplicaRouter().isEmpty());
+	}
+	
+	@Test
+	void buildWithReplicasCreatesRouter() throws SqlConnectionException {
+		DataSource dataSource = SqlTestFixtures.failingDataSource();
+		DataSource replica = SqlTestFixtures.failingDataSource();
+		SqlDatabase database = new SqlDatabaseBuilder(dataSource, SqlTestFixtures.DIALECT).replica(replica).replicaRouting(SqlReplicaRouting.LEAST_LOADED).build();
+		
+		SqlReplicaRouter router = database.getReplicaRouter().orElseThrow();
+		assertSame(dataSource, router.getPrimary());
+		assertEquals(List.of(replica), router.getReplicas());
+		assertEquals(SqlReplicaRouting.LEAST_LOADED, router.getRouting());
+	}
 }
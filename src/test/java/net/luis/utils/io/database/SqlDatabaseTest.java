@@ -525,6 +525,16 @@ class SqlDatabaseTest {
 		assertThrows(SqlException.class, database::close);
 	}
 	
+	@Test
+	void closeClosesReplicasWhenPrimaryFails() throws SqlException {
+		CloseableDataSource replica = closeableDataSource(false);
+		SqlDatabase database = SqlDatabase.builder(closeableDataSource(true), DIALECT).autoCloseDataSource(true).replica(replica).replica(closeableDataSource(true)).build();
+		
+		SqlException exception = assertThrows(SqlException.class, database::close);
+		assertTrue(replica.closed());
+		assertEquals(1, exception.getSuppressed().length);
+	}
+	
 	@Test
 	void closeWithAutoCloseEnabledButPlainDataSource() throws SqlException {
 		SqlDatabase database = SqlDatabase.builder(recordingDataSource(), DIALECT).autoCloseDataSource(true).build();
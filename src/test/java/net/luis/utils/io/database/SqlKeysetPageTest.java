@@ -0,0 +1,77 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.database;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link SqlKeysetPage}.<br>
+ *
+ * @author Luis-St
+ */
+class SqlKeysetPageTest {
+	
+	@Test
+	void constructValidPage() {
+		SqlKeysetToken token = new SqlKeysetToken(List.<Object>of(2));
+		SqlKeysetPage<String> page = new SqlKeysetPage<>(List.of("a", "b"), 2, Optional.of(token));
+		assertEquals(List.of("a", "b"), page.content());
+		assertEquals(2, page.pageSize());
+		assertEquals(Optional.of(token), page.next());
+		assertTrue(page.hasNext());
+	}
+	
+	@Test
+	void constructWithoutNextToken() {
+		SqlKeysetPage<String> page = new SqlKeysetPage<>(List.of("a"), 10, Optional.empty());
+		assertFalse(page.hasNext());
+	}
+	
+	@Test
+	void constructWithNullContentThrows() {
+		assertThrows(NullPointerException.class, () -> new SqlKeysetPage<>(null, 10, Optional.empty()));
+	}
+	
+	@Test
+	void constructWithNullNextThrows() {
+		assertThrows(NullPointerException.class, () -> new SqlKeysetPage<>(List.of("a"), 10, null));
+	}
+	
+	@Test
+	void constructWithZeroPageSizeThrows() {
+		assertThrows(IllegalArgumentException.class, () -> new SqlKeysetPage<>(List.of("a"), 0, Optional.empty()));
+	}
+	
+	@Test
+	void constructWithNegativePageSizeThrows() {
+		assertThrows(IllegalArgumentException.class, () -> new SqlKeysetPage<>(List.of("a"), -1, Optional.empty()));
+	}
+	
+	@Test
+	void contentIsDefensivelyCopied() {
+		List<String> content = new ArrayList<>(List.of("a"));
+		SqlKeysetPage<String> page = new SqlKeysetPage<>(content, 10, Optional.empty());
+		content.add("b");
+		assertEquals(List.of("a"), page.content());
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.database;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link SqlKeysetToken}.<br>
+ *
+ * @author Luis-St
+ */
+class SqlKeysetTokenTest {
+	
+	@Test
+	void constructValidToken() {
+		SqlKeysetToken token = new SqlKeysetToken(List.<Object>of(1, "a"));
+		assertEquals(List.of(1, "a"), token.values());
+	}
+	
+	@Test
+	void constructWithNullValuesThrows() {
+		assertThrows(NullPointerException.class, () -> new SqlKeysetToken(null));
+	}
+	
+	@Test
+	void constructWithEmptyValuesThrows() {
+		assertThrows(IllegalArgumentException.class, () -> new SqlKeysetToken(List.of()));
+	}
+	
+	@Test
+	void constructWithNullValueThrows() {
+		List<Object> values = new ArrayList<>();
+		values.add(null);
+		assertThrows(NullPointerException.class, () -> new SqlKeysetToken(values));
+	}
+	
+	@Test
+	void valuesAreDefensivelyCopied() {
+		List<Object> values = new ArrayList<>(List.of(1));
+		SqlKeysetToken token = new SqlKeysetToken(values);
+		values.add(2);
+		assertEquals(List.of(1), token.values());
+	}
+	
+	@Test
+	void valuesAreUnmodifiable() {
+		SqlKeysetToken token = new SqlKeysetToken(List.<Object>of(1));
+		assertThrows(UnsupportedOperationException.class, () -> token.values().add(2));
+	}
+	
+	@Test
+	void equalTokensAreEqual() {
+		assertEquals(new SqlKeysetToken(List.<Object>of(1, "a")), new SqlKeysetToken(List.<Object>of(1, "a")));
+	}
+}
@@ -0,0 +1,234 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.database;
+
+import net.luis.utils.io.database.SqlTestFixtures.SwitchableDataSource;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.*;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link SqlReplicaRouter}.<br>
+ *
+ * @author Luis-St
+ */
+class SqlReplicaRouterTest {
+	
+	private static final Duration RETRY = Duration.ofHours(1);
+	
+	private static SqlReplicaRouter router(DataSource primary, SqlReplicaRouting routing, Duration retryInterval, DataSource... replicas) {
+		return new SqlReplicaRouter(primary, List.of(replicas), routing, retryInterval);
+	}
+	
+	@Test
+	void constructWithNullArguments() {
+		DataSource primary = SqlTestFixtures.switchableDataSource();
+		List<DataSource> replicas = List.of(SqlTestFixtures.switchableDataSource());
+		assertThrows(NullPointerException.class, () -> new SqlReplicaRouter(null, replicas, SqlReplicaRouting.ROUND_ROBIN, RETRY));
+		assertThrows(NullPointerException.class, () -> new SqlReplicaRouter(primary, null, SqlReplicaRouting.ROUND_ROBIN, RETRY));
+		assertThrows(NullPointerException.class, () -> new SqlReplicaRouter(primary, replicas, null, RETRY));
+		assertThrows(NullPointerException.class, () -> new SqlReplicaRouter(primary, replicas, SqlReplicaRouting.ROUND_ROBIN, null));
+		assertThrows(NullPointerException.class, () -> new SqlReplicaRouter(primary, replicas, SqlReplicaRouting.ROUND_ROBIN, RETRY, null));
+	}
+	
+	@Test
+	void constructWithInvalidArguments() {
+		DataSource primary = SqlTestFixtures.switchableDataSource();
+		assertThrows(IllegalArgumentException.class, () -> new SqlReplicaRouter(primary, List.of(), SqlReplicaRouting.ROUND_ROBIN, RETRY));
+		assertThrows(IllegalArgumentException.class, () -> new SqlReplicaRouter(primary, List.of(SqlTestFixtures.switchableDataSource()), SqlReplicaRouting.ROUND_ROBIN, Duration.ofSeconds(-1)));
+	}
+	
+	@Test
+	void accessorsReturnConfiguration() {
+		DataSource primary = SqlTestFixtures.switchableDataSource();
+		DataSource replica = SqlTestFixtures.switchableDataSource();
+		SqlReplicaRouter router = router(primary, SqlReplicaRouting.LEAST_LOADED, RETRY, replica);
+		assertSame(primary, router.getPrimary());
+		assertEquals(List.of(replica), router.getReplicas());
+		assertEquals(SqlReplicaRouting.LEAST_LOADED, router.getRouting());
+		assertEquals(1, router.healthyReplicaCount());
+	}
+	
+	@Test
+	void getWriteConnectionUsesPrimary() throws SQLException {
+		SwitchableDataSource primary = SqlTestFixtures.switchableDataSource();
+		SwitchableDataSource replica = SqlTestFixtures.switchableDataSource();
+		router(primary, SqlReplicaRouting.ROUND_ROBIN, RETRY, replica).getWriteConnection().close();
+		assertEquals(1, primary.connectionCount());
+		assertEquals(0, replica.connectionCount());
+	}
+	
+	@Test
+	void getReadConnectionRoundRobin() throws SQLException {
+		SwitchableDataSource primary = SqlTestFixtures.switchableDataSource();
+		SwitchableDataSource first = SqlTestFixtures.switchableDataSource();
+		SwitchableDataSource second = SqlTestFixtures.switchableDataSource();
+		SqlReplicaRouter router = router(primary, SqlReplicaRouting.ROUND_ROBIN, RETRY, first, second);
+		for (int i = 0; i < 4; i++) {
+			router.getReadConnection().close();
+		}
+		assertEquals(0, primary.connectionCount());
+		assertEquals(2, first.connectionCount());
+		assertEquals(2, second.connectionCount());
+	}
+	
+	@Test
+	void getReadConnectionLeastLoaded() throws SQLException {
+		SwitchableDataSource first = SqlTestFixtures.switchableDataSource();
+		SwitchableDataSource second = SqlTestFixtures.switchableDataSource();
+		SqlReplicaRouter router = router(SqlTestFixtures.switchableDataSource(), SqlReplicaRouting.LEAST_LOADED, RETRY, first, second);
+		
+		Connection held = router.getReadConnection();
+		router.getReadConnection().close();
+		router.getReadConnection().close();
+		assertEquals(1, first.connectionCount());
+		assertEquals(2, second.connectionCount());
+		
+		held.close();
+		held.close();
+		router.getReadConnection().close();
+		router.getReadConnection().close();
+		assertEquals(2, first.connectionCount());
+		assertEquals(3, second.connectionCount());
+	}
+	
+	@Test
+	void getReadConnectionAbortReleasesLoad() throws SQLException {
+		SwitchableDataSource first = SqlTestFixtures.switchableDataSource();
+		SwitchableDataSource second = SqlTestFixtures.switchableDataSource();
+		SqlReplicaRouter router = router(SqlTestFixtures.switchableDataSource(), SqlReplicaRouting.LEAST_LOADED, RETRY, first, second);
+		
+		Connection aborted = router.getReadConnection();
+		aborted.abort(Runnable::run);
+		router.getReadConnection().close();
+		router.getReadConnection().close();
+		assertEquals(2, first.connectionCount());
+		assertEquals(1, second.connectionCount());
+	}
+	
+	@Test
+	void getReadConnectionUnwrapsReplicaConnection() throws SQLException {
+		SqlReplicaRouter router = router(SqlTestFixtures.switchableDataSource(), SqlReplicaRouting.ROUND_ROBIN, RETRY, SqlTestFixtures.switchableDataSource());
+		try (Connection connection = router.getReadConnection()) {
+			assertTrue(connection.isWrapperFor(SqlReplicaConnection.class));
+			assertSame(connection, connection.unwrap(SqlReplicaConnection.class));
+		}
+	}
+	
+	@Test
+	void getReadConnectionEjectsFailingReplica() throws SQLException {
+		SwitchableDataSource primary = SqlTestFixtures.switchableDataSource();
+		SwitchableDataSource failing = SqlTestFixtures.switchableDataSource().failing(true);
+		SwitchableDataSource healthy = SqlTestFixtures.switchableDataSource();
+		SqlReplicaRouter router = router(primary, SqlReplicaRouting.ROUND_ROBIN, RETRY, failing, healthy);
+		
+		router.getReadConnection().close();
+		assertEquals(1, router.healthyReplicaCount());
+		
+		failing.failing(false);
+		router.getReadConnection().close();
+		router.getReadConnection().close();
+		assertEquals(0, failing.connectionCount());
+		assertEquals(3, healthy.connectionCount());
+		assertEquals(0, primary.connectionCount());
+	}
+	
+	@Test
+	void getReadConnectionFallsBackToPrimary() throws SQLException {
+		SwitchableDataSource primary = SqlTestFixtures.switchableDataSource();
+		SqlReplicaRouter router = router(primary, SqlReplicaRouting.ROUND_ROBIN, RETRY, SqlTestFixtures.failingDataSource(), SqlTestFixtures.failingDataSource());
+		router.getReadConnection().close();
+		assertEquals(1, primary.connectionCount());
+		assertEquals(0, router.healthyReplicaCount());
+	}
+	
+	@Test
+	void getReadConnectionReinstatesRecoveredReplica() throws SQLException {
+		SwitchableDataSource primary = SqlTestFixtures.switchableDataSource();
+		SwitchableDataSource replica = SqlTestFixtures.switchableDataSource().failing(true);
+		SqlReplicaRouter router = new SqlReplicaRouter(primary, List.of(replica), SqlReplicaRouting.ROUND_ROBIN, Duration.ZERO, Clock.fixed(Instant.EPOCH, ZoneOffset.UTC));
+		
+		router.getReadConnection().close();
+		assertEquals(0, router.healthyReplicaCount());
+		assertEquals(1, primary.connectionCount());
+		
+		replica.failing(false);
+		router.getReadConnection().close();
+		assertEquals(1, router.healthyReplicaCount());
+		assertEquals(2, replica.connectionCount());
+		assertEquals(1, primary.connectionCount());
+	}
+	
+	@Test
+	void checkHealthEjectsAndReinstatesReplicas() {
+		SwitchableDataSource first = SqlTestFixtures.switchableDataSource().failing(true);
+		SwitchableDataSource second = SqlTestFixtures.switchableDataSource();
+		SqlReplicaRouter router = router(SqlTestFixtures.switchableDataSource(), SqlReplicaRouting.ROUND_ROBIN, RETRY, first, second, SqlTestFixtures.throwingConnectionDataSource());
+		assertEquals(1, router.checkHealth());
+		assertEquals(1, router.healthyReplicaCount());
+		
+		first.failing(false);
+		assertEquals(2, router.checkHealth());
+		assertEquals(2, router.healthyReplicaCount());
+	}
+	
+	@Test
+	void startHealthChecksWithInvalidInterval() {
+		SqlReplicaRouter router = router(SqlTestFixtures.switchableDataSource(), SqlReplicaRouting.ROUND_ROBIN, RETRY, SqlTestFixtures.switchableDataSource());
+		assertThrows(NullPointerException.class, () -> router.startHealthChecks(null));
+		assertThrows(IllegalArgumentException.class, () -> router.startHealthChecks(Duration.ZERO));
+		assertThrows(IllegalArgumentException.class, () -> router.startHealthChecks(Duration.ofSeconds(-1)));
+		assertFalse(router.isCheckingHealth());
+	}
+	
+	@Test
+	void startHealthChecksEjectsFailingReplica() throws InterruptedException {
+		SwitchableDataSource replica = SqlTestFixtures.switchableDataSource().failing(true);
+		SqlReplicaRouter router = router(SqlTestFixtures.switchableDataSource(), SqlReplicaRouting.ROUND_ROBIN, RETRY, replica);
+		
+		router.startHealthChecks(Duration.ofMillis(10));
+		try {
+			assertTrue(router.isCheckingHealth());
+			assertThrows(IllegalStateException.class, () -> router.startHealthChecks(Duration.ofMillis(10)));
+			long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+			while (router.healthyReplicaCount() != 0 && deadline > System.nanoTime()) {
+				Thread.sleep(10);
+			}
+			assertEquals(0, router.healthyReplicaCount());
+		} finally {
+			router.stopHealthChecks();
+		}
+		assertFalse(router.isCheckingHealth());
+		assertDoesNotThrow(router::stopHealthChecks);
+	}
+	
+	@Test
+	void toStringContainsState() {
+		SqlReplicaRouter router = router(SqlTestFixtures.switchableDataSource(), SqlReplicaRouting.ROUND_ROBIN, RETRY, SqlTestFixtures.switchableDataSource());
+		String string = router.toString();
+		assertTrue(string.contains("replicas=1"));
+		assertTrue(string.contains("ROUND_ROBIN"));
+	}
+}
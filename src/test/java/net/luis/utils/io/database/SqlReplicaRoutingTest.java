@@ -0,0 +1,44 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.database;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link SqlReplicaRouting}.<br>
+ *
+ * @author Luis-St
+ */
+class SqlReplicaRoutingTest {
+	
+	@Test
+	void valuesContainsAllConstants() {
+		SqlReplicaRouting[] values = SqlReplicaRouting.values();
+		assertEquals(2, values.length);
+		assertArrayEquals(new SqlReplicaRouting[] { SqlReplicaRouting.ROUND_ROBIN, SqlReplicaRouting.LEAST_LOADED }, values);
+	}
+	
+	@Test
+	void valueOfResolvesConstants() {
+		assertEquals(SqlReplicaRouting.ROUND_ROBIN, SqlReplicaRouting.valueOf("ROUND_ROBIN"));
+		assertEquals(SqlReplicaRouting.LEAST_LOADED, SqlReplicaRouting.valueOf("LEAST_LOADED"));
+	}
+}
@@ -327,6 +327,19 @@ public final class SqlTestFixtures {
 		return new AutoCloseableDataSource(failOnClose);
 	}
 	
+	/**
+	 * Creates a {@link SwitchableDataSource} that hands out {@link #recordingDataSource() recording} connections until
+	 * it is switched to failing.<br>
+	 * <p>
+	 *     Drives the replica routing paths, where a data source that stops handing out connections must be ejected
+	 *     and a data source that recovers must be reinstated. Every successful {@code getConnection} call is counted.
+	 * </p>
+	 * @return A new switchable data source
+	 */
+	public static @NonNull SwitchableDataSource switchableDataSource() {
+		return new SwitchableDataSource();
+	}
+	
 	/**
 	 * Creates a non-null {@link Connection} that serves working no-op statements until the {@code failingStatement}-th
 	 * statement-creating call, which throws a {@link SQLException}.<br>
@@ -514,6 +527,53 @@ public final class SqlTestFixtures {
 		);
 	}
 	
+	/**
+	 * Creates a fake multi-row {@link ResultSet} that serves the column values of each row by 1-based index.<br>
+	 * <p>
+	 *     Each array in {@code rows} is one row; {@code next()} advances through them in order.
+	 *     The value readers behave like the ones of {@link #resultRow(Object...)} for the current row,
+	 *     {@code close()} is a no-op and any other invoked method throws {@link UnsupportedOperationException}.
+	 * </p>
+	 * @param rows The rows to serve, one array of column values per row
+	 * @return A new fake result set positioned before the first row
+	 * @throws NullPointerException If the rows list or any row is null
+	 */
+	public static @NonNull ResultSet indexedResultSet(@NonNull List<Object[]> rows) {
+		Objects.requireNonNull(rows, "Rows must not be null");
+		List<Object[]> copy = new ArrayList<>();
+		for (Object[] row : rows) {
+			copy.add(Objects.requireNonNull(row, "Row must not be null").clone());
+		}
+		int[] cursor = { -1 };
+		boolean[] wasNull = { false };
+		return (ResultSet) Proxy.newProxyInstance(
+			ResultSet.class.getClassLoader(),
+			new Class<?>[] { ResultSet.class },
+			(proxy, method, args) -> {
+				String name = method.getName();
+				if ("next".equals(name)) {
+					cursor[0]++;
+					return cursor[0] < copy.size();
+				}
+				if ("getObject".equals(name) && args != null && args.length >= 1 && args[0] instanceof Integer index) {
+					Object value = copy.get(cursor[0])[index - 1];
+					wasNull[0] = value == null;
+					return value == null || args.length == 1 ? value : ((Class<?>) args[1]).cast(value);
+				}
+				if ("wasNull".equals(name)) {
+					return wasNull[0];
+				}
+				if ("close".equals(name)) {
+					return null;
+				}
+				if ("toString".equals(name)) {
+					return "FakeResultSet";
+				}
+				throw new UnsupportedOperationException("Fake result set method '" + name + "' must not be invoked in tests");
+			}
+		);
+	}
+	
 	/**
 	 * Creates a multi-row {@link ResultSet} that serves column values <b>by label</b>, as the schema- and
 	 * migration-store {@code load} paths read them.<br>
@@ -661,6 +721,7 @@ public final class SqlTestFixtures {
 		private final boolean failOnRollback;
 		private int commitCount;
 		private int rollbackCount;
+		private int preparedStatementCount;
 		private int rowsAffected;
 		
 		private RecordingDataSource() {
@@ -695,6 +756,14 @@ public final class SqlTestFixtures {
 			return List.copyOf(this.executedSql);
 		}
 		
+		/**
+		 * Returns how many statements were prepared via {@code prepareStatement}/{@code prepareCall} on connections from this source.<br>
+		 * @return The prepared statement count
+		 */
+		public int preparedStatementCount() {
+			return this.preparedStatementCount;
+		}
+		
 		/**
 		 * Returns how many times {@code commit()} was called on connections from this source.<br>
 		 * @return The commit count
@@ -746,6 +815,7 @@ public final class SqlTestFixtures {
 					return this.statementProxy(null);
 				}
 				case "prepareStatement", "prepareCall" -> {
+					this.preparedStatementCount++;
 					return this.statementProxy(args != null && args.length > 0 && args[0] instanceof String sql ? sql : null);
 				}
 				case "getMetaData" -> {
@@ -784,14 +854,15 @@ public final class SqlTestFixtures {
 		}
 		
 		private Object statementProxy(String boundSql) {
+			int[] batchSize = { 0 };
 			return Proxy.newProxyInstance(
 				CallableStatement.class.getClassLoader(),
 				new Class<?>[] { CallableStatement.class },
-				(proxy, method, args) -> this.handleStatement(boundSql, method, args)
+				(proxy, method, args) -> this.handleStatement(boundSql, batchSize, method, args)
 			);
 		}
 		
-		private Object handleStatement(String boundSql, Method method, Object[] args) {
+		private Object handleStatement(String boundSql, int[] batchSize, Method method, Object[] args) {
 			String name = method.getName();
 			switch (name) {
 				case "execute" -> {
@@ -812,13 +883,20 @@ public final class SqlTestFixtures {
 				}
 				case "addBatch" -> {
 					this.record(boundSql, args);
+					batchSize[0]++;
 					return null;
 				}
 				case "executeBatch" -> {
-					return new int[0];
+					int[] counts = new int[batchSize[0]];
+					Arrays.fill(counts, this.rowsAffected);
+					batchSize[0] = 0;
+					return counts;
 				}
 				case "executeLargeBatch" -> {
-					return new long[0];
+					long[] counts = new long[batchSize[0]];
+					Arrays.fill(counts, this.rowsAffected);
+					batchSize[0] = 0;
+					return counts;
 				}
 				case "getGeneratedKeys", "getResultSet" -> {
 					return this.nextResultSet();
@@ -863,6 +941,9 @@ public final class SqlTestFixtures {
 				case "getConnection" -> {
 					return this.getConnection();
 				}
+				case "supportsBatchUpdates" -> {
+					return true;
+				}
 				case "getIdentifierQuoteString" -> {
 					return "\"";
 				}
@@ -1087,4 +1168,57 @@ public final class SqlTestFixtures {
 			throw new UnsupportedOperationException("Not used in tests");
 		}
 	}
+	
+	/**
+	 * A {@link DataSource} that delegates to a {@link RecordingDataSource} until it is switched to failing, after which
+	 * {@code getConnection} throws a {@link SQLException}.<br>
+	 */
+	public static final class SwitchableDataSource extends AbstractTestDataSource {
+		
+		private final RecordingDataSource delegate = new RecordingDataSource();
+		private boolean failing;
+		private int connectionCount;
+		
+		private SwitchableDataSource() {}
+		
+		/**
+		 * Sets whether {@code getConnection} should throw.<br>
+		 * @param failing Whether connecting should fail
+		 * @return This source, for chaining
+		 */
+		public @NonNull SwitchableDataSource failing(boolean failing) {
+			this.failing = failing;
+			return this;
+		}
+		
+		/**
+		 * Returns how many connections were handed out by this source.<br>
+		 * @return The connection count
+		 */
+		public int connectionCount() {
+			return this.connectionCount;
+		}
+		
+		/**
+		 * Returns the recording data source the connections are obtained from.<br>
+		 * @return The recording delegate
+		 */
+		public @NonNull RecordingDataSource recording() {
+			return this.delegate;
+		}
+		
+		@Override
+		public @NonNull Connection getConnection() throws SQLException {
+			if (this.failing) {
+				throw new SQLException("Data source switched to failing in tests");
+			}
+			this.connectionCount++;
+			return this.delegate.getConnection();
+		}
+		
+		@Override
+		public @NonNull Connection getConnection(String username, String password) throws SQLException {
+			return this.getConnection();
+		}
+	}
 }
@@ -34,6 +34,7 @@ import net.luis.utils.io.database.table.SqlColumn;
 import net.luis.utils.io.database.type.SqlType;
 import net.luis.utils.io.database.type.SqlTypes;
 import net.luis.utils.io.database.type.parameter.SqlParameter;
+import net.luis.utils.util.Pair;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
@@ -102,6 +103,18 @@ class AbstractSqlDialectTest {
 		assertThrows(NullPointerException.class, () -> DIALECT.readingOverride(null));
 	}
 	
+	@Test
+	void valueAccessorNullType() {
+		assertThrows(NullPointerException.class, () -> DIALECT.valueAccessor(null));
+	}
+	
+	@Test
+	void valueAccessorIsCachedPerType() {
+		assertSame(DIALECT.valueAccessor(SqlTypes.INTEGER), DIALECT.valueAccessor(SqlTypes.INTEGER));
+		assertSame(SqlTypes.INTEGER, DIALECT.valueAccessor(SqlTypes.INTEGER).type());
+		assertNotSame(DIALECT.valueAccessor(SqlTypes.INTEGER), DIALECT.valueAccessor(SqlTypes.LONG));
+	}
+	
 	@Test
 	void getParameterizedTypeNameNullParameter() {
 		assertThrows(NullPointerException.class, () -> DIALECT.getParameterizedTypeName(Types.VARCHAR, null));
@@ -510,23 +523,26 @@ class AbstractSqlDialectTest {
 	
 	@Test
 	void renderLimitOffsetLimitOnly() throws SqlException {
-		String sql = sql(DIALECT.renderLimitOffset(10, 0, false));
-		assertTrue(sql.contains("LIMIT 10"));
-		assertFalse(sql.contains("OFFSET"));
+		SqlRendered rendered = DIALECT.renderLimitOffset(10, 0, false);
+		assertTrue(sql(rendered).contains("LIMIT ?"));
+		assertFalse(sql(rendered).contains("OFFSET"));
+		assertEquals(List.of(10L), rendered.parameters().stream().map(Pair::getSecond).toList());
 	}
 	
 	@Test
 	void renderLimitOffsetOffsetOnly() throws SqlException {
-		String sql = sql(DIALECT.renderLimitOffset(5, 3, false));
-		assertTrue(sql.contains("LIMIT 5"));
-		assertTrue(sql.contains("OFFSET 3"));
+		SqlRendered rendered = DIALECT.renderLimitOffset(5, 3, false);
+		assertTrue(sql(rendered).contains("LIMIT ?"));
+		assertTrue(sql(rendered).contains("OFFSET ?"));
+		assertEquals(List.of(5L, 3L), rendered.parameters().stream().map(Pair::getSecond).toList());
 	}
 	
 	@Test
 	void renderLimitOffsetZeroOffsetSkipsOffset() throws SqlException {
-		String sql = sql(DIALECT.renderLimitOffset(0, 0, false));
-		assertTrue(sql.contains("LIMIT 0"));
-		assertFalse(sql.contains("OFFSET"));
+		SqlRendered rendered = DIALECT.renderLimitOffset(0, 0, false);
+		assertTrue(sql(rendered).contains("LIMIT ?"));
+		assertFalse(sql(rendered).contains("OFFSET"));
+		assertEquals(List.of(0L), rendered.parameters().stream().map(Pair::getSecond).toList());
 	}
 	
 	@Test
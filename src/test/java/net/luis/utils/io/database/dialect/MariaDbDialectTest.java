@@ -26,6 +26,7 @@ import net.luis.utils.io.database.type.SqlTypes;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -125,6 +126,22 @@ class MariaDbDialectTest {
 		assertEquals("MariaDB", DIALECT.name());
 	}
 	
+	@Test
+	void batchRewritePropertiesEnableBulkStatements() {
+		assertEquals(Map.of("useBulkStmts", "true"), DIALECT.batchRewriteProperties());
+	}
+	
+	@Test
+	void bulkLoadUsesLocalInfile() {
+		assertEquals(SqlBulkLoadMethod.LOAD_DATA, DIALECT.bulkLoadMethod());
+		assertEquals(Map.of("allowLocalInfile", "true"), DIALECT.bulkLoadProperties());
+	}
+	
+	@Test
+	void streamingFetchSizeIsPositive() {
+		assertEquals(1000, DIALECT.streamingFetchSize());
+	}
+	
 	@Test
 	void uuidTypeSupportedViaRegistry() throws SqlException {
 		assertEquals("UUID", DIALECT.getTypeName(SqlTypes.UUID));
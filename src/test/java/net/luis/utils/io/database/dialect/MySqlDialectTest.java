@@ -32,6 +32,7 @@ import org.junit.jupiter.api.Test;
 
 import java.sql.Types;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -236,6 +237,22 @@ class MySqlDialectTest {
 		assertTrue(DIALECT.usesInsertOrIgnoreModifier());
 	}
 	
+	@Test
+	void batchRewritePropertiesEnableRewrittenBatches() {
+		assertEquals(Map.of("rewriteBatchedStatements", "true"), DIALECT.batchRewriteProperties());
+	}
+	
+	@Test
+	void bulkLoadUsesLocalInfile() {
+		assertEquals(SqlBulkLoadMethod.LOAD_DATA, DIALECT.bulkLoadMethod());
+		assertEquals(Map.of("allowLoadLocalInfile", "true"), DIALECT.bulkLoadProperties());
+	}
+	
+	@Test
+	void streamingFetchSizeEnablesRowStreaming() {
+		assertEquals(Integer.MIN_VALUE, DIALECT.streamingFetchSize());
+	}
+	
 	@Test
 	void nameReturnsMySql() {
 		assertEquals("MySQL", DIALECT.name());
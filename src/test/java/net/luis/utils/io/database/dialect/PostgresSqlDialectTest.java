@@ -36,6 +36,7 @@ import org.junit.jupiter.api.Test;
 import java.lang.reflect.Proxy;
 import java.sql.*;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -191,6 +192,22 @@ class PostgresSqlDialectTest {
 		assertEquals("PostgreSQL", DIALECT.name());
 	}
 	
+	@Test
+	void batchRewritePropertiesEnableBatchedInserts() {
+		assertEquals(Map.of("reWriteBatchedInserts", "true"), DIALECT.batchRewriteProperties());
+	}
+	
+	@Test
+	void bulkLoadUsesCopy() {
+		assertEquals(SqlBulkLoadMethod.COPY, DIALECT.bulkLoadMethod());
+		assertTrue(DIALECT.bulkLoadProperties().isEmpty());
+	}
+	
+	@Test
+	void streamingRequiresTransaction() {
+		assertTrue(DIALECT.requiresTransactionForStreaming());
+	}
+	
 	@Test
 	void renderLateralJoinReturnsLateral() throws SqlException {
 		assertEquals("LATERAL", DIALECT.renderLateralJoin().sql());
@@ -0,0 +1,46 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.database.dialect;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link SqlBulkLoadMethod}.<br>
+ *
+ * @author Luis-St
+ */
+class SqlBulkLoadMethodTest {
+	
+	@Test
+	void valuesContainsAllConstants() {
+		SqlBulkLoadMethod[] values = SqlBulkLoadMethod.values();
+		assertEquals(3, values.length);
+		assertArrayEquals(new SqlBulkLoadMethod[] { SqlBulkLoadMethod.MULTI_VALUES, SqlBulkLoadMethod.COPY, SqlBulkLoadMethod.LOAD_DATA, SqlBulkLoadMethod.BULK_COPY }, values);
+	}
+	
+	@Test
+	void valueOfResolvesConstants() {
+		assertEquals(SqlBulkLoadMethod.MULTI_VALUES, SqlBulkLoadMethod.valueOf("MULTI_VALUES"));
+		assertEquals(SqlBulkLoadMethod.COPY, SqlBulkLoadMethod.valueOf("COPY"));
+		assertEquals(SqlBulkLoadMethod.LOAD_DATA, SqlBulkLoadMethod.valueOf("LOAD_DATA"));
+		assertEquals(SqlBulkLoadMethod.BULK_COPY, SqlBulkLoadMethod.valueOf("BULK_COPY"));
+	}
+}
@@ -61,11 +61,37 @@ class SqlDialectTest {
 		assertTrue(new StubDialect().readingOverride(SqlTypes.INTEGER).isEmpty());
 	}
 	
+	@Test
+	void valueAccessorDefaultResolvesAccessor() {
+		SqlDialect dialect = new StubDialect();
+		assertSame(SqlTypes.INTEGER, dialect.valueAccessor(SqlTypes.INTEGER).type());
+		assertSame(dialect, dialect.valueAccessor(SqlTypes.INTEGER).dialect());
+	}
+	
 	@Test
 	void maxBindParametersDefaultValue() {
 		assertEquals(65535, new StubDialect().maxBindParameters());
 	}
 	
+	@Test
+	void batchRewritePropertiesDefaultIsEmpty() {
+		assertTrue(new StubDialect().batchRewriteProperties().isEmpty());
+	}
+	
+	@Test
+	void bulkLoadDefaults() {
+		StubDialect dialect = new StubDialect();
+		assertEquals(SqlBulkLoadMethod.MULTI_VALUES, dialect.bulkLoadMethod());
+		assertTrue(dialect.bulkLoadProperties().isEmpty());
+	}
+	
+	@Test
+	void streamingDefaults() {
+		StubDialect dialect = new StubDialect();
+		assertEquals(1000, dialect.streamingFetchSize());
+		assertFalse(dialect.requiresTransactionForStreaming());
+	}
+	
 	/**
 	 * Minimal hand-written {@link SqlDialect} that leaves the three interface default methods intact
 	 * so they can be exercised in isolation. All abstract members are stubbed and must not be invoked.
@@ -29,6 +29,7 @@ import net.luis.utils.io.database.table.SqlTable;
 import net.luis.utils.io.database.type.SqlType;
 import net.luis.utils.io.database.type.SqlTypes;
 import net.luis.utils.io.database.type.parameter.SqlParameter;
+import net.luis.utils.util.Pair;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Proxy;
@@ -221,26 +222,29 @@ class SqlServerDialectTest {
 	
 	@Test
 	void renderLimitOffsetWithoutOrderingPrependsOrderByNull() throws SqlException {
-		String sql = DIALECT.renderLimitOffset(10, 0, false).sql();
-		assertTrue(sql.contains("ORDER BY"));
-		assertTrue(sql.contains("SELECT NULL"));
-		assertTrue(sql.contains("OFFSET 0 ROWS"));
-		assertTrue(sql.contains("FETCH NEXT 10 ROWS ONLY"));
+		SqlRendered rendered = DIALECT.renderLimitOffset(10, 0, false);
+		assertTrue(rendered.sql().contains("ORDER BY"));
+		assertTrue(rendered.sql().contains("SELECT NULL"));
+		assertTrue(rendered.sql().contains("OFFSET ? ROWS"));
+		assertTrue(rendered.sql().contains("FETCH NEXT ? ROWS ONLY"));
+		assertEquals(List.of(0L, 10L), rendered.parameters().stream().map(Pair::getSecond).toList());
 	}
 	
 	@Test
 	void renderLimitOffsetWithOrderingOmitsOrderByNull() throws SqlException {
-		String sql = DIALECT.renderLimitOffset(10, 5, true).sql();
-		assertTrue(sql.contains("OFFSET 5 ROWS"));
-		assertTrue(sql.contains("FETCH NEXT 10 ROWS ONLY"));
-		assertFalse(sql.contains("SELECT NULL"));
+		SqlRendered rendered = DIALECT.renderLimitOffset(10, 5, true);
+		assertTrue(rendered.sql().contains("OFFSET ? ROWS"));
+		assertTrue(rendered.sql().contains("FETCH NEXT ? ROWS ONLY"));
+		assertFalse(rendered.sql().contains("SELECT NULL"));
+		assertEquals(List.of(5L, 10L), rendered.parameters().stream().map(Pair::getSecond).toList());
 	}
 	
 	@Test
 	void renderLimitOffsetNoLimitOmitsFetch() throws SqlException {
-		String sql = DIALECT.renderLimitOffset(-1, 5, true).sql();
-		assertTrue(sql.contains("OFFSET 5 ROWS"));
-		assertFalse(sql.contains("FETCH NEXT"));
+		SqlRendered rendered = DIALECT.renderLimitOffset(-1, 5, true);
+		assertTrue(rendered.sql().contains("OFFSET ? ROWS"));
+		assertFalse(rendered.sql().contains("FETCH NEXT"));
+		assertEquals(List.of(5L), rendered.parameters().stream().map(Pair::getSecond).toList());
 	}
 	
 	@Test
@@ -253,6 +257,12 @@ class SqlServerDialectTest {
 		assertEquals(2100, DIALECT.maxBindParameters());
 	}
 	
+	@Test
+	void bulkLoadUsesBulkCopy() {
+		assertEquals(SqlBulkLoadMethod.BULK_COPY, DIALECT.bulkLoadMethod());
+		assertTrue(DIALECT.bulkLoadProperties().isEmpty());
+	}
+	
 	@Test
 	void quoteIdentifierUsesBrackets() {
 		assertEquals("[col]", DIALECT.quoteIdentifier("col"));
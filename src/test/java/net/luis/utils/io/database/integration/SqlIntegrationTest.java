@@ -157,6 +157,8 @@ class SqlIntegrationTest {
 			config.setPassword(password);
 		}
 		
+		dialect.batchRewriteProperties().forEach(config::addDataSourceProperty);
+		dialect.bulkLoadProperties().forEach(config::addDataSourceProperty);
 		config.setMaximumPoolSize(poolSize);
 		if (poolSize == 1) {
 			config.setMinimumIdle(1);
@@ -326,6 +328,21 @@ class SqlIntegrationTest {
 		assertEquals(1L, database.from(PERSON).select().count());
 	}
 	
+	@MethodSource("engines")
+	@ParameterizedTest(name = "{0}")
+	void bulkLoadPersistsAllRows(@NonNull Engine engine) throws SqlException {
+		SqlDatabase database = engine.database();
+		resetSchema(database);
+		
+		Iterator<Person> rows = Stream.iterate(1, id -> id + 1).limit(250)
+			.map(id -> new Person(id, "Person\t" + id, "person" + id + "@example.com", id % 90, id % 2 == 0))
+			.iterator();
+		assertEquals(250L, database.from(PERSON).bulkLoad(rows));
+		assertEquals(250L, database.from(PERSON).select().count());
+		assertEquals("Person\t42", database.from(PERSON).select(P_NAME).where(Sql.equalTo(P_ID, 42)).fetchOne());
+		assertEquals(Boolean.TRUE, database.from(PERSON).select(P_ACTIVE).where(Sql.equalTo(P_ID, 42)).fetchOne());
+	}
+	
 	@MethodSource("engines")
 	@ParameterizedTest(name = "{0}")
 	void insertBatchPersistsAllRows(@NonNull Engine engine) throws SqlException {
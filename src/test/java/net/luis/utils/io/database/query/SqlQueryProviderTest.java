@@ -18,20 +18,21 @@
 
 package net.luis.utils.io.database.query;
 
-import net.luis.utils.io.database.SqlDatabase;
-import net.luis.utils.io.database.SqlSession;
+import net.luis.utils.io.database.*;
+import net.luis.utils.io.database.SqlTestFixtures.RecordingDataSource;
 import net.luis.utils.io.database.audit.SqlAuditUserProvider;
 import net.luis.utils.io.database.exception.SqlException;
+import net.luis.utils.io.database.exception.client.SqlIncompletePrimaryKeyException;
 import net.luis.utils.io.database.expression.SqlExpression;
 import net.luis.utils.io.database.query.crud.SqlInsertQuery;
 import net.luis.utils.io.database.query.crud.SqlSelectQuery;
 import net.luis.utils.io.database.query.row.SqlRow4;
-import net.luis.utils.io.database.table.SqlColumn;
-import net.luis.utils.io.database.table.SqlTable;
+import net.luis.utils.io.database.table.*;
 import net.luis.utils.io.database.type.SqlTypes;
 import org.junit.jupiter.api.Test;
 
-import java.util.List;
+import java.time.Duration;
+import java.util.*;
 
 import static net.luis.utils.io.database.SqlTestFixtures.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -50,6 +51,13 @@ class SqlQueryProviderTest {
 		return table;
 	}
 	
+	private static SqlTable<Person> keyedPersonTable() {
+		SqlTable<Person> table = SqlTable.create(Person.class, "person");
+		table.column("id", INTEGER_TYPE, Person::id, column -> column.primaryKey());
+		table.column("name", STRING_TYPE, Person::name);
+		return table;
+	}
+	
 	private static SqlQueryProvider<Person> personProvider() {
 		return new SqlQueryProvider<>(personTable(), DIALECT, SOURCE, TIMEOUT);
 	}
@@ -147,6 +155,12 @@ class SqlQueryProviderTest {
 		assertThrows(NullPointerException.class, () -> provider.insert((SqlSelectQuery<?>) null));
 	}
 	
+	@Test
+	void bulkLoadWithNullRows() {
+		SqlQueryProvider<Person> provider = personProvider();
+		assertThrows(NullPointerException.class, () -> provider.bulkLoad(null));
+	}
+	
 	@Test
 	void selectReturnsFullEntityQuery() throws SqlException {
 		SqlSelectQuery<Person> query = personProvider().select();
@@ -225,6 +239,16 @@ class SqlQueryProviderTest {
 		assertTrue(query.toSql(DIALECT).sql().contains("INSERT INTO"));
 	}
 	
+	@Test
+	void bulkLoadInsertsRowsWithMultiRowInsert() throws SqlException {
+		RecordingDataSource dataSource = recordingDataSource().rowsAffected(2);
+		SqlQueryProvider<Person> provider = new SqlQueryProvider<>(personTable(), DIALECT, SqlConnectionSource.pooled(dataSource), TIMEOUT);
+		
+		assertEquals(2, provider.bulkLoad(List.of(new Person(1, "a"), new Person(2, "b")).iterator()));
+		assertEquals(1, dataSource.executedSql().size());
+		assertTrue(dataSource.executedSql().getFirst().contains("INSERT INTO"));
+	}
+	
 	@Test
 	void updateReturnsUpdateQuery() {
 		assertNotNull(personProvider().update());
@@ -440,6 +464,149 @@ class SqlQueryProviderTest {
 		assertEquals(4, markerCount(query.toSql(DIALECT).sql()));
 	}
 	
+	@Test
+	void findByPrimaryKeyWithNull() {
+		assertThrows(NullPointerException.class, () -> personProvider().findByPrimaryKey(null));
+	}
+	
+	@Test
+	void findByPrimaryKeyWithoutPrimaryKeyColumns() {
+		assertThrows(SqlIncompletePrimaryKeyException.class, () -> personProvider().findByPrimaryKey(1));
+	}
+	
+	@Test
+	void findByPrimaryKeyWithMismatchedCompositeKey() {
+		SqlTable<Person> table = SqlTable.create(Person.class, "person");
+		table.column("id", INTEGER_TYPE, Person::id, column -> column.primaryKey());
+		table.column("name", STRING_TYPE, Person::name, column -> column.primaryKey());
+		SqlQueryProvider<Person> provider = new SqlQueryProvider<>(table, DIALECT, SOURCE, TIMEOUT);
+		assertThrows(IllegalArgumentException.class, () -> provider.findByPrimaryKey(1));
+		assertThrows(IllegalArgumentException.class, () -> provider.findByPrimaryKey(List.of(1)));
+		assertThrows(SqlIncompletePrimaryKeyException.class, () -> provider.findByPrimaryKey(Arrays.asList(1, null)));
+	}
+	
+	@Test
+	void findByPrimaryKeyWithoutCacheQueriesDatabase() throws SqlException {
+		RecordingDataSource dataSource = recordingDataSource();
+		dataSource.enqueueResultSet(indexedResultSet(List.<Object[]>of(new Object[] { 1, "a" })));
+		dataSource.enqueueResultSet(indexedResultSet(List.<Object[]>of(new Object[] { 1, "a" })));
+		SqlQueryProvider<Person> provider = new SqlQueryProvider<>(keyedPersonTable(), DIALECT, SqlConnectionSource.pooled(dataSource), TIMEOUT);
+		
+		assertEquals(Optional.of(new Person(1, "a")), provider.findByPrimaryKey(1));
+		assertEquals(Optional.of(new Person(1, "a")), provider.findByPrimaryKey(1));
+		assertEquals(2, dataSource.executedSql().size());
+	}
+	
+	@Test
+	void findByPrimaryKeyConsultsCache() throws SqlException {
+		RecordingDataSource dataSource = recordingDataSource();
+		dataSource.enqueueResultSet(indexedResultSet(List.<Object[]>of(new Object[] { 1, "a" })));
+		SqlTable<Person> table = keyedPersonTable();
+		SqlEntityCache<Person> cache = table.enableCache(16, Duration.ofMinutes(1));
+		SqlQueryProvider<Person> provider = new SqlQueryProvider<>(table, DIALECT, SqlConnectionSource.pooled(dataSource), TIMEOUT);
+		
+		assertEquals(Optional.of(new Person(1, "a")), provider.findByPrimaryKey(1));
+		assertEquals(Optional.of(new Person(1, "a")), provider.findByPrimaryKey(1));
+		assertEquals(1, dataSource.executedSql().size());
+		assertEquals(1, cache.stats().hits());
+		assertEquals(1, cache.stats().misses());
+	}
+	
+	@Test
+	void findByPrimaryKeyInTransactionBypassesCache() throws SqlException {
+		RecordingDataSource dataSource = recordingDataSource();
+		dataSource.enqueueResultSet(indexedResultSet(List.<Object[]>of(new Object[] { 1, "b" })));
+		SqlTable<Person> table = keyedPersonTable();
+		SqlEntityCache<Person> cache = table.enableCache(16, Duration.ofMinutes(1));
+		SqlConnectionSource pooled = SqlConnectionSource.pooled(dataSource);
+		SqlConnectionSource transactional = new SqlConnectionSource() {
+			
+			@Override
+			public SqlConnectionHandle open() throws SqlException {
+				return pooled.open();
+			}
+			
+			@Override
+			public boolean inTransaction() {
+				return true;
+			}
+		};
+		SqlQueryProvider<Person> provider = new SqlQueryProvider<>(table, DIALECT, transactional, TIMEOUT);
+		
+		cache.put(1, new Person(1, "a"));
+		assertEquals(Optional.of(new Person(1, "b")), provider.findByPrimaryKey(1));
+		assertEquals(1, dataSource.executedSql().size());
+		assertEquals(Optional.of(new Person(1, "a")), cache.get(1));
+	}
+	
+	@Test
+	void findByPrimaryKeyLoadsCacheMissFromPrimary() throws SqlException {
+		RecordingDataSource primary = recordingDataSource();
+		RecordingDataSource replica = recordingDataSource();
+		primary.enqueueResultSet(indexedResultSet(List.<Object[]>of(new Object[] { 1, "b" })));
+		replica.enqueueResultSet(indexedResultSet(List.<Object[]>of(new Object[] { 1, "a" })));
+		SqlTable<Person> table = keyedPersonTable();
+		SqlEntityCache<Person> cache = table.enableCache(16, Duration.ofMinutes(1));
+		SqlReplicaRouter router = new SqlReplicaRouter(primary, List.of(replica), SqlReplicaRouting.ROUND_ROBIN, Duration.ofMinutes(1));
+		SqlQueryProvider<Person> provider = new SqlQueryProvider<>(table, DIALECT, SqlConnectionSource.replicated(router), TIMEOUT);
+		
+		cache.put(1, new Person(1, "a"));
+		cache.invalidate(1);
+		assertEquals(Optional.of(new Person(1, "b")), provider.findByPrimaryKey(1));
+		assertEquals(Optional.of(new Person(1, "b")), cache.get(1));
+		assertEquals(1, primary.executedSql().size());
+		assertTrue(replica.executedSql().isEmpty());
+	}
+	
+	@Test
+	void findByPrimaryKeyDoesNotCacheMissingEntity() throws SqlException {
+		RecordingDataSource dataSource = recordingDataSource();
+		SqlTable<Person> table = keyedPersonTable();
+		table.enableCache(16, Duration.ofMinutes(1));
+		SqlQueryProvider<Person> provider = new SqlQueryProvider<>(table, DIALECT, SqlConnectionSource.pooled(dataSource), TIMEOUT);
+		
+		assertEquals(Optional.empty(), provider.findByPrimaryKey(1));
+		assertEquals(Optional.empty(), provider.findByPrimaryKey(1));
+		assertEquals(2, dataSource.executedSql().size());
+	}
+	
+	@Test
+	void updateInvalidatesCache() throws SqlException {
+		SqlTable<Person> table = SqlTable.create(Person.class, "person");
+		SqlColumn<Person, Integer> id = table.column("id", INTEGER_TYPE, Person::id, column -> column.primaryKey());
+		SqlColumn<Person, String> name = table.column("name", STRING_TYPE, Person::name);
+		SqlEntityCache<Person> cache = table.enableCache(16, Duration.ofMinutes(1));
+		SqlQueryProvider<Person> provider = new SqlQueryProvider<>(table, DIALECT, SqlConnectionSource.pooled(recordingDataSource()), TIMEOUT);
+		
+		cache.put(1, new Person(1, "a"));
+		provider.update().set(name, "b").where(Sql.equalTo(id, 1)).execute();
+		assertEquals(Optional.empty(), cache.get(1));
+	}
+	
+	@Test
+	void deleteInvalidatesCache() throws SqlException {
+		SqlTable<Person> table = SqlTable.create(Person.class, "person");
+		SqlColumn<Person, Integer> id = table.column("id", INTEGER_TYPE, Person::id, column -> column.primaryKey());
+		table.column("name", STRING_TYPE, Person::name);
+		SqlEntityCache<Person> cache = table.enableCache(16, Duration.ofMinutes(1));
+		SqlQueryProvider<Person> provider = new SqlQueryProvider<>(table, DIALECT, SqlConnectionSource.pooled(recordingDataSource()), TIMEOUT);
+		
+		cache.put(1, new Person(1, "a"));
+		provider.delete().where(Sql.equalTo(id, 1)).execute();
+		assertEquals(Optional.empty(), cache.get(1));
+	}
+	
+	@Test
+	void plainInsertKeepsCache() throws SqlException {
+		SqlTable<Person> table = keyedPersonTable();
+		SqlEntityCache<Person> cache = table.enableCache(16, Duration.ofMinutes(1));
+		SqlQueryProvider<Person> provider = new SqlQueryProvider<>(table, DIALECT, SqlConnectionSource.pooled(recordingDataSource()), TIMEOUT);
+		
+		cache.put(1, new Person(1, "a"));
+		provider.insert(new Person(2, "b")).execute();
+		assertEquals(Optional.of(new Person(1, "a")), cache.get(1));
+	}
+	
 	private record Person(int id, String name) {}
 	
 	private record Counter(int value) {}
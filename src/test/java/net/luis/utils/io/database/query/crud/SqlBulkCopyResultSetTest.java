@@ -0,0 +1,187 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.database.query.crud;
+
+import net.luis.utils.io.database.exception.SqlException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.*;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link SqlBulkCopyResultSet}.<br>
+ *
+ * @author Luis-St
+ */
+class SqlBulkCopyResultSetTest {
+	
+	private static SqlBulkCopyResultSet resultSet(Object[]... rows) {
+		Iterator<Object[]> iterator = Arrays.asList(rows).iterator();
+		return new SqlBulkCopyResultSet(List.of("id", "name"), new int[] { Types.INTEGER, Types.VARCHAR }, () -> iterator.hasNext() ? iterator.next() : null);
+	}
+	
+	@Test
+	void constructWithNullArguments() {
+		assertThrows(NullPointerException.class, () -> new SqlBulkCopyResultSet(null, new int[0], () -> null));
+		assertThrows(NullPointerException.class, () -> new SqlBulkCopyResultSet(List.of(), null, () -> null));
+		assertThrows(NullPointerException.class, () -> new SqlBulkCopyResultSet(List.of(), new int[0], null));
+	}
+	
+	@Test
+	void constructWithMismatchingColumns() {
+		assertThrows(IllegalArgumentException.class, () -> new SqlBulkCopyResultSet(List.of("id"), new int[0], () -> null));
+	}
+	
+	@Test
+	void nextReadsRowsLazily() throws SQLException {
+		int[] requested = new int[1];
+		SqlBulkCopyResultSet resultSet = new SqlBulkCopyResultSet(List.of("id"), new int[] { Types.INTEGER }, () -> requested[0]++ < 2 ? new Object[] { requested[0] } : null);
+		assertFalse(resultSet.isStarted());
+		assertEquals(0, requested[0]);
+		
+		ResultSet rows = resultSet.asResultSet();
+		assertTrue(rows.next());
+		assertTrue(resultSet.isStarted());
+		assertEquals(1, requested[0]);
+		assertEquals(1, rows.getObject(1));
+		assertTrue(rows.next());
+		assertFalse(rows.next());
+		assertFalse(rows.next());
+		assertEquals(3, requested[0]);
+		assertEquals(2, resultSet.rowCount());
+	}
+	
+	@Test
+	void emptyResultSetIsStarted() throws SQLException {
+		SqlBulkCopyResultSet resultSet = resultSet();
+		assertFalse(resultSet.asResultSet().next());
+		assertTrue(resultSet.isStarted());
+		assertEquals(0, resultSet.rowCount());
+	}
+	
+	@Test
+	void nextWrapsRowFailure() {
+		SqlException failure = new SqlException("fail");
+		SqlBulkCopyResultSet resultSet = new SqlBulkCopyResultSet(List.of("id"), new int[] { Types.INTEGER }, () -> {
+			throw failure;
+		});
+		SQLException exception = assertThrows(SQLException.class, resultSet.asResultSet()::next);
+		assertSame(failure, exception.getCause());
+	}
+	
+	@Test
+	void nextWithMismatchingRow() {
+		assertThrows(SQLException.class, () -> resultSet(new Object[] { 1 }).asResultSet().next());
+	}
+	
+	@Test
+	void getValues() throws SQLException {
+		ResultSet resultSet = resultSet(new Object[] { 5, "five" }).asResultSet();
+		assertTrue(resultSet.next());
+		assertEquals(5, resultSet.getObject(1));
+		assertEquals(5, resultSet.getObject("id"));
+		assertEquals(new BigDecimal("5"), resultSet.getBigDecimal(1));
+		assertEquals("five", resultSet.getString("NAME"));
+		assertFalse(resultSet.wasNull());
+		assertThrows(SQLException.class, () -> resultSet.getBigDecimal(2));
+		assertThrows(SQLException.class, () -> resultSet.getObject(3));
+		assertThrows(SQLException.class, () -> resultSet.findColumn("missing"));
+	}
+	
+	@Test
+	void getNullValues() throws SQLException {
+		ResultSet resultSet = resultSet(new Object[] { null, null }).asResultSet();
+		assertTrue(resultSet.next());
+		assertNull(resultSet.getObject(1));
+		assertTrue(resultSet.wasNull());
+		assertNull(resultSet.getString(2));
+		assertTrue(resultSet.wasNull());
+	}
+	
+	@Test
+	void getTemporalValues() throws SQLException {
+		Iterator<Object[]> rows = List.<Object[]>of(new Object[] { LocalDate.of(2020, 1, 15), LocalDateTime.of(2020, 1, 15, 10, 30) }).iterator();
+		ResultSet resultSet = new SqlBulkCopyResultSet(List.of("day", "moment"), new int[] { Types.DATE, Types.TIMESTAMP }, () -> rows.hasNext() ? rows.next() : null).asResultSet();
+		assertTrue(resultSet.next());
+		assertEquals(Date.valueOf("2020-01-15"), resultSet.getDate(1));
+		assertEquals(Timestamp.valueOf("2020-01-15 10:30:00"), resultSet.getTimestamp(2));
+		assertEquals(Timestamp.valueOf("2020-01-15 10:30:00"), resultSet.getObject(2, Timestamp.class));
+		assertEquals(LocalDate.of(2020, 1, 15), resultSet.getObject(1, LocalDate.class));
+	}
+	
+	@Test
+	void getBeforeNext() {
+		assertThrows(SQLException.class, () -> resultSet(new Object[] { 1, "one" }).asResultSet().getObject(1));
+	}
+	
+	@Test
+	void isReadOnlyAndForwardOnly() throws SQLException {
+		ResultSet resultSet = resultSet(new Object[] { 1, "one" }).asResultSet();
+		assertEquals(ResultSet.TYPE_FORWARD_ONLY, resultSet.getType());
+		assertEquals(ResultSet.CONCUR_READ_ONLY, resultSet.getConcurrency());
+		assertThrows(SQLFeatureNotSupportedException.class, resultSet::previous);
+		assertThrows(SQLFeatureNotSupportedException.class, () -> resultSet.updateInt(1, 2));
+		assertThrows(SQLFeatureNotSupportedException.class, resultSet::insertRow);
+	}
+	
+	@Test
+	void unsupportedGettersAreRejected() throws SQLException {
+		ResultSet resultSet = resultSet(new Object[] { 1, "one" }).asResultSet();
+		assertTrue(resultSet.next());
+		assertThrows(SQLFeatureNotSupportedException.class, () -> resultSet.getInt(1));
+		assertThrows(SQLFeatureNotSupportedException.class, () -> resultSet.getBlob("name"));
+	}
+	
+	@Test
+	void closeRejectsFurtherReads() throws SQLException {
+		SqlBulkCopyResultSet resultSet = resultSet(new Object[] { 1, "one" });
+		resultSet.close();
+		assertTrue(resultSet.asResultSet().isClosed());
+		assertThrows(SQLException.class, resultSet.asResultSet()::next);
+	}
+	
+	@Test
+	void metaDataDescribesColumns() throws SQLException {
+		ResultSetMetaData metaData = resultSet().asResultSet().getMetaData();
+		assertEquals(2, metaData.getColumnCount());
+		assertEquals("id", metaData.getColumnName(1));
+		assertEquals("name", metaData.getColumnLabel(2));
+		assertEquals(Types.INTEGER, metaData.getColumnType(1));
+		assertEquals("VARCHAR", metaData.getColumnTypeName(2));
+		assertEquals(0, metaData.getPrecision(1));
+		assertEquals(ResultSetMetaData.columnNullableUnknown, metaData.isNullable(2));
+		assertThrows(SQLException.class, () -> metaData.getColumnName(3));
+		assertThrows(SQLFeatureNotSupportedException.class, () -> metaData.isSigned(1));
+	}
+	
+	@Test
+	void unwrap() throws SQLException {
+		ResultSet resultSet = resultSet().asResultSet();
+		assertTrue(resultSet.isWrapperFor(ResultSet.class));
+		assertSame(resultSet, resultSet.unwrap(ResultSet.class));
+		assertFalse(resultSet.isWrapperFor(Statement.class));
+		assertThrows(SQLException.class, () -> resultSet.unwrap(Statement.class));
+	}
+}
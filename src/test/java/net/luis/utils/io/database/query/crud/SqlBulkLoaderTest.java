@@ -0,0 +1,249 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.database.query.crud;
+
+import net.luis.utils.function.throwable.ThrowableFunction;
+import net.luis.utils.io.database.SqlConnectionSource;
+import net.luis.utils.io.database.dialect.*;
+import net.luis.utils.io.database.exception.SqlException;
+import net.luis.utils.io.database.exception.database.SqlQueryExecutionException;
+import net.luis.utils.io.database.table.SqlTable;
+import net.luis.utils.io.database.type.SqlType;
+import net.luis.utils.io.database.type.SqlTypes;
+import net.luis.utils.io.database.type.SqlValueBinder;
+import net.luis.utils.io.database.type.parameter.SqlParameter;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.*;
+import java.time.*;
+import java.util.*;
+import java.util.stream.IntStream;
+
+import static net.luis.utils.io.database.SqlTestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link SqlBulkLoader}.<br>
+ *
+ * @author Luis-St
+ */
+class SqlBulkLoaderTest {
+	
+	private static SqlTable<Integer> numberTable() {
+		SqlTable<Integer> table = SqlTable.create(Integer.class, "numbers");
+		table.column("id", INTEGER_TYPE, number -> number);
+		table.column("name", STRING_TYPE, number -> "number " + number);
+		return table;
+	}
+	
+	private static Iterator<Integer> numbers(int count) {
+		return IntStream.range(0, count).boxed().iterator();
+	}
+	
+	private static ThrowableFunction<List<Integer>, Integer, SqlException> recordingInserter(List<Integer> chunkSizes) {
+		return chunk -> {
+			chunkSizes.add(chunk.size());
+			return chunk.size();
+		};
+	}
+	
+	private static Connection localInfileConnection(long loaded, @Nullable SQLWarning warning, List<String> calls, StringBuilder content) throws ClassNotFoundException {
+		Class<?> statementType = Class.forName("com.mysql.cj.jdbc.JdbcStatement");
+		InputStream[] stream = new InputStream[1];
+		Object statement = Proxy.newProxyInstance(statementType.getClassLoader(), new Class<?>[] { Statement.class, statementType }, (proxy, method, args) -> switch (method.getName()) {
+			case "isWrapperFor" -> statementType.equals(args[0]);
+			case "unwrap" -> proxy;
+			case "setLocalInfileInputStream" -> {
+				stream[0] = (InputStream) args[0];
+				yield null;
+			}
+			case "executeLargeUpdate" -> {
+				content.append(new String(stream[0].readAllBytes(), StandardCharsets.UTF_8));
+				yield loaded;
+			}
+			case "getWarnings" -> warning;
+			default -> null;
+		});
+		boolean[] autoCommit = { true };
+		return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class }, (proxy, method, args) -> switch (method.getName()) {
+			case "getAutoCommit" -> autoCommit[0];
+			case "setAutoCommit" -> {
+				autoCommit[0] = (boolean) args[0];
+				calls.add("setAutoCommit " + args[0]);
+				yield null;
+			}
+			case "createStatement" -> statement;
+			case "commit", "rollback" -> {
+				calls.add(method.getName());
+				yield null;
+			}
+			default -> null;
+		});
+	}
+	
+	@Test
+	void loadWithNullArguments() {
+		ThrowableFunction<List<Integer>, Integer, SqlException> inserter = recordingInserter(new ArrayList<>());
+		assertThrows(NullPointerException.class, () -> SqlBulkLoader.load(null, DIALECT, SOURCE, numbers(1), inserter));
+		assertThrows(NullPointerException.class, () -> SqlBulkLoader.load(numberTable(), null, SOURCE, numbers(1), inserter));
+		assertThrows(NullPointerException.class, () -> SqlBulkLoader.load(numberTable(), DIALECT, null, numbers(1), inserter));
+		assertThrows(NullPointerException.class, () -> SqlBulkLoader.load(numberTable(), DIALECT, SOURCE, null, inserter));
+		assertThrows(NullPointerException.class, () -> SqlBulkLoader.load(numberTable(), DIALECT, SOURCE, numbers(1), null));
+	}
+	
+	@Test
+	void loadWithoutRowsInsertsNothing() throws SqlException {
+		List<Integer> chunkSizes = new ArrayList<>();
+		assertEquals(0, SqlBulkLoader.load(numberTable(), DIALECT, SOURCE, numbers(0), recordingInserter(chunkSizes)));
+		assertTrue(chunkSizes.isEmpty());
+	}
+	
+	@Test
+	void loadSplitsRowsByBindParameterLimit() throws SqlException {
+		List<Integer> chunkSizes = new ArrayList<>();
+		assertEquals(1000, SqlBulkLoader.load(numberTable(), SqlDialects.SQLITE, SOURCE, numbers(1000), recordingInserter(chunkSizes)));
+		assertEquals(List.of(499, 499, 2), chunkSizes);
+	}
+	
+	@Test
+	void loadStreamsRowsChunkByChunk() throws SqlException {
+		int[] consumed = new int[1];
+		Iterator<Integer> rows = new Iterator<>() {
+			private final Iterator<Integer> delegate = numbers(1000);
+			
+			@Override
+			public boolean hasNext() {
+				return this.delegate.hasNext();
+			}
+			
+			@Override
+			public Integer next() {
+				consumed[0]++;
+				return this.delegate.next();
+			}
+		};
+		List<Integer> consumedPerChunk = new ArrayList<>();
+		
+		SqlBulkLoader.load(numberTable(), SqlDialects.SQLITE, SOURCE, rows, chunk -> {
+			consumedPerChunk.add(consumed[0]);
+			return chunk.size();
+		});
+		assertEquals(List.of(499, 998, 1000), consumedPerChunk);
+	}
+	
+	@Test
+	void loadFallsBackWithoutCopyApi() throws SqlException {
+		RecordingDataSource dataSource = recordingDataSource();
+		List<Integer> chunkSizes = new ArrayList<>();
+		assertEquals(3, SqlBulkLoader.load(numberTable(), SqlDialects.POSTGRESQL, SqlConnectionSource.pooled(dataSource), numbers(3), recordingInserter(chunkSizes)));
+		assertEquals(List.of(3), chunkSizes);
+		assertTrue(dataSource.executedSql().isEmpty());
+	}
+	
+	@Test
+	void loadFallsBackWithoutLocalInfileApi() throws SqlException {
+		RecordingDataSource dataSource = recordingDataSource();
+		List<Integer> chunkSizes = new ArrayList<>();
+		assertEquals(3, SqlBulkLoader.load(numberTable(), SqlDialects.MYSQL, SqlConnectionSource.pooled(dataSource), numbers(3), recordingInserter(chunkSizes)));
+		assertEquals(List.of(3), chunkSizes);
+		assertTrue(dataSource.executedSql().isEmpty());
+	}
+	
+	@Test
+	void loadFallsBackWithoutBulkCopyApi() throws SqlException {
+		RecordingDataSource dataSource = recordingDataSource();
+		List<Integer> chunkSizes = new ArrayList<>();
+		assertEquals(3, SqlBulkLoader.load(numberTable(), SqlDialects.SQL_SERVER, SqlConnectionSource.pooled(dataSource), numbers(3), recordingInserter(chunkSizes)));
+		assertEquals(List.of(3), chunkSizes);
+		assertTrue(dataSource.executedSql().isEmpty());
+	}
+	
+	@Test
+	void loadDataCommitsOwnedTransaction() throws Exception {
+		List<String> calls = new ArrayList<>();
+		SqlConnectionSource source = SqlConnectionSource.fixed(localInfileConnection(3, null, calls, new StringBuilder()));
+		
+		assertEquals(3, SqlBulkLoader.load(numberTable(), SqlDialects.MYSQL, source, numbers(3), recordingInserter(new ArrayList<>())));
+		assertEquals(List.of("setAutoCommit false", "commit", "setAutoCommit true"), calls);
+	}
+	
+	@Test
+	void loadDataRollsBackSkippedRows() throws Exception {
+		List<String> calls = new ArrayList<>();
+		SqlConnectionSource source = SqlConnectionSource.fixed(localInfileConnection(2, null, calls, new StringBuilder()));
+		
+		assertThrows(SqlException.class, () -> SqlBulkLoader.load(numberTable(), SqlDialects.MYSQL, source, numbers(3), recordingInserter(new ArrayList<>())));
+		assertEquals(List.of("setAutoCommit false", "rollback", "setAutoCommit true"), calls);
+	}
+	
+	@Test
+	void loadDataRollsBackWarnings() throws Exception {
+		List<String> calls = new ArrayList<>();
+		SqlConnectionSource source = SqlConnectionSource.fixed(localInfileConnection(3, new SQLWarning("Data truncated"), calls, new StringBuilder()));
+		
+		assertThrows(SqlQueryExecutionException.class, () -> SqlBulkLoader.load(numberTable(), SqlDialects.MYSQL, source, numbers(3), recordingInserter(new ArrayList<>())));
+		assertEquals(List.of("setAutoCommit false", "rollback", "setAutoCommit true"), calls);
+	}
+	
+	@Test
+	void loadDataFormatsTemporalValues() throws Exception {
+		record Event(LocalDate date, LocalTime time, LocalDateTime created, OffsetDateTime occurred) {}
+		SqlTable<Event> table = SqlTable.create(Event.class, "events");
+		table.column("date", SqlTypes.LOCAL_DATE, Event::date);
+		table.column("time", SqlTypes.LOCAL_TIME.configure(SqlParameter.fractional(0)), Event::time);
+		table.column("created", SqlTypes.LOCAL_DATE_TIME.configure(SqlParameter.fractional(6)), Event::created);
+		table.column("occurred", SqlTypes.OFFSET_DATE_TIME.configure(SqlParameter.fractional(0)), Event::occurred);
+		OffsetDateTime occurred = OffsetDateTime.of(2024, 1, 1, 10, 0, 0, 0, ZoneOffset.UTC);
+		Event event = new Event(LocalDate.of(2024, 1, 1), LocalTime.of(10, 0), LocalDateTime.of(2024, 1, 1, 10, 0, 0, 123456789), occurred);
+		StringBuilder content = new StringBuilder();
+		SqlConnectionSource source = SqlConnectionSource.fixed(localInfileConnection(1, null, new ArrayList<>(), content));
+		
+		assertEquals(1, SqlBulkLoader.load(table, SqlDialects.MYSQL, source, List.of(event).iterator(), chunk -> chunk.size()));
+		LocalDateTime local = occurred.atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+		assertEquals("2024-01-01\t10:00:00\t2024-01-01 10:00:00.123456\t" + String.format(Locale.ROOT, "%tF %<tT", local) + "\n", content.toString());
+	}
+	
+	@Test
+	void loadWithBindingOverrideWithoutOpeningConnection() throws SqlException {
+		SqlDialect dialect = new PostgresSqlDialect() {
+			@Override
+			public @NonNull Optional<SqlValueBinder> bindingOverride(@NonNull SqlType<?> type) {
+				return Optional.of((statement, index, value) -> statement.setObject(index, value));
+			}
+		};
+		List<Integer> chunkSizes = new ArrayList<>();
+		assertEquals(3, SqlBulkLoader.load(numberTable(), dialect, SOURCE, numbers(3), recordingInserter(chunkSizes)));
+		assertEquals(List.of(3), chunkSizes);
+	}
+	
+	@Test
+	void loadAuditedTableWithoutOpeningConnection() throws SqlException {
+		List<Integer> chunkSizes = new ArrayList<>();
+		assertEquals(2, SqlBulkLoader.load(auditedTable(), SqlDialects.POSTGRESQL, SOURCE, List.<Object>of(1, 2).iterator(), chunk -> {
+			chunkSizes.add(chunk.size());
+			return chunk.size();
+		}));
+		assertEquals(List.of(2), chunkSizes);
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.database.query.crud;
+
+import net.luis.utils.function.throwable.ThrowableFunction;
+import net.luis.utils.io.database.SqlConnectionSource;
+import net.luis.utils.io.database.exception.SqlException;
+import net.luis.utils.io.database.rendering.SqlRendered;
+import org.junit.jupiter.api.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.stream.Stream;
+
+import static net.luis.utils.io.database.SqlTestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link SqlCursor}.<br>
+ *
+ * @author Luis-St
+ */
+class SqlCursorTest {
+	
+	private static final ThrowableFunction<ResultSet, String, SqlException> NAME_MAPPER = resultSet -> {
+		try {
+			return resultSet.getString("name");
+		} catch (SQLException e) {
+			throw new SqlException(e);
+		}
+	};
+	
+	private static SqlCursor<String> cursor(String... names) throws SqlException {
+		RecordingDataSource dataSource = recordingDataSource();
+		dataSource.enqueueResultSet(labeledResultSet(Arrays.stream(names).map(name -> Map.of("name", name)).toList()));
+		return SqlQueryExecutor.openCursor(DIALECT, SqlConnectionSource.pooled(dataSource), SqlRendered.of("SELECT name FROM t"), TIMEOUT, NAME_MAPPER);
+	}
+	
+	@Test
+	void nextMapsRowsInOrder() throws SqlException {
+		try (SqlCursor<String> cursor = cursor("a", "b")) {
+			assertTrue(cursor.hasNext());
+			assertEquals("a", cursor.next());
+			assertEquals("b", cursor.next());
+			assertFalse(cursor.hasNext());
+		}
+	}
+	
+	@Test
+	void hasNextDoesNotSkipRows() throws SqlException {
+		try (SqlCursor<String> cursor = cursor("a")) {
+			assertTrue(cursor.hasNext());
+			assertTrue(cursor.hasNext());
+			assertEquals("a", cursor.next());
+		}
+	}
+	
+	@Test
+	void nextWithoutMoreRows() throws SqlException {
+		try (SqlCursor<String> cursor = cursor()) {
+			assertThrows(NoSuchElementException.class, cursor::next);
+		}
+	}
+	
+	@Test
+	void closedCursorHasNoMoreRows() throws SqlException {
+		SqlCursor<String> cursor = cursor("a");
+		cursor.close();
+		assertFalse(cursor.hasNext());
+		assertDoesNotThrow(cursor::close);
+	}
+	
+	@Test
+	void streamMapsRemainingRows() throws SqlException {
+		try (Stream<String> stream = cursor("a", "b", "c").stream()) {
+			assertEquals(List.of("a", "b", "c"), stream.toList());
+		}
+	}
+}
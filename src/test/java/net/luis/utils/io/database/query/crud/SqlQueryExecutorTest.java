@@ -18,6 +18,7 @@
 
 package net.luis.utils.io.database.query.crud;
 
+import net.luis.utils.io.database.SqlConnectionSource;
 import net.luis.utils.io.database.audit.SqlAuditUserProvider;
 import net.luis.utils.io.database.exception.SqlException;
 import net.luis.utils.io.database.exception.client.dialect.SqlDialectFeatureException;
@@ -25,6 +26,7 @@ import net.luis.utils.io.database.rendering.SqlRendered;
 import net.luis.utils.io.database.rendering.SqlRenderer;
 import org.junit.jupiter.api.Test;
 
+import java.sql.Statement;
 import java.util.List;
 import java.util.Optional;
 
@@ -60,6 +62,59 @@ class SqlQueryExecutorTest {
 		assertEquals(0, SqlQueryExecutor.executeBatchedUpdate(DIALECT, SOURCE, List.of(), TIMEOUT));
 	}
 	
+	@Test
+	void executeBatchedUpdateGroupsIdenticalSql() throws SqlException {
+		RecordingDataSource dataSource = recordingDataSource().rowsAffected(2);
+		List<SqlRendered> renderedList = List.of(SqlRendered.of("INSERT A"), SqlRendered.of("INSERT A"), SqlRendered.of("INSERT A"), SqlRendered.of("INSERT B"));
+		
+		assertEquals(8, SqlQueryExecutor.executeBatchedUpdate(DIALECT, SqlConnectionSource.pooled(dataSource), renderedList, TIMEOUT));
+		assertEquals(2, dataSource.preparedStatementCount());
+		assertEquals(List.of("INSERT A", "INSERT A", "INSERT A", "INSERT B"), dataSource.executedSql());
+	}
+	
+	@Test
+	void executeBatchedUpdatePreservesStatementOrder() throws SqlException {
+		RecordingDataSource dataSource = recordingDataSource().rowsAffected(1);
+		List<SqlRendered> renderedList = List.of(SqlRendered.of("INSERT A"), SqlRendered.of("INSERT B"), SqlRendered.of("INSERT A"));
+		
+		assertEquals(3, SqlQueryExecutor.executeBatchedUpdate(DIALECT, SqlConnectionSource.pooled(dataSource), renderedList, TIMEOUT));
+		assertEquals(3, dataSource.preparedStatementCount());
+		assertEquals(List.of("INSERT A", "INSERT B", "INSERT A"), dataSource.executedSql());
+	}
+	
+	@Test
+	void executeBatchedUpdateCountsSuccessWithoutInfoAsOneRow() throws SqlException {
+		RecordingDataSource dataSource = recordingDataSource().rowsAffected(Statement.SUCCESS_NO_INFO);
+		List<SqlRendered> renderedList = List.of(SqlRendered.of("INSERT A"), SqlRendered.of("INSERT A"), SqlRendered.of("INSERT A"));
+		
+		assertEquals(3, SqlQueryExecutor.executeBatchedUpdate(DIALECT, SqlConnectionSource.pooled(dataSource), renderedList, TIMEOUT));
+		assertEquals(1, dataSource.preparedStatementCount());
+	}
+	
+	@Test
+	void openCursorWithNullArguments() {
+		SqlRendered rendered = SqlRendered.of("SELECT 1");
+		assertThrows(NullPointerException.class, () -> SqlQueryExecutor.openCursor(null, SOURCE, rendered, TIMEOUT, resultSet -> null));
+		assertThrows(NullPointerException.class, () -> SqlQueryExecutor.openCursor(DIALECT, null, rendered, TIMEOUT, resultSet -> null));
+		assertThrows(NullPointerException.class, () -> SqlQueryExecutor.openCursor(DIALECT, SOURCE, null, TIMEOUT, resultSet -> null));
+		assertThrows(NullPointerException.class, () -> SqlQueryExecutor.openCursor(DIALECT, SOURCE, rendered, null, resultSet -> null));
+		assertThrows(NullPointerException.class, () -> SqlQueryExecutor.openCursor(DIALECT, SOURCE, rendered, TIMEOUT, null));
+	}
+	
+	@Test
+	void openCursorWithFailingSource() {
+		assertThrows(SqlException.class, () -> SqlQueryExecutor.openCursor(DIALECT, SOURCE, SqlRendered.of("SELECT 1"), TIMEOUT, resultSet -> null));
+	}
+	
+	@Test
+	void openCursorExecutesQueryOnce() throws SqlException {
+		RecordingDataSource dataSource = recordingDataSource();
+		try (SqlCursor<Object> cursor = SqlQueryExecutor.openCursor(DIALECT, SqlConnectionSource.pooled(dataSource), SqlRendered.of("SELECT 1"), TIMEOUT, resultSet -> null)) {
+			assertFalse(cursor.hasNext());
+		}
+		assertEquals(List.of("SELECT 1"), dataSource.executedSql());
+	}
+	
 	@Test
 	void executeUpdateReturningKeysWithEmptyListReturnsEmpty() throws SqlException {
 		assertTrue(SqlQueryExecutor.executeUpdateReturningKeys(DIALECT, SOURCE, List.of(), TIMEOUT).isEmpty());
@@ -18,6 +18,10 @@
 
 package net.luis.utils.io.database.query.crud;
 
+import net.luis.utils.io.database.Sql;
+import net.luis.utils.io.database.SqlConnectionSource;
+import net.luis.utils.io.database.SqlKeysetPage;
+import net.luis.utils.io.database.SqlKeysetToken;
 import net.luis.utils.io.database.dialect.SqlDialect;
 import net.luis.utils.io.database.dialect.SqlDialects;
 import net.luis.utils.io.database.exception.SqlException;
@@ -27,11 +31,15 @@ import net.luis.utils.io.database.expression.SqlExpression;
 import net.luis.utils.io.database.query.SqlAlias;
 import net.luis.utils.io.database.query.SqlCommonTableExpression;
 import net.luis.utils.io.database.query.util.SqlJoinType;
+import net.luis.utils.io.database.rendering.SqlRenderCacheStats;
+import net.luis.utils.io.database.rendering.SqlRendered;
 import net.luis.utils.io.database.table.SqlColumn;
 import net.luis.utils.io.database.table.SqlTable;
+import net.luis.utils.util.Pair;
 import org.junit.jupiter.api.Test;
 
-import java.util.List;
+import java.util.*;
+import java.util.stream.Stream;
 
 import static net.luis.utils.io.database.SqlTestFixtures.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -53,6 +61,13 @@ class SqlSelectQueryTest {
 		return table;
 	}
 	
+	private static SqlTable<Object> keyedTable() {
+		SqlTable<Object> table = SqlTable.create(Object.class, "t");
+		table.column("id", INTEGER_TYPE, object -> 0, column -> column.primaryKey());
+		table.column("name", STRING_TYPE, object -> "x", column -> column.notNull());
+		return table;
+	}
+	
 	private static SqlSelectQuery<Object> select() {
 		return new SqlSelectQuery<>(table(), DIALECT, SOURCE, TIMEOUT, resultSet -> null);
 	}
@@ -527,5 +542,204 @@ class SqlSelectQueryTest {
 		assertTrue(sql.indexOf("GROUP BY") < sql.indexOf("ORDER BY"));
 	}
 	
+	@Test
+	void toSqlReusesRenderedSqlForSameShape() throws SqlException {
+		SqlTable<Object> table = SqlTable.create(Object.class, "t");
+		SqlColumn<Object, Integer> id = table.column("id", INTEGER_TYPE, object -> 0);
+		SqlSelectQuery<Object> first = new SqlSelectQuery<>(table, DIALECT, SOURCE, TIMEOUT, resultSet -> null).where(Sql.equalTo(id, 1000));
+		SqlSelectQuery<Object> second = new SqlSelectQuery<>(table, DIALECT, SOURCE, TIMEOUT, resultSet -> null).where(Sql.equalTo(id, 2000));
+		
+		SqlRenderCacheStats before = DIALECT.renderCache().stats();
+		SqlRendered firstRendered = first.toSql(DIALECT);
+		SqlRendered secondRendered = second.toSql(DIALECT);
+		SqlRenderCacheStats after = DIALECT.renderCache().stats();
+		
+		assertEquals(firstRendered.sql(), secondRendered.sql());
+		assertEquals(1000, firstRendered.parameters().getFirst().getSecond());
+		assertEquals(2000, secondRendered.parameters().getFirst().getSecond());
+		assertEquals(before.hits() + 1, after.hits());
+	}
+	
+	@Test
+	void toSqlReusesRenderedSqlForDifferentLimitAndOffset() throws SqlException {
+		SqlTable<Object> table = SqlTable.create(Object.class, "t");
+		table.column("id", INTEGER_TYPE, object -> 0);
+		SqlSelectQuery<Object> first = new SqlSelectQuery<>(table, DIALECT, SOURCE, TIMEOUT, resultSet -> null).limit(10).offset(1000);
+		SqlSelectQuery<Object> second = new SqlSelectQuery<>(table, DIALECT, SOURCE, TIMEOUT, resultSet -> null).limit(20).offset(2000);
+		
+		SqlRendered firstRendered = first.toSql(DIALECT);
+		SqlRenderCacheStats before = DIALECT.renderCache().stats();
+		SqlRendered secondRendered = second.toSql(DIALECT);
+		SqlRenderCacheStats after = DIALECT.renderCache().stats();
+		
+		assertEquals(firstRendered.sql(), secondRendered.sql());
+		assertEquals(List.of(10L, 1000L), firstRendered.parameters().stream().map(Pair::getSecond).toList());
+		assertEquals(List.of(20L, 2000L), secondRendered.parameters().stream().map(Pair::getSecond).toList());
+		assertEquals(before.hits() + 1, after.hits());
+	}
+	
+	@Test
+	void toSqlDistinguishesLimitsOfSameShape() throws SqlException {
+		SqlTable<Object> table = table();
+		SqlSelectQuery<Object> query = new SqlSelectQuery<>(table, DIALECT, SOURCE, TIMEOUT, resultSet -> null);
+		
+		assertNotEquals(query.limit(5).toSql(DIALECT).parameters(), query.limit(10).toSql(DIALECT).parameters());
+	}
+	
+	@Test
+	void forEachWithNullAction() {
+		assertThrows(NullPointerException.class, () -> select().forEach(null));
+	}
+	
+	@Test
+	void forEachVisitsEveryRow() throws SqlException {
+		RecordingDataSource dataSource = recordingDataSource();
+		dataSource.enqueueResultSet(labeledResultSet(List.of(Map.of("id", 1), Map.of("id", 2))));
+		SqlSelectQuery<Object> query = new SqlSelectQuery<>(table(), DIALECT, SqlConnectionSource.pooled(dataSource), TIMEOUT, resultSet -> "row");
+		
+		List<Object> rows = new ArrayList<>();
+		query.forEach(rows::add);
+		assertEquals(List.of("row", "row"), rows);
+	}
+	
+	@Test
+	void streamMapsRowsLazily() throws SqlException {
+		RecordingDataSource dataSource = recordingDataSource();
+		dataSource.enqueueResultSet(labeledResultSet(List.of(Map.of("id", 1), Map.of("id", 2))));
+		SqlSelectQuery<Object> query = new SqlSelectQuery<>(table(), DIALECT, SqlConnectionSource.pooled(dataSource), TIMEOUT, resultSet -> "row");
+		
+		try (Stream<Object> stream = query.stream()) {
+			assertEquals(2, stream.count());
+		}
+		assertEquals(1, dataSource.executedSql().size());
+	}
+	
+	@Test
+	void fetchKeysetPageWithNonPositivePageSize() {
+		assertThrows(IllegalArgumentException.class, () -> select().fetchKeysetPage(0));
+	}
+	
+	@Test
+	void fetchKeysetPageWithNullToken() {
+		assertThrows(NullPointerException.class, () -> select().fetchKeysetPage(null, 10));
+	}
+	
+	@Test
+	void fetchKeysetPageWithoutOrderBy() {
+		assertThrows(SqlStatementBuilderException.class, () -> select().fetchKeysetPage(10));
+	}
+	
+	@Test
+	void fetchKeysetPageWithUnselectedOrderBy() {
+		SqlTable<Object> other = keyedTable();
+		SqlSelectQuery<Object> query = new SqlSelectQuery<>(keyedTable(), DIALECT, SOURCE, TIMEOUT, resultSet -> null).orderBy(other.columns().getFirst());
+		assertThrows(SqlStatementBuilderException.class, () -> query.fetchKeysetPage(10));
+	}
+	
+	@Test
+	void fetchKeysetPageWithMismatchingToken() {
+		SqlTable<Object> table = keyedTable();
+		SqlSelectQuery<Object> query = new SqlSelectQuery<>(table, DIALECT, SOURCE, TIMEOUT, resultSet -> null).orderBy(table.columns().getFirst());
+		assertThrows(IllegalArgumentException.class, () -> query.fetchKeysetPage(new SqlKeysetToken(List.<Object>of(1, "a")), 10));
+	}
+	
+	@Test
+	void fetchKeysetPageReturnsTokenOfLastRow() throws SqlException {
+		SqlTable<Object> table = keyedTable();
+		RecordingDataSource dataSource = recordingDataSource();
+		dataSource.enqueueResultSet(indexedResultSet(List.of(new Object[] { 1, "a" }, new Object[] { 2, "b" }, new Object[] { 3, "c" })));
+		SqlSelectQuery<Object> query = new SqlSelectQuery<>(table, DIALECT, SqlConnectionSource.pooled(dataSource), TIMEOUT, resultSet -> "row").orderBy(table.columns().getFirst());
+		
+		SqlKeysetPage<Object> page = query.fetchKeysetPage(2);
+		assertEquals(List.of("row", "row"), page.content());
+		assertTrue(page.hasNext());
+		assertEquals(List.of(2), page.next().orElseThrow().values());
+	}
+	
+	@Test
+	void fetchKeysetPageWithoutNextPage() throws SqlException {
+		SqlTable<Object> table = keyedTable();
+		RecordingDataSource dataSource = recordingDataSource();
+		dataSource.enqueueResultSet(indexedResultSet(List.<Object[]>of(new Object[] { 1, "a" })));
+		SqlSelectQuery<Object> query = new SqlSelectQuery<>(table, DIALECT, SqlConnectionSource.pooled(dataSource), TIMEOUT, resultSet -> "row").orderBy(table.columns().getFirst());
+		
+		SqlKeysetPage<Object> page = query.fetchKeysetPage(2);
+		assertEquals(1, page.content().size());
+		assertFalse(page.hasNext());
+	}
+	
+	@Test
+	void fetchKeysetPageWithNullKeyThrows() {
+		SqlTable<Object> table = keyedTable();
+		RecordingDataSource dataSource = recordingDataSource();
+		dataSource.enqueueResultSet(indexedResultSet(List.of(new Object[] { null, "a" }, new Object[] { 2, "b" })));
+		SqlSelectQuery<Object> query = new SqlSelectQuery<>(table, DIALECT, SqlConnectionSource.pooled(dataSource), TIMEOUT, resultSet -> "row").orderBy(table.columns().getFirst());
+		assertThrows(SqlStatementBuilderException.class, () -> query.fetchKeysetPage(1));
+	}
+	
+	@Test
+	void fetchKeysetPageRejectsNullableOrderColumn() {
+		SqlTable<Object> table = SqlTable.create(Object.class, "t");
+		table.column("id", INTEGER_TYPE, object -> 0, column -> column.primaryKey());
+		table.column("name", STRING_TYPE, object -> "x");
+		RecordingDataSource dataSource = recordingDataSource();
+		dataSource.enqueueResultSet(indexedResultSet(List.of(new Object[] { 1, "a" }, new Object[] { 2, null }, new Object[] { 3, null })));
+		SqlSelectQuery<Object> query = new SqlSelectQuery<>(table, DIALECT, SqlConnectionSource.pooled(dataSource), TIMEOUT, resultSet -> "row").orderBy(table.columns().getLast());
+		
+		assertThrows(SqlStatementBuilderException.class, () -> query.fetchKeysetPage(1));
+		assertThrows(SqlStatementBuilderException.class, () -> query.fetchKeysetPage(new SqlKeysetToken(List.<Object>of("a", 1)), 1));
+		assertTrue(dataSource.executedSql().isEmpty());
+	}
+	
+	@Test
+	void fetchKeysetPageAfterTokenSeeksWithoutOffset() throws SqlException {
+		SqlTable<Object> table = keyedTable();
+		RecordingDataSource dataSource = recordingDataSource();
+		dataSource.enqueueResultSet(indexedResultSet(List.of()));
+		SqlSelectQuery<Object> query = new SqlSelectQuery<>(table, DIALECT, SqlConnectionSource.pooled(dataSource), TIMEOUT, resultSet -> "row")
+			.orderBy(table.columns().getFirst().ascending(), table.columns().getLast().descending());
+		
+		SqlKeysetPage<Object> page = query.fetchKeysetPage(new SqlKeysetToken(List.<Object>of(2, "b")), 10);
+		assertTrue(page.content().isEmpty());
+		
+		String sql = dataSource.executedSql().getFirst();
+		assertTrue(sql.contains(" > ?"));
+		assertTrue(sql.contains(" < ?"));
+		assertTrue(sql.contains(" OR "));
+		assertFalse(sql.contains("OFFSET"));
+	}
+	
+	@Test
+	void fetchKeysetPageWithoutPrimaryKey() {
+		SqlTable<Object> table = table();
+		SqlSelectQuery<Object> query = new SqlSelectQuery<>(table, DIALECT, SOURCE, TIMEOUT, resultSet -> null).orderBy(table.columns().getFirst());
+		assertThrows(SqlStatementBuilderException.class, () -> query.fetchKeysetPage(10));
+	}
+	
+	@Test
+	void fetchKeysetPageAppendsPrimaryKeyTiebreaker() throws SqlException {
+		SqlTable<Object> table = keyedTable();
+		RecordingDataSource dataSource = recordingDataSource();
+		dataSource.enqueueResultSet(indexedResultSet(List.of(new Object[] { 1, "a" }, new Object[] { 2, "a" }, new Object[] { 3, "a" })));
+		dataSource.enqueueResultSet(indexedResultSet(List.of()));
+		SqlSelectQuery<Object> query = new SqlSelectQuery<>(table, DIALECT, SqlConnectionSource.pooled(dataSource), TIMEOUT, resultSet -> "row").orderBy(table.columns().getLast());
+		
+		SqlKeysetPage<Object> page = query.fetchKeysetPage(2);
+		assertEquals(List.of("a", 2), page.next().orElseThrow().values());
+		
+		query.fetchKeysetPage(page.next().orElseThrow(), 2);
+		String sql = dataSource.executedSql().getLast();
+		assertTrue(sql.contains(" OR "));
+		assertEquals(3, markerCount(sql.substring(0, sql.indexOf("ORDER BY"))));
+		assertTrue(sql.substring(sql.indexOf("ORDER BY")).contains("id"));
+	}
+	
+	@Test
+	void fetchKeysetPageWithMismatchingTiebreakerToken() {
+		SqlTable<Object> table = keyedTable();
+		SqlSelectQuery<Object> query = new SqlSelectQuery<>(table, DIALECT, SOURCE, TIMEOUT, resultSet -> null).orderBy(table.columns().getLast());
+		assertThrows(IllegalArgumentException.class, () -> query.fetchKeysetPage(new SqlKeysetToken(List.<Object>of("a")), 10));
+	}
+	
 	private record Projection(int value) {}
 }
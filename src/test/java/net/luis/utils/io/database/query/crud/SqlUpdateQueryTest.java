@@ -23,6 +23,10 @@ import net.luis.utils.io.database.dialect.SqlDialects;
 import net.luis.utils.io.database.exception.SqlException;
 import net.luis.utils.io.database.exception.client.SqlStatementBuilderException;
 import net.luis.utils.io.database.exception.client.dialect.SqlDialectFeatureException;
+import net.luis.utils.io.database.rendering.SqlRenderCacheStats;
+import net.luis.utils.io.database.rendering.SqlRendered;
+import net.luis.utils.io.database.table.SqlColumn;
+import net.luis.utils.io.database.table.SqlTable;
 import org.junit.jupiter.api.Test;
 
 import static net.luis.utils.io.database.SqlTestFixtures.*;
@@ -258,4 +262,21 @@ class SqlUpdateQueryTest {
 		assertNotSame(withSet, withWhere);
 		assertThrows(SqlStatementBuilderException.class, () -> base.toSql(DIALECT));
 	}
+	
+	@Test
+	void toSqlReusesRenderedSqlForSameShape() throws SqlException {
+		SqlTable<Object> table = sampleTable();
+		SqlColumn<Object, Integer> id = table.column("id", INTEGER_TYPE, object -> 0);
+		SqlUpdateQuery<Object> first = new SqlUpdateQuery<>(table, DIALECT, SOURCE, TIMEOUT, resultSet -> null).set(id, 1000).allowAll();
+		SqlUpdateQuery<Object> second = new SqlUpdateQuery<>(table, DIALECT, SOURCE, TIMEOUT, resultSet -> null).set(id, 2000).allowAll();
+		
+		SqlRenderCacheStats before = DIALECT.renderCache().stats();
+		SqlRendered firstRendered = first.toSql(DIALECT);
+		SqlRendered secondRendered = second.toSql(DIALECT);
+		SqlRenderCacheStats after = DIALECT.renderCache().stats();
+		
+		assertEquals(firstRendered.sql(), secondRendered.sql());
+		assertEquals(2000, secondRendered.parameters().getFirst().getSecond());
+		assertEquals(before.hits() + 1, after.hits());
+	}
 }
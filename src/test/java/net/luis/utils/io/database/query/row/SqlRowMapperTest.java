@@ -27,9 +27,9 @@ import net.luis.utils.io.database.query.SqlAlias;
 import net.luis.utils.io.database.table.SqlAliasedColumn;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Proxy;
 import java.sql.ResultSet;
-import java.util.Arrays;
-import java.util.List;
+import java.util.*;
 
 import static net.luis.utils.io.database.SqlTestFixtures.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -175,6 +175,50 @@ class SqlRowMapperTest {
 		assertEquals("a", row.second());
 	}
 	
+	@Test
+	@SuppressWarnings("unchecked")
+	void forExpressionsPositionalRowIsNotProxy() throws SqlException {
+		List<SqlExpression<?>> expressions = List.of(integerExpression(), stringExpression(), integerExpression());
+		ThrowableFunction<ResultSet, SqlRow2<Integer, String>, SqlException> mapper =
+			SqlRowMapper.forExpressions((Class<SqlRow2<Integer, String>>) (Class<?>) SqlRow2.class, expressions, DIALECT);
+		
+		SqlRow2<Integer, String> row = mapper.apply(resultRow(1, "a", 2));
+		assertFalse(Proxy.isProxyClass(row.getClass()));
+		assertFalse(row instanceof SqlRow3<?, ?, ?>);
+		assertEquals("SqlRow[1, a]", row.toString());
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	void forExpressionsSixteenColumnRow() throws SqlException {
+		List<SqlExpression<?>> expressions = Collections.nCopies(16, integerExpression());
+		ThrowableFunction<ResultSet, SqlRow16<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer>, SqlException> mapper =
+			SqlRowMapper.forExpressions((Class<SqlRow16<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer>>) (Class<?>) SqlRow16.class, expressions, DIALECT);
+		
+		SqlRow16<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> row =
+			mapper.apply(resultRow(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16));
+		assertEquals(1, row.first());
+		assertEquals(8, row.eighth());
+		assertEquals(16, row.sixteenth());
+	}
+	
+	@Test
+	void forRecordProjectionReusesMapperAcrossRows() throws SqlException {
+		List<SqlExpression<?>> expressions = List.of(integerColumn(), stringColumn());
+		ThrowableFunction<ResultSet, Person, SqlException> mapper = SqlRowMapper.forProjection(Person.class, expressions, DIALECT);
+		
+		assertEquals(new Person(1, "a"), mapper.apply(resultRow(1, "a")));
+		assertEquals(new Person(2, "b"), mapper.apply(resultRow(2, "b")));
+	}
+	
+	@Test
+	void forRecordProjectionWrapsNullPrimitive() {
+		List<SqlExpression<?>> expressions = List.of(integerColumn(), stringColumn());
+		ThrowableFunction<ResultSet, Person, SqlException> mapper = SqlRowMapper.forProjection(Person.class, expressions, DIALECT);
+		
+		assertThrows(SqlResultMappingException.class, () -> mapper.apply(resultRow(null, "a")));
+	}
+	
 	@Test
 	void forRecordProjectionConstructsRecord() throws SqlException {
 		List<SqlExpression<?>> expressions = List.of(integerColumn(), stringColumn());
@@ -232,6 +276,42 @@ class SqlRowMapperTest {
 		assertThrows(UnsupportedOperationException.class, () -> view.prefixed("p"));
 	}
 	
+	@Test
+	void forInterfaceProjectionGeneratesRowClass() throws SqlException {
+		List<SqlExpression<?>> expressions = List.of(integerColumn(), stringColumn());
+		ThrowableFunction<ResultSet, PersonView, SqlException> mapper = SqlRowMapper.forProjection(PersonView.class, expressions, DIALECT);
+		
+		PersonView view = mapper.apply(resultRow(7, "luis"));
+		PersonView sameValues = mapper.apply(resultRow(7, "luis"));
+		assertFalse(Proxy.isProxyClass(view.getClass()));
+		assertTrue(view.getClass().isHidden());
+		assertEquals(7, view.id());
+		assertEquals("luis", view.name());
+		assertEquals("luis#7", view.label());
+		assertNotEquals(view, sameValues);
+		assertEquals(view.hashCode(), sameValues.hashCode());
+		assertEquals(view.getClass(), sameValues.getClass());
+	}
+	
+	@Test
+	void forInterfaceProjectionPrivateInterfaceUsesProxy() throws SqlException {
+		List<SqlExpression<?>> expressions = List.of(stringColumn());
+		ThrowableFunction<ResultSet, NameView, SqlException> mapper = SqlRowMapper.forProjection(NameView.class, expressions, DIALECT);
+		
+		assertTrue(Proxy.isProxyClass(mapper.apply(resultRow("luis")).getClass()));
+	}
+	
+	public interface PersonView {
+		
+		int id();
+		
+		String name();
+		
+		default String label() {
+			return this.name() + "#" + this.id();
+		}
+	}
+	
 	private interface NameView {
 		
 		String name();
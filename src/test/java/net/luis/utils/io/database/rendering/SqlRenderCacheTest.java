@@ -0,0 +1,165 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.database.rendering;
+
+import net.luis.utils.io.database.SqlTestFixtures;
+import net.luis.utils.io.database.exception.SqlException;
+import net.luis.utils.io.database.type.SqlType;
+import net.luis.utils.util.Pair;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link SqlRenderCache}.<br>
+ *
+ * @author Luis-St
+ */
+class SqlRenderCacheTest {
+	
+	private static List<Pair<SqlType<?>, Object>> parameters(Object... values) {
+		return Arrays.stream(values).<Pair<SqlType<?>, Object>>map(value -> Pair.of(SqlTestFixtures.STRING_TYPE, value)).toList();
+	}
+	
+	private static SqlRendered rendered(List<Pair<SqlType<?>, Object>> parameters) {
+		return new SqlRendered(List.of("SELECT", "?", ",", "?"), parameters);
+	}
+	
+	@Test
+	void constructWithNegativeMaximumSize() {
+		assertThrows(IllegalArgumentException.class, () -> new SqlRenderCache(-1));
+	}
+	
+	@Test
+	void renderWithNullArguments() {
+		SqlRenderCache cache = new SqlRenderCache(8);
+		assertThrows(NullPointerException.class, () -> cache.render(null, List.of(), () -> SqlRendered.of("SELECT 1")));
+		assertThrows(NullPointerException.class, () -> cache.render("shape", null, () -> SqlRendered.of("SELECT 1")));
+		assertThrows(NullPointerException.class, () -> cache.render("shape", List.of(), null));
+	}
+	
+	@Test
+	void renderReusesVerifiedStatement() throws SqlException {
+		SqlRenderCache cache = new SqlRenderCache(8);
+		AtomicInteger renders = new AtomicInteger();
+		
+		List<Pair<SqlType<?>, Object>> first = parameters("a", "b");
+		SqlRendered firstRendered = cache.render("shape", first, () -> {
+			renders.incrementAndGet();
+			return rendered(first);
+		});
+		List<Pair<SqlType<?>, Object>> second = parameters("c", "d");
+		SqlRendered secondRendered = cache.render("shape", second, () -> {
+			renders.incrementAndGet();
+			return rendered(second);
+		});
+		
+		assertEquals(1, renders.get());
+		assertEquals(firstRendered.sql(), secondRendered.sql());
+		assertEquals(firstRendered.statements(), secondRendered.statements());
+		assertEquals(second, secondRendered.parameters());
+		assertEquals(new SqlRenderCacheStats(1, 1, 1), cache.stats());
+	}
+	
+	@Test
+	void renderDoesNotCacheTransformedParameters() throws SqlException {
+		SqlRenderCache cache = new SqlRenderCache(8);
+		AtomicInteger renders = new AtomicInteger();
+		
+		for (int i = 0; i < 2; i++) {
+			cache.render("shape", parameters("a", "b"), () -> {
+				renders.incrementAndGet();
+				return rendered(parameters("transformed", "b"));
+			});
+		}
+		
+		assertEquals(2, renders.get());
+		assertEquals(new SqlRenderCacheStats(0, 2, 1), cache.stats());
+	}
+	
+	@Test
+	void renderDoesNotStoreAmbiguousParameters() throws SqlException {
+		SqlRenderCache cache = new SqlRenderCache(8);
+		List<Pair<SqlType<?>, Object>> parameters = parameters("a", "a");
+		
+		cache.render("shape", parameters, () -> rendered(parameters));
+		
+		assertEquals(0, cache.stats().size());
+	}
+	
+	@Test
+	void renderRespectsMaximumSize() throws SqlException {
+		SqlRenderCache cache = new SqlRenderCache(1);
+		List<Pair<SqlType<?>, Object>> parameters = parameters("a", "b");
+		
+		cache.render("first", parameters, () -> rendered(parameters));
+		cache.render("second", parameters, () -> rendered(parameters));
+		
+		assertEquals(1, cache.stats().size());
+	}
+	
+	@Test
+	void renderEvictsLeastRecentlyUsedShape() throws SqlException {
+		SqlRenderCache cache = new SqlRenderCache(2);
+		AtomicInteger renders = new AtomicInteger();
+		List<Pair<SqlType<?>, Object>> parameters = parameters("a", "b");
+		
+		for (String shape : List.of("first", "second", "first", "third", "first", "second")) {
+			cache.render(shape, parameters, () -> {
+				renders.incrementAndGet();
+				return rendered(parameters);
+			});
+		}
+		
+		assertEquals(4, renders.get());
+		assertEquals(new SqlRenderCacheStats(2, 4, 2), cache.stats());
+	}
+	
+	@Test
+	void disabledCacheAlwaysRenders() throws SqlException {
+		SqlRenderCache cache = SqlRenderCache.disabled();
+		AtomicInteger renders = new AtomicInteger();
+		List<Pair<SqlType<?>, Object>> parameters = parameters("a", "b");
+		
+		for (int i = 0; i < 2; i++) {
+			cache.render("shape", parameters, () -> {
+				renders.incrementAndGet();
+				return rendered(parameters);
+			});
+		}
+		
+		assertEquals(2, renders.get());
+		assertEquals(new SqlRenderCacheStats(0, 0, 0), cache.stats());
+	}
+	
+	@Test
+	void clearRemovesEntriesAndResetsStats() throws SqlException {
+		SqlRenderCache cache = new SqlRenderCache(8);
+		List<Pair<SqlType<?>, Object>> parameters = parameters("a", "b");
+		cache.render("shape", parameters, () -> rendered(parameters));
+		
+		cache.clear();
+		
+		assertEquals(new SqlRenderCacheStats(0, 0, 0), cache.stats());
+	}
+}
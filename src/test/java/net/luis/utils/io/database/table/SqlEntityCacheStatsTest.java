@@ -0,0 +1,54 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.database.table;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link SqlEntityCacheStats}.<br>
+ *
+ * @author Luis-St
+ */
+class SqlEntityCacheStatsTest {
+	
+	@Test
+	void constructWithNegativeValues() {
+		assertThrows(IllegalArgumentException.class, () -> new SqlEntityCacheStats(-1, 0, 0, 0));
+		assertThrows(IllegalArgumentException.class, () -> new SqlEntityCacheStats(0, -1, 0, 0));
+		assertThrows(IllegalArgumentException.class, () -> new SqlEntityCacheStats(0, 0, -1, 0));
+		assertThrows(IllegalArgumentException.class, () -> new SqlEntityCacheStats(0, 0, 0, -1));
+	}
+	
+	@Test
+	void lookupsIsSumOfHitsAndMisses() {
+		assertEquals(5, new SqlEntityCacheStats(3, 2, 0, 1).lookups());
+	}
+	
+	@Test
+	void hitRate() {
+		assertEquals(0.75, new SqlEntityCacheStats(3, 1, 0, 1).hitRate());
+	}
+	
+	@Test
+	void hitRateWithoutLookups() {
+		assertEquals(0.0, new SqlEntityCacheStats(0, 0, 0, 0).hitRate());
+	}
+}
@@ -0,0 +1,199 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.database.table;
+
+import net.luis.utils.io.database.exception.SqlException;
+import org.junit.jupiter.api.Test;
+
+import java.time.*;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link SqlEntityCache}.<br>
+ *
+ * @author Luis-St
+ */
+class SqlEntityCacheTest {
+	
+	private static final Duration TTL = Duration.ofMinutes(1);
+	
+	@Test
+	void constructWithInvalidArguments() {
+		assertThrows(IllegalArgumentException.class, () -> new SqlEntityCache<String>(0, TTL));
+		assertThrows(IllegalArgumentException.class, () -> new SqlEntityCache<String>(1, Duration.ZERO));
+		assertThrows(IllegalArgumentException.class, () -> new SqlEntityCache<String>(1, Duration.ofSeconds(-1)));
+		assertThrows(NullPointerException.class, () -> new SqlEntityCache<String>(1, null));
+		assertThrows(NullPointerException.class, () -> new SqlEntityCache<String>(1, TTL, null));
+	}
+	
+	@Test
+	void nullArguments() {
+		SqlEntityCache<String> cache = new SqlEntityCache<>(4, TTL);
+		assertThrows(NullPointerException.class, () -> cache.get(null));
+		assertThrows(NullPointerException.class, () -> cache.getOrLoad(null, () -> Optional.of("a")));
+		assertThrows(NullPointerException.class, () -> cache.getOrLoad(1, null));
+		assertThrows(NullPointerException.class, () -> cache.put(null, "a"));
+		assertThrows(NullPointerException.class, () -> cache.put(1, null));
+		assertThrows(NullPointerException.class, () -> cache.invalidate(null));
+	}
+	
+	@Test
+	void getOrLoadStoresLoadedEntity() throws SqlException {
+		SqlEntityCache<String> cache = new SqlEntityCache<>(4, TTL);
+		AtomicInteger loads = new AtomicInteger();
+		assertEquals(Optional.of("a"), cache.getOrLoad(1, () -> {
+			loads.incrementAndGet();
+			return Optional.of("a");
+		}));
+		assertEquals(Optional.of("a"), cache.getOrLoad(1, () -> {
+			loads.incrementAndGet();
+			return Optional.of("b");
+		}));
+		assertEquals(1, loads.get());
+		assertEquals(new SqlEntityCacheStats(1, 1, 0, 1), cache.stats());
+	}
+	
+	@Test
+	void getOrLoadDoesNotStoreMissingEntity() throws SqlException {
+		SqlEntityCache<String> cache = new SqlEntityCache<>(4, TTL);
+		assertEquals(Optional.empty(), cache.getOrLoad(1, Optional::empty));
+		assertEquals(Optional.of("a"), cache.getOrLoad(1, () -> Optional.of("a")));
+	}
+	
+	@Test
+	void compositeKeysAreComparedByValue() {
+		SqlEntityCache<String> cache = new SqlEntityCache<>(4, TTL);
+		cache.put(List.of(1, "a"), "entity");
+		assertEquals(Optional.of("entity"), cache.get(List.of(1, "a")));
+	}
+	
+	@Test
+	void expiredEntityIsEvicted() {
+		MutableClock clock = new MutableClock();
+		SqlEntityCache<String> cache = new SqlEntityCache<>(4, TTL, clock);
+		cache.put(1, "a");
+		clock.advance(TTL.minusMillis(1));
+		assertEquals(Optional.of("a"), cache.get(1));
+		clock.advance(Duration.ofMillis(1));
+		assertEquals(Optional.empty(), cache.get(1));
+		assertEquals(1, cache.stats().evictions());
+		assertEquals(0, cache.stats().size());
+	}
+	
+	@Test
+	void maximumSizeIsRespected() {
+		SqlEntityCache<String> cache = new SqlEntityCache<>(2, TTL);
+		cache.put(1, "a");
+		cache.put(2, "b");
+		cache.put(3, "c");
+		assertEquals(2, cache.stats().size());
+		assertEquals(1, cache.stats().evictions());
+		assertEquals(Optional.of("c"), cache.get(3));
+	}
+	
+	@Test
+	void fullCacheEvictsLeastRecentlyUsedEntity() {
+		SqlEntityCache<String> cache = new SqlEntityCache<>(2, TTL);
+		cache.put(1, "a");
+		cache.put(2, "b");
+		assertEquals(Optional.of("a"), cache.get(1));
+		cache.put(3, "c");
+		assertEquals(Optional.of("a"), cache.get(1));
+		assertEquals(Optional.empty(), cache.get(2));
+		assertEquals(Optional.of("c"), cache.get(3));
+		assertEquals(1, cache.stats().evictions());
+	}
+	
+	@Test
+	void fullCacheEvictsExpiredEntitiesFirst() {
+		MutableClock clock = new MutableClock();
+		SqlEntityCache<String> cache = new SqlEntityCache<>(2, TTL, clock);
+		cache.put(1, "a");
+		clock.advance(TTL);
+		cache.put(2, "b");
+		cache.put(3, "c");
+		assertEquals(Optional.of("b"), cache.get(2));
+		assertEquals(Optional.of("c"), cache.get(3));
+	}
+	
+	@Test
+	void invalidateRemovesEntity() {
+		SqlEntityCache<String> cache = new SqlEntityCache<>(4, TTL);
+		cache.put(1, "a");
+		cache.put(2, "b");
+		cache.invalidate(1);
+		assertEquals(Optional.empty(), cache.get(1));
+		assertEquals(Optional.of("b"), cache.get(2));
+	}
+	
+	@Test
+	void invalidateAllKeepsStats() throws SqlException {
+		SqlEntityCache<String> cache = new SqlEntityCache<>(4, TTL);
+		cache.getOrLoad(1, () -> Optional.of("a"));
+		cache.invalidateAll();
+		assertEquals(new SqlEntityCacheStats(0, 1, 0, 0), cache.stats());
+	}
+	
+	@Test
+	void invalidationDuringLoadDiscardsLoadedEntity() throws SqlException {
+		SqlEntityCache<String> cache = new SqlEntityCache<>(4, TTL);
+		assertEquals(Optional.of("stale"), cache.getOrLoad(1, () -> {
+			cache.invalidateAll();
+			return Optional.of("stale");
+		}));
+		assertEquals(Optional.empty(), cache.get(1));
+	}
+	
+	@Test
+	void clearResetsStats() throws SqlException {
+		SqlEntityCache<String> cache = new SqlEntityCache<>(4, TTL);
+		cache.getOrLoad(1, () -> Optional.of("a"));
+		cache.getOrLoad(1, () -> Optional.of("a"));
+		cache.clear();
+		assertEquals(new SqlEntityCacheStats(0, 0, 0, 0), cache.stats());
+	}
+	
+	private static final class MutableClock extends Clock {
+		
+		private Instant instant = Instant.EPOCH;
+		
+		private void advance(Duration duration) {
+			this.instant = this.instant.plus(duration);
+		}
+		
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+		
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+		
+		@Override
+		public Instant instant() {
+			return this.instant;
+		}
+	}
+}
@@ -22,6 +22,7 @@ import net.luis.utils.io.database.SqlReferentialAction;
 import net.luis.utils.io.database.audit.SqlAuditConfig;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 
@@ -533,4 +534,45 @@ class SqlTableTest {
 		assertNotEquals(first, second);
 	}
 	//endregion
+	
+	//region Cache
+	@Test
+	void enableCacheWithoutPrimaryKey() {
+		SqlTable<Object> table = SqlTable.create(Object.class, "t");
+		table.column("id", INTEGER_TYPE, object -> 0);
+		assertThrows(IllegalStateException.class, () -> table.enableCache(16, Duration.ofMinutes(1)));
+	}
+	
+	@Test
+	void enableCacheWithNullCache() {
+		SqlTable<Object> table = SqlTable.create(Object.class, "t");
+		assertThrows(NullPointerException.class, () -> table.enableCache(null));
+	}
+	
+	@Test
+	void cacheEmptyByDefault() {
+		assertTrue(SqlTable.create(Object.class, "t").cache().isEmpty());
+	}
+	
+	@Test
+	void enableCacheAndDisableCache() {
+		SqlTable<Object> table = SqlTable.create(Object.class, "t");
+		table.column("id", INTEGER_TYPE, object -> 0, column -> column.primaryKey());
+		SqlEntityCache<Object> cache = table.enableCache(16, Duration.ofMinutes(1));
+		assertSame(cache, table.cache().orElseThrow());
+		table.disableCache();
+		assertTrue(table.cache().isEmpty());
+	}
+	
+	@Test
+	void cacheIsNotPartOfEquality() {
+		SqlTable<Object> first = SqlTable.create(Object.class, "t");
+		first.column("id", INTEGER_TYPE, object -> 0, column -> column.primaryKey());
+		SqlTable<Object> second = SqlTable.create(Object.class, "t");
+		second.column("id", INTEGER_TYPE, object -> 0, column -> column.primaryKey());
+		first.enableCache(16, Duration.ofMinutes(1));
+		assertEquals(first, second);
+		assertEquals(first.hashCode(), second.hashCode());
+	}
+	//endregion
 }
@@ -0,0 +1,192 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.database.transaction;
+
+import net.luis.utils.io.database.SqlTestFixtures;
+import net.luis.utils.io.database.exception.SqlException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link SqlTransactionContext}.<br>
+ *
+ * @author Luis-St
+ */
+class SqlTransactionContextTest {
+	
+	private static final SqlIsolationLevel LEVEL = SqlIsolationLevel.READ_COMMITTED;
+	
+	private static SqlTransactionManager manager() {
+		return new SqlTransactionManager(new FakeDataSource(), SqlTestFixtures.DIALECT, Duration.ofSeconds(5));
+	}
+	
+	private static ThreadLocal<?> threadLocal() throws Exception {
+		Field field = SqlTransactionManager.class.getDeclaredField("CURRENT_TRANSACTION");
+		field.setAccessible(true);
+		return (ThreadLocal<?>) field.get(null);
+	}
+	
+	@AfterEach
+	void clearThreadLocal() throws Exception {
+		threadLocal().remove();
+	}
+	
+	@Test
+	void nullArgumentsThrow() {
+		assertThrows(NullPointerException.class, () -> SqlTransactionContext.run(null));
+		assertThrows(NullPointerException.class, () -> SqlTransactionContext.call(null));
+		assertThrows(NullPointerException.class, () -> SqlTransactionContext.propagate((Runnable) null));
+		assertThrows(NullPointerException.class, () -> SqlTransactionContext.propagate((Callable<?>) null));
+	}
+	
+	@Test
+	void isBoundOnlyInsideContext() {
+		assertFalse(SqlTransactionContext.isBound());
+		SqlTransactionContext.run(() -> assertTrue(SqlTransactionContext.isBound()));
+		assertFalse(SqlTransactionContext.isBound());
+	}
+	
+	@Test
+	void callReturnsResultAndRethrows() {
+		assertEquals("result", SqlTransactionContext.call(() -> "result"));
+		assertThrows(IOException.class, () -> SqlTransactionContext.call(() -> {
+			throw new IOException("Operation failed in tests");
+		}));
+	}
+	
+	@Test
+	void beginInsideContextDoesNotUseThreadLocal() throws Exception {
+		SqlTransactionManager manager = manager();
+		ThreadLocal<?> threadLocal = threadLocal();
+		SqlTransactionContext.call(() -> {
+			SqlTransaction transaction = manager.begin(false, LEVEL, SqlPropagation.REQUIRED);
+			assertSame(transaction, SqlTransactionManager.current());
+			assertNull(threadLocal.get());
+			transaction.close();
+			assertNull(SqlTransactionManager.current());
+			return null;
+		});
+		assertNull(threadLocal.get());
+	}
+	
+	@Test
+	void closeRestoresSuspendedTransactionInContext() throws SqlException {
+		SqlTransactionManager manager = manager();
+		SqlTransactionContext.call(() -> {
+			SqlTransaction outer = manager.begin(false, LEVEL, SqlPropagation.REQUIRED);
+			SqlTransaction inner = manager.begin(false, LEVEL, SqlPropagation.REQUIRES_NEW);
+			assertSame(inner, SqlTransactionManager.current());
+			inner.close();
+			assertSame(outer, SqlTransactionManager.current());
+			outer.close();
+			return null;
+		});
+	}
+	
+	@Test
+	void nestedCallReusesContext() throws SqlException {
+		SqlTransactionManager manager = manager();
+		SqlTransactionContext.call(() -> {
+			SqlTransaction outer = manager.begin(false, LEVEL, SqlPropagation.REQUIRED);
+			SqlTransactionContext.call(() -> {
+				SqlTransaction inner = manager.begin(false, LEVEL, SqlPropagation.REQUIRED);
+				assertSame(outer.getConnection(), inner.getConnection());
+				inner.close();
+				return null;
+			});
+			outer.close();
+			return null;
+		});
+	}
+	
+	@Test
+	void contextStartsWithThreadBoundTransaction() throws SqlException {
+		SqlTransactionManager manager = manager();
+		SqlTransaction outer = manager.begin(false, LEVEL, SqlPropagation.REQUIRED);
+		SqlTransactionContext.call(() -> {
+			assertSame(outer, SqlTransactionManager.current());
+			return null;
+		});
+		outer.close();
+	}
+	
+	@Test
+	void propagateCallableJoinsCapturedTransaction() throws Exception {
+		SqlTransactionManager manager = manager();
+		SqlTransactionContext.call(() -> {
+			SqlTransaction outer = manager.begin(false, LEVEL, SqlPropagation.REQUIRED);
+			Callable<Connection> task = SqlTransactionContext.propagate(() -> {
+				SqlTransaction inner = manager.begin(false, LEVEL, SqlPropagation.REQUIRED);
+				Connection connection = inner.getConnection();
+				inner.close();
+				return connection;
+			});
+			try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+				assertSame(outer.getConnection(), executor.submit(task).get());
+			}
+			assertSame(outer, SqlTransactionManager.current());
+			outer.close();
+			return null;
+		});
+	}
+	
+	@Test
+	void propagateRunnableIsolatesSubtaskContext() throws Exception {
+		SqlTransactionManager manager = manager();
+		AtomicReference<SqlTransaction> started = new AtomicReference<>();
+		SqlTransactionContext.call(() -> {
+			SqlTransaction outer = manager.begin(false, LEVEL, SqlPropagation.REQUIRED);
+			Runnable task = SqlTransactionContext.propagate(() -> {
+				try {
+					started.set(manager.begin(false, LEVEL, SqlPropagation.REQUIRES_NEW));
+				} catch (SqlException e) {
+					throw new IllegalStateException(e);
+				}
+			});
+			Thread thread = Thread.ofVirtual().start(task);
+			thread.join();
+			
+			assertSame(outer, started.get().getSuspended());
+			assertSame(outer, SqlTransactionManager.current());
+			started.get().close();
+			outer.close();
+			return null;
+		});
+	}
+	
+	@Test
+	void propagateOutsideContextCapturesThreadBoundTransaction() throws Exception {
+		SqlTransactionManager manager = manager();
+		SqlTransaction outer = manager.begin(false, LEVEL, SqlPropagation.REQUIRED);
+		Callable<SqlTransaction> task = SqlTransactionContext.propagate(SqlTransactionManager::current);
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			assertSame(outer, executor.submit(task).get());
+		}
+		outer.close();
+	}
+}
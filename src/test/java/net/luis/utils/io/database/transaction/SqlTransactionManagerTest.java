@@ -18,7 +18,7 @@
 
 package net.luis.utils.io.database.transaction;
 
-import net.luis.utils.io.database.SqlTestFixtures;
+import net.luis.utils.io.database.*;
 import net.luis.utils.io.database.dialect.SqlDialect;
 import net.luis.utils.io.database.exception.SqlException;
 import net.luis.utils.io.database.exception.client.transaction.SqlTransactionPropagationException;
@@ -31,6 +31,7 @@ import org.junit.jupiter.api.Test;
 import java.lang.reflect.Field;
 import java.sql.SQLException;
 import java.time.Duration;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -369,6 +370,25 @@ class SqlTransactionManagerTest {
 		writable.close();
 	}
 	
+	@Test
+	void beginReadOnlyWithReplicaRouterUsesReplica() throws SqlException {
+		FakeDataSource primary = new FakeDataSource();
+		FakeDataSource replica = new FakeDataSource();
+		SqlReplicaRouter router = new SqlReplicaRouter(primary, List.of(replica), SqlReplicaRouting.ROUND_ROBIN, Duration.ofMinutes(1));
+		SqlTransactionManager manager = new SqlTransactionManager(primary, DIALECT, TIMEOUT, TIMEOUT, router);
+		
+		SqlTransaction readOnly = manager.begin(true, LEVEL, SqlPropagation.REQUIRES_NEW);
+		assertEquals(0, primary.getConnectionCalls);
+		assertEquals(1, replica.getConnectionCalls);
+		assertTrue(replica.handedOut.getFirst().readOnlyCalls.contains(true));
+		readOnly.close();
+		
+		SqlTransaction writable = manager.begin(false, LEVEL, SqlPropagation.REQUIRES_NEW);
+		assertEquals(1, primary.getConnectionCalls);
+		assertEquals(1, replica.getConnectionCalls);
+		writable.close();
+	}
+	
 	@Test
 	void beginIsolationLevelPropagatedToTransaction() throws SqlException {
 		SqlTransactionManager manager = this.manager(new FakeDataSource());
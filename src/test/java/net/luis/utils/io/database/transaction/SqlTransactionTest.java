@@ -18,6 +18,7 @@
 
 package net.luis.utils.io.database.transaction;
 
+import net.luis.utils.io.database.SqlConnectionSource;
 import net.luis.utils.io.database.SqlTestFixtures;
 import net.luis.utils.io.database.dialect.SqlDialect;
 import net.luis.utils.io.database.exception.SqlClientException;
@@ -635,6 +636,47 @@ class SqlTransactionTest {
 	}
 	//endregion
 	
+	@Test
+	void connectionSourceHandsOutTransactionConnection() throws SqlException {
+		FakeConnection connection = new FakeConnection();
+		SqlTransaction transaction = this.owning(connection);
+		assertSame(connection, transaction.connectionSource().open().connection());
+	}
+	
+	@Test
+	void connectionSourceIsInTransactionWhileActive() throws SqlException {
+		SqlTransaction transaction = this.owning(new FakeConnection());
+		SqlConnectionSource source = transaction.connectionSource();
+		assertTrue(source.inTransaction());
+		transaction.commit();
+		assertFalse(source.inTransaction());
+	}
+	
+	@Test
+	void connectionSourceDefersCompletionUntilCommit() throws SqlException {
+		SqlTransaction transaction = this.joining(new FakeConnection());
+		AtomicInteger completed = new AtomicInteger();
+		transaction.connectionSource().afterCompletion(completed::incrementAndGet);
+		assertEquals(0, completed.get());
+		transaction.commit();
+		assertEquals(1, completed.get());
+	}
+	
+	@Test
+	void connectionSourceRunsCompletionAfterRollback() throws SqlException {
+		SqlTransaction transaction = this.owning(new FakeConnection());
+		AtomicInteger completed = new AtomicInteger();
+		transaction.connectionSource().afterCompletion(completed::incrementAndGet);
+		transaction.rollback();
+		assertEquals(1, completed.get());
+	}
+	
+	@Test
+	void connectionSourceAfterCompletionWithNull() throws SqlException {
+		SqlTransaction transaction = this.owning(new FakeConnection());
+		assertThrows(NullPointerException.class, () -> transaction.connectionSource().afterCompletion(null));
+	}
+	
 	@Test
 	void addListenerFiresOnCommit() throws SqlException {
 		SqlTransaction transaction = this.joining(new FakeConnection());
@@ -0,0 +1,155 @@
+/*
+ * LUtils
+ * Copyright (C) 2026 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.database.type;
+
+import net.luis.utils.io.database.dialect.SqlDefaultDialect;
+import net.luis.utils.io.database.dialect.SqlDialect;
+import net.luis.utils.io.database.exception.database.SqlResultMappingException;
+import net.luis.utils.io.database.exception.database.statement.SqlStatementBindException;
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.rowset.CachedRowSet;
+import java.sql.*;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static net.luis.utils.io.database.SqlTestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link SqlValueAccessor}.<br>
+ *
+ * @author Luis-St
+ */
+class SqlValueAccessorTest {
+	
+	@Test
+	void resolveWithNullType() {
+		assertThrows(NullPointerException.class, () -> SqlValueAccessor.resolve(null, DIALECT));
+	}
+	
+	@Test
+	void resolveWithNullDialect() {
+		assertThrows(NullPointerException.class, () -> SqlValueAccessor.resolve(STRING_TYPE, null));
+	}
+	
+	@Test
+	void resolveKeepsTypeAndDialect() {
+		SqlValueAccessor<String> accessor = SqlValueAccessor.resolve(STRING_TYPE, DIALECT);
+		assertSame(STRING_TYPE, accessor.type());
+		assertSame(DIALECT, accessor.dialect());
+	}
+	
+	@Test
+	void resolveLooksUpOverridesOnce() throws Exception {
+		AtomicInteger lookups = new AtomicInteger();
+		AtomicReference<Object> captured = new AtomicReference<>();
+		SqlDialect dialect = new SqlDefaultDialect() {
+			@Override
+			public @NonNull Optional<SqlValueBinder> bindingOverride(@NonNull SqlType<?> type) {
+				lookups.incrementAndGet();
+				return Optional.of((statement, index, value) -> captured.set(value));
+			}
+		};
+		SqlValueAccessor<String> accessor = SqlValueAccessor.resolve(STRING_TYPE, dialect);
+		accessor.bind(null, 1, "a");
+		accessor.bind(null, 2, "b");
+		assertEquals("b", captured.get());
+		assertEquals(1, lookups.get());
+	}
+	
+	@Test
+	void readWithNullResultSet() {
+		assertThrows(NullPointerException.class, () -> SqlValueAccessor.resolve(STRING_TYPE, DIALECT).read(null, 1));
+	}
+	
+	@Test
+	void readWithoutOverrideDelegatesToType() throws Exception {
+		CachedRowSet rowSet = SqlRowSets.singleColumn(Types.DATE, Date.valueOf("2020-01-15"));
+		assertEquals(LocalDate.of(2020, 1, 15), SqlValueAccessor.resolve(SqlTypes.LOCAL_DATE, DIALECT).read(rowSet, 1));
+	}
+	
+	@Test
+	void readUsesReadingOverride() throws Exception {
+		SqlDialect dialect = new SqlDefaultDialect() {
+			@Override
+			public @NonNull Optional<SqlValueReader> readingOverride(@NonNull SqlType<?> type) {
+				return Optional.of((resultSet, index) -> "override");
+			}
+		};
+		CachedRowSet rowSet = SqlRowSets.singleColumn(Types.VARCHAR, null);
+		assertEquals("override", SqlValueAccessor.resolve(STRING_TYPE, dialect).read(rowSet, 1));
+	}
+	
+	@Test
+	void readReadingOverrideIncompatibleType() {
+		SqlDialect dialect = new SqlDefaultDialect() {
+			@Override
+			public @NonNull Optional<SqlValueReader> readingOverride(@NonNull SqlType<?> type) {
+				return Optional.of((resultSet, index) -> 42);
+			}
+		};
+		CachedRowSet rowSet = SqlRowSets.singleColumn(Types.VARCHAR, null);
+		assertThrows(SqlResultMappingException.class, () -> SqlValueAccessor.resolve(STRING_TYPE, dialect).read(rowSet, 1));
+	}
+	
+	@Test
+	void bindBindingOverrideThrowsSqlException() {
+		SqlDialect dialect = new SqlDefaultDialect() {
+			@Override
+			public @NonNull Optional<SqlValueBinder> bindingOverride(@NonNull SqlType<?> type) {
+				return Optional.of((statement, index, value) -> {
+					throw new SQLException("fail");
+				});
+			}
+		};
+		assertThrows(SqlStatementBindException.class, () -> SqlValueAccessor.resolve(STRING_TYPE, dialect).bind(null, 1, "x"));
+	}
+	
+	@Test
+	void convertWithoutOverrideReturnsValue() throws Exception {
+		SqlValueAccessor<String> accessor = SqlValueAccessor.resolve(STRING_TYPE, DIALECT);
+		assertTrue(accessor.isConvertible());
+		assertEquals("a", accessor.convert("a"));
+		assertNull(accessor.convert(null));
+	}
+	
+	@Test
+	void convertMappedTypeConvertsToSourceValue() throws Exception {
+		SqlType<String> mapped = SqlTypes.LOCAL_DATE.map(String.class, value -> value == null ? null : LocalDate.parse(value), LocalDate::toString);
+		assertEquals(LocalDate.of(2020, 1, 15), SqlValueAccessor.resolve(mapped, DIALECT).convert("2020-01-15"));
+	}
+	
+	@Test
+	void convertWithBindingOverride() {
+		SqlDialect dialect = new SqlDefaultDialect() {
+			@Override
+			public @NonNull Optional<SqlValueBinder> bindingOverride(@NonNull SqlType<?> type) {
+				return Optional.of((statement, index, value) -> {});
+			}
+		};
+		SqlValueAccessor<String> accessor = SqlValueAccessor.resolve(STRING_TYPE, dialect);
+		assertFalse(accessor.isConvertible());
+		assertThrows(IllegalStateException.class, () -> accessor.convert("a"));
+	}
+}
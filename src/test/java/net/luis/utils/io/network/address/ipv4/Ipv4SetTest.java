@@ -157,6 +157,20 @@ class Ipv4SetTest {
 		assertFalse(set.containsAddress(Ipv4Address.fromOctets(192, 168, 2, 1)));
 	}
 	
+	@Test
+	void containsAddressWithMultipleRanges() {
+		Ipv4Set set = Ipv4Set.of(Ipv4Network.parse("10.0.0.0/8"), Ipv4Network.parse("172.16.0.0/12"), Ipv4Network.parse("192.168.1.0/24"), Ipv4Network.parse("203.0.113.0/24"));
+		
+		assertTrue(set.containsAddress(Ipv4Address.fromOctets(10, 0, 0, 0)));
+		assertTrue(set.containsAddress(Ipv4Address.fromOctets(172, 31, 255, 255)));
+		assertTrue(set.containsAddress(Ipv4Address.fromOctets(192, 168, 1, 128)));
+		assertTrue(set.containsAddress(Ipv4Address.fromOctets(203, 0, 113, 255)));
+		assertFalse(set.containsAddress(Ipv4Address.fromOctets(9, 255, 255, 255)));
+		assertFalse(set.containsAddress(Ipv4Address.fromOctets(172, 32, 0, 0)));
+		assertFalse(set.containsAddress(Ipv4Address.fromOctets(192, 168, 0, 255)));
+		assertFalse(set.containsAddress(Ipv4Address.fromOctets(255, 255, 255, 255)));
+	}
+	
 	@Test
 	void containsNetworkNull() {
 		Ipv4Set set = Ipv4Set.of(Ipv4Network.parse("192.168.0.0/16"));
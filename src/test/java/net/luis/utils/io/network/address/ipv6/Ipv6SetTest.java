@@ -161,6 +161,18 @@ class Ipv6SetTest {
 		assertFalse(set.containsAddress(new Ipv6Address(0L, 4L)));
 	}
 	
+	@Test
+	void containsAddressWithMultipleRanges() {
+		Ipv6Set set = Ipv6Set.of(Ipv6Network.parse("::/126"), Ipv6Network.parse("2001:db8::/32"), Ipv6Network.parse("fc00::/7"));
+		
+		assertTrue(set.containsAddress(new Ipv6Address(0L, 2L)));
+		assertTrue(set.containsAddress(Ipv6Network.parse("2001:db8::/32").networkAddress()));
+		assertTrue(set.containsAddress(Ipv6Network.parse("fd00::/8").networkAddress()));
+		assertFalse(set.containsAddress(new Ipv6Address(0L, 4L)));
+		assertFalse(set.containsAddress(Ipv6Network.parse("2001:db9::/32").networkAddress()));
+		assertFalse(set.containsAddress(Ipv6Network.parse("fe00::/8").networkAddress()));
+	}
+	
 	@Test
 	void containsAddressStripsZoneId() {
 		Ipv6Set set = Ipv6Set.of(Ipv6Network.parse("::/126"));